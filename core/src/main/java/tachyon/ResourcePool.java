@@ -0,0 +1,173 @@
+/*
+ * Licensed to the University of California, Berkeley under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package tachyon;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+
+import com.google.common.io.Closer;
+
+/**
+ * A pool of resources that are expensive to create and cannot be shared between threads, such as
+ * thrift clients. Resources are created lazily, up to <code>maxCapacity</code> of them; when all
+ * of them are in use, {@link #acquire()} blocks until one is released or the pool is closed.
+ * 
+ * @param <T> the type of the pooled resource
+ */
+public abstract class ResourcePool<T extends Closeable> implements Closeable {
+  private final int mMaxCapacity;
+  // The fields below are guarded by this
+  // The number of resources created or being created
+  private int mCurrentCapacity;
+  private final Queue<T> mIdleResources = new ArrayDeque<T>();
+  // The resources acquired and not released yet, compared by identity
+  private final Set<T> mAcquiredResources = Collections
+      .newSetFromMap(new IdentityHashMap<T, Boolean>());
+  private final List<T> mResources = new ArrayList<T>();
+  private boolean mClosed = false;
+
+  /**
+   * @param maxCapacity the maximum number of resources the pool creates
+   */
+  protected ResourcePool(int maxCapacity) {
+    this(maxCapacity, new ArrayList<T>(0));
+  }
+
+  /**
+   * @param maxCapacity the maximum number of resources in the pool, including the initial ones
+   * @param initialResources resources the pool starts with; they are owned by the pool afterwards
+   */
+  protected ResourcePool(int maxCapacity, List<T> initialResources) {
+    if (maxCapacity < 1 || maxCapacity < initialResources.size()) {
+      throw new IllegalArgumentException("Pool capacity " + maxCapacity
+          + " must be positive and hold the " + initialResources.size() + " initial resources");
+    }
+    mMaxCapacity = maxCapacity;
+    mCurrentCapacity = initialResources.size();
+    mResources.addAll(initialResources);
+    mIdleResources.addAll(initialResources);
+  }
+
+  /**
+   * Takes an idle resource from the pool, creating a new one if the pool is not full yet. Each
+   * acquired resource must be handed back with {@link #release(Closeable)}.
+   * 
+   * @return a resource no other thread is using
+   * @throws IOException if the pool is closed, a new resource can not be created, or the wait is
+   *         interrupted
+   */
+  public T acquire() throws IOException {
+    synchronized (this) {
+      while (true) {
+        if (mClosed) {
+          throw new IOException("The resource pool is closed");
+        }
+        T resource = mIdleResources.poll();
+        if (resource != null) {
+          mAcquiredResources.add(resource);
+          return resource;
+        }
+        if (mCurrentCapacity < mMaxCapacity) {
+          mCurrentCapacity ++;
+          break;
+        }
+        try {
+          wait();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          throw new IOException(e);
+        }
+      }
+    }
+
+    // Resources are created outside the lock, since creating one may take long
+    T resource;
+    try {
+      resource = createNewResource();
+    } catch (IOException e) {
+      synchronized (this) {
+        mCurrentCapacity --;
+        notifyAll();
+      }
+      throw e;
+    }
+    synchronized (this) {
+      if (!mClosed) {
+        mResources.add(resource);
+        mAcquiredResources.add(resource);
+        return resource;
+      }
+    }
+    resource.close();
+    throw new IOException("The resource pool is closed");
+  }
+
+  /**
+   * Closes every resource the pool created, whether it is idle or still in use. Later calls to
+   * {@link #acquire()}, and the ones waiting for a resource, fail.
+   */
+  @Override
+  public void close() throws IOException {
+    Closer closer = Closer.create();
+    synchronized (this) {
+      if (mClosed) {
+        return;
+      }
+      mClosed = true;
+      for (T resource : mResources) {
+        closer.register(resource);
+      }
+      mResources.clear();
+      mIdleResources.clear();
+      notifyAll();
+    }
+    closer.close();
+  }
+
+  /**
+   * Creates a resource when the pool has no idle one and is not full.
+   * 
+   * @return the new resource
+   * @throws IOException
+   */
+  protected abstract T createNewResource() throws IOException;
+
+  /**
+   * Hands a resource acquired with {@link #acquire()} back to the pool. A resource released after
+   * the pool is closed is already closed, and is dropped.
+   * 
+   * @param resource the resource to release
+   * @throws IllegalArgumentException if the resource is not acquired from this pool, or is already
+   *         released
+   */
+  public synchronized void release(T resource) {
+    if (!mAcquiredResources.remove(resource)) {
+      throw new IllegalArgumentException("Resource " + resource
+          + " is not acquired from the pool or is already released");
+    }
+    if (!mClosed) {
+      mIdleResources.add(resource);
+      notifyAll();
+    }
+  }
+}
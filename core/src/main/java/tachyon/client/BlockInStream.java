@@ -16,6 +16,7 @@
 package tachyon.client;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
 
 /**
  * <code>InputStream</code> interface implementation of TachyonFile. It can only be gotten by
@@ -51,15 +52,37 @@ public abstract class BlockInStream extends InStream {
    */
   public static BlockInStream get(TachyonFile tachyonFile, ReadType readType, int blockIndex,
       Object ufsConf) throws IOException {
+    return get(tachyonFile, readType, blockIndex, ufsConf, null);
+  }
+
+  /**
+   * Get a new BlockInStream of the given block, which reads remote data through the read-ahead
+   * window of the enclosing stream.
+   * 
+   * @param tachyonFile the file the block belongs to
+   * @param readType the InStream's read type
+   * @param blockIndex the index of the block in the tachyonFile
+   * @param ufsConf the under file system configuration
+   * @param readAhead the read-ahead window of the enclosing stream, or null to use a window of
+   *        the block's own
+   * @return A new LocalBlockInStream or RemoteBlockInStream
+   * @throws IOException
+   */
+  static BlockInStream get(TachyonFile tachyonFile, ReadType readType, int blockIndex,
+      Object ufsConf, ReadAheadWindow readAhead) throws IOException {
     TachyonByteBuffer buf = tachyonFile.readLocalByteBuffer(blockIndex);
     if (buf != null) {
       if (readType.isPromote()) {
         tachyonFile.promoteBlock(blockIndex);
       }
+      if (readAhead != null) {
+        // Nothing read ahead of the remote blocks is needed for a local one
+        readAhead.cancel();
+      }
       return new LocalBlockInStream(tachyonFile, readType, blockIndex, buf);
     }
 
-    return new RemoteBlockInStream(tachyonFile, readType, blockIndex, ufsConf);
+    return new RemoteBlockInStream(tachyonFile, readType, blockIndex, ufsConf, readAhead);
   }
 
   protected final int mBlockIndex;
@@ -76,4 +99,9 @@ public abstract class BlockInStream extends InStream {
     super(file, readType);
     mBlockIndex = blockIndex;
   }
+
+  @Override
+  public int positionedRead(long pos, ByteBuffer dst) throws IOException {
+    return mFile.positionedRead(mBlockIndex, pos, dst);
+  }
 }
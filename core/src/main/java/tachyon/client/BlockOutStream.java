@@ -17,10 +17,15 @@ package tachyon.client;
 
 import java.io.IOException;
 import java.io.RandomAccessFile;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
 import java.nio.ByteBuffer;
-import java.nio.MappedByteBuffer;
 import java.nio.channels.FileChannel;
-import java.nio.channels.FileChannel.MapMode;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
 
 import com.google.common.io.Closer;
 
@@ -30,9 +35,14 @@ import org.slf4j.LoggerFactory;
 import tachyon.Constants;
 import tachyon.conf.UserConf;
 import tachyon.util.CommonUtils;
+import tachyon.util.NetworkUtils;
 
 /**
- * <code>BlockOutStream</code> implementation of TachyonFile. This class is not client facing.
+ * <code>BlockOutStream</code> implementation of TachyonFile. This class is not client facing. The
+ * block is written into a temporary file of the local worker, or, on a machine without a worker,
+ * streamed to a remote worker through a {@link RemoteBlockWriter}. With WriteType.CACHE_REPLICATED,
+ * the data is also streamed to workers on other hosts, and the copies are committed before the
+ * block is.
  */
 public class BlockOutStream extends OutStream {
   private static final Logger LOG = LoggerFactory.getLogger(Constants.LOGGER_TYPE);
@@ -46,8 +56,19 @@ public class BlockOutStream extends OutStream {
   private final String mLocalFilePath;
   private final RandomAccessFile mLocalFile;
   private final FileChannel mLocalFileChannel;
+  // Writes the block to a remote worker, or null if the block is written to the local worker
+  private final RemoteBlockWriter mRemoteWriter;
+  // Write the copies of the block on other workers, for WriteType.CACHE_REPLICATED
+  private final List<RemoteBlockWriter> mReplicaWriters = new ArrayList<RemoteBlockWriter>();
+  private final DirectBufferPool mBufferPool;
+  // Stages the writes to the block file, so that every write to the channel is from a direct buffer
   private final ByteBuffer mBuffer;
 
+  // Sizes the space requested from the worker as the block runs out of it
+  private final SpaceReservation mReservation = new SpaceReservation();
+
+  // The space the worker has given the block, and the part of it not used yet
+  private long mReservedBytes = 0;
   private long mAvailableBytes = 0;
   private long mInFileBytes = 0;
   private long mWrittenBytes = 0;
@@ -88,51 +109,130 @@ public class BlockOutStream extends OutStream {
 
     mCanWrite = true;
 
-    if (!mTachyonFS.hasLocalWorker()) {
-      mCanWrite = false;
-      String msg = "The machine does not have any local worker.";
-      throw new IOException(msg);
-    }
-    mLocalFilePath = mTachyonFS.getLocalBlockTemporaryPath(mBlockId, initialBytes);
-    mLocalFile = mCloser.register(new RandomAccessFile(mLocalFilePath, "rw"));
-    mLocalFileChannel = mCloser.register(mLocalFile.getChannel());
-    // change the permission of the temporary file in order that the worker can move it.
-    CommonUtils.changeLocalFileToFullPermission(mLocalFilePath);
-    // use the sticky bit, only the client and the worker can write to the block
-    CommonUtils.setLocalFileStickyBit(mLocalFilePath);
-    LOG.info(mLocalFilePath + " was created!");
+    if (mTachyonFS.hasLocalWorker()) {
+      mRemoteWriter = null;
+      mLocalFilePath = mTachyonFS.getLocalBlockTemporaryPath(mBlockId, initialBytes);
+      mLocalFile = mCloser.register(new RandomAccessFile(mLocalFilePath, "rw"));
+      mLocalFileChannel = mCloser.register(mLocalFile.getChannel());
+      // change the permission of the temporary file in order that the worker can move it.
+      CommonUtils.changeLocalFileToFullPermission(mLocalFilePath);
+      // use the sticky bit, only the client and the worker can write to the block
+      CommonUtils.setLocalFileStickyBit(mLocalFilePath);
+      LOG.info(mLocalFilePath + " was created!");
+    } else {
+      mRemoteWriter =
+          mCloser.register(RemoteBlockWriter.open(mTachyonFS, mBlockId, initialBytes));
+      mLocalFilePath = null;
+      mLocalFile = null;
+      mLocalFileChannel = null;
+      LOG.info("Block " + mBlockId + " is written to remote worker " + mRemoteWriter.getAddress());
+    }
+    mReservedBytes += initialBytes;
     mAvailableBytes += initialBytes;
+    if (opType.isReplicated()) {
+      openReplicas(initialBytes);
+    }
 
-    mBuffer = ByteBuffer.allocate(mUserConf.FILE_BUFFER_BYTES + 4);
+    mBufferPool = mTachyonFS.getWriteBufferPool();
+    mBuffer = mBufferPool.acquire();
   }
 
+  /**
+   * Writes <code>length</code> bytes of <code>buf</code> to the block file, through mBuffer, which
+   * must be empty.
+   */
   private synchronized void appendCurrentBuffer(byte[] buf, int offset, int length)
       throws IOException {
+    reserveSpace(length);
+    while (length > 0) {
+      int bytes = Math.min(length, mBuffer.capacity());
+      mBuffer.put(buf, offset, bytes);
+      writeBuffer();
+      offset += bytes;
+      length -= bytes;
+    }
+  }
+
+  /**
+   * Writes the bytes staged in mBuffer to the block file, and clears mBuffer.
+   */
+  private synchronized void flushBuffer() throws IOException {
+    reserveSpace(mBuffer.position());
+    writeBuffer();
+  }
+
+  /**
+   * Requests more space for this block from the worker it is written to.
+   * 
+   * @return the size bytes allocated to the block, 0 if the worker has no space
+   */
+  private long requestSpace(long requestBytes) throws IOException {
+    if (mRemoteWriter == null) {
+      return mTachyonFS.requestSpace(mBlockId, requestBytes);
+    }
+    return mRemoteWriter.requestSpace(requestBytes);
+  }
+
+  /**
+   * Makes sure the worker has given this block at least <code>length</code> more bytes. The space
+   * is requested in extents sized by mReservation, so most writes need no request.
+   */
+  private void reserveSpace(long length) throws IOException {
     if (mAvailableBytes < length) {
-      long bytesRequested = mTachyonFS.requestSpace(mBlockId, length - mAvailableBytes);
-      if (bytesRequested + mAvailableBytes >= length) {
+      long neededBytes = length - mAvailableBytes;
+      long extentBytes = mReservation.next(neededBytes, mBlockCapacityByte - mReservedBytes);
+      long bytesRequested = requestSpace(extentBytes);
+      if (bytesRequested < neededBytes && extentBytes > neededBytes) {
+        // The worker may still have room for the bytes needed now
+        bytesRequested = requestSpace(neededBytes);
+      }
+      if (bytesRequested >= neededBytes) {
+        mReservedBytes += bytesRequested;
         mAvailableBytes += bytesRequested;
       } else {
         mCanWrite = false;
-        throw new IOException(String.format("No enough space on local worker: fileId(%d)"
+        throw new IOException(String.format("No enough space on worker: fileId(%d)"
             + " blockId(%d) requestSize(%d)", mFile.mFileId, mBlockId, length - mAvailableBytes));
       }
     }
-
-    MappedByteBuffer out = mLocalFileChannel.map(MapMode.READ_WRITE, mInFileBytes, length);
-    out.put(buf, offset, length);
-    mInFileBytes += length;
     mAvailableBytes -= length;
   }
 
+  /**
+   * Cancels the copy of the block on another worker, after it failed.
+   */
+  private void cancelReplica(RemoteBlockWriter replica) {
+    try {
+      replica.cancelBlock();
+    } catch (IOException e) {
+      LOG.warn("Failed to cancel the copy of block " + mBlockId + " on " + replica.getAddress(),
+          e);
+    } finally {
+      replica.close();
+    }
+  }
+
   @Override
   public void cancel() throws IOException {
     if (!mClosed) {
-      mCloser.close();
+      for (RemoteBlockWriter replica : mReplicaWriters) {
+        cancelReplica(replica);
+      }
+      mReplicaWriters.clear();
+      if (mRemoteWriter == null) {
+        mCloser.close();
+        mTachyonFS.cancelBlock(mBlockId);
+      } else {
+        try {
+          mRemoteWriter.cancelBlock();
+        } finally {
+          mCloser.close();
+        }
+      }
       mClosed = true;
-      mTachyonFS.cancelBlock(mBlockId);
+      mBufferPool.release(mBuffer);
       LOG.info(String.format("Canceled output of block. blockId(%d) path(%s)", mBlockId,
-          mLocalFilePath));
+          mRemoteWriter == null ? mLocalFilePath : mRemoteWriter.getAddress()));
     }
   }
 
@@ -147,14 +247,53 @@ public class BlockOutStream extends OutStream {
   public void close() throws IOException {
     if (!mClosed) {
       if (mBuffer.position() > 0) {
-        appendCurrentBuffer(mBuffer.array(), 0, mBuffer.position());
+        flushBuffer();
       }
-      mCloser.close();
-      mTachyonFS.cacheBlock(mBlockId);
+      // The copies are committed after the primary block, so that they are never the only ones
+      boolean committed = false;
+      try {
+        if (mRemoteWriter == null) {
+          mLocalFileChannel.close();
+          mLocalFile.close();
+          mTachyonFS.cacheBlock(mBlockId);
+        } else {
+          // The remote worker commits the block after all the data sent to it is written
+          mRemoteWriter.cacheBlock();
+        }
+        committed = true;
+      } finally {
+        if (committed) {
+          commitReplicas();
+        } else {
+          for (RemoteBlockWriter replica : mReplicaWriters) {
+            cancelReplica(replica);
+          }
+          mReplicaWriters.clear();
+        }
+        mCloser.close();
+      }
+      mBufferPool.release(mBuffer);
       mClosed = true;
     }
   }
 
+  /**
+   * Commits the copies of the block on the other workers, once they have written all the data. A
+   * copy that fails to commit is canceled.
+   */
+  private void commitReplicas() {
+    for (RemoteBlockWriter replica : mReplicaWriters) {
+      try {
+        replica.cacheBlock();
+      } catch (IOException e) {
+        LOG.warn("Failed to commit the copy of block " + mBlockId + " on " + replica.getAddress(),
+            e);
+        cancelReplica(replica);
+      }
+    }
+    mReplicaWriters.clear();
+  }
+
   @Override
   public void flush() throws IOException {
     // Since this only writes to memory, this flush is not outside visible.
@@ -181,6 +320,38 @@ public class BlockOutStream extends OutStream {
     return mBlockCapacityByte - mWrittenBytes;
   }
 
+  /**
+   * Opens the writers of the copies of the block on workers of other hosts, one per host, until
+   * the block has <code>tachyon.user.file.cache.replication</code> copies or no host is left.
+   */
+  private void openReplicas(long initialBytes) {
+    int replication = UserConf.get().FILE_CACHE_REPLICATION;
+    Set<InetAddress> excludedHosts = new HashSet<InetAddress>();
+    if (mRemoteWriter == null) {
+      try {
+        excludedHosts.add(InetAddress.getByName(NetworkUtils.getLocalIpAddress()));
+        excludedHosts.add(InetAddress.getByName(NetworkUtils.getLocalHostName()));
+      } catch (UnknownHostException e) {
+        LOG.warn("Block " + mBlockId + " gets no copies: " + e.getMessage());
+        return;
+      }
+    } else {
+      excludedHosts.add(mRemoteWriter.getAddress().getAddress());
+    }
+    for (int k = 1; k < replication; k ++) {
+      RemoteBlockWriter replica;
+      try {
+        replica = RemoteBlockWriter.open(mTachyonFS, mBlockId, initialBytes, excludedHosts);
+      } catch (IOException e) {
+        LOG.warn("Block " + mBlockId + " gets " + k + " of " + replication + " copies: "
+            + e.getMessage());
+        return;
+      }
+      mReplicaWriters.add(mCloser.register(replica));
+      excludedHosts.add(replica.getAddress().getAddress());
+    }
+  }
+
   @Override
   public void write(byte[] b) throws IOException {
     write(b, 0, b.length);
@@ -203,12 +374,11 @@ public class BlockOutStream extends OutStream {
       throw new IOException("Out of capacity.");
     }
 
-    if (mBuffer.position() + len >= mUserConf.FILE_BUFFER_BYTES && mBuffer.position() > 0) {
-      appendCurrentBuffer(mBuffer.array(), 0, mBuffer.position());
-      mBuffer.clear();
+    if (mBuffer.position() + len >= mBuffer.capacity() && mBuffer.position() > 0) {
+      flushBuffer();
     }
 
-    if (len >= mUserConf.FILE_BUFFER_BYTES) {
+    if (len >= mBuffer.capacity()) {
       appendCurrentBuffer(b, off, len);
     } else {
       mBuffer.put(b, off, len);
@@ -226,12 +396,49 @@ public class BlockOutStream extends OutStream {
       throw new IOException("Out of capacity.");
     }
 
-    if (mBuffer.position() >= mUserConf.FILE_BUFFER_BYTES) {
-      appendCurrentBuffer(mBuffer.array(), 0, mBuffer.position());
-      mBuffer.clear();
+    if (!mBuffer.hasRemaining()) {
+      flushBuffer();
     }
 
     mBuffer.put((byte) (b & 0xFF));
     mWrittenBytes ++;
   }
+
+  /**
+   * Writes the bytes in mBuffer to the end of the block file with positional channel writes, which
+   * need no mapping of the file, or sends them to the remote worker, and clears mBuffer.
+   */
+  private void writeBuffer() throws IOException {
+    mBuffer.flip();
+    writeReplicas();
+    if (mRemoteWriter != null) {
+      int bytes = mBuffer.remaining();
+      mRemoteWriter.write(mBuffer, mInFileBytes);
+      mInFileBytes += bytes;
+    } else {
+      while (mBuffer.hasRemaining()) {
+        mInFileBytes += mLocalFileChannel.write(mBuffer, mInFileBytes);
+      }
+    }
+    mBuffer.clear();
+  }
+
+  /**
+   * Sends the bytes in mBuffer to the copies of the block, without consuming them. A copy that
+   * fails is canceled, and the block is written on without it.
+   */
+  private void writeReplicas() {
+    Iterator<RemoteBlockWriter> it = mReplicaWriters.iterator();
+    while (it.hasNext()) {
+      RemoteBlockWriter replica = it.next();
+      try {
+        replica.reserveSpace(mBuffer.remaining());
+        replica.write(mBuffer.duplicate(), mInFileBytes);
+      } catch (IOException e) {
+        LOG.warn("Dropped the copy of block " + mBlockId + " on " + replica.getAddress(), e);
+        it.remove();
+        cancelReplica(replica);
+      }
+    }
+  }
 }
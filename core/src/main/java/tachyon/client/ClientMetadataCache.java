@@ -0,0 +1,191 @@
+/*
+ * Licensed to the University of California, Berkeley under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package tachyon.client;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+import tachyon.TachyonURI;
+import tachyon.master.BlockInfo;
+import tachyon.thrift.ClientBlockInfo;
+import tachyon.thrift.ClientFileInfo;
+
+/**
+ * The file and block metadata a TachyonFS client fetched from the master. Each kind of entry is
+ * kept in a least recently used cache bounded by <code>maxEntries</code>, and entries expire
+ * <code>ttlMs</code> milliseconds after they were fetched, so changes made by other clients are
+ * seen after at most one TTL. Changes made through the owning client invalidate the affected
+ * entries right away.
+ */
+final class ClientMetadataCache {
+  private final Cache<Integer, ClientFileInfo> mIdToFileInfo;
+  private final Cache<String, ClientFileInfo> mPathToFileInfo;
+  private final Cache<Long, ClientBlockInfo> mIdToBlockInfo;
+
+  /**
+   * @param maxEntries the maximum number of entries of each kind
+   * @param ttlMs how long an entry stays valid after it was fetched, in milliseconds
+   */
+  ClientMetadataCache(long maxEntries, long ttlMs) {
+    mIdToFileInfo = newCache(maxEntries, ttlMs);
+    mPathToFileInfo = newCache(maxEntries, ttlMs);
+    mIdToBlockInfo = newCache(maxEntries, ttlMs);
+  }
+
+  private static <K, V> Cache<K, V> newCache(long maxEntries, long ttlMs) {
+    return CacheBuilder.newBuilder().maximumSize(maxEntries)
+        .expireAfterWrite(ttlMs, TimeUnit.MILLISECONDS).recordStats().build();
+  }
+
+  /**
+   * @return the cached info of the block, or null if it is not cached
+   */
+  ClientBlockInfo getBlockInfo(long blockId) {
+    return mIdToBlockInfo.getIfPresent(blockId);
+  }
+
+  /**
+   * @return the cached info of the file, or null if it is not cached
+   */
+  ClientFileInfo getFileInfo(int fileId) {
+    return mIdToFileInfo.getIfPresent(fileId);
+  }
+
+  /**
+   * @return the cached info of the file at the path, or null if it is not cached
+   */
+  ClientFileInfo getFileInfo(String path) {
+    return mPathToFileInfo.getIfPresent(path);
+  }
+
+  /**
+   * @return the number of lookups that were answered from the cache
+   */
+  long getHitCount() {
+    return mIdToFileInfo.stats().hitCount() + mPathToFileInfo.stats().hitCount()
+        + mIdToBlockInfo.stats().hitCount();
+  }
+
+  /**
+   * @return the number of lookups that had to go to the master
+   */
+  long getMissCount() {
+    return mIdToFileInfo.stats().missCount() + mPathToFileInfo.stats().missCount()
+        + mIdToBlockInfo.stats().missCount();
+  }
+
+  void invalidateBlock(long blockId) {
+    mIdToBlockInfo.invalidate(blockId);
+  }
+
+  /**
+   * Invalidates the file and the blocks of the file.
+   */
+  void invalidateFile(int fileId) {
+    invalidateFileInfo(fileId);
+    invalidateBlocksOf(Collections.singleton(fileId));
+  }
+
+  private void invalidateFileInfo(int fileId) {
+    ClientFileInfo info = mIdToFileInfo.getIfPresent(fileId);
+    mIdToFileInfo.invalidate(fileId);
+    if (info != null) {
+      mPathToFileInfo.invalidate(info.getPath());
+    }
+  }
+
+  /**
+   * Invalidates the file or folder at the path and its blocks, but not what is under a folder.
+   */
+  void invalidateEntry(String path) {
+    ClientFileInfo info = mPathToFileInfo.getIfPresent(path);
+    mPathToFileInfo.invalidate(path);
+    if (info != null) {
+      invalidateFile(info.getId());
+    }
+  }
+
+  /**
+   * Invalidates the path a file or folder was just created at, and its parent folder. Nothing is
+   * cached under a path that did not exist, so unlike {@link #invalidatePath(String)} this does not
+   * scan the cache.
+   */
+  void invalidateNewPath(String path) {
+    invalidateEntry(path);
+    int slash = path.lastIndexOf(TachyonURI.SEPARATOR);
+    if (slash > 0) {
+      invalidateEntry(path.substring(0, slash));
+    } else if (slash == 0 && path.length() > 1) {
+      invalidateEntry(TachyonURI.SEPARATOR);
+    }
+  }
+
+  /**
+   * Invalidates the file or folder at the path, everything under it, and their blocks. This scans
+   * all the cached paths and then all the cached blocks once, so it is only for changes to folders,
+   * such as their rename or delete.
+   */
+  void invalidatePath(String path) {
+    boolean isRoot = TachyonURI.SEPARATOR.equals(path);
+    String prefix = path + TachyonURI.SEPARATOR;
+    Set<Integer> fileIds = new HashSet<Integer>();
+    Iterator<Map.Entry<String, ClientFileInfo>> it =
+        mPathToFileInfo.asMap().entrySet().iterator();
+    while (it.hasNext()) {
+      Map.Entry<String, ClientFileInfo> entry = it.next();
+      String key = entry.getKey();
+      if (isRoot || key.equals(path) || key.startsWith(prefix)) {
+        it.remove();
+        fileIds.add(entry.getValue().getId());
+      }
+    }
+    for (int fileId : fileIds) {
+      invalidateFileInfo(fileId);
+    }
+    invalidateBlocksOf(fileIds);
+  }
+
+  /**
+   * Invalidates the blocks of the files, in a single pass over the cached blocks.
+   */
+  private void invalidateBlocksOf(Set<Integer> fileIds) {
+    if (fileIds.isEmpty()) {
+      return;
+    }
+    Iterator<Long> it = mIdToBlockInfo.asMap().keySet().iterator();
+    while (it.hasNext()) {
+      if (fileIds.contains(BlockInfo.computeInodeId(it.next()))) {
+        it.remove();
+      }
+    }
+  }
+
+  void putBlockInfo(ClientBlockInfo info) {
+    mIdToBlockInfo.put(info.getBlockId(), info);
+  }
+
+  void putFileInfo(ClientFileInfo info) {
+    mIdToFileInfo.put(info.getId(), info);
+    mPathToFileInfo.put(info.getPath(), info);
+  }
+}
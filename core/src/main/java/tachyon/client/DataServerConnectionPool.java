@@ -0,0 +1,147 @@
+/*
+ * Licensed to the University of California, Berkeley under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package tachyon.client;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.channels.SocketChannel;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import tachyon.Constants;
+
+/**
+ * Open connections to the data servers of the workers, kept for reuse between remote reads. Up to
+ * <code>maxIdlePerWorker</code> idle connections are kept for each worker; a connection released
+ * beyond that, or any connection released after a failed exchange, is closed. With
+ * <code>maxIdlePerWorker</code> of 0, every read opens and closes its own connection.
+ */
+final class DataServerConnectionPool implements Closeable {
+  private static final Logger LOG = LoggerFactory.getLogger(Constants.LOGGER_TYPE);
+
+  private final int mMaxIdlePerWorker;
+  private final ConcurrentHashMap<InetSocketAddress, BlockingQueue<SocketChannel>> mIdle =
+      new ConcurrentHashMap<InetSocketAddress, BlockingQueue<SocketChannel>>();
+  private final AtomicLong mNextRequestId = new AtomicLong(0);
+  private volatile boolean mClosed = false;
+
+  /**
+   * @param maxIdlePerWorker the maximum number of idle connections kept for each worker
+   */
+  DataServerConnectionPool(int maxIdlePerWorker) {
+    mMaxIdlePerWorker = maxIdlePerWorker;
+  }
+
+  /**
+   * Takes an idle connection to the data server, or opens a new one if there is none.
+   * 
+   * @param address the address of the data server
+   * @return a connection no other thread is using
+   * @throws IOException if a new connection can not be opened
+   */
+  SocketChannel acquire(InetSocketAddress address) throws IOException {
+    BlockingQueue<SocketChannel> idle = mIdle.get(address);
+    if (idle != null) {
+      SocketChannel channel = idle.poll();
+      while (channel != null) {
+        if (channel.isOpen()) {
+          return channel;
+        }
+        channel = idle.poll();
+      }
+    }
+    return connect(address);
+  }
+
+  @Override
+  public void close() {
+    mClosed = true;
+    for (BlockingQueue<SocketChannel> idle : mIdle.values()) {
+      SocketChannel channel = idle.poll();
+      while (channel != null) {
+        closeChannel(channel);
+        channel = idle.poll();
+      }
+    }
+  }
+
+  private static void closeChannel(SocketChannel channel) {
+    try {
+      channel.close();
+    } catch (IOException e) {
+      LOG.warn("Failed to close data server connection " + channel, e);
+    }
+  }
+
+  /**
+   * Opens a new connection to the data server, bypassing the idle ones.
+   * 
+   * @param address the address of the data server
+   * @return the new connection
+   * @throws IOException
+   */
+  SocketChannel connect(InetSocketAddress address) throws IOException {
+    SocketChannel channel = SocketChannel.open();
+    try {
+      channel.connect(address);
+    } catch (IOException e) {
+      closeChannel(channel);
+      throw e;
+    }
+    LOG.debug("Connected to data server {}", address);
+    return channel;
+  }
+
+  /**
+   * @return a request id not used before by this pool
+   */
+  long nextRequestId() {
+    return mNextRequestId.incrementAndGet();
+  }
+
+  /**
+   * Hands a connection back. It is kept for reuse only if <code>reusable</code> is true, that is,
+   * if the last response on it was read completely.
+   * 
+   * @param address the address of the data server the connection is to
+   * @param channel the connection
+   * @param reusable whether the connection is in a state to carry another request
+   */
+  void release(InetSocketAddress address, SocketChannel channel, boolean reusable) {
+    if (!reusable || mClosed || mMaxIdlePerWorker <= 0 || !channel.isOpen()) {
+      closeChannel(channel);
+      return;
+    }
+
+    BlockingQueue<SocketChannel> idle = mIdle.get(address);
+    if (idle == null) {
+      idle = new LinkedBlockingQueue<SocketChannel>(mMaxIdlePerWorker);
+      BlockingQueue<SocketChannel> existing = mIdle.putIfAbsent(address, idle);
+      if (existing != null) {
+        idle = existing;
+      }
+    }
+    if (!idle.offer(channel)) {
+      closeChannel(channel);
+    }
+  }
+}
@@ -0,0 +1,91 @@
+/*
+ * Licensed to the University of California, Berkeley under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package tachyon.client;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Direct buffers of one size, kept for reuse by remote reads and local block writes. Data read
+ * from a socket into a direct buffer, or written from one to a file, is not copied through a
+ * temporary buffer first, and a direct buffer can be handed to callers that consume off-heap
+ * memory as it is. Up to <code>maxIdle</code> released buffers
+ * are kept; a buffer released beyond that, or never released, is left to the garbage collector.
+ */
+final class DirectBufferPool {
+  private final int mBufferSize;
+  private final int mMaxIdle;
+  private final BlockingQueue<ByteBuffer> mIdle = new LinkedBlockingQueue<ByteBuffer>();
+  // The number of buffers acquired and not released yet
+  private final AtomicInteger mAcquired = new AtomicInteger(0);
+
+  /**
+   * @param bufferSize the capacity of each buffer
+   * @param maxIdle the maximum number of released buffers kept for reuse
+   */
+  DirectBufferPool(int bufferSize, int maxIdle) {
+    mBufferSize = bufferSize;
+    mMaxIdle = maxIdle;
+  }
+
+  /**
+   * @return a cleared buffer no one else uses, reused if one is idle
+   */
+  ByteBuffer acquire() {
+    mAcquired.incrementAndGet();
+    ByteBuffer buf = mIdle.poll();
+    if (buf == null) {
+      return ByteBuffer.allocateDirect(mBufferSize);
+    }
+    buf.clear();
+    return buf;
+  }
+
+  /**
+   * @return the number of buffers acquired and not released yet
+   */
+  int getAcquiredCount() {
+    return mAcquired.get();
+  }
+
+  /**
+   * @return the capacity of each buffer
+   */
+  int getBufferSize() {
+    return mBufferSize;
+  }
+
+  /**
+   * @return the number of buffers kept for reuse
+   */
+  int getIdleCount() {
+    return mIdle.size();
+  }
+
+  /**
+   * Gives a buffer back for reuse. The caller must not use the buffer, or any view of it, again.
+   * 
+   * @param buf a buffer returned by {@link #acquire()}
+   */
+  void release(ByteBuffer buf) {
+    mAcquired.decrementAndGet();
+    if (mIdle.size() < mMaxIdle) {
+      mIdle.offer(buf);
+    }
+  }
+}
@@ -16,6 +16,9 @@
 package tachyon.client;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import tachyon.conf.UserConf;
 
 /**
  * FileInStream implementation of TachyonFile.
@@ -33,6 +36,9 @@ public class FileInStream extends InStream {
 
   private Object mUFSConf = null;
 
+  /** Reads remote data ahead while the file is read sequentially, across block boundaries */
+  private final ReadAheadWindow mReadAhead;
+
   /**
    * @param file the file to be read
    * @param opType the InStream's read type
@@ -60,6 +66,28 @@ public class FileInStream extends InStream {
     mCurrentBlockLeft = 0;
 
     mUFSConf = ufsConf;
+
+    mReadAhead =
+        new ReadAheadWindow(file, mFileLength, mTachyonFS.getReadAheadEngine(),
+            UserConf.get().READ_AHEAD_MAX_DEPTH, UserConf.get().REMOTE_READ_BUFFER_SIZE_BYTE);
+  }
+
+  @Override
+  public TachyonByteBuffer borrowSlice(int maxLen) throws IOException {
+    if (maxLen <= 0) {
+      throw new IllegalArgumentException("Slice length must be positive: " + maxLen);
+    } else if (mCurrentPosition >= mFileLength) {
+      return null;
+    }
+
+    checkAndAdvanceBlockInStream();
+    TachyonByteBuffer ret =
+        mCurrentBlockInStream.borrowSlice((int) Math.min(maxLen, mCurrentBlockLeft));
+    if (ret != null) {
+      mCurrentPosition += ret.mData.remaining();
+      mCurrentBlockLeft -= ret.mData.remaining();
+    }
+    return ret;
   }
 
   private void checkAndAdvanceBlockInStream() throws IOException {
@@ -69,7 +97,8 @@ public class FileInStream extends InStream {
       }
 
       mCurrentBlockIndex = getCurrentBlockIndex();
-      mCurrentBlockInStream = BlockInStream.get(mFile, mReadType, mCurrentBlockIndex, mUFSConf);
+      mCurrentBlockInStream = BlockInStream.get(mFile, mReadType, mCurrentBlockIndex, mUFSConf,
+          mReadAhead);
       mCurrentBlockLeft = mBlockCapacity;
     }
   }
@@ -79,6 +108,7 @@ public class FileInStream extends InStream {
     if (!mClosed && mCurrentBlockInStream != null) {
       mCurrentBlockInStream.close();
     }
+    mReadAhead.cancel();
 
     mClosed = true;
   }
@@ -100,6 +130,32 @@ public class FileInStream extends InStream {
     return mCurrentBlockInStream.read();
   }
 
+  @Override
+  public int read(ByteBuffer dst) throws IOException {
+    if (!dst.hasRemaining()) {
+      return 0;
+    } else if (mCurrentPosition >= mFileLength) {
+      return -1;
+    }
+
+    int read = 0;
+    while (dst.hasRemaining() && mCurrentPosition < mFileLength) {
+      checkAndAdvanceBlockInStream();
+
+      int tRead = mCurrentBlockInStream.read(dst);
+      if (tRead == -1) {
+        // mCurrentBlockInStream has reached its block boundary
+        continue;
+      }
+
+      mCurrentPosition += tRead;
+      mCurrentBlockLeft -= tRead;
+      read += tRead;
+    }
+
+    return read;
+  }
+
   @Override
   public int read(byte[] b) throws IOException {
     return read(b, 0, b.length);
@@ -148,13 +204,16 @@ public class FileInStream extends InStream {
     } else if (pos > mFileLength) {
       throw new IOException("Seek position is past EOF: " + pos + ", fileSize = " + mFileLength);
     }
+    // Chunks read ahead of the old position will not be read
+    mReadAhead.cancel();
 
     if ((int) (pos / mBlockCapacity) != mCurrentBlockIndex) {
       mCurrentBlockIndex = (int) (pos / mBlockCapacity);
       if (mCurrentBlockInStream != null) {
         mCurrentBlockInStream.close();
       }
-      mCurrentBlockInStream = BlockInStream.get(mFile, mReadType, mCurrentBlockIndex, mUFSConf);
+      mCurrentBlockInStream = BlockInStream.get(mFile, mReadType, mCurrentBlockIndex, mUFSConf,
+          mReadAhead);
     }
     mCurrentBlockInStream.seek(pos % mBlockCapacity);
     mCurrentPosition = pos;
@@ -182,7 +241,8 @@ public class FileInStream extends InStream {
       }
 
       mCurrentBlockIndex = tBlockIndex;
-      mCurrentBlockInStream = BlockInStream.get(mFile, mReadType, mCurrentBlockIndex, mUFSConf);
+      mCurrentBlockInStream = BlockInStream.get(mFile, mReadType, mCurrentBlockIndex, mUFSConf,
+          mReadAhead);
       long shouldSkip = mCurrentPosition % mBlockCapacity;
       long skip = mCurrentBlockInStream.skip(shouldSkip);
       mCurrentBlockLeft = mBlockCapacity - skip;
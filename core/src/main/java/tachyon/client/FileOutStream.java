@@ -25,17 +25,27 @@ import org.slf4j.LoggerFactory;
 
 import tachyon.Constants;
 import tachyon.UnderFileSystem;
+import tachyon.conf.UserConf;
 import tachyon.util.CommonUtils;
 
 /**
  * <code>FileOutStream</code> implementation of TachyonFile. It can only be gotten by calling the
  * methods in <code>tachyon.client.TachyonFile</code>, but can not be initialized by the client
- * code.
+ * code. With <code>tachyon.user.file.write.behind</code> on, a CACHE_THROUGH stream only caches
+ * the file, and has the worker write it to the under file system once it is closed; see
+ * {@link TachyonFS#awaitCheckpoint(int, long)}.
  */
 public class FileOutStream extends OutStream {
   private static final Logger LOG = LoggerFactory.getLogger(Constants.LOGGER_TYPE);
 
   private final long mBlockCapacityByte;
+  // Whether a CACHE_THROUGH file is written behind: the stream only caches the file, and the
+  // worker writes it to the under file system once it is complete
+  private final boolean mWriteBehind;
+  // Whether the stream writes to the under file system itself
+  private final boolean mThrough;
+  // Whether the stream fails when it can not cache the file
+  private final boolean mMustCache;
 
   private BlockOutStream mCurrentBlockOutStream;
   private long mCurrentBlockId;
@@ -66,8 +76,11 @@ public class FileOutStream extends OutStream {
     mCurrentBlockLeftByte = 0;
     mPreviousBlockOutStreams = new ArrayList<BlockOutStream>();
     mCachedBytes = 0;
+    mWriteBehind = mWriteType == WriteType.CACHE_THROUGH && UserConf.get().FILE_WRITE_BEHIND;
+    mThrough = mWriteType.isThrough() && !mWriteBehind;
+    mMustCache = mWriteType.isMustCache() || mWriteBehind;
 
-    if (mWriteType.isThrough()) {
+    if (mThrough) {
       mUnderFsFile = CommonUtils.concat(mTachyonFS.createAndGetUserUfsTempFolder(ufsConf), 
             mFile.mFileId);
       UnderFileSystem underfsClient = UnderFileSystem.get(mUnderFsFile, ufsConf);
@@ -93,7 +106,7 @@ public class FileOutStream extends OutStream {
       }
 
       Boolean canComplete = false;
-      if (mWriteType.isThrough()) {
+      if (mThrough) {
         if (mCancel) {
           mCheckpointOutputStream.close();
           UnderFileSystem underFsClient = UnderFileSystem.get(mUnderFsFile);
@@ -119,7 +132,7 @@ public class FileOutStream extends OutStream {
             canComplete = true;
           }
         } catch (IOException ioe) {
-          if (mWriteType.isMustCache()) {
+          if (mMustCache) {
             LOG.error(ioe.getMessage(), ioe);
             throw new IOException("Fail to cache: " + mWriteType, ioe);
           } else {
@@ -133,6 +146,9 @@ public class FileOutStream extends OutStream {
           mTachyonFS.asyncCheckpoint(mFile.mFileId);
         }
         mTachyonFS.completeFile(mFile.mFileId);
+        if (mWriteBehind) {
+          mTachyonFS.asyncPersistFile(mFile.mFileId);
+        }
       }
     }
 
@@ -142,7 +158,7 @@ public class FileOutStream extends OutStream {
   @Override
   public void flush() throws IOException {
     // TODO We only flush the checkpoint output stream. Flush for RAMFS block streams.
-    if (mWriteType.isThrough()) {
+    if (mThrough) {
       mCheckpointOutputStream.flush();
     }
   }
@@ -204,7 +220,7 @@ public class FileOutStream extends OutStream {
           }
         }
       } catch (IOException e) {
-        if (mWriteType.isMustCache()) {
+        if (mMustCache) {
           LOG.error(e.getMessage(), e);
           throw new IOException("Fail to cache: " + mWriteType, e);
         } else {
@@ -213,7 +229,7 @@ public class FileOutStream extends OutStream {
       }
     }
 
-    if (mWriteType.isThrough()) {
+    if (mThrough) {
       mCheckpointOutputStream.write(b, off, len);
     }
   }
@@ -230,7 +246,7 @@ public class FileOutStream extends OutStream {
         mCurrentBlockLeftByte --;
         mCachedBytes ++;
       } catch (IOException e) {
-        if (mWriteType.isMustCache()) {
+        if (mMustCache) {
           LOG.error(e.getMessage(), e);
           throw new IOException("Fail to cache: " + mWriteType, e);
         } else {
@@ -239,7 +255,7 @@ public class FileOutStream extends OutStream {
       }
     }
 
-    if (mWriteType.isThrough()) {
+    if (mThrough) {
       mCheckpointOutputStream.write(b);
     }
   }
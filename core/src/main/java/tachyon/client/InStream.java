@@ -17,6 +17,7 @@ package tachyon.client;
 
 import java.io.InputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 
 /**
  * <code>InStream</code> is the base input stream class for TachyonFile streaming input methods. It
@@ -38,12 +39,78 @@ public abstract class InStream extends InputStream {
     mReadType = readType;
   }
 
+  /**
+   * Borrows up to <code>maxLen</code> bytes at the position of the stream, and moves the position
+   * past them. Where it can, the returned buffer is a read only view of memory the stream already
+   * holds, such as the mapped local block, so no data is copied. A slice never spans blocks, so
+   * it may be shorter than <code>maxLen</code> before the end of the stream. The data stays valid
+   * until the returned buffer is closed, even after the stream is closed, so callers must close it.
+   * 
+   * @param maxLen the maximum number of bytes to borrow, which must be positive
+   * @return the borrowed bytes, or null at the end of the stream
+   * @throws IOException
+   */
+  public TachyonByteBuffer borrowSlice(int maxLen) throws IOException {
+    if (maxLen <= 0) {
+      throw new IllegalArgumentException("Slice length must be positive: " + maxLen);
+    }
+    byte[] buf = new byte[maxLen];
+    int ret = read(buf, 0, maxLen);
+    if (ret == -1) {
+      return null;
+    }
+    return new TachyonByteBuffer(mTachyonFS, ByteBuffer.wrap(buf, 0, ret).asReadOnlyBuffer(), -1,
+        -1);
+  }
+
   @Override
   public abstract void close() throws IOException;
 
+  /**
+   * Reads up to <code>dst.remaining()</code> bytes, starting at the given position of the stream,
+   * into <code>dst</code>. The position of the stream is neither used nor changed, and any number
+   * of threads may call this method at once, also while another thread reads the stream.
+   * 
+   * @param pos the position, measured in bytes from the beginning of the InStream, to read from
+   * @param dst the buffer to read into, from its position on
+   * @return the number of bytes read, or -1 if pos is at or past the end of the InStream
+   * @throws IOException if the data can not be read
+   */
+  public int positionedRead(long pos, ByteBuffer dst) throws IOException {
+    return mFile.positionedRead(pos, dst);
+  }
+
   @Override
   public abstract int read() throws IOException;
 
+  /**
+   * Reads up to <code>dst.remaining()</code> bytes at the position of the stream into
+   * <code>dst</code>. Streams over data the client already holds copy it into <code>dst</code>
+   * directly, without going through a byte array.
+   * 
+   * @param dst the buffer to read into, from its position on
+   * @return the number of bytes read, or -1 at the end of the stream
+   * @throws IOException
+   */
+  public int read(ByteBuffer dst) throws IOException {
+    if (!dst.hasRemaining()) {
+      return 0;
+    }
+    if (dst.hasArray()) {
+      int ret = read(dst.array(), dst.arrayOffset() + dst.position(), dst.remaining());
+      if (ret > 0) {
+        dst.position(dst.position() + ret);
+      }
+      return ret;
+    }
+    byte[] buf = new byte[dst.remaining()];
+    int ret = read(buf);
+    if (ret > 0) {
+      dst.put(buf, 0, ret);
+    }
+    return ret;
+  }
+
   @Override
   public abstract int read(byte[] b) throws IOException;
 
@@ -40,6 +40,23 @@ public class LocalBlockInStream extends BlockInStream {
     mBuffer = mTachyonBuffer.mData;
   }
 
+  @Override
+  public TachyonByteBuffer borrowSlice(int maxLen) throws IOException {
+    if (maxLen <= 0) {
+      throw new IllegalArgumentException("Slice length must be positive: " + maxLen);
+    }
+    int ret = Math.min(maxLen, mBuffer.remaining());
+    if (ret == 0) {
+      close();
+      return null;
+    }
+    ByteBuffer slice = mBuffer.slice();
+    slice.limit(ret);
+    mBuffer.position(mBuffer.position() + ret);
+    // The slice keeps the block locked until it is closed
+    return mTachyonBuffer.slice(slice.asReadOnlyBuffer());
+  }
+
   @Override
   public void close() throws IOException {
     if (!mClosed) {
@@ -48,6 +65,25 @@ public class LocalBlockInStream extends BlockInStream {
     mClosed = true;
   }
 
+  @Override
+  public int positionedRead(long pos, ByteBuffer dst) throws IOException {
+    if (mClosed) {
+      // The block is no longer locked for this stream; read it the way a new reader would
+      return super.positionedRead(pos, dst);
+    } else if (pos < 0) {
+      throw new IOException("Position can not be negative: " + pos);
+    } else if (pos >= mBuffer.limit()) {
+      return -1;
+    }
+    // A duplicate has a position of its own, so the stream's position is left alone
+    ByteBuffer src = mBuffer.duplicate();
+    int ret = (int) Math.min(dst.remaining(), mBuffer.limit() - pos);
+    src.limit((int) pos + ret);
+    src.position((int) pos);
+    dst.put(src);
+    return ret;
+  }
+
   @Override
   public int read() throws IOException {
     if (mBuffer.remaining() == 0) {
@@ -57,6 +93,24 @@ public class LocalBlockInStream extends BlockInStream {
     return mBuffer.get() & 0xFF;
   }
 
+  @Override
+  public int read(ByteBuffer dst) throws IOException {
+    if (!dst.hasRemaining()) {
+      return 0;
+    }
+
+    int ret = Math.min(dst.remaining(), mBuffer.remaining());
+    if (ret == 0) {
+      close();
+      return -1;
+    }
+    ByteBuffer src = mBuffer.duplicate();
+    src.limit(src.position() + ret);
+    dst.put(src);
+    mBuffer.position(src.position());
+    return ret;
+  }
+
   @Override
   public int read(byte[] b) throws IOException {
     return read(b, 0, b.length);
@@ -0,0 +1,261 @@
+/*
+ * Licensed to the University of California, Berkeley under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package tachyon.client;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.LinkedList;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * An InStream that reads the stripes of a file ahead of the reader in parallel, for
+ * {@link TachyonFile#getParallelInStream(int)}. A stripe is a range of at most
+ * <code>stripeBytes</code> bytes in one block, read like
+ * {@link TachyonFile#positionedRead(long, ByteBuffer)} from wherever its block is. Up to
+ * <code>parallelism</code> stripes after the reader's position are in flight or waiting to be read,
+ * so stripes of different blocks are fetched from their workers at the same time, and the reader
+ * sees their data in file order.
+ */
+final class ParallelFileInStream extends InStream {
+  /**
+   * A range of a block being read into memory.
+   */
+  private final class Stripe implements Callable<ByteBuffer> {
+    private final long mStart;
+    private final long mEnd;
+    private final Future<ByteBuffer> mData;
+
+    Stripe(long start, long end) {
+      mStart = start;
+      mEnd = end;
+      mData = mExecutor.submit(this);
+    }
+
+    @Override
+    public ByteBuffer call() throws IOException {
+      ByteBuffer buf = ByteBuffer.allocate((int) (mEnd - mStart));
+      while (buf.hasRemaining()) {
+        if (mFile.positionedRead(mStart + buf.position(), buf) <= 0) {
+          throw new IOException("Failed to read " + mFile.getPath() + " at position "
+              + (mStart + buf.position()));
+        }
+      }
+      buf.flip();
+      return buf;
+    }
+
+    /**
+     * Gives up on the stripe. A read already running is left to finish, since interrupting it
+     * would close the connection it uses.
+     */
+    void cancel() {
+      mData.cancel(false);
+    }
+
+    /**
+     * @return the data of the stripe, once it is read
+     */
+    ByteBuffer get() throws IOException {
+      try {
+        return mData.get();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new IOException("Interrupted while reading " + mFile.getPath(), e);
+      } catch (ExecutionException e) {
+        throw (e.getCause() instanceof IOException) ? (IOException) e.getCause()
+            : new IOException(e.getCause());
+      }
+    }
+  }
+
+  private final ExecutorService mExecutor;
+  private final int mParallelism;
+  private final long mStripeBytes;
+  private final long mFileLength;
+  private final long mBlockCapacity;
+
+  /**
+   * The stripes after the current one, in file order. The first one holds mPosition if the
+   * current stripe does not.
+   */
+  private final LinkedList<Stripe> mStripes = new LinkedList<Stripe>();
+  /** The position in the file the next stripe to read starts at */
+  private long mNextStripeStart;
+
+  /** The data of the stripe holding mPosition, or null if it is not read yet */
+  private ByteBuffer mCurrentBuffer = null;
+  private long mCurrentStart;
+
+  private long mPosition = 0;
+  private boolean mClosed = false;
+
+  /**
+   * @param file the file to be read
+   * @param executor the pool the stripes are read on
+   * @param parallelism the maximum number of stripes read ahead of the reader
+   * @param stripeBytes the maximum length of a stripe
+   * @throws IOException
+   */
+  ParallelFileInStream(TachyonFile file, ExecutorService executor, int parallelism,
+      long stripeBytes) throws IOException {
+    super(file, ReadType.NO_CACHE);
+    if (parallelism <= 0) {
+      throw new IllegalArgumentException("Parallelism must be positive: " + parallelism);
+    } else if (stripeBytes <= 0 || stripeBytes > Integer.MAX_VALUE) {
+      throw new IllegalArgumentException("Invalid stripe length: " + stripeBytes);
+    }
+    mExecutor = executor;
+    mParallelism = parallelism;
+    mStripeBytes = stripeBytes;
+    mFileLength = file.length();
+    mBlockCapacity = file.getBlockSizeByte();
+    mNextStripeStart = 0;
+  }
+
+  /**
+   * Drops the stripes read ahead.
+   */
+  private void cancelStripes() {
+    while (!mStripes.isEmpty()) {
+      mStripes.poll().cancel();
+    }
+  }
+
+  @Override
+  public void close() throws IOException {
+    if (mClosed) {
+      return;
+    }
+    cancelStripes();
+    mCurrentBuffer = null;
+    mClosed = true;
+  }
+
+  @Override
+  public int read() throws IOException {
+    byte[] b = new byte[1];
+    if (read(b, 0, 1) == -1) {
+      return -1;
+    }
+    return (int) b[0] & 0xFF;
+  }
+
+  @Override
+  public int read(byte[] b) throws IOException {
+    return read(b, 0, b.length);
+  }
+
+  @Override
+  public int read(byte[] b, int off, int len) throws IOException {
+    if (b == null) {
+      throw new NullPointerException();
+    } else if (off < 0 || len < 0 || len > b.length - off) {
+      throw new IndexOutOfBoundsException();
+    } else if (len == 0) {
+      return 0;
+    } else if (mPosition >= mFileLength) {
+      return -1;
+    }
+
+    int read = 0;
+    while (read < len && updateCurrentBuffer()) {
+      int bytes = Math.min(len - read, mCurrentBuffer.remaining());
+      mCurrentBuffer.get(b, off + read, bytes);
+      read += bytes;
+      mPosition += bytes;
+    }
+    return read;
+  }
+
+  /**
+   * Starts reading stripes until <code>mParallelism</code> of them are ahead of the reader.
+   */
+  private void readAhead() {
+    while (mStripes.size() < mParallelism && mNextStripeStart < mFileLength) {
+      long blockEnd = (mNextStripeStart / mBlockCapacity + 1) * mBlockCapacity;
+      long end = Math.min(Math.min(mNextStripeStart + mStripeBytes, blockEnd), mFileLength);
+      mStripes.add(new Stripe(mNextStripeStart, end));
+      mNextStripeStart = end;
+    }
+  }
+
+  @Override
+  public void seek(long pos) throws IOException {
+    if (mPosition == pos) {
+      return;
+    }
+    if (pos < 0) {
+      throw new IOException("Seek position is negative: " + pos);
+    } else if (pos > mFileLength) {
+      throw new IOException("Seek position is past EOF: " + pos + ", fileSize = " + mFileLength);
+    }
+
+    if (mCurrentBuffer != null && mCurrentStart <= pos
+        && pos < mCurrentStart + mCurrentBuffer.limit()) {
+      mCurrentBuffer.position((int) (pos - mCurrentStart));
+    } else {
+      mCurrentBuffer = null;
+      // Keep the stripes from the one holding pos on, if pos is ahead of the reader
+      while (!mStripes.isEmpty() && mStripes.peek().mEnd <= pos) {
+        mStripes.poll().cancel();
+      }
+      if (!mStripes.isEmpty() && mStripes.peek().mStart > pos) {
+        cancelStripes();
+      }
+      if (mStripes.isEmpty()) {
+        mNextStripeStart = pos;
+      }
+    }
+    mPosition = pos;
+  }
+
+  @Override
+  public long skip(long n) throws IOException {
+    if (n <= 0) {
+      return 0;
+    }
+    long skipped = Math.min(n, mFileLength - mPosition);
+    seek(mPosition + skipped);
+    return skipped;
+  }
+
+  /**
+   * Makes sure mCurrentBuffer is set to read at mPosition, waiting for its stripe to be read if
+   * needed, and keeps the stripes after it in flight.
+   * 
+   * @return true if mCurrentBuffer is set to read at mPosition, false at the end of the file
+   * @throws IOException if the stripe could not be read
+   */
+  private boolean updateCurrentBuffer() throws IOException {
+    if (mCurrentBuffer != null && mCurrentBuffer.hasRemaining()) {
+      return true;
+    } else if (mPosition >= mFileLength) {
+      return false;
+    }
+    mCurrentBuffer = null;
+    readAhead();
+    Stripe stripe = mStripes.poll();
+    readAhead();
+    ByteBuffer data = stripe.get();
+    mCurrentStart = stripe.mStart;
+    data.position((int) (mPosition - mCurrentStart));
+    mCurrentBuffer = data;
+    return true;
+  }
+}
@@ -0,0 +1,138 @@
+/*
+ * Licensed to the University of California, Berkeley under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package tachyon.client;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.common.io.Closer;
+
+import tachyon.Constants;
+
+/**
+ * Maps hosts to the racks they are in. The mapping comes from a topology file, whose lines are a
+ * host and its rack separated by whitespace, or from a topology script, which is run with a host
+ * as its argument and prints the host's rack. Lines of the file starting with # are comments. A
+ * host the file does not list, or the script fails for, is in {@link #DEFAULT_RACK}, as are all
+ * hosts if neither is configured. The script is run once per host.
+ */
+final class RackResolver {
+  static final String DEFAULT_RACK = "/default-rack";
+
+  private static final Logger LOG = LoggerFactory.getLogger(Constants.LOGGER_TYPE);
+
+  private final String mScript;
+  private final Map<String, String> mRacks;
+
+  /**
+   * @param topologyFile the path of the topology file, or null
+   * @param topologyScript the path of the topology script, or null. Only used if there is no
+   *        topology file
+   */
+  RackResolver(String topologyFile, String topologyScript) {
+    if (topologyFile != null) {
+      mScript = null;
+      mRacks = readTopologyFile(topologyFile);
+    } else {
+      mScript = topologyScript;
+      mRacks = new ConcurrentHashMap<String, String>();
+    }
+  }
+
+  private static Map<String, String> readTopologyFile(String path) {
+    Map<String, String> racks = new HashMap<String, String>();
+    Closer closer = Closer.create();
+    try {
+      try {
+        BufferedReader reader = closer.register(new BufferedReader(new FileReader(path)));
+        String line;
+        while ((line = reader.readLine()) != null) {
+          line = line.trim();
+          if (line.isEmpty() || line.startsWith("#")) {
+            continue;
+          }
+          String[] parts = line.split("\\s+");
+          if (parts.length != 2) {
+            LOG.warn("Ignoring line of topology file " + path + ": " + line);
+            continue;
+          }
+          racks.put(parts[0], parts[1]);
+        }
+      } finally {
+        closer.close();
+      }
+    } catch (IOException e) {
+      LOG.error("Failed to read topology file " + path + ", all hosts are in " + DEFAULT_RACK, e);
+    }
+    return racks;
+  }
+
+  /**
+   * @param host the host name or address of a machine
+   * @return the rack the host is in
+   */
+  String resolve(String host) {
+    String rack = mRacks.get(host);
+    if (rack != null) {
+      return rack;
+    } else if (mScript == null) {
+      return DEFAULT_RACK;
+    }
+    rack = runScript(host);
+    mRacks.put(host, rack);
+    return rack;
+  }
+
+  private String runScript(String host) {
+    try {
+      Process process =
+          new ProcessBuilder(new File(mScript).getAbsolutePath(), host).redirectErrorStream(true)
+              .start();
+      String rack;
+      Closer closer = Closer.create();
+      try {
+        BufferedReader reader =
+            closer.register(new BufferedReader(new InputStreamReader(process.getInputStream())));
+        rack = reader.readLine();
+        while (reader.readLine() != null) {
+          // Drain the output so the script can exit
+        }
+      } finally {
+        closer.close();
+      }
+      if (process.waitFor() != 0 || rack == null || rack.trim().isEmpty()) {
+        LOG.warn("Topology script " + mScript + " found no rack for " + host);
+        return DEFAULT_RACK;
+      }
+      return rack.trim();
+    } catch (IOException e) {
+      LOG.error("Failed to run topology script " + mScript + " for " + host, e);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      LOG.error("Interrupted while running topology script " + mScript + " for " + host);
+    }
+    return DEFAULT_RACK;
+  }
+}
@@ -0,0 +1,240 @@
+/*
+ * Licensed to the University of California, Berkeley under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package tachyon.client;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import tachyon.Constants;
+import tachyon.thrift.ClientBlockInfo;
+import tachyon.util.ThreadFactoryUtils;
+
+/**
+ * Reads chunks of remote blocks ahead of the streams that will consume them. The reads run on a
+ * shared pool of <code>threads</code> background threads, and at most <code>maxBuffers</code>
+ * chunks, read or being read, are held for the streams of a client at any time. A chunk holds its
+ * buffer until the stream takes it, or cancels it and its read has finished; when all buffers are
+ * held, no more chunks are read ahead until one is given back.
+ */
+final class ReadAheadEngine implements Closeable {
+  private static final Logger LOG = LoggerFactory.getLogger(Constants.LOGGER_TYPE);
+
+  private final ExecutorService mExecutor;
+  private final Semaphore mBuffers;
+
+  /**
+   * @param threads the number of background threads reading chunks
+   * @param maxBuffers the maximum number of chunks held at any time
+   */
+  ReadAheadEngine(int threads, int maxBuffers) {
+    mExecutor =
+        Executors.newFixedThreadPool(Math.max(1, threads),
+            ThreadFactoryUtils.daemon("client-read-ahead-%d"));
+    mBuffers = new Semaphore(maxBuffers);
+  }
+
+  @Override
+  public void close() {
+    mExecutor.shutdownNow();
+  }
+
+  /**
+   * @return the number of chunks that can still be read ahead
+   */
+  int getAvailableBuffers() {
+    return mBuffers.availablePermits();
+  }
+
+  /**
+   * Starts reading a chunk of a remote block in the background.
+   * 
+   * @param tachyonFS the client reading the block
+   * @param blockIndex the index of the block in its file
+   * @param blockInfo the block info of the block
+   * @param offset the offset of the chunk in the block
+   * @param length the length of the chunk
+   * @return the chunk being read, or null if all buffers are held
+   */
+  Chunk readAhead(final TachyonFS tachyonFS, int blockIndex, final ClientBlockInfo blockInfo,
+      final long offset, final long length) {
+    if (!mBuffers.tryAcquire()) {
+      return null;
+    }
+    final Chunk chunk = new Chunk(blockIndex, blockInfo.blockId, offset, length);
+    try {
+      chunk.setFuture(mExecutor.submit(new Runnable() {
+        @Override
+        public void run() {
+          if (!chunk.start()) {
+            return;
+          }
+          TachyonByteBuffer data = null;
+          try {
+            data = RemoteBlockInStream.readRemoteChunk(tachyonFS, blockInfo, offset, length);
+          } catch (RuntimeException e) {
+            LOG.error("Failed to read ahead block " + blockInfo.blockId + " at offset " + offset,
+                e);
+          } finally {
+            chunk.complete(data);
+          }
+        }
+      }));
+    } catch (RuntimeException e) {
+      // The engine has been closed
+      mBuffers.release();
+      return null;
+    }
+    return chunk;
+  }
+
+  /**
+   * A chunk of a block read ahead. It holds its buffer until it is taken, or until it is canceled
+   * and its read, if one is running, has finished; the data of a canceled read is closed then.
+   */
+  final class Chunk {
+    final int mBlockIndex;
+    final long mBlockId;
+    final long mOffset;
+    final long mLength;
+    // The fields below are guarded by this
+    private Future<?> mFuture = null;
+    private boolean mStarted = false;
+    private boolean mDone = false;
+    private boolean mCanceled = false;
+    private boolean mReleased = false;
+    private TachyonByteBuffer mData = null;
+
+    private Chunk(int blockIndex, long blockId, long offset, long length) {
+      mBlockIndex = blockIndex;
+      mBlockId = blockId;
+      mOffset = offset;
+      mLength = length;
+    }
+
+    /**
+     * Stops the read if it has not started yet, and drops the data once it is read if it has.
+     */
+    synchronized void cancel() {
+      if (mCanceled || mReleased) {
+        return;
+      }
+      mCanceled = true;
+      if (!mStarted) {
+        // Interrupting a running read would close the pooled connection to the worker, so only
+        // a read that has not started is stopped
+        if (mFuture != null) {
+          mFuture.cancel(false);
+        }
+        release();
+      } else if (mDone) {
+        closeData(mData);
+        mData = null;
+        release();
+      }
+      // Otherwise complete() drops the data and gives the buffer back when the read finishes
+    }
+
+    private void closeData(TachyonByteBuffer data) {
+      if (data != null) {
+        try {
+          data.close();
+        } catch (IOException e) {
+          LOG.warn("Failed to release the chunk of block " + mBlockId + " read ahead", e);
+        }
+      }
+    }
+
+    /**
+     * Called by the read when it finished, with the data it read or null.
+     */
+    private synchronized void complete(TachyonByteBuffer data) {
+      mDone = true;
+      if (mCanceled) {
+        closeData(data);
+        release();
+      } else {
+        mData = data;
+      }
+      notifyAll();
+    }
+
+    /**
+     * @return the offset in the block right after the chunk
+     */
+    long getEnd() {
+      return mOffset + mLength;
+    }
+
+    boolean isChunk(long blockId, long offset, long length) {
+      return mBlockId == blockId && mOffset == offset && mLength == length;
+    }
+
+    private void release() {
+      if (!mReleased) {
+        mReleased = true;
+        mBuffers.release();
+      }
+    }
+
+    private synchronized void setFuture(Future<?> future) {
+      mFuture = future;
+    }
+
+    /**
+     * Called by the read before it starts.
+     * 
+     * @return false if the chunk was canceled, and must not be read
+     */
+    private synchronized boolean start() {
+      if (mCanceled) {
+        return false;
+      }
+      mStarted = true;
+      return true;
+    }
+
+    /**
+     * Waits for the chunk to be read.
+     * 
+     * @return the data of the chunk, to be closed by the caller, or null if it could not be read
+     */
+    synchronized TachyonByteBuffer take() {
+      if (mCanceled || mReleased) {
+        return null;
+      }
+      while (!mDone) {
+        try {
+          wait();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          cancel();
+          return null;
+        }
+      }
+      TachyonByteBuffer data = mData;
+      mData = null;
+      release();
+      return data;
+    }
+  }
+}
@@ -0,0 +1,185 @@
+/*
+ * Licensed to the University of California, Berkeley under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package tachyon.client;
+
+import java.io.IOException;
+import java.util.LinkedList;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import tachyon.Constants;
+import tachyon.thrift.ClientBlockInfo;
+
+/**
+ * The read-ahead state of one sequential reader of a file. Every chunk read from a remote block
+ * goes through the window. While the reader asks for the chunk right after the previous one, the
+ * window reads ahead the next chunks, and the first chunk of the next block once it reaches the end
+ * of a block. The number of chunks read ahead starts at one and doubles with every sequential
+ * chunk, up to <code>maxDepth</code>. Any other access, or a call to {@link #cancel()}, drops the
+ * chunks read ahead and starts over.
+ * 
+ * A window is not thread safe; it belongs to one stream, like the stream's position.
+ */
+final class ReadAheadWindow {
+  private static final Logger LOG = LoggerFactory.getLogger(Constants.LOGGER_TYPE);
+
+  private final TachyonFile mFile;
+  private final long mFileLength;
+  private final ReadAheadEngine mEngine;
+  private final int mMaxDepth;
+  private final long mChunkSize;
+
+  /** The chunks read ahead, in the order they will be read */
+  private final LinkedList<ReadAheadEngine.Chunk> mChunks =
+      new LinkedList<ReadAheadEngine.Chunk>();
+  private int mDepth = 0;
+
+  /** The block index and offset of the chunk a sequential reader asks for next */
+  private int mNextBlockIndex = -1;
+  private long mNextOffset = -1;
+
+  /**
+   * @param file the file being read
+   * @param fileLength the length of the file
+   * @param engine the engine reading the chunks
+   * @param maxDepth the maximum number of chunks read ahead, 0 to never read ahead
+   * @param chunkSize the size of the chunks the reader asks for
+   */
+  ReadAheadWindow(TachyonFile file, long fileLength, ReadAheadEngine engine, int maxDepth,
+      long chunkSize) {
+    mFile = file;
+    mFileLength = fileLength;
+    mEngine = engine;
+    mMaxDepth = maxDepth;
+    mChunkSize = chunkSize;
+  }
+
+  private boolean add(int blockIndex, ClientBlockInfo blockInfo, long offset, long length) {
+    ReadAheadEngine.Chunk chunk =
+        mEngine.readAhead(mFile.mTachyonFS, blockIndex, blockInfo, offset, length);
+    if (chunk == null) {
+      return false;
+    }
+    mChunks.add(chunk);
+    return true;
+  }
+
+  /**
+   * Drops all chunks read ahead, and waits for the reader to read sequentially again.
+   */
+  void cancel() {
+    while (!mChunks.isEmpty()) {
+      mChunks.poll().cancel();
+    }
+    mDepth = 0;
+    mNextBlockIndex = -1;
+    mNextOffset = -1;
+  }
+
+  /**
+   * @return the number of chunks currently read ahead
+   */
+  int getChunkCount() {
+    return mChunks.size();
+  }
+
+  /**
+   * @return the number of chunks the window currently reads ahead of a sequential reader
+   */
+  int getDepth() {
+    return mDepth;
+  }
+
+  /**
+   * Called by the reader before it reads a chunk of a remote block. Returns the chunk if it was
+   * read ahead, and reads ahead the chunks after it if the reader reads sequentially.
+   * 
+   * @param blockIndex the index of the block in the file
+   * @param blockInfo the block info of the block
+   * @param offset the offset of the chunk in the block
+   * @param length the length of the chunk
+   * @return the data of the chunk, to be closed by the reader, or null if the reader has to read
+   *         it itself
+   */
+  TachyonByteBuffer read(int blockIndex, ClientBlockInfo blockInfo, long offset, long length) {
+    if (mMaxDepth <= 0) {
+      return null;
+    }
+
+    TachyonByteBuffer buf = null;
+    if (blockIndex == mNextBlockIndex && offset == mNextOffset) {
+      ReadAheadEngine.Chunk chunk = mChunks.peek();
+      if (chunk != null && chunk.isChunk(blockInfo.blockId, offset, length)) {
+        mChunks.poll();
+        buf = chunk.take();
+      } else {
+        while (!mChunks.isEmpty()) {
+          mChunks.poll().cancel();
+        }
+      }
+      mDepth = Math.min(Math.max(1, mDepth * 2), mMaxDepth);
+    } else {
+      cancel();
+    }
+
+    if (offset + length >= blockInfo.length) {
+      mNextBlockIndex = blockIndex + 1;
+      mNextOffset = 0;
+    } else {
+      mNextBlockIndex = blockIndex;
+      mNextOffset = offset + length;
+    }
+    readAhead(blockIndex, blockInfo);
+    return buf;
+  }
+
+  /**
+   * Reads ahead the chunks after the last one read ahead, until there are <code>mDepth</code> of
+   * them. Past the end of the block, only the first chunk of the next block is read ahead.
+   */
+  private void readAhead(int blockIndex, ClientBlockInfo blockInfo) {
+    long offset = (mNextBlockIndex == blockIndex) ? mNextOffset : blockInfo.length;
+    ReadAheadEngine.Chunk last = mChunks.peekLast();
+    if (last != null) {
+      if (last.mBlockIndex != blockIndex) {
+        // The first chunk of the next block is already read ahead
+        return;
+      }
+      offset = last.getEnd();
+    }
+
+    while (mChunks.size() < mDepth && offset < blockInfo.length) {
+      long length = Math.min(mChunkSize, blockInfo.length - offset);
+      if (!add(blockIndex, blockInfo, offset, length)) {
+        return;
+      }
+      offset += length;
+    }
+
+    if (mChunks.size() < mDepth && blockInfo.offset + blockInfo.length < mFileLength) {
+      ClientBlockInfo nextBlockInfo;
+      try {
+        nextBlockInfo = mFile.getClientBlockInfo(blockIndex + 1);
+      } catch (IOException e) {
+        LOG.warn("Not reading ahead the block after " + blockInfo.blockId + ": "
+            + e.getMessage());
+        return;
+      }
+      add(blockIndex + 1, nextBlockInfo, 0, Math.min(mChunkSize, nextBlockInfo.length));
+    }
+  }
+}
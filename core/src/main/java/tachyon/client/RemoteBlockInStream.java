@@ -15,7 +15,6 @@ package tachyon.client;
 
 import java.io.InputStream;
 import java.io.IOException;
-import java.net.InetAddress;
 import java.net.InetSocketAddress;
 import java.nio.ByteBuffer;
 import java.nio.channels.SocketChannel;
@@ -28,8 +27,6 @@ import tachyon.Constants;
 import tachyon.UnderFileSystem;
 import tachyon.conf.UserConf;
 import tachyon.thrift.ClientBlockInfo;
-import tachyon.thrift.NetAddress;
-import tachyon.util.NetworkUtils;
 import tachyon.worker.nio.DataServerMessage;
 
 /**
@@ -67,13 +64,16 @@ public class RemoteBlockInStream extends BlockInStream {
    */
   private ByteBuffer mCurrentBuffer = null;
 
+  /** The chunk mCurrentBuffer reads, which holds the resources of its data until closed */
+  private TachyonByteBuffer mCurrentChunk = null;
+
   /** We keep track of the position relative to the block that the current buffer starts at. */
   private long mBufferStartPos;
 
   /**
    * true if we are re-caching the file. The re-caching gets canceled if we do anything other than a
    * straight read through the file. That means, any skipping or seeking around will cancel the
-   * re-cache.
+   * re-cache, and with tachyon.user.background.recache the local worker finishes it instead.
    */
   private boolean mRecache;
 
@@ -87,6 +87,12 @@ public class RemoteBlockInStream extends BlockInStream {
    */
   private Object mUFSConf = null;
 
+  /** Reads the chunks of the block ahead while the block is read sequentially */
+  private final ReadAheadWindow mReadAhead;
+
+  /** true if the read-ahead window belongs to this stream rather than to an enclosing stream */
+  private final boolean mOwnsReadAhead;
+
   /**
    * The maximum number of tries to read a remote block. Since the stored ClientBlockInfo might not
    * be accurate when executing a remote read, we refresh it and retry reading a certain number of
@@ -113,6 +119,20 @@ public class RemoteBlockInStream extends BlockInStream {
    */
   RemoteBlockInStream(TachyonFile file, ReadType readType, int blockIndex, Object ufsConf)
       throws IOException {
+    this(file, readType, blockIndex, ufsConf, null);
+  }
+
+  /**
+   * @param file the file the block belongs to
+   * @param readType the InStream's read type
+   * @param blockIndex the index of the block in the file
+   * @param ufsConf the under file system configuration
+   * @param readAhead the read-ahead window of the enclosing stream, or null to use a window of
+   *        the block's own
+   * @throws IOException
+   */
+  RemoteBlockInStream(TachyonFile file, ReadType readType, int blockIndex, Object ufsConf,
+      ReadAheadWindow readAhead) throws IOException {
     super(file, readType, blockIndex);
 
     if (!mFile.isComplete()) {
@@ -121,16 +141,30 @@ public class RemoteBlockInStream extends BlockInStream {
 
     mBlockInfo = mFile.getClientBlockInfo(mBlockIndex);
 
-    mRecache = readType.isCache();
+    // Without a local worker there is nowhere to cache the block; the client's chunk cache, if
+    // enabled, serves repeated reads instead.
+    mRecache = readType.isCache() && mTachyonFS.hasLocalWorker();
     if (mRecache) {
       mBlockOutStream = new BlockOutStream(file, WriteType.TRY_CACHE, blockIndex);
     }
 
     mUFSConf = ufsConf;
+
+    if (readAhead != null) {
+      mReadAhead = readAhead;
+      mOwnsReadAhead = false;
+    } else {
+      // A window of the block's own never reads ahead past the end of the block.
+      mReadAhead =
+          new ReadAheadWindow(file, mBlockInfo.offset + mBlockInfo.length,
+              mTachyonFS.getReadAheadEngine(), UserConf.get().READ_AHEAD_MAX_DEPTH, BUFFER_SIZE);
+      mOwnsReadAhead = true;
+    }
   }
 
   /**
-   * Cancels the re-caching attempt
+   * Cancels the re-caching attempt, and asks the local worker to cache the block in the background
+   * if so configured.
    * 
    * @throws IOException
    */
@@ -140,7 +174,45 @@ public class RemoteBlockInStream extends BlockInStream {
       if (mBlockOutStream != null) {
         mBlockOutStream.cancel();
       }
+      if (UserConf.get().BACKGROUND_RECACHE) {
+        try {
+          mTachyonFS.asyncCacheBlock(mBlockInfo.blockId);
+        } catch (IOException e) {
+          LOG.warn("Failed to ask the local worker to cache block " + mBlockInfo.blockId, e);
+        }
+      }
+    }
+  }
+
+  @Override
+  public TachyonByteBuffer borrowSlice(int maxLen) throws IOException {
+    if (maxLen <= 0) {
+      throw new IllegalArgumentException("Slice length must be positive: " + maxLen);
+    } else if (mBlockPos == mBlockInfo.length) {
+      return null;
+    }
+    if (mRecache || !updateCurrentBuffer()) {
+      // The data has to pass through a byte array on its way to the block out stream or from
+      // the underfs
+      return super.borrowSlice(maxLen);
+    }
+    ByteBuffer slice = mCurrentBuffer.slice();
+    int bytes = Math.min(maxLen, slice.remaining());
+    slice.limit(bytes);
+    mCurrentBuffer.position(mCurrentBuffer.position() + bytes);
+    mBlockPos += bytes;
+    return mCurrentChunk.slice(slice);
+  }
+
+  /**
+   * Closes the current chunk. Its buffer goes back to the pool once no slice of it is borrowed.
+   */
+  private void closeCurrentChunk() throws IOException {
+    if (mCurrentChunk != null) {
+      mCurrentChunk.close();
+      mCurrentChunk = null;
     }
+    mCurrentBuffer = null;
   }
 
   @Override
@@ -153,9 +225,13 @@ public class RemoteBlockInStream extends BlockInStream {
       if (mBlockPos == mBlockInfo.length) {
         mBlockOutStream.close();
       } else {
-        mBlockOutStream.cancel();
+        cancelRecache();
       }
     }
+    if (mOwnsReadAhead) {
+      mReadAhead.cancel();
+    }
+    closeCurrentChunk();
     if (mCheckpointInputStream != null) {
       mCheckpointInputStream.close();
     }
@@ -171,6 +247,25 @@ public class RemoteBlockInStream extends BlockInStream {
     return (int) b[0] & 0xFF;
   }
 
+  @Override
+  public int read(ByteBuffer dst) throws IOException {
+    if (!dst.hasRemaining()) {
+      return 0;
+    } else if (mBlockPos == mBlockInfo.length) {
+      return -1;
+    }
+    if (mRecache || !updateCurrentBuffer()) {
+      return super.read(dst);
+    }
+    int bytes = Math.min(dst.remaining(), mCurrentBuffer.remaining());
+    ByteBuffer src = mCurrentBuffer.duplicate();
+    src.limit(src.position() + bytes);
+    dst.put(src);
+    mCurrentBuffer.position(src.position());
+    mBlockPos += bytes;
+    return bytes;
+  }
+
   @Override
   public int read(byte[] b) throws IOException {
     return read(b, 0, b.length);
@@ -231,90 +326,203 @@ public class RemoteBlockInStream extends BlockInStream {
     return len;
   }
 
+  /**
+   * Reads a chunk of a block from a remote worker into a pooled direct buffer, if the chunk fits
+   * in one.
+   * 
+   * @param tachyonFS the client reading the block
+   * @param blockInfo the block info of the block
+   * @param offset the offset of the chunk in the block
+   * @param len the length of the chunk
+   * @return the data of the chunk, to be closed by the caller, or null if it could not be read
+   */
+  static TachyonByteBuffer readRemoteChunk(TachyonFS tachyonFS, ClientBlockInfo blockInfo,
+      long offset, long len) {
+    DirectBufferPool pool = tachyonFS.getDirectBufferPool();
+    if (len > pool.getBufferSize()) {
+      ByteBuffer buf = readRemoteByteBuffer(tachyonFS, blockInfo, offset, len);
+      return (buf == null) ? null : new TachyonByteBuffer(tachyonFS, buf, blockInfo.blockId, -1);
+    }
+    ByteBuffer pooled = pool.acquire();
+    ByteBuffer buf = readRemoteByteBuffer(tachyonFS, blockInfo, offset, len, pooled);
+    if (buf == null) {
+      pool.release(pooled);
+      return null;
+    }
+    return new TachyonByteBuffer(buf, pool, pooled);
+  }
+
   public static ByteBuffer readRemoteByteBuffer(TachyonFS tachyonFS, ClientBlockInfo blockInfo,
       long offset, long len) {
-    ByteBuffer buf = null;
+    return readRemoteByteBuffer(tachyonFS, blockInfo, offset, len, null);
+  }
+
+  /**
+   * Reads a range of a block from a remote worker.
+   * 
+   * @param tachyonFS the client reading the block
+   * @param blockInfo the block info of the block
+   * @param offset the offset of the range in the block
+   * @param len the length of the range
+   * @param recvBuffer a buffer to receive the data into if it is large enough, or null to
+   *        allocate one
+   * @return a read only view of the data, or null if it could not be read
+   */
+  public static ByteBuffer readRemoteByteBuffer(TachyonFS tachyonFS, ClientBlockInfo blockInfo,
+      long offset, long len, ByteBuffer recvBuffer) {
+    ReplicaSelector selector = tachyonFS.getReplicaSelector();
+    List<InetSocketAddress> workers = selector.select(blockInfo.getLocations());
+    LOG.debug("Block " + blockInfo.blockId + " workers in the order tried: " + workers);
+
+    for (InetSocketAddress worker : workers) {
+      long startNs = System.nanoTime();
+      try {
+        ByteBuffer buf =
+            retrieveByteBufferFromRemoteMachine(tachyonFS.getDataServerConnectionPool(), worker,
+                blockInfo.blockId, offset, len, recvBuffer);
+        if (buf != null) {
+          selector.reportSuccess(worker, System.nanoTime() - startNs);
+          return buf;
+        }
+      } catch (IOException e) {
+        LOG.error("Fail to retrieve byte buffer for block " + blockInfo.blockId + " from remote "
+            + worker + " with offset " + offset + " and length " + len, e);
+        selector.reportFailure(worker);
+      }
+    }
+    return null;
+  }
 
+  private static ByteBuffer retrieveByteBufferFromRemoteMachine(
+      DataServerConnectionPool connections, InetSocketAddress address, long blockId, long offset,
+      long length, ByteBuffer recvBuffer) throws IOException {
     try {
-      List<NetAddress> blockLocations = blockInfo.getLocations();
-      LOG.info("Block locations:" + blockLocations);
+      return retrieveByteBuffer(connections, connections.acquire(address), address, blockId,
+          offset, length, recvBuffer);
+    } catch (IOException e) {
+      // An idle connection may have been closed by the worker; retry once on a new one.
+      LOG.info("Retry on a new connection to " + address + ": " + e.getMessage());
+    }
+    return retrieveByteBuffer(connections, connections.connect(address), address, blockId, offset,
+        length, recvBuffer);
+  }
 
-      for (NetAddress blockLocation : blockLocations) {
-        String host = blockLocation.mHost;
-        int port = blockLocation.mSecondaryPort;
+  /**
+   * Reads the data through the given connection, and hands the connection back to the pool.
+   */
+  private static ByteBuffer retrieveByteBuffer(DataServerConnectionPool connections,
+      SocketChannel socketChannel, InetSocketAddress address, long blockId, long offset,
+      long length, ByteBuffer recvBuffer) throws IOException {
+    boolean reusable = false;
+    try {
+      ByteBuffer buf =
+          requestByteBuffer(socketChannel, connections.nextRequestId(), address, blockId,
+              offset, length, recvBuffer);
+      reusable = true;
+      return buf;
+    } finally {
+      connections.release(address, socketChannel, reusable);
+    }
+  }
 
-        // The data is not in remote machine's memory if port == -1.
-        if (port == -1) {
-          continue;
-        }
-        if (host.equals(InetAddress.getLocalHost().getHostName())
-            || host.equals(InetAddress.getLocalHost().getHostAddress())
-            || host.equals(NetworkUtils.getLocalHostName())) {
-          LOG.warn("Master thinks the local machine has data, But not! blockId:{}",
-              blockInfo.blockId);
-        }
-        LOG.info(host + ":" + port + " current host is " + NetworkUtils.getLocalHostName() + " "
-            + NetworkUtils.getLocalIpAddress());
+  /**
+   * Sends one block request on the connection and reads its response.
+   */
+  private static ByteBuffer requestByteBuffer(SocketChannel socketChannel, long requestId,
+      InetSocketAddress address, long blockId, long offset, long length, ByteBuffer recvBuffer)
+      throws IOException {
+    DataServerMessage sendMsg =
+        DataServerMessage.createBlockRequestMessage(requestId, blockId, offset, length);
+    while (!sendMsg.finishSending()) {
+      sendMsg.send(socketChannel);
+    }
 
-        try {
-          buf =
-              retrieveByteBufferFromRemoteMachine(new InetSocketAddress(host, port),
-                  blockInfo.blockId, offset, len);
-          if (buf != null) {
-            break;
-          }
-        } catch (IOException e) {
-          LOG.error("Fail to retrieve byte buffer for block " + blockInfo.blockId
-              + " from remote " + host + ":" + port + " with offset " + offset + " and length "
-              + len, e);
-          buf = null;
-        }
+    LOG.info("Data " + blockId + " to remote machine " + address + " sent");
+
+    return receiveByteBuffer(socketChannel, requestId, address, blockId, recvBuffer);
+  }
+
+  /**
+   * Reads the response to a block request from the connection.
+   * 
+   * @return the data of the response, or null if the worker does not have the data
+   */
+  private static ByteBuffer receiveByteBuffer(SocketChannel socketChannel, long requestId,
+      InetSocketAddress address, long blockId, ByteBuffer recvBuffer) throws IOException {
+    DataServerMessage recvMsg =
+        DataServerMessage.createBlockResponseMessage(false, blockId, recvBuffer);
+    while (!recvMsg.isMessageReady()) {
+      int numRead = recvMsg.recv(socketChannel);
+      if (numRead == -1) {
+        throw new IOException("Connection to " + address + " closed before the response to "
+            + "request " + requestId + " was received");
       }
-    } catch (IOException e) {
-      LOG.error("Failed to get read data from remote ", e);
-      buf = null;
     }
+    LOG.info("Data " + blockId + " from remote machine " + address + " received");
 
-    return buf;
+    if (recvMsg.getRequestId() != requestId) {
+      throw new IOException("Response from " + address + " answers request "
+          + recvMsg.getRequestId() + " instead of " + requestId);
+    }
+
+    if (recvMsg.getBlockId() < 0) {
+      LOG.info("Data " + recvMsg.getBlockId() + " is not in remote machine.");
+      return null;
+    }
+    return recvMsg.getReadOnlyData();
   }
 
-  private static ByteBuffer retrieveByteBufferFromRemoteMachine(InetSocketAddress address,
-      long blockId, long offset, long length) throws IOException {
-    SocketChannel socketChannel = SocketChannel.open();
+  /**
+   * Reads ranges of blocks from one worker with a single multi-range request. The worker answers
+   * each range in order on the same connection.
+   * 
+   * @param tachyonFS the client reading the blocks
+   * @param address the address of the worker's data server
+   * @param blockIds the ids of the blocks of the ranges
+   * @param offsets the offsets of the ranges in their blocks
+   * @param lengths the lengths of the ranges
+   * @return the data of each range, or null for a range the worker does not have
+   * @throws IOException if the exchange with the worker failed
+   */
+  static ByteBuffer[] readRemoteRanges(TachyonFS tachyonFS, InetSocketAddress address,
+      long[] blockIds, long[] offsets, long[] lengths) throws IOException {
+    DataServerConnectionPool connections = tachyonFS.getDataServerConnectionPool();
     try {
-      socketChannel.connect(address);
+      return retrieveRanges(connections, connections.acquire(address), address, blockIds,
+          offsets, lengths);
+    } catch (IOException e) {
+      // An idle connection may have been closed by the worker; retry once on a new one.
+      LOG.info("Retry on a new connection to " + address + ": " + e.getMessage());
+    }
+    return retrieveRanges(connections, connections.connect(address), address, blockIds, offsets,
+        lengths);
+  }
 
-      LOG.info("Connected to remote machine " + address + " sent");
+  /**
+   * Sends a multi-range request on the connection, reads its responses, and hands the connection
+   * back to the pool.
+   */
+  private static ByteBuffer[] retrieveRanges(DataServerConnectionPool connections,
+      SocketChannel socketChannel, InetSocketAddress address, long[] blockIds, long[] offsets,
+      long[] lengths) throws IOException {
+    boolean reusable = false;
+    try {
+      long requestId = connections.nextRequestId();
       DataServerMessage sendMsg =
-          DataServerMessage.createBlockRequestMessage(blockId, offset, length);
+          DataServerMessage.createMultiBlockRequestMessage(requestId, blockIds, offsets,
+              lengths);
       while (!sendMsg.finishSending()) {
         sendMsg.send(socketChannel);
       }
 
-      LOG.info("Data " + blockId + " to remote machine " + address + " sent");
-
-      DataServerMessage recvMsg =
-          DataServerMessage.createBlockResponseMessage(false, blockId, null);
-      while (!recvMsg.isMessageReady()) {
-        int numRead = recvMsg.recv(socketChannel);
-        if (numRead == -1) {
-          LOG.warn("Read nothing");
-        }
-      }
-      LOG.info("Data " + blockId + " from remote machine " + address + " received");
-
-      if (!recvMsg.isMessageReady()) {
-        LOG.info("Data " + blockId + " from remote machine is not ready.");
-        return null;
-      }
-
-      if (recvMsg.getBlockId() < 0) {
-        LOG.info("Data " + recvMsg.getBlockId() + " is not in remote machine.");
-        return null;
+      ByteBuffer[] ret = new ByteBuffer[blockIds.length];
+      for (int k = 0; k < blockIds.length; k ++) {
+        ret[k] = receiveByteBuffer(socketChannel, requestId, address, blockIds[k], null);
       }
-      return recvMsg.getReadOnlyData();
+      reusable = true;
+      return ret;
     } finally {
-      socketChannel.close();
+      connections.release(address, socketChannel, reusable);
     }
   }
 
@@ -331,6 +539,7 @@ public class RemoteBlockInStream extends BlockInStream {
     }
     // Since we're not doing a straight read-through, we've invalidated our re-caching attempt.
     cancelRecache();
+    mReadAhead.cancel();
     mBlockPos = pos;
   }
 
@@ -399,21 +608,53 @@ public class RemoteBlockInStream extends BlockInStream {
       return true;
     }
 
-    // We must read in a new block. By starting at mBlockPos, we ensure that the next byte read will
-    // be the one at mBlockPos
-    mBufferStartPos = mBlockPos;
+    // We must read in a new chunk. Without a chunk cache, by starting at mBlockPos, we ensure that
+    // the next byte read will be the one at mBlockPos. With one, chunks start at multiples of the
+    // buffer size, so that reads at any position of a chunk find it in the cache.
+    closeCurrentChunk();
+    RemoteChunkCache cache = mTachyonFS.getRemoteChunkCache();
+    mBufferStartPos = (cache == null) ? mBlockPos : mBlockPos - mBlockPos % BUFFER_SIZE;
     long length = Math.min(BUFFER_SIZE, mBlockInfo.length - mBufferStartPos);
+    if (cache != null) {
+      mCurrentChunk = cache.get(mBlockInfo.blockId, mBufferStartPos, length);
+    }
+    if (mCurrentChunk == null) {
+      mCurrentChunk = readChunk(length);
+      if (mCurrentChunk != null && cache != null) {
+        cache.put(mBlockInfo.blockId, mBufferStartPos, mCurrentChunk.mData);
+      }
+    }
+    if (mCurrentChunk != null) {
+      mCurrentBuffer = mCurrentChunk.mData;
+      mCurrentBuffer.position((int) (mBlockPos - mBufferStartPos));
+      return true;
+    }
+    return false;
+  }
+
+  /**
+   * Reads the chunk of <code>length</code> bytes at mBufferStartPos from the read-ahead window or
+   * from a remote worker.
+   * 
+   * @return the data of the chunk, to be closed by the caller, or null if the remote read failed
+   */
+  private TachyonByteBuffer readChunk(long length) throws IOException {
+    TachyonByteBuffer chunk = mReadAhead.read(mBlockIndex, mBlockInfo, mBufferStartPos, length);
+    if (chunk != null) {
+      return chunk;
+    }
     LOG.info("Try to find remote worker and read block {} from {}, with len {}",
         mBlockInfo.blockId, mBufferStartPos, length);
 
     for (int i = 0; i < MAX_REMOTE_READ_ATTEMPTS; i ++) {
-      mCurrentBuffer = readRemoteByteBuffer(mTachyonFS, mBlockInfo, mBufferStartPos, length);
-      if (mCurrentBuffer != null) {
-        return true;
+      chunk = readRemoteChunk(mTachyonFS, mBlockInfo, mBufferStartPos, length);
+      if (chunk != null) {
+        return chunk;
       }
       // The read failed, refresh the block info and try again
+      mTachyonFS.invalidateClientBlockInfo(mBlockInfo.blockId);
       mBlockInfo = mFile.getClientBlockInfo(mBlockIndex);
     }
-    return false;
+    return null;
   }
 }
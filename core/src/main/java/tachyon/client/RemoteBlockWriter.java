@@ -0,0 +1,288 @@
+/*
+ * Licensed to the University of California, Berkeley under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package tachyon.client;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Queue;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import tachyon.Constants;
+import tachyon.ResourcePool;
+import tachyon.conf.UserConf;
+import tachyon.thrift.NetAddress;
+import tachyon.worker.WorkerClient;
+import tachyon.worker.nio.DataServerMessage;
+
+/**
+ * Writes a block into the memory of a remote worker, for clients on machines without a worker. The
+ * block's space is requested from the worker, and the block is committed or canceled, through the
+ * worker's pooled RPC clients; its data is streamed to the worker's data server in write requests
+ * on one connection. Up to <code>MAX_PENDING_WRITES</code> write requests are sent ahead of their
+ * acknowledgements. Only the netty data server accepts write requests.
+ */
+final class RemoteBlockWriter implements Closeable {
+  private static final Logger LOG = LoggerFactory.getLogger(Constants.LOGGER_TYPE);
+
+  /** The number of write requests sent before the acknowledgement of the first is waited for */
+  private static final int MAX_PENDING_WRITES = 8;
+
+  /**
+   * Picks the worker to write the block to, and allocates the block's initial space on it. The
+   * workers are tried in the order of {@link ReplicaSelector#selectWriteTargets}, until one has
+   * the space.
+   * 
+   * @param tachyonFS the client writing the block
+   * @param blockId the id of the block
+   * @param initialBytes the initial size bytes allocated to the block
+   * @return the writer of the block
+   * @throws IOException if no worker could allocate the block
+   */
+  static RemoteBlockWriter open(TachyonFS tachyonFS, long blockId, long initialBytes)
+      throws IOException {
+    return open(tachyonFS, blockId, initialBytes, Collections.<InetAddress>emptySet());
+  }
+
+  /**
+   * Like {@link #open(TachyonFS, long, long)}, but skips the workers on the given hosts. The hosts
+   * are compared by ip address, whatever name the workers registered with.
+   * 
+   * @param tachyonFS the client writing the block
+   * @param blockId the id of the block
+   * @param initialBytes the initial size bytes allocated to the block
+   * @param excludedHosts the addresses of the hosts whose workers must not get the block
+   * @return the writer of the block
+   * @throws IOException if no worker could allocate the block
+   */
+  static RemoteBlockWriter open(TachyonFS tachyonFS, long blockId, long initialBytes,
+      Set<InetAddress> excludedHosts) throws IOException {
+    IOException lastException = new IOException("No worker to write block " + blockId + " to");
+    for (NetAddress worker : tachyonFS.getReplicaSelector().selectWriteTargets(
+        tachyonFS.getWorkersInfo())) {
+      InetSocketAddress address = new InetSocketAddress(worker.mHost, worker.mSecondaryPort);
+      if (address.isUnresolved()) {
+        lastException = new IOException("Failed to resolve the host of worker " + worker);
+        continue;
+      }
+      if (excludedHosts.contains(address.getAddress())) {
+        continue;
+      }
+      ResourcePool<WorkerClient> workerClients = tachyonFS.getRemoteWorkerClientPool(worker);
+      WorkerClient workerClient = workerClients.acquire();
+      try {
+        workerClient.requestBlockLocation(blockId, initialBytes);
+      } catch (IOException e) {
+        LOG.info("Failed to allocate block " + blockId + " on worker " + worker + ": "
+            + e.getMessage());
+        lastException = e;
+        continue;
+      } finally {
+        workerClients.release(workerClient);
+      }
+      return new RemoteBlockWriter(tachyonFS, workerClients, address, blockId, initialBytes);
+    }
+    throw lastException;
+  }
+
+  private final TachyonFS mTachyonFS;
+  // The RPC clients of the worker, shared with the other writers to the worker
+  private final ResourcePool<WorkerClient> mWorkerClients;
+  private final InetSocketAddress mAddress;
+  private final long mBlockId;
+  private final long mUserId;
+  private final DataServerConnectionPool mConnections;
+  // The ids of the write requests sent and not acknowledged yet, in the order they were sent
+  private final Queue<Long> mPendingRequestIds = new ArrayDeque<Long>();
+  // Sizes the space reserveSpace requests as the block runs out of it
+  private final SpaceReservation mReservation = new SpaceReservation();
+  private SocketChannel mChannel = null;
+  private boolean mClosed = false;
+  // The space allocated to the block on the worker and not used yet, for reserveSpace
+  private long mAvailableBytes;
+
+  private RemoteBlockWriter(TachyonFS tachyonFS, ResourcePool<WorkerClient> workerClients,
+      InetSocketAddress address, long blockId, long initialBytes) throws IOException {
+    mTachyonFS = tachyonFS;
+    mAvailableBytes = initialBytes;
+    mWorkerClients = workerClients;
+    mAddress = address;
+    mBlockId = blockId;
+    mUserId = tachyonFS.getUserId();
+    mConnections = tachyonFS.getDataServerConnectionPool();
+  }
+
+  /**
+   * Waits for the acknowledgement of the oldest write request sent.
+   */
+  private void awaitAck() throws IOException {
+    long requestId = mPendingRequestIds.remove();
+    DataServerMessage recvMsg =
+        DataServerMessage.createBlockResponseMessage(false, mBlockId, ByteBuffer.allocate(0));
+    while (!recvMsg.isMessageReady()) {
+      if (recvMsg.recv(mChannel) == -1) {
+        throw new IOException("Connection to " + mAddress + " closed before the write request "
+            + requestId + " was acknowledged");
+      }
+    }
+    if (recvMsg.getRequestId() != requestId) {
+      throw new IOException("Response from " + mAddress + " answers request "
+          + recvMsg.getRequestId() + " instead of " + requestId);
+    }
+    if (recvMsg.getBlockId() < 0) {
+      throw new IOException("Worker " + mAddress + " failed to write block " + mBlockId
+          + " at offset " + recvMsg.getOffset());
+    }
+  }
+
+  /**
+   * Waits for all the writes sent to be acknowledged, and commits the block on the worker.
+   * 
+   * @throws IOException
+   */
+  void cacheBlock() throws IOException {
+    while (!mPendingRequestIds.isEmpty()) {
+      awaitAck();
+    }
+    WorkerClient workerClient = mWorkerClients.acquire();
+    try {
+      workerClient.cacheBlock(mBlockId);
+    } finally {
+      mWorkerClients.release(workerClient);
+      mTachyonFS.getMetadataCache().invalidateBlock(mBlockId);
+    }
+  }
+
+  /**
+   * Cancels the block on the worker.
+   * 
+   * @throws IOException
+   */
+  void cancelBlock() throws IOException {
+    // The acknowledgements left on the connection make it unusable for other requests
+    if (mChannel != null && !mPendingRequestIds.isEmpty()) {
+      mConnections.release(mAddress, mChannel, false);
+      mChannel = null;
+    }
+    WorkerClient workerClient = mWorkerClients.acquire();
+    try {
+      workerClient.cancelBlock(mBlockId);
+    } finally {
+      mWorkerClients.release(workerClient);
+      mTachyonFS.getMetadataCache().invalidateBlock(mBlockId);
+    }
+  }
+
+  @Override
+  public void close() {
+    if (!mClosed) {
+      if (mChannel != null) {
+        mConnections.release(mAddress, mChannel, mPendingRequestIds.isEmpty());
+        mChannel = null;
+      }
+      mClosed = true;
+    }
+  }
+
+  /**
+   * @return the address of the data server of the worker the block is written to
+   */
+  InetSocketAddress getAddress() {
+    return mAddress;
+  }
+
+  /**
+   * Requests more space for the block on the worker, at least a quota unit, like
+   * {@link TachyonFS#requestSpace(long, long)} does on the local worker.
+   * 
+   * @param requestBytes the space needed, in bytes
+   * @return the size bytes allocated to the block, or 0 if the worker has no space
+   * @throws IOException
+   */
+  long requestSpace(long requestBytes) throws IOException {
+    long toRequestSpaceBytes = Math.max(requestBytes, UserConf.get().QUOTA_UNIT_BYTES);
+    WorkerClient workerClient = mWorkerClients.acquire();
+    try {
+      for (int attempt = 0; attempt < UserConf.get().FAILED_SPACE_REQUEST_LIMITS; attempt ++) {
+        if (workerClient.requestSpace(mBlockId, toRequestSpaceBytes)) {
+          return toRequestSpaceBytes;
+        }
+      }
+    } finally {
+      mWorkerClients.release(workerClient);
+    }
+    return 0;
+  }
+
+  /**
+   * Makes sure the worker has given the block at least <code>length</code> more bytes, requesting
+   * more space in extents when needed. This is for callers that do not track the block's space
+   * themselves.
+   * 
+   * @param length the number of bytes about to be written
+   * @throws IOException if the worker has no space for them
+   */
+  void reserveSpace(long length) throws IOException {
+    if (mAvailableBytes < length) {
+      long neededBytes = length - mAvailableBytes;
+      long extentBytes = mReservation.next(neededBytes, Long.MAX_VALUE);
+      long bytesRequested = requestSpace(extentBytes);
+      if (bytesRequested < neededBytes && extentBytes > neededBytes) {
+        bytesRequested = requestSpace(neededBytes);
+      }
+      mAvailableBytes += bytesRequested;
+      if (mAvailableBytes < length) {
+        throw new IOException(String.format("No enough space on worker %s: blockId(%d)"
+            + " requestSize(%d)", mAddress, mBlockId, length - mAvailableBytes));
+      }
+    }
+    mAvailableBytes -= length;
+  }
+
+  /**
+   * Sends the bytes of <code>data</code>, from its position to its limit, to be written at
+   * <code>offset</code> in the block. The data is sent when this returns, but may not be written
+   * on the worker yet.
+   * 
+   * @param data the data to write
+   * @param offset the offset in the block to write the data at
+   * @throws IOException
+   */
+  void write(ByteBuffer data, long offset) throws IOException {
+    if (mChannel == null) {
+      mChannel = mConnections.connect(mAddress);
+    }
+    if (mPendingRequestIds.size() >= MAX_PENDING_WRITES) {
+      awaitAck();
+    }
+    long requestId = mConnections.nextRequestId();
+    DataServerMessage sendMsg =
+        DataServerMessage.createBlockWriteRequestMessage(requestId, mUserId, mBlockId, offset,
+            data);
+    mPendingRequestIds.add(requestId);
+    while (!sendMsg.finishSending()) {
+      sendMsg.send(mChannel);
+    }
+  }
+}
@@ -0,0 +1,130 @@
+/*
+ * Licensed to the University of California, Berkeley under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package tachyon.client;
+
+import java.nio.ByteBuffer;
+
+import com.google.common.base.Objects;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.Weigher;
+
+/**
+ * Chunks of remote blocks a TachyonFS client has read, kept in direct buffers so that reading
+ * them again does not go to a worker. This serves clients on machines without a local worker,
+ * where a block cannot be cached locally. The chunks are kept in a least recently used cache
+ * bounded by the total size of the chunks. Blocks never change once written and block ids are
+ * never reused, so a cached chunk is never stale; the chunks of deleted files age out.
+ */
+final class RemoteChunkCache {
+  /** Identifies a chunk by its block and its offset in the block */
+  private static final class ChunkKey {
+    private final long mBlockId;
+    private final long mOffset;
+
+    ChunkKey(long blockId, long offset) {
+      mBlockId = blockId;
+      mOffset = offset;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (!(o instanceof ChunkKey)) {
+        return false;
+      }
+      ChunkKey that = (ChunkKey) o;
+      return mBlockId == that.mBlockId && mOffset == that.mOffset;
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hashCode(mBlockId, mOffset);
+    }
+  }
+
+  private final Cache<ChunkKey, ByteBuffer> mChunks;
+
+  /**
+   * @param capacityBytes the maximum total size of the cached chunks
+   */
+  RemoteChunkCache(long capacityBytes) {
+    // One segment, so that the whole capacity is available to every chunk; a segmented cache
+    // splits it and drops chunks larger than a segment's share right away.
+    mChunks = CacheBuilder.newBuilder().concurrencyLevel(1).maximumWeight(capacityBytes)
+        .weigher(new Weigher<ChunkKey, ByteBuffer>() {
+          @Override
+          public int weigh(ChunkKey key, ByteBuffer chunk) {
+            return chunk.capacity();
+          }
+        }).recordStats().build();
+  }
+
+  /**
+   * Looks up a chunk. The chunk only matches if it starts at the offset and holds at least
+   * <code>length</code> bytes.
+   * 
+   * @param blockId the id of the block
+   * @param offset the offset of the chunk in the block
+   * @param length the length of the chunk
+   * @return a read only view of the chunk, to be closed by the caller, or null if it is not cached
+   */
+  TachyonByteBuffer get(long blockId, long offset, long length) {
+    ByteBuffer chunk = mChunks.getIfPresent(new ChunkKey(blockId, offset));
+    if (chunk == null || chunk.capacity() < length) {
+      return null;
+    }
+    ByteBuffer data = chunk.asReadOnlyBuffer();
+    data.limit((int) length);
+    // An evicted chunk stays valid for readers holding a view of it, and is freed once they are
+    // done with it
+    return new TachyonByteBuffer(null, data, blockId, -1);
+  }
+
+  /**
+   * @return the number of chunks dropped to make room for others
+   */
+  long getEvictionCount() {
+    return mChunks.stats().evictionCount();
+  }
+
+  /**
+   * @return the number of lookups that found their chunk
+   */
+  long getHitCount() {
+    return mChunks.stats().hitCount();
+  }
+
+  /**
+   * @return the number of lookups that did not find their chunk
+   */
+  long getMissCount() {
+    return mChunks.stats().missCount();
+  }
+
+  /**
+   * Caches a copy of a chunk read from a worker.
+   * 
+   * @param blockId the id of the block
+   * @param offset the offset of the chunk in the block
+   * @param data the data of the chunk, from its position to its limit; it is not modified
+   */
+  void put(long blockId, long offset, ByteBuffer data) {
+    ByteBuffer chunk = ByteBuffer.allocateDirect(data.remaining());
+    chunk.put(data.duplicate());
+    chunk.flip();
+    mChunks.put(new ChunkKey(blockId, offset), chunk);
+  }
+}
@@ -0,0 +1,189 @@
+/*
+ * Licensed to the University of California, Berkeley under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package tachyon.client;
+
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import tachyon.thrift.ClientWorkerInfo;
+import tachyon.thrift.NetAddress;
+import tachyon.util.NetworkUtils;
+
+/**
+ * Orders the workers holding a block by how good a source each is for a remote read. A worker on
+ * this host comes first, then workers on this host's rack, then the others; workers at the same
+ * distance are ordered by the moving average of the time their recent reads took, fastest first,
+ * and otherwise keep the master's order. A worker a read failed on is blacklisted for
+ * <code>blacklistMs</code> milliseconds, and is only tried after all the others while it is. The
+ * workers a client without a local worker writes blocks to are ordered the same way, by free memory
+ * instead of read time.
+ */
+final class ReplicaSelector {
+  /** The weight of the newest sample in the moving average of a worker's read time */
+  private static final double LATENCY_WEIGHT = 0.25;
+
+  /** A worker holding the block, with what it is ordered by */
+  private static final class Candidate {
+    private final InetSocketAddress mAddress;
+    private final boolean mBlacklisted;
+    private final int mDistance;
+    private final double mLatencyNs;
+
+    Candidate(InetSocketAddress address, boolean blacklisted, int distance, double latencyNs) {
+      mAddress = address;
+      mBlacklisted = blacklisted;
+      mDistance = distance;
+      mLatencyNs = latencyNs;
+    }
+  }
+
+  private static final Comparator<Candidate> PREFERENCE_ORDER = new Comparator<Candidate>() {
+    @Override
+    public int compare(Candidate c1, Candidate c2) {
+      if (c1.mBlacklisted != c2.mBlacklisted) {
+        return c1.mBlacklisted ? 1 : -1;
+      } else if (c1.mDistance != c2.mDistance) {
+        return c1.mDistance - c2.mDistance;
+      }
+      return Double.compare(c1.mLatencyNs, c2.mLatencyNs);
+    }
+  };
+
+  private final RackResolver mRackResolver;
+  private final String mLocalRack;
+  private final long mBlacklistMs;
+  private final ConcurrentHashMap<InetSocketAddress, Double> mLatencyNs =
+      new ConcurrentHashMap<InetSocketAddress, Double>();
+  private final ConcurrentHashMap<InetSocketAddress, Long> mBlacklistedUntilMs =
+      new ConcurrentHashMap<InetSocketAddress, Long>();
+
+  /**
+   * @param rackResolver maps the hosts of the workers to their racks
+   * @param blacklistMs how long a worker a read failed on is tried last, in milliseconds
+   */
+  ReplicaSelector(RackResolver rackResolver, long blacklistMs) {
+    mRackResolver = rackResolver;
+    mLocalRack = rackResolver.resolve(NetworkUtils.getLocalHostName());
+    mBlacklistMs = blacklistMs;
+  }
+
+  private int distance(String host) {
+    if (host.equals(NetworkUtils.getLocalHostName())
+        || host.equals(NetworkUtils.getLocalIpAddress())) {
+      return 0;
+    }
+    return mRackResolver.resolve(host).equals(mLocalRack) ? 1 : 2;
+  }
+
+  /**
+   * @return the average time reads from the worker took, in nanoseconds, or 0 if none was timed
+   */
+  double getLatencyNs(InetSocketAddress worker) {
+    Double latency = mLatencyNs.get(worker);
+    return (latency == null) ? 0 : latency;
+  }
+
+  /**
+   * @return true if a read failed on the worker less than the blacklist time ago
+   */
+  boolean isBlacklisted(InetSocketAddress worker) {
+    Long until = mBlacklistedUntilMs.get(worker);
+    if (until == null) {
+      return false;
+    } else if (until <= System.currentTimeMillis()) {
+      mBlacklistedUntilMs.remove(worker, until);
+      return false;
+    }
+    return true;
+  }
+
+  /**
+   * Blacklists the worker after a read from it failed.
+   */
+  void reportFailure(InetSocketAddress worker) {
+    mBlacklistedUntilMs.put(worker, System.currentTimeMillis() + mBlacklistMs);
+  }
+
+  /**
+   * Records the time a read from the worker took, and takes the worker off the blacklist.
+   * 
+   * @param worker the address of the worker's data server
+   * @param latencyNs how long the read took, in nanoseconds
+   */
+  void reportSuccess(InetSocketAddress worker, long latencyNs) {
+    mBlacklistedUntilMs.remove(worker);
+    Double old = mLatencyNs.get(worker);
+    mLatencyNs.put(worker, (old == null) ? latencyNs : old + LATENCY_WEIGHT
+        * (latencyNs - old));
+  }
+
+  /**
+   * @param locations the locations of a block
+   * @return the data server addresses of the workers that have the block in memory, best first
+   */
+  List<InetSocketAddress> select(List<NetAddress> locations) {
+    List<Candidate> candidates = new ArrayList<Candidate>(locations.size());
+    for (NetAddress location : locations) {
+      // The data is not in the worker's memory if the port is -1
+      if (location.mSecondaryPort == -1) {
+        continue;
+      }
+      InetSocketAddress address = new InetSocketAddress(location.mHost, location.mSecondaryPort);
+      candidates.add(new Candidate(address, isBlacklisted(address), distance(location.mHost),
+          getLatencyNs(address)));
+    }
+    // The sort is stable, so workers that compare equal keep the master's order
+    Collections.sort(candidates, PREFERENCE_ORDER);
+    List<InetSocketAddress> ret = new ArrayList<InetSocketAddress>(candidates.size());
+    for (Candidate candidate : candidates) {
+      ret.add(candidate.mAddress);
+    }
+    return ret;
+  }
+
+  /**
+   * Orders the workers by how good a target each is for writing a block remotely. A worker on this
+   * host comes first, then workers on this host's rack, then the others; workers at the same
+   * distance are ordered by their free memory, most first. Blacklisted workers come last.
+   * 
+   * @param workers the workers in the system
+   * @return the addresses of the workers, best first
+   */
+  List<NetAddress> selectWriteTargets(List<ClientWorkerInfo> workers) {
+    List<Candidate> candidates = new ArrayList<Candidate>(workers.size());
+    Map<InetSocketAddress, NetAddress> addresses = new HashMap<InetSocketAddress, NetAddress>();
+    for (ClientWorkerInfo worker : workers) {
+      NetAddress location = worker.getAddress();
+      InetSocketAddress address = new InetSocketAddress(location.mHost, location.mSecondaryPort);
+      addresses.put(address, location);
+      // Less free memory ranks like a longer read time
+      candidates.add(new Candidate(address, isBlacklisted(address), distance(location.mHost),
+          worker.getUsedBytes() - worker.getCapacityBytes()));
+    }
+    Collections.sort(candidates, PREFERENCE_ORDER);
+    List<NetAddress> ret = new ArrayList<NetAddress>(candidates.size());
+    for (Candidate candidate : candidates) {
+      ret.add(addresses.get(candidate.mAddress));
+    }
+    return ret;
+  }
+}
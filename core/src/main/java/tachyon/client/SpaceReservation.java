@@ -0,0 +1,89 @@
+/*
+ * Licensed to the University of California, Berkeley under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package tachyon.client;
+
+import tachyon.Constants;
+import tachyon.conf.UserConf;
+
+/**
+ * The sizes of the space reservations one block writer makes on a worker. A writer reserves space
+ * in extents, and asks for the next extent once it has written the space of the previous ones.
+ * Extents start at <code>tachyon.user.quota.unit.bytes</code>. One used up within a second
+ * doubles the next, up to <code>tachyon.user.quota.unit.max.bytes</code>, so a block written fast
+ * gets its space in a few requests; a slower writer's extents halve back towards the quota unit,
+ * so it does not hold much space it is not using. The space a block did not use is returned when
+ * the block is cached or canceled.
+ * 
+ * A reservation is not thread safe; it belongs to one block writer.
+ */
+final class SpaceReservation {
+  /** An extent used up within this time doubles the next one */
+  private static final long GROWTH_WINDOW_MS = Constants.SECOND_MS;
+
+  private final long mMinBytes;
+  private final long mMaxBytes;
+  private final long mGrowthWindowMs;
+  private long mExtentBytes;
+  private long mLastReserveMs;
+
+  SpaceReservation() {
+    this(UserConf.get().QUOTA_UNIT_BYTES, UserConf.get().QUOTA_UNIT_MAX_BYTES);
+  }
+
+  /**
+   * @param minBytes the size of the first extent, which the writer reserves when it is created, and
+   *        the smallest one
+   * @param maxBytes the size of the largest extent
+   */
+  SpaceReservation(long minBytes, long maxBytes) {
+    this(minBytes, maxBytes, GROWTH_WINDOW_MS);
+  }
+
+  /**
+   * Like {@link #SpaceReservation(long, long)}, with another growth window. Used for testing
+   * purposes.
+   * 
+   * @param minBytes the size of the first extent, and the smallest one
+   * @param maxBytes the size of the largest extent
+   * @param growthWindowMs an extent used up within this time doubles the next one
+   */
+  SpaceReservation(long minBytes, long maxBytes, long growthWindowMs) {
+    mMinBytes = minBytes;
+    mMaxBytes = Math.max(minBytes, maxBytes);
+    mGrowthWindowMs = growthWindowMs;
+    mExtentBytes = minBytes;
+    mLastReserveMs = System.currentTimeMillis();
+  }
+
+  /**
+   * Sizes the next extent, when the writer has used up its space.
+   * 
+   * @param neededBytes the space the writer needs right now, in bytes
+   * @param leftBytes the space of the block not reserved yet, in bytes
+   * @return the space to reserve: the current extent, but no more than is left of the block, and
+   *         no less than is needed
+   */
+  long next(long neededBytes, long leftBytes) {
+    long nowMs = System.currentTimeMillis();
+    if (nowMs - mLastReserveMs <= mGrowthWindowMs) {
+      mExtentBytes = Math.min(mExtentBytes * 2, mMaxBytes);
+    } else {
+      mExtentBytes = Math.max(mExtentBytes / 2, mMinBytes);
+    }
+    mLastReserveMs = nowMs;
+    return Math.max(neededBytes, Math.min(mExtentBytes, leftBytes));
+  }
+}
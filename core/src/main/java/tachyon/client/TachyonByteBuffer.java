@@ -18,9 +18,14 @@ package tachyon.client;
 import java.io.Closeable;
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * TachyonByteBuffer is a wrapper on Java ByteBuffer plus some information needed by Tachyon.
+ * 
+ * The data may depend on resources held until the buffer is closed: the lock of a mapped local
+ * block, or a pooled buffer the data was received into. Slices of the buffer share those
+ * resources, which are released once the buffer and all its slices are closed.
  */
 public class TachyonByteBuffer implements Closeable {
   // ByteBuffer contains data.
@@ -32,6 +37,16 @@ public class TachyonByteBuffer implements Closeable {
 
   private final TachyonFS mTachyonFS;
 
+  // The pool to give mPooledBuffer back to, if the data was received into a pooled buffer.
+  private final DirectBufferPool mPool;
+  private final ByteBuffer mPooledBuffer;
+
+  // The buffer whose resources this slice shares, or null if the resources are its own.
+  private final TachyonByteBuffer mParent;
+
+  // The number of open buffers sharing the resources of this buffer, including itself.
+  private final AtomicInteger mReferences = new AtomicInteger(1);
+
   private boolean mClosed = false;
 
   /**
@@ -41,14 +56,32 @@ public class TachyonByteBuffer implements Closeable {
    * @param blockLockId the id of the block's lock
    */
   TachyonByteBuffer(TachyonFS tfs, ByteBuffer buf, long blockId, int blockLockId) {
+    this(tfs, buf, blockId, blockLockId, null, null, null);
+  }
+
+  /**
+   * @param buf the ByteBuffer wrapped on
+   * @param pool the pool to give pooledBuffer back to once the buffer is closed
+   * @param pooledBuffer the buffer acquired from the pool, which buf is a view of
+   */
+  TachyonByteBuffer(ByteBuffer buf, DirectBufferPool pool, ByteBuffer pooledBuffer) {
+    this(null, buf, -1, -1, pool, pooledBuffer, null);
+  }
+
+  private TachyonByteBuffer(TachyonFS tfs, ByteBuffer buf, long blockId, int blockLockId,
+      DirectBufferPool pool, ByteBuffer pooledBuffer, TachyonByteBuffer parent) {
     mData = buf;
     mBlockId = blockId;
     mBlockLockId = blockLockId;
     mTachyonFS = tfs;
+    mPool = pool;
+    mPooledBuffer = pooledBuffer;
+    mParent = parent;
   }
 
   /**
-   * Close the TachyonByteBuffer, here it is synchronized
+   * Close the TachyonByteBuffer, here it is synchronized. The resources of the data are released
+   * once all slices of the buffer are closed too.
    * 
    * @throws IOException
    */
@@ -59,8 +92,35 @@ public class TachyonByteBuffer implements Closeable {
     }
 
     mClosed = true;
+    if (mParent != null) {
+      mParent.release();
+    } else {
+      release();
+    }
+  }
+
+  private void release() throws IOException {
+    if (mReferences.decrementAndGet() > 0) {
+      return;
+    }
     if (mBlockLockId >= 0) {
       mTachyonFS.unlockBlock(mBlockId, mBlockLockId);
     }
+    if (mPool != null) {
+      mPool.release(mPooledBuffer);
+    }
+  }
+
+  /**
+   * Wraps part of the data of this buffer. The slice keeps the resources of the data until it is
+   * closed, even if this buffer is closed first.
+   * 
+   * @param data a view of part of the data of this buffer
+   * @return the slice wrapping the data
+   */
+  TachyonByteBuffer slice(ByteBuffer data) {
+    TachyonByteBuffer owner = (mParent == null) ? this : mParent;
+    owner.mReferences.incrementAndGet();
+    return new TachyonByteBuffer(null, data, -1, -1, null, null, owner);
   }
 }
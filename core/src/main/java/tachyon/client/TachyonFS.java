@@ -19,21 +19,27 @@ import java.io.File;
 import java.io.IOException;
 import java.net.InetSocketAddress;
 import java.nio.ByteBuffer;
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.google.common.collect.Lists;
 import com.google.common.io.Closer;
 
 import tachyon.Constants;
+import tachyon.ResourcePool;
 import tachyon.TachyonURI;
 import tachyon.UnderFileSystem;
 import tachyon.client.table.RawTable;
@@ -46,6 +52,7 @@ import tachyon.thrift.ClientFileInfo;
 import tachyon.thrift.ClientRawTableInfo;
 import tachyon.thrift.ClientWorkerInfo;
 import tachyon.thrift.InvalidPathException;
+import tachyon.thrift.NetAddress;
 import tachyon.util.CommonUtils;
 import tachyon.util.ThreadFactoryUtils;
 import tachyon.worker.WorkerClient;
@@ -53,6 +60,9 @@ import tachyon.worker.WorkerClient;
 /**
  * Tachyon's user client API. It contains a MasterClient and several WorkerClients depending on how
  * many workers the client program is interacting with.
+ * 
+ * A TachyonFS is thread safe and is meant to be shared. RPCs are made through pools of master and
+ * worker clients, so calls from different threads do not wait on each other.
  */
 public class TachyonFS extends AbstractTachyonFS {
 
@@ -108,32 +118,98 @@ public class TachyonFS extends AbstractTachyonFS {
     return new TachyonFS(new InetSocketAddress(masterHost, masterPort), zookeeperMode);
   }
 
+  /**
+   * Creates the clients of the local worker. Replaced for testing purposes, see
+   * {@link TachyonFS#setLocalWorkerClientFactory(LocalWorkerClientFactory)}.
+   */
+  interface LocalWorkerClientFactory {
+    WorkerClient create(MasterClient masterClient, ExecutorService executorService)
+        throws IOException;
+  }
+
+  /**
+   * A block the local worker has locked for this client, and the block lock ids holding it. The
+   * instance is its own lock; once <code>mReleased</code> is set it is no longer in
+   * <code>mLockedBlocks</code> and must not be used. A block no lock id holds stays locked on the
+   * worker as a lease, for <code>tachyon.user.block.lease.ms</code> after
+   * <code>mIdleSinceMs</code>, so that reading it again needs no call to the worker.
+   */
+  private static final class LockedBlock {
+    private final Set<Integer> mLockIds = new HashSet<Integer>(4);
+    private String mPath = null;
+    private boolean mReleased = false;
+    private long mIdleSinceMs = -1;
+  }
+
   private static final Logger LOG = LoggerFactory.getLogger(Constants.LOGGER_TYPE);
   private final long mUserQuotaUnitBytes = UserConf.get().QUOTA_UNIT_BYTES;
   private final int mUserFailedSpaceRequestLimits = UserConf.get().FAILED_SPACE_REQUEST_LIMITS;
   private final ExecutorService mExecutorService;
+  // Runs the parts of a read that go to different workers in parallel.
+  private final ExecutorService mRemoteReadExecutor =
+      Executors.newCachedThreadPool(ThreadFactoryUtils.daemon("client-remote-read-%d"));
 
-  // The RPC client talks to the system master.
+  // The RPC client talks to the system master. Its user id identifies this client to the workers.
+  // It is shared with mMasterClientPool.
   private final MasterClient mMasterClient;
+  // The RPC clients used for calls to the master.
+  private final ResourcePool<MasterClient> mMasterClientPool;
   // The Master address.
   private final InetSocketAddress mMasterAddress;
-  // The RPC client talks to the local worker if there is one.
-  private final WorkerClient mWorkerClient;
+  // The RPC clients talk to the local worker if there is one.
+  private final ResourcePool<WorkerClient> mWorkerClientPool;
+  // The RPC clients of the workers that remote block writes go to, by the workers' RPC address.
+  private final ConcurrentHashMap<InetSocketAddress, ResourcePool<WorkerClient>>
+      mRemoteWorkerClientPools =
+      new ConcurrentHashMap<InetSocketAddress, ResourcePool<WorkerClient>>();
   private final Closer mCloser = Closer.create();
   // Whether use ZooKeeper or not
   private final boolean mZookeeperMode;
-  // Cached ClientFileInfo
-  private final Map<String, ClientFileInfo> mPathToClientFileInfo =
-      new HashMap<String, ClientFileInfo>();
-  private final Map<Integer, ClientFileInfo> mIdToClientFileInfo =
-      new HashMap<Integer, ClientFileInfo>();
-
-  private UnderFileSystem mUnderFileSystem;
+  // Cached ClientFileInfo and ClientBlockInfo
+  private final ClientMetadataCache mMetadataCache = new ClientMetadataCache(
+      UserConf.get().METADATA_CACHE_SIZE, UserConf.get().METADATA_CACHE_TTL_MS);
+  // Connections to the workers' data servers, kept open between remote reads.
+  private final DataServerConnectionPool mDataServerConnections;
+  // Direct buffers that remote reads receive chunks of blocks into.
+  private final DirectBufferPool mDirectBuffers = new DirectBufferPool(
+      UserConf.get().REMOTE_READ_BUFFER_SIZE_BYTE, UserConf.get().REMOTE_READ_BUFFER_POOL_SIZE);
+  // Direct buffers that block out streams stage their writes to local block files in.
+  private final DirectBufferPool mWriteBuffers = new DirectBufferPool(
+      UserConf.get().FILE_BUFFER_BYTES, UserConf.get().FILE_BUFFER_POOL_SIZE);
+  // Reads chunks of remote blocks ahead of sequential readers.
+  private final ReadAheadEngine mReadAheadEngine;
+  // Picks the worker each remote read goes to.
+  private final ReplicaSelector mReplicaSelector = new ReplicaSelector(new RackResolver(
+      UserConf.get().NETWORK_TOPOLOGY_FILE, UserConf.get().NETWORK_TOPOLOGY_SCRIPT),
+      UserConf.get().REMOTE_READ_BLACKLIST_MS);
+  // How long the local worker keeps a block locked for this client after its last reader is done.
+  private final long mBlockLeaseMs = UserConf.get().BLOCK_LEASE_MS;
+  // Sends block accesses and unlocks to the local worker and releases block leases in the
+  // background.
+  private final ScheduledExecutorService mWorkerControlExecutor =
+      Executors.newSingleThreadScheduledExecutor(ThreadFactoryUtils.daemon("client-control-%d"));
+  // Coalesces the block accesses and unlocks sent to the local worker.
+  private final WorkerControlBatcher mWorkerControlBatcher;
+  // Whether the client acts as if there were no local worker, see disableLocalWorker()
+  private volatile boolean mLocalWorkerDisabled = false;
+  // Creates the clients of mWorkerClientPool, see setLocalWorkerClientFactory()
+  private volatile LocalWorkerClientFactory mLocalWorkerClientFactory =
+      new LocalWorkerClientFactory() {
+        @Override
+        public WorkerClient create(MasterClient masterClient, ExecutorService executorService)
+            throws IOException {
+          return new WorkerClient(masterClient, executorService);
+        }
+      };
+  // Chunks of remote blocks kept for repeated reads, or null if the cache is disabled.
+  private final RemoteChunkCache mRemoteChunkCache = UserConf.get().REMOTE_CHUNK_CACHE_BYTES > 0
+      ? new RemoteChunkCache(UserConf.get().REMOTE_CHUNK_CACHE_BYTES) : null;
+
+  private volatile UnderFileSystem mUnderFileSystem;
 
   // All Blocks has been locked.
-  private final Map<Long, Set<Integer>> mLockedBlockIds = new HashMap<Long, Set<Integer>>();
-  // Mapping from block id to path of the block locked
-  private final Map<Long, String> mLockedBlockIdToPath = new HashMap<Long, String>();
+  private final ConcurrentHashMap<Long, LockedBlock> mLockedBlocks =
+      new ConcurrentHashMap<Long, LockedBlock>();
 
   // Each user facing block has a unique block lock id.
   private final AtomicInteger mBlockLockId = new AtomicInteger(0);
@@ -149,12 +225,43 @@ public class TachyonFS extends AbstractTachyonFS {
     mMasterAddress = masterAddress;
     mZookeeperMode = zookeeperMode;
 
+    // Every pooled client runs its own heartbeat thread.
     mExecutorService =
-        Executors.newFixedThreadPool(2, ThreadFactoryUtils.daemon("client-heartbeat-%d"));
-
-    mMasterClient =
-        mCloser.register(new MasterClient(mMasterAddress, mZookeeperMode, mExecutorService));
-    mWorkerClient = mCloser.register(new WorkerClient(mMasterClient, mExecutorService));
+        Executors.newCachedThreadPool(ThreadFactoryUtils.daemon("client-heartbeat-%d"));
+
+    // The primary MasterClient is also the first pooled one, so a single threaded user keeps a
+    // single connection to the master. The pool closes it.
+    mMasterClient = new MasterClient(mMasterAddress, mZookeeperMode, mExecutorService);
+    mMasterClientPool =
+        mCloser.register(new ResourcePool<MasterClient>(UserConf.get().MASTER_CLIENT_POOL_SIZE,
+            Lists.newArrayList(mMasterClient)) {
+          @Override
+          protected MasterClient createNewResource() {
+            return new MasterClient(mMasterAddress, mZookeeperMode, mExecutorService);
+          }
+        });
+    mWorkerClientPool =
+        mCloser.register(new ResourcePool<WorkerClient>(UserConf.get().WORKER_CLIENT_POOL_SIZE) {
+          @Override
+          protected WorkerClient createNewResource() throws IOException {
+            return mLocalWorkerClientFactory.create(mMasterClient, mExecutorService);
+          }
+        });
+    mDataServerConnections = mCloser.register(new DataServerConnectionPool(
+        UserConf.get().REMOTE_READ_CONNECTIONS_PER_WORKER));
+    mReadAheadEngine = mCloser.register(new ReadAheadEngine(UserConf.get().READ_AHEAD_THREADS,
+        UserConf.get().READ_AHEAD_MAX_BUFFERS));
+
+    mWorkerControlBatcher = new WorkerControlBatcher(mWorkerClientPool, mWorkerControlExecutor,
+        UserConf.get().WORKER_CONTROL_BATCH_SIZE, UserConf.get().WORKER_CONTROL_FLUSH_MS);
+    if (mBlockLeaseMs > 0) {
+      mWorkerControlExecutor.scheduleWithFixedDelay(new Runnable() {
+        @Override
+        public void run() {
+          releaseBlockLeases(false);
+        }
+      }, mBlockLeaseMs, mBlockLeaseMs, TimeUnit.MILLISECONDS);
+    }
 
     String scheme = mZookeeperMode ? Constants.SCHEME_FT : Constants.SCHEME;
     String authority = mMasterAddress.getHostName() + ":" + mMasterAddress.getPort();
@@ -162,15 +269,13 @@ public class TachyonFS extends AbstractTachyonFS {
   }
 
   /**
-   * Update the latest block access time on the worker.
+   * Update the latest block access time on the worker. The accesses are reported in the
+   * background, many blocks in one call.
    * 
    * @param blockId the local block's id
-   * @throws IOException
    */
-  synchronized void accessLocalBlock(long blockId) throws IOException {
-    if (mWorkerClient.isLocal()) {
-      mWorkerClient.accessBlock(blockId);
-    }
+  void accessLocalBlock(long blockId) {
+    mWorkerControlBatcher.access(blockId);
   }
 
   /**
@@ -179,8 +284,29 @@ public class TachyonFS extends AbstractTachyonFS {
    * @param fid the file id
    * @throws IOException
    */
-  synchronized void addCheckpoint(int fid) throws IOException {
-    mWorkerClient.addCheckpoint(fid);
+  void addCheckpoint(int fid) throws IOException {
+    WorkerClient workerClient = mWorkerClientPool.acquire();
+    try {
+      workerClient.addCheckpoint(fid);
+    } finally {
+      mWorkerClientPool.release(workerClient);
+      mMetadataCache.invalidateFile(fid);
+    }
+  }
+
+  /**
+   * Notify the local worker to cache the block in the background
+   * 
+   * @param blockId the block id
+   * @throws IOException
+   */
+  void asyncCacheBlock(long blockId) throws IOException {
+    WorkerClient workerClient = mWorkerClientPool.acquire();
+    try {
+      workerClient.asyncCacheBlock(blockId);
+    } finally {
+      mWorkerClientPool.release(workerClient);
+    }
   }
 
   /**
@@ -190,8 +316,68 @@ public class TachyonFS extends AbstractTachyonFS {
    * @return true if succeed, false otherwise
    * @throws IOException
    */
-  synchronized boolean asyncCheckpoint(int fid) throws IOException {
-    return mWorkerClient.asyncCheckpoint(fid);
+  boolean asyncCheckpoint(int fid) throws IOException {
+    WorkerClient workerClient = mWorkerClientPool.acquire();
+    try {
+      return workerClient.asyncCheckpoint(fid);
+    } finally {
+      mWorkerClientPool.release(workerClient);
+    }
+  }
+
+  /**
+   * Has the worker write a complete file to the under file system in the background. When the
+   * files the worker is already writing leave no room for this one, this waits until they do, so
+   * the data written behind stays bounded.
+   * 
+   * @param fid the file id
+   * @throws IOException
+   */
+  void asyncPersistFile(int fid) throws IOException {
+    while (true) {
+      WorkerClient workerClient = mWorkerClientPool.acquire();
+      try {
+        if (workerClient.asyncPersistFile(fid)) {
+          return;
+        }
+      } finally {
+        mWorkerClientPool.release(workerClient);
+      }
+      CommonUtils.sleepMs(LOG, UserConf.get().FILE_WRITE_BEHIND_POLL_MS);
+    }
+  }
+
+  /**
+   * Waits until the file is checkpointed in the under file system. This is the durability barrier
+   * for files written with <code>tachyon.user.file.write.behind</code> on, whose writers return
+   * before the data reaches the under file system.
+   * 
+   * @param fid the file id
+   * @param timeoutMs how long to wait at most, in milliseconds
+   * @return true if the file is checkpointed, false if it still is not after the timeout
+   * @throws IOException if the file does not exist, or the worker gave up writing it behind
+   */
+  public boolean awaitCheckpoint(int fid, long timeoutMs) throws IOException {
+    long deadlineMs = System.currentTimeMillis() + timeoutMs;
+    while (true) {
+      ClientFileInfo info = getFileStatus(fid, "", false);
+      if (info == null) {
+        throw new IOException("File " + fid + " does not exist");
+      } else if (!info.getUfsPath().isEmpty()) {
+        return true;
+      } else if (System.currentTimeMillis() >= deadlineMs) {
+        return false;
+      }
+      if (hasLocalWorker()) {
+        WorkerClient workerClient = mWorkerClientPool.acquire();
+        try {
+          workerClient.checkPersistFile(fid);
+        } finally {
+          mWorkerClientPool.release(workerClient);
+        }
+      }
+      CommonUtils.sleepMs(LOG, UserConf.get().FILE_WRITE_BEHIND_POLL_MS);
+    }
   }
 
   /**
@@ -200,8 +386,14 @@ public class TachyonFS extends AbstractTachyonFS {
    * @param blockId the block id
    * @throws IOException
    */
-  public synchronized void cacheBlock(long blockId) throws IOException {
-    mWorkerClient.cacheBlock(blockId);
+  public void cacheBlock(long blockId) throws IOException {
+    WorkerClient workerClient = mWorkerClientPool.acquire();
+    try {
+      workerClient.cacheBlock(blockId);
+    } finally {
+      mWorkerClientPool.release(workerClient);
+      mMetadataCache.invalidateBlock(blockId);
+    }
   }
 
   /**
@@ -210,8 +402,14 @@ public class TachyonFS extends AbstractTachyonFS {
    * @param blockId the block id
    * @throws IOException
    */
-  public synchronized void cancelBlock(long blockId) throws IOException {
-    mWorkerClient.cancelBlock(blockId);
+  public void cancelBlock(long blockId) throws IOException {
+    WorkerClient workerClient = mWorkerClientPool.acquire();
+    try {
+      workerClient.cancelBlock(blockId);
+    } finally {
+      mWorkerClientPool.release(workerClient);
+      mMetadataCache.invalidateBlock(blockId);
+    }
   }
 
   /**
@@ -220,11 +418,22 @@ public class TachyonFS extends AbstractTachyonFS {
    * @throws IOException
    */
   @Override
-  public synchronized void close() throws IOException {
+  public void close() throws IOException {
+    mWorkerControlExecutor.shutdown();
     try {
-      mCloser.close();
+      try {
+        releaseBlockLeases(true);
+        mWorkerControlBatcher.flush();
+      } finally {
+        for (ResourcePool<WorkerClient> pool : mRemoteWorkerClientPools.values()) {
+          mCloser.register(pool);
+        }
+        mRemoteWorkerClientPools.clear();
+        mCloser.close();
+      }
     } finally {
       mExecutorService.shutdown();
+      mRemoteReadExecutor.shutdown();
     }
   }
 
@@ -234,8 +443,14 @@ public class TachyonFS extends AbstractTachyonFS {
    * @param fid the file id
    * @throws IOException
    */
-  synchronized void completeFile(int fid) throws IOException {
-    mMasterClient.user_completeFile(fid);
+  void completeFile(int fid) throws IOException {
+    MasterClient masterClient = mMasterClientPool.acquire();
+    try {
+      masterClient.user_completeFile(fid);
+    } finally {
+      mMasterClientPool.release(masterClient);
+      mMetadataCache.invalidateFile(fid);
+    }
   }
 
   /**
@@ -245,17 +460,26 @@ public class TachyonFS extends AbstractTachyonFS {
    * @return the UnderFileSystem temporary folder
    * @throws IOException
    */
-  synchronized String createAndGetUserUfsTempFolder(Object ufsConf) throws IOException {
-    String tmpFolder = mWorkerClient.getUserUfsTempFolder();
+  String createAndGetUserUfsTempFolder(Object ufsConf) throws IOException {
+    String tmpFolder;
+    WorkerClient workerClient = mWorkerClientPool.acquire();
+    try {
+      tmpFolder = workerClient.getUserUfsTempFolder();
+    } finally {
+      mWorkerClientPool.release(workerClient);
+    }
     if (tmpFolder == null) {
       return null;
     }
 
-    if (mUnderFileSystem == null) {
-      mUnderFileSystem = UnderFileSystem.get(tmpFolder, ufsConf);
+    // Concurrent callers may each create an UnderFileSystem here; any one of them will do.
+    UnderFileSystem ufs = mUnderFileSystem;
+    if (ufs == null) {
+      ufs = UnderFileSystem.get(tmpFolder, ufsConf);
+      mUnderFileSystem = ufs;
     }
 
-    mUnderFileSystem.mkdirs(tmpFolder, true);
+    ufs.mkdirs(tmpFolder, true);
 
     return tmpFolder;
   }
@@ -275,11 +499,16 @@ public class TachyonFS extends AbstractTachyonFS {
    * @return the dependency's id
    * @throws IOException
    */
-  public synchronized int createDependency(List<String> parents, List<String> children,
+  public int createDependency(List<String> parents, List<String> children,
       String commandPrefix, List<ByteBuffer> data, String comment, String framework,
       String frameworkVersion, int dependencyType, long childrenBlockSizeByte) throws IOException {
-    return mMasterClient.user_createDependency(parents, children, commandPrefix, data, comment,
-        framework, frameworkVersion, dependencyType, childrenBlockSizeByte);
+    MasterClient masterClient = mMasterClientPool.acquire();
+    try {
+      return masterClient.user_createDependency(parents, children, commandPrefix, data,
+          comment, framework, frameworkVersion, dependencyType, childrenBlockSizeByte);
+    } finally {
+      mMasterClientPool.release(masterClient);
+    }
   }
 
   /**
@@ -293,11 +522,17 @@ public class TachyonFS extends AbstractTachyonFS {
    * @return The file id, which is globally unique.
    */
   @Override
-  public synchronized int createFile(TachyonURI path, TachyonURI ufsPath, long blockSizeByte,
+  public int createFile(TachyonURI path, TachyonURI ufsPath, long blockSizeByte,
       boolean recursive) throws IOException {
     validateUri(path);
-    return mMasterClient.user_createFile(path.getPath(), ufsPath.toString(), blockSizeByte,
-        recursive);
+    MasterClient masterClient = mMasterClientPool.acquire();
+    try {
+      return masterClient.user_createFile(path.getPath(), ufsPath.toString(), blockSizeByte,
+          recursive);
+    } finally {
+      mMasterClientPool.release(masterClient);
+      mMetadataCache.invalidateNewPath(path.getPath());
+    }
   }
 
   /**
@@ -309,7 +544,7 @@ public class TachyonFS extends AbstractTachyonFS {
    * @throws IOException If file already exists, or path is invalid.
    */
   @Deprecated
-  public synchronized int createFile(String path) throws IOException {
+  public int createFile(String path) throws IOException {
     return createFile(new TachyonURI(path));
   }
 
@@ -321,7 +556,7 @@ public class TachyonFS extends AbstractTachyonFS {
    * @return the id if succeed, -1 otherwise
    * @throws IOException
    */
-  public synchronized int createRawTable(TachyonURI path, int columns) throws IOException {
+  public int createRawTable(TachyonURI path, int columns) throws IOException {
     return createRawTable(path, columns, ByteBuffer.allocate(0));
   }
 
@@ -334,7 +569,7 @@ public class TachyonFS extends AbstractTachyonFS {
    * @return the id if succeed, -1 otherwise
    * @throws IOException
    */
-  public synchronized int createRawTable(TachyonURI path, int columns, ByteBuffer metadata)
+  public int createRawTable(TachyonURI path, int columns, ByteBuffer metadata)
       throws IOException {
     validateUri(path);
     if (columns < 1 || columns > CommonConf.get().MAX_COLUMNS) {
@@ -342,7 +577,12 @@ public class TachyonFS extends AbstractTachyonFS {
           + CommonConf.get().MAX_COLUMNS);
     }
 
-    return mMasterClient.user_createRawTable(path.getPath(), columns, metadata);
+    MasterClient masterClient = mMasterClientPool.acquire();
+    try {
+      return masterClient.user_createRawTable(path.getPath(), columns, metadata);
+    } finally {
+      mMasterClientPool.release(masterClient);
+    }
   }
 
   /**
@@ -357,10 +597,16 @@ public class TachyonFS extends AbstractTachyonFS {
    * @throws IOException
    */
   @Override
-  public synchronized boolean delete(int fileId, TachyonURI path, boolean recursive)
+  public boolean delete(int fileId, TachyonURI path, boolean recursive)
       throws IOException {
     validateUri(path);
-    return mMasterClient.user_delete(fileId, path.getPath(), recursive);
+    MasterClient masterClient = mMasterClientPool.acquire();
+    try {
+      return masterClient.user_delete(fileId, path.getPath(), recursive);
+    } finally {
+      mMasterClientPool.release(masterClient);
+      invalidate(fileId, path);
+    }
   }
 
   /**
@@ -373,7 +619,7 @@ public class TachyonFS extends AbstractTachyonFS {
    * @throws IOException
    */
   @Deprecated
-  public synchronized boolean delete(String path, boolean recursive) throws IOException {
+  public boolean delete(String path, boolean recursive) throws IOException {
     return delete(new TachyonURI(path), recursive);
   }
 
@@ -384,7 +630,7 @@ public class TachyonFS extends AbstractTachyonFS {
    * @return true if it exists, false otherwise
    * @throws IOException
    */
-  public synchronized boolean exist(TachyonURI path) throws IOException {
+  public boolean exist(TachyonURI path) throws IOException {
     return getFileStatus(-1, path, false) != null;
   }
 
@@ -397,7 +643,7 @@ public class TachyonFS extends AbstractTachyonFS {
    * @return the block id if exists
    * @throws IOException if the file does not exist, or connection issue.
    */
-  public synchronized long getBlockId(int fileId, int blockIndex) throws IOException {
+  public long getBlockId(int fileId, int blockIndex) throws IOException {
     ClientFileInfo info = getFileStatus(fileId, true);
 
     if (info == null) {
@@ -408,13 +654,18 @@ public class TachyonFS extends AbstractTachyonFS {
       return info.blockIds.get(blockIndex);
     }
 
-    return mMasterClient.user_getBlockId(fileId, blockIndex);
+    MasterClient masterClient = mMasterClientPool.acquire();
+    try {
+      return masterClient.user_getBlockId(fileId, blockIndex);
+    } finally {
+      mMasterClientPool.release(masterClient);
+    }
   }
 
   /**
    * @return a new block lock id
    */
-  synchronized int getBlockLockId() {
+  int getBlockLockId() {
     return mBlockLockId.getAndIncrement();
   }
 
@@ -425,8 +676,34 @@ public class TachyonFS extends AbstractTachyonFS {
    * @return the ClientBlockInfo of the specified block
    * @throws IOException
    */
-  synchronized ClientBlockInfo getClientBlockInfo(long blockId) throws IOException {
-    return mMasterClient.user_getClientBlockInfo(blockId);
+  ClientBlockInfo getClientBlockInfo(long blockId) throws IOException {
+    ClientBlockInfo info = mMetadataCache.getBlockInfo(blockId);
+    if (info != null) {
+      return info;
+    }
+
+    MasterClient masterClient = mMasterClientPool.acquire();
+    try {
+      info = masterClient.user_getClientBlockInfo(blockId);
+    } finally {
+      mMasterClientPool.release(masterClient);
+    }
+    mMetadataCache.putBlockInfo(info);
+    return info;
+  }
+
+  /**
+   * @return the connections to the workers' data servers
+   */
+  DataServerConnectionPool getDataServerConnectionPool() {
+    return mDataServerConnections;
+  }
+
+  /**
+   * @return the direct buffers remote reads receive chunks of blocks into
+   */
+  DirectBufferPool getDirectBufferPool() {
+    return mDirectBuffers;
   }
 
   /**
@@ -436,8 +713,13 @@ public class TachyonFS extends AbstractTachyonFS {
    * @return the ClientDependencyInfo of the specified dependency
    * @throws IOException
    */
-  public synchronized ClientDependencyInfo getClientDependencyInfo(int depId) throws IOException {
-    return mMasterClient.getClientDependencyInfo(depId);
+  public ClientDependencyInfo getClientDependencyInfo(int depId) throws IOException {
+    MasterClient masterClient = mMasterClientPool.acquire();
+    try {
+      return masterClient.getClientDependencyInfo(depId);
+    } finally {
+      mMasterClientPool.release(masterClient);
+    }
   }
 
   /**
@@ -450,7 +732,7 @@ public class TachyonFS extends AbstractTachyonFS {
    * @param fid file id.
    * @return TachyonFile of the file id, or null if the file does not exist.
    */
-  public synchronized TachyonFile getFile(int fid) throws IOException {
+  public TachyonFile getFile(int fid) throws IOException {
     return getFile(fid, true);
   }
 
@@ -460,7 +742,7 @@ public class TachyonFS extends AbstractTachyonFS {
    * 
    * @return TachyonFile of the file id, or null if the file does not exist.
    */
-  public synchronized TachyonFile getFile(int fid, boolean useCachedMetadata) throws IOException {
+  public TachyonFile getFile(int fid, boolean useCachedMetadata) throws IOException {
     ClientFileInfo clientFileInfo = getFileStatus(fid, TachyonURI.EMPTY_URI, useCachedMetadata);
     if (clientFileInfo == null) {
       return null;
@@ -475,7 +757,7 @@ public class TachyonFS extends AbstractTachyonFS {
    * @return TachyonFile of the path, or null if the file does not exist.
    * @throws IOException
    */
-  public synchronized TachyonFile getFile(TachyonURI path) throws IOException {
+  public TachyonFile getFile(TachyonURI path) throws IOException {
     validateUri(path);
     return getFile(path, false);
   }
@@ -488,7 +770,7 @@ public class TachyonFS extends AbstractTachyonFS {
    * @throws IOException
    */
   @Deprecated
-  public synchronized TachyonFile getFile(String path) throws IOException {
+  public TachyonFile getFile(String path) throws IOException {
     return getFile(new TachyonURI(path));
   }
 
@@ -497,7 +779,7 @@ public class TachyonFS extends AbstractTachyonFS {
    * to the file's pin setting, or other dynamic properties.
    */
   @Deprecated
-  public synchronized TachyonFile getFile(String path, boolean useCachedMetadata)
+  public TachyonFile getFile(String path, boolean useCachedMetadata)
       throws IOException {
     return getFile(new TachyonURI(path), useCachedMetadata);
   }
@@ -506,7 +788,7 @@ public class TachyonFS extends AbstractTachyonFS {
    * Get <code>TachyonFile</code> based on the path. If useCachedMetadata, this will not see changes
    * to the file's pin setting, or other dynamic properties.
    */
-  public synchronized TachyonFile getFile(TachyonURI path, boolean useCachedMetadata)
+  public TachyonFile getFile(TachyonURI path, boolean useCachedMetadata)
       throws IOException {
     validateUri(path);
     ClientFileInfo clientFileInfo = getFileStatus(-1, path, useCachedMetadata);
@@ -523,9 +805,14 @@ public class TachyonFS extends AbstractTachyonFS {
    * @return the list of the blocks' info
    * @throws IOException
    */
-  public synchronized List<ClientBlockInfo> getFileBlocks(int fid) throws IOException {
+  public List<ClientBlockInfo> getFileBlocks(int fid) throws IOException {
     // TODO Should read from mClientFileInfos if possible. Should add timeout to improve this.
-    return mMasterClient.user_getFileBlocks(fid, "");
+    MasterClient masterClient = mMasterClientPool.acquire();
+    try {
+      return masterClient.user_getFileBlocks(fid, "");
+    } finally {
+      mMasterClientPool.release(masterClient);
+    }
   }
 
   /**
@@ -534,7 +821,7 @@ public class TachyonFS extends AbstractTachyonFS {
    * @param path the path in Tachyon file system
    * @return the file id if exists, -1 otherwise
    */
-  public synchronized int getFileId(TachyonURI path) {
+  public int getFileId(TachyonURI path) {
     try {
       ClientFileInfo fileInfo = getFileStatus(-1, path, false);
       return fileInfo == null ? -1 : fileInfo.getId();
@@ -546,35 +833,39 @@ public class TachyonFS extends AbstractTachyonFS {
   /**
    * Gets file status.
    * 
-   * @param cache ClientFileInfo cache.
-   * @param key the key in the cache.
    * @param fileId the id of the queried file. If it is -1, uses path.
    * @param path the path of the queried file. If fielId is not -1, this parameter is ignored.
    * @param useCachedMetaData whether to use the cached data or not.
    * @return the clientFileInfo.
    * @throws IOException
    */
-  private synchronized <K> ClientFileInfo getFileStatus(Map<K, ClientFileInfo> cache, K key,
-      int fileId, String path, boolean useCachedMetaData) throws IOException {
+  private ClientFileInfo getFileStatus(int fileId, String path,
+      boolean useCachedMetaData) throws IOException {
     ClientFileInfo info = null;
     if (useCachedMetaData) {
-      info = cache.get(key);
+      info =
+          fileId != -1 ? mMetadataCache.getFileInfo(fileId) : mMetadataCache.getFileInfo(path);
       if (info != null) {
         return info;
       }
     }
 
-    info = mMasterClient.getFileStatus(fileId, path);
-    fileId = info.getId();
-    if (fileId == -1) {
-      cache.remove(key);
-      return null;
+    MasterClient masterClient = mMasterClientPool.acquire();
+    try {
+      info = masterClient.getFileStatus(fileId, path);
+    } finally {
+      mMasterClientPool.release(masterClient);
     }
-    path = info.getPath();
 
-    // TODO: LRU
-    mIdToClientFileInfo.put(fileId, info);
-    mPathToClientFileInfo.put(path, info);
+    if (info.getId() == -1) {
+      if (fileId != -1) {
+        mMetadataCache.invalidateFile(fileId);
+      } else {
+        mMetadataCache.invalidateEntry(path);
+      }
+      return null;
+    }
+    mMetadataCache.putFileInfo(info);
 
     return info;
   }
@@ -590,15 +881,13 @@ public class TachyonFS extends AbstractTachyonFS {
    * @return the ClientFileInfo of the file. null if the file does not exist.
    * @throws IOException
    */
-  public synchronized ClientFileInfo getFileStatus(int fileId, TachyonURI path,
+  public ClientFileInfo getFileStatus(int fileId, TachyonURI path,
       boolean useCachedMetadata) throws IOException {
     if (fileId != -1) {
-      return getFileStatus(mIdToClientFileInfo, Integer.valueOf(fileId), fileId,
-          TachyonURI.EMPTY_URI.getPath(), useCachedMetadata);
+      return getFileStatus(fileId, TachyonURI.EMPTY_URI.getPath(), useCachedMetadata);
     } else {
       validateUri(path);
-      String p = path.getPath();
-      return getFileStatus(mPathToClientFileInfo, p, fileId, p, useCachedMetadata);
+      return getFileStatus(fileId, path.getPath(), useCachedMetadata);
     }
   }
 
@@ -615,11 +904,25 @@ public class TachyonFS extends AbstractTachyonFS {
    * @return the ClientFileInfo of the file. null if the file does not exist.
    * @throws IOException
    */
-  public synchronized ClientFileInfo getFileStatus(int fileId, boolean useCachedMetadata)
+  public ClientFileInfo getFileStatus(int fileId, boolean useCachedMetadata)
       throws IOException {
     return getFileStatus(fileId, TachyonURI.EMPTY_URI, useCachedMetadata);
   }
 
+  /**
+   * @return the number of metadata lookups answered from the client's cache
+   */
+  public long getMetadataCacheHitCount() {
+    return mMetadataCache.getHitCount();
+  }
+
+  /**
+   * @return the number of metadata lookups that were not in the client's cache
+   */
+  public long getMetadataCacheMissCount() {
+    return mMetadataCache.getMissCount();
+  }
+
   /**
    * Get block's temporary path from worker with initial space allocated.
    * 
@@ -628,9 +931,17 @@ public class TachyonFS extends AbstractTachyonFS {
    * @return the temporary path of the block file
    * @throws IOException
    */
-  public synchronized String getLocalBlockTemporaryPath(long blockId, long initialBytes)
+  public String getLocalBlockTemporaryPath(long blockId, long initialBytes)
       throws IOException {
-    String blockPath = mWorkerClient.requestBlockLocation(blockId, initialBytes);
+    // Unlock the blocks this client is done with first, so the worker can evict them for space.
+    mWorkerControlBatcher.flush();
+    String blockPath;
+    WorkerClient workerClient = mWorkerClientPool.acquire();
+    try {
+      blockPath = workerClient.requestBlockLocation(blockId, initialBytes);
+    } finally {
+      mWorkerClientPool.release(workerClient);
+    }
 
     File localTempFolder;
     try {
@@ -651,6 +962,83 @@ public class TachyonFS extends AbstractTachyonFS {
     return blockPath;
   }
 
+  /**
+   * @return the pool that runs the parts of a read that go to different workers in parallel
+   */
+  ExecutorService getRemoteReadExecutor() {
+    return mRemoteReadExecutor;
+  }
+
+  /**
+   * @return the engine reading chunks of remote blocks ahead of sequential readers
+   */
+  ReadAheadEngine getReadAheadEngine() {
+    return mReadAheadEngine;
+  }
+
+  /**
+   * Gets the pool of RPC clients of the given worker, creating it on first use. The clients are
+   * kept between the remote block writes to the worker, and closed when this client is closed.
+   * 
+   * @param worker the address of the worker
+   * @return the pool of clients of the worker
+   */
+  ResourcePool<WorkerClient> getRemoteWorkerClientPool(final NetAddress worker) {
+    InetSocketAddress address = new InetSocketAddress(worker.mHost, worker.mPort);
+    ResourcePool<WorkerClient> pool = mRemoteWorkerClientPools.get(address);
+    if (pool == null) {
+      pool = new ResourcePool<WorkerClient>(UserConf.get().WORKER_CLIENT_POOL_SIZE) {
+        @Override
+        protected WorkerClient createNewResource() throws IOException {
+          return new WorkerClient(mMasterClient, worker, mExecutorService);
+        }
+      };
+      ResourcePool<WorkerClient> existingPool = mRemoteWorkerClientPools.putIfAbsent(address, pool);
+      if (existingPool != null) {
+        pool = existingPool;
+      }
+    }
+    return pool;
+  }
+
+  /**
+   * @return the policy picking the worker each remote read goes to
+   */
+  ReplicaSelector getReplicaSelector() {
+    return mReplicaSelector;
+  }
+
+  /**
+   * @return the cache of chunks of remote blocks, or null if it is disabled
+   */
+  RemoteChunkCache getRemoteChunkCache() {
+    return mRemoteChunkCache;
+  }
+
+  /**
+   * @return the number of remote chunk reads answered from the client's chunk cache, or 0 if the
+   *         cache is disabled
+   */
+  public long getRemoteChunkCacheHitCount() {
+    return (mRemoteChunkCache == null) ? 0 : mRemoteChunkCache.getHitCount();
+  }
+
+  /**
+   * @return the number of remote chunk reads that were not in the client's chunk cache, or 0 if
+   *         the cache is disabled
+   */
+  public long getRemoteChunkCacheMissCount() {
+    return (mRemoteChunkCache == null) ? 0 : mRemoteChunkCache.getMissCount();
+  }
+
+  /**
+   * @return the number of chunks the client's chunk cache dropped to make room for others, or 0
+   *         if the cache is disabled
+   */
+  public long getRemoteChunkCacheEvictionCount() {
+    return (mRemoteChunkCache == null) ? 0 : mRemoteChunkCache.getEvictionCount();
+  }
+
   /**
    * Get the RawTable by id
    * 
@@ -658,8 +1046,14 @@ public class TachyonFS extends AbstractTachyonFS {
    * @return the RawTable
    * @throws IOException
    */
-  public synchronized RawTable getRawTable(int id) throws IOException {
-    ClientRawTableInfo clientRawTableInfo = mMasterClient.user_getClientRawTableInfo(id, "");
+  public RawTable getRawTable(int id) throws IOException {
+    ClientRawTableInfo clientRawTableInfo;
+    MasterClient masterClient = mMasterClientPool.acquire();
+    try {
+      clientRawTableInfo = masterClient.user_getClientRawTableInfo(id, "");
+    } finally {
+      mMasterClientPool.release(masterClient);
+    }
     return new RawTable(this, clientRawTableInfo);
   }
 
@@ -670,10 +1064,15 @@ public class TachyonFS extends AbstractTachyonFS {
    * @return the RawTable
    * @throws IOException
    */
-  public synchronized RawTable getRawTable(TachyonURI path) throws IOException {
+  public RawTable getRawTable(TachyonURI path) throws IOException {
     validateUri(path);
-    ClientRawTableInfo clientRawTableInfo =
-        mMasterClient.user_getClientRawTableInfo(-1, path.getPath());
+    ClientRawTableInfo clientRawTableInfo;
+    MasterClient masterClient = mMasterClientPool.acquire();
+    try {
+      clientRawTableInfo = masterClient.user_getClientRawTableInfo(-1, path.getPath());
+    } finally {
+      mMasterClientPool.release(masterClient);
+    }
     return new RawTable(this, clientRawTableInfo);
   }
 
@@ -681,48 +1080,87 @@ public class TachyonFS extends AbstractTachyonFS {
    * @return the address of the UnderFileSystem
    * @throws IOException
    */
-  public synchronized String getUfsAddress() throws IOException {
-    return mMasterClient.user_getUfsAddress();
+  public String getUfsAddress() throws IOException {
+    MasterClient masterClient = mMasterClientPool.acquire();
+    try {
+      return masterClient.user_getUfsAddress();
+    } finally {
+      mMasterClientPool.release(masterClient);
+    }
   }
 
   /**
    * @return URI of the root of the filesystem
    */
   @Override
-  public synchronized TachyonURI getUri() {
+  public TachyonURI getUri() {
     return mRootUri;
   }
 
   /**
-   * Returns the userId of the master client. This is only used for testing.
+   * Returns the userId of the master client, which identifies this client to the workers.
    * 
    * @return the userId of the master client
    * @throws IOException
    */
   long getUserId() throws IOException {
-    return mMasterClient.getUserId();
+    return mMasterClient.getCurrentUserId();
+  }
+
+  /**
+   * @return the file and block metadata this client cached
+   */
+  ClientMetadataCache getMetadataCache() {
+    return mMetadataCache;
   }
 
   /**
    * @return all the works' info
    * @throws IOException
    */
-  public synchronized List<ClientWorkerInfo> getWorkersInfo() throws IOException {
-    return mMasterClient.getWorkersInfo();
+  public List<ClientWorkerInfo> getWorkersInfo() throws IOException {
+    MasterClient masterClient = mMasterClientPool.acquire();
+    try {
+      return masterClient.getWorkersInfo();
+    } finally {
+      mMasterClientPool.release(masterClient);
+    }
+  }
+  /**
+   * @return the direct buffers block out streams stage their writes in
+   */
+  DirectBufferPool getWriteBufferPool() {
+    return mWriteBuffers;
+  }
+
+  /**
+   * Makes this client act as if there were no local worker, so that it streams the blocks it
+   * writes to the data server of a worker. Used for testing purposes.
+   */
+  void disableLocalWorker() {
+    mLocalWorkerDisabled = true;
   }
 
   /**
    * @return true if there is a local worker, false otherwise
    * @throws IOException
    */
-  public synchronized boolean hasLocalWorker() throws IOException {
-    return mWorkerClient.isLocal();
+  public boolean hasLocalWorker() throws IOException {
+    if (mLocalWorkerDisabled) {
+      return false;
+    }
+    WorkerClient workerClient = mWorkerClientPool.acquire();
+    try {
+      return workerClient.isLocal();
+    } finally {
+      mWorkerClientPool.release(workerClient);
+    }
   }
 
   /**
    * @return true if this client is connected to master, false otherwise
    */
-  public synchronized boolean isConnected() {
+  public boolean isConnected() {
     return mMasterClient.isConnected();
   }
 
@@ -730,8 +1168,41 @@ public class TachyonFS extends AbstractTachyonFS {
    * @param fid the file id
    * @return true if the file is a directory, false otherwise
    */
-  synchronized boolean isDirectory(int fid) {
-    return mIdToClientFileInfo.get(fid).isFolder;
+  boolean isDirectory(int fid) throws IOException {
+    return getFileStatus(fid, true).isFolder;
+  }
+
+  /**
+   * Drops the cached metadata of the file or folder, and of everything under a folder path. The
+   * cached paths are only scanned for a folder, or for a path not known to be a file.
+   * 
+   * @param fileId the file id. If it is -1, uses path.
+   * @param path the path of the file or folder. Valid iff fileId is -1.
+   */
+  private void invalidate(int fileId, TachyonURI path) {
+    if (fileId != -1) {
+      ClientFileInfo info = mMetadataCache.getFileInfo(fileId);
+      mMetadataCache.invalidateFile(fileId);
+      if (info != null && info.isFolder) {
+        mMetadataCache.invalidatePath(info.getPath());
+      }
+    } else {
+      ClientFileInfo info = mMetadataCache.getFileInfo(path.getPath());
+      if (info != null && !info.isFolder) {
+        mMetadataCache.invalidateEntry(path.getPath());
+      } else {
+        mMetadataCache.invalidatePath(path.getPath());
+      }
+    }
+  }
+
+  /**
+   * Drops the cached ClientBlockInfo of the block, so that the next lookup goes to the master.
+   * 
+   * @param blockId the id of the block
+   */
+  void invalidateClientBlockInfo(long blockId) {
+    mMetadataCache.invalidateBlock(blockId);
   }
 
   /**
@@ -743,9 +1214,14 @@ public class TachyonFS extends AbstractTachyonFS {
    * @throws IOException
    */
   @Override
-  public synchronized List<ClientFileInfo> listStatus(TachyonURI path) throws IOException {
+  public List<ClientFileInfo> listStatus(TachyonURI path) throws IOException {
     validateUri(path);
-    return mMasterClient.listStatus(path.getPath());
+    MasterClient masterClient = mMasterClientPool.acquire();
+    try {
+      return masterClient.listStatus(path.getPath());
+    } finally {
+      mMasterClientPool.release(masterClient);
+    }
   }
 
   /**
@@ -757,29 +1233,138 @@ public class TachyonFS extends AbstractTachyonFS {
    * @return the path of the block file locked
    * @throws IOException
    */
-  synchronized String lockBlock(long blockId, int blockLockId) throws IOException {
+  String lockBlock(long blockId, int blockLockId) throws IOException {
     if (blockId <= 0 || blockLockId < 0) {
       return null;
     }
 
-    if (mLockedBlockIds.containsKey(blockId)) {
-      mLockedBlockIds.get(blockId).add(blockLockId);
-      return mLockedBlockIdToPath.get(blockId);
+    while (true) {
+      LockedBlock lockedBlock = mLockedBlocks.get(blockId);
+      if (lockedBlock == null) {
+        lockedBlock = new LockedBlock();
+        LockedBlock existing = mLockedBlocks.putIfAbsent(blockId, lockedBlock);
+        if (existing != null) {
+          lockedBlock = existing;
+        }
+      }
+
+      synchronized (lockedBlock) {
+        if (lockedBlock.mReleased) {
+          // Unlocked by another thread after we looked it up; start over.
+          continue;
+        }
+        if (lockedBlock.mPath == null) {
+          try {
+            lockedBlock.mPath = lockBlockOnWorker(blockId);
+          } finally {
+            if (lockedBlock.mPath == null) {
+              // The worker did not lock the block, so the entry must not be handed out.
+              lockedBlock.mReleased = true;
+              mLockedBlocks.remove(blockId, lockedBlock);
+            }
+          }
+          if (lockedBlock.mPath == null) {
+            return null;
+          }
+        }
+        lockedBlock.mLockIds.add(blockLockId);
+        lockedBlock.mIdleSinceMs = -1;
+        return lockedBlock.mPath;
+      }
     }
+  }
 
-    if (!mWorkerClient.isLocal()) {
-      return null;
+  /**
+   * Lock a block on the local worker.
+   * 
+   * @param blockId The id of the block to lock
+   * @return the path of the block file locked, or null if there is no local worker or no such block
+   * @throws IOException
+   */
+  private String lockBlockOnWorker(long blockId) throws IOException {
+    mWorkerControlBatcher.awaitUnlocks(Collections.singletonList(blockId));
+    WorkerClient workerClient = mWorkerClientPool.acquire();
+    try {
+      if (!workerClient.isLocal()) {
+        return null;
+      }
+      return workerClient.lockBlock(blockId);
+    } finally {
+      mWorkerClientPool.release(workerClient);
     }
-    String blockPath = mWorkerClient.lockBlock(blockId);
+  }
 
-    if (blockPath != null) {
-      Set<Integer> lockIds = new HashSet<Integer>(4);
-      lockIds.add(blockLockId);
-      mLockedBlockIds.put(blockId, lockIds);
-      mLockedBlockIdToPath.put(blockId, blockPath);
-      return blockPath;
+  /**
+   * Locks the blocks the local worker has and this client has not locked yet, in one call, and
+   * keeps them as leases. A block read within the lease time is then locked without a call to the
+   * worker. Does nothing unless <code>tachyon.user.block.lease.ms</code> is positive.
+   * 
+   * @param blockIds the ids of the blocks, the block about to be read first
+   * @return true if the first block is locked for this client, false if the local worker does not
+   *         have it
+   * @throws IOException
+   */
+  boolean leaseBlocks(List<Long> blockIds) throws IOException {
+    if (mBlockLeaseMs <= 0 || blockIds.isEmpty()) {
+      return true;
+    }
+    // Each block gets its lease entry before the worker is asked, so that no other thread leases
+    // or unlocks the block between the wait for its pending unlocks and its lock. An unlock sent
+    // after the lock would otherwise release the lease on the worker.
+    List<Long> toLease = new ArrayList<Long>(blockIds.size());
+    List<LockedBlock> leases = new ArrayList<LockedBlock>(blockIds.size());
+    for (long blockId : blockIds) {
+      if (blockId > 0 && !mLockedBlocks.containsKey(blockId)) {
+        LockedBlock lease = new LockedBlock();
+        if (mLockedBlocks.putIfAbsent(blockId, lease) == null) {
+          toLease.add(blockId);
+          leases.add(lease);
+        }
+      }
     }
-    return null;
+    if (toLease.isEmpty()) {
+      return true;
+    }
+
+    Map<Long, String> paths = null;
+    try {
+      mWorkerControlBatcher.awaitUnlocks(toLease);
+      WorkerClient workerClient = mWorkerClientPool.acquire();
+      try {
+        if (workerClient.isLocal()) {
+          paths = workerClient.lockBlocks(toLease);
+        }
+      } finally {
+        mWorkerClientPool.release(workerClient);
+      }
+    } finally {
+      long now = System.currentTimeMillis();
+      for (int k = 0; k < toLease.size(); k ++) {
+        long blockId = toLease.get(k);
+        LockedBlock lease = leases.get(k);
+        String path = paths == null ? null : paths.get(blockId);
+        synchronized (lease) {
+          if (lease.mReleased) {
+            // A reader failed to lock the block meanwhile, and dropped the entry
+            if (path != null) {
+              mWorkerControlBatcher.unlock(blockId);
+            }
+            continue;
+          }
+          if (lease.mPath == null) {
+            // Unless a reader locked the block meanwhile, which holds the same worker lock
+            lease.mPath = path;
+          }
+          if (lease.mPath == null) {
+            lease.mReleased = true;
+            mLockedBlocks.remove(blockId, lease);
+          } else if (lease.mLockIds.isEmpty()) {
+            lease.mIdleSinceMs = now;
+          }
+        }
+      }
+    }
+    return paths != null && mLockedBlocks.containsKey(blockIds.get(0));
   }
 
   /**
@@ -791,13 +1376,19 @@ public class TachyonFS extends AbstractTachyonFS {
    * @throws IOException
    */
   @Override
-  public synchronized boolean mkdirs(TachyonURI path, boolean recursive) throws IOException {
+  public boolean mkdirs(TachyonURI path, boolean recursive) throws IOException {
     validateUri(path);
-    return mMasterClient.user_mkdirs(path.getPath(), recursive);
+    MasterClient masterClient = mMasterClientPool.acquire();
+    try {
+      return masterClient.user_mkdirs(path.getPath(), recursive);
+    } finally {
+      mMasterClientPool.release(masterClient);
+      mMetadataCache.invalidateNewPath(path.getPath());
+    }
   }
 
   /** Alias for setPinned(fid, true). */
-  public synchronized void pinFile(int fid) throws IOException {
+  public void pinFile(int fid) throws IOException {
     setPinned(fid, true);
   }
 
@@ -813,10 +1404,16 @@ public class TachyonFS extends AbstractTachyonFS {
    * @throws IOException
    */
   @Override
-  public synchronized boolean freepath(int fileId, TachyonURI path, boolean recursive)
+  public boolean freepath(int fileId, TachyonURI path, boolean recursive)
       throws IOException {
     validateUri(path);
-    return mMasterClient.user_freepath(fileId, path.getPath(), recursive);
+    MasterClient masterClient = mMasterClientPool.acquire();
+    try {
+      return masterClient.user_freepath(fileId, path.getPath(), recursive);
+    } finally {
+      mMasterClientPool.release(masterClient);
+      invalidate(fileId, path);
+    }
   }
 
   /**
@@ -826,11 +1423,16 @@ public class TachyonFS extends AbstractTachyonFS {
    * @return true if success, false otherwise
    * @throws IOException
    */
-  public synchronized boolean promoteBlock(long blockId) throws IOException {
-    if (mWorkerClient.isLocal()) {
-      return mWorkerClient.promoteBlock(blockId);
+  public boolean promoteBlock(long blockId) throws IOException {
+    WorkerClient workerClient = mWorkerClientPool.acquire();
+    try {
+      if (workerClient.isLocal()) {
+        return workerClient.promoteBlock(blockId);
+      }
+      return false;
+    } finally {
+      mWorkerClientPool.release(workerClient);
     }
-    return false;
   }
 
   /**
@@ -844,11 +1446,19 @@ public class TachyonFS extends AbstractTachyonFS {
    * @throws IOException
    */
   @Override
-  public synchronized boolean rename(int fileId, TachyonURI srcPath, TachyonURI dstPath)
+  public boolean rename(int fileId, TachyonURI srcPath, TachyonURI dstPath)
       throws IOException {
     validateUri(srcPath);
     validateUri(dstPath);
-    return mMasterClient.user_rename(fileId, srcPath.getPath(), dstPath.getPath());
+    // The source path must be looked up before the rename moves its cached entry.
+    invalidate(fileId, srcPath);
+    MasterClient masterClient = mMasterClientPool.acquire();
+    try {
+      return masterClient.user_rename(fileId, srcPath.getPath(), dstPath.getPath());
+    } finally {
+      mMasterClientPool.release(masterClient);
+      mMetadataCache.invalidateNewPath(dstPath.getPath());
+    }
   }
 
   /**
@@ -857,8 +1467,14 @@ public class TachyonFS extends AbstractTachyonFS {
    * @param fileId the lost file id
    * @throws IOException
    */
-  public synchronized void reportLostFile(int fileId) throws IOException {
-    mMasterClient.user_reportLostFile(fileId);
+  public void reportLostFile(int fileId) throws IOException {
+    MasterClient masterClient = mMasterClientPool.acquire();
+    try {
+      masterClient.user_reportLostFile(fileId);
+    } finally {
+      mMasterClientPool.release(masterClient);
+      mMetadataCache.invalidateFile(fileId);
+    }
   }
 
   /**
@@ -867,8 +1483,13 @@ public class TachyonFS extends AbstractTachyonFS {
    * @param depId the dependency id
    * @throws IOException
    */
-  public synchronized void requestFilesInDependency(int depId) throws IOException {
-    mMasterClient.user_requestFilesInDependency(depId);
+  public void requestFilesInDependency(int depId) throws IOException {
+    MasterClient masterClient = mMasterClientPool.acquire();
+    try {
+      masterClient.user_requestFilesInDependency(depId);
+    } finally {
+      mMasterClientPool.release(masterClient);
+    }
   }
 
   /**
@@ -879,21 +1500,38 @@ public class TachyonFS extends AbstractTachyonFS {
    * @return the size bytes that allocated to the block, -1 if no local worker exists
    * @throws IOException
    */
-  public synchronized long requestSpace(long blockId, long requestSpaceBytes)
+  public long requestSpace(long blockId, long requestSpaceBytes)
       throws IOException {
     if (!hasLocalWorker()) {
       return -1;
     }
 
+    // Unlock the blocks this client is done with first, so the worker can evict them for space.
+    mWorkerControlBatcher.flush();
     long toRequestSpaceBytes = Math.max(requestSpaceBytes, mUserQuotaUnitBytes);
-    for (int attempt = 0; attempt < mUserFailedSpaceRequestLimits; attempt ++) {
-      if (mWorkerClient.requestSpace(blockId, toRequestSpaceBytes)) {
-        return toRequestSpaceBytes;
+    WorkerClient workerClient = mWorkerClientPool.acquire();
+    try {
+      for (int attempt = 0; attempt < mUserFailedSpaceRequestLimits; attempt ++) {
+        if (workerClient.requestSpace(blockId, toRequestSpaceBytes)) {
+          return toRequestSpaceBytes;
+        }
       }
+    } finally {
+      mWorkerClientPool.release(workerClient);
     }
     return 0;
   }
 
+  /**
+   * Makes this client create its clients of the local worker with the given factory. Used for
+   * testing purposes, before the client calls the local worker.
+   * 
+   * @param factory the factory of the clients of the local worker
+   */
+  void setLocalWorkerClientFactory(LocalWorkerClientFactory factory) {
+    mLocalWorkerClientFactory = factory;
+  }
+
   /**
    * Sets the "pinned" flag for the given file. Pinned files are never evicted by Tachyon until they
    * are unpinned.
@@ -901,8 +1539,14 @@ public class TachyonFS extends AbstractTachyonFS {
    * Calling setPinned() on a folder will recursively set the "pinned" flag on all of that folder's
    * children. This may be an expensive operation for folders with many files/subfolders.
    */
-  public synchronized void setPinned(int fid, boolean pinned) throws IOException {
-    mMasterClient.user_setPinned(fid, pinned);
+  public void setPinned(int fid, boolean pinned) throws IOException {
+    MasterClient masterClient = mMasterClientPool.acquire();
+    try {
+      masterClient.user_setPinned(fid, pinned);
+    } finally {
+      mMasterClientPool.release(masterClient);
+      invalidate(fid, TachyonURI.EMPTY_URI);
+    }
   }
 
   /**
@@ -916,37 +1560,65 @@ public class TachyonFS extends AbstractTachyonFS {
   }
 
   /**
-   * Unlock a block in the current TachyonFS.
+   * Unlock a block in the current TachyonFS. Once no block lock id holds the block, the local
+   * worker is told in the background, with other block unlocks and accesses.
    * 
    * @param blockId The id of the block to unlock. <code>blockId</code> must be positive.
    * @param blockLockId The block lock id of the block of unlock. <code>blockLockId</code> must be
    *        non-negative.
    */
-  synchronized boolean unlockBlock(long blockId, int blockLockId) throws IOException {
+  boolean unlockBlock(long blockId, int blockLockId) throws IOException {
     if (blockId <= 0 || blockLockId < 0) {
       return false;
     }
 
-    if (!mLockedBlockIds.containsKey(blockId)) {
+    LockedBlock lockedBlock = mLockedBlocks.get(blockId);
+    if (lockedBlock == null) {
       return true;
     }
-    Set<Integer> lockIds = mLockedBlockIds.get(blockId);
-    lockIds.remove(blockLockId);
-    if (!lockIds.isEmpty()) {
+    synchronized (lockedBlock) {
+      if (lockedBlock.mReleased || lockedBlock.mPath == null) {
+        return true;
+      }
+      lockedBlock.mLockIds.remove(blockLockId);
+      if (!lockedBlock.mLockIds.isEmpty()) {
+        return true;
+      } else if (mBlockLeaseMs > 0) {
+        // Keep the block locked on the worker until the lease expires
+        lockedBlock.mIdleSinceMs = System.currentTimeMillis();
+        return true;
+      }
+
+      lockedBlock.mReleased = true;
+      mLockedBlocks.remove(blockId, lockedBlock);
+      mWorkerControlBatcher.unlock(blockId);
       return true;
     }
+  }
 
-    if (!mWorkerClient.isLocal()) {
-      return false;
+  /**
+   * Unlocks the leased blocks no lock id has held for the lease time. The unlocks are sent with the
+   * next flush of the worker control messages.
+   * 
+   * @param all true to unlock all leased blocks no lock id holds, however recently they were used
+   */
+  private void releaseBlockLeases(boolean all) {
+    long now = System.currentTimeMillis();
+    for (Map.Entry<Long, LockedBlock> entry : mLockedBlocks.entrySet()) {
+      LockedBlock lockedBlock = entry.getValue();
+      synchronized (lockedBlock) {
+        if (!lockedBlock.mReleased && lockedBlock.mIdleSinceMs >= 0
+            && (all || now - lockedBlock.mIdleSinceMs >= mBlockLeaseMs)) {
+          lockedBlock.mReleased = true;
+          mLockedBlocks.remove(entry.getKey(), lockedBlock);
+          mWorkerControlBatcher.unlock(entry.getKey());
+        }
+      }
     }
-
-    mLockedBlockIdToPath.remove(blockId);
-    mLockedBlockIds.remove(blockId);
-    return mWorkerClient.unlockBlock(blockId);
   }
 
   /** Alias for setPinned(fid, false). */
-  public synchronized void unpinFile(int fid) throws IOException {
+  public void unpinFile(int fid) throws IOException {
     setPinned(fid, false);
   }
 
@@ -957,8 +1629,13 @@ public class TachyonFS extends AbstractTachyonFS {
    * @param metadata the new meta data
    * @throws IOException
    */
-  public synchronized void updateRawTableMetadata(int id, ByteBuffer metadata) throws IOException {
-    mMasterClient.user_updateRawTableMetadata(id, metadata);
+  public void updateRawTableMetadata(int id, ByteBuffer metadata) throws IOException {
+    MasterClient masterClient = mMasterClientPool.acquire();
+    try {
+      masterClient.user_updateRawTableMetadata(id, metadata);
+    } finally {
+      mMasterClientPool.release(masterClient);
+    }
   }
 
   /**
@@ -42,6 +42,10 @@ import tachyon.thrift.NetAddress;
  */
 public class TachyonFile implements Comparable<TachyonFile> {
   private static final Logger LOG = LoggerFactory.getLogger(Constants.LOGGER_TYPE);
+  /**
+   * The maximum number of tries to read a remote block, refreshing the block info between tries.
+   */
+  private static final int MAX_REMOTE_READ_ATTEMPTS = 2;
 
   final TachyonFS mTachyonFS;
   final int mFileId;
@@ -123,7 +127,7 @@ public class TachyonFile implements Comparable<TachyonFile> {
    * @return the ClientBlockInfo of the specified block
    * @throws IOException
    */
-  public synchronized ClientBlockInfo getClientBlockInfo(int blockIndex) throws IOException {
+  public ClientBlockInfo getClientBlockInfo(int blockIndex) throws IOException {
     return mTachyonFS.getClientBlockInfo(getBlockId(blockIndex));
   }
 
@@ -142,6 +146,17 @@ public class TachyonFile implements Comparable<TachyonFile> {
     return 3;
   }
 
+  /**
+   * @param blockIndex the index of the block about to be read
+   * @return the ids of the block and of the blocks after it to lease from the local worker in one
+   *         call
+   */
+  private List<Long> getLeaseBlockIds(int blockIndex) throws IOException {
+    List<Long> blockIds = getCachedFileStatus().getBlockIds();
+    return blockIds.subList(Math.min(blockIndex, blockIds.size()),
+        Math.min(blockIndex + mUserConf.BLOCK_LEASE_BATCH, blockIds.size()));
+  }
+
   /**
    * Return the InStream of this file, use the specified read type. If it has no block, return an
    * EmptyBlockInStream. Else if it has only one block ,return a BlockInStream of the block. Else,
@@ -171,6 +186,24 @@ public class TachyonFile implements Comparable<TachyonFile> {
     return new FileInStream(this, readType, mUFSConf);
   }
 
+  /**
+   * Return an InStream that reads the blocks of this file from their workers in parallel, ahead of
+   * the reader. Up to <code>parallelism</code> stripes of
+   * <code>tachyon.user.parallel.read.stripe.bytes</code> bytes are read at once and handed to the
+   * reader in file order. The stream does not cache the blocks locally.
+   * 
+   * @param parallelism the maximum number of stripes read at once
+   * @return the InStream
+   * @throws IOException if the file is not complete
+   */
+  public InStream getParallelInStream(int parallelism) throws IOException {
+    if (!isComplete()) {
+      throw new IOException("The file " + this + " is not complete.");
+    }
+    return new ParallelFileInStream(this, mTachyonFS.getRemoteReadExecutor(), parallelism,
+        mUserConf.PARALLEL_READ_STRIPE_BYTES);
+  }
+
   /**
    * Returns the local filename for the block if that file exists on the local file system. This is
    * an alpha power-api feature for applications that want short-circuit-read files directly. There
@@ -334,6 +367,94 @@ public class TachyonFile implements Comparable<TachyonFile> {
     return getUnCachedFileStatus().isPinned;
   }
 
+  /**
+   * Reads up to <code>dst.remaining()</code> bytes of the file, starting at the given position,
+   * into <code>dst</code>. Each block is read from a local worker if it has the block, else from a
+   * remote worker with a ranged request, else from the under file system. No stream is opened, so
+   * any number of threads may read the file at once.
+   * 
+   * @param pos the position in the file to read from
+   * @param dst the buffer to read into, from its position on
+   * @return the number of bytes read, or -1 if pos is at or past the end of the file
+   * @throws IOException if the file is not complete or the data can not be read
+   */
+  public int positionedRead(long pos, ByteBuffer dst) throws IOException {
+    if (pos < 0) {
+      throw new IOException("Position can not be negative: " + pos);
+    }
+    ClientFileInfo info = getCachedFileStatus();
+    if (!info.isComplete) {
+      info = getUnCachedFileStatus();
+      if (!info.isComplete) {
+        throw new IOException("The file " + this + " is not complete.");
+      }
+    }
+    if (pos >= info.getLength()) {
+      return -1;
+    }
+
+    int read = 0;
+    while (dst.hasRemaining() && pos < info.getLength()) {
+      int blockIndex = (int) (pos / info.getBlockSizeByte());
+      int bytes = positionedRead(blockIndex, pos % info.getBlockSizeByte(), dst);
+      if (bytes <= 0) {
+        break;
+      }
+      pos += bytes;
+      read += bytes;
+    }
+    return read;
+  }
+
+  /**
+   * Reads up to <code>dst.remaining()</code> bytes of one block, starting at the given position in
+   * the block, into <code>dst</code>.
+   * 
+   * @param blockIndex the index of the block in the file
+   * @param blockPos the position in the block to read from
+   * @param dst the buffer to read into, from its position on
+   * @return the number of bytes read, or -1 if blockPos is at or past the end of the block
+   * @throws IOException if the data can not be read
+   */
+  int positionedRead(int blockIndex, long blockPos, ByteBuffer dst) throws IOException {
+    if (blockPos < 0) {
+      throw new IOException("Position can not be negative: " + blockPos);
+    }
+    ClientBlockInfo blockInfo = getClientBlockInfo(blockIndex);
+    if (blockPos >= blockInfo.length) {
+      return -1;
+    }
+    int len = (int) Math.min(dst.remaining(), blockInfo.length - blockPos);
+    if (len == 0) {
+      return 0;
+    }
+
+    TachyonByteBuffer local = readLocalByteBuffer(blockIndex, blockPos, len);
+    if (local != null) {
+      try {
+        dst.put(local.mData);
+      } finally {
+        local.close();
+      }
+      return len;
+    }
+
+    for (int k = 0; k < MAX_REMOTE_READ_ATTEMPTS; k ++) {
+      ByteBuffer remote =
+          RemoteBlockInStream.readRemoteByteBuffer(mTachyonFS, blockInfo, blockPos, len);
+      if (remote != null) {
+        dst.put(remote);
+        return len;
+      }
+      // The read failed, refresh the block info and try again
+      mTachyonFS.invalidateClientBlockInfo(blockInfo.blockId);
+      blockInfo = getClientBlockInfo(blockIndex);
+    }
+
+    readFromUnderFs(blockInfo, blockPos, len, dst);
+    return len;
+  }
+
   /**
    * Promote block back to top layer after access
    * 
@@ -401,6 +522,10 @@ public class TachyonFile implements Comparable<TachyonFile> {
     ClientBlockInfo info = getClientBlockInfo(blockIndex);
     long blockId = info.blockId;
 
+    if (mUserConf.BLOCK_LEASE_MS > 0 && !mTachyonFS.leaseBlocks(getLeaseBlockIds(blockIndex))) {
+      // The local worker just said it does not have the block
+      return null;
+    }
     int blockLockId = mTachyonFS.getBlockLockId();
     String localFileName = mTachyonFS.lockBlock(blockId, blockLockId);
 
@@ -444,6 +569,51 @@ public class TachyonFile implements Comparable<TachyonFile> {
     return null;
   }
 
+  /**
+   * Reads a range of a block from the checkpoint of the file in the under file system.
+   * 
+   * @param blockInfo the block info of the block
+   * @param blockPos the position in the block to read from
+   * @param len the number of bytes to read
+   * @param dst the buffer to read into, with at least len bytes remaining
+   * @throws IOException if the file has no checkpoint or the checkpoint can not be read
+   */
+  private void readFromUnderFs(ClientBlockInfo blockInfo, long blockPos, int len, ByteBuffer dst)
+      throws IOException {
+    String checkpointPath = getUfsPath();
+    if (checkpointPath.isEmpty()) {
+      throw new IOException("Failed to read block " + blockInfo.blockId + " at position "
+          + blockPos + " from workers, and the file has no checkpoint");
+    }
+    Closer closer = Closer.create();
+    try {
+      UnderFileSystem underfsClient = UnderFileSystem.get(checkpointPath, mUFSConf);
+      InputStream in = closer.register(underfsClient.open(checkpointPath));
+      long toSkip = blockInfo.offset + blockPos;
+      while (toSkip > 0) {
+        long skipped = in.skip(toSkip);
+        if (skipped <= 0) {
+          throw new IOException("Failed to skip to the position " + (blockInfo.offset + blockPos)
+              + " in the checkpoint " + checkpointPath);
+        }
+        toSkip -= skipped;
+      }
+      byte[] buf = new byte[len];
+      int off = 0;
+      while (off < len) {
+        int readBytes = in.read(buf, off, len - off);
+        if (readBytes < 0) {
+          throw new IOException("The checkpoint " + checkpointPath + " ended before the end of "
+              + "block " + blockInfo.blockId);
+        }
+        off += readBytes;
+      }
+      dst.put(buf);
+    } finally {
+      closer.close();
+    }
+  }
+
   /**
    * Get the the whole block from remote workers.
    * 
@@ -543,6 +713,22 @@ public class TachyonFile implements Comparable<TachyonFile> {
     mUFSConf = conf;
   }
 
+  /**
+   * Reads many ranges of the file at once. Nearby ranges of a block are fetched together, the
+   * ranges of all blocks on one remote worker are requested at once, and the local blocks and the
+   * workers are read in parallel. Any number of threads may call this method at once.
+   * 
+   * @param offsets the offset in the file of each range
+   * @param dsts the buffer to fill for each range, from its position to its limit. The position of
+   *        each buffer is moved to its limit.
+   * @throws IOException if the file is not complete, a range goes past the end of the file, or the
+   *         data can not be read
+   */
+  public void vectoredRead(long[] offsets, ByteBuffer[] dsts) throws IOException {
+    new VectoredRead(this, mTachyonFS.getRemoteReadExecutor(),
+        mUserConf.VECTORED_READ_COALESCE_BYTES).read(offsets, dsts);
+  }
+
   @Override
   public String toString() {
     try {
@@ -0,0 +1,356 @@
+/*
+ * Licensed to the University of California, Berkeley under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package tachyon.client;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import tachyon.Constants;
+import tachyon.thrift.ClientBlockInfo;
+import tachyon.thrift.ClientFileInfo;
+import tachyon.thrift.NetAddress;
+import tachyon.util.NetworkUtils;
+import tachyon.worker.nio.DataServerMessage;
+
+/**
+ * Reads many ranges of one file at once, for
+ * {@link TachyonFile#vectoredRead(long[], ByteBuffer[])}.
+ * 
+ * The ranges are split at block boundaries, and the ranges of a block less than
+ * <code>coalesceBytes</code> apart are fetched as one. A block the local worker has is copied from
+ * its mapping. The fetches of the blocks of each remote worker go out as one multi-range request.
+ * A block no worker has in memory, or a fetch a worker fails to serve, is read like
+ * {@link TachyonFile#positionedRead(long, ByteBuffer)}. The local blocks and the workers are read
+ * in parallel.
+ */
+final class VectoredRead {
+  private static final Logger LOG = LoggerFactory.getLogger(Constants.LOGGER_TYPE);
+
+  /**
+   * The part of one requested range that falls in one block.
+   */
+  private static final class Piece {
+    final long mOffset;
+    // A view of the caller's buffer covering exactly the piece
+    final ByteBuffer mDst;
+
+    Piece(long offset, ByteBuffer dst) {
+      mOffset = offset;
+      mDst = dst;
+    }
+
+    long getEnd() {
+      return mOffset + mDst.remaining();
+    }
+  }
+
+  /**
+   * A range of a block fetched at once, covering one or more pieces.
+   */
+  private static final class Fetch {
+    final int mBlockIndex;
+    final ClientBlockInfo mBlockInfo;
+    final long mOffset;
+    long mEnd;
+    final List<Piece> mPieces = new ArrayList<Piece>();
+
+    Fetch(int blockIndex, ClientBlockInfo blockInfo, Piece first) {
+      mBlockIndex = blockIndex;
+      mBlockInfo = blockInfo;
+      mOffset = first.mOffset;
+      mEnd = first.getEnd();
+      mPieces.add(first);
+    }
+  }
+
+  private static final Comparator<Piece> OFFSET_ORDER = new Comparator<Piece>() {
+    @Override
+    public int compare(Piece a, Piece b) {
+      return Long.valueOf(a.mOffset).compareTo(b.mOffset);
+    }
+  };
+
+  private final TachyonFile mFile;
+  private final ExecutorService mExecutor;
+  private final long mCoalesceBytes;
+
+  /**
+   * @param file the file to read
+   * @param executor the pool the local blocks and the workers are read on
+   * @param coalesceBytes the largest gap between two ranges of a block fetched as one
+   */
+  VectoredRead(TachyonFile file, ExecutorService executor, long coalesceBytes) {
+    mFile = file;
+    mExecutor = executor;
+    mCoalesceBytes = coalesceBytes;
+  }
+
+  /**
+   * Fills each buffer with the data of the file at the matching offset, and moves the position of
+   * each buffer to its limit.
+   * 
+   * @param offsets the offset in the file of each range
+   * @param dsts the buffers to fill, from their position to their limit
+   * @throws IOException if a range goes past the end of the file, or its data can not be read
+   */
+  void read(long[] offsets, ByteBuffer[] dsts) throws IOException {
+    if (offsets.length != dsts.length) {
+      throw new IllegalArgumentException("There are " + offsets.length + " offsets but "
+          + dsts.length + " buffers");
+    }
+    if (!mFile.isComplete()) {
+      throw new IOException("The file " + mFile + " is not complete.");
+    }
+    ClientFileInfo info = mFile.mTachyonFS.getFileStatus(mFile.mFileId, true);
+    long blockSize = info.getBlockSizeByte();
+
+    // Split the ranges into pieces, by block
+    Map<Integer, List<Piece>> blockPieces = new TreeMap<Integer, List<Piece>>();
+    for (int k = 0; k < offsets.length; k ++) {
+      long pos = offsets[k];
+      long end = pos + dsts[k].remaining();
+      if (pos < 0 || end > info.getLength()) {
+        throw new IOException("Range [" + pos + ", " + end + ") is out of the file "
+            + info.getPath() + " of length " + info.getLength());
+      }
+      while (pos < end) {
+        int blockIndex = (int) (pos / blockSize);
+        long blockEnd = Math.min((blockIndex + 1) * blockSize, end);
+        ByteBuffer dst = dsts[k].duplicate();
+        dst.position(dsts[k].position() + (int) (pos - offsets[k]));
+        dst.limit(dst.position() + (int) (blockEnd - pos));
+        List<Piece> pieces = blockPieces.get(blockIndex);
+        if (pieces == null) {
+          pieces = new ArrayList<Piece>();
+          blockPieces.put(blockIndex, pieces);
+        }
+        pieces.add(new Piece(pos - blockIndex * blockSize, dst));
+        pos = blockEnd;
+      }
+    }
+
+    // Coalesce the pieces of each block, and group the fetches by where they are read from
+    boolean hasLocalWorker = mFile.mTachyonFS.hasLocalWorker();
+    List<List<Fetch>> localBlocks = new ArrayList<List<Fetch>>();
+    Map<InetSocketAddress, List<Fetch>> workerFetches =
+        new HashMap<InetSocketAddress, List<Fetch>>();
+    List<Fetch> otherFetches = new ArrayList<Fetch>();
+    for (Map.Entry<Integer, List<Piece>> entry : blockPieces.entrySet()) {
+      ClientBlockInfo blockInfo = mFile.getClientBlockInfo(entry.getKey());
+      List<Fetch> fetches = coalesce(entry.getKey(), blockInfo, entry.getValue());
+      boolean local = false;
+      for (NetAddress location : blockInfo.getLocations()) {
+        if (location.mSecondaryPort != -1 && hasLocalWorker && isLocalHost(location.mHost)) {
+          local = true;
+          break;
+        }
+      }
+      List<InetSocketAddress> workers =
+          mFile.mTachyonFS.getReplicaSelector().select(blockInfo.getLocations());
+      if (local) {
+        localBlocks.add(fetches);
+      } else if (!workers.isEmpty()) {
+        InetSocketAddress worker = workers.get(0);
+        List<Fetch> forWorker = workerFetches.get(worker);
+        if (forWorker == null) {
+          forWorker = new ArrayList<Fetch>();
+          workerFetches.put(worker, forWorker);
+        }
+        forWorker.addAll(fetches);
+      } else {
+        otherFetches.addAll(fetches);
+      }
+    }
+
+    List<Future<Void>> futures = new ArrayList<Future<Void>>();
+    for (final List<Fetch> fetches : localBlocks) {
+      futures.add(mExecutor.submit(new Callable<Void>() {
+        @Override
+        public Void call() throws IOException {
+          readLocal(fetches);
+          return null;
+        }
+      }));
+    }
+    for (final Map.Entry<InetSocketAddress, List<Fetch>> entry : workerFetches.entrySet()) {
+      List<Fetch> fetches = entry.getValue();
+      for (int k = 0; k < fetches.size(); k += DataServerMessage.MAX_MULTI_REQUEST_RANGES) {
+        final List<Fetch> batch =
+            fetches.subList(k,
+                Math.min(fetches.size(), k + DataServerMessage.MAX_MULTI_REQUEST_RANGES));
+        futures.add(mExecutor.submit(new Callable<Void>() {
+          @Override
+          public Void call() throws IOException {
+            readRemote(entry.getKey(), batch);
+            return null;
+          }
+        }));
+      }
+    }
+    for (Fetch fetch : otherFetches) {
+      readPieces(fetch);
+    }
+    waitFor(futures);
+
+    for (ByteBuffer dst : dsts) {
+      dst.position(dst.limit());
+    }
+  }
+
+  private List<Fetch> coalesce(int blockIndex, ClientBlockInfo blockInfo, List<Piece> pieces) {
+    Collections.sort(pieces, OFFSET_ORDER);
+    List<Fetch> fetches = new ArrayList<Fetch>();
+    Fetch current = null;
+    for (Piece piece : pieces) {
+      if (current != null && piece.mOffset <= current.mEnd + mCoalesceBytes) {
+        current.mPieces.add(piece);
+        current.mEnd = Math.max(current.mEnd, piece.getEnd());
+      } else {
+        current = new Fetch(blockIndex, blockInfo, piece);
+        fetches.add(current);
+      }
+    }
+    return fetches;
+  }
+
+  private static boolean isLocalHost(String host) {
+    return host.equals(NetworkUtils.getLocalHostName())
+        || host.equals(NetworkUtils.getLocalIpAddress());
+  }
+
+  /**
+   * Copies the pieces of the fetches, all of one block, from the local worker's copy.
+   */
+  private void readLocal(List<Fetch> fetches) throws IOException {
+    TachyonByteBuffer block = mFile.readLocalByteBuffer(fetches.get(0).mBlockIndex);
+    if (block == null) {
+      for (Fetch fetch : fetches) {
+        readPieces(fetch);
+      }
+      return;
+    }
+    try {
+      for (Fetch fetch : fetches) {
+        for (Piece piece : fetch.mPieces) {
+          scatter(block.mData, 0, piece);
+        }
+      }
+    } finally {
+      block.close();
+    }
+  }
+
+  /**
+   * Reads each piece of the fetch on its own, from wherever the block can be read.
+   */
+  private void readPieces(Fetch fetch) throws IOException {
+    for (Piece piece : fetch.mPieces) {
+      ByteBuffer dst = piece.mDst.duplicate();
+      long pos = piece.mOffset;
+      while (dst.hasRemaining()) {
+        int read = mFile.positionedRead(fetch.mBlockIndex, pos, dst);
+        if (read <= 0) {
+          throw new IOException("Failed to read block " + fetch.mBlockInfo.blockId
+              + " at position " + pos);
+        }
+        pos += read;
+      }
+    }
+  }
+
+  /**
+   * Fetches the ranges from the worker with one multi-range request, and copies their pieces.
+   */
+  private void readRemote(InetSocketAddress worker, List<Fetch> fetches) throws IOException {
+    long[] blockIds = new long[fetches.size()];
+    long[] offsets = new long[fetches.size()];
+    long[] lengths = new long[fetches.size()];
+    for (int k = 0; k < fetches.size(); k ++) {
+      blockIds[k] = fetches.get(k).mBlockInfo.blockId;
+      offsets[k] = fetches.get(k).mOffset;
+      lengths[k] = fetches.get(k).mEnd - fetches.get(k).mOffset;
+    }
+
+    ByteBuffer[] data;
+    try {
+      data = RemoteBlockInStream.readRemoteRanges(mFile.mTachyonFS, worker, blockIds, offsets,
+          lengths);
+    } catch (IOException e) {
+      LOG.warn("Multi-range request to " + worker + " failed, reading the ranges one by one: "
+          + e.getMessage());
+      data = new ByteBuffer[fetches.size()];
+    }
+
+    for (int k = 0; k < fetches.size(); k ++) {
+      Fetch fetch = fetches.get(k);
+      if (data[k] == null || data[k].remaining() != lengths[k]) {
+        mFile.mTachyonFS.invalidateClientBlockInfo(fetch.mBlockInfo.blockId);
+        readPieces(fetch);
+        continue;
+      }
+      for (Piece piece : fetch.mPieces) {
+        scatter(data[k], fetch.mOffset, piece);
+      }
+    }
+  }
+
+  /**
+   * Copies a piece out of data that starts at the given offset of the block.
+   */
+  private static void scatter(ByteBuffer data, long dataOffset, Piece piece) {
+    ByteBuffer src = data.duplicate();
+    int start = src.position() + (int) (piece.mOffset - dataOffset);
+    src.limit(start + piece.mDst.remaining());
+    src.position(start);
+    piece.mDst.duplicate().put(src);
+  }
+
+  private static void waitFor(List<Future<Void>> futures) throws IOException {
+    IOException failure = null;
+    for (Future<Void> future : futures) {
+      try {
+        future.get();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new IOException("Interrupted while reading ranges", e);
+      } catch (ExecutionException e) {
+        if (failure == null) {
+          failure =
+              (e.getCause() instanceof IOException) ? (IOException) e.getCause()
+                  : new IOException(e.getCause());
+        }
+      }
+    }
+    if (failure != null) {
+      throw failure;
+    }
+  }
+}
@@ -0,0 +1,201 @@
+/*
+ * Licensed to the University of California, Berkeley under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package tachyon.client;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import tachyon.Constants;
+import tachyon.ResourcePool;
+import tachyon.worker.WorkerClient;
+
+/**
+ * Coalesces the control messages a TachyonFS client sends to its local worker that need no
+ * answer: block accesses and block unlocks. They are sent in the background, at most one call of
+ * each kind per flush, every <code>flushIntervalMs</code> milliseconds or as soon as
+ * <code>batchSize</code> messages are pending, whichever comes first.
+ * 
+ * A block must not be locked again while its unlock is pending, or the late unlock would release
+ * the new lock; callers wait for such unlocks with {@link #awaitUnlocks(Collection)}.
+ */
+final class WorkerControlBatcher {
+  private static final Logger LOG = LoggerFactory.getLogger(Constants.LOGGER_TYPE);
+
+  private final ResourcePool<WorkerClient> mWorkerClientPool;
+  private final ScheduledExecutorService mExecutor;
+  private final int mBatchSize;
+  private final Set<Long> mAccessedBlocks =
+      Collections.newSetFromMap(new ConcurrentHashMap<Long, Boolean>());
+  // Guarded by this
+  private final Set<Long> mUnlockedBlocks = new HashSet<Long>();
+  // The unlocks of the flush in progress, guarded by this
+  private final Set<Long> mSendingUnlocks = new HashSet<Long>();
+  // Held while a flush talks to the worker, so that flushes are sent one at a time, in order
+  private final Object mFlushLock = new Object();
+  private final AtomicInteger mPending = new AtomicInteger(0);
+  private final AtomicBoolean mFlushSubmitted = new AtomicBoolean(false);
+  private final Runnable mFlushTask = new Runnable() {
+    @Override
+    public void run() {
+      mFlushSubmitted.set(false);
+      try {
+        flush();
+      } catch (IOException e) {
+        LOG.warn("Failed to send block accesses or unlocks to the worker: " + e.getMessage());
+      }
+    }
+  };
+
+  /**
+   * @param workerClientPool the clients of the local worker
+   * @param executor the executor that runs the flushes
+   * @param batchSize the number of pending messages that triggers a flush
+   * @param flushIntervalMs the longest a message waits to be sent, in milliseconds
+   */
+  WorkerControlBatcher(ResourcePool<WorkerClient> workerClientPool,
+      ScheduledExecutorService executor, int batchSize, long flushIntervalMs) {
+    mWorkerClientPool = workerClientPool;
+    mExecutor = executor;
+    mBatchSize = batchSize;
+    mExecutor.scheduleWithFixedDelay(mFlushTask, flushIntervalMs, flushIntervalMs,
+        TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * Records an access of the local block, to update its access time on the worker.
+   */
+  void access(long blockId) {
+    if (mAccessedBlocks.add(blockId)) {
+      added();
+    }
+  }
+
+  private void added() {
+    if (mPending.incrementAndGet() >= mBatchSize && mFlushSubmitted.compareAndSet(false, true)) {
+      mExecutor.execute(mFlushTask);
+    }
+  }
+
+  /**
+   * Waits until none of the blocks has an unlock pending, by flushing the pending messages if one
+   * of them has.
+   * 
+   * @throws IOException if the flush failed
+   */
+  void awaitUnlocks(Collection<Long> blockIds) throws IOException {
+    boolean pending = false;
+    synchronized (this) {
+      for (long blockId : blockIds) {
+        if (mUnlockedBlocks.contains(blockId) || mSendingUnlocks.contains(blockId)) {
+          pending = true;
+          break;
+        }
+      }
+    }
+    if (pending) {
+      // Waits for a flush in progress, then sends what is still pending
+      flush();
+    }
+  }
+
+  /**
+   * Sends the pending messages to the local worker, and waits for the worker to receive them.
+   * Messages for a worker that is not local are dropped. Messages that fail to be sent stay
+   * pending, for the next flush to retry.
+   * 
+   * @throws IOException
+   */
+  void flush() throws IOException {
+    synchronized (mFlushLock) {
+      List<Long> accessed = new ArrayList<Long>();
+      Iterator<Long> it = mAccessedBlocks.iterator();
+      while (it.hasNext()) {
+        accessed.add(it.next());
+        it.remove();
+      }
+      List<Long> unlocked;
+      synchronized (this) {
+        unlocked = new ArrayList<Long>(mUnlockedBlocks);
+        mUnlockedBlocks.clear();
+        mSendingUnlocks.addAll(unlocked);
+      }
+      mPending.addAndGet(-accessed.size() - unlocked.size());
+      if (accessed.isEmpty() && unlocked.isEmpty()) {
+        return;
+      }
+
+      boolean unlocksSent = false;
+      boolean accessesSent = false;
+      WorkerClient workerClient = null;
+      try {
+        workerClient = mWorkerClientPool.acquire();
+        boolean isLocal = workerClient.isLocal();
+        if (isLocal && !unlocked.isEmpty()) {
+          workerClient.unlockBlocks(unlocked);
+        }
+        unlocksSent = true;
+        if (isLocal && !accessed.isEmpty()) {
+          workerClient.accessBlocks(accessed);
+        }
+        accessesSent = true;
+      } finally {
+        if (workerClient != null) {
+          mWorkerClientPool.release(workerClient);
+        }
+        synchronized (this) {
+          mSendingUnlocks.clear();
+          if (!unlocksSent) {
+            for (long blockId : unlocked) {
+              if (mUnlockedBlocks.add(blockId)) {
+                mPending.incrementAndGet();
+              }
+            }
+          }
+        }
+        if (!accessesSent) {
+          for (long blockId : accessed) {
+            if (mAccessedBlocks.add(blockId)) {
+              mPending.incrementAndGet();
+            }
+          }
+        }
+      }
+    }
+  }
+
+  /**
+   * Records that this client no longer needs the local block locked.
+   */
+  synchronized void unlock(long blockId) {
+    if (mUnlockedBlocks.add(blockId)) {
+      added();
+    }
+  }
+}
@@ -38,7 +38,12 @@ public enum WriteType {
   /**
    * Write the file asynchronously to the under fs (either must cache or must through).
    */
-  ASYNC_THROUGH(5);
+  ASYNC_THROUGH(5),
+  /**
+   * Write the file and must cache it, with each block also cached on up to
+   * <code>tachyon.user.file.cache.replication</code> - 1 other workers, no under fs.
+   */
+  CACHE_REPLICATED(6);
 
   private final int mValue;
 
@@ -63,18 +68,28 @@ public enum WriteType {
   }
 
   /**
-   * @return true if the write type is one of MUST_CACHE, CACHE_THROUGH, TRY_CACHE, or ASYNC_THROUGH
+   * @return true if the write type is one of MUST_CACHE, CACHE_THROUGH, TRY_CACHE, ASYNC_THROUGH,
+   *         or CACHE_REPLICATED
    */
   public boolean isCache() {
     return (mValue == MUST_CACHE.mValue) || (mValue == CACHE_THROUGH.mValue)
-        || (mValue == TRY_CACHE.mValue) || (mValue == ASYNC_THROUGH.mValue);
+        || (mValue == TRY_CACHE.mValue) || (mValue == ASYNC_THROUGH.mValue)
+        || (mValue == CACHE_REPLICATED.mValue);
   }
 
   /**
-   * @return true if the write type is MUST_CACHE or ASYNC_THROUGH
+   * @return true if the write type is MUST_CACHE, ASYNC_THROUGH or CACHE_REPLICATED
    */
   public boolean isMustCache() {
-    return (mValue == MUST_CACHE.mValue) || (mValue == ASYNC_THROUGH.mValue);
+    return (mValue == MUST_CACHE.mValue) || (mValue == ASYNC_THROUGH.mValue)
+        || (mValue == CACHE_REPLICATED.mValue);
+  }
+
+  /**
+   * @return true if the write type is CACHE_REPLICATED
+   */
+  public boolean isReplicated() {
+    return mValue == CACHE_REPLICATED.mValue;
   }
 
   /**
@@ -176,20 +176,31 @@ public class TFsShell implements Closeable {
   }
 
   /**
-   * Copies a file specified by argv from the filesystem to the local filesystem.
+   * Copies a file specified by argv from the filesystem to the local filesystem. With
+   * <code>-p parallelism</code>, up to that many parts of the file are read at once.
    *
    * @param argv [] Array of arguments given by the user's input from the terminal
    * @return 0 if command is successful, -1 if an error occurred.
    * @throws IOException
    */
   public int copyToLocal(String[] argv) throws IOException {
-    if (argv.length != 3) {
-      System.out.println("Usage: tfs copyToLocal <src> <localdst>");
+    int parallelism = 0;
+    if (argv.length == 5 && argv[1].equals("-p")) {
+      try {
+        parallelism = Integer.parseInt(argv[2]);
+      } catch (NumberFormatException e) {
+        parallelism = -1;
+      }
+    } else if (argv.length != 3) {
+      parallelism = -1;
+    }
+    if (parallelism < 0 || (argv.length == 5 && parallelism == 0)) {
+      System.out.println("Usage: tfs copyToLocal [-p <parallelism>] <src> <localdst>");
       return -1;
     }
 
-    TachyonURI srcPath = new TachyonURI(argv[1]);
-    String dstPath = argv[2];
+    TachyonURI srcPath = new TachyonURI(argv[argv.length - 2]);
+    String dstPath = argv[argv.length - 1];
     File dst = new File(dstPath);
     TachyonFS tachyonClient = createFS(srcPath);
     TachyonFile tFile = tachyonClient.getFile(srcPath);
@@ -201,7 +212,9 @@ public class TFsShell implements Closeable {
 
     Closer closer = Closer.create();
     try {
-      InStream is = closer.register(tFile.getInStream(ReadType.NO_CACHE));
+      InStream is =
+          closer.register(parallelism > 0 ? tFile.getParallelInStream(parallelism) : tFile
+              .getInStream(ReadType.NO_CACHE));
       FileOutputStream out = closer.register(new FileOutputStream(dst));
       byte[] buf = new byte[64 * Constants.MB];
       int t = is.read(buf);
@@ -454,7 +467,7 @@ public class TFsShell implements Closeable {
     System.out.println("       [touch <path>]");
     System.out.println("       [mv <src> <dst>]");
     System.out.println("       [copyFromLocal <src> <remoteDst>]");
-    System.out.println("       [copyToLocal <src> <localDst>]");
+    System.out.println("       [copyToLocal [-p <parallelism>] <src> <localDst>]");
     System.out.println("       [fileinfo <path>]");
     System.out.println("       [location <path>]");
     System.out.println("       [report <path>]");
@@ -58,6 +58,7 @@ public class MasterConf extends Utils {
   public final int SERVER_THREADS;
   public final int WORKER_TIMEOUT_MS;
   public final int WEB_THREAD_COUNT;
+  public final int STANDBY_TAIL_INTERVAL_MS;
   
   public final String KEYTAB_KEY;
   public final String KEYTAB;
@@ -93,6 +94,7 @@ public class MasterConf extends Utils {
             .availableProcessors());
     WORKER_TIMEOUT_MS =
         getIntProperty("tachyon.master.worker.timeout.ms", 10 * Constants.SECOND_MS);
+    STANDBY_TAIL_INTERVAL_MS = getIntProperty("tachyon.master.standby.tail.interval.ms", 100);
     
     KEYTAB_KEY = "tachyon.master.keytab.file";
     KEYTAB = getProperty(KEYTAB_KEY, null);
@@ -38,25 +38,83 @@ public class UserConf extends Utils {
 
   public final int FAILED_SPACE_REQUEST_LIMITS;
   public final long QUOTA_UNIT_BYTES;
+  public final long QUOTA_UNIT_MAX_BYTES;
   public final int FILE_BUFFER_BYTES;
+  public final int FILE_BUFFER_POOL_SIZE;
+  public final int FILE_CACHE_REPLICATION;
+  public final boolean FILE_WRITE_BEHIND;
+  public final long FILE_WRITE_BEHIND_POLL_MS;
   public final long HEARTBEAT_INTERVAL_MS;
 
   public final long DEFAULT_BLOCK_SIZE_BYTE;
 
   public final int REMOTE_READ_BUFFER_SIZE_BYTE;
+  public final int REMOTE_READ_CONNECTIONS_PER_WORKER;
+  public final int REMOTE_READ_BUFFER_POOL_SIZE;
+  public final int READ_AHEAD_MAX_DEPTH;
+  public final int READ_AHEAD_THREADS;
+  public final int READ_AHEAD_MAX_BUFFERS;
+  public final long VECTORED_READ_COALESCE_BYTES;
+  public final long REMOTE_CHUNK_CACHE_BYTES;
+  public final int PARALLEL_READ_STRIPE_BYTES;
+  public final long REMOTE_READ_BLACKLIST_MS;
+  public final String NETWORK_TOPOLOGY_FILE;
+  public final String NETWORK_TOPOLOGY_SCRIPT;
+  public final long BLOCK_LEASE_MS;
+  public final int BLOCK_LEASE_BATCH;
+  public final long WORKER_CONTROL_FLUSH_MS;
+  public final int WORKER_CONTROL_BATCH_SIZE;
+  public final boolean BACKGROUND_RECACHE;
 
   public final WriteType DEFAULT_WRITE_TYPE;
 
+  public final int METADATA_CACHE_SIZE;
+  public final long METADATA_CACHE_TTL_MS;
+
+  public final int MASTER_CLIENT_POOL_SIZE;
+  public final int WORKER_CLIENT_POOL_SIZE;
+
   private UserConf() {
     FAILED_SPACE_REQUEST_LIMITS = getIntProperty("tachyon.user.failed.space.request.limits", 3);
     QUOTA_UNIT_BYTES = getLongProperty("tachyon.user.quota.unit.bytes", 8 * Constants.MB);
+    QUOTA_UNIT_MAX_BYTES =
+        getLongProperty("tachyon.user.quota.unit.max.bytes", 128 * Constants.MB);
     FILE_BUFFER_BYTES = getIntProperty("tachyon.user.file.buffer.bytes", Constants.MB);
+    FILE_BUFFER_POOL_SIZE = getIntProperty("tachyon.user.file.buffer.pool.size", 4);
+    FILE_CACHE_REPLICATION = getIntProperty("tachyon.user.file.cache.replication", 2);
+    FILE_WRITE_BEHIND = getBooleanProperty("tachyon.user.file.write.behind", false);
+    FILE_WRITE_BEHIND_POLL_MS = getLongProperty("tachyon.user.file.write.behind.poll.ms", 100);
     HEARTBEAT_INTERVAL_MS =
         getLongProperty("tachyon.user.heartbeat.interval.ms", Constants.SECOND_MS);
     DEFAULT_BLOCK_SIZE_BYTE = getLongProperty("tachyon.user.default.block.size.byte", Constants.GB);
     REMOTE_READ_BUFFER_SIZE_BYTE =
         getIntProperty("tachyon.user.remote.read.buffer.size.byte", Constants.MB);
+    REMOTE_READ_CONNECTIONS_PER_WORKER =
+        getIntProperty("tachyon.user.remote.read.connections.per.worker", 4);
+    REMOTE_READ_BUFFER_POOL_SIZE = getIntProperty("tachyon.user.remote.read.buffer.pool.size", 16);
+    READ_AHEAD_MAX_DEPTH = getIntProperty("tachyon.user.read.ahead.max.depth", 4);
+    READ_AHEAD_THREADS = getIntProperty("tachyon.user.read.ahead.threads", 4);
+    READ_AHEAD_MAX_BUFFERS = getIntProperty("tachyon.user.read.ahead.max.buffers", 16);
+    VECTORED_READ_COALESCE_BYTES =
+        getLongProperty("tachyon.user.vectored.read.coalesce.bytes", 64 * Constants.KB);
+    REMOTE_CHUNK_CACHE_BYTES = getLongProperty("tachyon.user.remote.chunk.cache.bytes", 0);
+    PARALLEL_READ_STRIPE_BYTES =
+        getIntProperty("tachyon.user.parallel.read.stripe.bytes", 8 * Constants.MB);
+    REMOTE_READ_BLACKLIST_MS =
+        getLongProperty("tachyon.user.remote.read.blacklist.ms", 30 * Constants.SECOND_MS);
+    NETWORK_TOPOLOGY_FILE = getProperty("tachyon.user.network.topology.file", null);
+    NETWORK_TOPOLOGY_SCRIPT = getProperty("tachyon.user.network.topology.script", null);
+    BLOCK_LEASE_MS = getLongProperty("tachyon.user.block.lease.ms", 0);
+    BLOCK_LEASE_BATCH = getIntProperty("tachyon.user.block.lease.batch", 16);
+    WORKER_CONTROL_FLUSH_MS = getLongProperty("tachyon.user.worker.control.flush.ms", 10);
+    WORKER_CONTROL_BATCH_SIZE = getIntProperty("tachyon.user.worker.control.batch.size", 64);
+    BACKGROUND_RECACHE = getBooleanProperty("tachyon.user.background.recache", false);
     DEFAULT_WRITE_TYPE =
         getEnumProperty("tachyon.user.file.writetype.default", WriteType.CACHE_THROUGH);
+    METADATA_CACHE_SIZE = getIntProperty("tachyon.user.metadata.cache.size", 10000);
+    METADATA_CACHE_TTL_MS =
+        getLongProperty("tachyon.user.metadata.cache.ttl.ms", 10 * Constants.SECOND_MS);
+    MASTER_CLIENT_POOL_SIZE = getIntProperty("tachyon.user.master.client.pool.size", 8);
+    WORKER_CLIENT_POOL_SIZE = getIntProperty("tachyon.user.worker.client.pool.size", 8);
   }
 }
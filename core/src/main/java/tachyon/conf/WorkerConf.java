@@ -62,6 +62,9 @@ public class WorkerConf extends Utils {
 
   public final int WORKER_CHECKPOINT_THREADS;
   public final int WORKER_PER_THREAD_CHECKPOINT_CAP_MB_SEC;
+  public final int WORKER_RECACHE_THREADS;
+  public final int WORKER_WRITE_BEHIND_THREADS;
+  public final long WORKER_WRITE_BEHIND_MAX_BYTES;
 
   public final NetworkType NETWORK_TYPE;
   
@@ -75,12 +78,14 @@ public class WorkerConf extends Utils {
   public final int NETTY_HIGH_WATER_MARK;
   public final int NETTY_BOSS_THREADS;
   public final int NETTY_WORKER_THREADS;
+  public final int NETTY_HANDLER_THREADS;
   public final int NETTY_LOW_WATER_MARK;
   public final Optional<Integer> NETTY_BACKLOG;
   public final Optional<Integer> NETTY_SEND_BUFFER;
   public final Optional<Integer> NETTY_RECIEVE_BUFFER;
 
   public final EvictStrategyType EVICT_STRATEGY_TYPE;
+  public final long EVICT_HEADROOM_BYTES;
   public final AllocateStrategyType ALLOCATE_STRATEGY_TYPE;
 
   public final int STORAGE_LEVELS;
@@ -112,6 +117,10 @@ public class WorkerConf extends Utils {
     WORKER_CHECKPOINT_THREADS = getIntProperty("tachyon.worker.checkpoint.threads", 1);
     WORKER_PER_THREAD_CHECKPOINT_CAP_MB_SEC =
         getIntProperty("tachyon.worker.per.thread.checkpoint.cap.mb.sec", Constants.SECOND_MS);
+    WORKER_RECACHE_THREADS = getIntProperty("tachyon.worker.recache.threads", 1);
+    WORKER_WRITE_BEHIND_THREADS = getIntProperty("tachyon.worker.write.behind.threads", 1);
+    WORKER_WRITE_BEHIND_MAX_BYTES =
+        getLongProperty("tachyon.worker.write.behind.max.bytes", Constants.GB);
     
     KEYTAB_KEY = "tachyon.worker.keytab.file";
     KEYTAB = getProperty(KEYTAB_KEY, null);
@@ -121,6 +130,7 @@ public class WorkerConf extends Utils {
     NETWORK_TYPE = getEnumProperty("tachyon.worker.network.type", NetworkType.NETTY);
     NETTY_BOSS_THREADS = getIntProperty("tachyon.worker.network.netty.boss.threads", 1);
     NETTY_WORKER_THREADS = getIntProperty("tachyon.worker.network.netty.worker.threads", 0);
+    NETTY_HANDLER_THREADS = getIntProperty("tachyon.worker.network.netty.handler.threads", 0);
     NETTY_CHANNEL_TYPE =
         getEnumProperty("tachyon.worker.network.netty.channel", ChannelType.defaultType());
     NETTY_FILE_TRANSFER_TYPE =
@@ -137,6 +147,7 @@ public class WorkerConf extends Utils {
             null));
 
     EVICT_STRATEGY_TYPE = getEnumProperty("tachyon.worker.evict.strategy", EvictStrategyType.LRU);
+    EVICT_HEADROOM_BYTES = getLongProperty("tachyon.worker.evict.headroom.bytes", 0);
     ALLOCATE_STRATEGY_TYPE =
         getEnumProperty("tachyon.worker.allocate.strategy", AllocateStrategyType.MAX_FREE);
     STORAGE_LEVELS = getIntProperty("tachyon.worker.hierarchystore.level.max", 1);
@@ -0,0 +1,153 @@
+/*
+ * Licensed to the University of California, Berkeley under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package tachyon.examples;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import tachyon.Constants;
+import tachyon.Version;
+import tachyon.util.CommonUtils;
+
+/**
+ * Compares two ways of writing a block file to local storage, for a range of write sizes: mapping
+ * a new region of the file for every write and leaving the mapping to the garbage collector, as
+ * the block out stream used to, and positional channel writes from one reused direct buffer, as it
+ * does now. Point it at a folder on the storage the worker uses, e.g. its ramdisk, since that is
+ * where the difference shows. With write sizes of a few KB the mapped writes of a large block can
+ * run the process out of memory mappings before the garbage collector unmaps them.
+ */
+public class BlockWritePerformance {
+  private static final Logger LOG = LoggerFactory.getLogger(Constants.LOGGER_TYPE);
+
+  private static final int[] DEFAULT_WRITE_SIZES = {64 * Constants.KB, Constants.MB,
+      8 * Constants.MB};
+  private static final int ROUNDS = 3;
+
+  private static String sFolder = null;
+  private static int sBlockBytes = -1;
+
+  /**
+   * Writes a block file by mapping every write.
+   * 
+   * @return the time it took in nanoseconds
+   */
+  private static long writeMapped(File file, byte[] data) throws IOException {
+    long startNs = System.nanoTime();
+    RandomAccessFile localFile = new RandomAccessFile(file, "rw");
+    try {
+      FileChannel channel = localFile.getChannel();
+      for (long pos = 0; pos < sBlockBytes; pos += data.length) {
+        int length = (int) Math.min(data.length, sBlockBytes - pos);
+        MappedByteBuffer out = channel.map(MapMode.READ_WRITE, pos, length);
+        out.put(data, 0, length);
+      }
+    } finally {
+      localFile.close();
+    }
+    return System.nanoTime() - startNs;
+  }
+
+  /**
+   * Writes a block file with positional writes from the direct buffer.
+   * 
+   * @return the time it took in nanoseconds
+   */
+  private static long writeChannel(File file, byte[] data, ByteBuffer buf) throws IOException {
+    long startNs = System.nanoTime();
+    RandomAccessFile localFile = new RandomAccessFile(file, "rw");
+    try {
+      FileChannel channel = localFile.getChannel();
+      long pos = 0;
+      while (pos < sBlockBytes) {
+        int length = (int) Math.min(data.length, sBlockBytes - pos);
+        buf.clear();
+        buf.put(data, 0, length);
+        buf.flip();
+        while (buf.hasRemaining()) {
+          pos += channel.write(buf, pos);
+        }
+      }
+    } finally {
+      localFile.close();
+    }
+    return System.nanoTime() - startNs;
+  }
+
+  private static double throughputMBs(long ns) {
+    return (double) sBlockBytes / Constants.MB / (ns / 1e9);
+  }
+
+  public static void main(String[] args) throws IOException {
+    if (args.length < 1 || args[0].startsWith("-")) {
+      System.out.println("java -cp target/tachyon-" + Version.VERSION
+          + "-jar-with-dependencies.jar tachyon.examples.BlockWritePerformance "
+          + "<Folder> [BlockBytes] [WriteSize ...]");
+      System.exit(-1);
+    }
+
+    sFolder = args[0];
+    sBlockBytes = Utils.option(args, 1, 256 * Constants.MB);
+    int[] writeSizes = DEFAULT_WRITE_SIZES;
+    if (args.length > 2) {
+      writeSizes = new int[args.length - 2];
+      for (int k = 2; k < args.length; k ++) {
+        writeSizes[k - 2] = Utils.option(args, k, Constants.MB);
+      }
+    }
+
+    File file = new File(sFolder, "BlockWritePerformance_" + System.nanoTime());
+    for (int writeSize : writeSizes) {
+      byte[] data = new byte[writeSize];
+      for (int k = 0; k < writeSize; k ++) {
+        data[k] = (byte) k;
+      }
+      ByteBuffer buf = ByteBuffer.allocateDirect(writeSize);
+      // The first round warms up, the best of the others counts
+      long mappedNs = Long.MAX_VALUE;
+      long channelNs = Long.MAX_VALUE;
+      for (int round = 0; round <= ROUNDS; round ++) {
+        long ns = writeMapped(file, data);
+        if (round > 0) {
+          mappedNs = Math.min(mappedNs, ns);
+        }
+        file.delete();
+        ns = writeChannel(file, data, buf);
+        if (round > 0) {
+          channelNs = Math.min(channelNs, ns);
+        }
+        file.delete();
+      }
+      CommonUtils.cleanDirectBuffer(buf);
+
+      String result =
+          String.format("BlockWritePerformance writeSize=%d blockBytes=%d : mapped %.1f MB/s, "
+              + "channel %.1f MB/s", writeSize, sBlockBytes, throughputMBs(mappedNs),
+              throughputMBs(channelNs));
+      LOG.info(result);
+      System.out.println(result);
+    }
+    System.exit(0);
+  }
+}
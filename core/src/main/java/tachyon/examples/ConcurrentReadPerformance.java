@@ -0,0 +1,164 @@
+/*
+ * Licensed to the University of California, Berkeley under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package tachyon.examples;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import tachyon.Constants;
+import tachyon.TachyonURI;
+import tachyon.Version;
+import tachyon.client.ReadType;
+import tachyon.client.TachyonFS;
+import tachyon.client.TachyonFile;
+import tachyon.client.WriteType;
+import tachyon.util.CommonUtils;
+
+/**
+ * Measures how a single shared TachyonFS scales with the number of threads using it. The files
+ * are written once, then every thread opens each of them by path and reads it to the end, all
+ * through the same client. The run is repeated while doubling the number of threads.
+ */
+public class ConcurrentReadPerformance {
+  private static final Logger LOG = LoggerFactory.getLogger(Constants.LOGGER_TYPE);
+
+  private static final String BASE_FOLDER = "/ConcurrentReadPerformance";
+
+  private static TachyonFS sTachyonClient = null;
+  private static int sMaxThreads = -1;
+  private static int sFiles = -1;
+  private static int sFileBytes = -1;
+
+  public static class Reader extends Thread {
+    private final int mOffset;
+    private IOException mException = null;
+
+    public Reader(int offset) {
+      mOffset = offset;
+    }
+
+    public IOException getException() {
+      return mException;
+    }
+
+    @Override
+    public void run() {
+      byte[] buf = new byte[sFileBytes];
+      try {
+        // Each reader starts at a different file so the threads do not move in lock step.
+        for (int k = 0; k < sFiles; k ++) {
+          TachyonURI path = filePath((k + mOffset) % sFiles);
+          TachyonFile file = sTachyonClient.getFile(path);
+          if (file == null) {
+            throw new IOException("File " + path + " does not exist");
+          }
+          InputStream is = file.getInStream(ReadType.NO_CACHE);
+          try {
+            int read = 0;
+            while (read < sFileBytes) {
+              int ret = is.read(buf, read, sFileBytes - read);
+              if (ret == -1) {
+                throw new IOException("File " + path + " is shorter than " + sFileBytes);
+              }
+              read += ret;
+            }
+          } finally {
+            is.close();
+          }
+        }
+      } catch (IOException e) {
+        mException = e;
+      }
+    }
+  }
+
+  private static TachyonURI filePath(int index) {
+    return new TachyonURI(BASE_FOLDER + "/file_" + index);
+  }
+
+  private static void createFiles() throws IOException {
+    byte[] data = new byte[sFileBytes];
+    for (int k = 0; k < sFileBytes; k ++) {
+      data[k] = (byte) k;
+    }
+    for (int k = 0; k < sFiles; k ++) {
+      TachyonURI path = filePath(k);
+      int fileId = sTachyonClient.createFile(path);
+      OutputStream os = sTachyonClient.getFile(fileId).getOutStream(WriteType.MUST_CACHE);
+      try {
+        os.write(data);
+      } finally {
+        os.close();
+      }
+    }
+  }
+
+  private static double runRound(int threads) throws IOException, InterruptedException {
+    Reader[] readers = new Reader[threads];
+    for (int k = 0; k < threads; k ++) {
+      readers[k] = new Reader(k * sFiles / threads);
+    }
+
+    long startTimeMs = CommonUtils.getCurrentMs();
+    for (int k = 0; k < threads; k ++) {
+      readers[k].start();
+    }
+    for (int k = 0; k < threads; k ++) {
+      readers[k].join();
+      if (readers[k].getException() != null) {
+        throw readers[k].getException();
+      }
+    }
+    long takenTimeMs = Math.max(1, CommonUtils.getCurrentMs() - startTimeMs);
+
+    return 1000.0 * threads * sFiles / takenTimeMs;
+  }
+
+  public static void main(String[] args) throws IOException, InterruptedException {
+    if (args.length < 1) {
+      System.out.println("java -cp target/tachyon-" + Version.VERSION
+          + "-jar-with-dependencies.jar tachyon.examples.ConcurrentReadPerformance "
+          + "<TachyonMasterAddress> [MaxThreads] [Files] [FileBytes]");
+      System.exit(-1);
+    }
+
+    sTachyonClient = TachyonFS.get(new TachyonURI(args[0]));
+    sMaxThreads = Utils.option(args, 1, 32);
+    sFiles = Utils.option(args, 2, 1000);
+    sFileBytes = Utils.option(args, 3, 4 * Constants.KB);
+
+    try {
+      sTachyonClient.delete(new TachyonURI(BASE_FOLDER), true);
+      createFiles();
+      for (int threads = 1; threads <= sMaxThreads; threads *= 2) {
+        double opensPerSec = runRound(threads);
+        String result =
+            "ConcurrentReadPerformance threads=" + threads + " files=" + sFiles + " fileBytes="
+                + sFileBytes + " : " + String.format("%.1f", opensPerSec) + " files/sec";
+        LOG.info(result);
+        System.out.println(result);
+      }
+      sTachyonClient.delete(new TachyonURI(BASE_FOLDER), true);
+    } finally {
+      sTachyonClient.close();
+    }
+    System.exit(0);
+  }
+}
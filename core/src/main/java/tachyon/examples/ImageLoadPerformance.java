@@ -0,0 +1,125 @@
+/*
+ * Licensed to the University of California, Berkeley under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package tachyon.examples;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.apache.thrift.TException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import tachyon.Constants;
+import tachyon.TachyonURI;
+import tachyon.UnderFileSystem;
+import tachyon.Version;
+import tachyon.master.Image;
+import tachyon.master.Journal;
+import tachyon.master.MasterInfo;
+import tachyon.util.CommonUtils;
+import tachyon.util.ThreadFactoryUtils;
+
+/**
+ * Compares the master startup time with a binary image against a JSON image of the same
+ * namespace. It builds a namespace of the given size in memory, writes it in both formats into a
+ * local folder, and then times how long a new master takes to load each of them.
+ */
+public class ImageLoadPerformance {
+  private static final Logger LOG = LoggerFactory.getLogger(Constants.LOGGER_TYPE);
+
+  private static final String JSON_IMAGE = "image.json";
+  private static final String BINARY_IMAGE = "image.binary";
+  private static final String EDIT_LOG = "log.data";
+
+  private static final ExecutorService EXECUTOR_SERVICE = Executors.newFixedThreadPool(2,
+      ThreadFactoryUtils.daemon("image-load-performance-%d"));
+  private static final InetSocketAddress MASTER_ADDRESS = new InetSocketAddress(9999);
+
+  private static String sFolder = null;
+  private static int sFiles = -1;
+  private static int sFilesPerFolder = -1;
+
+  private static MasterInfo createNamespace() throws IOException, TException {
+    // The edit log of a master that was not initialized is inactive, so nothing is journaled.
+    MasterInfo info =
+        new MasterInfo(MASTER_ADDRESS, new Journal(sFolder, "none", EDIT_LOG), EXECUTOR_SERVICE);
+    for (int k = 0; k < sFiles; k ++) {
+      TachyonURI path = new TachyonURI("/folder_" + (k / sFilesPerFolder) + "/file_" + k);
+      info.createFile(path, Constants.DEFAULT_BLOCK_SIZE_BYTE);
+    }
+    return info;
+  }
+
+  private static long timeCreate(MasterInfo info, String imageFileName, boolean binary)
+      throws IOException {
+    long startTimeMs = CommonUtils.getCurrentMs();
+    Image.create(info, CommonUtils.concat(sFolder, imageFileName), binary);
+    return CommonUtils.getCurrentMs() - startTimeMs;
+  }
+
+  private static long timeLoad(String imageFileName) throws IOException, TException {
+    long startTimeMs = CommonUtils.getCurrentMs();
+    // A new master loads its image in the constructor.
+    MasterInfo info =
+        new MasterInfo(MASTER_ADDRESS, new Journal(sFolder, imageFileName, EDIT_LOG),
+            EXECUTOR_SERVICE);
+    long takenTimeMs = CommonUtils.getCurrentMs() - startTimeMs;
+    if (info.getFileId(new TachyonURI("/folder_0/file_0")) == -1) {
+      throw new IOException("Image " + imageFileName + " was not loaded");
+    }
+    return takenTimeMs;
+  }
+
+  private static void report(String format, long createMs, long loadMs) {
+    String result =
+        "ImageLoadPerformance files=" + sFiles + " format=" + format + " : create " + createMs
+            + " ms, load " + loadMs + " ms";
+    LOG.info(result);
+    System.out.println(result);
+  }
+
+  public static void main(String[] args) throws IOException, TException {
+    if (args.length > 0 && args[0].startsWith("-")) {
+      System.out.println("java -cp target/tachyon-" + Version.VERSION
+          + "-jar-with-dependencies.jar tachyon.examples.ImageLoadPerformance "
+          + "[Files] [FilesPerFolder] [LocalFolder]");
+      System.exit(-1);
+    }
+
+    sFiles = Utils.option(args, 0, 1000000);
+    sFilesPerFolder = Utils.option(args, 1, 1000);
+    sFolder =
+        Utils.option(args, 2, CommonUtils.concat(System.getProperty("java.io.tmpdir"),
+            "ImageLoadPerformance"));
+
+    UnderFileSystem ufs = UnderFileSystem.get(sFolder);
+    ufs.delete(sFolder, true);
+    ufs.mkdirs(sFolder, true);
+
+    MasterInfo info = createNamespace();
+    long jsonCreateMs = timeCreate(info, JSON_IMAGE, false);
+    long binaryCreateMs = timeCreate(info, BINARY_IMAGE, true);
+    info = null;
+
+    report("json", jsonCreateMs, timeLoad(JSON_IMAGE));
+    report("binary", binaryCreateMs, timeLoad(BINARY_IMAGE));
+
+    ufs.delete(sFolder, true);
+    System.exit(0);
+  }
+}
@@ -0,0 +1,118 @@
+/*
+ * Licensed to the University of California, Berkeley under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package tachyon.examples;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import tachyon.Constants;
+import tachyon.Version;
+import tachyon.master.Inode;
+import tachyon.master.InodeFile;
+import tachyon.master.InodeFolder;
+import tachyon.util.ConcurrentIntObjectHashMap;
+import tachyon.util.CommonUtils;
+
+/**
+ * Reports the heap footprint of the master's namespace metadata. For every requested file count it
+ * builds an in-memory tree of folders and files, indexed by id the same way MasterInfo does, and
+ * prints the used heap divided by the number of files. Run it with a heap large enough for the
+ * biggest count, e.g. -Xmx32g for 50M files.
+ */
+public class InodeHeapFootprint {
+  private static final Logger LOG = LoggerFactory.getLogger(Constants.LOGGER_TYPE);
+
+  private static final int[] DEFAULT_FILE_COUNTS = {1000000, 10000000, 50000000};
+
+  private static int sFilesPerFolder = -1;
+
+  private static long usedHeapBytes() {
+    Runtime runtime = Runtime.getRuntime();
+    for (int k = 0; k < 3; k ++) {
+      System.gc();
+    }
+    return runtime.totalMemory() - runtime.freeMemory();
+  }
+
+  /**
+   * Builds a namespace of <code>files</code> files and returns the heap bytes it takes. The root
+   * and the id map are returned through <code>holder</code> so they stay reachable while the heap
+   * is measured.
+   */
+  private static long measure(int files, Object[] holder) {
+    long baseBytes = usedHeapBytes();
+    long creationTimeMs = CommonUtils.getCurrentMs();
+    ConcurrentIntObjectHashMap<Inode> inodes = new ConcurrentIntObjectHashMap<Inode>();
+    InodeFolder root = new InodeFolder("", 1, -1, creationTimeMs);
+    inodes.put(root.getId(), root);
+
+    int nextId = 2;
+    InodeFolder folder = null;
+    for (int k = 0; k < files; k ++) {
+      if (k % sFilesPerFolder == 0) {
+        folder = new InodeFolder("folder_" + (k / sFilesPerFolder), nextId ++, root.getId(),
+            creationTimeMs);
+        root.addChild(folder);
+        inodes.put(folder.getId(), folder);
+      }
+      InodeFile file =
+          new InodeFile("file_" + k, nextId ++, folder.getId(), Constants.DEFAULT_BLOCK_SIZE_BYTE,
+              creationTimeMs);
+      folder.addChild(file);
+      inodes.put(file.getId(), file);
+    }
+
+    holder[0] = root;
+    holder[1] = inodes;
+    return usedHeapBytes() - baseBytes;
+  }
+
+  public static void main(String[] args) {
+    if (args.length > 0 && args[0].startsWith("-")) {
+      System.out.println("java -cp target/tachyon-" + Version.VERSION
+          + "-jar-with-dependencies.jar tachyon.examples.InodeHeapFootprint "
+          + "[FilesPerFolder] [FileCount ...]");
+      System.exit(-1);
+    }
+
+    sFilesPerFolder = Utils.option(args, 0, 1000);
+    int[] fileCounts = DEFAULT_FILE_COUNTS;
+    if (args.length > 1) {
+      fileCounts = new int[args.length - 1];
+      for (int k = 1; k < args.length; k ++) {
+        fileCounts[k - 1] = Utils.option(args, k, 0);
+      }
+    }
+
+    for (int files : fileCounts) {
+      Object[] holder = new Object[2];
+      String result;
+      try {
+        long bytes = measure(files, holder);
+        result =
+            "InodeHeapFootprint files=" + files + " : " + bytes + " bytes, "
+                + String.format("%.1f", (double) bytes / files) + " bytes/file";
+      } catch (OutOfMemoryError e) {
+        holder[0] = null;
+        holder[1] = null;
+        result = "InodeHeapFootprint files=" + files + " : out of memory, increase -Xmx";
+      }
+      LOG.info(result);
+      System.out.println(result);
+    }
+    System.exit(0);
+  }
+}
@@ -0,0 +1,140 @@
+/*
+ * Licensed to the University of California, Berkeley under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package tachyon.examples;
+
+import java.io.IOException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import tachyon.Constants;
+import tachyon.TachyonURI;
+import tachyon.Version;
+import tachyon.client.TachyonFS;
+import tachyon.thrift.ClientFileInfo;
+import tachyon.util.CommonUtils;
+
+/**
+ * Measures the metadata throughput of the master. Each client thread creates files in a directory
+ * of its own and looks up their status right after, so the threads never contend on the same
+ * inodes. The run is repeated while doubling the number of threads, which shows how the master
+ * scales with concurrent metadata operations.
+ */
+public class MetadataPerformance {
+  private static final Logger LOG = LoggerFactory.getLogger(Constants.LOGGER_TYPE);
+
+  private static final String BASE_FOLDER = "/MetadataPerformance";
+
+  private static TachyonURI sMasterAddress = null;
+  private static int sMaxThreads = -1;
+  private static int sOpsPerThread = -1;
+
+  public static class Worker extends Thread {
+    private final TachyonURI mFolder;
+    private IOException mException = null;
+
+    public Worker(TachyonURI folder) {
+      mFolder = folder;
+    }
+
+    public IOException getException() {
+      return mException;
+    }
+
+    @Override
+    public void run() {
+      TachyonFS tfs = null;
+      try {
+        tfs = TachyonFS.get(sMasterAddress);
+        for (int k = 0; k < sOpsPerThread; k ++) {
+          TachyonURI path = mFolder.join("file_" + k);
+          int fileId = tfs.createFile(path);
+          ClientFileInfo info = tfs.getFileStatus(-1, path);
+          if (info == null || info.getId() != fileId) {
+            throw new IOException("Unexpected status of " + path + ": " + info);
+          }
+        }
+      } catch (IOException e) {
+        mException = e;
+      } finally {
+        if (tfs != null) {
+          try {
+            tfs.close();
+          } catch (IOException e) {
+            LOG.warn("Failed to close the client of " + mFolder, e);
+          }
+        }
+      }
+    }
+  }
+
+  private static double runRound(TachyonFS tfs, int threads) throws IOException,
+      InterruptedException {
+    TachyonURI roundFolder = new TachyonURI(BASE_FOLDER + "/threads_" + threads);
+    Worker[] workers = new Worker[threads];
+    for (int k = 0; k < threads; k ++) {
+      TachyonURI folder = roundFolder.join("thread_" + k);
+      tfs.mkdirs(folder, true);
+      workers[k] = new Worker(folder);
+    }
+
+    long startTimeMs = CommonUtils.getCurrentMs();
+    for (int k = 0; k < threads; k ++) {
+      workers[k].start();
+    }
+    for (int k = 0; k < threads; k ++) {
+      workers[k].join();
+      if (workers[k].getException() != null) {
+        throw workers[k].getException();
+      }
+    }
+    long takenTimeMs = Math.max(1, CommonUtils.getCurrentMs() - startTimeMs);
+
+    // Every iteration is a createFile followed by a getFileStatus.
+    long ops = 2L * threads * sOpsPerThread;
+    return 1000.0 * ops / takenTimeMs;
+  }
+
+  public static void main(String[] args) throws IOException, InterruptedException {
+    if (args.length < 1) {
+      System.out.println("java -cp target/tachyon-" + Version.VERSION
+          + "-jar-with-dependencies.jar tachyon.examples.MetadataPerformance "
+          + "<TachyonMasterAddress> [MaxThreads] [OpsPerThread]");
+      System.exit(-1);
+    }
+
+    sMasterAddress = new TachyonURI(args[0]);
+    sMaxThreads = Utils.option(args, 1, 16);
+    sOpsPerThread = Utils.option(args, 2, 1000);
+
+    TachyonFS tfs = TachyonFS.get(sMasterAddress);
+    try {
+      tfs.delete(new TachyonURI(BASE_FOLDER), true);
+      for (int threads = 1; threads <= sMaxThreads; threads *= 2) {
+        double opsPerSec = runRound(tfs, threads);
+        String result =
+            "MetadataPerformance threads=" + threads + " opsPerThread=" + sOpsPerThread + " : "
+                + String.format("%.1f", opsPerSec) + " ops/sec";
+        LOG.info(result);
+        System.out.println(result);
+      }
+      tfs.delete(new TachyonURI(BASE_FOLDER), true);
+    } finally {
+      tfs.close();
+    }
+    System.exit(0);
+  }
+}
@@ -0,0 +1,149 @@
+/*
+ * Licensed to the University of California, Berkeley under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package tachyon.examples;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import tachyon.Constants;
+import tachyon.TachyonURI;
+import tachyon.Version;
+import tachyon.client.RemoteBlockInStream;
+import tachyon.client.TachyonFS;
+import tachyon.client.TachyonFile;
+import tachyon.client.WriteType;
+import tachyon.conf.UserConf;
+import tachyon.thrift.ClientBlockInfo;
+import tachyon.util.CommonUtils;
+
+/**
+ * Measures the latency and throughput of small reads from a worker's data server. Every read is a
+ * separate request for <code>ReadBytes</code> bytes of one cached block, the way
+ * RemoteBlockInStream fetches data. Run it once as is, and once with
+ * <code>-Dtachyon.user.remote.read.connections.per.worker=0</code>, which opens a connection per
+ * read, to compare persistent connections against connecting for every read.
+ */
+public class RemoteReadPerformance {
+  private static final Logger LOG = LoggerFactory.getLogger(Constants.LOGGER_TYPE);
+
+  private static final String FILE_PATH = "/RemoteReadPerformance";
+
+  private static TachyonFS sTachyonClient = null;
+  private static ClientBlockInfo sBlockInfo = null;
+  private static int sReads = -1;
+  private static int sReadBytes = -1;
+
+  public static class Reader extends Thread {
+    private long mTotalLatencyNs = 0;
+    private IOException mException = null;
+
+    public IOException getException() {
+      return mException;
+    }
+
+    public long getTotalLatencyNs() {
+      return mTotalLatencyNs;
+    }
+
+    @Override
+    public void run() {
+      long blockLength = sBlockInfo.getLength();
+      long offset = 0;
+      for (int k = 0; k < sReads; k ++) {
+        if (offset + sReadBytes > blockLength) {
+          offset = 0;
+        }
+        long startNs = System.nanoTime();
+        ByteBuffer buf =
+            RemoteBlockInStream.readRemoteByteBuffer(sTachyonClient, sBlockInfo, offset,
+                sReadBytes);
+        mTotalLatencyNs += System.nanoTime() - startNs;
+        if (buf == null || buf.remaining() != sReadBytes) {
+          mException = new IOException("Failed to read " + sReadBytes + " bytes at " + offset);
+          return;
+        }
+        offset += sReadBytes;
+      }
+    }
+  }
+
+  public static void main(String[] args) throws IOException, InterruptedException {
+    if (args.length < 1) {
+      System.out.println("java -cp target/tachyon-" + Version.VERSION
+          + "-jar-with-dependencies.jar tachyon.examples.RemoteReadPerformance "
+          + "<TachyonMasterAddress> [Threads] [ReadsPerThread] [ReadBytes]");
+      System.exit(-1);
+    }
+
+    sTachyonClient = TachyonFS.get(new TachyonURI(args[0]));
+    int threads = Utils.option(args, 1, 4);
+    sReads = Utils.option(args, 2, 10000);
+    sReadBytes = Utils.option(args, 3, 4 * Constants.KB);
+
+    try {
+      TachyonURI path = new TachyonURI(FILE_PATH);
+      sTachyonClient.delete(path, true);
+      int fileId = sTachyonClient.createFile(path);
+      TachyonFile file = sTachyonClient.getFile(fileId);
+      byte[] data = new byte[Constants.MB];
+      OutputStream os = file.getOutStream(WriteType.MUST_CACHE);
+      try {
+        os.write(data);
+      } finally {
+        os.close();
+      }
+      sBlockInfo = file.getClientBlockInfo(0);
+
+      Reader[] readers = new Reader[threads];
+      for (int k = 0; k < threads; k ++) {
+        readers[k] = new Reader();
+      }
+      long startTimeMs = CommonUtils.getCurrentMs();
+      for (int k = 0; k < threads; k ++) {
+        readers[k].start();
+      }
+      long totalLatencyNs = 0;
+      for (int k = 0; k < threads; k ++) {
+        readers[k].join();
+        if (readers[k].getException() != null) {
+          throw readers[k].getException();
+        }
+        totalLatencyNs += readers[k].getTotalLatencyNs();
+      }
+      long takenTimeMs = Math.max(1, CommonUtils.getCurrentMs() - startTimeMs);
+
+      long reads = (long) threads * sReads;
+      String result =
+          "RemoteReadPerformance connectionsPerWorker="
+              + UserConf.get().REMOTE_READ_CONNECTIONS_PER_WORKER + " threads=" + threads
+              + " readBytes=" + sReadBytes + " : "
+              + String.format("%.1f", totalLatencyNs / 1000.0 / reads) + " us/read, "
+              + String.format("%.1f", 1000.0 * reads / takenTimeMs) + " reads/sec, "
+              + String.format("%.2f", 1000.0 * reads * sReadBytes / Constants.MB / takenTimeMs)
+              + " MB/sec";
+      LOG.info(result);
+      System.out.println(result);
+      sTachyonClient.delete(path, true);
+    } finally {
+      sTachyonClient.close();
+    }
+    System.exit(0);
+  }
+}
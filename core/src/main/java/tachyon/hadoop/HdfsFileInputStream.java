@@ -15,9 +15,11 @@
 
 package tachyon.hadoop;
 
+import java.io.EOFException;
 import java.io.FileNotFoundException;
 import java.io.InputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 
 import org.apache.hadoop.conf.Configuration;
 import org.apache.hadoop.fs.FSDataInputStream;
@@ -161,28 +163,36 @@ public class HdfsFileInputStream extends InputStream implements Seekable, Positi
    * number of bytes read. This does not change the current offset of a file, and is thread-safe.
    */
   @Override
-  public synchronized int read(long position, byte[] buffer, int offset, int length)
-      throws IOException {
-    int ret = -1;
-    long oldPos = getPos();
-    if ((position < 0) || (position >= mTachyonFile.length())) {
-      return ret;
+  public int read(long position, byte[] buffer, int offset, int length) throws IOException {
+    if (position < 0) {
+      return -1;
     }
 
     if (mTachyonFileInputStream != null) {
       try {
-        mTachyonFileInputStream.seek(position);
-        ret = mTachyonFileInputStream.read(buffer, offset, length);
-        return ret;
-      } finally {
-        mTachyonFileInputStream.seek(oldPos);
+        return mTachyonFile.positionedRead(position, ByteBuffer.wrap(buffer, offset, length));
+      } catch (IOException e) {
+        LOG.error(e.getMessage(), e);
       }
     }
 
+    return readFromHdfs(position, buffer, offset, length);
+  }
+
+  /**
+   * Reads from the given position of the HDFS stream, and seeks the stream back. The HDFS stream
+   * has a single cursor, so the readers take turns.
+   */
+  private synchronized int readFromHdfs(long position, byte[] buffer, int offset, int length)
+      throws IOException {
+    long oldPos = getPos();
+    if (position >= mTachyonFile.length()) {
+      return -1;
+    }
+
     try {
       getHdfsInputStream(position);
-      ret = mHdfsInputStream.read(buffer, offset, length);
-      return ret;
+      return mHdfsInputStream.read(buffer, offset, length);
     } finally {
       if (mHdfsInputStream != null) {
         mHdfsInputStream.seek(oldPos);
@@ -211,7 +221,7 @@ public class HdfsFileInputStream extends InputStream implements Seekable, Positi
    */
   @Override
   public void readFully(long position, byte[] buffer) throws IOException {
-    throw new IOException("Not supported");
+    readFully(position, buffer, 0, buffer.length);
   }
 
   /**
@@ -220,7 +230,15 @@ public class HdfsFileInputStream extends InputStream implements Seekable, Positi
    */
   @Override
   public void readFully(long position, byte[] buffer, int offset, int length) throws IOException {
-    throw new IOException("Not supported");
+    int read = 0;
+    while (read < length) {
+      int ret = read(position + read, buffer, offset + read, length - read);
+      if (ret < 0) {
+        throw new EOFException("Reached the end of the file before reading " + length
+            + " bytes at position " + position);
+      }
+      read += ret;
+    }
   }
 
   /**
@@ -18,6 +18,7 @@ package tachyon.master;
 import java.io.IOException;
 import java.net.UnknownHostException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -74,8 +75,10 @@ public class BlockInfo {
   public final long mOffset;
   public final long mLength;
 
-  private final Map<Long, NetAddress> mLocations = new HashMap<Long, NetAddress>(5);
-  private final Map<NetAddress, Long> mStorageDirIds = new HashMap<NetAddress, Long>(5);
+  // The locations are replaced copy-on-write: writers build a new map under the BlockInfo's
+  // monitor and publish it through the volatile field, so readers never need to lock. Each value
+  // is the pair of the worker's address and the id of the StorageDir holding the block.
+  private volatile Map<Long, Pair<NetAddress, Long>> mLocations = Collections.emptyMap();
 
   /**
    * @param inodeFile
@@ -98,8 +101,10 @@ public class BlockInfo {
    * @param storageDirId The id of the StorageDir which block is located in
    */
   public synchronized void addLocation(long workerId, NetAddress workerAddress, long storageDirId) {
-    mLocations.put(workerId, workerAddress);
-    mStorageDirIds.put(workerAddress, storageDirId);
+    Map<Long, Pair<NetAddress, Long>> locations =
+        new HashMap<Long, Pair<NetAddress, Long>>(mLocations);
+    locations.put(workerId, new Pair<NetAddress, Long>(workerAddress, storageDirId));
+    mLocations = Collections.unmodifiableMap(locations);
   }
 
   /**
@@ -107,7 +112,7 @@ public class BlockInfo {
    * 
    * @return the generated ClientBlockInfo
    */
-  public synchronized ClientBlockInfo generateClientBlockInfo() {
+  public ClientBlockInfo generateClientBlockInfo() {
     ClientBlockInfo ret = new ClientBlockInfo();
 
     ret.blockId = mBlockId;
@@ -124,9 +129,10 @@ public class BlockInfo {
    * 
    * @return the list of those pairs
    */
-  public synchronized List<Pair<Long, Long>> getBlockIdWorkerIdPairs() {
-    List<Pair<Long, Long>> ret = new ArrayList<Pair<Long, Long>>(mLocations.size());
-    for (long workerId : mLocations.keySet()) {
+  public List<Pair<Long, Long>> getBlockIdWorkerIdPairs() {
+    Map<Long, Pair<NetAddress, Long>> locations = mLocations;
+    List<Pair<Long, Long>> ret = new ArrayList<Pair<Long, Long>>(locations.size());
+    for (long workerId : locations.keySet()) {
       ret.add(new Pair<Long, Long>(mBlockId, workerId));
     }
     return ret;
@@ -137,7 +143,7 @@ public class BlockInfo {
    * 
    * @return the InodeFile of the block
    */
-  public synchronized InodeFile getInodeFile() {
+  public InodeFile getInodeFile() {
     return mInodeFile;
   }
 
@@ -147,9 +153,12 @@ public class BlockInfo {
    * 
    * @return the net addresses of the locations
    */
-  public synchronized List<NetAddress> getLocations() {
-    List<NetAddress> ret = new ArrayList<NetAddress>(mLocations.size());
-    ret.addAll(mLocations.values());
+  public List<NetAddress> getLocations() {
+    Map<Long, Pair<NetAddress, Long>> locations = mLocations;
+    List<NetAddress> ret = new ArrayList<NetAddress>(locations.size());
+    for (Pair<NetAddress, Long> location : locations.values()) {
+      ret.add(location.getFirst());
+    }
     if (ret.isEmpty() && mInodeFile.hasCheckpointed()) {
       UnderFileSystem ufs = UnderFileSystem.get(mInodeFile.getUfsPath());
       List<String> locs = null;
@@ -176,9 +185,9 @@ public class BlockInfo {
   /**
    * @return true if the block is in some worker's memory, false otherwise
    */
-  public synchronized boolean isInMemory() {
-    for (long storageDirId : mStorageDirIds.values()) {
-      int storageLevelValue = StorageDirId.getStorageLevelAliasValue(storageDirId);
+  public boolean isInMemory() {
+    for (Pair<NetAddress, Long> location : mLocations.values()) {
+      int storageLevelValue = StorageDirId.getStorageLevelAliasValue(location.getSecond());
       if (storageLevelValue == StorageLevelAlias.MEM.getValue()) {
         return true;
       }
@@ -193,12 +202,15 @@ public class BlockInfo {
    */
   public synchronized void removeLocation(long workerId) {
     if (mLocations.containsKey(workerId)) {
-      mStorageDirIds.remove(mLocations.remove(workerId));
+      Map<Long, Pair<NetAddress, Long>> locations =
+          new HashMap<Long, Pair<NetAddress, Long>>(mLocations);
+      locations.remove(workerId);
+      mLocations = Collections.unmodifiableMap(locations);
     }
   }
 
   @Override
-  public synchronized String toString() {
+  public String toString() {
     StringBuilder sb = new StringBuilder("BlockInfo(mBlockIndex: ");
     sb.append(mBlockIndex);
     sb.append(", mBlockId: ").append(mBlockId);
@@ -15,6 +15,7 @@
 
 package tachyon.master;
 
+import java.io.DataInputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
 import java.nio.ByteBuffer;
@@ -64,6 +65,34 @@ public class Dependency extends ImageWriter {
     return dep;
   }
 
+  /**
+   * Create a new dependency from a binary image, as written by
+   * {@link #writeImage(DataOutputStream)}.
+   * 
+   * @param is the binary image
+   * @return the loaded dependency
+   * @throws IOException
+   */
+  static Dependency loadImage(DataInputStream is) throws IOException {
+    int id = is.readInt();
+    List<Integer> parentFiles = Utils.readIntegerList(is);
+    List<Integer> childrenFiles = Utils.readIntegerList(is);
+    String commandPrefix = Utils.readString(is);
+    List<ByteBuffer> data = Utils.readByteBufferList(is);
+    String comment = Utils.readString(is);
+    String framework = Utils.readString(is);
+    String frameworkVersion = Utils.readString(is);
+    DependencyType dependencyType = DependencyType.getDependencyType(is.readInt());
+    List<Integer> parentDependencies = Utils.readIntegerList(is);
+    long creationTimeMs = is.readLong();
+    Dependency dep =
+        new Dependency(id, parentFiles, childrenFiles, commandPrefix, data, comment, framework,
+            frameworkVersion, dependencyType, parentDependencies, creationTimeMs);
+    dep.resetUncheckpointedChildrenFiles(Utils.readIntegerList(is));
+
+    return dep;
+  }
+
   public final int mId;
 
   public final long mCreationTimeMs;
@@ -315,4 +344,25 @@ public class Dependency extends ImageWriter {
             .withParameter("unCheckpointedChildrenFiles", getUncheckpointedChildrenFiles());
     writeElement(objWriter, dos, ele);
   }
+
+  /**
+   * Write the dependency to a binary image.
+   * 
+   * @param dos The target data output stream
+   * @throws IOException
+   */
+  synchronized void writeImage(DataOutputStream dos) throws IOException {
+    dos.writeInt(mId);
+    Utils.writeIntegerList(mParentFiles, dos);
+    Utils.writeIntegerList(mChildrenFiles, dos);
+    Utils.writeString(mCommandPrefix, dos);
+    Utils.writeByteBufferList(mData, dos);
+    Utils.writeString(mComment, dos);
+    Utils.writeString(mFramework, dos);
+    Utils.writeString(mFrameworkVersion, dos);
+    dos.writeInt(mDependencyType.getValue());
+    Utils.writeIntegerList(mParentDependencies, dos);
+    dos.writeLong(mCreationTimeMs);
+    Utils.writeIntegerList(getUncheckpointedChildrenFiles(), dos);
+  }
 }
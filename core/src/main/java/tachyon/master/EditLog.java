@@ -15,8 +15,11 @@
 
 package tachyon.master;
 
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.DataInputStream;
 import java.io.DataOutputStream;
+import java.io.EOFException;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.nio.ByteBuffer;
@@ -28,14 +31,12 @@ import org.slf4j.LoggerFactory;
 
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectWriter;
 import com.google.common.base.Throwables;
 
 import tachyon.Constants;
 import tachyon.Pair;
 import tachyon.TachyonURI;
 import tachyon.UnderFileSystem;
-import tachyon.io.Utils;
 import tachyon.thrift.BlockInfoException;
 import tachyon.thrift.FileAlreadyExistException;
 import tachyon.thrift.FileDoesNotExistException;
@@ -44,15 +45,18 @@ import tachyon.thrift.SuspectedFileSizeException;
 import tachyon.thrift.TableDoesNotExistException;
 import tachyon.thrift.TachyonException;
 import tachyon.util.CommonUtils;
+import tachyon.util.ThreadFactoryUtils;
 
 /**
- * Master operation journal.
+ * Master operation journal. Operations are appended as binary {@link EditLogRecord}s into an
+ * in-memory buffer, and a writer thread moves the buffer to the under filesystem. A call to
+ * {@link #flush()} waits until everything appended before it is synced, so the RPC threads that
+ * flush at the same time share one sync (group commit).
  */
 public final class EditLog {
   private static final Logger LOG = LoggerFactory.getLogger(Constants.LOGGER_TYPE);
 
   private static int sBackUpLogStartNum = -1;
-  private static long sCurrentTId = 0;
 
   /**
    * Load edit log.
@@ -89,11 +93,12 @@ public final class EditLog {
     loadSingleLog(info, path);
 
     ufs.close();
-    return sCurrentTId;
+    return info.getEditTransactionCounter();
   }
 
   /**
-   * Load one edit log.
+   * Load one edit log. Both the binary format and the JSON format of older versions are
+   * supported.
    * 
    * @param info The Master Info
    * @param path The path of the edit log
@@ -102,7 +107,50 @@ public final class EditLog {
   public static void loadSingleLog(MasterInfo info, String path) throws IOException {
     UnderFileSystem ufs = UnderFileSystem.get(path);
 
-    DataInputStream is = new DataInputStream(ufs.open(path));
+    DataInputStream is = new DataInputStream(new BufferedInputStream(ufs.open(path)));
+    try {
+      is.mark(4);
+      int magic = 0;
+      try {
+        magic = is.readInt();
+      } catch (EOFException e) {
+        // Shorter than a header, let the JSON parser deal with it.
+      }
+      if (magic == EditLogRecord.MAGIC) {
+        loadBinaryLog(info, path, is);
+      } else {
+        is.reset();
+        loadJsonLog(info, is);
+      }
+    } finally {
+      is.close();
+      ufs.close();
+    }
+  }
+
+  private static void loadBinaryLog(MasterInfo info, String path, DataInputStream is)
+      throws IOException {
+    try {
+      int version = is.readInt();
+      if (version != EditLogRecord.VERSION) {
+        throw new IOException("Unsupported version " + version + " of edit log " + path);
+      }
+      while (true) {
+        EditLogOperation op = EditLogRecord.read(is);
+        if (op == null) {
+          break;
+        }
+        LOG.debug("Read operation: {}", op);
+        applyOperation(info, op);
+      }
+    } catch (EOFException e) {
+      // A record that was cut off was never synced, so it was never acknowledged to a client.
+      LOG.warn("Edit log " + path + " ends with a partial record after transaction "
+          + info.getEditTransactionCounter() + ", ignoring it.");
+    }
+  }
+
+  private static void loadJsonLog(MasterInfo info, DataInputStream is) throws IOException {
     JsonParser parser = JsonObject.createObjectMapper().getFactory().createParser(is);
 
     while (true) {
@@ -118,83 +166,98 @@ public final class EditLog {
           throw e;
         }
       }
+      applyOperation(info, op);
+    }
+  }
 
-      sCurrentTId = op.mTransId;
-      try {
-        switch (op.mType) {
-          case ADD_BLOCK: {
-            info.opAddBlock(op.getInt("fileId"), op.getInt("blockIndex"),
-                op.getLong("blockLength"), op.getLong("opTimeMs"));
-            break;
-          }
-          case ADD_CHECKPOINT: {
-            info._addCheckpoint(-1, op.getInt("fileId"), op.getLong("length"),
-                new TachyonURI(op.getString("path")), op.getLong("opTimeMs"));
-            break;
-          }
-          case CREATE_FILE: {
-            info._createFile(op.getBoolean("recursive"), new TachyonURI(op.getString("path")),
-                op.getBoolean("directory"), op.getLong("blockSizeByte"),
-                op.getLong("creationTimeMs"));
-            break;
-          }
-          case COMPLETE_FILE: {
-            info._completeFile(op.get("fileId", Integer.class), op.getLong("opTimeMs"));
-            break;
-          }
-          case SET_PINNED: {
-            info._setPinned(op.getInt("fileId"), op.getBoolean("pinned"), op.getLong("opTimeMs"));
-            break;
-          }
-          case RENAME: {
-            info._rename(op.getInt("fileId"), new TachyonURI(op.getString("dstPath")),
-                op.getLong("opTimeMs"));
-            break;
-          }
-          case DELETE: {
-            info._delete(op.getInt("fileId"), op.getBoolean("recursive"), op.getLong("opTimeMs"));
-            break;
-          }
-          case CREATE_RAW_TABLE: {
-            info._createRawTable(op.getInt("tableId"), op.getInt("columns"),
-                op.getByteBuffer("metadata"));
-            break;
-          }
-          case UPDATE_RAW_TABLE_METADATA: {
-            info.updateRawTableMetadata(op.getInt("tableId"), op.getByteBuffer("metadata"));
-            break;
-          }
-          case CREATE_DEPENDENCY: {
-            info._createDependency(op.get("parents", new TypeReference<List<Integer>>() {}),
-                op.get("children", new TypeReference<List<Integer>>() {}),
-                op.getString("commandPrefix"), op.getByteBufferList("data"),
-                op.getString("comment"), op.getString("framework"),
-                op.getString("frameworkVersion"), op.get("dependencyType", DependencyType.class),
-                op.getInt("dependencyId"), op.getLong("creationTimeMs"));
-            break;
-          }
-          default:
-            throw new IOException("Invalid op type " + op);
+  /**
+   * Apply one operation to the master. Operations the master has already applied, either from an
+   * image or from an earlier pass over the same log, are skipped, so a standby can replay a log
+   * that it has partly tailed before.
+   * 
+   * @param info The Master Info
+   * @param op The operation to apply
+   * @throws IOException
+   */
+  static void applyOperation(MasterInfo info, EditLogOperation op) throws IOException {
+    if (op.mTransId <= info.getEditTransactionCounter()) {
+      LOG.debug("Skipping applied operation: {}", op);
+      return;
+    }
+    try {
+      switch (op.mType) {
+        case ADD_BLOCK: {
+          info.opAddBlock(op.getInt("fileId"), op.getInt("blockIndex"),
+              op.getLong("blockLength"), op.getLong("opTimeMs"));
+          break;
+        }
+        case ADD_CHECKPOINT: {
+          info._addCheckpoint(-1, op.getInt("fileId"), op.getLong("length"),
+              new TachyonURI(op.getString("path")), op.getLong("opTimeMs"));
+          break;
+        }
+        case CREATE_FILE: {
+          // Logs written before the inode id was recorded fall back to the counter order.
+          int inodeId = op.hasParameter("inodeId") ? op.getInt("inodeId") : -1;
+          info._createFile(op.getBoolean("recursive"), new TachyonURI(op.getString("path")),
+              op.getBoolean("directory"), op.getLong("blockSizeByte"),
+              op.getLong("creationTimeMs"), inodeId);
+          break;
+        }
+        case COMPLETE_FILE: {
+          info._completeFile(op.get("fileId", Integer.class), op.getLong("opTimeMs"));
+          break;
+        }
+        case SET_PINNED: {
+          info._setPinned(op.getInt("fileId"), op.getBoolean("pinned"), op.getLong("opTimeMs"));
+          break;
+        }
+        case RENAME: {
+          info._rename(op.getInt("fileId"), new TachyonURI(op.getString("dstPath")),
+              op.getLong("opTimeMs"));
+          break;
+        }
+        case DELETE: {
+          info._delete(op.getInt("fileId"), op.getBoolean("recursive"), op.getLong("opTimeMs"));
+          break;
+        }
+        case CREATE_RAW_TABLE: {
+          info._createRawTable(op.getInt("tableId"), op.getInt("columns"),
+              op.getByteBuffer("metadata"));
+          break;
         }
-      } catch (SuspectedFileSizeException e) {
-        throw new IOException(e);
-      } catch (BlockInfoException e) {
-        throw new IOException(e);
-      } catch (FileDoesNotExistException e) {
-        throw new IOException(e);
-      } catch (FileAlreadyExistException e) {
-        throw new IOException(e);
-      } catch (InvalidPathException e) {
-        throw new IOException(e);
-      } catch (TachyonException e) {
-        throw new IOException(e);
-      } catch (TableDoesNotExistException e) {
-        throw new IOException(e);
+        case UPDATE_RAW_TABLE_METADATA: {
+          info.updateRawTableMetadata(op.getInt("tableId"), op.getByteBuffer("metadata"));
+          break;
+        }
+        case CREATE_DEPENDENCY: {
+          info._createDependency(op.get("parents", new TypeReference<List<Integer>>() {}),
+              op.get("children", new TypeReference<List<Integer>>() {}),
+              op.getString("commandPrefix"), op.getByteBufferList("data"),
+              op.getString("comment"), op.getString("framework"),
+              op.getString("frameworkVersion"), op.get("dependencyType", DependencyType.class),
+              op.getInt("dependencyId"), op.getLong("creationTimeMs"));
+          break;
+        }
+        default:
+          throw new IOException("Invalid op type " + op);
       }
+      info.updateEditTransactionCounter(op.mTransId);
+    } catch (SuspectedFileSizeException e) {
+      throw new IOException(e);
+    } catch (BlockInfoException e) {
+      throw new IOException(e);
+    } catch (FileDoesNotExistException e) {
+      throw new IOException(e);
+    } catch (FileAlreadyExistException e) {
+      throw new IOException(e);
+    } catch (InvalidPathException e) {
+      throw new IOException(e);
+    } catch (TachyonException e) {
+      throw new IOException(e);
+    } catch (TableDoesNotExistException e) {
+      throw new IOException(e);
     }
-
-    is.close();
-    ufs.close();
   }
 
   /**
@@ -225,25 +288,39 @@ public final class EditLog {
 
   private final String mPath;
 
-  /** Writer used to serialize Operations into the edit log. */
-  private final ObjectWriter mWriter;
-
   private UnderFileSystem mUfs;
 
-  /** Raw output stream to the UnderFS */
+  /** Raw output stream to the UnderFS. Only used by the writer thread once the log is created. */
   private OutputStream mOs;
 
   /** Wraps the raw output stream. */
   private DataOutputStream mDos;
 
+  /** Records appended but not yet handed to the writer thread. Guarded by this. */
+  private final ByteArrayOutputStream mBuffer;
+
+  /** Wraps mBuffer. */
+  private final DataOutputStream mBufferDos;
+
+  /** Moves the buffered records to the under filesystem and syncs them. */
+  private final Thread mWriterThread;
+
   // Starting from 1.
   private long mFlushedTransactionId = 0;
 
+  /** The largest transaction id a caller of flush() is waiting for. */
+  private long mRequestedTransactionId = 0;
+
   private long mTransactionId = 0;
 
+  private boolean mClosed = false;
+
+  /** The error that stopped the writer thread, rethrown to every later flush. */
+  private Throwable mWriteError = null;
+
   private int mCurrentLogFileNum = 0;
 
-  private int mMaxLogSize = 5 * Constants.MB;
+  private volatile int mMaxLogSize = 5 * Constants.MB;
 
   /**
    * Create a new EditLog
@@ -294,23 +371,35 @@ public final class EditLog {
       }
       mOs = mUfs.create(path);
       mDos = new DataOutputStream(mOs);
+      EditLogRecord.writeHeader(mDos);
       LOG.info("Created file " + path);
       mFlushedTransactionId = transactionId;
+      mRequestedTransactionId = transactionId;
       mTransactionId = transactionId;
-      mWriter = JsonObject.createObjectMapper().writer();
+      mBuffer = new ByteArrayOutputStream(Constants.KB * 64);
+      mBufferDos = new DataOutputStream(mBuffer);
+      mWriterThread = ThreadFactoryUtils.daemon("edit-log-writer-%d").newThread(new Runnable() {
+        @Override
+        public void run() {
+          writeLoop();
+        }
+      });
+      mWriterThread.start();
     } else {
       mPath = null;
       mUfs = null;
       mOs = null;
       mDos = null;
-      mWriter = null;
+      mBuffer = null;
+      mBufferDos = null;
+      mWriterThread = null;
     }
   }
 
   /**
    * Only close the currently opened output streams.
    */
-  private synchronized void _closeActiveStream() {
+  private void _closeActiveStream() {
     try {
       if (mDos != null) {
         mDos.close();
@@ -331,16 +420,13 @@ public final class EditLog {
    * @param blockLength The length of the block to be added
    * @param opTimeMs The time of the addBlock operation, in milliseconds
    */
-  public synchronized void addBlock(int fileId, int blockIndex, long blockLength, long opTimeMs) {
+  public void addBlock(int fileId, int blockIndex, long blockLength, long opTimeMs) {
     if (mInactive) {
       return;
     }
 
-    EditLogOperation operation =
-        new EditLogOperation(EditLogOperationType.ADD_BLOCK, ++mTransactionId)
-            .withParameter("fileId", fileId).withParameter("blockIndex", blockIndex)
-            .withParameter("blockLength", blockLength).withParameter("opTimeMs", opTimeMs);
-    writeOperation(operation);
+    append(new EditLogRecord(EditLogOperationType.ADD_BLOCK).withInt(fileId).withInt(blockIndex)
+        .withLong(blockLength).withLong(opTimeMs));
   }
 
   /**
@@ -351,27 +437,38 @@ public final class EditLog {
    * @param checkpointPath The path of the checkpoint
    * @param opTimeMs The time of the addCheckpoint operation, in milliseconds
    */
-  public synchronized void addCheckpoint(int fileId, long length, TachyonURI checkpointPath,
+  public void addCheckpoint(int fileId, long length, TachyonURI checkpointPath,
       long opTimeMs) {
     if (mInactive) {
       return;
     }
 
-    EditLogOperation operation =
-        new EditLogOperation(EditLogOperationType.ADD_CHECKPOINT, ++mTransactionId)
-            .withParameter("fileId", fileId).withParameter("length", length)
-            .withParameter("path", checkpointPath.toString()).withParameter("opTimeMs", opTimeMs);
-    writeOperation(operation);
+    append(new EditLogRecord(EditLogOperationType.ADD_CHECKPOINT).withInt(fileId)
+        .withLong(length).withString(checkpointPath.toString()).withLong(opTimeMs));
   }
 
   /**
-   * Close the log.
+   * Close the log. The operations appended so far are written out before the streams are closed.
    */
-  public synchronized void close() {
+  public void close() {
     if (mInactive) {
       return;
     }
 
+    synchronized (this) {
+      if (mClosed) {
+        return;
+      }
+      mClosed = true;
+      notifyAll();
+    }
+    try {
+      mWriterThread.join();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw Throwables.propagate(e);
+    }
+
     try {
       _closeActiveStream();
       mUfs.close();
@@ -386,15 +483,13 @@ public final class EditLog {
    * @param fileId The id of the file
    * @param opTimeMs The time of the completeFile operation, in milliseconds
    */
-  public synchronized void completeFile(int fileId, long opTimeMs) {
+  public void completeFile(int fileId, long opTimeMs) {
     if (mInactive) {
       return;
     }
 
-    EditLogOperation operation =
-        new EditLogOperation(EditLogOperationType.COMPLETE_FILE, ++mTransactionId).withParameter(
-            "fileId", fileId).withParameter("opTimeMs", opTimeMs);
-    writeOperation(operation);
+    append(new EditLogRecord(EditLogOperationType.COMPLETE_FILE).withInt(fileId).withLong(
+        opTimeMs));
   }
 
   /**
@@ -412,23 +507,17 @@ public final class EditLog {
    * @param depId The id of the dependency
    * @param creationTimeMs The create time of the dependency, in milliseconds
    */
-  public synchronized void createDependency(List<Integer> parents, List<Integer> children,
+  public void createDependency(List<Integer> parents, List<Integer> children,
       String commandPrefix, List<ByteBuffer> data, String comment, String framework,
       String frameworkVersion, DependencyType dependencyType, int depId, long creationTimeMs) {
     if (mInactive) {
       return;
     }
 
-    EditLogOperation operation =
-        new EditLogOperation(EditLogOperationType.CREATE_DEPENDENCY, ++mTransactionId)
-            .withParameter("parents", parents).withParameter("children", children)
-            .withParameter("commandPrefix", commandPrefix)
-            .withParameter("data", Utils.byteBufferListToBase64(data))
-            .withParameter("comment", comment).withParameter("framework", framework)
-            .withParameter("frameworkVersion", frameworkVersion)
-            .withParameter("dependencyType", dependencyType).withParameter("dependencyId", depId)
-            .withParameter("creationTimeMs", creationTimeMs);
-    writeOperation(operation);
+    append(new EditLogRecord(EditLogOperationType.CREATE_DEPENDENCY).withIntList(parents)
+        .withIntList(children).withString(commandPrefix).withByteBufferList(data)
+        .withString(comment).withString(framework).withString(frameworkVersion)
+        .withDependencyType(dependencyType).withInt(depId).withLong(creationTimeMs));
   }
 
   /**
@@ -440,19 +529,18 @@ public final class EditLog {
    * @param directory If true, creates an InodeFolder instead of an Inode
    * @param blockSizeByte If it's a file, the block size for the Inode
    * @param creationTimeMs The time the file was created
+   * @param inodeId The id assigned to the inode at path. Ids of the missing parents created along
+   *        with it immediately precede it.
    */
-  public synchronized void createFile(boolean recursive, TachyonURI path, boolean directory,
-      long blockSizeByte, long creationTimeMs) {
+  public void createFile(boolean recursive, TachyonURI path, boolean directory,
+      long blockSizeByte, long creationTimeMs, int inodeId) {
     if (mInactive) {
       return;
     }
 
-    EditLogOperation operation =
-        new EditLogOperation(EditLogOperationType.CREATE_FILE, ++mTransactionId)
-            .withParameter("recursive", recursive).withParameter("path", path.toString())
-            .withParameter("directory", directory).withParameter("blockSizeByte", blockSizeByte)
-            .withParameter("creationTimeMs", creationTimeMs);
-    writeOperation(operation);
+    append(new EditLogRecord(EditLogOperationType.CREATE_FILE).withBoolean(recursive)
+        .withString(path.toString()).withBoolean(directory).withLong(blockSizeByte)
+        .withLong(creationTimeMs).withInt(inodeId));
   }
 
   /**
@@ -462,16 +550,13 @@ public final class EditLog {
    * @param columns The number of columns in the table
    * @param metadata Additional metadata about the table
    */
-  public synchronized void createRawTable(int tableId, int columns, ByteBuffer metadata) {
+  public void createRawTable(int tableId, int columns, ByteBuffer metadata) {
     if (mInactive) {
       return;
     }
 
-    EditLogOperation operation =
-        new EditLogOperation(EditLogOperationType.CREATE_RAW_TABLE, ++mTransactionId)
-            .withParameter("tableId", tableId).withParameter("columns", columns)
-            .withParameter("metadata", Utils.byteBufferToBase64(metadata));
-    writeOperation(operation);
+    append(new EditLogRecord(EditLogOperationType.CREATE_RAW_TABLE).withInt(tableId)
+        .withInt(columns).withByteBuffer(metadata));
   }
 
   /**
@@ -481,16 +566,13 @@ public final class EditLog {
    * @param recursive whether delete the file recursively or not.
    * @param opTimeMs The time of the delete operation, in milliseconds
    */
-  public synchronized void delete(int fileId, boolean recursive, long opTimeMs) {
+  public void delete(int fileId, boolean recursive, long opTimeMs) {
     if (mInactive) {
       return;
     }
 
-    EditLogOperation operation =
-        new EditLogOperation(EditLogOperationType.DELETE, ++mTransactionId)
-            .withParameter("fileId", fileId).withParameter("recursive", recursive)
-            .withParameter("opTimeMs", opTimeMs);
-    writeOperation(operation);
+    append(new EditLogRecord(EditLogOperationType.DELETE).withInt(fileId).withBoolean(recursive)
+        .withLong(opTimeMs));
   }
 
   /**
@@ -514,26 +596,30 @@ public final class EditLog {
   }
 
   /**
-   * Flush the log onto the storage.
+   * Flush the log onto the storage. Blocks until all the operations appended before this call are
+   * synced. Concurrent callers are served by the same sync.
    */
   public synchronized void flush() {
     if (mInactive) {
       return;
     }
 
-    try {
-      mDos.flush();
-      if (mOs instanceof FSDataOutputStream) {
-        ((FSDataOutputStream) mOs).sync();
-      }
-      if (mDos.size() > mMaxLogSize) {
-        rotateEditLog(mPath);
+    long transactionId = mTransactionId;
+    if (transactionId > mRequestedTransactionId) {
+      mRequestedTransactionId = transactionId;
+      notifyAll();
+    }
+    while (mFlushedTransactionId < transactionId && mWriteError == null) {
+      try {
+        wait();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw Throwables.propagate(e);
       }
-    } catch (IOException e) {
-      throw Throwables.propagate(e);
     }
-
-    mFlushedTransactionId = mTransactionId;
+    if (mFlushedTransactionId < transactionId) {
+      throw Throwables.propagate(mWriteError);
+    }
   }
 
   /**
@@ -552,16 +638,13 @@ public final class EditLog {
    * @param dstPath The new path of the file
    * @param opTimeMs The time of the rename operation, in milliseconds
    */
-  public synchronized void rename(int fileId, TachyonURI dstPath, long opTimeMs) {
+  public void rename(int fileId, TachyonURI dstPath, long opTimeMs) {
     if (mInactive) {
       return;
     }
 
-    EditLogOperation operation =
-        new EditLogOperation(EditLogOperationType.RENAME, ++mTransactionId)
-            .withParameter("fileId", fileId).withParameter("dstPath", dstPath.toString())
-            .withParameter("opTimeMs", opTimeMs);
-    writeOperation(operation);
+    append(new EditLogRecord(EditLogOperationType.RENAME).withInt(fileId)
+        .withString(dstPath.toString()).withLong(opTimeMs));
   }
 
   /**
@@ -588,6 +671,7 @@ public final class EditLog {
       LOG.info("Renamed " + path + " to " + newPath);
       mOs = mUfs.create(path);
       mDos = new DataOutputStream(mOs);
+      EditLogRecord.writeHeader(mDos);
       LOG.info("Created new log file " + path);
     } catch (IOException e) {
       throw Throwables.propagate(e);
@@ -621,16 +705,13 @@ public final class EditLog {
    * @param pinned If true, the file is never evicted from memory
    * @param opTimeMs The time of the setPinned operation, in milliseconds
    */
-  public synchronized void setPinned(int fileId, boolean pinned, long opTimeMs) {
+  public void setPinned(int fileId, boolean pinned, long opTimeMs) {
     if (mInactive) {
       return;
     }
 
-    EditLogOperation operation =
-        new EditLogOperation(EditLogOperationType.SET_PINNED, ++mTransactionId)
-            .withParameter("fileId", fileId).withParameter("pinned", pinned)
-            .withParameter("opTimeMs", opTimeMs);
-    writeOperation(operation);
+    append(new EditLogRecord(EditLogOperationType.SET_PINNED).withInt(fileId).withBoolean(pinned)
+        .withLong(opTimeMs));
   }
 
   /**
@@ -639,24 +720,87 @@ public final class EditLog {
    * @param tableId The id of the raw table
    * @param metadata The new metadata of the raw table
    */
-  public synchronized void updateRawTableMetadata(int tableId, ByteBuffer metadata) {
+  public void updateRawTableMetadata(int tableId, ByteBuffer metadata) {
     if (mInactive) {
       return;
     }
 
-    EditLogOperation operation =
-        new EditLogOperation(EditLogOperationType.UPDATE_RAW_TABLE_METADATA, ++mTransactionId)
-            .withParameter("tableId", tableId).withParameter("metadata",
-                Utils.byteBufferToBase64(metadata));
-    writeOperation(operation);
+    append(new EditLogRecord(EditLogOperationType.UPDATE_RAW_TABLE_METADATA).withInt(tableId)
+        .withByteBuffer(metadata));
   }
 
-  private void writeOperation(EditLogOperation operation) {
+  /**
+   * Appends a record to the buffer with the next transaction id. The record is encoded by the
+   * caller, so only the copy into the buffer happens under the lock.
+   */
+  private synchronized void append(EditLogRecord record) {
+    if (mClosed) {
+      throw new IllegalStateException("Edit log " + mPath + " is closed");
+    }
     try {
-      mWriter.writeValue(mDos, operation);
-      mDos.writeByte('\n');
+      record.writeTo(++mTransactionId, mBufferDos);
     } catch (IOException e) {
       throw Throwables.propagate(e);
     }
   }
+
+  /**
+   * Body of the writer thread. Each round takes every record buffered so far, writes them out
+   * with a single sync, and wakes up the flushes they satisfy.
+   */
+  private void writeLoop() {
+    while (true) {
+      byte[] batch;
+      long batchTransactionId;
+      synchronized (this) {
+        while (!mClosed && mRequestedTransactionId <= mFlushedTransactionId) {
+          try {
+            wait();
+          } catch (InterruptedException e) {
+            mWriteError = e;
+            notifyAll();
+            return;
+          }
+        }
+        if (mBuffer.size() == 0) {
+          if (mClosed) {
+            return;
+          }
+          mFlushedTransactionId = mTransactionId;
+          notifyAll();
+          continue;
+        }
+        batch = mBuffer.toByteArray();
+        mBuffer.reset();
+        batchTransactionId = mTransactionId;
+      }
+
+      Throwable error = null;
+      try {
+        mDos.write(batch);
+        mDos.flush();
+        if (mOs instanceof FSDataOutputStream) {
+          ((FSDataOutputStream) mOs).sync();
+        }
+        if (mDos.size() > mMaxLogSize) {
+          rotateEditLog(mPath);
+        }
+      } catch (IOException e) {
+        error = e;
+      } catch (RuntimeException e) {
+        error = e;
+      }
+
+      synchronized (this) {
+        if (error != null) {
+          LOG.error("Failed to write edit log " + mPath, error);
+          mWriteError = error;
+          notifyAll();
+          return;
+        }
+        mFlushedTransactionId = batchTransactionId;
+        notifyAll();
+      }
+    }
+  }
 }
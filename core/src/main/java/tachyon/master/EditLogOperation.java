@@ -15,21 +15,29 @@
 
 package tachyon.master;
 
+import java.nio.ByteBuffer;
+import java.util.List;
 import java.util.Map;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.google.common.base.Objects;
+import com.google.common.collect.Maps;
 
 /**
- * Each entry in the EditLog is represented as a single Operation, which is serialized as JSON. An
- * Operation has a type, a transaction id, and a set of parameters determined by the type.
+ * Each entry in the EditLog is represented as a single Operation. Older logs serialize it as JSON,
+ * binary logs are decoded into it by {@link EditLogRecord}. An Operation has a type, a transaction
+ * id, and a set of parameters determined by the type. The parameters of a binary record are kept
+ * as the values it was decoded into, so replaying it needs no JSON conversion.
  */
 class EditLogOperation extends JsonObject {
   // NB: These type names are used in the serialized JSON. They should be concise but readable.
   public EditLogOperationType mType;
   public long mTransId;
+  // The parameters decoded from a binary record, which take precedence over mParameters
+  private final Map<String, Object> mValues = Maps.newHashMap();
 
   public EditLogOperation(EditLogOperationType type, long transId) {
     mType = type;
@@ -46,14 +54,64 @@ class EditLogOperation extends JsonObject {
     mParameters = parameters;
   }
 
+  @Override
+  public <T> T get(String name, Class<T> clazz) {
+    if (mValues.containsKey(name)) {
+      return clazz.cast(mValues.get(name));
+    }
+    return super.get(name, clazz);
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public <T> T get(String name, TypeReference<T> typeReference) {
+    if (mValues.containsKey(name)) {
+      return (T) mValues.get(name);
+    }
+    return super.get(name, typeReference);
+  }
+
+  @Override
+  public ByteBuffer getByteBuffer(String name) {
+    if (mValues.containsKey(name)) {
+      return (ByteBuffer) mValues.get(name);
+    }
+    return super.getByteBuffer(name);
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public List<ByteBuffer> getByteBufferList(String name) {
+    if (mValues.containsKey(name)) {
+      return (List<ByteBuffer>) mValues.get(name);
+    }
+    return super.getByteBufferList(name);
+  }
+
+  /**
+   * @return true if the operation has the parameter, even if its value is null
+   */
+  public boolean hasParameter(String name) {
+    return mValues.containsKey(name) || mParameters.containsKey(name);
+  }
+
   @Override
   public String toString() {
     return Objects.toStringHelper(this).add("type", mType).add("transId", mTransId)
-        .add("parameters", mParameters).toString();
+        .add("parameters", mValues.isEmpty() ? mParameters : mValues).toString();
   }
 
   @Override
   public EditLogOperation withParameter(String name, Object value) {
     return (EditLogOperation) super.withParameter(name, value);
   }
+
+  /**
+   * Adds the given named parameter as it is, without converting it to JSON. The getters return it
+   * as it is too, so it must have the type they return, such as Integer for getInt().
+   */
+  EditLogOperation withValue(String name, Object value) {
+    mValues.put(name, value);
+    return this;
+  }
 }
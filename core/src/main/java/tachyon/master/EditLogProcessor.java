@@ -24,10 +24,13 @@ import com.google.common.base.Throwables;
 
 import tachyon.Constants;
 import tachyon.UnderFileSystem;
+import tachyon.conf.MasterConf;
 import tachyon.util.CommonUtils;
 
 /**
- * Class that periodically looks for completed edit logs to update metadata of failover nodes.
+ * Keeps the metadata of a standby master in step with the leader. It loads the edit logs the
+ * leader completed, tails the one it is still writing, and creates a standby image whenever a
+ * completed log was loaded, so a failover only replays the operations not applied yet.
  */
 public class EditLogProcessor implements Runnable {
   private static final Logger LOG = LoggerFactory.getLogger(Constants.LOGGER_TYPE);
@@ -35,6 +38,7 @@ public class EditLogProcessor implements Runnable {
   private final Journal mJournal;
   private final String mPath;
   private final MasterInfo mMasterInfo;
+  private final int mTailIntervalMs;
 
   private int mCurrentLogFileNum = 0;
   private int mLastImageFileNum = 0;
@@ -52,6 +56,7 @@ public class EditLogProcessor implements Runnable {
     mJournal = journal;
     mPath = path;
     mMasterInfo = info;
+    mTailIntervalMs = MasterConf.get().STANDBY_TAIL_INTERVAL_MS;
     try {
       mLoadedImageModTime = mJournal.getImageModTimeMs();
     } catch (IOException e) {
@@ -67,6 +72,9 @@ public class EditLogProcessor implements Runnable {
     while (mIsStandby) {
       try {
         synchronized (mJournal) {
+          if (!mIsStandby) {
+            break;
+          }
           long lastImageModTime = mJournal.getImageModTimeMs();
           if (mLoadedImageModTime != lastImageModTime) {
             LOG.info("The last loaded image is out of date. Loading updated image.");
@@ -86,7 +94,8 @@ public class EditLogProcessor implements Runnable {
             mCurrentLogFileNum ++;
             path = mPath + "completed/" + mCurrentLogFileNum + ".editLog";
           }
-          LOG.info("Edit log with " + path + " was not found.");
+          LOG.debug("Edit log with {} was not found.", path);
+          mJournal.tailEditLog(mMasterInfo);
           if (mLastImageFileNum != mCurrentLogFileNum) {
             LOG.info("Last image was updated with log number: " + mLastImageFileNum
                 + " writing new image up to log number " + mCurrentLogFileNum);
@@ -96,7 +105,7 @@ public class EditLogProcessor implements Runnable {
             mLastImageFileNum = mCurrentLogFileNum;
           }
         }
-        CommonUtils.sleepMs(LOG, Constants.SECOND_MS);
+        CommonUtils.sleepMs(LOG, mTailIntervalMs);
       } catch (IOException e) {
         throw Throwables.propagate(e);
       }
@@ -105,10 +114,15 @@ public class EditLogProcessor implements Runnable {
   }
 
   /**
-   * Stop the log processor. Set the stand-by flag false.
+   * Stop the log processor. Set the stand-by flag false, and wait for the round in progress to
+   * finish so that the master can take over the journal.
    */
   public void stop() {
     LOG.info("Stopping standby log processor with path " + mPath);
     mIsStandby = false;
+    synchronized (mJournal) {
+      LOG.info("Standby log processor with path " + mPath + " applied transactions up to "
+          + mMasterInfo.getEditTransactionCounter());
+    }
   }
 }
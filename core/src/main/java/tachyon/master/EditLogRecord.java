@@ -0,0 +1,284 @@
+/*
+ * Licensed to the University of California, Berkeley under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package tachyon.master;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.zip.CRC32;
+
+import com.google.common.base.Throwables;
+
+import tachyon.Constants;
+import tachyon.io.Utils;
+
+/**
+ * A single operation of the binary edit log. A binary log starts with {@link #MAGIC} and
+ * {@link #VERSION}, followed by records of the form
+ * 
+ * <pre>
+ * [body length: int][transaction id: long][CRC32 of transaction id and body: int][body]
+ * </pre>
+ * 
+ * where the body is the ordinal of the operation type followed by the operation's fields, in the
+ * order the EditLog writes them. Records are decoded back into {@link EditLogOperation}s with the
+ * same parameter names the JSON log uses, so both formats are replayed by the same code.
+ */
+final class EditLogRecord {
+  /** The first bytes of a binary edit log. JSON edit logs always start with '{'. */
+  static final int MAGIC = 0x544C4F47;
+  static final int VERSION = 1;
+  /** The largest body a record may have, so a corrupted length cannot exhaust the heap. */
+  static final int MAX_RECORD_BYTES = 64 * Constants.MB;
+
+  /**
+   * Reads the next operation of a binary edit log.
+   * 
+   * @param is The stream of the log, positioned after the header
+   * @return the operation, or null at the end of the log
+   * @throws EOFException if the log ends in the middle of a record
+   * @throws IOException if the record is corrupted
+   */
+  static EditLogOperation read(DataInputStream is) throws IOException {
+    int length;
+    try {
+      length = is.readInt();
+    } catch (EOFException e) {
+      return null;
+    }
+    if (length <= 0 || length > MAX_RECORD_BYTES) {
+      throw new IOException("Invalid edit log record length " + length);
+    }
+    long transId = is.readLong();
+    int crc = is.readInt();
+    byte[] body = new byte[length];
+    is.readFully(body);
+    if (crc != checksum(transId, body, length)) {
+      throw new IOException("Checksum mismatch in edit log record " + transId);
+    }
+    return decode(transId, new DataInputStream(new ByteArrayInputStream(body)));
+  }
+
+  /**
+   * Writes the header of a binary edit log.
+   * 
+   * @param os The stream of the new log
+   * @throws IOException
+   */
+  static void writeHeader(DataOutputStream os) throws IOException {
+    os.writeInt(MAGIC);
+    os.writeInt(VERSION);
+  }
+
+  private static int checksum(long transId, byte[] body, int length) {
+    CRC32 crc = new CRC32();
+    for (int k = 56; k >= 0; k -= 8) {
+      crc.update((int) (transId >>> k));
+    }
+    crc.update(body, 0, length);
+    return (int) crc.getValue();
+  }
+
+  private static EditLogOperation decode(long transId, DataInputStream is) throws IOException {
+    int ordinal = is.readUnsignedByte();
+    EditLogOperationType[] types = EditLogOperationType.values();
+    if (ordinal >= types.length) {
+      throw new IOException("Invalid op type ordinal " + ordinal + " in record " + transId);
+    }
+    EditLogOperation op = new EditLogOperation(types[ordinal], transId);
+    switch (op.mType) {
+      case ADD_BLOCK: {
+        op.withValue("fileId", is.readInt()).withValue("blockIndex", is.readInt())
+            .withValue("blockLength", is.readLong())
+            .withValue("opTimeMs", is.readLong());
+        break;
+      }
+      case ADD_CHECKPOINT: {
+        op.withValue("fileId", is.readInt()).withValue("length", is.readLong())
+            .withValue("path", Utils.readString(is))
+            .withValue("opTimeMs", is.readLong());
+        break;
+      }
+      case CREATE_FILE: {
+        op.withValue("recursive", is.readBoolean())
+            .withValue("path", Utils.readString(is))
+            .withValue("directory", is.readBoolean())
+            .withValue("blockSizeByte", is.readLong())
+            .withValue("creationTimeMs", is.readLong())
+            .withValue("inodeId", is.readInt());
+        break;
+      }
+      case COMPLETE_FILE: {
+        op.withValue("fileId", is.readInt()).withValue("opTimeMs", is.readLong());
+        break;
+      }
+      case SET_PINNED: {
+        op.withValue("fileId", is.readInt()).withValue("pinned", is.readBoolean())
+            .withValue("opTimeMs", is.readLong());
+        break;
+      }
+      case RENAME: {
+        op.withValue("fileId", is.readInt())
+            .withValue("dstPath", Utils.readString(is))
+            .withValue("opTimeMs", is.readLong());
+        break;
+      }
+      case DELETE: {
+        op.withValue("fileId", is.readInt()).withValue("recursive", is.readBoolean())
+            .withValue("opTimeMs", is.readLong());
+        break;
+      }
+      case CREATE_RAW_TABLE: {
+        op.withValue("tableId", is.readInt()).withValue("columns", is.readInt())
+            .withValue("metadata", Utils.readByteBuffer(is));
+        break;
+      }
+      case UPDATE_RAW_TABLE_METADATA: {
+        op.withValue("tableId", is.readInt()).withValue("metadata", Utils.readByteBuffer(is));
+        break;
+      }
+      case CREATE_DEPENDENCY: {
+        op.withValue("parents", Utils.readIntegerList(is))
+            .withValue("children", Utils.readIntegerList(is))
+            .withValue("commandPrefix", Utils.readString(is))
+            .withValue("data", Utils.readByteBufferList(is))
+            .withValue("comment", Utils.readString(is))
+            .withValue("framework", Utils.readString(is))
+            .withValue("frameworkVersion", Utils.readString(is))
+            .withValue("dependencyType", DependencyType.getDependencyType(is.readInt()))
+            .withValue("dependencyId", is.readInt())
+            .withValue("creationTimeMs", is.readLong());
+        break;
+      }
+      default:
+        throw new IOException("Invalid op type " + op);
+    }
+    return op;
+  }
+
+  private final ByteArrayOutputStream mBody = new ByteArrayOutputStream(64);
+  private final DataOutputStream mDos = new DataOutputStream(mBody);
+
+  /**
+   * Create a new record of the given type. The fields of the operation are appended with the
+   * <code>with</code> methods.
+   * 
+   * @param type The type of the operation
+   */
+  EditLogRecord(EditLogOperationType type) {
+    try {
+      mDos.writeByte(type.ordinal());
+    } catch (IOException e) {
+      throw Throwables.propagate(e);
+    }
+  }
+
+  EditLogRecord withBoolean(boolean value) {
+    try {
+      mDos.writeBoolean(value);
+    } catch (IOException e) {
+      throw Throwables.propagate(e);
+    }
+    return this;
+  }
+
+  EditLogRecord withByteBuffer(ByteBuffer value) {
+    try {
+      Utils.writeByteBuffer(value == null ? null : value.duplicate(), mDos);
+    } catch (IOException e) {
+      throw Throwables.propagate(e);
+    }
+    return this;
+  }
+
+  EditLogRecord withByteBufferList(List<ByteBuffer> value) {
+    try {
+      Utils.writeByteBufferList(value, mDos);
+    } catch (IOException e) {
+      throw Throwables.propagate(e);
+    }
+    return this;
+  }
+
+  EditLogRecord withDependencyType(DependencyType value) {
+    try {
+      mDos.writeInt(value.getValue());
+    } catch (IOException e) {
+      throw Throwables.propagate(e);
+    }
+    return this;
+  }
+
+  EditLogRecord withInt(int value) {
+    try {
+      mDos.writeInt(value);
+    } catch (IOException e) {
+      throw Throwables.propagate(e);
+    }
+    return this;
+  }
+
+  EditLogRecord withIntList(List<Integer> value) {
+    try {
+      Utils.writeIntegerList(value, mDos);
+    } catch (IOException e) {
+      throw Throwables.propagate(e);
+    }
+    return this;
+  }
+
+  EditLogRecord withLong(long value) {
+    try {
+      mDos.writeLong(value);
+    } catch (IOException e) {
+      throw Throwables.propagate(e);
+    }
+    return this;
+  }
+
+  EditLogRecord withString(String value) {
+    try {
+      Utils.writeString(value, mDos);
+    } catch (IOException e) {
+      throw Throwables.propagate(e);
+    }
+    return this;
+  }
+
+  /**
+   * Writes the record with the given transaction id.
+   * 
+   * @param transId The transaction id of the operation
+   * @param os The stream to write to
+   * @throws IOException
+   */
+  void writeTo(long transId, DataOutputStream os) throws IOException {
+    byte[] body = mBody.toByteArray();
+    if (body.length > MAX_RECORD_BYTES) {
+      throw new IOException("Edit log record of " + body.length + " bytes exceeds "
+          + MAX_RECORD_BYTES);
+    }
+    os.writeInt(body.length);
+    os.writeLong(transId);
+    os.writeInt(checksum(transId, body, body.length));
+    os.write(body);
+  }
+}
@@ -0,0 +1,144 @@
+/*
+ * Licensed to the University of California, Berkeley under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package tachyon.master;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.common.io.ByteStreams;
+import com.google.common.io.CountingInputStream;
+
+import tachyon.Constants;
+import tachyon.UnderFileSystem;
+
+/**
+ * Follows the edit log that the leader master is still writing, and applies the operations synced
+ * so far to a standby master. The position of the last complete record is remembered between
+ * calls, so each call only reads what the leader appended since the previous one.
+ */
+final class EditLogTailer {
+  private static final Logger LOG = LoggerFactory.getLogger(Constants.LOGGER_TYPE);
+
+  /** Length of the binary log header: the magic number and the version. */
+  private static final int HEADER_BYTES = 8;
+
+  private final String mPath;
+
+  /** The id of the first transaction in the log file that mPosition refers to. */
+  private long mFirstTransId = -1;
+
+  /** The offset right after the last complete record read from the log. */
+  private long mPosition = HEADER_BYTES;
+
+  /**
+   * @param path The path of the active edit log
+   */
+  EditLogTailer(String path) {
+    mPath = path;
+  }
+
+  /**
+   * Apply the operations appended to the active edit log since the last call. Reading stops at
+   * the end of the synced data, at a partial record, or at a gap in the transaction ids, which
+   * means the leader rotated the log and the completed log has to be loaded first.
+   * 
+   * @param info The Master Info of the standby master
+   * @return the number of operations applied
+   * @throws IOException
+   */
+  int tail(MasterInfo info) throws IOException {
+    UnderFileSystem ufs = UnderFileSystem.get(mPath);
+    if (!ufs.exists(mPath)) {
+      return 0;
+    }
+    CountingInputStream cis = new CountingInputStream(new BufferedInputStream(ufs.open(mPath)));
+    DataInputStream is = new DataInputStream(cis);
+    long startPosition = mPosition;
+    int applied = 0;
+    try {
+      if (is.readInt() != EditLogRecord.MAGIC || is.readInt() != EditLogRecord.VERSION) {
+        // Logs of older versions are only loaded once they are completed.
+        return 0;
+      }
+      long firstTransId = peekTransId(is);
+      if (firstTransId == -1) {
+        return 0;
+      }
+      if (firstTransId != mFirstTransId) {
+        // The leader started a new log file since the last call.
+        mFirstTransId = firstTransId;
+        mPosition = HEADER_BYTES;
+      }
+      try {
+        ByteStreams.skipFully(is, mPosition - HEADER_BYTES);
+      } catch (EOFException e) {
+        // Same first transaction but a shorter file, so the leader rewrote the log.
+        mPosition = HEADER_BYTES;
+        return 0;
+      }
+      while (true) {
+        EditLogOperation op = EditLogRecord.read(is);
+        if (op == null) {
+          break;
+        }
+        long lastTransId = info.getEditTransactionCounter();
+        if (op.mTransId > lastTransId + 1) {
+          LOG.info("Stop tailing " + mPath + " at transaction " + op.mTransId
+              + ", the last applied transaction is " + lastTransId);
+          break;
+        }
+        if (op.mTransId == lastTransId + 1) {
+          EditLog.applyOperation(info, op);
+          applied ++;
+        }
+        mPosition = cis.getCount();
+      }
+    } catch (EOFException e) {
+      // The leader has not synced the rest of this record yet.
+    } catch (IOException e) {
+      if (startPosition == HEADER_BYTES) {
+        throw e;
+      }
+      // The saved position may point into a rewritten log, start over from its beginning.
+      LOG.warn("Failed to tail " + mPath + " from offset " + mPosition + ", rereading it", e);
+      mPosition = HEADER_BYTES;
+    } finally {
+      is.close();
+      ufs.close();
+    }
+    if (applied > 0) {
+      LOG.debug("Applied {} operations from {}", applied, mPath);
+    }
+    return applied;
+  }
+
+  private static long peekTransId(DataInputStream is) throws IOException {
+    is.mark(12);
+    try {
+      is.readInt();
+      return is.readLong();
+    } catch (EOFException e) {
+      return -1;
+    } finally {
+      is.reset();
+    }
+  }
+}
@@ -15,10 +15,15 @@
 
 package tachyon.master;
 
+import java.io.BufferedInputStream;
 import java.io.DataInputStream;
 import java.io.DataOutputStream;
+import java.io.EOFException;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -27,23 +32,57 @@ import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.ObjectWriter;
 
 import tachyon.Constants;
+import tachyon.Pair;
 import tachyon.TachyonURI;
 import tachyon.UnderFileSystem;
 
 /**
- * Master data image.
+ * Master data image. Images are written in a binary format of independent sections:
+ * 
+ * <pre>
+ * [MAGIC: int][VERSION: int][journal version: int][number of sections: int]
+ * [section type: byte][body length: int][CRC32 of body: int][body] ...
+ * </pre>
+ * 
+ * The namespace is split into several inode sections, so a large image is decoded by multiple
+ * threads. The JSON format of older versions can still be loaded.
  */
 public class Image {
   private static final Logger LOG = LoggerFactory.getLogger(Constants.LOGGER_TYPE);
 
+  /** The first bytes of a binary image. JSON images always start with '{'. */
+  static final int MAGIC = 0x54494D47;
+  static final int VERSION = 1;
+  /** The number of inodes in each inode section of a binary image. */
+  static final int INODES_PER_SECTION = 256 * 1024;
+
+  private static int checksum(byte[] body) {
+    CRC32 crc = new CRC32();
+    crc.update(body, 0, body.length);
+    return (int) crc.getValue();
+  }
+
   /**
-   * Write a new image to path. This method assumes having a lock on the master info.
+   * Write a new binary image to path.
    * 
    * @param info the master info to generate the image
    * @param path the new image path
    * @throws IOException
    */
   public static void create(MasterInfo info, String path) throws IOException {
+    create(info, path, true);
+  }
+
+  /**
+   * Write a new image to path.
+   * 
+   * @param info the master info to generate the image
+   * @param path the new image path
+   * @param binary If false, write the JSON format of older versions, which blocks the whole
+   *        namespace while the image is written. Only useful to compare the two formats.
+   * @throws IOException
+   */
+  public static void create(MasterInfo info, String path, boolean binary) throws IOException {
     String tPath = path + ".tmp";
     String parentFolder = path.substring(0, path.lastIndexOf(TachyonURI.SEPARATOR));
     LOG.info("Creating the image file: " + tPath);
@@ -52,13 +91,33 @@ public class Image {
       LOG.info("Creating parent folder " + parentFolder);
       ufs.mkdirs(parentFolder, true);
     }
-    OutputStream os = ufs.create(tPath);
-    DataOutputStream imageOs = new DataOutputStream(os);
-    ObjectWriter writer = JsonObject.createObjectMapper().writer();
+    if (binary) {
+      // Serialize before creating the file, the namespace is only locked for this part.
+      List<Pair<ImageSectionType, byte[]>> sections = info.createImageSections();
+      OutputStream os = ufs.create(tPath);
+      DataOutputStream imageOs = new DataOutputStream(os);
+      imageOs.writeInt(MAGIC);
+      imageOs.writeInt(VERSION);
+      imageOs.writeInt(Constants.JOURNAL_VERSION);
+      imageOs.writeInt(sections.size());
+      for (Pair<ImageSectionType, byte[]> section : sections) {
+        byte[] body = section.getSecond();
+        imageOs.writeByte(section.getFirst().ordinal());
+        imageOs.writeInt(body.length);
+        imageOs.writeInt(checksum(body));
+        imageOs.write(body);
+      }
+      imageOs.flush();
+      imageOs.close();
+    } else {
+      OutputStream os = ufs.create(tPath);
+      DataOutputStream imageOs = new DataOutputStream(os);
+      ObjectWriter writer = JsonObject.createObjectMapper().writer();
 
-    info.writeImage(writer, imageOs);
-    imageOs.flush();
-    imageOs.close();
+      info.writeImage(writer, imageOs);
+      imageOs.flush();
+      imageOs.close();
+    }
 
     LOG.info("Succefully created the image file: " + tPath);
     ufs.delete(path, false);
@@ -83,12 +142,59 @@ public class Image {
       return;
     }
     LOG.info("Loading image " + path);
-    DataInputStream imageIs = new DataInputStream(ufs.open(path));
-    JsonParser parser = JsonObject.createObjectMapper().getFactory().createParser(imageIs);
+    DataInputStream imageIs = new DataInputStream(new BufferedInputStream(ufs.open(path)));
+    try {
+      imageIs.mark(4);
+      int magic = 0;
+      try {
+        magic = imageIs.readInt();
+      } catch (EOFException e) {
+        // Shorter than a header, let the JSON parser deal with it.
+      }
+      if (magic == MAGIC) {
+        loadBinary(info, path, imageIs);
+      } else {
+        imageIs.reset();
+        JsonParser parser = JsonObject.createObjectMapper().getFactory().createParser(imageIs);
+        info.loadImage(parser, new TachyonURI(path));
+      }
+    } finally {
+      imageIs.close();
+      ufs.close();
+    }
+  }
 
-    info.loadImage(parser, new TachyonURI(path));
-    imageIs.close();
-    ufs.close();
+  private static void loadBinary(MasterInfo info, String path, DataInputStream imageIs)
+      throws IOException {
+    int version = imageIs.readInt();
+    if (version != VERSION) {
+      throw new IOException("Image " + path + " has unsupported format version " + version);
+    }
+    int journalVersion = imageIs.readInt();
+    if (journalVersion != Constants.JOURNAL_VERSION) {
+      throw new IOException("Image " + path + " has journal version " + journalVersion
+          + ". The system has version " + Constants.JOURNAL_VERSION);
+    }
+
+    int numberOfSections = imageIs.readInt();
+    List<Pair<ImageSectionType, byte[]>> sections =
+        new ArrayList<Pair<ImageSectionType, byte[]>>(numberOfSections);
+    ImageSectionType[] types = ImageSectionType.values();
+    for (int k = 0; k < numberOfSections; k ++) {
+      int ordinal = imageIs.readUnsignedByte();
+      if (ordinal >= types.length) {
+        throw new IOException("Image " + path + " has invalid section type " + ordinal);
+      }
+      byte[] body = new byte[imageIs.readInt()];
+      int crc = imageIs.readInt();
+      imageIs.readFully(body);
+      if (crc != checksum(body)) {
+        throw new IOException("Checksum mismatch in section " + k + " of image " + path);
+      }
+      sections.add(new Pair<ImageSectionType, byte[]>(types[ordinal], body));
+    }
+
+    info.loadImageSections(sections, new TachyonURI(path));
   }
 
   /**
@@ -15,6 +15,10 @@
 
 package tachyon.master;
 
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
 import tachyon.thrift.ClientFileInfo;
 
 /**
@@ -36,6 +40,13 @@ public abstract class Inode extends ImageWriter implements Comparable<Inode> {
 
   private long mLastModificationTimeMs;
 
+  /**
+   * Namespace lock of the inode. A read lock is held while the inode is looked up or traversed, a
+   * write lock while its structure changes, e.g. children are added or removed, or it is renamed.
+   * See {@link InodeLockGroup}.
+   */
+  private final ReentrantReadWriteLock mLock = new ReentrantReadWriteLock();
+
   /**
    * Create an inode.
    *
@@ -76,6 +87,15 @@ public abstract class Inode extends ImageWriter implements Comparable<Inode> {
    */
   public abstract ClientFileInfo generateClientFileInfo(String path);
 
+  /**
+   * Write the inode to a binary image. Unlike the JSON image, a folder does not include its
+   * children; they are linked back to it by their parent ids when the image is loaded.
+   *
+   * @param dos The target data output stream
+   * @throws IOException
+   */
+  abstract void writeImage(DataOutputStream dos) throws IOException;
+
   /**
    * Get the create time of the inode.
    *
@@ -85,6 +105,15 @@ public abstract class Inode extends ImageWriter implements Comparable<Inode> {
     return mCreationTimeMs;
   }
 
+  /**
+   * Get the namespace lock of the inode.
+   *
+   * @return the read write lock of the inode
+   */
+  ReentrantReadWriteLock getLock() {
+    return mLock;
+  }
+
   /**
    * Get the id of the inode
    *
@@ -15,14 +15,17 @@
 
 package tachyon.master;
 
+import java.io.DataInputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import com.fasterxml.jackson.databind.ObjectWriter;
 
 import tachyon.Pair;
+import tachyon.io.Utils;
 import tachyon.thrift.BlockInfoException;
 import tachyon.thrift.ClientBlockInfo;
 import tachyon.thrift.ClientFileInfo;
@@ -41,19 +44,41 @@ public class InodeFile extends Inode {
    * @throws IOException
    */
   static InodeFile loadImage(ImageElement ele) throws IOException {
-    final long creationTimeMs = ele.getLong("creationTimeMs");
-    final int fileId = ele.getInt("id");
-    final String fileName = ele.getString("name");
-    final int parentId = ele.getInt("parentId");
-    final long blockSizeByte = ele.getLong("blockSizeByte");
-    final long length = ele.getLong("length");
-    final boolean isComplete = ele.getBoolean("complete");
-    final boolean isPinned = ele.getBoolean("pin");
-    final boolean isCache = ele.getBoolean("cache");
-    final String ufsPath = ele.getString("ufsPath");
-    final int dependencyId = ele.getInt("depId");
-    final long lastModificationTimeMs = ele.getLong("lastModificationTimeMs");
+    return loadImage(ele.getString("name"), ele.getInt("id"), ele.getInt("parentId"),
+        ele.getLong("blockSizeByte"), ele.getLong("creationTimeMs"), ele.getLong("length"),
+        ele.getBoolean("complete"), ele.getBoolean("pin"), ele.getBoolean("cache"),
+        ele.getString("ufsPath"), ele.getInt("depId"), ele.getLong("lastModificationTimeMs"));
+  }
 
+  /**
+   * Create a new InodeFile from a binary image, as written by
+   * {@link #writeImage(DataOutputStream)}.
+   * 
+   * @param is the binary image
+   * @return the created inode file.
+   * @throws IOException
+   */
+  static InodeFile loadImage(DataInputStream is) throws IOException {
+    final long creationTimeMs = is.readLong();
+    final int fileId = is.readInt();
+    final String fileName = Utils.readString(is);
+    final int parentId = is.readInt();
+    final long blockSizeByte = is.readLong();
+    final long length = is.readLong();
+    final boolean isComplete = is.readBoolean();
+    final boolean isPinned = is.readBoolean();
+    final boolean isCache = is.readBoolean();
+    final String ufsPath = Utils.readString(is);
+    final int dependencyId = is.readInt();
+    final long lastModificationTimeMs = is.readLong();
+    return loadImage(fileName, fileId, parentId, blockSizeByte, creationTimeMs, length,
+        isComplete, isPinned, isCache, ufsPath, dependencyId, lastModificationTimeMs);
+  }
+
+  private static InodeFile loadImage(String fileName, int fileId, int parentId,
+      long blockSizeByte, long creationTimeMs, long length, boolean isComplete, boolean isPinned,
+      boolean isCache, String ufsPath, int dependencyId, long lastModificationTimeMs)
+      throws IOException {
     InodeFile inode = new InodeFile(fileName, fileId, parentId, blockSizeByte, creationTimeMs);
 
     try {
@@ -76,7 +101,9 @@ public class InodeFile extends Inode {
   private boolean mCache = false;
   private String mUfsPath = "";
 
-  private final List<BlockInfo> mBlocks = new ArrayList<BlockInfo>(3);
+  // Blocks are only ever appended, and rarely compared to how often their locations are read, so
+  // a copy-on-write list lets the block location lookups run without taking the monitor.
+  private final List<BlockInfo> mBlocks = new CopyOnWriteArrayList<BlockInfo>();
 
   private int mDependencyId;
 
@@ -183,7 +210,7 @@ public class InodeFile extends Inode {
    * 
    * @return a duplication of all the blocks' ids of the file
    */
-  public synchronized List<Long> getBlockIds() {
+  public List<Long> getBlockIds() {
     List<Long> ret = new ArrayList<Long>(mBlocks.size());
     for (int k = 0; k < mBlocks.size(); k ++) {
       ret.add(mBlocks.get(k).mBlockId);
@@ -197,7 +224,7 @@ public class InodeFile extends Inode {
    * 
    * @return all the pairs of the blocks and the workers
    */
-  public synchronized List<Pair<Long, Long>> getBlockIdWorkerIdPairs() {
+  public List<Pair<Long, Long>> getBlockIdWorkerIdPairs() {
     List<Pair<Long, Long>> ret = new ArrayList<Pair<Long, Long>>();
     for (BlockInfo info : mBlocks) {
       ret.addAll(info.getBlockIdWorkerIdPairs());
@@ -221,12 +248,13 @@ public class InodeFile extends Inode {
    * @return a list of the worker's net address who caches the block
    * @throws BlockInfoException
    */
-  public synchronized List<NetAddress> getBlockLocations(int blockIndex) throws BlockInfoException {
-    if (blockIndex < 0 || blockIndex > mBlocks.size()) {
+  public List<NetAddress> getBlockLocations(int blockIndex) throws BlockInfoException {
+    List<BlockInfo> blocks = mBlocks;
+    if (blockIndex < 0 || blockIndex >= blocks.size()) {
       throw new BlockInfoException("BlockIndex is out of the boundry: " + blockIndex);
     }
 
-    return mBlocks.get(blockIndex).getLocations();
+    return blocks.get(blockIndex).getLocations();
   }
 
   /**
@@ -254,7 +282,7 @@ public class InodeFile extends Inode {
    * @return the generated ClientBlockInfo
    * @throws BlockInfoException
    */
-  public synchronized ClientBlockInfo getClientBlockInfo(int blockIndex) throws BlockInfoException {
+  public ClientBlockInfo getClientBlockInfo(int blockIndex) throws BlockInfoException {
     if (blockIndex < 0 || blockIndex >= mBlocks.size()) {
       throw new BlockInfoException("BlockIndex is out of the boundry: " + blockIndex);
     }
@@ -267,7 +295,7 @@ public class InodeFile extends Inode {
    * 
    * @return all blocks ClientBlockInfo
    */
-  public synchronized List<ClientBlockInfo> getClientBlockInfos() {
+  public List<ClientBlockInfo> getClientBlockInfos() {
     List<ClientBlockInfo> ret = new ArrayList<ClientBlockInfo>(mBlocks.size());
     for (BlockInfo tInfo : mBlocks) {
       ret.add(tInfo.generateClientBlockInfo());
@@ -326,7 +354,7 @@ public class InodeFile extends Inode {
    * 
    * @return the number of the blocks
    */
-  public synchronized int getNumberOfBlocks() {
+  public int getNumberOfBlocks() {
     return mBlocks.size();
   }
 
@@ -478,4 +506,20 @@ public class InodeFile extends Inode {
 
     writeElement(objWriter, dos, ele);
   }
+
+  @Override
+  synchronized void writeImage(DataOutputStream dos) throws IOException {
+    dos.writeLong(getCreationTimeMs());
+    dos.writeInt(getId());
+    Utils.writeString(getName(), dos);
+    dos.writeInt(getParentId());
+    dos.writeLong(getBlockSizeByte());
+    dos.writeLong(getLength());
+    dos.writeBoolean(isComplete());
+    dos.writeBoolean(isPinned());
+    dos.writeBoolean(isCache());
+    Utils.writeString(getUfsPath(), dos);
+    dos.writeInt(getDependencyId());
+    dos.writeLong(getLastModificationTimeMs());
+  }
 }
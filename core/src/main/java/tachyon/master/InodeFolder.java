@@ -15,11 +15,13 @@
 
 package tachyon.master;
 
+import java.io.DataInputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
 import java.util.ArrayList;
-import java.util.HashSet;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import org.slf4j.Logger;
@@ -31,6 +33,7 @@ import com.fasterxml.jackson.databind.ObjectWriter;
 import com.google.common.collect.ImmutableSet;
 
 import tachyon.Constants;
+import tachyon.io.Utils;
 import tachyon.thrift.ClientFileInfo;
 
 /**
@@ -86,7 +89,31 @@ public class InodeFolder extends Inode {
     return folder;
   }
 
-  private Set<Inode> mChildren = new HashSet<Inode>();
+  /**
+   * Create a new InodeFolder without children from a binary image, as written by
+   * {@link #writeImage(DataOutputStream)}.
+   *
+   * @param is the binary image
+   * @return the constructed InodeFolder.
+   * @throws IOException
+   */
+  static InodeFolder loadImage(DataInputStream is) throws IOException {
+    final long creationTimeMs = is.readLong();
+    final int fileId = is.readInt();
+    final String fileName = Utils.readString(is);
+    final int parentId = is.readInt();
+    final boolean isPinned = is.readBoolean();
+    final long lastModificationTimeMs = is.readLong();
+
+    InodeFolder folder = new InodeFolder(fileName, fileId, parentId, creationTimeMs);
+    folder.setPinned(isPinned);
+    folder.setLastModificationTimeMs(lastModificationTimeMs);
+    return folder;
+  }
+
+  // The children keyed by their names, so path traversal finds a child in constant time. Renaming
+  // a child has to remove it from the folder before changing its name.
+  private Map<String, Inode> mChildren = new HashMap<String, Inode>();
 
   /**
    * Create a new InodeFolder.
@@ -106,7 +133,7 @@ public class InodeFolder extends Inode {
    * @param child The inode to add
    */
   public synchronized void addChild(Inode child) {
-    mChildren.add(child);
+    mChildren.put(child.getName(), child);
   }
 
   /**
@@ -155,7 +182,7 @@ public class InodeFolder extends Inode {
    * @return the inode with the given id, or null if there is no child with that id
    */
   public synchronized Inode getChild(int fid) {
-    for (Inode child : mChildren) {
+    for (Inode child : mChildren.values()) {
       if (child.getId() == fid) {
         return child;
       }
@@ -170,12 +197,7 @@ public class InodeFolder extends Inode {
    * @return the inode with the given name, or null if there is no child with that name
    */
   public synchronized Inode getChild(String name) {
-    for (Inode child : mChildren) {
-      if (child.getName().equals(name)) {
-        return child;
-      }
-    }
-    return null;
+    return mChildren.get(name);
   }
 
   /**
@@ -184,7 +206,7 @@ public class InodeFolder extends Inode {
    * @return an unmodifiable set of the children inodes.
    */
   public synchronized Set<Inode> getChildren() {
-    return ImmutableSet.copyOf(mChildren);
+    return ImmutableSet.copyOf(mChildren.values());
   }
 
   /**
@@ -194,7 +216,7 @@ public class InodeFolder extends Inode {
    */
   public synchronized List<Integer> getChildrenIds() {
     List<Integer> ret = new ArrayList<Integer>(mChildren.size());
-    for (Inode child : mChildren) {
+    for (Inode child : mChildren.values()) {
       ret.add(child.getId());
     }
     return ret;
@@ -216,7 +238,12 @@ public class InodeFolder extends Inode {
    * @return true if the inode was removed, false otherwise.
    */
   public synchronized boolean removeChild(Inode child) {
-    return mChildren.remove(child);
+    Inode existing = mChildren.get(child.getName());
+    if (existing == null || !existing.equals(child)) {
+      return false;
+    }
+    mChildren.remove(child.getName());
+    return true;
   }
 
   /**
@@ -226,19 +253,13 @@ public class InodeFolder extends Inode {
    * @return true if the inode was removed, false otherwise.
    */
   public synchronized boolean removeChild(String name) {
-    for (Inode child : mChildren) {
-      if (child.getName().equals(name)) {
-        mChildren.remove(child);
-        return true;
-      }
-    }
-    return false;
+    return mChildren.remove(name) != null;
   }
 
   @Override
   public String toString() {
     StringBuilder sb = new StringBuilder("InodeFolder(");
-    sb.append(super.toString()).append(",").append(mChildren).append(")");
+    sb.append(super.toString()).append(",").append(mChildren.values()).append(")");
     return sb.toString();
   }
 
@@ -262,4 +283,14 @@ public class InodeFolder extends Inode {
       inode.writeImage(objWriter, dos);
     }
   }
+
+  @Override
+  void writeImage(DataOutputStream dos) throws IOException {
+    dos.writeLong(getCreationTimeMs());
+    dos.writeInt(getId());
+    Utils.writeString(getName(), dos);
+    dos.writeInt(getParentId());
+    dos.writeBoolean(isPinned());
+    dos.writeLong(getLastModificationTimeMs());
+  }
 }
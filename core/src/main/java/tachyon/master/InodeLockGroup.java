@@ -0,0 +1,103 @@
+/*
+ * Licensed to the University of California, Berkeley under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package tachyon.master;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The inode locks held by one namespace operation of {@link MasterInfo}.
+ * 
+ * Operations lock inodes top-down along the paths they touch: ancestors are read locked and only
+ * the inodes whose structure changes are write locked. Since every operation acquires locks in
+ * root-to-leaf order, operations on independent subtrees run in parallel and two operations never
+ * wait on each other in opposite orders. An operation that only needs a single inode, e.g. adding a
+ * block location, may lock that inode alone as long as it does not acquire other inode locks while
+ * holding it.
+ * 
+ * A lock group is used by one thread only. The locks are released in the reverse order of
+ * acquisition by {@link #unlockAll()}, which callers should invoke in a finally block.
+ */
+final class InodeLockGroup {
+  private final List<Inode> mInodes = new ArrayList<Inode>();
+  private final List<Boolean> mWriteLocks = new ArrayList<Boolean>();
+
+  /**
+   * Lock the inode and add it to the group.
+   * 
+   * @param inode The inode to lock
+   * @param write If true, take the write lock, otherwise the read lock
+   */
+  void lock(Inode inode, boolean write) {
+    if (write) {
+      inode.getLock().writeLock().lock();
+    } else {
+      inode.getLock().readLock().lock();
+    }
+    mInodes.add(inode);
+    mWriteLocks.add(write);
+  }
+
+  /**
+   * Read lock the inode and add it to the group.
+   * 
+   * @param inode The inode to lock
+   */
+  void lockRead(Inode inode) {
+    lock(inode, false);
+  }
+
+  /**
+   * Write lock the inode and add it to the group.
+   * 
+   * @param inode The inode to lock
+   */
+  void lockWrite(Inode inode) {
+    lock(inode, true);
+  }
+
+  /**
+   * @return the number of locks held by the group
+   */
+  int size() {
+    return mInodes.size();
+  }
+
+  /**
+   * Release all the locks in the group, in the reverse order of acquisition.
+   */
+  void unlockAll() {
+    while (!mInodes.isEmpty()) {
+      unlockLast();
+    }
+  }
+
+  /**
+   * Release the most recently acquired lock of the group.
+   * 
+   * @return the inode which was unlocked
+   */
+  Inode unlockLast() {
+    int last = mInodes.size() - 1;
+    Inode inode = mInodes.remove(last);
+    if (mWriteLocks.remove(last)) {
+      inode.getLock().writeLock().unlock();
+    } else {
+      inode.getLock().readLock().unlock();
+    }
+    return inode;
+  }
+}
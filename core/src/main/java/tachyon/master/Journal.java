@@ -30,6 +30,7 @@ public class Journal {
   private String mImagePath = null;
   private String mStandbyImagePath = null;
   private String mEditLogPath = null;
+  private EditLogTailer mEditLogTailer = null;
 
   /**
    * Create a Journal manager.
@@ -45,6 +46,7 @@ public class Journal {
     }
     mImagePath = folder + imageFileName;
     mEditLogPath = folder + editLogFileName;
+    mEditLogTailer = new EditLogTailer(mEditLogPath);
   }
 
   /**
@@ -145,6 +147,17 @@ public class Journal {
     mCurrentLogFileNum ++;
   }
 
+  /**
+   * Apply the operations that the leader master has synced to its active edit log so far.
+   * 
+   * @param info The Master Info
+   * @return the number of operations applied
+   * @throws IOException
+   */
+  public int tailEditLog(MasterInfo info) throws IOException {
+    return mEditLogTailer.tail(info);
+  }
+
   /**
    * Changes the max edit log size for testing purposes
    * 
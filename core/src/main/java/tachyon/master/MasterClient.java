@@ -49,6 +49,7 @@ import tachyon.conf.UserConf;
 import tachyon.retry.ExponentialBackoffRetry;
 import tachyon.retry.RetryPolicy;
 import tachyon.thrift.BlockInfoException;
+import tachyon.thrift.ClientBatchResult;
 import tachyon.thrift.ClientBlockInfo;
 import tachyon.thrift.ClientDependencyInfo;
 import tachyon.thrift.ClientFileInfo;
@@ -260,6 +261,27 @@ public final class MasterClient implements Closeable {
     return null;
   }
 
+  /**
+   * Get the ClientFileInfo of a batch of paths in one round trip. Entry k of
+   * <code>fileInfos</code> answers <code>paths.get(k)</code>; missing files have an id of -1.
+   */
+  public synchronized ClientBatchResult getFileStatusBatch(List<String> paths)
+      throws IOException {
+    pathsCheck(paths);
+
+    while (!mIsShutdown) {
+      connect();
+
+      try {
+        return mClient.getFileStatusBatch(paths);
+      } catch (TException e) {
+        LOG.error(e.getMessage(), e);
+        mConnected = false;
+      }
+    }
+    return null;
+  }
+
   private synchronized InetSocketAddress getMasterAddress() {
     if (!mUseZookeeper) {
       return mMasterAddress;
@@ -277,6 +299,22 @@ public final class MasterClient implements Closeable {
     }
   }
 
+  /**
+   * Returns the user id the master gave this client when it last connected, without waiting for
+   * the RPCs in progress on the client. The id changes when the client reconnects to a new master,
+   * so callers read it per call instead of keeping it.
+   * 
+   * @return the user id of the client
+   * @throws IOException if the client never connected and fails to
+   */
+  public long getCurrentUserId() throws IOException {
+    long userId = mUserId;
+    if (userId == -1) {
+      return getUserId();
+    }
+    return userId;
+  }
+
   public synchronized long getUserId() throws IOException {
     while (!mIsShutdown) {
       connect();
@@ -331,6 +369,14 @@ public final class MasterClient implements Closeable {
     }
   }
 
+  private synchronized void pathsCheck(List<String> paths) throws IOException {
+    for (String path : paths) {
+      if (path == null || !path.startsWith(TachyonURI.SEPARATOR)) {
+        throw new IOException("Illegal path parameter: " + path);
+      }
+    }
+  }
+
   public synchronized void shutdown() {
     close();
     mIsShutdown = true;
@@ -411,6 +457,27 @@ public final class MasterClient implements Closeable {
     return -1;
   }
 
+  /**
+   * Create a batch of files in one round trip. Unlike {@link #user_createFile}, the files can not
+   * be backed by an under file system path.
+   */
+  public synchronized ClientBatchResult user_createFileBatch(List<String> paths,
+      long blockSizeByte, boolean recursive) throws IOException {
+    pathsCheck(paths);
+
+    while (!mIsShutdown) {
+      connect();
+
+      try {
+        return mClient.user_createFileBatch(paths, blockSizeByte, recursive);
+      } catch (TException e) {
+        LOG.error(e.getMessage(), e);
+        mConnected = false;
+      }
+    }
+    return null;
+  }
+
   public synchronized long user_createNewBlock(int fId) throws IOException {
     while (!mIsShutdown) {
       connect();
@@ -471,6 +538,23 @@ public final class MasterClient implements Closeable {
     return false;
   }
 
+  public synchronized ClientBatchResult user_deleteBatch(List<String> paths, boolean recursive)
+      throws IOException {
+    pathsCheck(paths);
+
+    while (!mIsShutdown) {
+      connect();
+
+      try {
+        return mClient.user_deleteBatch(paths, recursive);
+      } catch (TException e) {
+        LOG.error(e.getMessage(), e);
+        mConnected = false;
+      }
+    }
+    return null;
+  }
+
   public synchronized long user_getBlockId(int fId, int index) throws IOException {
     while (!mIsShutdown) {
       connect();
@@ -504,6 +588,21 @@ public final class MasterClient implements Closeable {
     return null;
   }
 
+  public synchronized ClientBatchResult user_getClientBlockInfoBatch(List<Long> blockIds)
+      throws IOException {
+    while (!mIsShutdown) {
+      connect();
+
+      try {
+        return mClient.user_getClientBlockInfoBatch(blockIds);
+      } catch (TException e) {
+        LOG.error(e.getMessage(), e);
+        mConnected = false;
+      }
+    }
+    return null;
+  }
+
   public synchronized ClientRawTableInfo user_getClientRawTableInfo(int id, String path)
       throws IOException {
     parameterCheck(id, path);
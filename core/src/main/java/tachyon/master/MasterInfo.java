@@ -15,6 +15,9 @@
 
 package tachyon.master;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
 import java.io.DataOutputStream;
 import java.io.FileNotFoundException;
 import java.io.IOException;
@@ -35,7 +38,10 @@ import java.util.Random;
 import java.util.Set;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -58,6 +64,7 @@ import tachyon.UnderFileSystem.SpaceType;
 import tachyon.conf.CommonConf;
 import tachyon.conf.MasterConf;
 import tachyon.thrift.BlockInfoException;
+import tachyon.thrift.ClientBatchResult;
 import tachyon.thrift.ClientBlockInfo;
 import tachyon.thrift.ClientDependencyInfo;
 import tachyon.thrift.ClientFileInfo;
@@ -75,6 +82,9 @@ import tachyon.thrift.TableColumnException;
 import tachyon.thrift.TableDoesNotExistException;
 import tachyon.thrift.TachyonException;
 import tachyon.util.CommonUtils;
+import tachyon.util.ConcurrentIntObjectHashMap;
+import tachyon.util.ConcurrentLongObjectHashMap;
+import tachyon.util.ThreadFactoryUtils;
 
 /**
  * A global view of filesystem in master.
@@ -113,41 +123,47 @@ public class MasterInfo extends ImageWriter {
         hadFailedWorker = true;
         MasterWorkerInfo worker = mLostWorkers.poll();
 
-        // TODO these two locks are not efficient. Since node failure is rare, this is fine for now.
-        synchronized (mRootLock) {
-          synchronized (mFileIdToDependency) {
+        try {
+          for (long blockId : worker.getBlocks()) {
+            int fileId = BlockInfo.computeInodeId(blockId);
+            InodeLockGroup lockGroup = new InodeLockGroup();
             try {
-              for (long blockId : worker.getBlocks()) {
-                int fileId = BlockInfo.computeInodeId(blockId);
-                InodeFile tFile = (InodeFile) mFileIdToInodes.get(fileId);
-                if (tFile != null) {
-                  int blockIndex = BlockInfo.computeBlockIndex(blockId);
-                  tFile.removeLocation(blockIndex, worker.getId());
-                  if (!tFile.hasCheckpointed() && tFile.getBlockLocations(blockIndex).size() == 0) {
-                    LOG.info("Block " + blockId + " got lost from worker " + worker.getId() + " .");
-                    int depId = tFile.getDependencyId();
-                    if (depId == -1) {
-                      LOG.error("Permanent Data loss: " + tFile);
-                    } else {
-                      mLostFiles.add(tFile.getId());
-                      Dependency dep = mFileIdToDependency.get(depId);
-                      dep.addLostFile(tFile.getId());
-                      LOG.info("File " + tFile.getId() + " got lost from worker " + worker.getId()
-                          + " . Trying to recompute it using dependency " + dep.mId);
-                      if (!getPath(tFile).toString().startsWith(mMasterConf.TEMPORARY_FOLDER)) {
-                        mMustRecomputedDpendencies.add(depId);
-                      }
+              Inode inode = lockInode(fileId, lockGroup, false);
+              if (inode == null || !inode.isFile()) {
+                continue;
+              }
+              InodeFile tFile = (InodeFile) inode;
+              int blockIndex = BlockInfo.computeBlockIndex(blockId);
+              tFile.removeLocation(blockIndex, worker.getId());
+              if (!tFile.hasCheckpointed() && tFile.getBlockLocations(blockIndex).size() == 0) {
+                LOG.info("Block " + blockId + " got lost from worker " + worker.getId() + " .");
+                int depId = tFile.getDependencyId();
+                if (depId == -1) {
+                  LOG.error("Permanent Data loss: " + tFile);
+                } else {
+                  TachyonURI path = getPath(tFile);
+                  synchronized (mFileIdToDependency) {
+                    mLostFiles.add(tFile.getId());
+                    Dependency dep = mFileIdToDependency.get(depId);
+                    dep.addLostFile(tFile.getId());
+                    LOG.info("File " + tFile.getId() + " got lost from worker " + worker.getId()
+                        + " . Trying to recompute it using dependency " + dep.mId);
+                    if (path != null
+                        && !path.toString().startsWith(mMasterConf.TEMPORARY_FOLDER)) {
+                      mMustRecomputedDpendencies.add(depId);
                     }
-                  } else {
-                    LOG.info("Block " + blockId + " only lost an in memory copy from worker "
-                        + worker.getId());
                   }
                 }
+              } else {
+                LOG.info("Block " + blockId + " only lost an in memory copy from worker "
+                    + worker.getId());
               }
-            } catch (BlockInfoException e) {
-              LOG.error(e.getMessage(), e);
+            } finally {
+              lockGroup.unlockAll();
             }
           }
+        } catch (BlockInfoException e) {
+          LOG.error(e.getMessage(), e);
         }
       }
 
@@ -171,45 +187,43 @@ public class MasterInfo extends ImageWriter {
         boolean hasLostFiles = false;
         boolean launched = false;
         List<String> cmds = new ArrayList<String>();
-        synchronized (mRootLock) {
-          synchronized (mFileIdToDependency) {
-            if (!mMustRecomputedDpendencies.isEmpty()) {
-              List<Integer> recomputeList = new ArrayList<Integer>();
-              Queue<Integer> checkQueue = new LinkedList<Integer>();
-
-              checkQueue.addAll(mMustRecomputedDpendencies);
-              while (!checkQueue.isEmpty()) {
-                int depId = checkQueue.poll();
-                Dependency dep = mFileIdToDependency.get(depId);
-                boolean canLaunch = true;
-                for (int k = 0; k < dep.mParentFiles.size(); k ++) {
-                  int fildId = dep.mParentFiles.get(k);
-                  if (mLostFiles.contains(fildId)) {
-                    canLaunch = false;
-                    InodeFile iFile = (InodeFile) mFileIdToInodes.get(fildId);
-                    if (!mBeingRecomputedFiles.contains(fildId)) {
-                      int tDepId = iFile.getDependencyId();
-                      if (tDepId != -1 && !mMustRecomputedDpendencies.contains(tDepId)) {
-                        mMustRecomputedDpendencies.add(tDepId);
-                        checkQueue.add(tDepId);
-                      }
+        synchronized (mFileIdToDependency) {
+          if (!mMustRecomputedDpendencies.isEmpty()) {
+            List<Integer> recomputeList = new ArrayList<Integer>();
+            Queue<Integer> checkQueue = new LinkedList<Integer>();
+
+            checkQueue.addAll(mMustRecomputedDpendencies);
+            while (!checkQueue.isEmpty()) {
+              int depId = checkQueue.poll();
+              Dependency dep = mFileIdToDependency.get(depId);
+              boolean canLaunch = true;
+              for (int k = 0; k < dep.mParentFiles.size(); k ++) {
+                int fildId = dep.mParentFiles.get(k);
+                if (mLostFiles.contains(fildId)) {
+                  canLaunch = false;
+                  InodeFile iFile = (InodeFile) mFileIdToInodes.get(fildId);
+                  if (!mBeingRecomputedFiles.contains(fildId)) {
+                    int tDepId = iFile.getDependencyId();
+                    if (tDepId != -1 && !mMustRecomputedDpendencies.contains(tDepId)) {
+                      mMustRecomputedDpendencies.add(tDepId);
+                      checkQueue.add(tDepId);
                     }
                   }
                 }
-                if (canLaunch) {
-                  recomputeList.add(depId);
-                }
               }
-              hasLostFiles = !mMustRecomputedDpendencies.isEmpty();
-              launched = (recomputeList.size() > 0);
-
-              for (int k = 0; k < recomputeList.size(); k ++) {
-                mMustRecomputedDpendencies.remove(recomputeList.get(k));
-                Dependency dep = mFileIdToDependency.get(recomputeList.get(k));
-                mBeingRecomputedFiles.addAll(dep.getLostFiles());
-                cmds.add(dep.getCommand());
+              if (canLaunch) {
+                recomputeList.add(depId);
               }
             }
+            hasLostFiles = !mMustRecomputedDpendencies.isEmpty();
+            launched = (recomputeList.size() > 0);
+
+            for (int k = 0; k < recomputeList.size(); k ++) {
+              mMustRecomputedDpendencies.remove(recomputeList.get(k));
+              Dependency dep = mFileIdToDependency.get(recomputeList.get(k));
+              mBeingRecomputedFiles.addAll(dep.getLostFiles());
+              cmds.add(dep.getCommand());
+            }
           }
         }
 
@@ -249,12 +263,20 @@ public class MasterInfo extends ImageWriter {
   private final AtomicInteger mUserCounter = new AtomicInteger(0);
   private final AtomicInteger mWorkerCounter = new AtomicInteger(0);
 
-  // Root Inode's id must be 1.
+  // Root Inode's id must be 1. Namespace operations lock the inodes they touch top-down from the
+  // root, see InodeLockGroup.
   private InodeFolder mRoot;
-  private final Object mRootLock = new Object();
 
-  // A map from file ID's to Inodes. All operations on it are currently synchronized on mRootLock.
-  private final Map<Integer, Inode> mFileIdToInodes = new HashMap<Integer, Inode>();
+  // A map from file ID's to Inodes. Inodes are added and removed while their parent is write
+  // locked, so lookups by id do not need any inode lock. It is keyed by primitive ints to keep the
+  // per file overhead low.
+  private final ConcurrentIntObjectHashMap<Inode> mFileIdToInodes =
+      new ConcurrentIntObjectHashMap<Inode>();
+  // A map from block ID's to the BlockInfo of every block of every file. Block location lookups
+  // go through this index without taking any inode lock; the locations inside each BlockInfo are
+  // updated copy-on-write.
+  private final ConcurrentLongObjectHashMap<BlockInfo> mBlockIdToBlockInfo =
+      new ConcurrentLongObjectHashMap<BlockInfo>();
   private final Map<Integer, Dependency> mFileIdToDependency = new HashMap<Integer, Dependency>();
   private final RawTables mRawTables = new RawTables();
 
@@ -320,6 +342,21 @@ public class MasterInfo extends ImageWriter {
   Pair<Boolean, Boolean> _addCheckpoint(long workerId, int fileId, long length,
       TachyonURI checkpointPath, long opTimeMs) throws FileNotFoundException,
       SuspectedFileSizeException, BlockInfoException {
+    InodeLockGroup lockGroup = new InodeLockGroup();
+    try {
+      return _addCheckpoint(lockGroup, workerId, fileId, length, checkpointPath, opTimeMs);
+    } finally {
+      lockGroup.unlockAll();
+    }
+  }
+
+  /**
+   * Same as {@link #_addCheckpoint(long, int, long, TachyonURI, long)}, except that the inode locks
+   * are acquired into <code>lockGroup</code> and are released by the caller.
+   */
+  private Pair<Boolean, Boolean> _addCheckpoint(InodeLockGroup lockGroup, long workerId,
+      int fileId, long length, TachyonURI checkpointPath, long opTimeMs)
+      throws FileNotFoundException, SuspectedFileSizeException, BlockInfoException {
     LOG.info(CommonUtils.parametersToString(workerId, fileId, length, checkpointPath));
 
     if (workerId != -1) {
@@ -327,53 +364,52 @@ public class MasterInfo extends ImageWriter {
       tWorkerInfo.updateLastUpdatedTimeMs();
     }
 
-    synchronized (mRootLock) {
-      Inode inode = mFileIdToInodes.get(fileId);
+    Inode inode = lockInode(fileId, lockGroup, true);
 
-      if (inode == null) {
-        throw new FileNotFoundException("File " + fileId + " does not exist.");
-      }
-      if (inode.isDirectory()) {
-        throw new FileNotFoundException("File " + fileId + " is a folder.");
-      }
+    if (inode == null) {
+      throw new FileNotFoundException("File " + fileId + " does not exist.");
+    }
+    if (inode.isDirectory()) {
+      throw new FileNotFoundException("File " + fileId + " is a folder.");
+    }
 
-      InodeFile tFile = (InodeFile) inode;
-      boolean needLog = false;
+    InodeFile tFile = (InodeFile) inode;
+    boolean needLog = false;
 
-      if (tFile.isComplete()) {
-        if (tFile.getLength() != length) {
-          throw new SuspectedFileSizeException(fileId + ". Original Size: " + tFile.getLength()
-              + ". New Size: " + length);
-        }
-      } else {
-        tFile.setLength(length);
-        needLog = true;
+    if (tFile.isComplete()) {
+      if (tFile.getLength() != length) {
+        throw new SuspectedFileSizeException(fileId + ". Original Size: " + tFile.getLength()
+            + ". New Size: " + length);
       }
+    } else {
+      tFile.setLength(length);
+      indexBlocks(tFile);
+      needLog = true;
+    }
 
-      if (!tFile.hasCheckpointed()) {
-        tFile.setUfsPath(checkpointPath.toString());
-        needLog = true;
+    if (!tFile.hasCheckpointed()) {
+      tFile.setUfsPath(checkpointPath.toString());
+      needLog = true;
 
-        synchronized (mFileIdToDependency) {
-          int depId = tFile.getDependencyId();
-          if (depId != -1) {
-            Dependency dep = mFileIdToDependency.get(depId);
-            dep.childCheckpointed(tFile.getId());
-            if (dep.hasCheckpointed()) {
-              mUncheckpointedDependencies.remove(dep.mId);
-              mPriorityDependencies.remove(dep.mId);
-            }
+      synchronized (mFileIdToDependency) {
+        int depId = tFile.getDependencyId();
+        if (depId != -1) {
+          Dependency dep = mFileIdToDependency.get(depId);
+          dep.childCheckpointed(tFile.getId());
+          if (dep.hasCheckpointed()) {
+            mUncheckpointedDependencies.remove(dep.mId);
+            mPriorityDependencies.remove(dep.mId);
           }
         }
       }
-      addFile(fileId, tFile.getDependencyId());
-      tFile.setComplete();
+    }
+    addFile(fileId, tFile.getDependencyId());
+    tFile.setComplete();
 
-      if (needLog) {
-        tFile.setLastModificationTimeMs(opTimeMs);
-      }
-      return new Pair<Boolean, Boolean>(true, needLog);
+    if (needLog) {
+      tFile.setLastModificationTimeMs(opTimeMs);
     }
+    return new Pair<Boolean, Boolean>(true, needLog);
   }
 
   /**
@@ -384,33 +420,50 @@ public class MasterInfo extends ImageWriter {
    * @throws FileDoesNotExistException
    */
   void _completeFile(int fileId, long opTimeMs) throws FileDoesNotExistException {
-    synchronized (mRootLock) {
-      Inode inode = mFileIdToInodes.get(fileId);
-
-      if (inode == null) {
-        throw new FileDoesNotExistException("File " + fileId + " does not exit.");
-      }
-      if (!inode.isFile()) {
-        throw new FileDoesNotExistException("File " + fileId + " is not a file.");
-      }
+    InodeLockGroup lockGroup = new InodeLockGroup();
+    try {
+      _completeFile(lockGroup, fileId, opTimeMs);
+    } finally {
+      lockGroup.unlockAll();
+    }
+  }
 
-      addFile(fileId, ((InodeFile) inode).getDependencyId());
+  /**
+   * Same as {@link #_completeFile(int, long)}, except that the inode locks are acquired into
+   * <code>lockGroup</code> and are released by the caller.
+   */
+  private void _completeFile(InodeLockGroup lockGroup, int fileId, long opTimeMs)
+      throws FileDoesNotExistException {
+    Inode inode = lockInode(fileId, lockGroup, true);
 
-      ((InodeFile) inode).setComplete();
-      inode.setLastModificationTimeMs(opTimeMs);
+    if (inode == null) {
+      throw new FileDoesNotExistException("File " + fileId + " does not exit.");
+    }
+    if (!inode.isFile()) {
+      throw new FileDoesNotExistException("File " + fileId + " is not a file.");
     }
+
+    addFile(fileId, ((InodeFile) inode).getDependencyId());
+
+    ((InodeFile) inode).setComplete();
+    inode.setLastModificationTimeMs(opTimeMs);
   }
 
   int _createDependency(List<Integer> parentsIds, List<Integer> childrenIds, String commandPrefix,
       List<ByteBuffer> data, String comment, String framework, String frameworkVersion,
       DependencyType dependencyType, int dependencyId, long creationTimeMs)
       throws InvalidPathException, FileDoesNotExistException {
-    Dependency dep = null;
-    synchronized (mRootLock) {
-      Set<Integer> parentDependencyIds = new HashSet<Integer>();
-      for (int k = 0; k < parentsIds.size(); k ++) {
-        int parentId = parentsIds.get(k);
-        Inode inode = mFileIdToInodes.get(parentId);
+    // The inodes are locked one at a time: locking several files by id at once could deadlock
+    // with a recursive operation that locks the same files top-down.
+    Set<Integer> parentDependencyIds = new HashSet<Integer>();
+    for (int k = 0; k < parentsIds.size(); k ++) {
+      int parentId = parentsIds.get(k);
+      InodeLockGroup lockGroup = new InodeLockGroup();
+      try {
+        Inode inode = lockInode(parentId, lockGroup, false);
+        if (inode == null) {
+          throw new FileDoesNotExistException("Parent " + parentId + " does not exist.");
+        }
         if (inode.isFile()) {
           LOG.info("PARENT DEPENDENCY ID IS " + ((InodeFile) inode).getDependencyId() + " "
               + (inode));
@@ -420,21 +473,31 @@ public class MasterInfo extends ImageWriter {
         } else {
           throw new InvalidPathException("Parent " + parentId + " is not a file.");
         }
+      } finally {
+        lockGroup.unlockAll();
       }
+    }
 
-      dep =
-          new Dependency(dependencyId, parentsIds, childrenIds, commandPrefix, data, comment,
-              framework, frameworkVersion, dependencyType, parentDependencyIds, creationTimeMs);
+    Dependency dep =
+        new Dependency(dependencyId, parentsIds, childrenIds, commandPrefix, data, comment,
+            framework, frameworkVersion, dependencyType, parentDependencyIds, creationTimeMs);
 
-      List<Inode> childrenInodes = new ArrayList<Inode>();
-      for (int k = 0; k < childrenIds.size(); k ++) {
-        InodeFile inode = (InodeFile) mFileIdToInodes.get(childrenIds.get(k));
-        inode.setDependencyId(dep.mId);
-        inode.setLastModificationTimeMs(creationTimeMs);
-        childrenInodes.add(inode);
-        if (inode.hasCheckpointed()) {
-          dep.childCheckpointed(inode.getId());
+    for (int k = 0; k < childrenIds.size(); k ++) {
+      int childId = childrenIds.get(k);
+      InodeLockGroup lockGroup = new InodeLockGroup();
+      try {
+        Inode inode = lockInode(childId, lockGroup, true);
+        if (inode == null || !inode.isFile()) {
+          throw new FileDoesNotExistException("Child " + childId + " is not a file.");
+        }
+        InodeFile childFile = (InodeFile) inode;
+        childFile.setDependencyId(dep.mId);
+        childFile.setLastModificationTimeMs(creationTimeMs);
+        if (childFile.hasCheckpointed()) {
+          dep.childCheckpointed(childFile.getId());
         }
+      } finally {
+        lockGroup.unlockAll();
       }
     }
 
@@ -476,6 +539,48 @@ public class MasterInfo extends ImageWriter {
   int _createFile(boolean recursive, TachyonURI path, boolean directory, long blockSizeByte,
       long creationTimeMs) throws FileAlreadyExistException, InvalidPathException,
       BlockInfoException, TachyonException {
+    return _createFile(recursive, path, directory, blockSizeByte, creationTimeMs, -1);
+  }
+
+  /**
+   * Internal API, called by the edit log with the id the inode got when it was first created.
+   * 
+   * @param recursive If recursive is true and the filesystem tree is not filled in all the way to
+   *        path yet, it fills in the missing components.
+   * @param path The path to create
+   * @param directory If true, creates an InodeFolder instead of an Inode
+   * @param blockSizeByte If it's a file, the block size for the Inode
+   * @param creationTimeMs The time the file was created
+   * @param inodeId The id of the inode at the given path, or -1 to allocate new ids. The missing
+   *        parent folders get the ids right before it.
+   * @return the id of the inode created at the given path
+   * @throws FileAlreadyExistException
+   * @throws InvalidPathException
+   * @throws BlockInfoException
+   * @throws TachyonException
+   */
+  int _createFile(boolean recursive, TachyonURI path, boolean directory, long blockSizeByte,
+      long creationTimeMs, int inodeId) throws FileAlreadyExistException, InvalidPathException,
+      BlockInfoException, TachyonException {
+    InodeLockGroup lockGroup = new InodeLockGroup();
+    try {
+      return _createFile(lockGroup, recursive, path, directory, blockSizeByte, creationTimeMs,
+          inodeId);
+    } finally {
+      lockGroup.unlockAll();
+    }
+  }
+
+  /**
+   * Same as {@link #_createFile(boolean, TachyonURI, boolean, long, long, int)}, except that the
+   * inode locks are acquired into <code>lockGroup</code> and are released by the caller. The
+   * ancestors of the path are read locked and the folder the new inodes are added to is write
+   * locked.
+   */
+  private int _createFile(InodeLockGroup lockGroup, boolean recursive, TachyonURI path,
+      boolean directory, long blockSizeByte, long creationTimeMs, int inodeId)
+      throws FileAlreadyExistException, InvalidPathException, BlockInfoException,
+      TachyonException {
     if (path.isRoot()) {
       LOG.info("FileAlreadyExistException: " + path);
       throw new FileAlreadyExistException(path.toString());
@@ -493,46 +598,50 @@ public class MasterInfo extends ImageWriter {
     String[] parentPath = new String[pathNames.length - 1];
     System.arraycopy(pathNames, 0, parentPath, 0, parentPath.length);
 
-    synchronized (mRootLock) {
-      Pair<Inode, Integer> inodeTraversal = traverseToInode(parentPath);
-      // pathIndex is the index into pathNames where we start filling in the path from the inode.
-      int pathIndex = parentPath.length;
-      if (!traversalSucceeded(inodeTraversal)) {
-        // Then the path component at errorInd k doesn't exist. If it's not recursive, we throw an
-        // exception here. Otherwise we add the remaining path components to the list of components
-        // to create.
-        if (!recursive) {
-          final String msg =
-              "File " + path + " creation failed. Component " + inodeTraversal.getSecond() + "("
-                  + parentPath[inodeTraversal.getSecond()] + ") does not exist";
-          LOG.info("InvalidPathException: " + msg);
-          throw new InvalidPathException(msg);
-        } else {
-          // We will start filling in the path from inodeTraversal.getSecond()
-          pathIndex = inodeTraversal.getSecond();
+    Pair<Inode, Integer> inodeTraversal = traverseToInode(parentPath, lockGroup, 1);
+    // pathIndex is the index into pathNames where we start filling in the path from the inode.
+    int pathIndex = parentPath.length;
+    if (!traversalSucceeded(inodeTraversal)) {
+      // Then the path component at errorInd k doesn't exist. If it's not recursive, we throw an
+      // exception here. Otherwise we add the remaining path components to the list of components
+      // to create.
+      if (!recursive) {
+        final String msg =
+            "File " + path + " creation failed. Component " + inodeTraversal.getSecond() + "("
+                + parentPath[inodeTraversal.getSecond()] + ") does not exist";
+        LOG.info("InvalidPathException: " + msg);
+        throw new InvalidPathException(msg);
+      } else {
+        // We will start filling in the path from inodeTraversal.getSecond()
+        pathIndex = inodeTraversal.getSecond();
+        // The deepest existing folder is only read locked. Trade it for a write lock; its parent
+        // stays read locked so it cannot go away in between. Another thread may have created the
+        // missing components meanwhile, so walk down again under write locks.
+        Inode current = lockGroup.unlockLast();
+        lockGroup.lockWrite(current);
+        while (pathIndex < parentPath.length && current.isDirectory()) {
+          Inode next = ((InodeFolder) current).getChild(parentPath[pathIndex]);
+          if (next == null) {
+            break;
+          }
+          lockGroup.lockWrite(next);
+          current = next;
+          pathIndex ++;
         }
+        inodeTraversal.setFirst(current);
       }
+    }
 
-      if (!inodeTraversal.getFirst().isDirectory()) {
-        throw new InvalidPathException("Could not traverse to parent folder of path " + path
-            + ". Component " + pathNames[pathIndex - 1] + " is not a directory.");
-      }
-      InodeFolder currentInodeFolder = (InodeFolder) inodeTraversal.getFirst();
-      // Fill in the directories that were missing.
-      for (int k = pathIndex; k < parentPath.length; k ++) {
-        Inode dir =
-            new InodeFolder(pathNames[k], mInodeCounter.incrementAndGet(),
-                currentInodeFolder.getId(), creationTimeMs);
-        dir.setPinned(currentInodeFolder.isPinned());
-        currentInodeFolder.addChild(dir);
-        currentInodeFolder.setLastModificationTimeMs(creationTimeMs);
-        mFileIdToInodes.put(dir.getId(), dir);
-        currentInodeFolder = (InodeFolder) dir;
-      }
+    if (!inodeTraversal.getFirst().isDirectory()) {
+      throw new InvalidPathException("Could not traverse to parent folder of path " + path
+          + ". Component " + pathNames[pathIndex - 1] + " is not a directory.");
+    }
+    InodeFolder currentInodeFolder = (InodeFolder) inodeTraversal.getFirst();
 
-      // Create the final path component. First we need to make sure that there isn't already a file
-      // here with that name. If there is an existing file that is a directory and we're creating a
-      // directory, we just return the existing directory's id.
+    // Create the final path component. First we need to make sure that there isn't already a file
+    // here with that name. If there is an existing file that is a directory and we're creating a
+    // directory, we just return the existing directory's id.
+    if (pathIndex == parentPath.length) {
       Inode ret = currentInodeFolder.getChild(name);
       if (ret != null) {
         if (ret.isDirectory() && directory) {
@@ -541,31 +650,56 @@ public class MasterInfo extends ImageWriter {
         LOG.info("FileAlreadyExistException: " + path);
         throw new FileAlreadyExistException(path.toString());
       }
-      if (directory) {
-        ret =
-            new InodeFolder(name, mInodeCounter.incrementAndGet(), currentInodeFolder.getId(),
-                creationTimeMs);
-        ret.setPinned(currentInodeFolder.isPinned());
-      } else {
-        ret =
-            new InodeFile(name, mInodeCounter.incrementAndGet(), currentInodeFolder.getId(),
-                blockSizeByte, creationTimeMs);
-        ret.setPinned(currentInodeFolder.isPinned());
-        if (ret.isPinned()) {
-          mPinnedInodeFileIds.add(ret.getId());
-        }
-        if (mWhitelist.inList(path.toString())) {
-          ((InodeFile) ret).setCache(true);
-        }
+    }
+
+    // Allocate the ids of the missing folders and of the new inode as one contiguous range, so
+    // that replaying the edit log assigns the same ids no matter how concurrent creates were
+    // interleaved.
+    int newInodes = parentPath.length - pathIndex + 1;
+    int nextId;
+    if (inodeId == -1) {
+      nextId = mInodeCounter.addAndGet(newInodes) - newInodes + 1;
+    } else {
+      nextId = inodeId - newInodes + 1;
+      int counter = mInodeCounter.get();
+      while (counter < inodeId && !mInodeCounter.compareAndSet(counter, inodeId)) {
+        counter = mInodeCounter.get();
       }
+    }
 
-      mFileIdToInodes.put(ret.getId(), ret);
-      currentInodeFolder.addChild(ret);
+    // Fill in the directories that were missing.
+    for (int k = pathIndex; k < parentPath.length; k ++) {
+      Inode dir =
+          new InodeFolder(pathNames[k], nextId ++, currentInodeFolder.getId(), creationTimeMs);
+      dir.setPinned(currentInodeFolder.isPinned());
+      currentInodeFolder.addChild(dir);
       currentInodeFolder.setLastModificationTimeMs(creationTimeMs);
+      mFileIdToInodes.put(dir.getId(), dir);
+      currentInodeFolder = (InodeFolder) dir;
+    }
 
-      LOG.debug("createFile: File Created: {} parent: ", ret, currentInodeFolder);
-      return ret.getId();
+    Inode ret;
+    if (directory) {
+      ret = new InodeFolder(name, nextId, currentInodeFolder.getId(), creationTimeMs);
+      ret.setPinned(currentInodeFolder.isPinned());
+    } else {
+      ret =
+          new InodeFile(name, nextId, currentInodeFolder.getId(), blockSizeByte, creationTimeMs);
+      ret.setPinned(currentInodeFolder.isPinned());
+      if (ret.isPinned()) {
+        mPinnedInodeFileIds.add(ret.getId());
+      }
+      if (mWhitelist.inList(path.toString())) {
+        ((InodeFile) ret).setCache(true);
+      }
     }
+
+    mFileIdToInodes.put(ret.getId(), ret);
+    currentInodeFolder.addChild(ret);
+    currentInodeFolder.setLastModificationTimeMs(creationTimeMs);
+
+    LOG.debug("createFile: File Created: {} parent: ", ret, currentInodeFolder);
+    return ret.getId();
   }
 
   void _createRawTable(int tableId, int columns, ByteBuffer metadata) throws TachyonException {
@@ -587,77 +721,93 @@ public class MasterInfo extends ImageWriter {
    * @throws TachyonException
    */
   boolean _delete(int fileId, boolean recursive, long opTimeMs) throws TachyonException {
-    synchronized (mRootLock) {
-      Inode inode = mFileIdToInodes.get(fileId);
-      if (inode == null) {
-        return true;
-      }
-
-      if (inode.isDirectory() && !recursive && ((InodeFolder) inode).getNumberOfChildren() > 0) {
-        // inode is nonempty, and we don't want to delete a nonempty directory unless recursive is
-        // true
-        return false;
-      }
+    InodeLockGroup lockGroup = new InodeLockGroup();
+    try {
+      return _delete(lockGroup, fileId, recursive, opTimeMs);
+    } finally {
+      lockGroup.unlockAll();
+    }
+  }
 
-      if (inode.getId() == mRoot.getId()) {
-        // The root cannot be deleted.
-        return false;
-      }
+  /**
+   * Same as {@link #_delete(int, boolean, long)}, except that the inode locks are acquired into
+   * <code>lockGroup</code> and are released by the caller. The parent folder and every inode being
+   * deleted are write locked.
+   */
+  private boolean _delete(InodeLockGroup lockGroup, int fileId, boolean recursive, long opTimeMs)
+      throws TachyonException {
+    Inode inode = lockInodePath(fileId, lockGroup, 2);
+    if (inode == null) {
+      return true;
+    }
 
-      List<Inode> delInodes = new ArrayList<Inode>();
-      delInodes.add(inode);
-      if (inode.isDirectory()) {
-        delInodes.addAll(getInodeChildrenRecursive((InodeFolder) inode));
-      }
+    if (inode.isDirectory() && !recursive && ((InodeFolder) inode).getNumberOfChildren() > 0) {
+      // inode is nonempty, and we don't want to delete a nonempty directory unless recursive is
+      // true
+      return false;
+    }
 
-      // We go through each inode, removing it from it's parent set and from mDelInodes. If it's a
-      // file, we deal with the checkpoints and blocks as well.
-      for (int i = delInodes.size() - 1; i >= 0; i --) {
-        Inode delInode = delInodes.get(i);
+    if (inode.getId() == mRoot.getId()) {
+      // The root cannot be deleted.
+      return false;
+    }
 
-        if (delInode.isFile()) {
-          String checkpointPath = ((InodeFile) delInode).getUfsPath();
-          if (!checkpointPath.equals("")) {
-            UnderFileSystem ufs = UnderFileSystem.get(checkpointPath);
-            try {
-              if (!ufs.exists(checkpointPath)) {
-                LOG.warn("File does not exist the underfs: " + checkpointPath);
-              } else if (!ufs.delete(checkpointPath, true)) {
-                return false;
-              }
-            } catch (IOException e) {
-              throw new TachyonException(e.getMessage());
+    List<Inode> delInodes = new ArrayList<Inode>();
+    delInodes.add(inode);
+    if (inode.isDirectory()) {
+      delInodes.addAll(getInodeChildrenRecursive((InodeFolder) inode, lockGroup, true));
+    }
+
+    // We go through each inode, removing it from it's parent set and from mDelInodes. If it's a
+    // file, we deal with the checkpoints and blocks as well.
+    for (int i = delInodes.size() - 1; i >= 0; i --) {
+      Inode delInode = delInodes.get(i);
+
+      if (delInode.isFile()) {
+        String checkpointPath = ((InodeFile) delInode).getUfsPath();
+        if (!checkpointPath.equals("")) {
+          UnderFileSystem ufs = UnderFileSystem.get(checkpointPath);
+          try {
+            if (!ufs.exists(checkpointPath)) {
+              LOG.warn("File does not exist the underfs: " + checkpointPath);
+            } else if (!ufs.delete(checkpointPath, true)) {
+              return false;
             }
+          } catch (IOException e) {
+            throw new TachyonException(e.getMessage());
           }
+        }
 
-          List<Pair<Long, Long>> blockIdWorkerIdList =
-              ((InodeFile) delInode).getBlockIdWorkerIdPairs();
-          synchronized (mWorkers) {
-            for (Pair<Long, Long> blockIdWorkerId : blockIdWorkerIdList) {
-              MasterWorkerInfo workerInfo = mWorkers.get(blockIdWorkerId.getSecond());
-              if (workerInfo != null) {
-                workerInfo.updateToRemovedBlock(true, blockIdWorkerId.getFirst());
-              }
+        List<Pair<Long, Long>> blockIdWorkerIdList =
+            ((InodeFile) delInode).getBlockIdWorkerIdPairs();
+        synchronized (mWorkers) {
+          for (Pair<Long, Long> blockIdWorkerId : blockIdWorkerIdList) {
+            MasterWorkerInfo workerInfo = mWorkers.get(blockIdWorkerId.getSecond());
+            if (workerInfo != null) {
+              workerInfo.updateToRemovedBlock(true, blockIdWorkerId.getFirst());
             }
           }
-
-          mPinnedInodeFileIds.remove(delInode.getId());
         }
 
-        InodeFolder parent = (InodeFolder) mFileIdToInodes.get(delInode.getParentId());
-        parent.removeChild(delInode);
-        parent.setLastModificationTimeMs(opTimeMs);
+        mPinnedInodeFileIds.remove(delInode.getId());
+      }
 
-        if (mRawTables.exist(delInode.getId()) && !mRawTables.delete(delInode.getId())) {
-          return false;
-        }
+      InodeFolder parent = (InodeFolder) mFileIdToInodes.get(delInode.getParentId());
+      parent.removeChild(delInode);
+      parent.setLastModificationTimeMs(opTimeMs);
 
-        mFileIdToInodes.remove(delInode.getId());
-        delInode.reverseId();
+      if (mRawTables.exist(delInode.getId()) && !mRawTables.delete(delInode.getId())) {
+        return false;
       }
 
-      return true;
+      if (delInode.isFile()) {
+        unindexBlocks((InodeFile) delInode);
+      }
+      mFileIdToInodes.remove(delInode.getId());
+      delInode.reverseId();
     }
+
+    return true;
   }
 
   /**
@@ -689,27 +839,28 @@ public class MasterInfo extends ImageWriter {
    * @param inode The inode to list
    * @param path The path of the given inode
    * @param recursive If true, recursively add the paths of the sub-directories
+   * @param lockGroup The lock group holding a read lock on the inode, which the locks of the
+   *        sub-directories are added to
    * @return the list of paths
    * @throws InvalidPathException
    * @throws FileDoesNotExistException
    */
-  private List<TachyonURI> _ls(Inode inode, TachyonURI path, boolean recursive)
-      throws InvalidPathException, FileDoesNotExistException {
-    synchronized (mRootLock) {
-      List<TachyonURI> ret = new ArrayList<TachyonURI>();
-      ret.add(path);
-      if (inode.isDirectory()) {
-        for (Inode child : ((InodeFolder) inode).getChildren()) {
-          TachyonURI childUri = path.join(child.getName());
-          if (recursive) {
-            ret.addAll(_ls(child, childUri, recursive));
-          } else {
-            ret.add(childUri);
-          }
+  private List<TachyonURI> _ls(Inode inode, TachyonURI path, boolean recursive,
+      InodeLockGroup lockGroup) throws InvalidPathException, FileDoesNotExistException {
+    List<TachyonURI> ret = new ArrayList<TachyonURI>();
+    ret.add(path);
+    if (inode.isDirectory()) {
+      for (Inode child : ((InodeFolder) inode).getChildren()) {
+        TachyonURI childUri = path.join(child.getName());
+        if (recursive) {
+          lockGroup.lockRead(child);
+          ret.addAll(_ls(child, childUri, recursive, lockGroup));
+        } else {
+          ret.add(childUri);
         }
       }
-      return ret;
     }
+    return ret;
   }
 
   /**
@@ -751,8 +902,33 @@ public class MasterInfo extends ImageWriter {
    */
   public boolean _rename(int fileId, TachyonURI dstPath, long opTimeMs)
       throws FileDoesNotExistException, InvalidPathException {
-    synchronized (mRootLock) {
-      TachyonURI srcPath = getPath(fileId);
+    InodeLockGroup lockGroup = new InodeLockGroup();
+    try {
+      return _rename(lockGroup, fileId, dstPath, opTimeMs);
+    } finally {
+      lockGroup.unlockAll();
+    }
+  }
+
+  /**
+   * Same as {@link #_rename(int, TachyonURI, long)}, except that the inode locks are acquired into
+   * <code>lockGroup</code> and are released by the caller. The lowest common ancestor of the source
+   * and destination folders and everything from it down to both folders are write locked. Every
+   * operation below that ancestor holds a read lock on it, so once it is write locked both folders
+   * can be changed without other operations observing an intermediate state.
+   */
+  private boolean _rename(InodeLockGroup lockGroup, int fileId, TachyonURI dstPath,
+      long opTimeMs) throws FileDoesNotExistException, InvalidPathException {
+    while (true) {
+      Inode srcInode = mFileIdToInodes.get(fileId);
+      if (srcInode == null) {
+        throw new FileDoesNotExistException("FileId " + fileId + " does not exist");
+      }
+      TachyonURI srcPath = getPath(srcInode);
+      if (srcPath == null) {
+        // An ancestor was renamed or deleted while the path was computed, look again.
+        continue;
+      }
       if (srcPath.equals(dstPath)) {
         return true;
       }
@@ -777,26 +953,39 @@ public class MasterInfo extends ImageWriter {
         }
       }
 
-      TachyonURI srcParent = srcPath.getParent();
-      TachyonURI dstParent = dstPath.getParent();
-
-      // We traverse down to the source and destinations' parent paths
-      Inode srcParentInode = getInode(srcParent);
-      if (srcParentInode == null || !srcParentInode.isDirectory()) {
-        return false;
+      String[] srcParentComponents = new String[srcComponents.length - 1];
+      System.arraycopy(srcComponents, 0, srcParentComponents, 0, srcParentComponents.length);
+      String[] dstParentComponents = new String[dstComponents.length - 1];
+      System.arraycopy(dstComponents, 0, dstParentComponents, 0, dstParentComponents.length);
+      // The number of leading components the parents share; the last of them is the lowest common
+      // ancestor. Both paths start with the root component, so this is at least one.
+      int common = 0;
+      while (common < srcParentComponents.length && common < dstParentComponents.length
+          && srcParentComponents[common].equals(dstParentComponents[common])) {
+        common ++;
       }
 
-      Inode dstParentInode = getInode(dstParent);
-      if (dstParentInode == null || !dstParentInode.isDirectory()) {
+      // We traverse down to the source and destinations' parent paths
+      Pair<Inode, Integer> srcTraversal =
+          traverseToInode(srcParentComponents, lockGroup, srcParentComponents.length - common + 1);
+      Inode srcParentInode = srcTraversal.getFirst();
+      if (!traversalSucceeded(srcTraversal) || !srcParentInode.isDirectory()
+          || ((InodeFolder) srcParentInode).getChild(srcComponents[srcComponents.length - 1])
+              != srcInode) {
+        // The source was moved after its path was computed, start over.
+        lockGroup.unlockAll();
+        continue;
+      }
+      lockGroup.lockWrite(srcInode);
+
+      Pair<Inode, Integer> dstTraversal =
+          traverseToInode(dstParentComponents, lockGroup, dstParentComponents.length - common + 1);
+      Inode dstParentInode = dstTraversal.getFirst();
+      if (!traversalSucceeded(dstTraversal) || !dstParentInode.isDirectory()) {
         return false;
       }
 
-      // We make sure that the source path exists and the destination path doesn't
-      Inode srcInode =
-          ((InodeFolder) srcParentInode).getChild(srcComponents[srcComponents.length - 1]);
-      if (srcInode == null) {
-        return false;
-      }
+      // We make sure that the destination path doesn't exist
       if (((InodeFolder) dstParentInode)
           .getChild(dstComponents[dstComponents.length - 1]) != null) {
         return false;
@@ -814,25 +1003,58 @@ public class MasterInfo extends ImageWriter {
   }
 
   void _setPinned(int fileId, boolean pinned, long opTimeMs) throws FileDoesNotExistException {
-    LOG.info("setPinned(" + fileId + ", " + pinned + ")");
-    synchronized (mRootLock) {
-      Inode inode = mFileIdToInodes.get(fileId);
+    InodeLockGroup lockGroup = new InodeLockGroup();
+    try {
+      _setPinned(lockGroup, fileId, pinned, opTimeMs);
+    } finally {
+      lockGroup.unlockAll();
+    }
+  }
 
-      if (inode == null) {
-        throw new FileDoesNotExistException("Failed to find inode" + fileId);
-      }
+  /**
+   * Same as {@link #_setPinned(int, boolean, long)}, except that the inode locks are acquired into
+   * <code>lockGroup</code> and are released by the caller. The inode and all its descendants are
+   * write locked.
+   */
+  private void _setPinned(InodeLockGroup lockGroup, int fileId, boolean pinned, long opTimeMs)
+      throws FileDoesNotExistException {
+    LOG.info("setPinned(" + fileId + ", " + pinned + ")");
+    Inode inode = lockInodePath(fileId, lockGroup, 1);
 
-      _recomputePinnedFiles(inode, Optional.of(pinned), opTimeMs);
+    if (inode == null) {
+      throw new FileDoesNotExistException("Failed to find inode" + fileId);
     }
+    if (inode.isDirectory()) {
+      getInodeChildrenRecursive((InodeFolder) inode, lockGroup, true);
+    }
+
+    _recomputePinnedFiles(inode, Optional.of(pinned), opTimeMs);
+  }
+
+  /**
+   * Records the failure of item <code>index</code> of a batched call.
+   */
+  private static void addBatchError(ClientBatchResult result, int index, Exception e) {
+    result.putToErrors(index, e.getClass().getSimpleName() + ": " + e.getMessage());
+  }
+
+  /**
+   * Creates the result of a batched call, with an empty error map so that callers can look items
+   * up without checking whether any failed.
+   */
+  private static ClientBatchResult newBatchResult() {
+    ClientBatchResult result = new ClientBatchResult();
+    result.setErrors(new HashMap<Integer, String>());
+    return result;
   }
 
   private void addBlock(InodeFile tFile, BlockInfo blockInfo, long opTimeMs)
       throws BlockInfoException {
     tFile.addBlock(blockInfo);
+    mBlockIdToBlockInfo.put(blockInfo.mBlockId, blockInfo);
     tFile.setLastModificationTimeMs(opTimeMs);
     mJournal.getEditLog().addBlock(tFile.getId(), blockInfo.mBlockIndex, blockInfo.mLength,
         opTimeMs);
-    mJournal.getEditLog().flush();
   }
 
   /**
@@ -850,15 +1072,20 @@ public class MasterInfo extends ImageWriter {
   public boolean addCheckpoint(long workerId, int fileId, long length, TachyonURI checkpointPath)
       throws FileNotFoundException, SuspectedFileSizeException, BlockInfoException {
     long opTimeMs = System.currentTimeMillis();
-    synchronized (mRootLock) {
-      Pair<Boolean, Boolean> ret =
-          _addCheckpoint(workerId, fileId, length, checkpointPath, opTimeMs);
+    Pair<Boolean, Boolean> ret;
+    InodeLockGroup lockGroup = new InodeLockGroup();
+    try {
+      ret = _addCheckpoint(lockGroup, workerId, fileId, length, checkpointPath, opTimeMs);
       if (ret.getSecond()) {
         mJournal.getEditLog().addCheckpoint(fileId, length, checkpointPath, opTimeMs);
-        mJournal.getEditLog().flush();
       }
-      return ret.getFirst();
+    } finally {
+      lockGroup.unlockAll();
     }
+    if (ret.getSecond()) {
+      mJournal.getEditLog().flush();
+    }
+    return ret.getFirst();
   }
 
   /**
@@ -877,15 +1104,39 @@ public class MasterInfo extends ImageWriter {
     }
   }
 
+  /**
+   * Adds all blocks of the file to the block location index.
+   * 
+   * @param tFile The file whose blocks are added
+   */
+  private void indexBlocks(InodeFile tFile) {
+    for (BlockInfo blockInfo : tFile.getBlockList()) {
+      mBlockIdToBlockInfo.put(blockInfo.mBlockId, blockInfo);
+    }
+  }
+
+  /**
+   * Removes all blocks of the file from the block location index.
+   * 
+   * @param tFile The file whose blocks are removed
+   */
+  private void unindexBlocks(InodeFile tFile) {
+    for (BlockInfo blockInfo : tFile.getBlockList()) {
+      mBlockIdToBlockInfo.remove(blockInfo.mBlockId);
+    }
+  }
+
   /**
    * While loading an image, addToInodeMap will map the various ids to their inodes.
    * 
    * @param inode The inode to add
    * @param map The map to add the inodes to
    */
-  private void addToInodeMap(Inode inode, Map<Integer, Inode> map) {
+  private void addToInodeMap(Inode inode, ConcurrentIntObjectHashMap<Inode> map) {
     map.put(inode.getId(), inode);
-    if (inode.isDirectory()) {
+    if (inode.isFile()) {
+      indexBlocks((InodeFile) inode);
+    } else {
       InodeFolder inodeFolder = (InodeFolder) inode;
       for (Inode child : inodeFolder.getChildren()) {
         addToInodeMap(child, map);
@@ -917,31 +1168,47 @@ public class MasterInfo extends ImageWriter {
     tWorkerInfo.updateUsedBytes(workerUsedBytes);
     tWorkerInfo.updateLastUpdatedTimeMs();
 
-    int fileId = BlockInfo.computeInodeId(blockId);
-    int blockIndex = BlockInfo.computeBlockIndex(blockId);
-    synchronized (mRootLock) {
-      Inode inode = mFileIdToInodes.get(fileId);
-
-      if (inode == null) {
-        throw new FileDoesNotExistException("File " + fileId + " does not exist.");
-      }
-      if (inode.isDirectory()) {
-        throw new FileDoesNotExistException("File " + fileId + " is a folder.");
-      }
+    InodeFile tFile;
+    boolean blockAdded = false;
+    BlockInfo blockInfo = mBlockIdToBlockInfo.get(blockId);
+    if (blockInfo != null) {
+      // The block is known already, so only its locations change and no inode lock is needed.
+      blockInfo.addLocation(workerId, tWorkerInfo.mWorkerAddress, storageDirId);
+      tFile = blockInfo.getInodeFile();
+    } else {
+      int fileId = BlockInfo.computeInodeId(blockId);
+      int blockIndex = BlockInfo.computeBlockIndex(blockId);
+      InodeLockGroup lockGroup = new InodeLockGroup();
+      try {
+        Inode inode = lockInode(fileId, lockGroup, true);
 
-      InodeFile tFile = (InodeFile) inode;
-      if (tFile.getNumberOfBlocks() <= blockIndex) {
-        addBlock(tFile, new BlockInfo(tFile, blockIndex, length), System.currentTimeMillis());
-      }
+        if (inode == null) {
+          throw new FileDoesNotExistException("File " + fileId + " does not exist.");
+        }
+        if (inode.isDirectory()) {
+          throw new FileDoesNotExistException("File " + fileId + " is a folder.");
+        }
 
-      tFile.addLocation(blockIndex, workerId, tWorkerInfo.mWorkerAddress, storageDirId);
+        tFile = (InodeFile) inode;
+        if (tFile.getNumberOfBlocks() <= blockIndex) {
+          addBlock(tFile, new BlockInfo(tFile, blockIndex, length), System.currentTimeMillis());
+          blockAdded = true;
+        }
 
-      if (tFile.hasCheckpointed()) {
-        return -1;
-      } else {
-        return tFile.getDependencyId();
+        tFile.addLocation(blockIndex, workerId, tWorkerInfo.mWorkerAddress, storageDirId);
+      } finally {
+        lockGroup.unlockAll();
       }
     }
+    if (blockAdded) {
+      mJournal.getEditLog().flush();
+    }
+
+    if (tFile.hasCheckpointed()) {
+      return -1;
+    } else {
+      return tFile.getDependencyId();
+    }
   }
 
   /**
@@ -952,30 +1219,31 @@ public class MasterInfo extends ImageWriter {
    */
   public void completeFile(int fileId) throws FileDoesNotExistException {
     long opTimeMs = System.currentTimeMillis();
-    synchronized (mRootLock) {
-      _completeFile(fileId, opTimeMs);
+    InodeLockGroup lockGroup = new InodeLockGroup();
+    try {
+      _completeFile(lockGroup, fileId, opTimeMs);
       mJournal.getEditLog().completeFile(fileId, opTimeMs);
-      mJournal.getEditLog().flush();
+    } finally {
+      lockGroup.unlockAll();
     }
+    mJournal.getEditLog().flush();
   }
 
   public int createDependency(List<TachyonURI> parents, List<TachyonURI> children,
       String commandPrefix, List<ByteBuffer> data, String comment, String framework,
       String frameworkVersion, DependencyType dependencyType)
       throws InvalidPathException, FileDoesNotExistException {
-    synchronized (mRootLock) {
-      LOG.info("ParentList: " + CommonUtils.listToString(parents));
-      List<Integer> parentsIdList = getFilesIds(parents);
-      List<Integer> childrenIdList = getFilesIds(children);
+    LOG.info("ParentList: " + CommonUtils.listToString(parents));
+    List<Integer> parentsIdList = getFilesIds(parents);
+    List<Integer> childrenIdList = getFilesIds(children);
 
-      int depId = mDependencyCounter.incrementAndGet();
-      long creationTimeMs = System.currentTimeMillis();
-      int ret =
-          _createDependency(parentsIdList, childrenIdList, commandPrefix, data, comment, framework,
-              frameworkVersion, dependencyType, depId, creationTimeMs);
+    int depId = mDependencyCounter.incrementAndGet();
+    long creationTimeMs = System.currentTimeMillis();
+    int ret =
+        _createDependency(parentsIdList, childrenIdList, commandPrefix, data, comment, framework,
+            frameworkVersion, dependencyType, depId, creationTimeMs);
 
-      return ret;
-    }
+    return ret;
   }
 
   /**
@@ -989,12 +1257,19 @@ public class MasterInfo extends ImageWriter {
   public int createFile(boolean recursive, TachyonURI path, boolean directory, long blockSizeByte)
       throws FileAlreadyExistException, InvalidPathException, BlockInfoException, TachyonException {
     long creationTimeMs = System.currentTimeMillis();
-    synchronized (mRootLock) {
-      int ret = _createFile(recursive, path, directory, blockSizeByte, creationTimeMs);
-      mJournal.getEditLog().createFile(recursive, path, directory, blockSizeByte, creationTimeMs);
-      mJournal.getEditLog().flush();
-      return ret;
-    }
+    int ret;
+    InodeLockGroup lockGroup = new InodeLockGroup();
+    try {
+      ret = _createFile(lockGroup, recursive, path, directory, blockSizeByte, creationTimeMs, -1);
+      mJournal.getEditLog().createFile(recursive, path, directory, blockSizeByte, creationTimeMs,
+          ret);
+    } finally {
+      lockGroup.unlockAll();
+    }
+    // Sync the log after releasing the locks so that operations on other paths are not held up by
+    // the flush.
+    mJournal.getEditLog().flush();
+    return ret;
   }
 
   public int createFile(TachyonURI path, long blockSizeByte) throws FileAlreadyExistException,
@@ -1007,6 +1282,107 @@ public class MasterInfo extends ImageWriter {
     return createFile(recursive, path, false, blockSizeByte);
   }
 
+  /**
+   * Create a batch of files with the same block size. Every path takes its own pass over the inode
+   * locks, so a failing path does not stop the rest of the batch, and the edit log is flushed once
+   * after the last file instead of once per file.
+   * 
+   * @param paths the files to create
+   * @param blockSizeByte the block size of every file
+   * @param recursive whether to create the missing parent folders
+   * @return the new file ids in <code>fileIds</code>, -1 for the paths that failed
+   */
+  public ClientBatchResult createFileBatch(List<TachyonURI> paths, long blockSizeByte,
+      boolean recursive) {
+    long creationTimeMs = System.currentTimeMillis();
+    ClientBatchResult result = newBatchResult();
+    result.setFileIds(new ArrayList<Integer>(paths.size()));
+    InodeLockGroup lockGroup = new InodeLockGroup();
+    for (int k = 0; k < paths.size(); k ++) {
+      TachyonURI path = paths.get(k);
+      int fileId = -1;
+      try {
+        fileId =
+            _createFile(lockGroup, recursive, path, false, blockSizeByte, creationTimeMs, -1);
+        mJournal.getEditLog().createFile(recursive, path, false, blockSizeByte, creationTimeMs,
+            fileId);
+      } catch (FileAlreadyExistException e) {
+        addBatchError(result, k, e);
+      } catch (InvalidPathException e) {
+        addBatchError(result, k, e);
+      } catch (BlockInfoException e) {
+        addBatchError(result, k, e);
+      } catch (TachyonException e) {
+        addBatchError(result, k, e);
+      } finally {
+        lockGroup.unlockAll();
+      }
+      result.addToFileIds(fileId);
+    }
+    mJournal.getEditLog().flush();
+    return result;
+  }
+
+  /**
+   * Serialize the namespace into the sections of a binary image. The inodes are read locked while
+   * they are serialized into memory, which gives a consistent snapshot since every mutation holds
+   * the write lock of at least one inode until it has been logged. Reads of the namespace go on
+   * meanwhile, and mutations are not blocked while the image is written out.
+   * 
+   * @return the sections of the image, see {@link Image}
+   * @throws IOException
+   */
+  List<Pair<ImageSectionType, byte[]>> createImageSections() throws IOException {
+    List<Pair<ImageSectionType, byte[]>> sections = new ArrayList<Pair<ImageSectionType, byte[]>>();
+    InodeLockGroup lockGroup = new InodeLockGroup();
+    try {
+      lockGroup.lockRead(mRoot);
+      List<Inode> inodes = new ArrayList<Inode>();
+      inodes.add(mRoot);
+      inodes.addAll(getInodeChildrenRecursive(mRoot, lockGroup, false));
+
+      ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+      DataOutputStream dos = new DataOutputStream(bytes);
+      synchronized (mFileIdToDependency) {
+        dos.writeInt(mFileIdToDependency.size());
+        for (Dependency dep : mFileIdToDependency.values()) {
+          dep.writeImage(dos);
+        }
+      }
+      sections.add(new Pair<ImageSectionType, byte[]>(ImageSectionType.Dependencies, bytes
+          .toByteArray()));
+
+      bytes.reset();
+      mRawTables.writeImage(dos);
+      sections.add(new Pair<ImageSectionType, byte[]>(ImageSectionType.RawTables, bytes
+          .toByteArray()));
+
+      // Inodes are listed parents first, and each section can be decoded on its own.
+      for (int start = 0; start < inodes.size(); start += Image.INODES_PER_SECTION) {
+        int end = Math.min(inodes.size(), start + Image.INODES_PER_SECTION);
+        bytes.reset();
+        dos.writeInt(end - start);
+        for (int k = start; k < end; k ++) {
+          Inode inode = inodes.get(k);
+          dos.writeBoolean(inode.isDirectory());
+          inode.writeImage(dos);
+        }
+        sections.add(new Pair<ImageSectionType, byte[]>(ImageSectionType.Inodes, bytes
+            .toByteArray()));
+      }
+
+      bytes.reset();
+      dos.writeInt(mInodeCounter.get());
+      dos.writeLong(mCheckpointInfo.getEditTransactionCounter());
+      dos.writeInt(mCheckpointInfo.getDependencyCounter());
+      sections.add(new Pair<ImageSectionType, byte[]>(ImageSectionType.Counters, bytes
+          .toByteArray()));
+    } finally {
+      lockGroup.unlockAll();
+    }
+    return sections;
+  }
+
   /**
    * Creates a new block for the given file.
    * 
@@ -1015,8 +1391,9 @@ public class MasterInfo extends ImageWriter {
    * @throws FileDoesNotExistException
    */
   public long createNewBlock(int fileId) throws FileDoesNotExistException {
-    synchronized (mRootLock) {
-      Inode inode = mFileIdToInodes.get(fileId);
+    InodeLockGroup lockGroup = new InodeLockGroup();
+    try {
+      Inode inode = lockInode(fileId, lockGroup, false);
 
       if (inode == null) {
         throw new FileDoesNotExistException("File " + fileId + " does not exit.");
@@ -1026,6 +1403,8 @@ public class MasterInfo extends ImageWriter {
       }
 
       return ((InodeFile) inode).getNewBlockId();
+    } finally {
+      lockGroup.unlockAll();
     }
   }
 
@@ -1076,12 +1455,16 @@ public class MasterInfo extends ImageWriter {
    */
   public boolean delete(int fileId, boolean recursive) throws TachyonException {
     long opTimeMs = System.currentTimeMillis();
-    synchronized (mRootLock) {
-      boolean ret = _delete(fileId, recursive, opTimeMs);
+    boolean ret;
+    InodeLockGroup lockGroup = new InodeLockGroup();
+    try {
+      ret = _delete(lockGroup, fileId, recursive, opTimeMs);
       mJournal.getEditLog().delete(fileId, recursive, opTimeMs);
-      mJournal.getEditLog().flush();
-      return ret;
+    } finally {
+      lockGroup.unlockAll();
     }
+    mJournal.getEditLog().flush();
+    return ret;
   }
 
   /**
@@ -1094,23 +1477,59 @@ public class MasterInfo extends ImageWriter {
    */
   public boolean delete(TachyonURI path, boolean recursive) throws TachyonException {
     LOG.info("delete(" + path + ")");
-    synchronized (mRootLock) {
-      Inode inode = null;
+    int fileId;
+    try {
+      fileId = getFileId(path);
+    } catch (InvalidPathException e) {
+      return false;
+    }
+    if (fileId == -1) {
+      return true;
+    }
+    return delete(fileId, recursive);
+  }
+
+  /**
+   * Delete a batch of files based on their paths. Like {@link #createFileBatch(List, long,
+   * boolean)}, every path is resolved and deleted under its own inode locks and the edit log is
+   * flushed once for the whole batch.
+   * 
+   * @param paths the files to be deleted
+   * @param recursive whether delete the files recursively or not
+   * @return whether each delete succeeded in <code>deleted</code>
+   */
+  public ClientBatchResult deleteBatch(List<TachyonURI> paths, boolean recursive) {
+    long opTimeMs = System.currentTimeMillis();
+    ClientBatchResult result = newBatchResult();
+    result.setDeleted(new ArrayList<Boolean>(paths.size()));
+    InodeLockGroup lockGroup = new InodeLockGroup();
+    for (int k = 0; k < paths.size(); k ++) {
+      boolean deleted = false;
       try {
-        inode = getInode(path);
+        int fileId = getFileId(paths.get(k));
+        if (fileId == -1) {
+          deleted = true;
+        } else {
+          deleted = _delete(lockGroup, fileId, recursive, opTimeMs);
+          mJournal.getEditLog().delete(fileId, recursive, opTimeMs);
+        }
       } catch (InvalidPathException e) {
-        return false;
-      }
-      if (inode == null) {
-        return true;
+        addBatchError(result, k, e);
+      } catch (TachyonException e) {
+        addBatchError(result, k, e);
+      } finally {
+        lockGroup.unlockAll();
       }
-      return delete(inode.getId(), recursive);
+      result.addToDeleted(deleted);
     }
+    mJournal.getEditLog().flush();
+    return result;
   }
 
   public long getBlockIdBasedOnOffset(int fileId, long offset) throws FileDoesNotExistException {
-    synchronized (mRootLock) {
-      Inode inode = mFileIdToInodes.get(fileId);
+    InodeLockGroup lockGroup = new InodeLockGroup();
+    try {
+      Inode inode = lockInode(fileId, lockGroup, false);
       if (inode == null) {
         throw new FileDoesNotExistException("FileId " + fileId + " does not exist.");
       }
@@ -1119,6 +1538,8 @@ public class MasterInfo extends ImageWriter {
       }
 
       return ((InodeFile) inode).getBlockIdBasedOnOffset(offset);
+    } finally {
+      lockGroup.unlockAll();
     }
   }
 
@@ -1132,15 +1553,20 @@ public class MasterInfo extends ImageWriter {
    */
   public List<BlockInfo> getBlockList(TachyonURI path) throws InvalidPathException,
       FileDoesNotExistException {
-    Inode inode = getInode(path);
-    if (inode == null) {
-      throw new FileDoesNotExistException(path + " does not exist.");
-    }
-    if (!inode.isFile()) {
-      throw new FileDoesNotExistException(path + " is not a file.");
+    InodeLockGroup lockGroup = new InodeLockGroup();
+    try {
+      Inode inode = lockInode(path, lockGroup, false);
+      if (inode == null) {
+        throw new FileDoesNotExistException(path + " does not exist.");
+      }
+      if (!inode.isFile()) {
+        throw new FileDoesNotExistException(path + " is not a file.");
+      }
+      InodeFile inodeFile = (InodeFile) inode;
+      return inodeFile.getBlockList();
+    } finally {
+      lockGroup.unlockAll();
     }
-    InodeFile inodeFile = (InodeFile) inode;
-    return inodeFile.getBlockList();
   }
 
   /**
@@ -1168,17 +1594,47 @@ public class MasterInfo extends ImageWriter {
    */
   public ClientBlockInfo getClientBlockInfo(long blockId) throws FileDoesNotExistException,
       BlockInfoException {
-    int fileId = BlockInfo.computeInodeId(blockId);
-    synchronized (mRootLock) {
+    BlockInfo blockInfo = mBlockIdToBlockInfo.get(blockId);
+    if (blockInfo == null) {
+      int fileId = BlockInfo.computeInodeId(blockId);
       Inode inode = mFileIdToInodes.get(fileId);
       if (inode == null || inode.isDirectory()) {
         throw new FileDoesNotExistException("FileId " + fileId + " does not exist.");
       }
-      ClientBlockInfo ret =
-          ((InodeFile) inode).getClientBlockInfo(BlockInfo.computeBlockIndex(blockId));
-      LOG.debug("getClientBlockInfo: {} : {}", blockId, ret);
-      return ret;
+      throw new BlockInfoException("BlockIndex is out of the boundry: "
+          + BlockInfo.computeBlockIndex(blockId));
+    }
+    ClientBlockInfo ret = blockInfo.generateClientBlockInfo();
+    LOG.debug("getClientBlockInfo: {} : {}", blockId, ret);
+    return ret;
+  }
+
+  /**
+   * Get the block infos associated with a batch of block ids.
+   * 
+   * @param blockIds The ids of the blocks to return
+   * @return the block infos in <code>blockInfos</code>, with a block id of -1 for the blocks that
+   *         could not be found
+   */
+  public ClientBatchResult getClientBlockInfoBatch(List<Long> blockIds) {
+    ClientBatchResult result = newBatchResult();
+    result.setBlockInfos(new ArrayList<ClientBlockInfo>(blockIds.size()));
+    for (int k = 0; k < blockIds.size(); k ++) {
+      ClientBlockInfo info = null;
+      try {
+        info = getClientBlockInfo(blockIds.get(k));
+      } catch (FileDoesNotExistException e) {
+        addBatchError(result, k, e);
+      } catch (BlockInfoException e) {
+        addBatchError(result, k, e);
+      }
+      if (info == null) {
+        info = new ClientBlockInfo();
+        info.blockId = -1;
+      }
+      result.addToBlockInfos(info);
     }
+    return result;
   }
 
   /**
@@ -1207,14 +1663,17 @@ public class MasterInfo extends ImageWriter {
    * @return the file info
    */
   public ClientFileInfo getClientFileInfo(int fid) {
-    synchronized (mRootLock) {
-      Inode inode = mFileIdToInodes.get(fid);
+    InodeLockGroup lockGroup = new InodeLockGroup();
+    try {
+      Inode inode = lockInodePath(fid, lockGroup, 0);
       if (inode == null) {
         ClientFileInfo info = new ClientFileInfo();
         info.id = -1;
         return info;
       }
       return inode.generateClientFileInfo(getPath(inode).toString());
+    } finally {
+      lockGroup.unlockAll();
     }
   }
 
@@ -1226,15 +1685,52 @@ public class MasterInfo extends ImageWriter {
    * @throws InvalidPathException
    */
   public ClientFileInfo getClientFileInfo(TachyonURI path) throws InvalidPathException {
-    synchronized (mRootLock) {
-      Inode inode = getInode(path);
+    InodeLockGroup lockGroup = new InodeLockGroup();
+    try {
+      Inode inode = lockInode(path, lockGroup, false);
       if (inode == null) {
         ClientFileInfo info = new ClientFileInfo();
         info.id = -1;
         return info;
       }
       return inode.generateClientFileInfo(path.toString());
+    } finally {
+      lockGroup.unlockAll();
+    }
+  }
+
+  /**
+   * Get the file infos for the files at a batch of paths. Each path is looked up under its own
+   * read locks.
+   * 
+   * @param paths The paths of the files
+   * @return the file infos in <code>fileInfos</code>, with an id of -1 for the files that do not
+   *         exist or could not be looked up
+   */
+  public ClientBatchResult getClientFileInfoBatch(List<TachyonURI> paths) {
+    ClientBatchResult result = newBatchResult();
+    result.setFileInfos(new ArrayList<ClientFileInfo>(paths.size()));
+    InodeLockGroup lockGroup = new InodeLockGroup();
+    for (int k = 0; k < paths.size(); k ++) {
+      TachyonURI path = paths.get(k);
+      ClientFileInfo info = null;
+      try {
+        Inode inode = lockInode(path, lockGroup, false);
+        if (inode != null) {
+          info = inode.generateClientFileInfo(path.toString());
+        }
+      } catch (InvalidPathException e) {
+        addBatchError(result, k, e);
+      } finally {
+        lockGroup.unlockAll();
+      }
+      if (info == null) {
+        info = new ClientFileInfo();
+        info.id = -1;
+      }
+      result.addToFileInfos(info);
     }
+    return result;
   }
 
   /**
@@ -1245,12 +1741,15 @@ public class MasterInfo extends ImageWriter {
    * @throws TableDoesNotExistException
    */
   public ClientRawTableInfo getClientRawTableInfo(int id) throws TableDoesNotExistException {
-    synchronized (mRootLock) {
-      Inode inode = mFileIdToInodes.get(id);
+    InodeLockGroup lockGroup = new InodeLockGroup();
+    try {
+      Inode inode = lockInodePath(id, lockGroup, 0);
       if (inode == null || !inode.isDirectory()) {
         throw new TableDoesNotExistException("Table " + id + " does not exist.");
       }
       return _getClientRawTableInfo(getPath(inode), inode);
+    } finally {
+      lockGroup.unlockAll();
     }
   }
 
@@ -1264,12 +1763,15 @@ public class MasterInfo extends ImageWriter {
    */
   public ClientRawTableInfo getClientRawTableInfo(TachyonURI path)
       throws TableDoesNotExistException, InvalidPathException {
-    synchronized (mRootLock) {
-      Inode inode = getInode(path);
+    InodeLockGroup lockGroup = new InodeLockGroup();
+    try {
+      Inode inode = lockInode(path, lockGroup, false);
       if (inode == null) {
         throw new TableDoesNotExistException("Table " + path + " does not exist.");
       }
       return _getClientRawTableInfo(path, inode);
+    } finally {
+      lockGroup.unlockAll();
     }
   }
 
@@ -1281,10 +1783,15 @@ public class MasterInfo extends ImageWriter {
    * @throws InvalidPathException
    */
   public int getFileId(TachyonURI path) throws InvalidPathException {
-    Inode inode = getInode(path);
     int ret = -1;
-    if (inode != null) {
-      ret = inode.getId();
+    InodeLockGroup lockGroup = new InodeLockGroup();
+    try {
+      Inode inode = lockInode(path, lockGroup, false);
+      if (inode != null) {
+        ret = inode.getId();
+      }
+    } finally {
+      lockGroup.unlockAll();
     }
     LOG.debug("getFileId({}): {}", path, ret);
     return ret;
@@ -1299,15 +1806,14 @@ public class MasterInfo extends ImageWriter {
    * @throws FileDoesNotExistException
    */
   public List<ClientBlockInfo> getFileBlocks(int fileId) throws FileDoesNotExistException {
-    synchronized (mRootLock) {
-      Inode inode = mFileIdToInodes.get(fileId);
-      if (inode == null || inode.isDirectory()) {
-        throw new FileDoesNotExistException("FileId " + fileId + " does not exist.");
-      }
-      List<ClientBlockInfo> ret = ((InodeFile) inode).getClientBlockInfos();
-      LOG.debug("getFileLocations: {} {}", fileId, ret);
-      return ret;
+    // The block list of a file is copy-on-write, so it can be read without any inode lock.
+    Inode inode = mFileIdToInodes.get(fileId);
+    if (inode == null || inode.isDirectory()) {
+      throw new FileDoesNotExistException("FileId " + fileId + " does not exist.");
     }
+    List<ClientBlockInfo> ret = ((InodeFile) inode).getClientBlockInfos();
+    LOG.debug("getFileLocations: {} {}", fileId, ret);
+    return ret;
   }
 
   /**
@@ -1322,13 +1828,11 @@ public class MasterInfo extends ImageWriter {
   public List<ClientBlockInfo> getFileBlocks(TachyonURI path) throws FileDoesNotExistException,
       InvalidPathException {
     LOG.info("getFileLocations: " + path);
-    synchronized (mRootLock) {
-      Inode inode = getInode(path);
-      if (inode == null) {
-        throw new FileDoesNotExistException(path.toString());
-      }
-      return getFileBlocks(inode.getId());
+    int fileId = getFileId(path);
+    if (fileId == -1) {
+      throw new FileDoesNotExistException(path.toString());
     }
+    return getFileBlocks(fileId);
   }
 
   /**
@@ -1362,17 +1866,24 @@ public class MasterInfo extends ImageWriter {
       InvalidPathException {
     List<ClientFileInfo> ret = new ArrayList<ClientFileInfo>();
 
-    Inode inode = getInode(path);
-    if (inode == null) {
-      throw new FileDoesNotExistException(path.toString());
-    }
+    InodeLockGroup lockGroup = new InodeLockGroup();
+    try {
+      Inode inode = lockInode(path, lockGroup, false);
+      if (inode == null) {
+        throw new FileDoesNotExistException(path.toString());
+      }
 
-    if (inode.isDirectory()) {
-      for (Inode child : ((InodeFolder) inode).getChildren()) {
-        ret.add(child.generateClientFileInfo(CommonUtils.concat(path, child.getName())));
+      if (inode.isDirectory()) {
+        for (Inode child : ((InodeFolder) inode).getChildren()) {
+          lockGroup.lockRead(child);
+          ret.add(child.generateClientFileInfo(CommonUtils.concat(path, child.getName())));
+          lockGroup.unlockLast();
+        }
+      } else {
+        ret.add(inode.generateClientFileInfo(path.toString()));
       }
-    } else {
-      ret.add(inode.generateClientFileInfo(path.toString()));
+    } finally {
+      lockGroup.unlockAll();
     }
     return ret;
   }
@@ -1387,8 +1898,10 @@ public class MasterInfo extends ImageWriter {
     LOG.info("getInMemoryFiles()");
     Queue<Pair<InodeFolder, TachyonURI>> nodesQueue =
         new LinkedList<Pair<InodeFolder, TachyonURI>>();
-    synchronized (mRootLock) {
+    InodeLockGroup lockGroup = new InodeLockGroup();
+    try {
       // TODO: Verify we want to use absolute path.
+      lockGroup.lockRead(mRoot);
       nodesQueue.add(
           new Pair<InodeFolder, TachyonURI>(mRoot, new TachyonURI(TachyonURI.SEPARATOR)));
       while (!nodesQueue.isEmpty()) {
@@ -1400,56 +1913,45 @@ public class MasterInfo extends ImageWriter {
         for (Inode tInode : children) {
           TachyonURI newUri = curUri.join(tInode.getName());
           if (tInode.isDirectory()) {
+            // Folders stay read locked until the scan finishes so their children cannot change.
+            lockGroup.lockRead(tInode);
             nodesQueue.add(new Pair<InodeFolder, TachyonURI>((InodeFolder) tInode, newUri));
-          } else if (((InodeFile) tInode).isFullyInMemory()) {
-            ret.add(newUri);
+          } else {
+            lockGroup.lockRead(tInode);
+            if (((InodeFile) tInode).isFullyInMemory()) {
+              ret.add(newUri);
+            }
+            lockGroup.unlockLast();
           }
         }
       }
+    } finally {
+      lockGroup.unlockAll();
     }
     return ret;
   }
 
-  /**
-   * Same as {@link #getInode(String[] pathNames)} except that it takes a path string.
-   */
-  private Inode getInode(TachyonURI path) throws InvalidPathException {
-    return getInode(CommonUtils.getPathComponents(path.toString()));
-  }
-
-  /**
-   * Get the inode of the file at the given path.
-   * 
-   * @param pathNames The path components of the path to search for
-   * @return the inode of the file at the given path, or null if the file does not exist
-   * @throws InvalidPathException
-   */
-  private Inode getInode(String[] pathNames) throws InvalidPathException {
-    Pair<Inode, Integer> inodeTraversal = traverseToInode(pathNames);
-    if (!traversalSucceeded(inodeTraversal)) {
-      return null;
-    }
-    return inodeTraversal.getFirst();
-  }
-
   /**
    * Returns a list of the given folder's children, recursively scanning subdirectories. It adds the
-   * parent of a node before adding its children.
+   * parent of a node before adding its children. Every returned inode is locked into
+   * <code>lockGroup</code>, so the caller must already hold a lock on <code>inodeFolder</code>.
    * 
    * @param inodeFolder The folder to start looking at
+   * @param lockGroup The group that receives the locks of the children
+   * @param write True if the children should be write locked, false for read locks
    * @return a list of the children inodes.
    */
-  private List<Inode> getInodeChildrenRecursive(InodeFolder inodeFolder) {
-    synchronized (mRootLock) {
-      List<Inode> ret = new ArrayList<Inode>();
-      for (Inode i : inodeFolder.getChildren()) {
-        ret.add(i);
-        if (i.isDirectory()) {
-          ret.addAll(getInodeChildrenRecursive((InodeFolder) i));
-        }
+  private List<Inode> getInodeChildrenRecursive(InodeFolder inodeFolder,
+      InodeLockGroup lockGroup, boolean write) {
+    List<Inode> ret = new ArrayList<Inode>();
+    for (Inode i : inodeFolder.getChildren()) {
+      lockGroup.lock(i, write);
+      ret.add(i);
+      if (i.isDirectory()) {
+        ret.addAll(getInodeChildrenRecursive((InodeFolder) i, lockGroup, write));
       }
-      return ret;
     }
+    return ret;
   }
 
   /**
@@ -1490,32 +1992,45 @@ public class MasterInfo extends ImageWriter {
    */
   public int getNumberOfFiles(TachyonURI path)
       throws InvalidPathException, FileDoesNotExistException {
-    Inode inode = getInode(path);
-    if (inode == null) {
-      throw new FileDoesNotExistException(path.toString());
-    }
-    if (inode.isFile()) {
-      return 1;
+    InodeLockGroup lockGroup = new InodeLockGroup();
+    try {
+      Inode inode = lockInode(path, lockGroup, false);
+      if (inode == null) {
+        throw new FileDoesNotExistException(path.toString());
+      }
+      if (inode.isFile()) {
+        return 1;
+      }
+      return ((InodeFolder) inode).getNumberOfChildren();
+    } finally {
+      lockGroup.unlockAll();
     }
-    return ((InodeFolder) inode).getNumberOfChildren();
   }
 
   /**
-   * Get the path specified by a given inode.
+   * Get the path specified by a given inode. No locks are taken; the result is only stable if the
+   * caller holds locks on the inode and all of its ancestors, otherwise it is a best-effort guess
+   * that has to be validated.
    * 
    * @param inode The inode
-   * @return the path of the inode
+   * @return the path of the inode, or null if one of its ancestors was concurrently removed
    */
   private TachyonURI getPath(Inode inode) {
-    synchronized (mRootLock) {
-      if (inode.getId() == 1) {
-        return new TachyonURI(TachyonURI.SEPARATOR);
-      }
-      if (inode.getParentId() == 1) {
-        return new TachyonURI(TachyonURI.SEPARATOR + inode.getName());
-      }
-      return getPath(mFileIdToInodes.get(inode.getParentId())).join(inode.getName());
+    if (inode.getId() == 1) {
+      return new TachyonURI(TachyonURI.SEPARATOR);
+    }
+    if (inode.getParentId() == 1) {
+      return new TachyonURI(TachyonURI.SEPARATOR + inode.getName());
+    }
+    Inode parent = mFileIdToInodes.get(inode.getParentId());
+    if (parent == null) {
+      return null;
     }
+    TachyonURI parentPath = getPath(parent);
+    if (parentPath == null) {
+      return null;
+    }
+    return parentPath.join(inode.getName());
   }
 
   /**
@@ -1526,12 +2041,15 @@ public class MasterInfo extends ImageWriter {
    * @throws FileDoesNotExistException raise if the file does not exist.
    */
   public TachyonURI getPath(int fileId) throws FileDoesNotExistException {
-    synchronized (mRootLock) {
-      Inode inode = mFileIdToInodes.get(fileId);
+    InodeLockGroup lockGroup = new InodeLockGroup();
+    try {
+      Inode inode = lockInodePath(fileId, lockGroup, 0);
       if (inode == null) {
         throw new FileDoesNotExistException("FileId " + fileId + " does not exist");
       }
       return getPath(inode);
+    } finally {
+      lockGroup.unlockAll();
     }
   }
 
@@ -1594,15 +2112,12 @@ public class MasterInfo extends ImageWriter {
    */
   public int getRawTableId(TachyonURI path)
       throws InvalidPathException, TableDoesNotExistException {
-    Inode inode = getInode(path);
-    if (inode == null) {
+    int id = getFileId(path);
+    if (id == -1) {
       throw new TableDoesNotExistException(path.toString());
     }
-    if (inode.isDirectory()) {
-      int id = inode.getId();
-      if (mRawTables.exist(id)) {
-        return id;
-      }
+    if (mRawTables.exist(id)) {
+      return id;
     }
     return -1;
   }
@@ -1774,6 +2289,15 @@ public class MasterInfo extends ImageWriter {
     return ret;
   }
 
+  /**
+   * Get the id of the last edit log transaction this master has applied.
+   * 
+   * @return the edit transaction counter
+   */
+  long getEditTransactionCounter() {
+    return mCheckpointInfo.getEditTransactionCounter();
+  }
+
   public void init() throws IOException {
     mCheckpointInfo.updateEditTransactionCounter(mJournal.loadEditLog(this));
 
@@ -1787,6 +2311,15 @@ public class MasterInfo extends ImageWriter {
     mRecompute = mExecutorService.submit(new RecomputationScheduler());
   }
 
+  /**
+   * Record that the edit log transaction with the given id has been applied to this master.
+   * 
+   * @param id The id of the applied transaction
+   */
+  void updateEditTransactionCounter(long id) {
+    mCheckpointInfo.updateEditTransactionCounter(id);
+  }
+
   /**
    * Get the id of the file at the given path. If recursive, it scans the subdirectories as well.
    * 
@@ -1799,8 +2332,9 @@ public class MasterInfo extends ImageWriter {
   public List<Integer> listFiles(TachyonURI path, boolean recursive) throws InvalidPathException,
       FileDoesNotExistException {
     List<Integer> ret = new ArrayList<Integer>();
-    synchronized (mRootLock) {
-      Inode inode = getInode(path);
+    InodeLockGroup lockGroup = new InodeLockGroup();
+    try {
+      Inode inode = lockInode(path, lockGroup, false);
       if (inode == null) {
         throw new FileDoesNotExistException(path.toString());
       }
@@ -1808,15 +2342,9 @@ public class MasterInfo extends ImageWriter {
       if (inode.isFile()) {
         ret.add(inode.getId());
       } else if (recursive) {
-        Queue<Inode> queue = new LinkedList<Inode>();
-        queue.addAll(((InodeFolder) inode).getChildren());
-
-        while (!queue.isEmpty()) {
-          Inode qinode = queue.poll();
-          if (qinode.isDirectory()) {
-            queue.addAll(((InodeFolder) qinode).getChildren());
-          } else {
-            ret.add(qinode.getId());
+        for (Inode child : getInodeChildrenRecursive((InodeFolder) inode, lockGroup, false)) {
+          if (child.isFile()) {
+            ret.add(child.getId());
           }
         }
       } else {
@@ -1824,6 +2352,8 @@ public class MasterInfo extends ImageWriter {
           ret.add(child.getId());
         }
       }
+    } finally {
+      lockGroup.unlockAll();
     }
 
     return ret;
@@ -1904,6 +2434,164 @@ public class MasterInfo extends ImageWriter {
     }
   }
 
+  /**
+   * Load the sections of a binary image. The inode sections are decoded by a pool of threads,
+   * then indexed, and finally linked to their parent folders. Assume this blocks the whole
+   * MasterInfo.
+   * 
+   * @param sections the sections of the image, see {@link Image}
+   * @param path the file the image was read from
+   * @throws IOException
+   */
+  void loadImageSections(List<Pair<ImageSectionType, byte[]>> sections, TachyonURI path)
+      throws IOException {
+    final List<byte[]> inodeSections = new ArrayList<byte[]>();
+    for (Pair<ImageSectionType, byte[]> section : sections) {
+      DataInputStream is = new DataInputStream(new ByteArrayInputStream(section.getSecond()));
+      switch (section.getFirst()) {
+        case Counters: {
+          mInodeCounter.set(is.readInt());
+          mCheckpointInfo.updateEditTransactionCounter(is.readLong());
+          mCheckpointInfo.updateDependencyCounter(is.readInt());
+          break;
+        }
+        case Dependencies: {
+          int size = is.readInt();
+          List<Dependency> deps = new ArrayList<Dependency>(size);
+          for (int k = 0; k < size; k ++) {
+            deps.add(Dependency.loadImage(is));
+          }
+          synchronized (mFileIdToDependency) {
+            for (Dependency dep : deps) {
+              mFileIdToDependency.put(dep.mId, dep);
+              if (!dep.hasCheckpointed()) {
+                mUncheckpointedDependencies.add(dep.mId);
+              }
+            }
+            for (Dependency dep : deps) {
+              for (int parentDependencyId : dep.mParentDependencies) {
+                mFileIdToDependency.get(parentDependencyId).addChildrenDependency(dep.mId);
+              }
+            }
+          }
+          break;
+        }
+        case RawTables: {
+          mRawTables.loadImage(is);
+          break;
+        }
+        case Inodes: {
+          inodeSections.add(section.getSecond());
+          break;
+        }
+        default:
+          throw new IOException("Invalid section type " + section.getFirst() + " in " + path);
+      }
+    }
+    if (inodeSections.isEmpty()) {
+      throw new IOException("Image " + path + " has no inodes");
+    }
+
+    int threads = Math.min(inodeSections.size(), Runtime.getRuntime().availableProcessors());
+    ExecutorService executor =
+        Executors.newFixedThreadPool(threads, ThreadFactoryUtils.daemon("image-loader-%d"));
+    try {
+      List<Future<Inode[]>> decoded = new ArrayList<Future<Inode[]>>(inodeSections.size());
+      for (final byte[] body : inodeSections) {
+        decoded.add(executor.submit(new Callable<Inode[]>() {
+          @Override
+          public Inode[] call() throws IOException {
+            DataInputStream is = new DataInputStream(new ByteArrayInputStream(body));
+            Inode[] inodes = new Inode[is.readInt()];
+            for (int k = 0; k < inodes.length; k ++) {
+              if (is.readBoolean()) {
+                inodes[k] = InodeFolder.loadImage(is);
+              } else {
+                inodes[k] = InodeFile.loadImage(is);
+              }
+            }
+            return inodes;
+          }
+        }));
+      }
+      inodeSections.clear();
+
+      // Every inode has to be in the map before any of them can find its parent.
+      final List<Inode[]> inodeRanges = new ArrayList<Inode[]>(decoded.size());
+      List<Future<Void>> tasks = new ArrayList<Future<Void>>(decoded.size());
+      for (Future<Inode[]> future : decoded) {
+        final Inode[] inodes = getImageResult(future);
+        inodeRanges.add(inodes);
+        tasks.add(executor.submit(new Callable<Void>() {
+          @Override
+          public Void call() {
+            for (Inode inode : inodes) {
+              mFileIdToInodes.put(inode.getId(), inode);
+              if (inode.isFile()) {
+                indexBlocks((InodeFile) inode);
+                if (inode.isPinned()) {
+                  mPinnedInodeFileIds.add(inode.getId());
+                }
+              }
+            }
+            return null;
+          }
+        }));
+      }
+      for (Future<Void> task : tasks) {
+        getImageResult(task);
+      }
+
+      tasks.clear();
+      for (final Inode[] inodes : inodeRanges) {
+        tasks.add(executor.submit(new Callable<Void>() {
+          @Override
+          public Void call() throws IOException {
+            for (Inode inode : inodes) {
+              if (inode.getId() == 1) {
+                continue;
+              }
+              Inode parent = mFileIdToInodes.get(inode.getParentId());
+              if (parent == null || !parent.isDirectory()) {
+                throw new IOException("Invalid parent of inode " + inode);
+              }
+              ((InodeFolder) parent).addChild(inode);
+            }
+            return null;
+          }
+        }));
+      }
+      for (Future<Void> task : tasks) {
+        getImageResult(task);
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+
+    Inode root = mFileIdToInodes.get(1);
+    if (root == null || !root.isDirectory()) {
+      throw new IOException("Image " + path + " has an invalid root " + root);
+    }
+    mRoot = (InodeFolder) root;
+  }
+
+  /**
+   * Waits for a task of loading a binary image, rethrowing its failure as an IOException.
+   */
+  private static <T> T getImageResult(Future<T> future) throws IOException {
+    try {
+      return future.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IOException(e);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof IOException) {
+        throw (IOException) e.getCause();
+      }
+      throw new IOException(e.getCause());
+    }
+  }
+
   /**
    * Get the names of the sub-directories at the given path.
    * 
@@ -1915,12 +2603,15 @@ public class MasterInfo extends ImageWriter {
    */
   public List<TachyonURI> ls(TachyonURI path, boolean recursive) throws InvalidPathException,
       FileDoesNotExistException {
-    synchronized (mRootLock) {
-      Inode inode = getInode(path);
+    InodeLockGroup lockGroup = new InodeLockGroup();
+    try {
+      Inode inode = lockInode(path, lockGroup, false);
       if (inode == null) {
         throw new FileDoesNotExistException(path.toString());
       }
-      return _ls(inode, path, recursive);
+      return _ls(inode, path, recursive, lockGroup);
+    } finally {
+      lockGroup.unlockAll();
     }
   }
 
@@ -1954,8 +2645,9 @@ public class MasterInfo extends ImageWriter {
    */
   void opAddBlock(int fileId, int blockIndex, long blockLength, long opTimeMs)
       throws FileDoesNotExistException, BlockInfoException {
-    synchronized (mRootLock) {
-      Inode inode = mFileIdToInodes.get(fileId);
+    InodeLockGroup lockGroup = new InodeLockGroup();
+    try {
+      Inode inode = lockInode(fileId, lockGroup, true);
 
       if (inode == null) {
         throw new FileDoesNotExistException("File " + fileId + " does not exist.");
@@ -1966,7 +2658,10 @@ public class MasterInfo extends ImageWriter {
 
       addBlock((InodeFile) inode, new BlockInfo((InodeFile) inode, blockIndex, blockLength),
           opTimeMs);
+    } finally {
+      lockGroup.unlockAll();
     }
+    mJournal.getEditLog().flush();
   }
 
   /**
@@ -2023,18 +2718,21 @@ public class MasterInfo extends ImageWriter {
       LOG.info("registerWorker(): " + tWorkerInfo);
     }
 
-    synchronized (mRootLock) {
-      for (Entry<Long, List<Long>> blockIds : currentBlockIds.entrySet()) {
-        long storageDirId = blockIds.getKey();
-        for (long blockId : blockIds.getValue()) {
-          int fileId = BlockInfo.computeInodeId(blockId);
-          int blockIndex = BlockInfo.computeBlockIndex(blockId);
-          Inode inode = mFileIdToInodes.get(fileId);
+    for (Entry<Long, List<Long>> blockIds : currentBlockIds.entrySet()) {
+      long storageDirId = blockIds.getKey();
+      for (long blockId : blockIds.getValue()) {
+        int fileId = BlockInfo.computeInodeId(blockId);
+        int blockIndex = BlockInfo.computeBlockIndex(blockId);
+        InodeLockGroup lockGroup = new InodeLockGroup();
+        try {
+          Inode inode = lockInode(fileId, lockGroup, false);
           if (inode != null && inode.isFile()) {
             ((InodeFile) inode).addLocation(blockIndex, id, workerAddress, storageDirId);
           } else {
             LOG.warn("registerWorker failed to add fileId " + fileId + " blockIndex " + blockIndex);
           }
+        } finally {
+          lockGroup.unlockAll();
         }
       }
     }
@@ -2054,12 +2752,16 @@ public class MasterInfo extends ImageWriter {
   public boolean rename(int fileId, TachyonURI dstPath) throws FileDoesNotExistException,
       InvalidPathException {
     long opTimeMs = System.currentTimeMillis();
-    synchronized (mRootLock) {
-      boolean ret = _rename(fileId, dstPath, opTimeMs);
+    boolean ret;
+    InodeLockGroup lockGroup = new InodeLockGroup();
+    try {
+      ret = _rename(lockGroup, fileId, dstPath, opTimeMs);
       mJournal.getEditLog().rename(fileId, dstPath, opTimeMs);
-      mJournal.getEditLog().flush();
-      return ret;
+    } finally {
+      lockGroup.unlockAll();
     }
+    mJournal.getEditLog().flush();
+    return ret;
   }
 
   /**
@@ -2073,13 +2775,11 @@ public class MasterInfo extends ImageWriter {
    */
   public boolean rename(TachyonURI srcPath, TachyonURI dstPath) throws FileDoesNotExistException,
       InvalidPathException {
-    synchronized (mRootLock) {
-      Inode inode = getInode(srcPath);
-      if (inode == null) {
-        throw new FileDoesNotExistException("Failed to rename: " + srcPath + " does not exist");
-      }
-      return rename(inode.getId(), dstPath);
+    int fileId = getFileId(srcPath);
+    if (fileId == -1) {
+      throw new FileDoesNotExistException("Failed to rename: " + srcPath + " does not exist");
     }
+    return rename(fileId, dstPath);
   }
 
   /**
@@ -2088,8 +2788,9 @@ public class MasterInfo extends ImageWriter {
    * @param fileId The id of the file to be recovered
    */
   public void reportLostFile(int fileId) {
-    synchronized (mRootLock) {
-      Inode inode = mFileIdToInodes.get(fileId);
+    InodeLockGroup lockGroup = new InodeLockGroup();
+    try {
+      Inode inode = lockInode(fileId, lockGroup, false);
       if (inode == null) {
         LOG.warn("Tachyon does not have file " + fileId);
       } else if (inode.isDirectory()) {
@@ -2110,6 +2811,8 @@ public class MasterInfo extends ImageWriter {
           }
         }
       }
+    } finally {
+      lockGroup.unlockAll();
     }
   }
 
@@ -2135,11 +2838,14 @@ public class MasterInfo extends ImageWriter {
   /** Sets the isPinned flag on the given inode and all of its children. */
   public void setPinned(int fileId, boolean pinned) throws FileDoesNotExistException {
     long opTimeMs = System.currentTimeMillis();
-    synchronized (mRootLock) {
-      _setPinned(fileId, pinned, opTimeMs);
+    InodeLockGroup lockGroup = new InodeLockGroup();
+    try {
+      _setPinned(lockGroup, fileId, pinned, opTimeMs);
       mJournal.getEditLog().setPinned(fileId, pinned, opTimeMs);
-      mJournal.getEditLog().flush();
+    } finally {
+      lockGroup.unlockAll();
     }
+    mJournal.getEditLog().flush();
   }
 
  /**
@@ -2152,8 +2858,9 @@ public class MasterInfo extends ImageWriter {
   */
   boolean freepath(int fileId, boolean recursive) throws TachyonException {
     LOG.info("free(" + fileId + ")");
-    synchronized (mRootLock) {
-      Inode inode = mFileIdToInodes.get(fileId);
+    InodeLockGroup lockGroup = new InodeLockGroup();
+    try {
+      Inode inode = lockInodePath(fileId, lockGroup, 0);
       if (inode == null) {
         LOG.error("File " + fileId + " does not exist");
         return true;
@@ -2173,7 +2880,7 @@ public class MasterInfo extends ImageWriter {
       List<Inode> freeInodes = new ArrayList<Inode>();
       freeInodes.add(inode);
       if (inode.isDirectory()) {
-        freeInodes.addAll(getInodeChildrenRecursive((InodeFolder) inode));
+        freeInodes.addAll(getInodeChildrenRecursive((InodeFolder) inode, lockGroup, false));
       }
 
       // We go through each inode.
@@ -2193,6 +2900,8 @@ public class MasterInfo extends ImageWriter {
           }
         }
       }
+    } finally {
+      lockGroup.unlockAll();
     }
     return true;
   }
@@ -2207,18 +2916,16 @@ public class MasterInfo extends ImageWriter {
   */
   public boolean freepath(TachyonURI path, boolean recursive) throws TachyonException {
     LOG.info("free(" + path + ")");
-    synchronized (mRootLock) {
-      Inode inode = null;
-      try {
-        inode = getInode(path);
-      } catch (InvalidPathException e) {
-        return false;
-      }
-      if (inode == null) {
-        return true;
-      }
-      return freepath(inode.getId(), recursive);
+    int fileId;
+    try {
+      fileId = getFileId(path);
+    } catch (InvalidPathException e) {
+      return false;
+    }
+    if (fileId == -1) {
+      return true;
     }
+    return freepath(fileId, recursive);
   }
 
   /**
@@ -2243,56 +2950,140 @@ public class MasterInfo extends ImageWriter {
   }
 
   /**
-   * Traverse to the inode at the given path.
+   * Locks the inode with the given id, without locking any of its ancestors. This is enough for
+   * operations which only touch the state of that single inode. The caller must not hold any other
+   * inode lock, since the lock is taken out of the root-to-leaf order.
+   * 
+   * @param fileId The id of the inode
+   * @param lockGroup The group that receives the lock
+   * @param write True to write lock the inode, false to read lock it
+   * @return the locked inode, or null if it does not exist
+   */
+  private Inode lockInode(int fileId, InodeLockGroup lockGroup, boolean write) {
+    Inode inode = mFileIdToInodes.get(fileId);
+    if (inode == null) {
+      return null;
+    }
+    lockGroup.lock(inode, write);
+    if (inode.getId() != fileId) {
+      // The inode was deleted between the lookup and the locking.
+      lockGroup.unlockLast();
+      return null;
+    }
+    return inode;
+  }
+
+  /**
+   * Locks the inode at the given path, and read locks all of its ancestors.
+   * 
+   * @param path The path of the inode
+   * @param lockGroup The group that receives the locks
+   * @param write True to write lock the inode itself, false to read lock it
+   * @return the locked inode, or null if it does not exist
+   * @throws InvalidPathException
+   */
+  private Inode lockInode(TachyonURI path, InodeLockGroup lockGroup, boolean write)
+      throws InvalidPathException {
+    Pair<Inode, Integer> inodeTraversal =
+        traverseToInode(CommonUtils.getPathComponents(path.toString()), lockGroup, write ? 1 : 0);
+    if (!traversalSucceeded(inodeTraversal)) {
+      return null;
+    }
+    return inodeTraversal.getFirst();
+  }
+
+  /**
+   * Locks the inode with the given id together with all of its ancestors, in the same order as a
+   * path based lookup would. The path of the inode is resolved without locks first, so if a
+   * concurrent rename or delete moves the inode before the locks are taken, the traversal is
+   * retried.
+   * 
+   * @param fileId The id of the inode
+   * @param lockGroup The group that receives the locks
+   * @param writeLockedComponents The number of trailing path components to write lock
+   * @return the locked inode, or null if it does not exist
+   */
+  private Inode lockInodePath(int fileId, InodeLockGroup lockGroup, int writeLockedComponents) {
+    while (true) {
+      Inode inode = mFileIdToInodes.get(fileId);
+      if (inode == null) {
+        return null;
+      }
+      TachyonURI path = getPath(inode);
+      if (path == null) {
+        continue;
+      }
+      try {
+        Pair<Inode, Integer> inodeTraversal =
+            traverseToInode(CommonUtils.getPathComponents(path.toString()), lockGroup,
+                writeLockedComponents);
+        if (traversalSucceeded(inodeTraversal) && inodeTraversal.getFirst() == inode
+            && inode.getId() == fileId) {
+          return inode;
+        }
+      } catch (InvalidPathException e) {
+        // The path changed under us, try again.
+      }
+      lockGroup.unlockAll();
+    }
+  }
+
+  /**
+   * Traverse to the inode at the given path, locking every inode on the way from the root down.
+   * The last <code>writeLockedComponents</code> components of the path are write locked and their
+   * ancestors are read locked. The locks are added to <code>lockGroup</code> and stay held when
+   * this method returns, even if it throws, so the caller has to release them.
    * 
    * @param pathNames The path to search for, broken into components
+   * @param lockGroup The group that receives the acquired locks
+   * @param writeLockedComponents The number of trailing path components to write lock
    * @return the inode of the file at the given path. If it was not able to traverse down the entire
    *         path, it will set the second field to the first path component it didn't find. It never
    *         returns null.
    * @throws InvalidPathException
    */
-  private Pair<Inode, Integer> traverseToInode(String[] pathNames) throws InvalidPathException {
-    synchronized (mRootLock) {
-      if (pathNames == null || pathNames.length == 0) {
-        throw new InvalidPathException("passed-in pathNames is null or empty");
-      }
-      if (pathNames.length == 1) {
-        if (pathNames[0].equals("")) {
-          return new Pair<Inode, Integer>(mRoot, -1);
+  private Pair<Inode, Integer> traverseToInode(String[] pathNames, InodeLockGroup lockGroup,
+      int writeLockedComponents) throws InvalidPathException {
+    if (pathNames == null || pathNames.length == 0) {
+      throw new InvalidPathException("passed-in pathNames is null or empty");
+    }
+    if (pathNames.length == 1 && !pathNames[0].equals("")) {
+      final String msg = "File name starts with " + pathNames[0];
+      LOG.info("InvalidPathException: " + msg);
+      throw new InvalidPathException(msg);
+    }
+    // Path components at index firstWriteLocked and deeper are write locked, the others are only
+    // read locked.
+    int firstWriteLocked = pathNames.length - writeLockedComponents;
+
+    lockGroup.lock(mRoot, firstWriteLocked <= 0);
+    Pair<Inode, Integer> ret = new Pair<Inode, Integer>(mRoot, -1);
+
+    for (int k = 1; k < pathNames.length; k ++) {
+      Inode next = ((InodeFolder) ret.getFirst()).getChild(pathNames[k]);
+      if (next == null) {
+        // The user might want to create the nonexistent directories, so we leave ret.getFirst()
+        // as the last Inode taken. We set nonexistentInd to k, to indicate that the kth path
+        // component was the first one that couldn't be found.
+        ret.setSecond(k);
+        break;
+      }
+      lockGroup.lock(next, k >= firstWriteLocked);
+      ret.setFirst(next);
+      if (!ret.getFirst().isDirectory()) {
+        // The inode can't have any children. If this is the last path component, we're good.
+        // Otherwise, we can't traverse further, so we clean up and throw an exception.
+        if (k == pathNames.length - 1) {
+          break;
         } else {
-          final String msg = "File name starts with " + pathNames[0];
+          final String msg =
+              "Traversal failed. Component " + k + "(" + ret.getFirst().getName() + ") is a file";
           LOG.info("InvalidPathException: " + msg);
           throw new InvalidPathException(msg);
         }
       }
-
-      Pair<Inode, Integer> ret = new Pair<Inode, Integer>(mRoot, -1);
-
-      for (int k = 1; k < pathNames.length; k ++) {
-        Inode next = ((InodeFolder) ret.getFirst()).getChild(pathNames[k]);
-        if (next == null) {
-          // The user might want to create the nonexistent directories, so we leave ret.getFirst()
-          // as the last Inode taken. We set nonexistentInd to k, to indicate that the kth path
-          // component was the first one that couldn't be found.
-          ret.setSecond(k);
-          break;
-        }
-        ret.setFirst(next);
-        if (!ret.getFirst().isDirectory()) {
-          // The inode can't have any children. If this is the last path component, we're good.
-          // Otherwise, we can't traverse further, so we clean up and throw an exception.
-          if (k == pathNames.length - 1) {
-            break;
-          } else {
-            final String msg =
-                "Traversal failed. Component " + k + "(" + ret.getFirst().getName() + ") is a file";
-            LOG.info("InvalidPathException: " + msg);
-            throw new InvalidPathException(msg);
-          }
-        }
-      }
-      return ret;
     }
+    return ret;
   }
 
   /**
@@ -2305,8 +3096,9 @@ public class MasterInfo extends ImageWriter {
    */
   public void updateRawTableMetadata(int tableId, ByteBuffer metadata)
       throws TableDoesNotExistException, TachyonException {
-    synchronized (mRootLock) {
-      Inode inode = mFileIdToInodes.get(tableId);
+    InodeLockGroup lockGroup = new InodeLockGroup();
+    try {
+      Inode inode = lockInode(tableId, lockGroup, true);
 
       if (inode == null || !inode.isDirectory() || !mRawTables.exist(tableId)) {
         throw new TableDoesNotExistException("Table " + tableId + " does not exist.");
@@ -2315,8 +3107,10 @@ public class MasterInfo extends ImageWriter {
       mRawTables.updateMetadata(tableId, metadata);
 
       mJournal.getEditLog().updateRawTableMetadata(tableId, metadata);
-      mJournal.getEditLog().flush();
+    } finally {
+      lockGroup.unlockAll();
     }
+    mJournal.getEditLog().flush();
   }
 
   /**
@@ -2334,62 +3128,63 @@ public class MasterInfo extends ImageWriter {
       Map<Long, List<Long>> addedBlockIds)
       throws BlockInfoException {
     LOG.debug("WorkerId: {}", workerId);
-    synchronized (mRootLock) {
-      synchronized (mWorkers) {
-        MasterWorkerInfo tWorkerInfo = mWorkers.get(workerId);
+    NetAddress workerAddress;
+    List<Long> toRemovedBlocks;
+    synchronized (mWorkers) {
+      MasterWorkerInfo tWorkerInfo = mWorkers.get(workerId);
 
-        if (tWorkerInfo == null) {
-          LOG.info("worker_heartbeat(): Does not contain worker with ID " + workerId
-              + " . Send command to let it re-register.");
-          return new Command(CommandType.Register, new ArrayList<Long>());
-        }
+      if (tWorkerInfo == null) {
+        LOG.info("worker_heartbeat(): Does not contain worker with ID " + workerId
+            + " . Send command to let it re-register.");
+        return new Command(CommandType.Register, new ArrayList<Long>());
+      }
 
-        tWorkerInfo.updateUsedBytes(usedBytes);
-        tWorkerInfo.updateBlocks(false, removedBlockIds);
-        tWorkerInfo.updateToRemovedBlocks(false, removedBlockIds);
-        tWorkerInfo.updateLastUpdatedTimeMs();
-
-        for (long blockId : removedBlockIds) {
-          int fileId = BlockInfo.computeInodeId(blockId);
-          int blockIndex = BlockInfo.computeBlockIndex(blockId);
-          Inode inode = mFileIdToInodes.get(fileId);
-          if (inode == null) {
-            LOG.error("File " + fileId + " does not exist");
-          } else if (inode.isFile()) {
-            ((InodeFile) inode).removeLocation(blockIndex, workerId);
-            LOG.debug("File {} with block {} was evicted from worker {} ", fileId, blockIndex,
-                workerId);
-          }
-        }
+      tWorkerInfo.updateUsedBytes(usedBytes);
+      tWorkerInfo.updateBlocks(false, removedBlockIds);
+      tWorkerInfo.updateToRemovedBlocks(false, removedBlockIds);
+      tWorkerInfo.updateLastUpdatedTimeMs();
+      workerAddress = tWorkerInfo.getAddress();
+      toRemovedBlocks = tWorkerInfo.getToRemovedBlocks();
+    }
 
-        for (Entry<Long, List<Long>> addedBlocks : addedBlockIds.entrySet()) {
-          long storageDirId = addedBlocks.getKey();
-          for (long blockId : addedBlocks.getValue()) {
-            int fileId = BlockInfo.computeInodeId(blockId);
-            int blockIndex = BlockInfo.computeBlockIndex(blockId);
-            Inode inode = mFileIdToInodes.get(fileId);
-            if (inode == null) {
-              LOG.error("File " + fileId + " does not exist");
-            } else if (inode.isFile()) {
-              List<BlockInfo> blockInfoList = ((InodeFile) inode).getBlockList();
-              NetAddress workerAddress = mWorkers.get(workerId).getAddress();
-              if (blockInfoList.size() <= blockIndex) {
-                throw new BlockInfoException("BlockInfo not found! blockIndex:" + blockIndex);
-              } else {
-                BlockInfo blockInfo = blockInfoList.get(blockIndex);
-                blockInfo.addLocation(workerId, workerAddress, storageDirId);
-              }
-            }
-          }
-        }
+    // The block locations are updated through the block index after releasing mWorkers. They are
+    // replaced copy-on-write inside each BlockInfo, so no inode lock is needed.
+    for (long blockId : removedBlockIds) {
+      int fileId = BlockInfo.computeInodeId(blockId);
+      int blockIndex = BlockInfo.computeBlockIndex(blockId);
+      BlockInfo blockInfo = mBlockIdToBlockInfo.get(blockId);
+      if (blockInfo == null) {
+        LOG.error("File " + fileId + " does not exist");
+      } else {
+        blockInfo.removeLocation(workerId);
+        LOG.debug("File {} with block {} was evicted from worker {} ", fileId, blockIndex,
+            workerId);
+      }
+    }
 
-        List<Long> toRemovedBlocks = tWorkerInfo.getToRemovedBlocks();
-        if (toRemovedBlocks.size() != 0) {
-          return new Command(CommandType.Free, toRemovedBlocks);
+    for (Entry<Long, List<Long>> addedBlocks : addedBlockIds.entrySet()) {
+      long storageDirId = addedBlocks.getKey();
+      for (long blockId : addedBlocks.getValue()) {
+        int fileId = BlockInfo.computeInodeId(blockId);
+        int blockIndex = BlockInfo.computeBlockIndex(blockId);
+        BlockInfo blockInfo = mBlockIdToBlockInfo.get(blockId);
+        if (blockInfo != null) {
+          blockInfo.addLocation(workerId, workerAddress, storageDirId);
+          continue;
+        }
+        Inode inode = mFileIdToInodes.get(fileId);
+        if (inode == null) {
+          LOG.error("File " + fileId + " does not exist");
+        } else if (inode.isFile()) {
+          throw new BlockInfoException("BlockInfo not found! blockIndex:" + blockIndex);
         }
       }
     }
 
+    if (toRemovedBlocks.size() != 0) {
+      return new Command(CommandType.Free, toRemovedBlocks);
+    }
+
     return new Command(CommandType.Nothing, new ArrayList<Long>());
   }
 
@@ -2408,7 +3203,12 @@ public class MasterInfo extends ImageWriter {
 
     writeElement(objWriter, dos, ele);
 
-    synchronized (mRootLock) {
+    // Write locking the whole tree gives a consistent snapshot, since every mutation holds the
+    // write lock of at least one inode until it has been logged.
+    InodeLockGroup lockGroup = new InodeLockGroup();
+    try {
+      lockGroup.lockWrite(mRoot);
+      getInodeChildrenRecursive(mRoot, lockGroup, true);
       synchronized (mFileIdToDependency) {
         for (Dependency dep : mFileIdToDependency.values()) {
           dep.writeImage(objWriter, dos);
@@ -2424,6 +3224,8 @@ public class MasterInfo extends ImageWriter {
               .withParameter("dependencyCounter", mCheckpointInfo.getDependencyCounter());
 
       writeElement(objWriter, dos, ele);
+    } finally {
+      lockGroup.unlockAll();
     }
   }
 }
@@ -31,6 +31,7 @@ import tachyon.TachyonURI;
 import tachyon.UnderFileSystem;
 import tachyon.conf.CommonConf;
 import tachyon.thrift.BlockInfoException;
+import tachyon.thrift.ClientBatchResult;
 import tachyon.thrift.ClientBlockInfo;
 import tachyon.thrift.ClientDependencyInfo;
 import tachyon.thrift.ClientFileInfo;
@@ -84,6 +85,11 @@ public class MasterServiceHandler implements MasterService.Iface {
     return mMasterInfo.getClientFileInfo(new TachyonURI(path));
   }
 
+  @Override
+  public ClientBatchResult getFileStatusBatch(List<String> paths) throws TException {
+    return mMasterInfo.getClientFileInfoBatch(toTachyonURIs(paths));
+  }
+
   @Override
   public List<ClientWorkerInfo> getWorkersInfo() throws TException {
     return mMasterInfo.getWorkersInfo();
@@ -145,6 +151,12 @@ public class MasterServiceHandler implements MasterService.Iface {
     return mMasterInfo.createFile(new TachyonURI(path), blockSizeByte, recursive);
   }
 
+  @Override
+  public ClientBatchResult user_createFileBatch(List<String> paths, long blockSizeByte,
+      boolean recursive) throws TException {
+    return mMasterInfo.createFileBatch(toTachyonURIs(paths), blockSizeByte, recursive);
+  }
+
   @Override
   public long user_createNewBlock(int fileId) throws FileDoesNotExistException, TException {
     return mMasterInfo.createNewBlock(fileId);
@@ -167,6 +179,12 @@ public class MasterServiceHandler implements MasterService.Iface {
     return mMasterInfo.delete(new TachyonURI(path), recursive);
   }
 
+  @Override
+  public ClientBatchResult user_deleteBatch(List<String> paths, boolean recursive)
+      throws TException {
+    return mMasterInfo.deleteBatch(toTachyonURIs(paths), recursive);
+  }
+
   @Override
   public long user_getBlockId(int fileId, int index) throws FileDoesNotExistException, TException {
     return BlockInfo.computeBlockId(fileId, index);
@@ -178,6 +196,11 @@ public class MasterServiceHandler implements MasterService.Iface {
     return mMasterInfo.getClientBlockInfo(blockId);
   }
 
+  @Override
+  public ClientBatchResult user_getClientBlockInfoBatch(List<Long> blockIds) throws TException {
+    return mMasterInfo.getClientBlockInfoBatch(blockIds);
+  }
+
   @Override
   public ClientDependencyInfo user_getClientDependencyInfo(int dependencyId)
       throws DependencyDoesNotExistException, TException {
@@ -325,4 +348,12 @@ public class MasterServiceHandler implements MasterService.Iface {
       Map<Long, List<Long>> currentBlockIds) throws BlockInfoException, TException {
     return mMasterInfo.registerWorker(workerNetAddress, totalBytes, usedBytes, currentBlockIds);
   }
+
+  private static List<TachyonURI> toTachyonURIs(List<String> paths) {
+    List<TachyonURI> uris = new ArrayList<TachyonURI>(paths.size());
+    for (String path : paths) {
+      uris.add(new TachyonURI(path));
+    }
+    return uris;
+  }
 }
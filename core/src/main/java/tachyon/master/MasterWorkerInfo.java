@@ -17,14 +17,13 @@ package tachyon.master;
 
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
 
 import tachyon.Constants;
 import tachyon.thrift.ClientWorkerInfo;
 import tachyon.thrift.NetAddress;
 import tachyon.util.CommonUtils;
+import tachyon.util.LongHashSet;
 
 /**
  * The structure to store a worker's information in master node.
@@ -43,9 +42,9 @@ public class MasterWorkerInfo {
   /** Worker's last updated time in ms **/
   private long mLastUpdatedTimeMs;
   /** IDs of blocks the worker contains **/
-  private Set<Long> mBlocks;
+  private LongHashSet mBlocks;
   /** IDs of blocks the worker should remove **/
-  private Set<Long> mToRemoveBlocks;
+  private LongHashSet mToRemoveBlocks;
 
   public MasterWorkerInfo(long id, NetAddress address, long capacityBytes) {
     mId = id;
@@ -54,8 +53,8 @@ public class MasterWorkerInfo {
     mStartTimeMs = System.currentTimeMillis();
 
     mUsedBytes = 0;
-    mBlocks = new HashSet<Long>();
-    mToRemoveBlocks = new HashSet<Long>();
+    mBlocks = new LongHashSet();
+    mToRemoveBlocks = new LongHashSet();
     mLastUpdatedTimeMs = System.currentTimeMillis();
   }
 
@@ -92,8 +91,8 @@ public class MasterWorkerInfo {
   /**
    * @return IDs of all blocks the worker contains.
    */
-  public synchronized Set<Long> getBlocks() {
-    return new HashSet<Long>(mBlocks);
+  public synchronized long[] getBlocks() {
+    return mBlocks.toArray();
   }
 
   /**
@@ -121,7 +120,12 @@ public class MasterWorkerInfo {
    * @return IDs of blocks the worker should remove
    */
   public synchronized List<Long> getToRemovedBlocks() {
-    return new ArrayList<Long>(mToRemoveBlocks);
+    long[] blockIds = mToRemoveBlocks.toArray();
+    List<Long> ret = new ArrayList<Long>(blockIds.length);
+    for (long blockId : blockIds) {
+      ret.add(blockId);
+    }
+    return ret;
   }
 
   /**
@@ -141,7 +145,7 @@ public class MasterWorkerInfo {
     sb.append(", mAvailableBytes: ").append(mCapacityBytes - mUsedBytes);
     sb.append(", mLastUpdatedTimeMs: ").append(mLastUpdatedTimeMs);
     sb.append(", mBlocks: [ ");
-    for (long blockId : mBlocks) {
+    for (long blockId : mBlocks.toArray()) {
       sb.append(blockId).append(", ");
     }
     sb.append("] )");
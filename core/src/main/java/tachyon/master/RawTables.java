@@ -15,6 +15,7 @@
 
 package tachyon.master;
 
+import java.io.DataInputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
 import java.nio.ByteBuffer;
@@ -146,6 +147,29 @@ public class RawTables extends ImageWriter {
     }
   }
 
+  /**
+   * Load a binary image, as written by {@link #writeImage(DataOutputStream)}, into the RawTables
+   * structure.
+   *
+   * @param is the binary image
+   * @throws IOException
+   */
+  void loadImage(DataInputStream is) throws IOException {
+    int size = is.readInt();
+    for (int k = 0; k < size; k ++) {
+      int id = is.readInt();
+      int columns = is.readInt();
+      ByteBuffer data = Utils.readByteBuffer(is);
+      try {
+        if (!addRawTable(id, columns, data)) {
+          throw new IOException("Failed to create raw table");
+        }
+      } catch (TachyonException e) {
+        throw new IOException(e);
+      }
+    }
+  }
+
   /**
    * Update the metadata of the specified raw table. It will check if the table exists.
    *
@@ -194,4 +218,19 @@ public class RawTables extends ImageWriter {
 
     writeElement(objWriter, dos, ele);
   }
+
+  /**
+   * Write the raw tables to a binary image.
+   *
+   * @param dos The target data output stream
+   * @throws IOException
+   */
+  synchronized void writeImage(DataOutputStream dos) throws IOException {
+    dos.writeInt(mData.size());
+    for (Entry<Integer, Pair<Integer, ByteBuffer>> entry : mData.entrySet()) {
+      dos.writeInt(entry.getKey());
+      dos.writeInt(entry.getValue().getFirst());
+      Utils.writeByteBuffer(entry.getValue().getSecond(), dos);
+    }
+  }
 }
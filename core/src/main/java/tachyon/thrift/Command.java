@@ -439,13 +439,13 @@ public class Command implements org.apache.thrift.TBase<Command, Command._Fields
           case 2: // M_DATA
             if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
               {
-                org.apache.thrift.protocol.TList _list40 = iprot.readListBegin();
-                struct.mData = new ArrayList<Long>(_list40.size);
-                for (int _i41 = 0; _i41 < _list40.size; ++_i41)
+                org.apache.thrift.protocol.TList _list82 = iprot.readListBegin();
+                struct.mData = new ArrayList<Long>(_list82.size);
+                for (int _i83 = 0; _i83 < _list82.size; ++_i83)
                 {
-                  long _elem42;
-                  _elem42 = iprot.readI64();
-                  struct.mData.add(_elem42);
+                  long _elem84;
+                  _elem84 = iprot.readI64();
+                  struct.mData.add(_elem84);
                 }
                 iprot.readListEnd();
               }
@@ -478,9 +478,9 @@ public class Command implements org.apache.thrift.TBase<Command, Command._Fields
         oprot.writeFieldBegin(M_DATA_FIELD_DESC);
         {
           oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.I64, struct.mData.size()));
-          for (long _iter43 : struct.mData)
+          for (long _iter85 : struct.mData)
           {
-            oprot.writeI64(_iter43);
+            oprot.writeI64(_iter85);
           }
           oprot.writeListEnd();
         }
@@ -517,9 +517,9 @@ public class Command implements org.apache.thrift.TBase<Command, Command._Fields
       if (struct.isSetMData()) {
         {
           oprot.writeI32(struct.mData.size());
-          for (long _iter44 : struct.mData)
+          for (long _iter86 : struct.mData)
           {
-            oprot.writeI64(_iter44);
+            oprot.writeI64(_iter86);
           }
         }
       }
@@ -535,13 +535,13 @@ public class Command implements org.apache.thrift.TBase<Command, Command._Fields
       }
       if (incoming.get(1)) {
         {
-          org.apache.thrift.protocol.TList _list45 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.I64, iprot.readI32());
-          struct.mData = new ArrayList<Long>(_list45.size);
-          for (int _i46 = 0; _i46 < _list45.size; ++_i46)
+          org.apache.thrift.protocol.TList _list87 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.I64, iprot.readI32());
+          struct.mData = new ArrayList<Long>(_list87.size);
+          for (int _i88 = 0; _i88 < _list87.size; ++_i88)
           {
-            long _elem47;
-            _elem47 = iprot.readI64();
-            struct.mData.add(_elem47);
+            long _elem89;
+            _elem89 = iprot.readI64();
+            struct.mData.add(_elem89);
           }
         }
         struct.setMDataIsSet(true);
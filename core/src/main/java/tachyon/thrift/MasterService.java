@@ -95,6 +95,15 @@ public class MasterService {
 
     public int user_createFile(String path, String ufsPath, long blockSizeByte, boolean recursive) throws FileAlreadyExistException, InvalidPathException, BlockInfoException, SuspectedFileSizeException, TachyonException, org.apache.thrift.TException;
 
+    /**
+     * Create a batch of files with the same block size, returning the new file ids in fileIds.
+     * 
+     * @param paths
+     * @param blockSizeByte
+     * @param recursive
+     */
+    public ClientBatchResult user_createFileBatch(List<String> paths, long blockSizeByte, boolean recursive) throws org.apache.thrift.TException;
+
     public long user_createNewBlock(int fileId) throws FileDoesNotExistException, org.apache.thrift.TException;
 
     public void user_completeFile(int fileId) throws FileDoesNotExistException, org.apache.thrift.TException;
@@ -113,6 +122,13 @@ public class MasterService {
 
     public ClientFileInfo getFileStatus(int fileId, String path) throws InvalidPathException, org.apache.thrift.TException;
 
+    /**
+     * Get the ClientFileInfo of a batch of paths, returned in fileInfos.
+     * 
+     * @param paths
+     */
+    public ClientBatchResult getFileStatusBatch(List<String> paths) throws org.apache.thrift.TException;
+
     /**
      * Get block's ClientBlockInfo.
      * 
@@ -120,6 +136,13 @@ public class MasterService {
      */
     public ClientBlockInfo user_getClientBlockInfo(long blockId) throws FileDoesNotExistException, BlockInfoException, org.apache.thrift.TException;
 
+    /**
+     * Get the ClientBlockInfo of a batch of blocks, returned in blockInfos.
+     * 
+     * @param blockIds
+     */
+    public ClientBatchResult user_getClientBlockInfoBatch(List<Long> blockIds) throws org.apache.thrift.TException;
+
     /**
      * Get file blocks info.
      * 
@@ -137,6 +160,14 @@ public class MasterService {
      */
     public boolean user_delete(int fileId, String path, boolean recursive) throws TachyonException, org.apache.thrift.TException;
 
+    /**
+     * Delete a batch of paths, returning whether each delete succeeded in deleted.
+     * 
+     * @param paths
+     * @param recursive
+     */
+    public ClientBatchResult user_deleteBatch(List<String> paths, boolean recursive) throws org.apache.thrift.TException;
+
     public boolean user_rename(int fileId, String srcPath, String dstPath) throws FileAlreadyExistException, FileDoesNotExistException, InvalidPathException, org.apache.thrift.TException;
 
     public void user_setPinned(int fileId, boolean pinned) throws FileDoesNotExistException, org.apache.thrift.TException;
@@ -203,6 +234,8 @@ public class MasterService {
 
     public void user_createFile(String path, String ufsPath, long blockSizeByte, boolean recursive, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
 
+    public void user_createFileBatch(List<String> paths, long blockSizeByte, boolean recursive, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
+
     public void user_createNewBlock(int fileId, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
 
     public void user_completeFile(int fileId, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
@@ -215,12 +248,18 @@ public class MasterService {
 
     public void getFileStatus(int fileId, String path, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
 
+    public void getFileStatusBatch(List<String> paths, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
+
     public void user_getClientBlockInfo(long blockId, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
 
+    public void user_getClientBlockInfoBatch(List<Long> blockIds, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
+
     public void user_getFileBlocks(int fileId, String path, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
 
     public void user_delete(int fileId, String path, boolean recursive, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
 
+    public void user_deleteBatch(List<String> paths, boolean recursive, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
+
     public void user_rename(int fileId, String srcPath, String dstPath, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
 
     public void user_setPinned(int fileId, boolean pinned, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
@@ -643,6 +682,31 @@ public class MasterService {
       throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "user_createFile failed: unknown result");
     }
 
+    public ClientBatchResult user_createFileBatch(List<String> paths, long blockSizeByte, boolean recursive) throws org.apache.thrift.TException
+    {
+      send_user_createFileBatch(paths, blockSizeByte, recursive);
+      return recv_user_createFileBatch();
+    }
+
+    public void send_user_createFileBatch(List<String> paths, long blockSizeByte, boolean recursive) throws org.apache.thrift.TException
+    {
+      user_createFileBatch_args args = new user_createFileBatch_args();
+      args.setPaths(paths);
+      args.setBlockSizeByte(blockSizeByte);
+      args.setRecursive(recursive);
+      sendBase("user_createFileBatch", args);
+    }
+
+    public ClientBatchResult recv_user_createFileBatch() throws org.apache.thrift.TException
+    {
+      user_createFileBatch_result result = new user_createFileBatch_result();
+      receiveBase(result, "user_createFileBatch");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "user_createFileBatch failed: unknown result");
+    }
+
     public long user_createNewBlock(int fileId) throws FileDoesNotExistException, org.apache.thrift.TException
     {
       send_user_createNewBlock(fileId);
@@ -795,6 +859,29 @@ public class MasterService {
       throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "getFileStatus failed: unknown result");
     }
 
+    public ClientBatchResult getFileStatusBatch(List<String> paths) throws org.apache.thrift.TException
+    {
+      send_getFileStatusBatch(paths);
+      return recv_getFileStatusBatch();
+    }
+
+    public void send_getFileStatusBatch(List<String> paths) throws org.apache.thrift.TException
+    {
+      getFileStatusBatch_args args = new getFileStatusBatch_args();
+      args.setPaths(paths);
+      sendBase("getFileStatusBatch", args);
+    }
+
+    public ClientBatchResult recv_getFileStatusBatch() throws org.apache.thrift.TException
+    {
+      getFileStatusBatch_result result = new getFileStatusBatch_result();
+      receiveBase(result, "getFileStatusBatch");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "getFileStatusBatch failed: unknown result");
+    }
+
     public ClientBlockInfo user_getClientBlockInfo(long blockId) throws FileDoesNotExistException, BlockInfoException, org.apache.thrift.TException
     {
       send_user_getClientBlockInfo(blockId);
@@ -824,6 +911,29 @@ public class MasterService {
       throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "user_getClientBlockInfo failed: unknown result");
     }
 
+    public ClientBatchResult user_getClientBlockInfoBatch(List<Long> blockIds) throws org.apache.thrift.TException
+    {
+      send_user_getClientBlockInfoBatch(blockIds);
+      return recv_user_getClientBlockInfoBatch();
+    }
+
+    public void send_user_getClientBlockInfoBatch(List<Long> blockIds) throws org.apache.thrift.TException
+    {
+      user_getClientBlockInfoBatch_args args = new user_getClientBlockInfoBatch_args();
+      args.setBlockIds(blockIds);
+      sendBase("user_getClientBlockInfoBatch", args);
+    }
+
+    public ClientBatchResult recv_user_getClientBlockInfoBatch() throws org.apache.thrift.TException
+    {
+      user_getClientBlockInfoBatch_result result = new user_getClientBlockInfoBatch_result();
+      receiveBase(result, "user_getClientBlockInfoBatch");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "user_getClientBlockInfoBatch failed: unknown result");
+    }
+
     public List<ClientBlockInfo> user_getFileBlocks(int fileId, String path) throws FileDoesNotExistException, InvalidPathException, org.apache.thrift.TException
     {
       send_user_getFileBlocks(fileId, path);
@@ -882,6 +992,30 @@ public class MasterService {
       throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "user_delete failed: unknown result");
     }
 
+    public ClientBatchResult user_deleteBatch(List<String> paths, boolean recursive) throws org.apache.thrift.TException
+    {
+      send_user_deleteBatch(paths, recursive);
+      return recv_user_deleteBatch();
+    }
+
+    public void send_user_deleteBatch(List<String> paths, boolean recursive) throws org.apache.thrift.TException
+    {
+      user_deleteBatch_args args = new user_deleteBatch_args();
+      args.setPaths(paths);
+      args.setRecursive(recursive);
+      sendBase("user_deleteBatch", args);
+    }
+
+    public ClientBatchResult recv_user_deleteBatch() throws org.apache.thrift.TException
+    {
+      user_deleteBatch_result result = new user_deleteBatch_result();
+      receiveBase(result, "user_deleteBatch");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "user_deleteBatch failed: unknown result");
+    }
+
     public boolean user_rename(int fileId, String srcPath, String dstPath) throws FileAlreadyExistException, FileDoesNotExistException, InvalidPathException, org.apache.thrift.TException
     {
       send_user_rename(fileId, srcPath, dstPath);
@@ -1659,6 +1793,44 @@ public class MasterService {
       }
     }
 
+    public void user_createFileBatch(List<String> paths, long blockSizeByte, boolean recursive, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      user_createFileBatch_call method_call = new user_createFileBatch_call(paths, blockSizeByte, recursive, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class user_createFileBatch_call extends org.apache.thrift.async.TAsyncMethodCall {
+      private List<String> paths;
+      private long blockSizeByte;
+      private boolean recursive;
+      public user_createFileBatch_call(List<String> paths, long blockSizeByte, boolean recursive, org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.paths = paths;
+        this.blockSizeByte = blockSizeByte;
+        this.recursive = recursive;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("user_createFileBatch", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        user_createFileBatch_args args = new user_createFileBatch_args();
+        args.setPaths(paths);
+        args.setBlockSizeByte(blockSizeByte);
+        args.setRecursive(recursive);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public ClientBatchResult getResult() throws org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_user_createFileBatch();
+      }
+    }
+
     public void user_createNewBlock(int fileId, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
       checkReady();
       user_createNewBlock_call method_call = new user_createNewBlock_call(fileId, resultHandler, this, ___protocolFactory, ___transport);
@@ -1857,6 +2029,38 @@ public class MasterService {
       }
     }
 
+    public void getFileStatusBatch(List<String> paths, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      getFileStatusBatch_call method_call = new getFileStatusBatch_call(paths, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class getFileStatusBatch_call extends org.apache.thrift.async.TAsyncMethodCall {
+      private List<String> paths;
+      public getFileStatusBatch_call(List<String> paths, org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.paths = paths;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("getFileStatusBatch", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        getFileStatusBatch_args args = new getFileStatusBatch_args();
+        args.setPaths(paths);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public ClientBatchResult getResult() throws org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_getFileStatusBatch();
+      }
+    }
+
     public void user_getClientBlockInfo(long blockId, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
       checkReady();
       user_getClientBlockInfo_call method_call = new user_getClientBlockInfo_call(blockId, resultHandler, this, ___protocolFactory, ___transport);
@@ -1889,6 +2093,38 @@ public class MasterService {
       }
     }
 
+    public void user_getClientBlockInfoBatch(List<Long> blockIds, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      user_getClientBlockInfoBatch_call method_call = new user_getClientBlockInfoBatch_call(blockIds, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class user_getClientBlockInfoBatch_call extends org.apache.thrift.async.TAsyncMethodCall {
+      private List<Long> blockIds;
+      public user_getClientBlockInfoBatch_call(List<Long> blockIds, org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.blockIds = blockIds;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("user_getClientBlockInfoBatch", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        user_getClientBlockInfoBatch_args args = new user_getClientBlockInfoBatch_args();
+        args.setBlockIds(blockIds);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public ClientBatchResult getResult() throws org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_user_getClientBlockInfoBatch();
+      }
+    }
+
     public void user_getFileBlocks(int fileId, String path, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
       checkReady();
       user_getFileBlocks_call method_call = new user_getFileBlocks_call(fileId, path, resultHandler, this, ___protocolFactory, ___transport);
@@ -1962,6 +2198,41 @@ public class MasterService {
       }
     }
 
+    public void user_deleteBatch(List<String> paths, boolean recursive, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      user_deleteBatch_call method_call = new user_deleteBatch_call(paths, recursive, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class user_deleteBatch_call extends org.apache.thrift.async.TAsyncMethodCall {
+      private List<String> paths;
+      private boolean recursive;
+      public user_deleteBatch_call(List<String> paths, boolean recursive, org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.paths = paths;
+        this.recursive = recursive;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("user_deleteBatch", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        user_deleteBatch_args args = new user_deleteBatch_args();
+        args.setPaths(paths);
+        args.setRecursive(recursive);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public ClientBatchResult getResult() throws org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_user_deleteBatch();
+      }
+    }
+
     public void user_rename(int fileId, String srcPath, String dstPath, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
       checkReady();
       user_rename_call method_call = new user_rename_call(fileId, srcPath, dstPath, resultHandler, this, ___protocolFactory, ___transport);
@@ -2332,15 +2603,19 @@ public class MasterService {
       processMap.put("user_reportLostFile", new user_reportLostFile());
       processMap.put("user_requestFilesInDependency", new user_requestFilesInDependency());
       processMap.put("user_createFile", new user_createFile());
+      processMap.put("user_createFileBatch", new user_createFileBatch());
       processMap.put("user_createNewBlock", new user_createNewBlock());
       processMap.put("user_completeFile", new user_completeFile());
       processMap.put("user_getUserId", new user_getUserId());
       processMap.put("user_getBlockId", new user_getBlockId());
       processMap.put("user_getWorker", new user_getWorker());
       processMap.put("getFileStatus", new getFileStatus());
+      processMap.put("getFileStatusBatch", new getFileStatusBatch());
       processMap.put("user_getClientBlockInfo", new user_getClientBlockInfo());
+      processMap.put("user_getClientBlockInfoBatch", new user_getClientBlockInfoBatch());
       processMap.put("user_getFileBlocks", new user_getFileBlocks());
       processMap.put("user_delete", new user_delete());
+      processMap.put("user_deleteBatch", new user_deleteBatch());
       processMap.put("user_rename", new user_rename());
       processMap.put("user_setPinned", new user_setPinned());
       processMap.put("user_mkdirs", new user_mkdirs());
@@ -2684,6 +2959,26 @@ public class MasterService {
       }
     }
 
+    public static class user_createFileBatch<I extends Iface> extends org.apache.thrift.ProcessFunction<I, user_createFileBatch_args> {
+      public user_createFileBatch() {
+        super("user_createFileBatch");
+      }
+
+      public user_createFileBatch_args getEmptyArgsInstance() {
+        return new user_createFileBatch_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public user_createFileBatch_result getResult(I iface, user_createFileBatch_args args) throws org.apache.thrift.TException {
+        user_createFileBatch_result result = new user_createFileBatch_result();
+        result.success = iface.user_createFileBatch(args.paths, args.blockSizeByte, args.recursive);
+        return result;
+      }
+    }
+
     public static class user_createNewBlock<I extends Iface> extends org.apache.thrift.ProcessFunction<I, user_createNewBlock_args> {
       public user_createNewBlock() {
         super("user_createNewBlock");
@@ -2827,6 +3122,26 @@ public class MasterService {
       }
     }
 
+    public static class getFileStatusBatch<I extends Iface> extends org.apache.thrift.ProcessFunction<I, getFileStatusBatch_args> {
+      public getFileStatusBatch() {
+        super("getFileStatusBatch");
+      }
+
+      public getFileStatusBatch_args getEmptyArgsInstance() {
+        return new getFileStatusBatch_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public getFileStatusBatch_result getResult(I iface, getFileStatusBatch_args args) throws org.apache.thrift.TException {
+        getFileStatusBatch_result result = new getFileStatusBatch_result();
+        result.success = iface.getFileStatusBatch(args.paths);
+        return result;
+      }
+    }
+
     public static class user_getClientBlockInfo<I extends Iface> extends org.apache.thrift.ProcessFunction<I, user_getClientBlockInfo_args> {
       public user_getClientBlockInfo() {
         super("user_getClientBlockInfo");
@@ -2853,6 +3168,26 @@ public class MasterService {
       }
     }
 
+    public static class user_getClientBlockInfoBatch<I extends Iface> extends org.apache.thrift.ProcessFunction<I, user_getClientBlockInfoBatch_args> {
+      public user_getClientBlockInfoBatch() {
+        super("user_getClientBlockInfoBatch");
+      }
+
+      public user_getClientBlockInfoBatch_args getEmptyArgsInstance() {
+        return new user_getClientBlockInfoBatch_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public user_getClientBlockInfoBatch_result getResult(I iface, user_getClientBlockInfoBatch_args args) throws org.apache.thrift.TException {
+        user_getClientBlockInfoBatch_result result = new user_getClientBlockInfoBatch_result();
+        result.success = iface.user_getClientBlockInfoBatch(args.blockIds);
+        return result;
+      }
+    }
+
     public static class user_getFileBlocks<I extends Iface> extends org.apache.thrift.ProcessFunction<I, user_getFileBlocks_args> {
       public user_getFileBlocks() {
         super("user_getFileBlocks");
@@ -2904,6 +3239,26 @@ public class MasterService {
       }
     }
 
+    public static class user_deleteBatch<I extends Iface> extends org.apache.thrift.ProcessFunction<I, user_deleteBatch_args> {
+      public user_deleteBatch() {
+        super("user_deleteBatch");
+      }
+
+      public user_deleteBatch_args getEmptyArgsInstance() {
+        return new user_deleteBatch_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public user_deleteBatch_result getResult(I iface, user_deleteBatch_args args) throws org.apache.thrift.TException {
+        user_deleteBatch_result result = new user_deleteBatch_result();
+        result.success = iface.user_deleteBatch(args.paths, args.recursive);
+        return result;
+      }
+    }
+
     public static class user_rename<I extends Iface> extends org.apache.thrift.ProcessFunction<I, user_rename_args> {
       public user_rename() {
         super("user_rename");
@@ -3185,15 +3540,19 @@ public class MasterService {
       processMap.put("user_reportLostFile", new user_reportLostFile());
       processMap.put("user_requestFilesInDependency", new user_requestFilesInDependency());
       processMap.put("user_createFile", new user_createFile());
+      processMap.put("user_createFileBatch", new user_createFileBatch());
       processMap.put("user_createNewBlock", new user_createNewBlock());
       processMap.put("user_completeFile", new user_completeFile());
       processMap.put("user_getUserId", new user_getUserId());
       processMap.put("user_getBlockId", new user_getBlockId());
       processMap.put("user_getWorker", new user_getWorker());
       processMap.put("getFileStatus", new getFileStatus());
+      processMap.put("getFileStatusBatch", new getFileStatusBatch());
       processMap.put("user_getClientBlockInfo", new user_getClientBlockInfo());
+      processMap.put("user_getClientBlockInfoBatch", new user_getClientBlockInfoBatch());
       processMap.put("user_getFileBlocks", new user_getFileBlocks());
       processMap.put("user_delete", new user_delete());
+      processMap.put("user_deleteBatch", new user_deleteBatch());
       processMap.put("user_rename", new user_rename());
       processMap.put("user_setPinned", new user_setPinned());
       processMap.put("user_mkdirs", new user_mkdirs());
@@ -3996,6 +4355,57 @@ public class MasterService {
       }
     }
 
+    public static class user_createFileBatch<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, user_createFileBatch_args, ClientBatchResult> {
+      public user_createFileBatch() {
+        super("user_createFileBatch");
+      }
+
+      public user_createFileBatch_args getEmptyArgsInstance() {
+        return new user_createFileBatch_args();
+      }
+
+      public AsyncMethodCallback<ClientBatchResult> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new AsyncMethodCallback<ClientBatchResult>() { 
+          public void onComplete(ClientBatchResult o) {
+            user_createFileBatch_result result = new user_createFileBatch_result();
+            result.success = o;
+            try {
+              fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+              return;
+            } catch (Exception e) {
+              LOGGER.error("Exception writing to internal frame buffer", e);
+            }
+            fb.close();
+          }
+          public void onError(Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TBase msg;
+            user_createFileBatch_result result = new user_createFileBatch_result();
+            {
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+              return;
+            } catch (Exception ex) {
+              LOGGER.error("Exception writing to internal frame buffer", ex);
+            }
+            fb.close();
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, user_createFileBatch_args args, org.apache.thrift.async.AsyncMethodCallback<ClientBatchResult> resultHandler) throws TException {
+        iface.user_createFileBatch(args.paths, args.blockSizeByte, args.recursive,resultHandler);
+      }
+    }
+
     public static class user_createNewBlock<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, user_createNewBlock_args, Long> {
       public user_createNewBlock() {
         super("user_createNewBlock");
@@ -4334,9 +4744,60 @@ public class MasterService {
       }
     }
 
-    public static class user_getClientBlockInfo<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, user_getClientBlockInfo_args, ClientBlockInfo> {
-      public user_getClientBlockInfo() {
-        super("user_getClientBlockInfo");
+    public static class getFileStatusBatch<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, getFileStatusBatch_args, ClientBatchResult> {
+      public getFileStatusBatch() {
+        super("getFileStatusBatch");
+      }
+
+      public getFileStatusBatch_args getEmptyArgsInstance() {
+        return new getFileStatusBatch_args();
+      }
+
+      public AsyncMethodCallback<ClientBatchResult> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new AsyncMethodCallback<ClientBatchResult>() { 
+          public void onComplete(ClientBatchResult o) {
+            getFileStatusBatch_result result = new getFileStatusBatch_result();
+            result.success = o;
+            try {
+              fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+              return;
+            } catch (Exception e) {
+              LOGGER.error("Exception writing to internal frame buffer", e);
+            }
+            fb.close();
+          }
+          public void onError(Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TBase msg;
+            getFileStatusBatch_result result = new getFileStatusBatch_result();
+            {
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+              return;
+            } catch (Exception ex) {
+              LOGGER.error("Exception writing to internal frame buffer", ex);
+            }
+            fb.close();
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, getFileStatusBatch_args args, org.apache.thrift.async.AsyncMethodCallback<ClientBatchResult> resultHandler) throws TException {
+        iface.getFileStatusBatch(args.paths,resultHandler);
+      }
+    }
+
+    public static class user_getClientBlockInfo<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, user_getClientBlockInfo_args, ClientBlockInfo> {
+      public user_getClientBlockInfo() {
+        super("user_getClientBlockInfo");
       }
 
       public user_getClientBlockInfo_args getEmptyArgsInstance() {
@@ -4396,6 +4857,57 @@ public class MasterService {
       }
     }
 
+    public static class user_getClientBlockInfoBatch<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, user_getClientBlockInfoBatch_args, ClientBatchResult> {
+      public user_getClientBlockInfoBatch() {
+        super("user_getClientBlockInfoBatch");
+      }
+
+      public user_getClientBlockInfoBatch_args getEmptyArgsInstance() {
+        return new user_getClientBlockInfoBatch_args();
+      }
+
+      public AsyncMethodCallback<ClientBatchResult> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new AsyncMethodCallback<ClientBatchResult>() { 
+          public void onComplete(ClientBatchResult o) {
+            user_getClientBlockInfoBatch_result result = new user_getClientBlockInfoBatch_result();
+            result.success = o;
+            try {
+              fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+              return;
+            } catch (Exception e) {
+              LOGGER.error("Exception writing to internal frame buffer", e);
+            }
+            fb.close();
+          }
+          public void onError(Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TBase msg;
+            user_getClientBlockInfoBatch_result result = new user_getClientBlockInfoBatch_result();
+            {
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+              return;
+            } catch (Exception ex) {
+              LOGGER.error("Exception writing to internal frame buffer", ex);
+            }
+            fb.close();
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, user_getClientBlockInfoBatch_args args, org.apache.thrift.async.AsyncMethodCallback<ClientBatchResult> resultHandler) throws TException {
+        iface.user_getClientBlockInfoBatch(args.blockIds,resultHandler);
+      }
+    }
+
     public static class user_getFileBlocks<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, user_getFileBlocks_args, List<ClientBlockInfo>> {
       public user_getFileBlocks() {
         super("user_getFileBlocks");
@@ -4516,6 +5028,57 @@ public class MasterService {
       }
     }
 
+    public static class user_deleteBatch<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, user_deleteBatch_args, ClientBatchResult> {
+      public user_deleteBatch() {
+        super("user_deleteBatch");
+      }
+
+      public user_deleteBatch_args getEmptyArgsInstance() {
+        return new user_deleteBatch_args();
+      }
+
+      public AsyncMethodCallback<ClientBatchResult> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new AsyncMethodCallback<ClientBatchResult>() { 
+          public void onComplete(ClientBatchResult o) {
+            user_deleteBatch_result result = new user_deleteBatch_result();
+            result.success = o;
+            try {
+              fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+              return;
+            } catch (Exception e) {
+              LOGGER.error("Exception writing to internal frame buffer", e);
+            }
+            fb.close();
+          }
+          public void onError(Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TBase msg;
+            user_deleteBatch_result result = new user_deleteBatch_result();
+            {
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+              return;
+            } catch (Exception ex) {
+              LOGGER.error("Exception writing to internal frame buffer", ex);
+            }
+            fb.close();
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, user_deleteBatch_args args, org.apache.thrift.async.AsyncMethodCallback<ClientBatchResult> resultHandler) throws TException {
+        iface.user_deleteBatch(args.paths, args.recursive,resultHandler);
+      }
+    }
+
     public static class user_rename<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, user_rename_args, Boolean> {
       public user_rename() {
         super("user_rename");
@@ -6978,14 +7541,14 @@ public class MasterService {
             case 0: // SUCCESS
               if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
                 {
-                  org.apache.thrift.protocol.TList _list48 = iprot.readListBegin();
-                  struct.success = new ArrayList<ClientWorkerInfo>(_list48.size);
-                  for (int _i49 = 0; _i49 < _list48.size; ++_i49)
+                  org.apache.thrift.protocol.TList _list90 = iprot.readListBegin();
+                  struct.success = new ArrayList<ClientWorkerInfo>(_list90.size);
+                  for (int _i91 = 0; _i91 < _list90.size; ++_i91)
                   {
-                    ClientWorkerInfo _elem50;
-                    _elem50 = new ClientWorkerInfo();
-                    _elem50.read(iprot);
-                    struct.success.add(_elem50);
+                    ClientWorkerInfo _elem92;
+                    _elem92 = new ClientWorkerInfo();
+                    _elem92.read(iprot);
+                    struct.success.add(_elem92);
                   }
                   iprot.readListEnd();
                 }
@@ -7013,9 +7576,9 @@ public class MasterService {
           oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
           {
             oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, struct.success.size()));
-            for (ClientWorkerInfo _iter51 : struct.success)
+            for (ClientWorkerInfo _iter93 : struct.success)
             {
-              _iter51.write(oprot);
+              _iter93.write(oprot);
             }
             oprot.writeListEnd();
           }
@@ -7046,9 +7609,9 @@ public class MasterService {
         if (struct.isSetSuccess()) {
           {
             oprot.writeI32(struct.success.size());
-            for (ClientWorkerInfo _iter52 : struct.success)
+            for (ClientWorkerInfo _iter94 : struct.success)
             {
-              _iter52.write(oprot);
+              _iter94.write(oprot);
             }
           }
         }
@@ -7060,14 +7623,14 @@ public class MasterService {
         BitSet incoming = iprot.readBitSet(1);
         if (incoming.get(0)) {
           {
-            org.apache.thrift.protocol.TList _list53 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
-            struct.success = new ArrayList<ClientWorkerInfo>(_list53.size);
-            for (int _i54 = 0; _i54 < _list53.size; ++_i54)
+            org.apache.thrift.protocol.TList _list95 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
+            struct.success = new ArrayList<ClientWorkerInfo>(_list95.size);
+            for (int _i96 = 0; _i96 < _list95.size; ++_i96)
             {
-              ClientWorkerInfo _elem55;
-              _elem55 = new ClientWorkerInfo();
-              _elem55.read(iprot);
-              struct.success.add(_elem55);
+              ClientWorkerInfo _elem97;
+              _elem97 = new ClientWorkerInfo();
+              _elem97.read(iprot);
+              struct.success.add(_elem97);
             }
           }
           struct.setSuccessIsSet(true);
@@ -7894,14 +8457,14 @@ public class MasterService {
             case 0: // SUCCESS
               if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
                 {
-                  org.apache.thrift.protocol.TList _list56 = iprot.readListBegin();
-                  struct.success = new ArrayList<ClientFileInfo>(_list56.size);
-                  for (int _i57 = 0; _i57 < _list56.size; ++_i57)
+                  org.apache.thrift.protocol.TList _list98 = iprot.readListBegin();
+                  struct.success = new ArrayList<ClientFileInfo>(_list98.size);
+                  for (int _i99 = 0; _i99 < _list98.size; ++_i99)
                   {
-                    ClientFileInfo _elem58;
-                    _elem58 = new ClientFileInfo();
-                    _elem58.read(iprot);
-                    struct.success.add(_elem58);
+                    ClientFileInfo _elem100;
+                    _elem100 = new ClientFileInfo();
+                    _elem100.read(iprot);
+                    struct.success.add(_elem100);
                   }
                   iprot.readListEnd();
                 }
@@ -7947,9 +8510,9 @@ public class MasterService {
           oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
           {
             oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, struct.success.size()));
-            for (ClientFileInfo _iter59 : struct.success)
+            for (ClientFileInfo _iter101 : struct.success)
             {
-              _iter59.write(oprot);
+              _iter101.write(oprot);
             }
             oprot.writeListEnd();
           }
@@ -7996,9 +8559,9 @@ public class MasterService {
         if (struct.isSetSuccess()) {
           {
             oprot.writeI32(struct.success.size());
-            for (ClientFileInfo _iter60 : struct.success)
+            for (ClientFileInfo _iter102 : struct.success)
             {
-              _iter60.write(oprot);
+              _iter102.write(oprot);
             }
           }
         }
@@ -8016,14 +8579,14 @@ public class MasterService {
         BitSet incoming = iprot.readBitSet(3);
         if (incoming.get(0)) {
           {
-            org.apache.thrift.protocol.TList _list61 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
-            struct.success = new ArrayList<ClientFileInfo>(_list61.size);
-            for (int _i62 = 0; _i62 < _list61.size; ++_i62)
+            org.apache.thrift.protocol.TList _list103 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
+            struct.success = new ArrayList<ClientFileInfo>(_list103.size);
+            for (int _i104 = 0; _i104 < _list103.size; ++_i104)
             {
-              ClientFileInfo _elem63;
-              _elem63 = new ClientFileInfo();
-              _elem63.read(iprot);
-              struct.success.add(_elem63);
+              ClientFileInfo _elem105;
+              _elem105 = new ClientFileInfo();
+              _elem105.read(iprot);
+              struct.success.add(_elem105);
             }
           }
           struct.setSuccessIsSet(true);
@@ -8613,25 +9176,25 @@ public class MasterService {
             case 4: // CURRENT_BLOCKS
               if (schemeField.type == org.apache.thrift.protocol.TType.MAP) {
                 {
-                  org.apache.thrift.protocol.TMap _map64 = iprot.readMapBegin();
-                  struct.currentBlocks = new HashMap<Long,List<Long>>(2*_map64.size);
-                  for (int _i65 = 0; _i65 < _map64.size; ++_i65)
+                  org.apache.thrift.protocol.TMap _map106 = iprot.readMapBegin();
+                  struct.currentBlocks = new HashMap<Long,List<Long>>(2*_map106.size);
+                  for (int _i107 = 0; _i107 < _map106.size; ++_i107)
                   {
-                    long _key66;
-                    List<Long> _val67;
-                    _key66 = iprot.readI64();
+                    long _key108;
+                    List<Long> _val109;
+                    _key108 = iprot.readI64();
                     {
-                      org.apache.thrift.protocol.TList _list68 = iprot.readListBegin();
-                      _val67 = new ArrayList<Long>(_list68.size);
-                      for (int _i69 = 0; _i69 < _list68.size; ++_i69)
+                      org.apache.thrift.protocol.TList _list110 = iprot.readListBegin();
+                      _val109 = new ArrayList<Long>(_list110.size);
+                      for (int _i111 = 0; _i111 < _list110.size; ++_i111)
                       {
-                        long _elem70;
-                        _elem70 = iprot.readI64();
-                        _val67.add(_elem70);
+                        long _elem112;
+                        _elem112 = iprot.readI64();
+                        _val109.add(_elem112);
                       }
                       iprot.readListEnd();
                     }
-                    struct.currentBlocks.put(_key66, _val67);
+                    struct.currentBlocks.put(_key108, _val109);
                   }
                   iprot.readMapEnd();
                 }
@@ -8670,14 +9233,14 @@ public class MasterService {
           oprot.writeFieldBegin(CURRENT_BLOCKS_FIELD_DESC);
           {
             oprot.writeMapBegin(new org.apache.thrift.protocol.TMap(org.apache.thrift.protocol.TType.I64, org.apache.thrift.protocol.TType.LIST, struct.currentBlocks.size()));
-            for (Map.Entry<Long, List<Long>> _iter71 : struct.currentBlocks.entrySet())
+            for (Map.Entry<Long, List<Long>> _iter113 : struct.currentBlocks.entrySet())
             {
-              oprot.writeI64(_iter71.getKey());
+              oprot.writeI64(_iter113.getKey());
               {
-                oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.I64, _iter71.getValue().size()));
-                for (long _iter72 : _iter71.getValue())
+                oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.I64, _iter113.getValue().size()));
+                for (long _iter114 : _iter113.getValue())
                 {
-                  oprot.writeI64(_iter72);
+                  oprot.writeI64(_iter114);
                 }
                 oprot.writeListEnd();
               }
@@ -8729,14 +9292,14 @@ public class MasterService {
         if (struct.isSetCurrentBlocks()) {
           {
             oprot.writeI32(struct.currentBlocks.size());
-            for (Map.Entry<Long, List<Long>> _iter73 : struct.currentBlocks.entrySet())
+            for (Map.Entry<Long, List<Long>> _iter115 : struct.currentBlocks.entrySet())
             {
-              oprot.writeI64(_iter73.getKey());
+              oprot.writeI64(_iter115.getKey());
               {
-                oprot.writeI32(_iter73.getValue().size());
-                for (long _iter74 : _iter73.getValue())
+                oprot.writeI32(_iter115.getValue().size());
+                for (long _iter116 : _iter115.getValue())
                 {
-                  oprot.writeI64(_iter74);
+                  oprot.writeI64(_iter116);
                 }
               }
             }
@@ -8763,24 +9326,24 @@ public class MasterService {
         }
         if (incoming.get(3)) {
           {
-            org.apache.thrift.protocol.TMap _map75 = new org.apache.thrift.protocol.TMap(org.apache.thrift.protocol.TType.I64, org.apache.thrift.protocol.TType.LIST, iprot.readI32());
-            struct.currentBlocks = new HashMap<Long,List<Long>>(2*_map75.size);
-            for (int _i76 = 0; _i76 < _map75.size; ++_i76)
+            org.apache.thrift.protocol.TMap _map117 = new org.apache.thrift.protocol.TMap(org.apache.thrift.protocol.TType.I64, org.apache.thrift.protocol.TType.LIST, iprot.readI32());
+            struct.currentBlocks = new HashMap<Long,List<Long>>(2*_map117.size);
+            for (int _i118 = 0; _i118 < _map117.size; ++_i118)
             {
-              long _key77;
-              List<Long> _val78;
-              _key77 = iprot.readI64();
+              long _key119;
+              List<Long> _val120;
+              _key119 = iprot.readI64();
               {
-                org.apache.thrift.protocol.TList _list79 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.I64, iprot.readI32());
-                _val78 = new ArrayList<Long>(_list79.size);
-                for (int _i80 = 0; _i80 < _list79.size; ++_i80)
+                org.apache.thrift.protocol.TList _list121 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.I64, iprot.readI32());
+                _val120 = new ArrayList<Long>(_list121.size);
+                for (int _i122 = 0; _i122 < _list121.size; ++_i122)
                 {
-                  long _elem81;
-                  _elem81 = iprot.readI64();
-                  _val78.add(_elem81);
+                  long _elem123;
+                  _elem123 = iprot.readI64();
+                  _val120.add(_elem123);
                 }
               }
-              struct.currentBlocks.put(_key77, _val78);
+              struct.currentBlocks.put(_key119, _val120);
             }
           }
           struct.setCurrentBlocksIsSet(true);
@@ -9821,13 +10384,13 @@ public class MasterService {
             case 3: // REMOVED_BLOCK_IDS
               if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
                 {
-                  org.apache.thrift.protocol.TList _list82 = iprot.readListBegin();
-                  struct.removedBlockIds = new ArrayList<Long>(_list82.size);
-                  for (int _i83 = 0; _i83 < _list82.size; ++_i83)
+                  org.apache.thrift.protocol.TList _list124 = iprot.readListBegin();
+                  struct.removedBlockIds = new ArrayList<Long>(_list124.size);
+                  for (int _i125 = 0; _i125 < _list124.size; ++_i125)
                   {
-                    long _elem84;
-                    _elem84 = iprot.readI64();
-                    struct.removedBlockIds.add(_elem84);
+                    long _elem126;
+                    _elem126 = iprot.readI64();
+                    struct.removedBlockIds.add(_elem126);
                   }
                   iprot.readListEnd();
                 }
@@ -9839,25 +10402,25 @@ public class MasterService {
             case 4: // ADDED_BLOCK_IDS
               if (schemeField.type == org.apache.thrift.protocol.TType.MAP) {
                 {
-                  org.apache.thrift.protocol.TMap _map85 = iprot.readMapBegin();
-                  struct.addedBlockIds = new HashMap<Long,List<Long>>(2*_map85.size);
-                  for (int _i86 = 0; _i86 < _map85.size; ++_i86)
+                  org.apache.thrift.protocol.TMap _map127 = iprot.readMapBegin();
+                  struct.addedBlockIds = new HashMap<Long,List<Long>>(2*_map127.size);
+                  for (int _i128 = 0; _i128 < _map127.size; ++_i128)
                   {
-                    long _key87;
-                    List<Long> _val88;
-                    _key87 = iprot.readI64();
+                    long _key129;
+                    List<Long> _val130;
+                    _key129 = iprot.readI64();
                     {
-                      org.apache.thrift.protocol.TList _list89 = iprot.readListBegin();
-                      _val88 = new ArrayList<Long>(_list89.size);
-                      for (int _i90 = 0; _i90 < _list89.size; ++_i90)
+                      org.apache.thrift.protocol.TList _list131 = iprot.readListBegin();
+                      _val130 = new ArrayList<Long>(_list131.size);
+                      for (int _i132 = 0; _i132 < _list131.size; ++_i132)
                       {
-                        long _elem91;
-                        _elem91 = iprot.readI64();
-                        _val88.add(_elem91);
+                        long _elem133;
+                        _elem133 = iprot.readI64();
+                        _val130.add(_elem133);
                       }
                       iprot.readListEnd();
                     }
-                    struct.addedBlockIds.put(_key87, _val88);
+                    struct.addedBlockIds.put(_key129, _val130);
                   }
                   iprot.readMapEnd();
                 }
@@ -9891,9 +10454,9 @@ public class MasterService {
           oprot.writeFieldBegin(REMOVED_BLOCK_IDS_FIELD_DESC);
           {
             oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.I64, struct.removedBlockIds.size()));
-            for (long _iter92 : struct.removedBlockIds)
+            for (long _iter134 : struct.removedBlockIds)
             {
-              oprot.writeI64(_iter92);
+              oprot.writeI64(_iter134);
             }
             oprot.writeListEnd();
           }
@@ -9903,14 +10466,14 @@ public class MasterService {
           oprot.writeFieldBegin(ADDED_BLOCK_IDS_FIELD_DESC);
           {
             oprot.writeMapBegin(new org.apache.thrift.protocol.TMap(org.apache.thrift.protocol.TType.I64, org.apache.thrift.protocol.TType.LIST, struct.addedBlockIds.size()));
-            for (Map.Entry<Long, List<Long>> _iter93 : struct.addedBlockIds.entrySet())
+            for (Map.Entry<Long, List<Long>> _iter135 : struct.addedBlockIds.entrySet())
             {
-              oprot.writeI64(_iter93.getKey());
+              oprot.writeI64(_iter135.getKey());
               {
-                oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.I64, _iter93.getValue().size()));
-                for (long _iter94 : _iter93.getValue())
+                oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.I64, _iter135.getValue().size()));
+                for (long _iter136 : _iter135.getValue())
                 {
-                  oprot.writeI64(_iter94);
+                  oprot.writeI64(_iter136);
                 }
                 oprot.writeListEnd();
               }
@@ -9959,23 +10522,23 @@ public class MasterService {
         if (struct.isSetRemovedBlockIds()) {
           {
             oprot.writeI32(struct.removedBlockIds.size());
-            for (long _iter95 : struct.removedBlockIds)
+            for (long _iter137 : struct.removedBlockIds)
             {
-              oprot.writeI64(_iter95);
+              oprot.writeI64(_iter137);
             }
           }
         }
         if (struct.isSetAddedBlockIds()) {
           {
             oprot.writeI32(struct.addedBlockIds.size());
-            for (Map.Entry<Long, List<Long>> _iter96 : struct.addedBlockIds.entrySet())
+            for (Map.Entry<Long, List<Long>> _iter138 : struct.addedBlockIds.entrySet())
             {
-              oprot.writeI64(_iter96.getKey());
+              oprot.writeI64(_iter138.getKey());
               {
-                oprot.writeI32(_iter96.getValue().size());
-                for (long _iter97 : _iter96.getValue())
+                oprot.writeI32(_iter138.getValue().size());
+                for (long _iter139 : _iter138.getValue())
                 {
-                  oprot.writeI64(_iter97);
+                  oprot.writeI64(_iter139);
                 }
               }
             }
@@ -9997,37 +10560,37 @@ public class MasterService {
         }
         if (incoming.get(2)) {
           {
-            org.apache.thrift.protocol.TList _list98 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.I64, iprot.readI32());
-            struct.removedBlockIds = new ArrayList<Long>(_list98.size);
-            for (int _i99 = 0; _i99 < _list98.size; ++_i99)
+            org.apache.thrift.protocol.TList _list140 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.I64, iprot.readI32());
+            struct.removedBlockIds = new ArrayList<Long>(_list140.size);
+            for (int _i141 = 0; _i141 < _list140.size; ++_i141)
             {
-              long _elem100;
-              _elem100 = iprot.readI64();
-              struct.removedBlockIds.add(_elem100);
+              long _elem142;
+              _elem142 = iprot.readI64();
+              struct.removedBlockIds.add(_elem142);
             }
           }
           struct.setRemovedBlockIdsIsSet(true);
         }
         if (incoming.get(3)) {
           {
-            org.apache.thrift.protocol.TMap _map101 = new org.apache.thrift.protocol.TMap(org.apache.thrift.protocol.TType.I64, org.apache.thrift.protocol.TType.LIST, iprot.readI32());
-            struct.addedBlockIds = new HashMap<Long,List<Long>>(2*_map101.size);
-            for (int _i102 = 0; _i102 < _map101.size; ++_i102)
+            org.apache.thrift.protocol.TMap _map143 = new org.apache.thrift.protocol.TMap(org.apache.thrift.protocol.TType.I64, org.apache.thrift.protocol.TType.LIST, iprot.readI32());
+            struct.addedBlockIds = new HashMap<Long,List<Long>>(2*_map143.size);
+            for (int _i144 = 0; _i144 < _map143.size; ++_i144)
             {
-              long _key103;
-              List<Long> _val104;
-              _key103 = iprot.readI64();
+              long _key145;
+              List<Long> _val146;
+              _key145 = iprot.readI64();
               {
-                org.apache.thrift.protocol.TList _list105 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.I64, iprot.readI32());
-                _val104 = new ArrayList<Long>(_list105.size);
-                for (int _i106 = 0; _i106 < _list105.size; ++_i106)
+                org.apache.thrift.protocol.TList _list147 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.I64, iprot.readI32());
+                _val146 = new ArrayList<Long>(_list147.size);
+                for (int _i148 = 0; _i148 < _list147.size; ++_i148)
                 {
-                  long _elem107;
-                  _elem107 = iprot.readI64();
-                  _val104.add(_elem107);
+                  long _elem149;
+                  _elem149 = iprot.readI64();
+                  _val146.add(_elem149);
                 }
               }
-              struct.addedBlockIds.put(_key103, _val104);
+              struct.addedBlockIds.put(_key145, _val146);
             }
           }
           struct.setAddedBlockIdsIsSet(true);
@@ -12338,13 +12901,13 @@ public class MasterService {
             case 0: // SUCCESS
               if (schemeField.type == org.apache.thrift.protocol.TType.SET) {
                 {
-                  org.apache.thrift.protocol.TSet _set108 = iprot.readSetBegin();
-                  struct.success = new HashSet<Integer>(2*_set108.size);
-                  for (int _i109 = 0; _i109 < _set108.size; ++_i109)
+                  org.apache.thrift.protocol.TSet _set150 = iprot.readSetBegin();
+                  struct.success = new HashSet<Integer>(2*_set150.size);
+                  for (int _i151 = 0; _i151 < _set150.size; ++_i151)
                   {
-                    int _elem110;
-                    _elem110 = iprot.readI32();
-                    struct.success.add(_elem110);
+                    int _elem152;
+                    _elem152 = iprot.readI32();
+                    struct.success.add(_elem152);
                   }
                   iprot.readSetEnd();
                 }
@@ -12372,9 +12935,9 @@ public class MasterService {
           oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
           {
             oprot.writeSetBegin(new org.apache.thrift.protocol.TSet(org.apache.thrift.protocol.TType.I32, struct.success.size()));
-            for (int _iter111 : struct.success)
+            for (int _iter153 : struct.success)
             {
-              oprot.writeI32(_iter111);
+              oprot.writeI32(_iter153);
             }
             oprot.writeSetEnd();
           }
@@ -12405,9 +12968,9 @@ public class MasterService {
         if (struct.isSetSuccess()) {
           {
             oprot.writeI32(struct.success.size());
-            for (int _iter112 : struct.success)
+            for (int _iter154 : struct.success)
             {
-              oprot.writeI32(_iter112);
+              oprot.writeI32(_iter154);
             }
           }
         }
@@ -12419,13 +12982,13 @@ public class MasterService {
         BitSet incoming = iprot.readBitSet(1);
         if (incoming.get(0)) {
           {
-            org.apache.thrift.protocol.TSet _set113 = new org.apache.thrift.protocol.TSet(org.apache.thrift.protocol.TType.I32, iprot.readI32());
-            struct.success = new HashSet<Integer>(2*_set113.size);
-            for (int _i114 = 0; _i114 < _set113.size; ++_i114)
+            org.apache.thrift.protocol.TSet _set155 = new org.apache.thrift.protocol.TSet(org.apache.thrift.protocol.TType.I32, iprot.readI32());
+            struct.success = new HashSet<Integer>(2*_set155.size);
+            for (int _i156 = 0; _i156 < _set155.size; ++_i156)
             {
-              int _elem115;
-              _elem115 = iprot.readI32();
-              struct.success.add(_elem115);
+              int _elem157;
+              _elem157 = iprot.readI32();
+              struct.success.add(_elem157);
             }
           }
           struct.setSuccessIsSet(true);
@@ -12987,13 +13550,13 @@ public class MasterService {
             case 0: // SUCCESS
               if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
                 {
-                  org.apache.thrift.protocol.TList _list116 = iprot.readListBegin();
-                  struct.success = new ArrayList<Integer>(_list116.size);
-                  for (int _i117 = 0; _i117 < _list116.size; ++_i117)
+                  org.apache.thrift.protocol.TList _list158 = iprot.readListBegin();
+                  struct.success = new ArrayList<Integer>(_list158.size);
+                  for (int _i159 = 0; _i159 < _list158.size; ++_i159)
                   {
-                    int _elem118;
-                    _elem118 = iprot.readI32();
-                    struct.success.add(_elem118);
+                    int _elem160;
+                    _elem160 = iprot.readI32();
+                    struct.success.add(_elem160);
                   }
                   iprot.readListEnd();
                 }
@@ -13021,9 +13584,9 @@ public class MasterService {
           oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
           {
             oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.I32, struct.success.size()));
-            for (int _iter119 : struct.success)
+            for (int _iter161 : struct.success)
             {
-              oprot.writeI32(_iter119);
+              oprot.writeI32(_iter161);
             }
             oprot.writeListEnd();
           }
@@ -13054,9 +13617,9 @@ public class MasterService {
         if (struct.isSetSuccess()) {
           {
             oprot.writeI32(struct.success.size());
-            for (int _iter120 : struct.success)
+            for (int _iter162 : struct.success)
             {
-              oprot.writeI32(_iter120);
+              oprot.writeI32(_iter162);
             }
           }
         }
@@ -13068,13 +13631,13 @@ public class MasterService {
         BitSet incoming = iprot.readBitSet(1);
         if (incoming.get(0)) {
           {
-            org.apache.thrift.protocol.TList _list121 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.I32, iprot.readI32());
-            struct.success = new ArrayList<Integer>(_list121.size);
-            for (int _i122 = 0; _i122 < _list121.size; ++_i122)
+            org.apache.thrift.protocol.TList _list163 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.I32, iprot.readI32());
+            struct.success = new ArrayList<Integer>(_list163.size);
+            for (int _i164 = 0; _i164 < _list163.size; ++_i164)
             {
-              int _elem123;
-              _elem123 = iprot.readI32();
-              struct.success.add(_elem123);
+              int _elem165;
+              _elem165 = iprot.readI32();
+              struct.success.add(_elem165);
             }
           }
           struct.setSuccessIsSet(true);
@@ -14036,13 +14599,13 @@ public class MasterService {
             case 1: // PARENTS
               if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
                 {
-                  org.apache.thrift.protocol.TList _list124 = iprot.readListBegin();
-                  struct.parents = new ArrayList<String>(_list124.size);
-                  for (int _i125 = 0; _i125 < _list124.size; ++_i125)
+                  org.apache.thrift.protocol.TList _list166 = iprot.readListBegin();
+                  struct.parents = new ArrayList<String>(_list166.size);
+                  for (int _i167 = 0; _i167 < _list166.size; ++_i167)
                   {
-                    String _elem126;
-                    _elem126 = iprot.readString();
-                    struct.parents.add(_elem126);
+                    String _elem168;
+                    _elem168 = iprot.readString();
+                    struct.parents.add(_elem168);
                   }
                   iprot.readListEnd();
                 }
@@ -14054,13 +14617,13 @@ public class MasterService {
             case 2: // CHILDREN
               if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
                 {
-                  org.apache.thrift.protocol.TList _list127 = iprot.readListBegin();
-                  struct.children = new ArrayList<String>(_list127.size);
-                  for (int _i128 = 0; _i128 < _list127.size; ++_i128)
+                  org.apache.thrift.protocol.TList _list169 = iprot.readListBegin();
+                  struct.children = new ArrayList<String>(_list169.size);
+                  for (int _i170 = 0; _i170 < _list169.size; ++_i170)
                   {
-                    String _elem129;
-                    _elem129 = iprot.readString();
-                    struct.children.add(_elem129);
+                    String _elem171;
+                    _elem171 = iprot.readString();
+                    struct.children.add(_elem171);
                   }
                   iprot.readListEnd();
                 }
@@ -14080,13 +14643,13 @@ public class MasterService {
             case 4: // DATA
               if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
                 {
-                  org.apache.thrift.protocol.TList _list130 = iprot.readListBegin();
-                  struct.data = new ArrayList<ByteBuffer>(_list130.size);
-                  for (int _i131 = 0; _i131 < _list130.size; ++_i131)
+                  org.apache.thrift.protocol.TList _list172 = iprot.readListBegin();
+                  struct.data = new ArrayList<ByteBuffer>(_list172.size);
+                  for (int _i173 = 0; _i173 < _list172.size; ++_i173)
                   {
-                    ByteBuffer _elem132;
-                    _elem132 = iprot.readBinary();
-                    struct.data.add(_elem132);
+                    ByteBuffer _elem174;
+                    _elem174 = iprot.readBinary();
+                    struct.data.add(_elem174);
                   }
                   iprot.readListEnd();
                 }
@@ -14154,9 +14717,9 @@ public class MasterService {
           oprot.writeFieldBegin(PARENTS_FIELD_DESC);
           {
             oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, struct.parents.size()));
-            for (String _iter133 : struct.parents)
+            for (String _iter175 : struct.parents)
             {
-              oprot.writeString(_iter133);
+              oprot.writeString(_iter175);
             }
             oprot.writeListEnd();
           }
@@ -14166,9 +14729,9 @@ public class MasterService {
           oprot.writeFieldBegin(CHILDREN_FIELD_DESC);
           {
             oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, struct.children.size()));
-            for (String _iter134 : struct.children)
+            for (String _iter176 : struct.children)
             {
-              oprot.writeString(_iter134);
+              oprot.writeString(_iter176);
             }
             oprot.writeListEnd();
           }
@@ -14183,9 +14746,9 @@ public class MasterService {
           oprot.writeFieldBegin(DATA_FIELD_DESC);
           {
             oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, struct.data.size()));
-            for (ByteBuffer _iter135 : struct.data)
+            for (ByteBuffer _iter177 : struct.data)
             {
-              oprot.writeBinary(_iter135);
+              oprot.writeBinary(_iter177);
             }
             oprot.writeListEnd();
           }
@@ -14261,18 +14824,18 @@ public class MasterService {
         if (struct.isSetParents()) {
           {
             oprot.writeI32(struct.parents.size());
-            for (String _iter136 : struct.parents)
+            for (String _iter178 : struct.parents)
             {
-              oprot.writeString(_iter136);
+              oprot.writeString(_iter178);
             }
           }
         }
         if (struct.isSetChildren()) {
           {
             oprot.writeI32(struct.children.size());
-            for (String _iter137 : struct.children)
+            for (String _iter179 : struct.children)
             {
-              oprot.writeString(_iter137);
+              oprot.writeString(_iter179);
             }
           }
         }
@@ -14282,9 +14845,9 @@ public class MasterService {
         if (struct.isSetData()) {
           {
             oprot.writeI32(struct.data.size());
-            for (ByteBuffer _iter138 : struct.data)
+            for (ByteBuffer _iter180 : struct.data)
             {
-              oprot.writeBinary(_iter138);
+              oprot.writeBinary(_iter180);
             }
           }
         }
@@ -14311,26 +14874,26 @@ public class MasterService {
         BitSet incoming = iprot.readBitSet(9);
         if (incoming.get(0)) {
           {
-            org.apache.thrift.protocol.TList _list139 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, iprot.readI32());
-            struct.parents = new ArrayList<String>(_list139.size);
-            for (int _i140 = 0; _i140 < _list139.size; ++_i140)
+            org.apache.thrift.protocol.TList _list181 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, iprot.readI32());
+            struct.parents = new ArrayList<String>(_list181.size);
+            for (int _i182 = 0; _i182 < _list181.size; ++_i182)
             {
-              String _elem141;
-              _elem141 = iprot.readString();
-              struct.parents.add(_elem141);
+              String _elem183;
+              _elem183 = iprot.readString();
+              struct.parents.add(_elem183);
             }
           }
           struct.setParentsIsSet(true);
         }
         if (incoming.get(1)) {
           {
-            org.apache.thrift.protocol.TList _list142 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, iprot.readI32());
-            struct.children = new ArrayList<String>(_list142.size);
-            for (int _i143 = 0; _i143 < _list142.size; ++_i143)
+            org.apache.thrift.protocol.TList _list184 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, iprot.readI32());
+            struct.children = new ArrayList<String>(_list184.size);
+            for (int _i185 = 0; _i185 < _list184.size; ++_i185)
             {
-              String _elem144;
-              _elem144 = iprot.readString();
-              struct.children.add(_elem144);
+              String _elem186;
+              _elem186 = iprot.readString();
+              struct.children.add(_elem186);
             }
           }
           struct.setChildrenIsSet(true);
@@ -14341,13 +14904,13 @@ public class MasterService {
         }
         if (incoming.get(3)) {
           {
-            org.apache.thrift.protocol.TList _list145 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, iprot.readI32());
-            struct.data = new ArrayList<ByteBuffer>(_list145.size);
-            for (int _i146 = 0; _i146 < _list145.size; ++_i146)
+            org.apache.thrift.protocol.TList _list187 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, iprot.readI32());
+            struct.data = new ArrayList<ByteBuffer>(_list187.size);
+            for (int _i188 = 0; _i188 < _list187.size; ++_i188)
             {
-              ByteBuffer _elem147;
-              _elem147 = iprot.readBinary();
-              struct.data.add(_elem147);
+              ByteBuffer _elem189;
+              _elem189 = iprot.readBinary();
+              struct.data.add(_elem189);
             }
           }
           struct.setDataIsSet(true);
@@ -18980,22 +19543,28 @@ public class MasterService {
 
   }
 
-  public static class user_createNewBlock_args implements org.apache.thrift.TBase<user_createNewBlock_args, user_createNewBlock_args._Fields>, java.io.Serializable, Cloneable, Comparable<user_createNewBlock_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("user_createNewBlock_args");
+  public static class user_createFileBatch_args implements org.apache.thrift.TBase<user_createFileBatch_args, user_createFileBatch_args._Fields>, java.io.Serializable, Cloneable, Comparable<user_createFileBatch_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("user_createFileBatch_args");
 
-    private static final org.apache.thrift.protocol.TField FILE_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("fileId", org.apache.thrift.protocol.TType.I32, (short)1);
+    private static final org.apache.thrift.protocol.TField PATHS_FIELD_DESC = new org.apache.thrift.protocol.TField("paths", org.apache.thrift.protocol.TType.LIST, (short)1);
+    private static final org.apache.thrift.protocol.TField BLOCK_SIZE_BYTE_FIELD_DESC = new org.apache.thrift.protocol.TField("blockSizeByte", org.apache.thrift.protocol.TType.I64, (short)2);
+    private static final org.apache.thrift.protocol.TField RECURSIVE_FIELD_DESC = new org.apache.thrift.protocol.TField("recursive", org.apache.thrift.protocol.TType.BOOL, (short)3);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new user_createNewBlock_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new user_createNewBlock_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new user_createFileBatch_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new user_createFileBatch_argsTupleSchemeFactory());
     }
 
-    public int fileId; // required
+    public List<String> paths; // required
+    public long blockSizeByte; // required
+    public boolean recursive; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      FILE_ID((short)1, "fileId");
+      PATHS((short)1, "paths"),
+      BLOCK_SIZE_BYTE((short)2, "blockSizeByte"),
+      RECURSIVE((short)3, "recursive");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -19010,8 +19579,12 @@ public class MasterService {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
-          case 1: // FILE_ID
-            return FILE_ID;
+          case 1: // PATHS
+            return PATHS;
+          case 2: // BLOCK_SIZE_BYTE
+            return BLOCK_SIZE_BYTE;
+          case 3: // RECURSIVE
+            return RECURSIVE;
           default:
             return null;
         }
@@ -19052,136 +19625,3255 @@ public class MasterService {
     }
 
     // isset id assignments
-    private static final int __FILEID_ISSET_ID = 0;
+    private static final int __BLOCKSIZEBYTE_ISSET_ID = 0;
+    private static final int __RECURSIVE_ISSET_ID = 1;
     private byte __isset_bitfield = 0;
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
-      tmpMap.put(_Fields.FILE_ID, new org.apache.thrift.meta_data.FieldMetaData("fileId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
+      tmpMap.put(_Fields.PATHS, new org.apache.thrift.meta_data.FieldMetaData("paths", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING))));
+      tmpMap.put(_Fields.BLOCK_SIZE_BYTE, new org.apache.thrift.meta_data.FieldMetaData("blockSizeByte", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
+      tmpMap.put(_Fields.RECURSIVE, new org.apache.thrift.meta_data.FieldMetaData("recursive", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.BOOL)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(user_createNewBlock_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(user_createFileBatch_args.class, metaDataMap);
     }
 
-    public user_createNewBlock_args() {
+    public user_createFileBatch_args() {
     }
 
-    public user_createNewBlock_args(
-      int fileId)
+    public user_createFileBatch_args(
+      List<String> paths,
+      long blockSizeByte,
+      boolean recursive)
     {
       this();
-      this.fileId = fileId;
-      setFileIdIsSet(true);
+      this.paths = paths;
+      this.blockSizeByte = blockSizeByte;
+      setBlockSizeByteIsSet(true);
+      this.recursive = recursive;
+      setRecursiveIsSet(true);
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public user_createNewBlock_args(user_createNewBlock_args other) {
+    public user_createFileBatch_args(user_createFileBatch_args other) {
       __isset_bitfield = other.__isset_bitfield;
-      this.fileId = other.fileId;
+      if (other.isSetPaths()) {
+        List<String> __this__paths = new ArrayList<String>(other.paths);
+        this.paths = __this__paths;
+      }
+      this.blockSizeByte = other.blockSizeByte;
+      this.recursive = other.recursive;
     }
 
-    public user_createNewBlock_args deepCopy() {
-      return new user_createNewBlock_args(this);
+    public user_createFileBatch_args deepCopy() {
+      return new user_createFileBatch_args(this);
     }
 
     @Override
     public void clear() {
-      setFileIdIsSet(false);
-      this.fileId = 0;
+      this.paths = null;
+      setBlockSizeByteIsSet(false);
+      this.blockSizeByte = 0;
+      setRecursiveIsSet(false);
+      this.recursive = false;
     }
 
-    public int getFileId() {
-      return this.fileId;
+    public int getPathsSize() {
+      return (this.paths == null) ? 0 : this.paths.size();
     }
 
-    public user_createNewBlock_args setFileId(int fileId) {
-      this.fileId = fileId;
-      setFileIdIsSet(true);
-      return this;
+    public java.util.Iterator<String> getPathsIterator() {
+      return (this.paths == null) ? null : this.paths.iterator();
     }
 
-    public void unsetFileId() {
-      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __FILEID_ISSET_ID);
+    public void addToPaths(String elem) {
+      if (this.paths == null) {
+        this.paths = new ArrayList<String>();
+      }
+      this.paths.add(elem);
     }
 
-    /** Returns true if field fileId is set (has been assigned a value) and false otherwise */
-    public boolean isSetFileId() {
-      return EncodingUtils.testBit(__isset_bitfield, __FILEID_ISSET_ID);
+    public List<String> getPaths() {
+      return this.paths;
     }
 
-    public void setFileIdIsSet(boolean value) {
-      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __FILEID_ISSET_ID, value);
+    public user_createFileBatch_args setPaths(List<String> paths) {
+      this.paths = paths;
+      return this;
     }
 
-    public void setFieldValue(_Fields field, Object value) {
-      switch (field) {
-      case FILE_ID:
-        if (value == null) {
-          unsetFileId();
-        } else {
-          setFileId((Integer)value);
-        }
-        break;
-
-      }
+    public void unsetPaths() {
+      this.paths = null;
     }
 
-    public Object getFieldValue(_Fields field) {
-      switch (field) {
-      case FILE_ID:
-        return Integer.valueOf(getFileId());
-
-      }
-      throw new IllegalStateException();
+    /** Returns true if field paths is set (has been assigned a value) and false otherwise */
+    public boolean isSetPaths() {
+      return this.paths != null;
     }
 
-    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
-    public boolean isSet(_Fields field) {
-      if (field == null) {
-        throw new IllegalArgumentException();
-      }
-
-      switch (field) {
-      case FILE_ID:
-        return isSetFileId();
+    public void setPathsIsSet(boolean value) {
+      if (!value) {
+        this.paths = null;
       }
-      throw new IllegalStateException();
     }
 
-    @Override
-    public boolean equals(Object that) {
-      if (that == null)
-        return false;
-      if (that instanceof user_createNewBlock_args)
-        return this.equals((user_createNewBlock_args)that);
-      return false;
+    public long getBlockSizeByte() {
+      return this.blockSizeByte;
     }
 
-    public boolean equals(user_createNewBlock_args that) {
-      if (that == null)
-        return false;
+    public user_createFileBatch_args setBlockSizeByte(long blockSizeByte) {
+      this.blockSizeByte = blockSizeByte;
+      setBlockSizeByteIsSet(true);
+      return this;
+    }
 
-      boolean this_present_fileId = true;
-      boolean that_present_fileId = true;
-      if (this_present_fileId || that_present_fileId) {
-        if (!(this_present_fileId && that_present_fileId))
-          return false;
-        if (this.fileId != that.fileId)
-          return false;
-      }
+    public void unsetBlockSizeByte() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __BLOCKSIZEBYTE_ISSET_ID);
+    }
 
-      return true;
+    /** Returns true if field blockSizeByte is set (has been assigned a value) and false otherwise */
+    public boolean isSetBlockSizeByte() {
+      return EncodingUtils.testBit(__isset_bitfield, __BLOCKSIZEBYTE_ISSET_ID);
     }
 
-    @Override
-    public int hashCode() {
-      return 0;
+    public void setBlockSizeByteIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __BLOCKSIZEBYTE_ISSET_ID, value);
+    }
+
+    public boolean isRecursive() {
+      return this.recursive;
+    }
+
+    public user_createFileBatch_args setRecursive(boolean recursive) {
+      this.recursive = recursive;
+      setRecursiveIsSet(true);
+      return this;
+    }
+
+    public void unsetRecursive() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __RECURSIVE_ISSET_ID);
+    }
+
+    /** Returns true if field recursive is set (has been assigned a value) and false otherwise */
+    public boolean isSetRecursive() {
+      return EncodingUtils.testBit(__isset_bitfield, __RECURSIVE_ISSET_ID);
+    }
+
+    public void setRecursiveIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __RECURSIVE_ISSET_ID, value);
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case PATHS:
+        if (value == null) {
+          unsetPaths();
+        } else {
+          setPaths((List<String>)value);
+        }
+        break;
+
+      case BLOCK_SIZE_BYTE:
+        if (value == null) {
+          unsetBlockSizeByte();
+        } else {
+          setBlockSizeByte((Long)value);
+        }
+        break;
+
+      case RECURSIVE:
+        if (value == null) {
+          unsetRecursive();
+        } else {
+          setRecursive((Boolean)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case PATHS:
+        return getPaths();
+
+      case BLOCK_SIZE_BYTE:
+        return Long.valueOf(getBlockSizeByte());
+
+      case RECURSIVE:
+        return Boolean.valueOf(isRecursive());
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case PATHS:
+        return isSetPaths();
+      case BLOCK_SIZE_BYTE:
+        return isSetBlockSizeByte();
+      case RECURSIVE:
+        return isSetRecursive();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof user_createFileBatch_args)
+        return this.equals((user_createFileBatch_args)that);
+      return false;
+    }
+
+    public boolean equals(user_createFileBatch_args that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_paths = true && this.isSetPaths();
+      boolean that_present_paths = true && that.isSetPaths();
+      if (this_present_paths || that_present_paths) {
+        if (!(this_present_paths && that_present_paths))
+          return false;
+        if (!this.paths.equals(that.paths))
+          return false;
+      }
+
+      boolean this_present_blockSizeByte = true;
+      boolean that_present_blockSizeByte = true;
+      if (this_present_blockSizeByte || that_present_blockSizeByte) {
+        if (!(this_present_blockSizeByte && that_present_blockSizeByte))
+          return false;
+        if (this.blockSizeByte != that.blockSizeByte)
+          return false;
+      }
+
+      boolean this_present_recursive = true;
+      boolean that_present_recursive = true;
+      if (this_present_recursive || that_present_recursive) {
+        if (!(this_present_recursive && that_present_recursive))
+          return false;
+        if (this.recursive != that.recursive)
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      return 0;
+    }
+
+    @Override
+    public int compareTo(user_createFileBatch_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetPaths()).compareTo(other.isSetPaths());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetPaths()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.paths, other.paths);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetBlockSizeByte()).compareTo(other.isSetBlockSizeByte());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetBlockSizeByte()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.blockSizeByte, other.blockSizeByte);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetRecursive()).compareTo(other.isSetRecursive());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetRecursive()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.recursive, other.recursive);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("user_createFileBatch_args(");
+      boolean first = true;
+
+      sb.append("paths:");
+      if (this.paths == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.paths);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("blockSizeByte:");
+      sb.append(this.blockSizeByte);
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("recursive:");
+      sb.append(this.recursive);
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bitfield = 0;
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class user_createFileBatch_argsStandardSchemeFactory implements SchemeFactory {
+      public user_createFileBatch_argsStandardScheme getScheme() {
+        return new user_createFileBatch_argsStandardScheme();
+      }
+    }
+
+    private static class user_createFileBatch_argsStandardScheme extends StandardScheme<user_createFileBatch_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, user_createFileBatch_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // PATHS
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list190 = iprot.readListBegin();
+                  struct.paths = new ArrayList<String>(_list190.size);
+                  for (int _i191 = 0; _i191 < _list190.size; ++_i191)
+                  {
+                    String _elem192;
+                    _elem192 = iprot.readString();
+                    struct.paths.add(_elem192);
+                  }
+                  iprot.readListEnd();
+                }
+                struct.setPathsIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // BLOCK_SIZE_BYTE
+              if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
+                struct.blockSizeByte = iprot.readI64();
+                struct.setBlockSizeByteIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 3: // RECURSIVE
+              if (schemeField.type == org.apache.thrift.protocol.TType.BOOL) {
+                struct.recursive = iprot.readBool();
+                struct.setRecursiveIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, user_createFileBatch_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.paths != null) {
+          oprot.writeFieldBegin(PATHS_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, struct.paths.size()));
+            for (String _iter193 : struct.paths)
+            {
+              oprot.writeString(_iter193);
+            }
+            oprot.writeListEnd();
+          }
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldBegin(BLOCK_SIZE_BYTE_FIELD_DESC);
+        oprot.writeI64(struct.blockSizeByte);
+        oprot.writeFieldEnd();
+        oprot.writeFieldBegin(RECURSIVE_FIELD_DESC);
+        oprot.writeBool(struct.recursive);
+        oprot.writeFieldEnd();
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class user_createFileBatch_argsTupleSchemeFactory implements SchemeFactory {
+      public user_createFileBatch_argsTupleScheme getScheme() {
+        return new user_createFileBatch_argsTupleScheme();
+      }
+    }
+
+    private static class user_createFileBatch_argsTupleScheme extends TupleScheme<user_createFileBatch_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, user_createFileBatch_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetPaths()) {
+          optionals.set(0);
+        }
+        if (struct.isSetBlockSizeByte()) {
+          optionals.set(1);
+        }
+        if (struct.isSetRecursive()) {
+          optionals.set(2);
+        }
+        oprot.writeBitSet(optionals, 3);
+        if (struct.isSetPaths()) {
+          {
+            oprot.writeI32(struct.paths.size());
+            for (String _iter194 : struct.paths)
+            {
+              oprot.writeString(_iter194);
+            }
+          }
+        }
+        if (struct.isSetBlockSizeByte()) {
+          oprot.writeI64(struct.blockSizeByte);
+        }
+        if (struct.isSetRecursive()) {
+          oprot.writeBool(struct.recursive);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, user_createFileBatch_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(3);
+        if (incoming.get(0)) {
+          {
+            org.apache.thrift.protocol.TList _list195 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, iprot.readI32());
+            struct.paths = new ArrayList<String>(_list195.size);
+            for (int _i196 = 0; _i196 < _list195.size; ++_i196)
+            {
+              String _elem197;
+              _elem197 = iprot.readString();
+              struct.paths.add(_elem197);
+            }
+          }
+          struct.setPathsIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.blockSizeByte = iprot.readI64();
+          struct.setBlockSizeByteIsSet(true);
+        }
+        if (incoming.get(2)) {
+          struct.recursive = iprot.readBool();
+          struct.setRecursiveIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class user_createFileBatch_result implements org.apache.thrift.TBase<user_createFileBatch_result, user_createFileBatch_result._Fields>, java.io.Serializable, Cloneable, Comparable<user_createFileBatch_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("user_createFileBatch_result");
+
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new user_createFileBatch_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new user_createFileBatch_resultTupleSchemeFactory());
+    }
+
+    public ClientBatchResult success; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SUCCESS((short)0, "success");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, ClientBatchResult.class)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(user_createFileBatch_result.class, metaDataMap);
+    }
+
+    public user_createFileBatch_result() {
+    }
+
+    public user_createFileBatch_result(
+      ClientBatchResult success)
+    {
+      this();
+      this.success = success;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public user_createFileBatch_result(user_createFileBatch_result other) {
+      if (other.isSetSuccess()) {
+        this.success = new ClientBatchResult(other.success);
+      }
+    }
+
+    public user_createFileBatch_result deepCopy() {
+      return new user_createFileBatch_result(this);
+    }
+
+    @Override
+    public void clear() {
+      this.success = null;
+    }
+
+    public ClientBatchResult getSuccess() {
+      return this.success;
+    }
+
+    public user_createFileBatch_result setSuccess(ClientBatchResult success) {
+      this.success = success;
+      return this;
+    }
+
+    public void unsetSuccess() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((ClientBatchResult)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SUCCESS:
+        return getSuccess();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof user_createFileBatch_result)
+        return this.equals((user_createFileBatch_result)that);
+      return false;
+    }
+
+    public boolean equals(user_createFileBatch_result that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      return 0;
+    }
+
+    @Override
+    public int compareTo(user_createFileBatch_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+      }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("user_createFileBatch_result(");
+      boolean first = true;
+
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+      if (success != null) {
+        success.validate();
+      }
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class user_createFileBatch_resultStandardSchemeFactory implements SchemeFactory {
+      public user_createFileBatch_resultStandardScheme getScheme() {
+        return new user_createFileBatch_resultStandardScheme();
+      }
+    }
+
+    private static class user_createFileBatch_resultStandardScheme extends StandardScheme<user_createFileBatch_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, user_createFileBatch_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.success = new ClientBatchResult();
+                struct.success.read(iprot);
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, user_createFileBatch_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          struct.success.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class user_createFileBatch_resultTupleSchemeFactory implements SchemeFactory {
+      public user_createFileBatch_resultTupleScheme getScheme() {
+        return new user_createFileBatch_resultTupleScheme();
+      }
+    }
+
+    private static class user_createFileBatch_resultTupleScheme extends TupleScheme<user_createFileBatch_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, user_createFileBatch_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetSuccess()) {
+          struct.success.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, user_createFileBatch_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          struct.success = new ClientBatchResult();
+          struct.success.read(iprot);
+          struct.setSuccessIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class user_createNewBlock_args implements org.apache.thrift.TBase<user_createNewBlock_args, user_createNewBlock_args._Fields>, java.io.Serializable, Cloneable, Comparable<user_createNewBlock_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("user_createNewBlock_args");
+
+    private static final org.apache.thrift.protocol.TField FILE_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("fileId", org.apache.thrift.protocol.TType.I32, (short)1);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new user_createNewBlock_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new user_createNewBlock_argsTupleSchemeFactory());
+    }
+
+    public int fileId; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      FILE_ID((short)1, "fileId");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // FILE_ID
+            return FILE_ID;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    private static final int __FILEID_ISSET_ID = 0;
+    private byte __isset_bitfield = 0;
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.FILE_ID, new org.apache.thrift.meta_data.FieldMetaData("fileId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(user_createNewBlock_args.class, metaDataMap);
+    }
+
+    public user_createNewBlock_args() {
+    }
+
+    public user_createNewBlock_args(
+      int fileId)
+    {
+      this();
+      this.fileId = fileId;
+      setFileIdIsSet(true);
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public user_createNewBlock_args(user_createNewBlock_args other) {
+      __isset_bitfield = other.__isset_bitfield;
+      this.fileId = other.fileId;
+    }
+
+    public user_createNewBlock_args deepCopy() {
+      return new user_createNewBlock_args(this);
+    }
+
+    @Override
+    public void clear() {
+      setFileIdIsSet(false);
+      this.fileId = 0;
+    }
+
+    public int getFileId() {
+      return this.fileId;
+    }
+
+    public user_createNewBlock_args setFileId(int fileId) {
+      this.fileId = fileId;
+      setFileIdIsSet(true);
+      return this;
+    }
+
+    public void unsetFileId() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __FILEID_ISSET_ID);
+    }
+
+    /** Returns true if field fileId is set (has been assigned a value) and false otherwise */
+    public boolean isSetFileId() {
+      return EncodingUtils.testBit(__isset_bitfield, __FILEID_ISSET_ID);
+    }
+
+    public void setFileIdIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __FILEID_ISSET_ID, value);
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case FILE_ID:
+        if (value == null) {
+          unsetFileId();
+        } else {
+          setFileId((Integer)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case FILE_ID:
+        return Integer.valueOf(getFileId());
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case FILE_ID:
+        return isSetFileId();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof user_createNewBlock_args)
+        return this.equals((user_createNewBlock_args)that);
+      return false;
+    }
+
+    public boolean equals(user_createNewBlock_args that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_fileId = true;
+      boolean that_present_fileId = true;
+      if (this_present_fileId || that_present_fileId) {
+        if (!(this_present_fileId && that_present_fileId))
+          return false;
+        if (this.fileId != that.fileId)
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      return 0;
+    }
+
+    @Override
+    public int compareTo(user_createNewBlock_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetFileId()).compareTo(other.isSetFileId());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetFileId()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.fileId, other.fileId);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("user_createNewBlock_args(");
+      boolean first = true;
+
+      sb.append("fileId:");
+      sb.append(this.fileId);
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bitfield = 0;
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class user_createNewBlock_argsStandardSchemeFactory implements SchemeFactory {
+      public user_createNewBlock_argsStandardScheme getScheme() {
+        return new user_createNewBlock_argsStandardScheme();
+      }
+    }
+
+    private static class user_createNewBlock_argsStandardScheme extends StandardScheme<user_createNewBlock_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, user_createNewBlock_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // FILE_ID
+              if (schemeField.type == org.apache.thrift.protocol.TType.I32) {
+                struct.fileId = iprot.readI32();
+                struct.setFileIdIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, user_createNewBlock_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        oprot.writeFieldBegin(FILE_ID_FIELD_DESC);
+        oprot.writeI32(struct.fileId);
+        oprot.writeFieldEnd();
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class user_createNewBlock_argsTupleSchemeFactory implements SchemeFactory {
+      public user_createNewBlock_argsTupleScheme getScheme() {
+        return new user_createNewBlock_argsTupleScheme();
+      }
+    }
+
+    private static class user_createNewBlock_argsTupleScheme extends TupleScheme<user_createNewBlock_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, user_createNewBlock_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetFileId()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetFileId()) {
+          oprot.writeI32(struct.fileId);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, user_createNewBlock_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          struct.fileId = iprot.readI32();
+          struct.setFileIdIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class user_createNewBlock_result implements org.apache.thrift.TBase<user_createNewBlock_result, user_createNewBlock_result._Fields>, java.io.Serializable, Cloneable, Comparable<user_createNewBlock_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("user_createNewBlock_result");
+
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.I64, (short)0);
+    private static final org.apache.thrift.protocol.TField E_FIELD_DESC = new org.apache.thrift.protocol.TField("e", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new user_createNewBlock_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new user_createNewBlock_resultTupleSchemeFactory());
+    }
+
+    public long success; // required
+    public FileDoesNotExistException e; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SUCCESS((short)0, "success"),
+      E((short)1, "e");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          case 1: // E
+            return E;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    private static final int __SUCCESS_ISSET_ID = 0;
+    private byte __isset_bitfield = 0;
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
+      tmpMap.put(_Fields.E, new org.apache.thrift.meta_data.FieldMetaData("e", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(user_createNewBlock_result.class, metaDataMap);
+    }
+
+    public user_createNewBlock_result() {
+    }
+
+    public user_createNewBlock_result(
+      long success,
+      FileDoesNotExistException e)
+    {
+      this();
+      this.success = success;
+      setSuccessIsSet(true);
+      this.e = e;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public user_createNewBlock_result(user_createNewBlock_result other) {
+      __isset_bitfield = other.__isset_bitfield;
+      this.success = other.success;
+      if (other.isSetE()) {
+        this.e = new FileDoesNotExistException(other.e);
+      }
+    }
+
+    public user_createNewBlock_result deepCopy() {
+      return new user_createNewBlock_result(this);
+    }
+
+    @Override
+    public void clear() {
+      setSuccessIsSet(false);
+      this.success = 0;
+      this.e = null;
+    }
+
+    public long getSuccess() {
+      return this.success;
+    }
+
+    public user_createNewBlock_result setSuccess(long success) {
+      this.success = success;
+      setSuccessIsSet(true);
+      return this;
+    }
+
+    public void unsetSuccess() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __SUCCESS_ISSET_ID);
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return EncodingUtils.testBit(__isset_bitfield, __SUCCESS_ISSET_ID);
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __SUCCESS_ISSET_ID, value);
+    }
+
+    public FileDoesNotExistException getE() {
+      return this.e;
+    }
+
+    public user_createNewBlock_result setE(FileDoesNotExistException e) {
+      this.e = e;
+      return this;
+    }
+
+    public void unsetE() {
+      this.e = null;
+    }
+
+    /** Returns true if field e is set (has been assigned a value) and false otherwise */
+    public boolean isSetE() {
+      return this.e != null;
+    }
+
+    public void setEIsSet(boolean value) {
+      if (!value) {
+        this.e = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((Long)value);
+        }
+        break;
+
+      case E:
+        if (value == null) {
+          unsetE();
+        } else {
+          setE((FileDoesNotExistException)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SUCCESS:
+        return Long.valueOf(getSuccess());
+
+      case E:
+        return getE();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
+      case E:
+        return isSetE();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof user_createNewBlock_result)
+        return this.equals((user_createNewBlock_result)that);
+      return false;
+    }
+
+    public boolean equals(user_createNewBlock_result that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_success = true;
+      boolean that_present_success = true;
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (this.success != that.success)
+          return false;
+      }
+
+      boolean this_present_e = true && this.isSetE();
+      boolean that_present_e = true && that.isSetE();
+      if (this_present_e || that_present_e) {
+        if (!(this_present_e && that_present_e))
+          return false;
+        if (!this.e.equals(that.e))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      return 0;
+    }
+
+    @Override
+    public int compareTo(user_createNewBlock_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetE()).compareTo(other.isSetE());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetE()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.e, other.e);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+      }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("user_createNewBlock_result(");
+      boolean first = true;
+
+      sb.append("success:");
+      sb.append(this.success);
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("e:");
+      if (this.e == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.e);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bitfield = 0;
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class user_createNewBlock_resultStandardSchemeFactory implements SchemeFactory {
+      public user_createNewBlock_resultStandardScheme getScheme() {
+        return new user_createNewBlock_resultStandardScheme();
+      }
+    }
+
+    private static class user_createNewBlock_resultStandardScheme extends StandardScheme<user_createNewBlock_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, user_createNewBlock_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
+                struct.success = iprot.readI64();
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 1: // E
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.e = new FileDoesNotExistException();
+                struct.e.read(iprot);
+                struct.setEIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, user_createNewBlock_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.isSetSuccess()) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          oprot.writeI64(struct.success);
+          oprot.writeFieldEnd();
+        }
+        if (struct.e != null) {
+          oprot.writeFieldBegin(E_FIELD_DESC);
+          struct.e.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class user_createNewBlock_resultTupleSchemeFactory implements SchemeFactory {
+      public user_createNewBlock_resultTupleScheme getScheme() {
+        return new user_createNewBlock_resultTupleScheme();
+      }
+    }
+
+    private static class user_createNewBlock_resultTupleScheme extends TupleScheme<user_createNewBlock_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, user_createNewBlock_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        if (struct.isSetE()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetSuccess()) {
+          oprot.writeI64(struct.success);
+        }
+        if (struct.isSetE()) {
+          struct.e.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, user_createNewBlock_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(2);
+        if (incoming.get(0)) {
+          struct.success = iprot.readI64();
+          struct.setSuccessIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.e = new FileDoesNotExistException();
+          struct.e.read(iprot);
+          struct.setEIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class user_completeFile_args implements org.apache.thrift.TBase<user_completeFile_args, user_completeFile_args._Fields>, java.io.Serializable, Cloneable, Comparable<user_completeFile_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("user_completeFile_args");
+
+    private static final org.apache.thrift.protocol.TField FILE_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("fileId", org.apache.thrift.protocol.TType.I32, (short)1);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new user_completeFile_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new user_completeFile_argsTupleSchemeFactory());
+    }
+
+    public int fileId; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      FILE_ID((short)1, "fileId");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // FILE_ID
+            return FILE_ID;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    private static final int __FILEID_ISSET_ID = 0;
+    private byte __isset_bitfield = 0;
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.FILE_ID, new org.apache.thrift.meta_data.FieldMetaData("fileId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(user_completeFile_args.class, metaDataMap);
+    }
+
+    public user_completeFile_args() {
+    }
+
+    public user_completeFile_args(
+      int fileId)
+    {
+      this();
+      this.fileId = fileId;
+      setFileIdIsSet(true);
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public user_completeFile_args(user_completeFile_args other) {
+      __isset_bitfield = other.__isset_bitfield;
+      this.fileId = other.fileId;
+    }
+
+    public user_completeFile_args deepCopy() {
+      return new user_completeFile_args(this);
+    }
+
+    @Override
+    public void clear() {
+      setFileIdIsSet(false);
+      this.fileId = 0;
+    }
+
+    public int getFileId() {
+      return this.fileId;
+    }
+
+    public user_completeFile_args setFileId(int fileId) {
+      this.fileId = fileId;
+      setFileIdIsSet(true);
+      return this;
+    }
+
+    public void unsetFileId() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __FILEID_ISSET_ID);
+    }
+
+    /** Returns true if field fileId is set (has been assigned a value) and false otherwise */
+    public boolean isSetFileId() {
+      return EncodingUtils.testBit(__isset_bitfield, __FILEID_ISSET_ID);
+    }
+
+    public void setFileIdIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __FILEID_ISSET_ID, value);
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case FILE_ID:
+        if (value == null) {
+          unsetFileId();
+        } else {
+          setFileId((Integer)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case FILE_ID:
+        return Integer.valueOf(getFileId());
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case FILE_ID:
+        return isSetFileId();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof user_completeFile_args)
+        return this.equals((user_completeFile_args)that);
+      return false;
+    }
+
+    public boolean equals(user_completeFile_args that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_fileId = true;
+      boolean that_present_fileId = true;
+      if (this_present_fileId || that_present_fileId) {
+        if (!(this_present_fileId && that_present_fileId))
+          return false;
+        if (this.fileId != that.fileId)
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      return 0;
+    }
+
+    @Override
+    public int compareTo(user_completeFile_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetFileId()).compareTo(other.isSetFileId());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetFileId()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.fileId, other.fileId);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("user_completeFile_args(");
+      boolean first = true;
+
+      sb.append("fileId:");
+      sb.append(this.fileId);
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bitfield = 0;
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class user_completeFile_argsStandardSchemeFactory implements SchemeFactory {
+      public user_completeFile_argsStandardScheme getScheme() {
+        return new user_completeFile_argsStandardScheme();
+      }
+    }
+
+    private static class user_completeFile_argsStandardScheme extends StandardScheme<user_completeFile_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, user_completeFile_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // FILE_ID
+              if (schemeField.type == org.apache.thrift.protocol.TType.I32) {
+                struct.fileId = iprot.readI32();
+                struct.setFileIdIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, user_completeFile_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        oprot.writeFieldBegin(FILE_ID_FIELD_DESC);
+        oprot.writeI32(struct.fileId);
+        oprot.writeFieldEnd();
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class user_completeFile_argsTupleSchemeFactory implements SchemeFactory {
+      public user_completeFile_argsTupleScheme getScheme() {
+        return new user_completeFile_argsTupleScheme();
+      }
+    }
+
+    private static class user_completeFile_argsTupleScheme extends TupleScheme<user_completeFile_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, user_completeFile_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetFileId()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetFileId()) {
+          oprot.writeI32(struct.fileId);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, user_completeFile_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          struct.fileId = iprot.readI32();
+          struct.setFileIdIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class user_completeFile_result implements org.apache.thrift.TBase<user_completeFile_result, user_completeFile_result._Fields>, java.io.Serializable, Cloneable, Comparable<user_completeFile_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("user_completeFile_result");
+
+    private static final org.apache.thrift.protocol.TField E_FIELD_DESC = new org.apache.thrift.protocol.TField("e", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new user_completeFile_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new user_completeFile_resultTupleSchemeFactory());
+    }
+
+    public FileDoesNotExistException e; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      E((short)1, "e");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // E
+            return E;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.E, new org.apache.thrift.meta_data.FieldMetaData("e", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(user_completeFile_result.class, metaDataMap);
+    }
+
+    public user_completeFile_result() {
+    }
+
+    public user_completeFile_result(
+      FileDoesNotExistException e)
+    {
+      this();
+      this.e = e;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public user_completeFile_result(user_completeFile_result other) {
+      if (other.isSetE()) {
+        this.e = new FileDoesNotExistException(other.e);
+      }
+    }
+
+    public user_completeFile_result deepCopy() {
+      return new user_completeFile_result(this);
+    }
+
+    @Override
+    public void clear() {
+      this.e = null;
+    }
+
+    public FileDoesNotExistException getE() {
+      return this.e;
+    }
+
+    public user_completeFile_result setE(FileDoesNotExistException e) {
+      this.e = e;
+      return this;
+    }
+
+    public void unsetE() {
+      this.e = null;
+    }
+
+    /** Returns true if field e is set (has been assigned a value) and false otherwise */
+    public boolean isSetE() {
+      return this.e != null;
+    }
+
+    public void setEIsSet(boolean value) {
+      if (!value) {
+        this.e = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case E:
+        if (value == null) {
+          unsetE();
+        } else {
+          setE((FileDoesNotExistException)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case E:
+        return getE();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case E:
+        return isSetE();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof user_completeFile_result)
+        return this.equals((user_completeFile_result)that);
+      return false;
+    }
+
+    public boolean equals(user_completeFile_result that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_e = true && this.isSetE();
+      boolean that_present_e = true && that.isSetE();
+      if (this_present_e || that_present_e) {
+        if (!(this_present_e && that_present_e))
+          return false;
+        if (!this.e.equals(that.e))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      return 0;
+    }
+
+    @Override
+    public int compareTo(user_completeFile_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetE()).compareTo(other.isSetE());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetE()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.e, other.e);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+      }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("user_completeFile_result(");
+      boolean first = true;
+
+      sb.append("e:");
+      if (this.e == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.e);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class user_completeFile_resultStandardSchemeFactory implements SchemeFactory {
+      public user_completeFile_resultStandardScheme getScheme() {
+        return new user_completeFile_resultStandardScheme();
+      }
+    }
+
+    private static class user_completeFile_resultStandardScheme extends StandardScheme<user_completeFile_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, user_completeFile_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // E
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.e = new FileDoesNotExistException();
+                struct.e.read(iprot);
+                struct.setEIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, user_completeFile_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.e != null) {
+          oprot.writeFieldBegin(E_FIELD_DESC);
+          struct.e.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class user_completeFile_resultTupleSchemeFactory implements SchemeFactory {
+      public user_completeFile_resultTupleScheme getScheme() {
+        return new user_completeFile_resultTupleScheme();
+      }
+    }
+
+    private static class user_completeFile_resultTupleScheme extends TupleScheme<user_completeFile_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, user_completeFile_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetE()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetE()) {
+          struct.e.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, user_completeFile_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          struct.e = new FileDoesNotExistException();
+          struct.e.read(iprot);
+          struct.setEIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class user_getUserId_args implements org.apache.thrift.TBase<user_getUserId_args, user_getUserId_args._Fields>, java.io.Serializable, Cloneable, Comparable<user_getUserId_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("user_getUserId_args");
+
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new user_getUserId_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new user_getUserId_argsTupleSchemeFactory());
+    }
+
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+;
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(user_getUserId_args.class, metaDataMap);
+    }
+
+    public user_getUserId_args() {
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public user_getUserId_args(user_getUserId_args other) {
+    }
+
+    public user_getUserId_args deepCopy() {
+      return new user_getUserId_args(this);
+    }
+
+    @Override
+    public void clear() {
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof user_getUserId_args)
+        return this.equals((user_getUserId_args)that);
+      return false;
+    }
+
+    public boolean equals(user_getUserId_args that) {
+      if (that == null)
+        return false;
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      return 0;
+    }
+
+    @Override
+    public int compareTo(user_getUserId_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("user_getUserId_args(");
+      boolean first = true;
+
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class user_getUserId_argsStandardSchemeFactory implements SchemeFactory {
+      public user_getUserId_argsStandardScheme getScheme() {
+        return new user_getUserId_argsStandardScheme();
+      }
+    }
+
+    private static class user_getUserId_argsStandardScheme extends StandardScheme<user_getUserId_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, user_getUserId_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, user_getUserId_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class user_getUserId_argsTupleSchemeFactory implements SchemeFactory {
+      public user_getUserId_argsTupleScheme getScheme() {
+        return new user_getUserId_argsTupleScheme();
+      }
+    }
+
+    private static class user_getUserId_argsTupleScheme extends TupleScheme<user_getUserId_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, user_getUserId_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, user_getUserId_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+      }
+    }
+
+  }
+
+  public static class user_getUserId_result implements org.apache.thrift.TBase<user_getUserId_result, user_getUserId_result._Fields>, java.io.Serializable, Cloneable, Comparable<user_getUserId_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("user_getUserId_result");
+
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.I64, (short)0);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new user_getUserId_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new user_getUserId_resultTupleSchemeFactory());
+    }
+
+    public long success; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SUCCESS((short)0, "success");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    private static final int __SUCCESS_ISSET_ID = 0;
+    private byte __isset_bitfield = 0;
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(user_getUserId_result.class, metaDataMap);
+    }
+
+    public user_getUserId_result() {
+    }
+
+    public user_getUserId_result(
+      long success)
+    {
+      this();
+      this.success = success;
+      setSuccessIsSet(true);
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public user_getUserId_result(user_getUserId_result other) {
+      __isset_bitfield = other.__isset_bitfield;
+      this.success = other.success;
+    }
+
+    public user_getUserId_result deepCopy() {
+      return new user_getUserId_result(this);
+    }
+
+    @Override
+    public void clear() {
+      setSuccessIsSet(false);
+      this.success = 0;
+    }
+
+    public long getSuccess() {
+      return this.success;
+    }
+
+    public user_getUserId_result setSuccess(long success) {
+      this.success = success;
+      setSuccessIsSet(true);
+      return this;
+    }
+
+    public void unsetSuccess() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __SUCCESS_ISSET_ID);
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return EncodingUtils.testBit(__isset_bitfield, __SUCCESS_ISSET_ID);
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __SUCCESS_ISSET_ID, value);
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((Long)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SUCCESS:
+        return Long.valueOf(getSuccess());
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof user_getUserId_result)
+        return this.equals((user_getUserId_result)that);
+      return false;
+    }
+
+    public boolean equals(user_getUserId_result that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_success = true;
+      boolean that_present_success = true;
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (this.success != that.success)
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      return 0;
+    }
+
+    @Override
+    public int compareTo(user_getUserId_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+      }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("user_getUserId_result(");
+      boolean first = true;
+
+      sb.append("success:");
+      sb.append(this.success);
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bitfield = 0;
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class user_getUserId_resultStandardSchemeFactory implements SchemeFactory {
+      public user_getUserId_resultStandardScheme getScheme() {
+        return new user_getUserId_resultStandardScheme();
+      }
+    }
+
+    private static class user_getUserId_resultStandardScheme extends StandardScheme<user_getUserId_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, user_getUserId_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
+                struct.success = iprot.readI64();
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, user_getUserId_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.isSetSuccess()) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          oprot.writeI64(struct.success);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class user_getUserId_resultTupleSchemeFactory implements SchemeFactory {
+      public user_getUserId_resultTupleScheme getScheme() {
+        return new user_getUserId_resultTupleScheme();
+      }
+    }
+
+    private static class user_getUserId_resultTupleScheme extends TupleScheme<user_getUserId_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, user_getUserId_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetSuccess()) {
+          oprot.writeI64(struct.success);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, user_getUserId_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          struct.success = iprot.readI64();
+          struct.setSuccessIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class user_getBlockId_args implements org.apache.thrift.TBase<user_getBlockId_args, user_getBlockId_args._Fields>, java.io.Serializable, Cloneable, Comparable<user_getBlockId_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("user_getBlockId_args");
+
+    private static final org.apache.thrift.protocol.TField FILE_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("fileId", org.apache.thrift.protocol.TType.I32, (short)1);
+    private static final org.apache.thrift.protocol.TField INDEX_FIELD_DESC = new org.apache.thrift.protocol.TField("index", org.apache.thrift.protocol.TType.I32, (short)2);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new user_getBlockId_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new user_getBlockId_argsTupleSchemeFactory());
+    }
+
+    public int fileId; // required
+    public int index; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      FILE_ID((short)1, "fileId"),
+      INDEX((short)2, "index");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // FILE_ID
+            return FILE_ID;
+          case 2: // INDEX
+            return INDEX;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    private static final int __FILEID_ISSET_ID = 0;
+    private static final int __INDEX_ISSET_ID = 1;
+    private byte __isset_bitfield = 0;
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.FILE_ID, new org.apache.thrift.meta_data.FieldMetaData("fileId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
+      tmpMap.put(_Fields.INDEX, new org.apache.thrift.meta_data.FieldMetaData("index", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(user_getBlockId_args.class, metaDataMap);
+    }
+
+    public user_getBlockId_args() {
+    }
+
+    public user_getBlockId_args(
+      int fileId,
+      int index)
+    {
+      this();
+      this.fileId = fileId;
+      setFileIdIsSet(true);
+      this.index = index;
+      setIndexIsSet(true);
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public user_getBlockId_args(user_getBlockId_args other) {
+      __isset_bitfield = other.__isset_bitfield;
+      this.fileId = other.fileId;
+      this.index = other.index;
+    }
+
+    public user_getBlockId_args deepCopy() {
+      return new user_getBlockId_args(this);
+    }
+
+    @Override
+    public void clear() {
+      setFileIdIsSet(false);
+      this.fileId = 0;
+      setIndexIsSet(false);
+      this.index = 0;
+    }
+
+    public int getFileId() {
+      return this.fileId;
+    }
+
+    public user_getBlockId_args setFileId(int fileId) {
+      this.fileId = fileId;
+      setFileIdIsSet(true);
+      return this;
+    }
+
+    public void unsetFileId() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __FILEID_ISSET_ID);
+    }
+
+    /** Returns true if field fileId is set (has been assigned a value) and false otherwise */
+    public boolean isSetFileId() {
+      return EncodingUtils.testBit(__isset_bitfield, __FILEID_ISSET_ID);
+    }
+
+    public void setFileIdIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __FILEID_ISSET_ID, value);
+    }
+
+    public int getIndex() {
+      return this.index;
+    }
+
+    public user_getBlockId_args setIndex(int index) {
+      this.index = index;
+      setIndexIsSet(true);
+      return this;
+    }
+
+    public void unsetIndex() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __INDEX_ISSET_ID);
+    }
+
+    /** Returns true if field index is set (has been assigned a value) and false otherwise */
+    public boolean isSetIndex() {
+      return EncodingUtils.testBit(__isset_bitfield, __INDEX_ISSET_ID);
+    }
+
+    public void setIndexIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __INDEX_ISSET_ID, value);
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case FILE_ID:
+        if (value == null) {
+          unsetFileId();
+        } else {
+          setFileId((Integer)value);
+        }
+        break;
+
+      case INDEX:
+        if (value == null) {
+          unsetIndex();
+        } else {
+          setIndex((Integer)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case FILE_ID:
+        return Integer.valueOf(getFileId());
+
+      case INDEX:
+        return Integer.valueOf(getIndex());
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case FILE_ID:
+        return isSetFileId();
+      case INDEX:
+        return isSetIndex();
+      }
+      throw new IllegalStateException();
     }
 
     @Override
-    public int compareTo(user_createNewBlock_args other) {
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof user_getBlockId_args)
+        return this.equals((user_getBlockId_args)that);
+      return false;
+    }
+
+    public boolean equals(user_getBlockId_args that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_fileId = true;
+      boolean that_present_fileId = true;
+      if (this_present_fileId || that_present_fileId) {
+        if (!(this_present_fileId && that_present_fileId))
+          return false;
+        if (this.fileId != that.fileId)
+          return false;
+      }
+
+      boolean this_present_index = true;
+      boolean that_present_index = true;
+      if (this_present_index || that_present_index) {
+        if (!(this_present_index && that_present_index))
+          return false;
+        if (this.index != that.index)
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      return 0;
+    }
+
+    @Override
+    public int compareTo(user_getBlockId_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -19198,6 +22890,16 @@ public class MasterService {
           return lastComparison;
         }
       }
+      lastComparison = Boolean.valueOf(isSetIndex()).compareTo(other.isSetIndex());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetIndex()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.index, other.index);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
       return 0;
     }
 
@@ -19215,12 +22917,16 @@ public class MasterService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("user_createNewBlock_args(");
+      StringBuilder sb = new StringBuilder("user_getBlockId_args(");
       boolean first = true;
 
       sb.append("fileId:");
       sb.append(this.fileId);
       first = false;
+      if (!first) sb.append(", ");
+      sb.append("index:");
+      sb.append(this.index);
+      first = false;
       sb.append(")");
       return sb.toString();
     }
@@ -19248,15 +22954,15 @@ public class MasterService {
       }
     }
 
-    private static class user_createNewBlock_argsStandardSchemeFactory implements SchemeFactory {
-      public user_createNewBlock_argsStandardScheme getScheme() {
-        return new user_createNewBlock_argsStandardScheme();
+    private static class user_getBlockId_argsStandardSchemeFactory implements SchemeFactory {
+      public user_getBlockId_argsStandardScheme getScheme() {
+        return new user_getBlockId_argsStandardScheme();
       }
     }
 
-    private static class user_createNewBlock_argsStandardScheme extends StandardScheme<user_createNewBlock_args> {
+    private static class user_getBlockId_argsStandardScheme extends StandardScheme<user_getBlockId_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, user_createNewBlock_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, user_getBlockId_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -19274,6 +22980,14 @@ public class MasterService {
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
+            case 2: // INDEX
+              if (schemeField.type == org.apache.thrift.protocol.TType.I32) {
+                struct.index = iprot.readI32();
+                struct.setIndexIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
             default:
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
           }
@@ -19285,63 +22999,76 @@ public class MasterService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, user_createNewBlock_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, user_getBlockId_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
         oprot.writeFieldBegin(FILE_ID_FIELD_DESC);
         oprot.writeI32(struct.fileId);
         oprot.writeFieldEnd();
+        oprot.writeFieldBegin(INDEX_FIELD_DESC);
+        oprot.writeI32(struct.index);
+        oprot.writeFieldEnd();
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
 
     }
 
-    private static class user_createNewBlock_argsTupleSchemeFactory implements SchemeFactory {
-      public user_createNewBlock_argsTupleScheme getScheme() {
-        return new user_createNewBlock_argsTupleScheme();
+    private static class user_getBlockId_argsTupleSchemeFactory implements SchemeFactory {
+      public user_getBlockId_argsTupleScheme getScheme() {
+        return new user_getBlockId_argsTupleScheme();
       }
     }
 
-    private static class user_createNewBlock_argsTupleScheme extends TupleScheme<user_createNewBlock_args> {
+    private static class user_getBlockId_argsTupleScheme extends TupleScheme<user_getBlockId_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, user_createNewBlock_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, user_getBlockId_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetFileId()) {
           optionals.set(0);
         }
-        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetIndex()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
         if (struct.isSetFileId()) {
           oprot.writeI32(struct.fileId);
         }
+        if (struct.isSetIndex()) {
+          oprot.writeI32(struct.index);
+        }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, user_createNewBlock_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, user_getBlockId_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
-        BitSet incoming = iprot.readBitSet(1);
+        BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
           struct.fileId = iprot.readI32();
           struct.setFileIdIsSet(true);
         }
+        if (incoming.get(1)) {
+          struct.index = iprot.readI32();
+          struct.setIndexIsSet(true);
+        }
       }
     }
 
   }
 
-  public static class user_createNewBlock_result implements org.apache.thrift.TBase<user_createNewBlock_result, user_createNewBlock_result._Fields>, java.io.Serializable, Cloneable, Comparable<user_createNewBlock_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("user_createNewBlock_result");
+  public static class user_getBlockId_result implements org.apache.thrift.TBase<user_getBlockId_result, user_getBlockId_result._Fields>, java.io.Serializable, Cloneable, Comparable<user_getBlockId_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("user_getBlockId_result");
 
     private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.I64, (short)0);
     private static final org.apache.thrift.protocol.TField E_FIELD_DESC = new org.apache.thrift.protocol.TField("e", org.apache.thrift.protocol.TType.STRUCT, (short)1);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new user_createNewBlock_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new user_createNewBlock_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new user_getBlockId_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new user_getBlockId_resultTupleSchemeFactory());
     }
 
     public long success; // required
@@ -19419,13 +23146,13 @@ public class MasterService {
       tmpMap.put(_Fields.E, new org.apache.thrift.meta_data.FieldMetaData("e", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(user_createNewBlock_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(user_getBlockId_result.class, metaDataMap);
     }
 
-    public user_createNewBlock_result() {
+    public user_getBlockId_result() {
     }
 
-    public user_createNewBlock_result(
+    public user_getBlockId_result(
       long success,
       FileDoesNotExistException e)
     {
@@ -19438,7 +23165,7 @@ public class MasterService {
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public user_createNewBlock_result(user_createNewBlock_result other) {
+    public user_getBlockId_result(user_getBlockId_result other) {
       __isset_bitfield = other.__isset_bitfield;
       this.success = other.success;
       if (other.isSetE()) {
@@ -19446,8 +23173,8 @@ public class MasterService {
       }
     }
 
-    public user_createNewBlock_result deepCopy() {
-      return new user_createNewBlock_result(this);
+    public user_getBlockId_result deepCopy() {
+      return new user_getBlockId_result(this);
     }
 
     @Override
@@ -19461,7 +23188,7 @@ public class MasterService {
       return this.success;
     }
 
-    public user_createNewBlock_result setSuccess(long success) {
+    public user_getBlockId_result setSuccess(long success) {
       this.success = success;
       setSuccessIsSet(true);
       return this;
@@ -19484,7 +23211,7 @@ public class MasterService {
       return this.e;
     }
 
-    public user_createNewBlock_result setE(FileDoesNotExistException e) {
+    public user_getBlockId_result setE(FileDoesNotExistException e) {
       this.e = e;
       return this;
     }
@@ -19556,12 +23283,12 @@ public class MasterService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof user_createNewBlock_result)
-        return this.equals((user_createNewBlock_result)that);
+      if (that instanceof user_getBlockId_result)
+        return this.equals((user_getBlockId_result)that);
       return false;
     }
 
-    public boolean equals(user_createNewBlock_result that) {
+    public boolean equals(user_getBlockId_result that) {
       if (that == null)
         return false;
 
@@ -19592,7 +23319,7 @@ public class MasterService {
     }
 
     @Override
-    public int compareTo(user_createNewBlock_result other) {
+    public int compareTo(user_getBlockId_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -19636,7 +23363,7 @@ public class MasterService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("user_createNewBlock_result(");
+      StringBuilder sb = new StringBuilder("user_getBlockId_result(");
       boolean first = true;
 
       sb.append("success:");
@@ -19677,15 +23404,15 @@ public class MasterService {
       }
     }
 
-    private static class user_createNewBlock_resultStandardSchemeFactory implements SchemeFactory {
-      public user_createNewBlock_resultStandardScheme getScheme() {
-        return new user_createNewBlock_resultStandardScheme();
+    private static class user_getBlockId_resultStandardSchemeFactory implements SchemeFactory {
+      public user_getBlockId_resultStandardScheme getScheme() {
+        return new user_getBlockId_resultStandardScheme();
       }
     }
 
-    private static class user_createNewBlock_resultStandardScheme extends StandardScheme<user_createNewBlock_result> {
+    private static class user_getBlockId_resultStandardScheme extends StandardScheme<user_getBlockId_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, user_createNewBlock_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, user_getBlockId_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -19723,7 +23450,7 @@ public class MasterService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, user_createNewBlock_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, user_getBlockId_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -19743,16 +23470,16 @@ public class MasterService {
 
     }
 
-    private static class user_createNewBlock_resultTupleSchemeFactory implements SchemeFactory {
-      public user_createNewBlock_resultTupleScheme getScheme() {
-        return new user_createNewBlock_resultTupleScheme();
+    private static class user_getBlockId_resultTupleSchemeFactory implements SchemeFactory {
+      public user_getBlockId_resultTupleScheme getScheme() {
+        return new user_getBlockId_resultTupleScheme();
       }
     }
 
-    private static class user_createNewBlock_resultTupleScheme extends TupleScheme<user_createNewBlock_result> {
+    private static class user_getBlockId_resultTupleScheme extends TupleScheme<user_getBlockId_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, user_createNewBlock_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, user_getBlockId_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetSuccess()) {
@@ -19771,7 +23498,7 @@ public class MasterService {
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, user_createNewBlock_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, user_getBlockId_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
@@ -19788,22 +23515,25 @@ public class MasterService {
 
   }
 
-  public static class user_completeFile_args implements org.apache.thrift.TBase<user_completeFile_args, user_completeFile_args._Fields>, java.io.Serializable, Cloneable, Comparable<user_completeFile_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("user_completeFile_args");
+  public static class user_getWorker_args implements org.apache.thrift.TBase<user_getWorker_args, user_getWorker_args._Fields>, java.io.Serializable, Cloneable, Comparable<user_getWorker_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("user_getWorker_args");
 
-    private static final org.apache.thrift.protocol.TField FILE_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("fileId", org.apache.thrift.protocol.TType.I32, (short)1);
+    private static final org.apache.thrift.protocol.TField RANDOM_FIELD_DESC = new org.apache.thrift.protocol.TField("random", org.apache.thrift.protocol.TType.BOOL, (short)1);
+    private static final org.apache.thrift.protocol.TField HOST_FIELD_DESC = new org.apache.thrift.protocol.TField("host", org.apache.thrift.protocol.TType.STRING, (short)2);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new user_completeFile_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new user_completeFile_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new user_getWorker_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new user_getWorker_argsTupleSchemeFactory());
     }
 
-    public int fileId; // required
+    public boolean random; // required
+    public String host; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      FILE_ID((short)1, "fileId");
+      RANDOM((short)1, "random"),
+      HOST((short)2, "host");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -19818,8 +23548,10 @@ public class MasterService {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
-          case 1: // FILE_ID
-            return FILE_ID;
+          case 1: // RANDOM
+            return RANDOM;
+          case 2: // HOST
+            return HOST;
           default:
             return null;
         }
@@ -19860,76 +23592,116 @@ public class MasterService {
     }
 
     // isset id assignments
-    private static final int __FILEID_ISSET_ID = 0;
+    private static final int __RANDOM_ISSET_ID = 0;
     private byte __isset_bitfield = 0;
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
-      tmpMap.put(_Fields.FILE_ID, new org.apache.thrift.meta_data.FieldMetaData("fileId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
+      tmpMap.put(_Fields.RANDOM, new org.apache.thrift.meta_data.FieldMetaData("random", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.BOOL)));
+      tmpMap.put(_Fields.HOST, new org.apache.thrift.meta_data.FieldMetaData("host", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(user_completeFile_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(user_getWorker_args.class, metaDataMap);
     }
 
-    public user_completeFile_args() {
+    public user_getWorker_args() {
     }
 
-    public user_completeFile_args(
-      int fileId)
+    public user_getWorker_args(
+      boolean random,
+      String host)
     {
       this();
-      this.fileId = fileId;
-      setFileIdIsSet(true);
+      this.random = random;
+      setRandomIsSet(true);
+      this.host = host;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public user_completeFile_args(user_completeFile_args other) {
+    public user_getWorker_args(user_getWorker_args other) {
       __isset_bitfield = other.__isset_bitfield;
-      this.fileId = other.fileId;
+      this.random = other.random;
+      if (other.isSetHost()) {
+        this.host = other.host;
+      }
+    }
+
+    public user_getWorker_args deepCopy() {
+      return new user_getWorker_args(this);
+    }
+
+    @Override
+    public void clear() {
+      setRandomIsSet(false);
+      this.random = false;
+      this.host = null;
+    }
+
+    public boolean isRandom() {
+      return this.random;
+    }
+
+    public user_getWorker_args setRandom(boolean random) {
+      this.random = random;
+      setRandomIsSet(true);
+      return this;
     }
 
-    public user_completeFile_args deepCopy() {
-      return new user_completeFile_args(this);
+    public void unsetRandom() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __RANDOM_ISSET_ID);
     }
 
-    @Override
-    public void clear() {
-      setFileIdIsSet(false);
-      this.fileId = 0;
+    /** Returns true if field random is set (has been assigned a value) and false otherwise */
+    public boolean isSetRandom() {
+      return EncodingUtils.testBit(__isset_bitfield, __RANDOM_ISSET_ID);
     }
 
-    public int getFileId() {
-      return this.fileId;
+    public void setRandomIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __RANDOM_ISSET_ID, value);
     }
 
-    public user_completeFile_args setFileId(int fileId) {
-      this.fileId = fileId;
-      setFileIdIsSet(true);
+    public String getHost() {
+      return this.host;
+    }
+
+    public user_getWorker_args setHost(String host) {
+      this.host = host;
       return this;
     }
 
-    public void unsetFileId() {
-      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __FILEID_ISSET_ID);
+    public void unsetHost() {
+      this.host = null;
     }
 
-    /** Returns true if field fileId is set (has been assigned a value) and false otherwise */
-    public boolean isSetFileId() {
-      return EncodingUtils.testBit(__isset_bitfield, __FILEID_ISSET_ID);
+    /** Returns true if field host is set (has been assigned a value) and false otherwise */
+    public boolean isSetHost() {
+      return this.host != null;
     }
 
-    public void setFileIdIsSet(boolean value) {
-      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __FILEID_ISSET_ID, value);
+    public void setHostIsSet(boolean value) {
+      if (!value) {
+        this.host = null;
+      }
     }
 
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
-      case FILE_ID:
+      case RANDOM:
         if (value == null) {
-          unsetFileId();
+          unsetRandom();
         } else {
-          setFileId((Integer)value);
+          setRandom((Boolean)value);
+        }
+        break;
+
+      case HOST:
+        if (value == null) {
+          unsetHost();
+        } else {
+          setHost((String)value);
         }
         break;
 
@@ -19938,8 +23710,11 @@ public class MasterService {
 
     public Object getFieldValue(_Fields field) {
       switch (field) {
-      case FILE_ID:
-        return Integer.valueOf(getFileId());
+      case RANDOM:
+        return Boolean.valueOf(isRandom());
+
+      case HOST:
+        return getHost();
 
       }
       throw new IllegalStateException();
@@ -19952,8 +23727,10 @@ public class MasterService {
       }
 
       switch (field) {
-      case FILE_ID:
-        return isSetFileId();
+      case RANDOM:
+        return isSetRandom();
+      case HOST:
+        return isSetHost();
       }
       throw new IllegalStateException();
     }
@@ -19962,21 +23739,30 @@ public class MasterService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof user_completeFile_args)
-        return this.equals((user_completeFile_args)that);
+      if (that instanceof user_getWorker_args)
+        return this.equals((user_getWorker_args)that);
       return false;
     }
 
-    public boolean equals(user_completeFile_args that) {
+    public boolean equals(user_getWorker_args that) {
       if (that == null)
         return false;
 
-      boolean this_present_fileId = true;
-      boolean that_present_fileId = true;
-      if (this_present_fileId || that_present_fileId) {
-        if (!(this_present_fileId && that_present_fileId))
+      boolean this_present_random = true;
+      boolean that_present_random = true;
+      if (this_present_random || that_present_random) {
+        if (!(this_present_random && that_present_random))
           return false;
-        if (this.fileId != that.fileId)
+        if (this.random != that.random)
+          return false;
+      }
+
+      boolean this_present_host = true && this.isSetHost();
+      boolean that_present_host = true && that.isSetHost();
+      if (this_present_host || that_present_host) {
+        if (!(this_present_host && that_present_host))
+          return false;
+        if (!this.host.equals(that.host))
           return false;
       }
 
@@ -19989,19 +23775,29 @@ public class MasterService {
     }
 
     @Override
-    public int compareTo(user_completeFile_args other) {
+    public int compareTo(user_getWorker_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
-      lastComparison = Boolean.valueOf(isSetFileId()).compareTo(other.isSetFileId());
+      lastComparison = Boolean.valueOf(isSetRandom()).compareTo(other.isSetRandom());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetFileId()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.fileId, other.fileId);
+      if (isSetRandom()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.random, other.random);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetHost()).compareTo(other.isSetHost());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetHost()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.host, other.host);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -20023,11 +23819,19 @@ public class MasterService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("user_completeFile_args(");
+      StringBuilder sb = new StringBuilder("user_getWorker_args(");
       boolean first = true;
 
-      sb.append("fileId:");
-      sb.append(this.fileId);
+      sb.append("random:");
+      sb.append(this.random);
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("host:");
+      if (this.host == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.host);
+      }
       first = false;
       sb.append(")");
       return sb.toString();
@@ -20056,15 +23860,15 @@ public class MasterService {
       }
     }
 
-    private static class user_completeFile_argsStandardSchemeFactory implements SchemeFactory {
-      public user_completeFile_argsStandardScheme getScheme() {
-        return new user_completeFile_argsStandardScheme();
+    private static class user_getWorker_argsStandardSchemeFactory implements SchemeFactory {
+      public user_getWorker_argsStandardScheme getScheme() {
+        return new user_getWorker_argsStandardScheme();
       }
     }
 
-    private static class user_completeFile_argsStandardScheme extends StandardScheme<user_completeFile_args> {
+    private static class user_getWorker_argsStandardScheme extends StandardScheme<user_getWorker_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, user_completeFile_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, user_getWorker_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -20074,10 +23878,18 @@ public class MasterService {
             break;
           }
           switch (schemeField.id) {
-            case 1: // FILE_ID
-              if (schemeField.type == org.apache.thrift.protocol.TType.I32) {
-                struct.fileId = iprot.readI32();
-                struct.setFileIdIsSet(true);
+            case 1: // RANDOM
+              if (schemeField.type == org.apache.thrift.protocol.TType.BOOL) {
+                struct.random = iprot.readBool();
+                struct.setRandomIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // HOST
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.host = iprot.readString();
+                struct.setHostIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -20093,68 +23905,86 @@ public class MasterService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, user_completeFile_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, user_getWorker_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        oprot.writeFieldBegin(FILE_ID_FIELD_DESC);
-        oprot.writeI32(struct.fileId);
+        oprot.writeFieldBegin(RANDOM_FIELD_DESC);
+        oprot.writeBool(struct.random);
         oprot.writeFieldEnd();
+        if (struct.host != null) {
+          oprot.writeFieldBegin(HOST_FIELD_DESC);
+          oprot.writeString(struct.host);
+          oprot.writeFieldEnd();
+        }
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
 
     }
 
-    private static class user_completeFile_argsTupleSchemeFactory implements SchemeFactory {
-      public user_completeFile_argsTupleScheme getScheme() {
-        return new user_completeFile_argsTupleScheme();
+    private static class user_getWorker_argsTupleSchemeFactory implements SchemeFactory {
+      public user_getWorker_argsTupleScheme getScheme() {
+        return new user_getWorker_argsTupleScheme();
       }
     }
 
-    private static class user_completeFile_argsTupleScheme extends TupleScheme<user_completeFile_args> {
+    private static class user_getWorker_argsTupleScheme extends TupleScheme<user_getWorker_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, user_completeFile_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, user_getWorker_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
-        if (struct.isSetFileId()) {
+        if (struct.isSetRandom()) {
           optionals.set(0);
         }
-        oprot.writeBitSet(optionals, 1);
-        if (struct.isSetFileId()) {
-          oprot.writeI32(struct.fileId);
+        if (struct.isSetHost()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetRandom()) {
+          oprot.writeBool(struct.random);
+        }
+        if (struct.isSetHost()) {
+          oprot.writeString(struct.host);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, user_completeFile_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, user_getWorker_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
-        BitSet incoming = iprot.readBitSet(1);
+        BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
-          struct.fileId = iprot.readI32();
-          struct.setFileIdIsSet(true);
+          struct.random = iprot.readBool();
+          struct.setRandomIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.host = iprot.readString();
+          struct.setHostIsSet(true);
         }
       }
     }
 
   }
 
-  public static class user_completeFile_result implements org.apache.thrift.TBase<user_completeFile_result, user_completeFile_result._Fields>, java.io.Serializable, Cloneable, Comparable<user_completeFile_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("user_completeFile_result");
+  public static class user_getWorker_result implements org.apache.thrift.TBase<user_getWorker_result, user_getWorker_result._Fields>, java.io.Serializable, Cloneable, Comparable<user_getWorker_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("user_getWorker_result");
 
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
     private static final org.apache.thrift.protocol.TField E_FIELD_DESC = new org.apache.thrift.protocol.TField("e", org.apache.thrift.protocol.TType.STRUCT, (short)1);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new user_completeFile_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new user_completeFile_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new user_getWorker_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new user_getWorker_resultTupleSchemeFactory());
     }
 
-    public FileDoesNotExistException e; // required
+    public NetAddress success; // required
+    public NoWorkerException e; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SUCCESS((short)0, "success"),
       E((short)1, "e");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
@@ -20170,6 +24000,8 @@ public class MasterService {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
           case 1: // E
             return E;
           default:
@@ -20215,45 +24047,77 @@ public class MasterService {
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, NetAddress.class)));
       tmpMap.put(_Fields.E, new org.apache.thrift.meta_data.FieldMetaData("e", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(user_completeFile_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(user_getWorker_result.class, metaDataMap);
     }
 
-    public user_completeFile_result() {
+    public user_getWorker_result() {
     }
 
-    public user_completeFile_result(
-      FileDoesNotExistException e)
+    public user_getWorker_result(
+      NetAddress success,
+      NoWorkerException e)
     {
       this();
+      this.success = success;
       this.e = e;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public user_completeFile_result(user_completeFile_result other) {
+    public user_getWorker_result(user_getWorker_result other) {
+      if (other.isSetSuccess()) {
+        this.success = new NetAddress(other.success);
+      }
       if (other.isSetE()) {
-        this.e = new FileDoesNotExistException(other.e);
+        this.e = new NoWorkerException(other.e);
       }
     }
 
-    public user_completeFile_result deepCopy() {
-      return new user_completeFile_result(this);
+    public user_getWorker_result deepCopy() {
+      return new user_getWorker_result(this);
+    }
+
+    @Override
+    public void clear() {
+      this.success = null;
+      this.e = null;
+    }
+
+    public NetAddress getSuccess() {
+      return this.success;
+    }
+
+    public user_getWorker_result setSuccess(NetAddress success) {
+      this.success = success;
+      return this;
+    }
+
+    public void unsetSuccess() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
     }
 
-    @Override
-    public void clear() {
-      this.e = null;
+    public void setSuccessIsSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
     }
 
-    public FileDoesNotExistException getE() {
+    public NoWorkerException getE() {
       return this.e;
     }
 
-    public user_completeFile_result setE(FileDoesNotExistException e) {
+    public user_getWorker_result setE(NoWorkerException e) {
       this.e = e;
       return this;
     }
@@ -20275,11 +24139,19 @@ public class MasterService {
 
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((NetAddress)value);
+        }
+        break;
+
       case E:
         if (value == null) {
           unsetE();
         } else {
-          setE((FileDoesNotExistException)value);
+          setE((NoWorkerException)value);
         }
         break;
 
@@ -20288,6 +24160,9 @@ public class MasterService {
 
     public Object getFieldValue(_Fields field) {
       switch (field) {
+      case SUCCESS:
+        return getSuccess();
+
       case E:
         return getE();
 
@@ -20302,6 +24177,8 @@ public class MasterService {
       }
 
       switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
       case E:
         return isSetE();
       }
@@ -20312,15 +24189,24 @@ public class MasterService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof user_completeFile_result)
-        return this.equals((user_completeFile_result)that);
+      if (that instanceof user_getWorker_result)
+        return this.equals((user_getWorker_result)that);
       return false;
     }
 
-    public boolean equals(user_completeFile_result that) {
+    public boolean equals(user_getWorker_result that) {
       if (that == null)
         return false;
 
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
       boolean this_present_e = true && this.isSetE();
       boolean that_present_e = true && that.isSetE();
       if (this_present_e || that_present_e) {
@@ -20339,13 +24225,23 @@ public class MasterService {
     }
 
     @Override
-    public int compareTo(user_completeFile_result other) {
+    public int compareTo(user_getWorker_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
+      lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
       lastComparison = Boolean.valueOf(isSetE()).compareTo(other.isSetE());
       if (lastComparison != 0) {
         return lastComparison;
@@ -20373,9 +24269,17 @@ public class MasterService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("user_completeFile_result(");
+      StringBuilder sb = new StringBuilder("user_getWorker_result(");
       boolean first = true;
 
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
+      first = false;
+      if (!first) sb.append(", ");
       sb.append("e:");
       if (this.e == null) {
         sb.append("null");
@@ -20390,6 +24294,9 @@ public class MasterService {
     public void validate() throws org.apache.thrift.TException {
       // check for required fields
       // check for sub-struct validity
+      if (success != null) {
+        success.validate();
+      }
     }
 
     private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
@@ -20408,15 +24315,15 @@ public class MasterService {
       }
     }
 
-    private static class user_completeFile_resultStandardSchemeFactory implements SchemeFactory {
-      public user_completeFile_resultStandardScheme getScheme() {
-        return new user_completeFile_resultStandardScheme();
+    private static class user_getWorker_resultStandardSchemeFactory implements SchemeFactory {
+      public user_getWorker_resultStandardScheme getScheme() {
+        return new user_getWorker_resultStandardScheme();
       }
     }
 
-    private static class user_completeFile_resultStandardScheme extends StandardScheme<user_completeFile_result> {
+    private static class user_getWorker_resultStandardScheme extends StandardScheme<user_getWorker_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, user_completeFile_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, user_getWorker_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -20426,9 +24333,18 @@ public class MasterService {
             break;
           }
           switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.success = new NetAddress();
+                struct.success.read(iprot);
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
             case 1: // E
               if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.e = new FileDoesNotExistException();
+                struct.e = new NoWorkerException();
                 struct.e.read(iprot);
                 struct.setEIsSet(true);
               } else { 
@@ -20446,10 +24362,15 @@ public class MasterService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, user_completeFile_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, user_getWorker_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          struct.success.write(oprot);
+          oprot.writeFieldEnd();
+        }
         if (struct.e != null) {
           oprot.writeFieldBegin(E_FIELD_DESC);
           struct.e.write(oprot);
@@ -20461,33 +24382,44 @@ public class MasterService {
 
     }
 
-    private static class user_completeFile_resultTupleSchemeFactory implements SchemeFactory {
-      public user_completeFile_resultTupleScheme getScheme() {
-        return new user_completeFile_resultTupleScheme();
+    private static class user_getWorker_resultTupleSchemeFactory implements SchemeFactory {
+      public user_getWorker_resultTupleScheme getScheme() {
+        return new user_getWorker_resultTupleScheme();
       }
     }
 
-    private static class user_completeFile_resultTupleScheme extends TupleScheme<user_completeFile_result> {
+    private static class user_getWorker_resultTupleScheme extends TupleScheme<user_getWorker_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, user_completeFile_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, user_getWorker_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
-        if (struct.isSetE()) {
+        if (struct.isSetSuccess()) {
           optionals.set(0);
         }
-        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetE()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetSuccess()) {
+          struct.success.write(oprot);
+        }
         if (struct.isSetE()) {
           struct.e.write(oprot);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, user_completeFile_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, user_getWorker_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
-        BitSet incoming = iprot.readBitSet(1);
+        BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
-          struct.e = new FileDoesNotExistException();
+          struct.success = new NetAddress();
+          struct.success.read(iprot);
+          struct.setSuccessIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.e = new NoWorkerException();
           struct.e.read(iprot);
           struct.setEIsSet(true);
         }
@@ -20496,20 +24428,25 @@ public class MasterService {
 
   }
 
-  public static class user_getUserId_args implements org.apache.thrift.TBase<user_getUserId_args, user_getUserId_args._Fields>, java.io.Serializable, Cloneable, Comparable<user_getUserId_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("user_getUserId_args");
+  public static class getFileStatus_args implements org.apache.thrift.TBase<getFileStatus_args, getFileStatus_args._Fields>, java.io.Serializable, Cloneable, Comparable<getFileStatus_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getFileStatus_args");
 
+    private static final org.apache.thrift.protocol.TField FILE_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("fileId", org.apache.thrift.protocol.TType.I32, (short)1);
+    private static final org.apache.thrift.protocol.TField PATH_FIELD_DESC = new org.apache.thrift.protocol.TField("path", org.apache.thrift.protocol.TType.STRING, (short)2);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new user_getUserId_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new user_getUserId_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new getFileStatus_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new getFileStatus_argsTupleSchemeFactory());
     }
 
+    public int fileId; // required
+    public String path; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-;
+      FILE_ID((short)1, "fileId"),
+      PATH((short)2, "path");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -20524,6 +24461,10 @@ public class MasterService {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
+          case 1: // FILE_ID
+            return FILE_ID;
+          case 2: // PATH
+            return PATH;
           default:
             return null;
         }
@@ -20562,37 +24503,132 @@ public class MasterService {
         return _fieldName;
       }
     }
+
+    // isset id assignments
+    private static final int __FILEID_ISSET_ID = 0;
+    private byte __isset_bitfield = 0;
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.FILE_ID, new org.apache.thrift.meta_data.FieldMetaData("fileId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
+      tmpMap.put(_Fields.PATH, new org.apache.thrift.meta_data.FieldMetaData("path", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(user_getUserId_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getFileStatus_args.class, metaDataMap);
     }
 
-    public user_getUserId_args() {
+    public getFileStatus_args() {
+    }
+
+    public getFileStatus_args(
+      int fileId,
+      String path)
+    {
+      this();
+      this.fileId = fileId;
+      setFileIdIsSet(true);
+      this.path = path;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public user_getUserId_args(user_getUserId_args other) {
+    public getFileStatus_args(getFileStatus_args other) {
+      __isset_bitfield = other.__isset_bitfield;
+      this.fileId = other.fileId;
+      if (other.isSetPath()) {
+        this.path = other.path;
+      }
     }
 
-    public user_getUserId_args deepCopy() {
-      return new user_getUserId_args(this);
+    public getFileStatus_args deepCopy() {
+      return new getFileStatus_args(this);
     }
 
     @Override
     public void clear() {
+      setFileIdIsSet(false);
+      this.fileId = 0;
+      this.path = null;
+    }
+
+    public int getFileId() {
+      return this.fileId;
+    }
+
+    public getFileStatus_args setFileId(int fileId) {
+      this.fileId = fileId;
+      setFileIdIsSet(true);
+      return this;
+    }
+
+    public void unsetFileId() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __FILEID_ISSET_ID);
+    }
+
+    /** Returns true if field fileId is set (has been assigned a value) and false otherwise */
+    public boolean isSetFileId() {
+      return EncodingUtils.testBit(__isset_bitfield, __FILEID_ISSET_ID);
+    }
+
+    public void setFileIdIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __FILEID_ISSET_ID, value);
+    }
+
+    public String getPath() {
+      return this.path;
+    }
+
+    public getFileStatus_args setPath(String path) {
+      this.path = path;
+      return this;
+    }
+
+    public void unsetPath() {
+      this.path = null;
+    }
+
+    /** Returns true if field path is set (has been assigned a value) and false otherwise */
+    public boolean isSetPath() {
+      return this.path != null;
+    }
+
+    public void setPathIsSet(boolean value) {
+      if (!value) {
+        this.path = null;
+      }
     }
 
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
+      case FILE_ID:
+        if (value == null) {
+          unsetFileId();
+        } else {
+          setFileId((Integer)value);
+        }
+        break;
+
+      case PATH:
+        if (value == null) {
+          unsetPath();
+        } else {
+          setPath((String)value);
+        }
+        break;
+
       }
     }
 
-    public Object getFieldValue(_Fields field) {
-      switch (field) {
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case FILE_ID:
+        return Integer.valueOf(getFileId());
+
+      case PATH:
+        return getPath();
+
       }
       throw new IllegalStateException();
     }
@@ -20604,6 +24640,10 @@ public class MasterService {
       }
 
       switch (field) {
+      case FILE_ID:
+        return isSetFileId();
+      case PATH:
+        return isSetPath();
       }
       throw new IllegalStateException();
     }
@@ -20612,15 +24652,33 @@ public class MasterService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof user_getUserId_args)
-        return this.equals((user_getUserId_args)that);
+      if (that instanceof getFileStatus_args)
+        return this.equals((getFileStatus_args)that);
       return false;
     }
 
-    public boolean equals(user_getUserId_args that) {
+    public boolean equals(getFileStatus_args that) {
       if (that == null)
         return false;
 
+      boolean this_present_fileId = true;
+      boolean that_present_fileId = true;
+      if (this_present_fileId || that_present_fileId) {
+        if (!(this_present_fileId && that_present_fileId))
+          return false;
+        if (this.fileId != that.fileId)
+          return false;
+      }
+
+      boolean this_present_path = true && this.isSetPath();
+      boolean that_present_path = true && that.isSetPath();
+      if (this_present_path || that_present_path) {
+        if (!(this_present_path && that_present_path))
+          return false;
+        if (!this.path.equals(that.path))
+          return false;
+      }
+
       return true;
     }
 
@@ -20630,13 +24688,33 @@ public class MasterService {
     }
 
     @Override
-    public int compareTo(user_getUserId_args other) {
+    public int compareTo(getFileStatus_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
+      lastComparison = Boolean.valueOf(isSetFileId()).compareTo(other.isSetFileId());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetFileId()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.fileId, other.fileId);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetPath()).compareTo(other.isSetPath());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetPath()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.path, other.path);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
       return 0;
     }
 
@@ -20654,9 +24732,20 @@ public class MasterService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("user_getUserId_args(");
+      StringBuilder sb = new StringBuilder("getFileStatus_args(");
       boolean first = true;
 
+      sb.append("fileId:");
+      sb.append(this.fileId);
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("path:");
+      if (this.path == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.path);
+      }
+      first = false;
       sb.append(")");
       return sb.toString();
     }
@@ -20676,21 +24765,23 @@ public class MasterService {
 
     private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
       try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bitfield = 0;
         read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
       } catch (org.apache.thrift.TException te) {
         throw new java.io.IOException(te);
       }
     }
 
-    private static class user_getUserId_argsStandardSchemeFactory implements SchemeFactory {
-      public user_getUserId_argsStandardScheme getScheme() {
-        return new user_getUserId_argsStandardScheme();
+    private static class getFileStatus_argsStandardSchemeFactory implements SchemeFactory {
+      public getFileStatus_argsStandardScheme getScheme() {
+        return new getFileStatus_argsStandardScheme();
       }
     }
 
-    private static class user_getUserId_argsStandardScheme extends StandardScheme<user_getUserId_args> {
+    private static class getFileStatus_argsStandardScheme extends StandardScheme<getFileStatus_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, user_getUserId_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getFileStatus_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -20700,6 +24791,22 @@ public class MasterService {
             break;
           }
           switch (schemeField.id) {
+            case 1: // FILE_ID
+              if (schemeField.type == org.apache.thrift.protocol.TType.I32) {
+                struct.fileId = iprot.readI32();
+                struct.setFileIdIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // PATH
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.path = iprot.readString();
+                struct.setPathIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
             default:
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
           }
@@ -20711,53 +24818,87 @@ public class MasterService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, user_getUserId_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getFileStatus_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
+        oprot.writeFieldBegin(FILE_ID_FIELD_DESC);
+        oprot.writeI32(struct.fileId);
+        oprot.writeFieldEnd();
+        if (struct.path != null) {
+          oprot.writeFieldBegin(PATH_FIELD_DESC);
+          oprot.writeString(struct.path);
+          oprot.writeFieldEnd();
+        }
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
 
     }
 
-    private static class user_getUserId_argsTupleSchemeFactory implements SchemeFactory {
-      public user_getUserId_argsTupleScheme getScheme() {
-        return new user_getUserId_argsTupleScheme();
+    private static class getFileStatus_argsTupleSchemeFactory implements SchemeFactory {
+      public getFileStatus_argsTupleScheme getScheme() {
+        return new getFileStatus_argsTupleScheme();
       }
     }
 
-    private static class user_getUserId_argsTupleScheme extends TupleScheme<user_getUserId_args> {
+    private static class getFileStatus_argsTupleScheme extends TupleScheme<getFileStatus_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, user_getUserId_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, getFileStatus_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetFileId()) {
+          optionals.set(0);
+        }
+        if (struct.isSetPath()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetFileId()) {
+          oprot.writeI32(struct.fileId);
+        }
+        if (struct.isSetPath()) {
+          oprot.writeString(struct.path);
+        }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, user_getUserId_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, getFileStatus_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(2);
+        if (incoming.get(0)) {
+          struct.fileId = iprot.readI32();
+          struct.setFileIdIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.path = iprot.readString();
+          struct.setPathIsSet(true);
+        }
       }
     }
 
   }
 
-  public static class user_getUserId_result implements org.apache.thrift.TBase<user_getUserId_result, user_getUserId_result._Fields>, java.io.Serializable, Cloneable, Comparable<user_getUserId_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("user_getUserId_result");
+  public static class getFileStatus_result implements org.apache.thrift.TBase<getFileStatus_result, getFileStatus_result._Fields>, java.io.Serializable, Cloneable, Comparable<getFileStatus_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getFileStatus_result");
 
-    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.I64, (short)0);
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
+    private static final org.apache.thrift.protocol.TField E_I_FIELD_DESC = new org.apache.thrift.protocol.TField("eI", org.apache.thrift.protocol.TType.STRUCT, (short)1);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new user_getUserId_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new user_getUserId_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new getFileStatus_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new getFileStatus_resultTupleSchemeFactory());
     }
 
-    public long success; // required
+    public ClientFileInfo success; // required
+    public InvalidPathException eI; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      SUCCESS((short)0, "success");
+      SUCCESS((short)0, "success"),
+      E_I((short)1, "eI");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -20774,6 +24915,8 @@ public class MasterService {
         switch(fieldId) {
           case 0: // SUCCESS
             return SUCCESS;
+          case 1: // E_I
+            return E_I;
           default:
             return null;
         }
@@ -20814,67 +24957,97 @@ public class MasterService {
     }
 
     // isset id assignments
-    private static final int __SUCCESS_ISSET_ID = 0;
-    private byte __isset_bitfield = 0;
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, ClientFileInfo.class)));
+      tmpMap.put(_Fields.E_I, new org.apache.thrift.meta_data.FieldMetaData("eI", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(user_getUserId_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getFileStatus_result.class, metaDataMap);
     }
 
-    public user_getUserId_result() {
+    public getFileStatus_result() {
     }
 
-    public user_getUserId_result(
-      long success)
+    public getFileStatus_result(
+      ClientFileInfo success,
+      InvalidPathException eI)
     {
       this();
       this.success = success;
-      setSuccessIsSet(true);
+      this.eI = eI;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public user_getUserId_result(user_getUserId_result other) {
-      __isset_bitfield = other.__isset_bitfield;
-      this.success = other.success;
+    public getFileStatus_result(getFileStatus_result other) {
+      if (other.isSetSuccess()) {
+        this.success = new ClientFileInfo(other.success);
+      }
+      if (other.isSetEI()) {
+        this.eI = new InvalidPathException(other.eI);
+      }
     }
 
-    public user_getUserId_result deepCopy() {
-      return new user_getUserId_result(this);
+    public getFileStatus_result deepCopy() {
+      return new getFileStatus_result(this);
     }
 
     @Override
     public void clear() {
-      setSuccessIsSet(false);
-      this.success = 0;
+      this.success = null;
+      this.eI = null;
     }
 
-    public long getSuccess() {
+    public ClientFileInfo getSuccess() {
       return this.success;
     }
 
-    public user_getUserId_result setSuccess(long success) {
+    public getFileStatus_result setSuccess(ClientFileInfo success) {
       this.success = success;
-      setSuccessIsSet(true);
       return this;
     }
 
     public void unsetSuccess() {
-      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __SUCCESS_ISSET_ID);
+      this.success = null;
     }
 
     /** Returns true if field success is set (has been assigned a value) and false otherwise */
     public boolean isSetSuccess() {
-      return EncodingUtils.testBit(__isset_bitfield, __SUCCESS_ISSET_ID);
+      return this.success != null;
     }
 
     public void setSuccessIsSet(boolean value) {
-      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __SUCCESS_ISSET_ID, value);
+      if (!value) {
+        this.success = null;
+      }
+    }
+
+    public InvalidPathException getEI() {
+      return this.eI;
+    }
+
+    public getFileStatus_result setEI(InvalidPathException eI) {
+      this.eI = eI;
+      return this;
+    }
+
+    public void unsetEI() {
+      this.eI = null;
+    }
+
+    /** Returns true if field eI is set (has been assigned a value) and false otherwise */
+    public boolean isSetEI() {
+      return this.eI != null;
+    }
+
+    public void setEIIsSet(boolean value) {
+      if (!value) {
+        this.eI = null;
+      }
     }
 
     public void setFieldValue(_Fields field, Object value) {
@@ -20883,7 +25056,15 @@ public class MasterService {
         if (value == null) {
           unsetSuccess();
         } else {
-          setSuccess((Long)value);
+          setSuccess((ClientFileInfo)value);
+        }
+        break;
+
+      case E_I:
+        if (value == null) {
+          unsetEI();
+        } else {
+          setEI((InvalidPathException)value);
         }
         break;
 
@@ -20893,7 +25074,10 @@ public class MasterService {
     public Object getFieldValue(_Fields field) {
       switch (field) {
       case SUCCESS:
-        return Long.valueOf(getSuccess());
+        return getSuccess();
+
+      case E_I:
+        return getEI();
 
       }
       throw new IllegalStateException();
@@ -20908,6 +25092,8 @@ public class MasterService {
       switch (field) {
       case SUCCESS:
         return isSetSuccess();
+      case E_I:
+        return isSetEI();
       }
       throw new IllegalStateException();
     }
@@ -20916,21 +25102,30 @@ public class MasterService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof user_getUserId_result)
-        return this.equals((user_getUserId_result)that);
+      if (that instanceof getFileStatus_result)
+        return this.equals((getFileStatus_result)that);
       return false;
     }
 
-    public boolean equals(user_getUserId_result that) {
+    public boolean equals(getFileStatus_result that) {
       if (that == null)
         return false;
-
-      boolean this_present_success = true;
-      boolean that_present_success = true;
+
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
       if (this_present_success || that_present_success) {
         if (!(this_present_success && that_present_success))
           return false;
-        if (this.success != that.success)
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
+      boolean this_present_eI = true && this.isSetEI();
+      boolean that_present_eI = true && that.isSetEI();
+      if (this_present_eI || that_present_eI) {
+        if (!(this_present_eI && that_present_eI))
+          return false;
+        if (!this.eI.equals(that.eI))
           return false;
       }
 
@@ -20943,7 +25138,7 @@ public class MasterService {
     }
 
     @Override
-    public int compareTo(user_getUserId_result other) {
+    public int compareTo(getFileStatus_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -20960,6 +25155,16 @@ public class MasterService {
           return lastComparison;
         }
       }
+      lastComparison = Boolean.valueOf(isSetEI()).compareTo(other.isSetEI());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetEI()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.eI, other.eI);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
       return 0;
     }
 
@@ -20977,11 +25182,23 @@ public class MasterService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("user_getUserId_result(");
+      StringBuilder sb = new StringBuilder("getFileStatus_result(");
       boolean first = true;
 
       sb.append("success:");
-      sb.append(this.success);
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("eI:");
+      if (this.eI == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.eI);
+      }
       first = false;
       sb.append(")");
       return sb.toString();
@@ -20990,6 +25207,9 @@ public class MasterService {
     public void validate() throws org.apache.thrift.TException {
       // check for required fields
       // check for sub-struct validity
+      if (success != null) {
+        success.validate();
+      }
     }
 
     private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
@@ -21002,23 +25222,21 @@ public class MasterService {
 
     private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
       try {
-        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
-        __isset_bitfield = 0;
         read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
       } catch (org.apache.thrift.TException te) {
         throw new java.io.IOException(te);
       }
     }
 
-    private static class user_getUserId_resultStandardSchemeFactory implements SchemeFactory {
-      public user_getUserId_resultStandardScheme getScheme() {
-        return new user_getUserId_resultStandardScheme();
+    private static class getFileStatus_resultStandardSchemeFactory implements SchemeFactory {
+      public getFileStatus_resultStandardScheme getScheme() {
+        return new getFileStatus_resultStandardScheme();
       }
     }
 
-    private static class user_getUserId_resultStandardScheme extends StandardScheme<user_getUserId_result> {
+    private static class getFileStatus_resultStandardScheme extends StandardScheme<getFileStatus_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, user_getUserId_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getFileStatus_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -21029,13 +25247,23 @@ public class MasterService {
           }
           switch (schemeField.id) {
             case 0: // SUCCESS
-              if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
-                struct.success = iprot.readI64();
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.success = new ClientFileInfo();
+                struct.success.read(iprot);
                 struct.setSuccessIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
+            case 1: // E_I
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.eI = new InvalidPathException();
+                struct.eI.read(iprot);
+                struct.setEIIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
             default:
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
           }
@@ -21047,13 +25275,18 @@ public class MasterService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, user_getUserId_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getFileStatus_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        if (struct.isSetSuccess()) {
+        if (struct.success != null) {
           oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
-          oprot.writeI64(struct.success);
+          struct.success.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        if (struct.eI != null) {
+          oprot.writeFieldBegin(E_I_FIELD_DESC);
+          struct.eI.write(oprot);
           oprot.writeFieldEnd();
         }
         oprot.writeFieldStop();
@@ -21062,59 +25295,68 @@ public class MasterService {
 
     }
 
-    private static class user_getUserId_resultTupleSchemeFactory implements SchemeFactory {
-      public user_getUserId_resultTupleScheme getScheme() {
-        return new user_getUserId_resultTupleScheme();
+    private static class getFileStatus_resultTupleSchemeFactory implements SchemeFactory {
+      public getFileStatus_resultTupleScheme getScheme() {
+        return new getFileStatus_resultTupleScheme();
       }
     }
 
-    private static class user_getUserId_resultTupleScheme extends TupleScheme<user_getUserId_result> {
+    private static class getFileStatus_resultTupleScheme extends TupleScheme<getFileStatus_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, user_getUserId_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, getFileStatus_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetSuccess()) {
           optionals.set(0);
         }
-        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetEI()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
         if (struct.isSetSuccess()) {
-          oprot.writeI64(struct.success);
+          struct.success.write(oprot);
+        }
+        if (struct.isSetEI()) {
+          struct.eI.write(oprot);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, user_getUserId_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, getFileStatus_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
-        BitSet incoming = iprot.readBitSet(1);
+        BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
-          struct.success = iprot.readI64();
+          struct.success = new ClientFileInfo();
+          struct.success.read(iprot);
           struct.setSuccessIsSet(true);
         }
+        if (incoming.get(1)) {
+          struct.eI = new InvalidPathException();
+          struct.eI.read(iprot);
+          struct.setEIIsSet(true);
+        }
       }
     }
 
   }
 
-  public static class user_getBlockId_args implements org.apache.thrift.TBase<user_getBlockId_args, user_getBlockId_args._Fields>, java.io.Serializable, Cloneable, Comparable<user_getBlockId_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("user_getBlockId_args");
+  public static class getFileStatusBatch_args implements org.apache.thrift.TBase<getFileStatusBatch_args, getFileStatusBatch_args._Fields>, java.io.Serializable, Cloneable, Comparable<getFileStatusBatch_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getFileStatusBatch_args");
 
-    private static final org.apache.thrift.protocol.TField FILE_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("fileId", org.apache.thrift.protocol.TType.I32, (short)1);
-    private static final org.apache.thrift.protocol.TField INDEX_FIELD_DESC = new org.apache.thrift.protocol.TField("index", org.apache.thrift.protocol.TType.I32, (short)2);
+    private static final org.apache.thrift.protocol.TField PATHS_FIELD_DESC = new org.apache.thrift.protocol.TField("paths", org.apache.thrift.protocol.TType.LIST, (short)1);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new user_getBlockId_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new user_getBlockId_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new getFileStatusBatch_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new getFileStatusBatch_argsTupleSchemeFactory());
     }
 
-    public int fileId; // required
-    public int index; // required
+    public List<String> paths; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      FILE_ID((short)1, "fileId"),
-      INDEX((short)2, "index");
+      PATHS((short)1, "paths");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -21129,10 +25371,8 @@ public class MasterService {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
-          case 1: // FILE_ID
-            return FILE_ID;
-          case 2: // INDEX
-            return INDEX;
+          case 1: // PATHS
+            return PATHS;
           default:
             return null;
         }
@@ -21173,116 +25413,91 @@ public class MasterService {
     }
 
     // isset id assignments
-    private static final int __FILEID_ISSET_ID = 0;
-    private static final int __INDEX_ISSET_ID = 1;
-    private byte __isset_bitfield = 0;
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
-      tmpMap.put(_Fields.FILE_ID, new org.apache.thrift.meta_data.FieldMetaData("fileId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
-      tmpMap.put(_Fields.INDEX, new org.apache.thrift.meta_data.FieldMetaData("index", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
+      tmpMap.put(_Fields.PATHS, new org.apache.thrift.meta_data.FieldMetaData("paths", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING))));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(user_getBlockId_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getFileStatusBatch_args.class, metaDataMap);
     }
 
-    public user_getBlockId_args() {
+    public getFileStatusBatch_args() {
     }
 
-    public user_getBlockId_args(
-      int fileId,
-      int index)
+    public getFileStatusBatch_args(
+      List<String> paths)
     {
       this();
-      this.fileId = fileId;
-      setFileIdIsSet(true);
-      this.index = index;
-      setIndexIsSet(true);
+      this.paths = paths;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public user_getBlockId_args(user_getBlockId_args other) {
-      __isset_bitfield = other.__isset_bitfield;
-      this.fileId = other.fileId;
-      this.index = other.index;
+    public getFileStatusBatch_args(getFileStatusBatch_args other) {
+      if (other.isSetPaths()) {
+        List<String> __this__paths = new ArrayList<String>(other.paths);
+        this.paths = __this__paths;
+      }
     }
 
-    public user_getBlockId_args deepCopy() {
-      return new user_getBlockId_args(this);
+    public getFileStatusBatch_args deepCopy() {
+      return new getFileStatusBatch_args(this);
     }
 
     @Override
     public void clear() {
-      setFileIdIsSet(false);
-      this.fileId = 0;
-      setIndexIsSet(false);
-      this.index = 0;
-    }
-
-    public int getFileId() {
-      return this.fileId;
-    }
-
-    public user_getBlockId_args setFileId(int fileId) {
-      this.fileId = fileId;
-      setFileIdIsSet(true);
-      return this;
+      this.paths = null;
     }
 
-    public void unsetFileId() {
-      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __FILEID_ISSET_ID);
+    public int getPathsSize() {
+      return (this.paths == null) ? 0 : this.paths.size();
     }
 
-    /** Returns true if field fileId is set (has been assigned a value) and false otherwise */
-    public boolean isSetFileId() {
-      return EncodingUtils.testBit(__isset_bitfield, __FILEID_ISSET_ID);
+    public java.util.Iterator<String> getPathsIterator() {
+      return (this.paths == null) ? null : this.paths.iterator();
     }
 
-    public void setFileIdIsSet(boolean value) {
-      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __FILEID_ISSET_ID, value);
+    public void addToPaths(String elem) {
+      if (this.paths == null) {
+        this.paths = new ArrayList<String>();
+      }
+      this.paths.add(elem);
     }
 
-    public int getIndex() {
-      return this.index;
+    public List<String> getPaths() {
+      return this.paths;
     }
 
-    public user_getBlockId_args setIndex(int index) {
-      this.index = index;
-      setIndexIsSet(true);
+    public getFileStatusBatch_args setPaths(List<String> paths) {
+      this.paths = paths;
       return this;
     }
 
-    public void unsetIndex() {
-      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __INDEX_ISSET_ID);
+    public void unsetPaths() {
+      this.paths = null;
     }
 
-    /** Returns true if field index is set (has been assigned a value) and false otherwise */
-    public boolean isSetIndex() {
-      return EncodingUtils.testBit(__isset_bitfield, __INDEX_ISSET_ID);
+    /** Returns true if field paths is set (has been assigned a value) and false otherwise */
+    public boolean isSetPaths() {
+      return this.paths != null;
     }
 
-    public void setIndexIsSet(boolean value) {
-      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __INDEX_ISSET_ID, value);
+    public void setPathsIsSet(boolean value) {
+      if (!value) {
+        this.paths = null;
+      }
     }
 
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
-      case FILE_ID:
-        if (value == null) {
-          unsetFileId();
-        } else {
-          setFileId((Integer)value);
-        }
-        break;
-
-      case INDEX:
+      case PATHS:
         if (value == null) {
-          unsetIndex();
+          unsetPaths();
         } else {
-          setIndex((Integer)value);
+          setPaths((List<String>)value);
         }
         break;
 
@@ -21291,11 +25506,8 @@ public class MasterService {
 
     public Object getFieldValue(_Fields field) {
       switch (field) {
-      case FILE_ID:
-        return Integer.valueOf(getFileId());
-
-      case INDEX:
-        return Integer.valueOf(getIndex());
+      case PATHS:
+        return getPaths();
 
       }
       throw new IllegalStateException();
@@ -21308,10 +25520,8 @@ public class MasterService {
       }
 
       switch (field) {
-      case FILE_ID:
-        return isSetFileId();
-      case INDEX:
-        return isSetIndex();
+      case PATHS:
+        return isSetPaths();
       }
       throw new IllegalStateException();
     }
@@ -21320,30 +25530,21 @@ public class MasterService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof user_getBlockId_args)
-        return this.equals((user_getBlockId_args)that);
+      if (that instanceof getFileStatusBatch_args)
+        return this.equals((getFileStatusBatch_args)that);
       return false;
     }
 
-    public boolean equals(user_getBlockId_args that) {
+    public boolean equals(getFileStatusBatch_args that) {
       if (that == null)
         return false;
 
-      boolean this_present_fileId = true;
-      boolean that_present_fileId = true;
-      if (this_present_fileId || that_present_fileId) {
-        if (!(this_present_fileId && that_present_fileId))
-          return false;
-        if (this.fileId != that.fileId)
-          return false;
-      }
-
-      boolean this_present_index = true;
-      boolean that_present_index = true;
-      if (this_present_index || that_present_index) {
-        if (!(this_present_index && that_present_index))
+      boolean this_present_paths = true && this.isSetPaths();
+      boolean that_present_paths = true && that.isSetPaths();
+      if (this_present_paths || that_present_paths) {
+        if (!(this_present_paths && that_present_paths))
           return false;
-        if (this.index != that.index)
+        if (!this.paths.equals(that.paths))
           return false;
       }
 
@@ -21356,29 +25557,19 @@ public class MasterService {
     }
 
     @Override
-    public int compareTo(user_getBlockId_args other) {
+    public int compareTo(getFileStatusBatch_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
-      lastComparison = Boolean.valueOf(isSetFileId()).compareTo(other.isSetFileId());
-      if (lastComparison != 0) {
-        return lastComparison;
-      }
-      if (isSetFileId()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.fileId, other.fileId);
-        if (lastComparison != 0) {
-          return lastComparison;
-        }
-      }
-      lastComparison = Boolean.valueOf(isSetIndex()).compareTo(other.isSetIndex());
+      lastComparison = Boolean.valueOf(isSetPaths()).compareTo(other.isSetPaths());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetIndex()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.index, other.index);
+      if (isSetPaths()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.paths, other.paths);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -21400,15 +25591,15 @@ public class MasterService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("user_getBlockId_args(");
+      StringBuilder sb = new StringBuilder("getFileStatusBatch_args(");
       boolean first = true;
 
-      sb.append("fileId:");
-      sb.append(this.fileId);
-      first = false;
-      if (!first) sb.append(", ");
-      sb.append("index:");
-      sb.append(this.index);
+      sb.append("paths:");
+      if (this.paths == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.paths);
+      }
       first = false;
       sb.append(")");
       return sb.toString();
@@ -21429,23 +25620,21 @@ public class MasterService {
 
     private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
       try {
-        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
-        __isset_bitfield = 0;
         read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
       } catch (org.apache.thrift.TException te) {
         throw new java.io.IOException(te);
       }
     }
 
-    private static class user_getBlockId_argsStandardSchemeFactory implements SchemeFactory {
-      public user_getBlockId_argsStandardScheme getScheme() {
-        return new user_getBlockId_argsStandardScheme();
+    private static class getFileStatusBatch_argsStandardSchemeFactory implements SchemeFactory {
+      public getFileStatusBatch_argsStandardScheme getScheme() {
+        return new getFileStatusBatch_argsStandardScheme();
       }
     }
 
-    private static class user_getBlockId_argsStandardScheme extends StandardScheme<user_getBlockId_args> {
+    private static class getFileStatusBatch_argsStandardScheme extends StandardScheme<getFileStatusBatch_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, user_getBlockId_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getFileStatusBatch_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -21455,18 +25644,20 @@ public class MasterService {
             break;
           }
           switch (schemeField.id) {
-            case 1: // FILE_ID
-              if (schemeField.type == org.apache.thrift.protocol.TType.I32) {
-                struct.fileId = iprot.readI32();
-                struct.setFileIdIsSet(true);
-              } else { 
-                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
-              }
-              break;
-            case 2: // INDEX
-              if (schemeField.type == org.apache.thrift.protocol.TType.I32) {
-                struct.index = iprot.readI32();
-                struct.setIndexIsSet(true);
+            case 1: // PATHS
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list198 = iprot.readListBegin();
+                  struct.paths = new ArrayList<String>(_list198.size);
+                  for (int _i199 = 0; _i199 < _list198.size; ++_i199)
+                  {
+                    String _elem200;
+                    _elem200 = iprot.readString();
+                    struct.paths.add(_elem200);
+                  }
+                  iprot.readListEnd();
+                }
+                struct.setPathsIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -21482,85 +25673,93 @@ public class MasterService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, user_getBlockId_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getFileStatusBatch_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        oprot.writeFieldBegin(FILE_ID_FIELD_DESC);
-        oprot.writeI32(struct.fileId);
-        oprot.writeFieldEnd();
-        oprot.writeFieldBegin(INDEX_FIELD_DESC);
-        oprot.writeI32(struct.index);
-        oprot.writeFieldEnd();
+        if (struct.paths != null) {
+          oprot.writeFieldBegin(PATHS_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, struct.paths.size()));
+            for (String _iter201 : struct.paths)
+            {
+              oprot.writeString(_iter201);
+            }
+            oprot.writeListEnd();
+          }
+          oprot.writeFieldEnd();
+        }
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
 
     }
 
-    private static class user_getBlockId_argsTupleSchemeFactory implements SchemeFactory {
-      public user_getBlockId_argsTupleScheme getScheme() {
-        return new user_getBlockId_argsTupleScheme();
+    private static class getFileStatusBatch_argsTupleSchemeFactory implements SchemeFactory {
+      public getFileStatusBatch_argsTupleScheme getScheme() {
+        return new getFileStatusBatch_argsTupleScheme();
       }
     }
 
-    private static class user_getBlockId_argsTupleScheme extends TupleScheme<user_getBlockId_args> {
+    private static class getFileStatusBatch_argsTupleScheme extends TupleScheme<getFileStatusBatch_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, user_getBlockId_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, getFileStatusBatch_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
-        if (struct.isSetFileId()) {
+        if (struct.isSetPaths()) {
           optionals.set(0);
         }
-        if (struct.isSetIndex()) {
-          optionals.set(1);
-        }
-        oprot.writeBitSet(optionals, 2);
-        if (struct.isSetFileId()) {
-          oprot.writeI32(struct.fileId);
-        }
-        if (struct.isSetIndex()) {
-          oprot.writeI32(struct.index);
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetPaths()) {
+          {
+            oprot.writeI32(struct.paths.size());
+            for (String _iter202 : struct.paths)
+            {
+              oprot.writeString(_iter202);
+            }
+          }
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, user_getBlockId_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, getFileStatusBatch_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
-        BitSet incoming = iprot.readBitSet(2);
+        BitSet incoming = iprot.readBitSet(1);
         if (incoming.get(0)) {
-          struct.fileId = iprot.readI32();
-          struct.setFileIdIsSet(true);
-        }
-        if (incoming.get(1)) {
-          struct.index = iprot.readI32();
-          struct.setIndexIsSet(true);
+          {
+            org.apache.thrift.protocol.TList _list203 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, iprot.readI32());
+            struct.paths = new ArrayList<String>(_list203.size);
+            for (int _i204 = 0; _i204 < _list203.size; ++_i204)
+            {
+              String _elem205;
+              _elem205 = iprot.readString();
+              struct.paths.add(_elem205);
+            }
+          }
+          struct.setPathsIsSet(true);
         }
       }
     }
 
   }
 
-  public static class user_getBlockId_result implements org.apache.thrift.TBase<user_getBlockId_result, user_getBlockId_result._Fields>, java.io.Serializable, Cloneable, Comparable<user_getBlockId_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("user_getBlockId_result");
+  public static class getFileStatusBatch_result implements org.apache.thrift.TBase<getFileStatusBatch_result, getFileStatusBatch_result._Fields>, java.io.Serializable, Cloneable, Comparable<getFileStatusBatch_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getFileStatusBatch_result");
 
-    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.I64, (short)0);
-    private static final org.apache.thrift.protocol.TField E_FIELD_DESC = new org.apache.thrift.protocol.TField("e", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new user_getBlockId_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new user_getBlockId_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new getFileStatusBatch_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new getFileStatusBatch_resultTupleSchemeFactory());
     }
 
-    public long success; // required
-    public FileDoesNotExistException e; // required
+    public ClientBatchResult success; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      SUCCESS((short)0, "success"),
-      E((short)1, "e");
+      SUCCESS((short)0, "success");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -21577,8 +25776,6 @@ public class MasterService {
         switch(fieldId) {
           case 0: // SUCCESS
             return SUCCESS;
-          case 1: // E
-            return E;
           default:
             return null;
         }
@@ -21619,98 +25816,64 @@ public class MasterService {
     }
 
     // isset id assignments
-    private static final int __SUCCESS_ISSET_ID = 0;
-    private byte __isset_bitfield = 0;
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
-      tmpMap.put(_Fields.E, new org.apache.thrift.meta_data.FieldMetaData("e", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, ClientBatchResult.class)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(user_getBlockId_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getFileStatusBatch_result.class, metaDataMap);
     }
 
-    public user_getBlockId_result() {
+    public getFileStatusBatch_result() {
     }
 
-    public user_getBlockId_result(
-      long success,
-      FileDoesNotExistException e)
+    public getFileStatusBatch_result(
+      ClientBatchResult success)
     {
       this();
       this.success = success;
-      setSuccessIsSet(true);
-      this.e = e;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public user_getBlockId_result(user_getBlockId_result other) {
-      __isset_bitfield = other.__isset_bitfield;
-      this.success = other.success;
-      if (other.isSetE()) {
-        this.e = new FileDoesNotExistException(other.e);
+    public getFileStatusBatch_result(getFileStatusBatch_result other) {
+      if (other.isSetSuccess()) {
+        this.success = new ClientBatchResult(other.success);
       }
     }
 
-    public user_getBlockId_result deepCopy() {
-      return new user_getBlockId_result(this);
+    public getFileStatusBatch_result deepCopy() {
+      return new getFileStatusBatch_result(this);
     }
 
     @Override
     public void clear() {
-      setSuccessIsSet(false);
-      this.success = 0;
-      this.e = null;
+      this.success = null;
     }
 
-    public long getSuccess() {
+    public ClientBatchResult getSuccess() {
       return this.success;
     }
 
-    public user_getBlockId_result setSuccess(long success) {
+    public getFileStatusBatch_result setSuccess(ClientBatchResult success) {
       this.success = success;
-      setSuccessIsSet(true);
       return this;
     }
 
     public void unsetSuccess() {
-      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __SUCCESS_ISSET_ID);
+      this.success = null;
     }
 
     /** Returns true if field success is set (has been assigned a value) and false otherwise */
     public boolean isSetSuccess() {
-      return EncodingUtils.testBit(__isset_bitfield, __SUCCESS_ISSET_ID);
+      return this.success != null;
     }
 
     public void setSuccessIsSet(boolean value) {
-      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __SUCCESS_ISSET_ID, value);
-    }
-
-    public FileDoesNotExistException getE() {
-      return this.e;
-    }
-
-    public user_getBlockId_result setE(FileDoesNotExistException e) {
-      this.e = e;
-      return this;
-    }
-
-    public void unsetE() {
-      this.e = null;
-    }
-
-    /** Returns true if field e is set (has been assigned a value) and false otherwise */
-    public boolean isSetE() {
-      return this.e != null;
-    }
-
-    public void setEIsSet(boolean value) {
       if (!value) {
-        this.e = null;
+        this.success = null;
       }
     }
 
@@ -21720,15 +25883,7 @@ public class MasterService {
         if (value == null) {
           unsetSuccess();
         } else {
-          setSuccess((Long)value);
-        }
-        break;
-
-      case E:
-        if (value == null) {
-          unsetE();
-        } else {
-          setE((FileDoesNotExistException)value);
+          setSuccess((ClientBatchResult)value);
         }
         break;
 
@@ -21738,10 +25893,7 @@ public class MasterService {
     public Object getFieldValue(_Fields field) {
       switch (field) {
       case SUCCESS:
-        return Long.valueOf(getSuccess());
-
-      case E:
-        return getE();
+        return getSuccess();
 
       }
       throw new IllegalStateException();
@@ -21756,8 +25908,6 @@ public class MasterService {
       switch (field) {
       case SUCCESS:
         return isSetSuccess();
-      case E:
-        return isSetE();
       }
       throw new IllegalStateException();
     }
@@ -21766,30 +25916,21 @@ public class MasterService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof user_getBlockId_result)
-        return this.equals((user_getBlockId_result)that);
+      if (that instanceof getFileStatusBatch_result)
+        return this.equals((getFileStatusBatch_result)that);
       return false;
     }
 
-    public boolean equals(user_getBlockId_result that) {
+    public boolean equals(getFileStatusBatch_result that) {
       if (that == null)
         return false;
 
-      boolean this_present_success = true;
-      boolean that_present_success = true;
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
       if (this_present_success || that_present_success) {
         if (!(this_present_success && that_present_success))
           return false;
-        if (this.success != that.success)
-          return false;
-      }
-
-      boolean this_present_e = true && this.isSetE();
-      boolean that_present_e = true && that.isSetE();
-      if (this_present_e || that_present_e) {
-        if (!(this_present_e && that_present_e))
-          return false;
-        if (!this.e.equals(that.e))
+        if (!this.success.equals(that.success))
           return false;
       }
 
@@ -21802,7 +25943,7 @@ public class MasterService {
     }
 
     @Override
-    public int compareTo(user_getBlockId_result other) {
+    public int compareTo(getFileStatusBatch_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -21819,16 +25960,6 @@ public class MasterService {
           return lastComparison;
         }
       }
-      lastComparison = Boolean.valueOf(isSetE()).compareTo(other.isSetE());
-      if (lastComparison != 0) {
-        return lastComparison;
-      }
-      if (isSetE()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.e, other.e);
-        if (lastComparison != 0) {
-          return lastComparison;
-        }
-      }
       return 0;
     }
 
@@ -21846,18 +25977,14 @@ public class MasterService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("user_getBlockId_result(");
+      StringBuilder sb = new StringBuilder("getFileStatusBatch_result(");
       boolean first = true;
 
       sb.append("success:");
-      sb.append(this.success);
-      first = false;
-      if (!first) sb.append(", ");
-      sb.append("e:");
-      if (this.e == null) {
+      if (this.success == null) {
         sb.append("null");
       } else {
-        sb.append(this.e);
+        sb.append(this.success);
       }
       first = false;
       sb.append(")");
@@ -21867,6 +25994,9 @@ public class MasterService {
     public void validate() throws org.apache.thrift.TException {
       // check for required fields
       // check for sub-struct validity
+      if (success != null) {
+        success.validate();
+      }
     }
 
     private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
@@ -21879,23 +26009,21 @@ public class MasterService {
 
     private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
       try {
-        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
-        __isset_bitfield = 0;
         read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
       } catch (org.apache.thrift.TException te) {
         throw new java.io.IOException(te);
       }
     }
 
-    private static class user_getBlockId_resultStandardSchemeFactory implements SchemeFactory {
-      public user_getBlockId_resultStandardScheme getScheme() {
-        return new user_getBlockId_resultStandardScheme();
+    private static class getFileStatusBatch_resultStandardSchemeFactory implements SchemeFactory {
+      public getFileStatusBatch_resultStandardScheme getScheme() {
+        return new getFileStatusBatch_resultStandardScheme();
       }
     }
 
-    private static class user_getBlockId_resultStandardScheme extends StandardScheme<user_getBlockId_result> {
+    private static class getFileStatusBatch_resultStandardScheme extends StandardScheme<getFileStatusBatch_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, user_getBlockId_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getFileStatusBatch_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -21906,18 +26034,10 @@ public class MasterService {
           }
           switch (schemeField.id) {
             case 0: // SUCCESS
-              if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
-                struct.success = iprot.readI64();
-                struct.setSuccessIsSet(true);
-              } else { 
-                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
-              }
-              break;
-            case 1: // E
               if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.e = new FileDoesNotExistException();
-                struct.e.read(iprot);
-                struct.setEIsSet(true);
+                struct.success = new ClientBatchResult();
+                struct.success.read(iprot);
+                struct.setSuccessIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -21933,18 +26053,13 @@ public class MasterService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, user_getBlockId_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getFileStatusBatch_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        if (struct.isSetSuccess()) {
+        if (struct.success != null) {
           oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
-          oprot.writeI64(struct.success);
-          oprot.writeFieldEnd();
-        }
-        if (struct.e != null) {
-          oprot.writeFieldBegin(E_FIELD_DESC);
-          struct.e.write(oprot);
+          struct.success.write(oprot);
           oprot.writeFieldEnd();
         }
         oprot.writeFieldStop();
@@ -21953,70 +26068,57 @@ public class MasterService {
 
     }
 
-    private static class user_getBlockId_resultTupleSchemeFactory implements SchemeFactory {
-      public user_getBlockId_resultTupleScheme getScheme() {
-        return new user_getBlockId_resultTupleScheme();
+    private static class getFileStatusBatch_resultTupleSchemeFactory implements SchemeFactory {
+      public getFileStatusBatch_resultTupleScheme getScheme() {
+        return new getFileStatusBatch_resultTupleScheme();
       }
     }
 
-    private static class user_getBlockId_resultTupleScheme extends TupleScheme<user_getBlockId_result> {
+    private static class getFileStatusBatch_resultTupleScheme extends TupleScheme<getFileStatusBatch_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, user_getBlockId_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, getFileStatusBatch_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetSuccess()) {
           optionals.set(0);
         }
-        if (struct.isSetE()) {
-          optionals.set(1);
-        }
-        oprot.writeBitSet(optionals, 2);
+        oprot.writeBitSet(optionals, 1);
         if (struct.isSetSuccess()) {
-          oprot.writeI64(struct.success);
-        }
-        if (struct.isSetE()) {
-          struct.e.write(oprot);
+          struct.success.write(oprot);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, user_getBlockId_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, getFileStatusBatch_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
-        BitSet incoming = iprot.readBitSet(2);
+        BitSet incoming = iprot.readBitSet(1);
         if (incoming.get(0)) {
-          struct.success = iprot.readI64();
+          struct.success = new ClientBatchResult();
+          struct.success.read(iprot);
           struct.setSuccessIsSet(true);
         }
-        if (incoming.get(1)) {
-          struct.e = new FileDoesNotExistException();
-          struct.e.read(iprot);
-          struct.setEIsSet(true);
-        }
       }
     }
 
   }
 
-  public static class user_getWorker_args implements org.apache.thrift.TBase<user_getWorker_args, user_getWorker_args._Fields>, java.io.Serializable, Cloneable, Comparable<user_getWorker_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("user_getWorker_args");
+  public static class user_getClientBlockInfo_args implements org.apache.thrift.TBase<user_getClientBlockInfo_args, user_getClientBlockInfo_args._Fields>, java.io.Serializable, Cloneable, Comparable<user_getClientBlockInfo_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("user_getClientBlockInfo_args");
 
-    private static final org.apache.thrift.protocol.TField RANDOM_FIELD_DESC = new org.apache.thrift.protocol.TField("random", org.apache.thrift.protocol.TType.BOOL, (short)1);
-    private static final org.apache.thrift.protocol.TField HOST_FIELD_DESC = new org.apache.thrift.protocol.TField("host", org.apache.thrift.protocol.TType.STRING, (short)2);
+    private static final org.apache.thrift.protocol.TField BLOCK_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("blockId", org.apache.thrift.protocol.TType.I64, (short)1);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new user_getWorker_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new user_getWorker_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new user_getClientBlockInfo_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new user_getClientBlockInfo_argsTupleSchemeFactory());
     }
 
-    public boolean random; // required
-    public String host; // required
+    public long blockId; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      RANDOM((short)1, "random"),
-      HOST((short)2, "host");
+      BLOCK_ID((short)1, "blockId");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -22031,10 +26133,8 @@ public class MasterService {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
-          case 1: // RANDOM
-            return RANDOM;
-          case 2: // HOST
-            return HOST;
+          case 1: // BLOCK_ID
+            return BLOCK_ID;
           default:
             return null;
         }
@@ -22075,116 +26175,76 @@ public class MasterService {
     }
 
     // isset id assignments
-    private static final int __RANDOM_ISSET_ID = 0;
+    private static final int __BLOCKID_ISSET_ID = 0;
     private byte __isset_bitfield = 0;
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
-      tmpMap.put(_Fields.RANDOM, new org.apache.thrift.meta_data.FieldMetaData("random", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.BOOL)));
-      tmpMap.put(_Fields.HOST, new org.apache.thrift.meta_data.FieldMetaData("host", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.BLOCK_ID, new org.apache.thrift.meta_data.FieldMetaData("blockId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(user_getWorker_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(user_getClientBlockInfo_args.class, metaDataMap);
     }
 
-    public user_getWorker_args() {
+    public user_getClientBlockInfo_args() {
     }
 
-    public user_getWorker_args(
-      boolean random,
-      String host)
+    public user_getClientBlockInfo_args(
+      long blockId)
     {
       this();
-      this.random = random;
-      setRandomIsSet(true);
-      this.host = host;
+      this.blockId = blockId;
+      setBlockIdIsSet(true);
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public user_getWorker_args(user_getWorker_args other) {
+    public user_getClientBlockInfo_args(user_getClientBlockInfo_args other) {
       __isset_bitfield = other.__isset_bitfield;
-      this.random = other.random;
-      if (other.isSetHost()) {
-        this.host = other.host;
-      }
+      this.blockId = other.blockId;
     }
 
-    public user_getWorker_args deepCopy() {
-      return new user_getWorker_args(this);
+    public user_getClientBlockInfo_args deepCopy() {
+      return new user_getClientBlockInfo_args(this);
     }
 
     @Override
     public void clear() {
-      setRandomIsSet(false);
-      this.random = false;
-      this.host = null;
-    }
-
-    public boolean isRandom() {
-      return this.random;
-    }
-
-    public user_getWorker_args setRandom(boolean random) {
-      this.random = random;
-      setRandomIsSet(true);
-      return this;
-    }
-
-    public void unsetRandom() {
-      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __RANDOM_ISSET_ID);
-    }
-
-    /** Returns true if field random is set (has been assigned a value) and false otherwise */
-    public boolean isSetRandom() {
-      return EncodingUtils.testBit(__isset_bitfield, __RANDOM_ISSET_ID);
-    }
-
-    public void setRandomIsSet(boolean value) {
-      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __RANDOM_ISSET_ID, value);
+      setBlockIdIsSet(false);
+      this.blockId = 0;
     }
 
-    public String getHost() {
-      return this.host;
+    public long getBlockId() {
+      return this.blockId;
     }
 
-    public user_getWorker_args setHost(String host) {
-      this.host = host;
+    public user_getClientBlockInfo_args setBlockId(long blockId) {
+      this.blockId = blockId;
+      setBlockIdIsSet(true);
       return this;
     }
 
-    public void unsetHost() {
-      this.host = null;
+    public void unsetBlockId() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __BLOCKID_ISSET_ID);
     }
 
-    /** Returns true if field host is set (has been assigned a value) and false otherwise */
-    public boolean isSetHost() {
-      return this.host != null;
+    /** Returns true if field blockId is set (has been assigned a value) and false otherwise */
+    public boolean isSetBlockId() {
+      return EncodingUtils.testBit(__isset_bitfield, __BLOCKID_ISSET_ID);
     }
 
-    public void setHostIsSet(boolean value) {
-      if (!value) {
-        this.host = null;
-      }
+    public void setBlockIdIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __BLOCKID_ISSET_ID, value);
     }
 
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
-      case RANDOM:
-        if (value == null) {
-          unsetRandom();
-        } else {
-          setRandom((Boolean)value);
-        }
-        break;
-
-      case HOST:
+      case BLOCK_ID:
         if (value == null) {
-          unsetHost();
+          unsetBlockId();
         } else {
-          setHost((String)value);
+          setBlockId((Long)value);
         }
         break;
 
@@ -22193,11 +26253,8 @@ public class MasterService {
 
     public Object getFieldValue(_Fields field) {
       switch (field) {
-      case RANDOM:
-        return Boolean.valueOf(isRandom());
-
-      case HOST:
-        return getHost();
+      case BLOCK_ID:
+        return Long.valueOf(getBlockId());
 
       }
       throw new IllegalStateException();
@@ -22210,10 +26267,8 @@ public class MasterService {
       }
 
       switch (field) {
-      case RANDOM:
-        return isSetRandom();
-      case HOST:
-        return isSetHost();
+      case BLOCK_ID:
+        return isSetBlockId();
       }
       throw new IllegalStateException();
     }
@@ -22222,30 +26277,21 @@ public class MasterService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof user_getWorker_args)
-        return this.equals((user_getWorker_args)that);
+      if (that instanceof user_getClientBlockInfo_args)
+        return this.equals((user_getClientBlockInfo_args)that);
       return false;
     }
 
-    public boolean equals(user_getWorker_args that) {
+    public boolean equals(user_getClientBlockInfo_args that) {
       if (that == null)
         return false;
 
-      boolean this_present_random = true;
-      boolean that_present_random = true;
-      if (this_present_random || that_present_random) {
-        if (!(this_present_random && that_present_random))
-          return false;
-        if (this.random != that.random)
-          return false;
-      }
-
-      boolean this_present_host = true && this.isSetHost();
-      boolean that_present_host = true && that.isSetHost();
-      if (this_present_host || that_present_host) {
-        if (!(this_present_host && that_present_host))
+      boolean this_present_blockId = true;
+      boolean that_present_blockId = true;
+      if (this_present_blockId || that_present_blockId) {
+        if (!(this_present_blockId && that_present_blockId))
           return false;
-        if (!this.host.equals(that.host))
+        if (this.blockId != that.blockId)
           return false;
       }
 
@@ -22258,29 +26304,19 @@ public class MasterService {
     }
 
     @Override
-    public int compareTo(user_getWorker_args other) {
+    public int compareTo(user_getClientBlockInfo_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
-      lastComparison = Boolean.valueOf(isSetRandom()).compareTo(other.isSetRandom());
-      if (lastComparison != 0) {
-        return lastComparison;
-      }
-      if (isSetRandom()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.random, other.random);
-        if (lastComparison != 0) {
-          return lastComparison;
-        }
-      }
-      lastComparison = Boolean.valueOf(isSetHost()).compareTo(other.isSetHost());
+      lastComparison = Boolean.valueOf(isSetBlockId()).compareTo(other.isSetBlockId());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetHost()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.host, other.host);
+      if (isSetBlockId()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.blockId, other.blockId);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -22302,19 +26338,11 @@ public class MasterService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("user_getWorker_args(");
+      StringBuilder sb = new StringBuilder("user_getClientBlockInfo_args(");
       boolean first = true;
 
-      sb.append("random:");
-      sb.append(this.random);
-      first = false;
-      if (!first) sb.append(", ");
-      sb.append("host:");
-      if (this.host == null) {
-        sb.append("null");
-      } else {
-        sb.append(this.host);
-      }
+      sb.append("blockId:");
+      sb.append(this.blockId);
       first = false;
       sb.append(")");
       return sb.toString();
@@ -22343,15 +26371,15 @@ public class MasterService {
       }
     }
 
-    private static class user_getWorker_argsStandardSchemeFactory implements SchemeFactory {
-      public user_getWorker_argsStandardScheme getScheme() {
-        return new user_getWorker_argsStandardScheme();
+    private static class user_getClientBlockInfo_argsStandardSchemeFactory implements SchemeFactory {
+      public user_getClientBlockInfo_argsStandardScheme getScheme() {
+        return new user_getClientBlockInfo_argsStandardScheme();
       }
     }
 
-    private static class user_getWorker_argsStandardScheme extends StandardScheme<user_getWorker_args> {
+    private static class user_getClientBlockInfo_argsStandardScheme extends StandardScheme<user_getClientBlockInfo_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, user_getWorker_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, user_getClientBlockInfo_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -22361,18 +26389,10 @@ public class MasterService {
             break;
           }
           switch (schemeField.id) {
-            case 1: // RANDOM
-              if (schemeField.type == org.apache.thrift.protocol.TType.BOOL) {
-                struct.random = iprot.readBool();
-                struct.setRandomIsSet(true);
-              } else { 
-                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
-              }
-              break;
-            case 2: // HOST
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
-                struct.host = iprot.readString();
-                struct.setHostIsSet(true);
+            case 1: // BLOCK_ID
+              if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
+                struct.blockId = iprot.readI64();
+                struct.setBlockIdIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -22388,87 +26408,75 @@ public class MasterService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, user_getWorker_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, user_getClientBlockInfo_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        oprot.writeFieldBegin(RANDOM_FIELD_DESC);
-        oprot.writeBool(struct.random);
+        oprot.writeFieldBegin(BLOCK_ID_FIELD_DESC);
+        oprot.writeI64(struct.blockId);
         oprot.writeFieldEnd();
-        if (struct.host != null) {
-          oprot.writeFieldBegin(HOST_FIELD_DESC);
-          oprot.writeString(struct.host);
-          oprot.writeFieldEnd();
-        }
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
 
     }
 
-    private static class user_getWorker_argsTupleSchemeFactory implements SchemeFactory {
-      public user_getWorker_argsTupleScheme getScheme() {
-        return new user_getWorker_argsTupleScheme();
+    private static class user_getClientBlockInfo_argsTupleSchemeFactory implements SchemeFactory {
+      public user_getClientBlockInfo_argsTupleScheme getScheme() {
+        return new user_getClientBlockInfo_argsTupleScheme();
       }
     }
 
-    private static class user_getWorker_argsTupleScheme extends TupleScheme<user_getWorker_args> {
+    private static class user_getClientBlockInfo_argsTupleScheme extends TupleScheme<user_getClientBlockInfo_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, user_getWorker_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, user_getClientBlockInfo_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
-        if (struct.isSetRandom()) {
+        if (struct.isSetBlockId()) {
           optionals.set(0);
         }
-        if (struct.isSetHost()) {
-          optionals.set(1);
-        }
-        oprot.writeBitSet(optionals, 2);
-        if (struct.isSetRandom()) {
-          oprot.writeBool(struct.random);
-        }
-        if (struct.isSetHost()) {
-          oprot.writeString(struct.host);
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetBlockId()) {
+          oprot.writeI64(struct.blockId);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, user_getWorker_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, user_getClientBlockInfo_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
-        BitSet incoming = iprot.readBitSet(2);
+        BitSet incoming = iprot.readBitSet(1);
         if (incoming.get(0)) {
-          struct.random = iprot.readBool();
-          struct.setRandomIsSet(true);
-        }
-        if (incoming.get(1)) {
-          struct.host = iprot.readString();
-          struct.setHostIsSet(true);
+          struct.blockId = iprot.readI64();
+          struct.setBlockIdIsSet(true);
         }
       }
     }
 
   }
 
-  public static class user_getWorker_result implements org.apache.thrift.TBase<user_getWorker_result, user_getWorker_result._Fields>, java.io.Serializable, Cloneable, Comparable<user_getWorker_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("user_getWorker_result");
+  public static class user_getClientBlockInfo_result implements org.apache.thrift.TBase<user_getClientBlockInfo_result, user_getClientBlockInfo_result._Fields>, java.io.Serializable, Cloneable, Comparable<user_getClientBlockInfo_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("user_getClientBlockInfo_result");
 
     private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
-    private static final org.apache.thrift.protocol.TField E_FIELD_DESC = new org.apache.thrift.protocol.TField("e", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+    private static final org.apache.thrift.protocol.TField E_F_FIELD_DESC = new org.apache.thrift.protocol.TField("eF", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+    private static final org.apache.thrift.protocol.TField E_B_FIELD_DESC = new org.apache.thrift.protocol.TField("eB", org.apache.thrift.protocol.TType.STRUCT, (short)2);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new user_getWorker_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new user_getWorker_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new user_getClientBlockInfo_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new user_getClientBlockInfo_resultTupleSchemeFactory());
     }
 
-    public NetAddress success; // required
-    public NoWorkerException e; // required
+    public ClientBlockInfo success; // required
+    public FileDoesNotExistException eF; // required
+    public BlockInfoException eB; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
       SUCCESS((short)0, "success"),
-      E((short)1, "e");
+      E_F((short)1, "eF"),
+      E_B((short)2, "eB");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -22485,8 +26493,10 @@ public class MasterService {
         switch(fieldId) {
           case 0: // SUCCESS
             return SUCCESS;
-          case 1: // E
-            return E;
+          case 1: // E_F
+            return E_F;
+          case 2: // E_B
+            return E_B;
           default:
             return null;
         }
@@ -22531,52 +26541,60 @@ public class MasterService {
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, NetAddress.class)));
-      tmpMap.put(_Fields.E, new org.apache.thrift.meta_data.FieldMetaData("e", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, ClientBlockInfo.class)));
+      tmpMap.put(_Fields.E_F, new org.apache.thrift.meta_data.FieldMetaData("eF", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
+      tmpMap.put(_Fields.E_B, new org.apache.thrift.meta_data.FieldMetaData("eB", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(user_getWorker_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(user_getClientBlockInfo_result.class, metaDataMap);
     }
 
-    public user_getWorker_result() {
+    public user_getClientBlockInfo_result() {
     }
 
-    public user_getWorker_result(
-      NetAddress success,
-      NoWorkerException e)
+    public user_getClientBlockInfo_result(
+      ClientBlockInfo success,
+      FileDoesNotExistException eF,
+      BlockInfoException eB)
     {
       this();
       this.success = success;
-      this.e = e;
+      this.eF = eF;
+      this.eB = eB;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public user_getWorker_result(user_getWorker_result other) {
+    public user_getClientBlockInfo_result(user_getClientBlockInfo_result other) {
       if (other.isSetSuccess()) {
-        this.success = new NetAddress(other.success);
+        this.success = new ClientBlockInfo(other.success);
       }
-      if (other.isSetE()) {
-        this.e = new NoWorkerException(other.e);
+      if (other.isSetEF()) {
+        this.eF = new FileDoesNotExistException(other.eF);
+      }
+      if (other.isSetEB()) {
+        this.eB = new BlockInfoException(other.eB);
       }
     }
 
-    public user_getWorker_result deepCopy() {
-      return new user_getWorker_result(this);
+    public user_getClientBlockInfo_result deepCopy() {
+      return new user_getClientBlockInfo_result(this);
     }
 
     @Override
     public void clear() {
       this.success = null;
-      this.e = null;
+      this.eF = null;
+      this.eB = null;
     }
 
-    public NetAddress getSuccess() {
+    public ClientBlockInfo getSuccess() {
       return this.success;
     }
 
-    public user_getWorker_result setSuccess(NetAddress success) {
+    public user_getClientBlockInfo_result setSuccess(ClientBlockInfo success) {
       this.success = success;
       return this;
     }
@@ -22596,27 +26614,51 @@ public class MasterService {
       }
     }
 
-    public NoWorkerException getE() {
-      return this.e;
+    public FileDoesNotExistException getEF() {
+      return this.eF;
     }
 
-    public user_getWorker_result setE(NoWorkerException e) {
-      this.e = e;
+    public user_getClientBlockInfo_result setEF(FileDoesNotExistException eF) {
+      this.eF = eF;
       return this;
     }
 
-    public void unsetE() {
-      this.e = null;
+    public void unsetEF() {
+      this.eF = null;
     }
 
-    /** Returns true if field e is set (has been assigned a value) and false otherwise */
-    public boolean isSetE() {
-      return this.e != null;
+    /** Returns true if field eF is set (has been assigned a value) and false otherwise */
+    public boolean isSetEF() {
+      return this.eF != null;
     }
 
-    public void setEIsSet(boolean value) {
+    public void setEFIsSet(boolean value) {
       if (!value) {
-        this.e = null;
+        this.eF = null;
+      }
+    }
+
+    public BlockInfoException getEB() {
+      return this.eB;
+    }
+
+    public user_getClientBlockInfo_result setEB(BlockInfoException eB) {
+      this.eB = eB;
+      return this;
+    }
+
+    public void unsetEB() {
+      this.eB = null;
+    }
+
+    /** Returns true if field eB is set (has been assigned a value) and false otherwise */
+    public boolean isSetEB() {
+      return this.eB != null;
+    }
+
+    public void setEBIsSet(boolean value) {
+      if (!value) {
+        this.eB = null;
       }
     }
 
@@ -22626,15 +26668,23 @@ public class MasterService {
         if (value == null) {
           unsetSuccess();
         } else {
-          setSuccess((NetAddress)value);
+          setSuccess((ClientBlockInfo)value);
         }
         break;
 
-      case E:
+      case E_F:
         if (value == null) {
-          unsetE();
+          unsetEF();
         } else {
-          setE((NoWorkerException)value);
+          setEF((FileDoesNotExistException)value);
+        }
+        break;
+
+      case E_B:
+        if (value == null) {
+          unsetEB();
+        } else {
+          setEB((BlockInfoException)value);
         }
         break;
 
@@ -22646,8 +26696,11 @@ public class MasterService {
       case SUCCESS:
         return getSuccess();
 
-      case E:
-        return getE();
+      case E_F:
+        return getEF();
+
+      case E_B:
+        return getEB();
 
       }
       throw new IllegalStateException();
@@ -22662,8 +26715,10 @@ public class MasterService {
       switch (field) {
       case SUCCESS:
         return isSetSuccess();
-      case E:
-        return isSetE();
+      case E_F:
+        return isSetEF();
+      case E_B:
+        return isSetEB();
       }
       throw new IllegalStateException();
     }
@@ -22672,12 +26727,12 @@ public class MasterService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof user_getWorker_result)
-        return this.equals((user_getWorker_result)that);
+      if (that instanceof user_getClientBlockInfo_result)
+        return this.equals((user_getClientBlockInfo_result)that);
       return false;
     }
 
-    public boolean equals(user_getWorker_result that) {
+    public boolean equals(user_getClientBlockInfo_result that) {
       if (that == null)
         return false;
 
@@ -22690,12 +26745,21 @@ public class MasterService {
           return false;
       }
 
-      boolean this_present_e = true && this.isSetE();
-      boolean that_present_e = true && that.isSetE();
-      if (this_present_e || that_present_e) {
-        if (!(this_present_e && that_present_e))
+      boolean this_present_eF = true && this.isSetEF();
+      boolean that_present_eF = true && that.isSetEF();
+      if (this_present_eF || that_present_eF) {
+        if (!(this_present_eF && that_present_eF))
           return false;
-        if (!this.e.equals(that.e))
+        if (!this.eF.equals(that.eF))
+          return false;
+      }
+
+      boolean this_present_eB = true && this.isSetEB();
+      boolean that_present_eB = true && that.isSetEB();
+      if (this_present_eB || that_present_eB) {
+        if (!(this_present_eB && that_present_eB))
+          return false;
+        if (!this.eB.equals(that.eB))
           return false;
       }
 
@@ -22708,7 +26772,7 @@ public class MasterService {
     }
 
     @Override
-    public int compareTo(user_getWorker_result other) {
+    public int compareTo(user_getClientBlockInfo_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -22725,12 +26789,22 @@ public class MasterService {
           return lastComparison;
         }
       }
-      lastComparison = Boolean.valueOf(isSetE()).compareTo(other.isSetE());
+      lastComparison = Boolean.valueOf(isSetEF()).compareTo(other.isSetEF());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetE()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.e, other.e);
+      if (isSetEF()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.eF, other.eF);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetEB()).compareTo(other.isSetEB());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetEB()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.eB, other.eB);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -22752,7 +26826,7 @@ public class MasterService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("user_getWorker_result(");
+      StringBuilder sb = new StringBuilder("user_getClientBlockInfo_result(");
       boolean first = true;
 
       sb.append("success:");
@@ -22763,11 +26837,19 @@ public class MasterService {
       }
       first = false;
       if (!first) sb.append(", ");
-      sb.append("e:");
-      if (this.e == null) {
+      sb.append("eF:");
+      if (this.eF == null) {
         sb.append("null");
       } else {
-        sb.append(this.e);
+        sb.append(this.eF);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("eB:");
+      if (this.eB == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.eB);
       }
       first = false;
       sb.append(")");
@@ -22798,15 +26880,15 @@ public class MasterService {
       }
     }
 
-    private static class user_getWorker_resultStandardSchemeFactory implements SchemeFactory {
-      public user_getWorker_resultStandardScheme getScheme() {
-        return new user_getWorker_resultStandardScheme();
+    private static class user_getClientBlockInfo_resultStandardSchemeFactory implements SchemeFactory {
+      public user_getClientBlockInfo_resultStandardScheme getScheme() {
+        return new user_getClientBlockInfo_resultStandardScheme();
       }
     }
 
-    private static class user_getWorker_resultStandardScheme extends StandardScheme<user_getWorker_result> {
+    private static class user_getClientBlockInfo_resultStandardScheme extends StandardScheme<user_getClientBlockInfo_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, user_getWorker_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, user_getClientBlockInfo_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -22818,18 +26900,27 @@ public class MasterService {
           switch (schemeField.id) {
             case 0: // SUCCESS
               if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.success = new NetAddress();
+                struct.success = new ClientBlockInfo();
                 struct.success.read(iprot);
                 struct.setSuccessIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
-            case 1: // E
+            case 1: // E_F
               if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.e = new NoWorkerException();
-                struct.e.read(iprot);
-                struct.setEIsSet(true);
+                struct.eF = new FileDoesNotExistException();
+                struct.eF.read(iprot);
+                struct.setEFIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // E_B
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.eB = new BlockInfoException();
+                struct.eB.read(iprot);
+                struct.setEBIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -22845,7 +26936,7 @@ public class MasterService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, user_getWorker_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, user_getClientBlockInfo_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -22854,9 +26945,14 @@ public class MasterService {
           struct.success.write(oprot);
           oprot.writeFieldEnd();
         }
-        if (struct.e != null) {
-          oprot.writeFieldBegin(E_FIELD_DESC);
-          struct.e.write(oprot);
+        if (struct.eF != null) {
+          oprot.writeFieldBegin(E_F_FIELD_DESC);
+          struct.eF.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        if (struct.eB != null) {
+          oprot.writeFieldBegin(E_B_FIELD_DESC);
+          struct.eB.write(oprot);
           oprot.writeFieldEnd();
         }
         oprot.writeFieldStop();
@@ -22865,71 +26961,79 @@ public class MasterService {
 
     }
 
-    private static class user_getWorker_resultTupleSchemeFactory implements SchemeFactory {
-      public user_getWorker_resultTupleScheme getScheme() {
-        return new user_getWorker_resultTupleScheme();
+    private static class user_getClientBlockInfo_resultTupleSchemeFactory implements SchemeFactory {
+      public user_getClientBlockInfo_resultTupleScheme getScheme() {
+        return new user_getClientBlockInfo_resultTupleScheme();
       }
     }
 
-    private static class user_getWorker_resultTupleScheme extends TupleScheme<user_getWorker_result> {
+    private static class user_getClientBlockInfo_resultTupleScheme extends TupleScheme<user_getClientBlockInfo_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, user_getWorker_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, user_getClientBlockInfo_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetSuccess()) {
           optionals.set(0);
         }
-        if (struct.isSetE()) {
+        if (struct.isSetEF()) {
           optionals.set(1);
         }
-        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetEB()) {
+          optionals.set(2);
+        }
+        oprot.writeBitSet(optionals, 3);
         if (struct.isSetSuccess()) {
           struct.success.write(oprot);
         }
-        if (struct.isSetE()) {
-          struct.e.write(oprot);
+        if (struct.isSetEF()) {
+          struct.eF.write(oprot);
+        }
+        if (struct.isSetEB()) {
+          struct.eB.write(oprot);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, user_getWorker_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, user_getClientBlockInfo_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
-        BitSet incoming = iprot.readBitSet(2);
+        BitSet incoming = iprot.readBitSet(3);
         if (incoming.get(0)) {
-          struct.success = new NetAddress();
+          struct.success = new ClientBlockInfo();
           struct.success.read(iprot);
           struct.setSuccessIsSet(true);
         }
         if (incoming.get(1)) {
-          struct.e = new NoWorkerException();
-          struct.e.read(iprot);
-          struct.setEIsSet(true);
+          struct.eF = new FileDoesNotExistException();
+          struct.eF.read(iprot);
+          struct.setEFIsSet(true);
+        }
+        if (incoming.get(2)) {
+          struct.eB = new BlockInfoException();
+          struct.eB.read(iprot);
+          struct.setEBIsSet(true);
         }
       }
     }
 
   }
 
-  public static class getFileStatus_args implements org.apache.thrift.TBase<getFileStatus_args, getFileStatus_args._Fields>, java.io.Serializable, Cloneable, Comparable<getFileStatus_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getFileStatus_args");
+  public static class user_getClientBlockInfoBatch_args implements org.apache.thrift.TBase<user_getClientBlockInfoBatch_args, user_getClientBlockInfoBatch_args._Fields>, java.io.Serializable, Cloneable, Comparable<user_getClientBlockInfoBatch_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("user_getClientBlockInfoBatch_args");
 
-    private static final org.apache.thrift.protocol.TField FILE_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("fileId", org.apache.thrift.protocol.TType.I32, (short)1);
-    private static final org.apache.thrift.protocol.TField PATH_FIELD_DESC = new org.apache.thrift.protocol.TField("path", org.apache.thrift.protocol.TType.STRING, (short)2);
+    private static final org.apache.thrift.protocol.TField BLOCK_IDS_FIELD_DESC = new org.apache.thrift.protocol.TField("blockIds", org.apache.thrift.protocol.TType.LIST, (short)1);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new getFileStatus_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new getFileStatus_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new user_getClientBlockInfoBatch_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new user_getClientBlockInfoBatch_argsTupleSchemeFactory());
     }
 
-    public int fileId; // required
-    public String path; // required
+    public List<Long> blockIds; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      FILE_ID((short)1, "fileId"),
-      PATH((short)2, "path");
+      BLOCK_IDS((short)1, "blockIds");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -22944,10 +27048,8 @@ public class MasterService {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
-          case 1: // FILE_ID
-            return FILE_ID;
-          case 2: // PATH
-            return PATH;
+          case 1: // BLOCK_IDS
+            return BLOCK_IDS;
           default:
             return null;
         }
@@ -22988,116 +27090,91 @@ public class MasterService {
     }
 
     // isset id assignments
-    private static final int __FILEID_ISSET_ID = 0;
-    private byte __isset_bitfield = 0;
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
-      tmpMap.put(_Fields.FILE_ID, new org.apache.thrift.meta_data.FieldMetaData("fileId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
-      tmpMap.put(_Fields.PATH, new org.apache.thrift.meta_data.FieldMetaData("path", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.BLOCK_IDS, new org.apache.thrift.meta_data.FieldMetaData("blockIds", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64))));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getFileStatus_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(user_getClientBlockInfoBatch_args.class, metaDataMap);
     }
 
-    public getFileStatus_args() {
+    public user_getClientBlockInfoBatch_args() {
     }
 
-    public getFileStatus_args(
-      int fileId,
-      String path)
+    public user_getClientBlockInfoBatch_args(
+      List<Long> blockIds)
     {
       this();
-      this.fileId = fileId;
-      setFileIdIsSet(true);
-      this.path = path;
+      this.blockIds = blockIds;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public getFileStatus_args(getFileStatus_args other) {
-      __isset_bitfield = other.__isset_bitfield;
-      this.fileId = other.fileId;
-      if (other.isSetPath()) {
-        this.path = other.path;
+    public user_getClientBlockInfoBatch_args(user_getClientBlockInfoBatch_args other) {
+      if (other.isSetBlockIds()) {
+        List<Long> __this__blockIds = new ArrayList<Long>(other.blockIds);
+        this.blockIds = __this__blockIds;
       }
     }
 
-    public getFileStatus_args deepCopy() {
-      return new getFileStatus_args(this);
+    public user_getClientBlockInfoBatch_args deepCopy() {
+      return new user_getClientBlockInfoBatch_args(this);
     }
 
     @Override
     public void clear() {
-      setFileIdIsSet(false);
-      this.fileId = 0;
-      this.path = null;
-    }
-
-    public int getFileId() {
-      return this.fileId;
-    }
-
-    public getFileStatus_args setFileId(int fileId) {
-      this.fileId = fileId;
-      setFileIdIsSet(true);
-      return this;
+      this.blockIds = null;
     }
 
-    public void unsetFileId() {
-      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __FILEID_ISSET_ID);
+    public int getBlockIdsSize() {
+      return (this.blockIds == null) ? 0 : this.blockIds.size();
     }
 
-    /** Returns true if field fileId is set (has been assigned a value) and false otherwise */
-    public boolean isSetFileId() {
-      return EncodingUtils.testBit(__isset_bitfield, __FILEID_ISSET_ID);
+    public java.util.Iterator<Long> getBlockIdsIterator() {
+      return (this.blockIds == null) ? null : this.blockIds.iterator();
     }
 
-    public void setFileIdIsSet(boolean value) {
-      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __FILEID_ISSET_ID, value);
+    public void addToBlockIds(long elem) {
+      if (this.blockIds == null) {
+        this.blockIds = new ArrayList<Long>();
+      }
+      this.blockIds.add(elem);
     }
 
-    public String getPath() {
-      return this.path;
+    public List<Long> getBlockIds() {
+      return this.blockIds;
     }
 
-    public getFileStatus_args setPath(String path) {
-      this.path = path;
+    public user_getClientBlockInfoBatch_args setBlockIds(List<Long> blockIds) {
+      this.blockIds = blockIds;
       return this;
     }
 
-    public void unsetPath() {
-      this.path = null;
+    public void unsetBlockIds() {
+      this.blockIds = null;
     }
 
-    /** Returns true if field path is set (has been assigned a value) and false otherwise */
-    public boolean isSetPath() {
-      return this.path != null;
+    /** Returns true if field blockIds is set (has been assigned a value) and false otherwise */
+    public boolean isSetBlockIds() {
+      return this.blockIds != null;
     }
 
-    public void setPathIsSet(boolean value) {
+    public void setBlockIdsIsSet(boolean value) {
       if (!value) {
-        this.path = null;
+        this.blockIds = null;
       }
     }
 
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
-      case FILE_ID:
-        if (value == null) {
-          unsetFileId();
-        } else {
-          setFileId((Integer)value);
-        }
-        break;
-
-      case PATH:
+      case BLOCK_IDS:
         if (value == null) {
-          unsetPath();
+          unsetBlockIds();
         } else {
-          setPath((String)value);
+          setBlockIds((List<Long>)value);
         }
         break;
 
@@ -23106,11 +27183,8 @@ public class MasterService {
 
     public Object getFieldValue(_Fields field) {
       switch (field) {
-      case FILE_ID:
-        return Integer.valueOf(getFileId());
-
-      case PATH:
-        return getPath();
+      case BLOCK_IDS:
+        return getBlockIds();
 
       }
       throw new IllegalStateException();
@@ -23123,10 +27197,8 @@ public class MasterService {
       }
 
       switch (field) {
-      case FILE_ID:
-        return isSetFileId();
-      case PATH:
-        return isSetPath();
+      case BLOCK_IDS:
+        return isSetBlockIds();
       }
       throw new IllegalStateException();
     }
@@ -23135,30 +27207,21 @@ public class MasterService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof getFileStatus_args)
-        return this.equals((getFileStatus_args)that);
+      if (that instanceof user_getClientBlockInfoBatch_args)
+        return this.equals((user_getClientBlockInfoBatch_args)that);
       return false;
     }
 
-    public boolean equals(getFileStatus_args that) {
+    public boolean equals(user_getClientBlockInfoBatch_args that) {
       if (that == null)
         return false;
 
-      boolean this_present_fileId = true;
-      boolean that_present_fileId = true;
-      if (this_present_fileId || that_present_fileId) {
-        if (!(this_present_fileId && that_present_fileId))
-          return false;
-        if (this.fileId != that.fileId)
-          return false;
-      }
-
-      boolean this_present_path = true && this.isSetPath();
-      boolean that_present_path = true && that.isSetPath();
-      if (this_present_path || that_present_path) {
-        if (!(this_present_path && that_present_path))
+      boolean this_present_blockIds = true && this.isSetBlockIds();
+      boolean that_present_blockIds = true && that.isSetBlockIds();
+      if (this_present_blockIds || that_present_blockIds) {
+        if (!(this_present_blockIds && that_present_blockIds))
           return false;
-        if (!this.path.equals(that.path))
+        if (!this.blockIds.equals(that.blockIds))
           return false;
       }
 
@@ -23171,29 +27234,19 @@ public class MasterService {
     }
 
     @Override
-    public int compareTo(getFileStatus_args other) {
+    public int compareTo(user_getClientBlockInfoBatch_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
-      lastComparison = Boolean.valueOf(isSetFileId()).compareTo(other.isSetFileId());
-      if (lastComparison != 0) {
-        return lastComparison;
-      }
-      if (isSetFileId()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.fileId, other.fileId);
-        if (lastComparison != 0) {
-          return lastComparison;
-        }
-      }
-      lastComparison = Boolean.valueOf(isSetPath()).compareTo(other.isSetPath());
+      lastComparison = Boolean.valueOf(isSetBlockIds()).compareTo(other.isSetBlockIds());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetPath()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.path, other.path);
+      if (isSetBlockIds()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.blockIds, other.blockIds);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -23215,18 +27268,14 @@ public class MasterService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("getFileStatus_args(");
+      StringBuilder sb = new StringBuilder("user_getClientBlockInfoBatch_args(");
       boolean first = true;
 
-      sb.append("fileId:");
-      sb.append(this.fileId);
-      first = false;
-      if (!first) sb.append(", ");
-      sb.append("path:");
-      if (this.path == null) {
+      sb.append("blockIds:");
+      if (this.blockIds == null) {
         sb.append("null");
       } else {
-        sb.append(this.path);
+        sb.append(this.blockIds);
       }
       first = false;
       sb.append(")");
@@ -23248,23 +27297,21 @@ public class MasterService {
 
     private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
       try {
-        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
-        __isset_bitfield = 0;
         read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
       } catch (org.apache.thrift.TException te) {
         throw new java.io.IOException(te);
       }
     }
 
-    private static class getFileStatus_argsStandardSchemeFactory implements SchemeFactory {
-      public getFileStatus_argsStandardScheme getScheme() {
-        return new getFileStatus_argsStandardScheme();
+    private static class user_getClientBlockInfoBatch_argsStandardSchemeFactory implements SchemeFactory {
+      public user_getClientBlockInfoBatch_argsStandardScheme getScheme() {
+        return new user_getClientBlockInfoBatch_argsStandardScheme();
       }
     }
 
-    private static class getFileStatus_argsStandardScheme extends StandardScheme<getFileStatus_args> {
+    private static class user_getClientBlockInfoBatch_argsStandardScheme extends StandardScheme<user_getClientBlockInfoBatch_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, getFileStatus_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, user_getClientBlockInfoBatch_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -23274,18 +27321,20 @@ public class MasterService {
             break;
           }
           switch (schemeField.id) {
-            case 1: // FILE_ID
-              if (schemeField.type == org.apache.thrift.protocol.TType.I32) {
-                struct.fileId = iprot.readI32();
-                struct.setFileIdIsSet(true);
-              } else { 
-                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
-              }
-              break;
-            case 2: // PATH
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
-                struct.path = iprot.readString();
-                struct.setPathIsSet(true);
+            case 1: // BLOCK_IDS
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list206 = iprot.readListBegin();
+                  struct.blockIds = new ArrayList<Long>(_list206.size);
+                  for (int _i207 = 0; _i207 < _list206.size; ++_i207)
+                  {
+                    long _elem208;
+                    _elem208 = iprot.readI64();
+                    struct.blockIds.add(_elem208);
+                  }
+                  iprot.readListEnd();
+                }
+                struct.setBlockIdsIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -23301,16 +27350,20 @@ public class MasterService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, getFileStatus_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, user_getClientBlockInfoBatch_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        oprot.writeFieldBegin(FILE_ID_FIELD_DESC);
-        oprot.writeI32(struct.fileId);
-        oprot.writeFieldEnd();
-        if (struct.path != null) {
-          oprot.writeFieldBegin(PATH_FIELD_DESC);
-          oprot.writeString(struct.path);
+        if (struct.blockIds != null) {
+          oprot.writeFieldBegin(BLOCK_IDS_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.I64, struct.blockIds.size()));
+            for (long _iter209 : struct.blockIds)
+            {
+              oprot.writeI64(_iter209);
+            }
+            oprot.writeListEnd();
+          }
           oprot.writeFieldEnd();
         }
         oprot.writeFieldStop();
@@ -23319,69 +27372,71 @@ public class MasterService {
 
     }
 
-    private static class getFileStatus_argsTupleSchemeFactory implements SchemeFactory {
-      public getFileStatus_argsTupleScheme getScheme() {
-        return new getFileStatus_argsTupleScheme();
+    private static class user_getClientBlockInfoBatch_argsTupleSchemeFactory implements SchemeFactory {
+      public user_getClientBlockInfoBatch_argsTupleScheme getScheme() {
+        return new user_getClientBlockInfoBatch_argsTupleScheme();
       }
     }
 
-    private static class getFileStatus_argsTupleScheme extends TupleScheme<getFileStatus_args> {
+    private static class user_getClientBlockInfoBatch_argsTupleScheme extends TupleScheme<user_getClientBlockInfoBatch_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, getFileStatus_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, user_getClientBlockInfoBatch_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
-        if (struct.isSetFileId()) {
+        if (struct.isSetBlockIds()) {
           optionals.set(0);
         }
-        if (struct.isSetPath()) {
-          optionals.set(1);
-        }
-        oprot.writeBitSet(optionals, 2);
-        if (struct.isSetFileId()) {
-          oprot.writeI32(struct.fileId);
-        }
-        if (struct.isSetPath()) {
-          oprot.writeString(struct.path);
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetBlockIds()) {
+          {
+            oprot.writeI32(struct.blockIds.size());
+            for (long _iter210 : struct.blockIds)
+            {
+              oprot.writeI64(_iter210);
+            }
+          }
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, getFileStatus_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, user_getClientBlockInfoBatch_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
-        BitSet incoming = iprot.readBitSet(2);
+        BitSet incoming = iprot.readBitSet(1);
         if (incoming.get(0)) {
-          struct.fileId = iprot.readI32();
-          struct.setFileIdIsSet(true);
-        }
-        if (incoming.get(1)) {
-          struct.path = iprot.readString();
-          struct.setPathIsSet(true);
+          {
+            org.apache.thrift.protocol.TList _list211 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.I64, iprot.readI32());
+            struct.blockIds = new ArrayList<Long>(_list211.size);
+            for (int _i212 = 0; _i212 < _list211.size; ++_i212)
+            {
+              long _elem213;
+              _elem213 = iprot.readI64();
+              struct.blockIds.add(_elem213);
+            }
+          }
+          struct.setBlockIdsIsSet(true);
         }
       }
     }
 
   }
 
-  public static class getFileStatus_result implements org.apache.thrift.TBase<getFileStatus_result, getFileStatus_result._Fields>, java.io.Serializable, Cloneable, Comparable<getFileStatus_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getFileStatus_result");
+  public static class user_getClientBlockInfoBatch_result implements org.apache.thrift.TBase<user_getClientBlockInfoBatch_result, user_getClientBlockInfoBatch_result._Fields>, java.io.Serializable, Cloneable, Comparable<user_getClientBlockInfoBatch_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("user_getClientBlockInfoBatch_result");
 
     private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
-    private static final org.apache.thrift.protocol.TField E_I_FIELD_DESC = new org.apache.thrift.protocol.TField("eI", org.apache.thrift.protocol.TType.STRUCT, (short)1);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new getFileStatus_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new getFileStatus_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new user_getClientBlockInfoBatch_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new user_getClientBlockInfoBatch_resultTupleSchemeFactory());
     }
 
-    public ClientFileInfo success; // required
-    public InvalidPathException eI; // required
+    public ClientBatchResult success; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      SUCCESS((short)0, "success"),
-      E_I((short)1, "eI");
+      SUCCESS((short)0, "success");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -23398,8 +27453,6 @@ public class MasterService {
         switch(fieldId) {
           case 0: // SUCCESS
             return SUCCESS;
-          case 1: // E_I
-            return E_I;
           default:
             return null;
         }
@@ -23444,52 +27497,44 @@ public class MasterService {
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, ClientFileInfo.class)));
-      tmpMap.put(_Fields.E_I, new org.apache.thrift.meta_data.FieldMetaData("eI", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, ClientBatchResult.class)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getFileStatus_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(user_getClientBlockInfoBatch_result.class, metaDataMap);
     }
 
-    public getFileStatus_result() {
+    public user_getClientBlockInfoBatch_result() {
     }
 
-    public getFileStatus_result(
-      ClientFileInfo success,
-      InvalidPathException eI)
+    public user_getClientBlockInfoBatch_result(
+      ClientBatchResult success)
     {
       this();
       this.success = success;
-      this.eI = eI;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public getFileStatus_result(getFileStatus_result other) {
+    public user_getClientBlockInfoBatch_result(user_getClientBlockInfoBatch_result other) {
       if (other.isSetSuccess()) {
-        this.success = new ClientFileInfo(other.success);
-      }
-      if (other.isSetEI()) {
-        this.eI = new InvalidPathException(other.eI);
+        this.success = new ClientBatchResult(other.success);
       }
     }
-
-    public getFileStatus_result deepCopy() {
-      return new getFileStatus_result(this);
+
+    public user_getClientBlockInfoBatch_result deepCopy() {
+      return new user_getClientBlockInfoBatch_result(this);
     }
 
     @Override
     public void clear() {
       this.success = null;
-      this.eI = null;
     }
 
-    public ClientFileInfo getSuccess() {
+    public ClientBatchResult getSuccess() {
       return this.success;
     }
 
-    public getFileStatus_result setSuccess(ClientFileInfo success) {
+    public user_getClientBlockInfoBatch_result setSuccess(ClientBatchResult success) {
       this.success = success;
       return this;
     }
@@ -23509,45 +27554,13 @@ public class MasterService {
       }
     }
 
-    public InvalidPathException getEI() {
-      return this.eI;
-    }
-
-    public getFileStatus_result setEI(InvalidPathException eI) {
-      this.eI = eI;
-      return this;
-    }
-
-    public void unsetEI() {
-      this.eI = null;
-    }
-
-    /** Returns true if field eI is set (has been assigned a value) and false otherwise */
-    public boolean isSetEI() {
-      return this.eI != null;
-    }
-
-    public void setEIIsSet(boolean value) {
-      if (!value) {
-        this.eI = null;
-      }
-    }
-
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
       case SUCCESS:
         if (value == null) {
           unsetSuccess();
         } else {
-          setSuccess((ClientFileInfo)value);
-        }
-        break;
-
-      case E_I:
-        if (value == null) {
-          unsetEI();
-        } else {
-          setEI((InvalidPathException)value);
+          setSuccess((ClientBatchResult)value);
         }
         break;
 
@@ -23559,9 +27572,6 @@ public class MasterService {
       case SUCCESS:
         return getSuccess();
 
-      case E_I:
-        return getEI();
-
       }
       throw new IllegalStateException();
     }
@@ -23575,8 +27585,6 @@ public class MasterService {
       switch (field) {
       case SUCCESS:
         return isSetSuccess();
-      case E_I:
-        return isSetEI();
       }
       throw new IllegalStateException();
     }
@@ -23585,12 +27593,12 @@ public class MasterService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof getFileStatus_result)
-        return this.equals((getFileStatus_result)that);
+      if (that instanceof user_getClientBlockInfoBatch_result)
+        return this.equals((user_getClientBlockInfoBatch_result)that);
       return false;
     }
 
-    public boolean equals(getFileStatus_result that) {
+    public boolean equals(user_getClientBlockInfoBatch_result that) {
       if (that == null)
         return false;
 
@@ -23603,15 +27611,6 @@ public class MasterService {
           return false;
       }
 
-      boolean this_present_eI = true && this.isSetEI();
-      boolean that_present_eI = true && that.isSetEI();
-      if (this_present_eI || that_present_eI) {
-        if (!(this_present_eI && that_present_eI))
-          return false;
-        if (!this.eI.equals(that.eI))
-          return false;
-      }
-
       return true;
     }
 
@@ -23621,7 +27620,7 @@ public class MasterService {
     }
 
     @Override
-    public int compareTo(getFileStatus_result other) {
+    public int compareTo(user_getClientBlockInfoBatch_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -23638,16 +27637,6 @@ public class MasterService {
           return lastComparison;
         }
       }
-      lastComparison = Boolean.valueOf(isSetEI()).compareTo(other.isSetEI());
-      if (lastComparison != 0) {
-        return lastComparison;
-      }
-      if (isSetEI()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.eI, other.eI);
-        if (lastComparison != 0) {
-          return lastComparison;
-        }
-      }
       return 0;
     }
 
@@ -23665,7 +27654,7 @@ public class MasterService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("getFileStatus_result(");
+      StringBuilder sb = new StringBuilder("user_getClientBlockInfoBatch_result(");
       boolean first = true;
 
       sb.append("success:");
@@ -23675,14 +27664,6 @@ public class MasterService {
         sb.append(this.success);
       }
       first = false;
-      if (!first) sb.append(", ");
-      sb.append("eI:");
-      if (this.eI == null) {
-        sb.append("null");
-      } else {
-        sb.append(this.eI);
-      }
-      first = false;
       sb.append(")");
       return sb.toString();
     }
@@ -23711,15 +27692,15 @@ public class MasterService {
       }
     }
 
-    private static class getFileStatus_resultStandardSchemeFactory implements SchemeFactory {
-      public getFileStatus_resultStandardScheme getScheme() {
-        return new getFileStatus_resultStandardScheme();
+    private static class user_getClientBlockInfoBatch_resultStandardSchemeFactory implements SchemeFactory {
+      public user_getClientBlockInfoBatch_resultStandardScheme getScheme() {
+        return new user_getClientBlockInfoBatch_resultStandardScheme();
       }
     }
 
-    private static class getFileStatus_resultStandardScheme extends StandardScheme<getFileStatus_result> {
+    private static class user_getClientBlockInfoBatch_resultStandardScheme extends StandardScheme<user_getClientBlockInfoBatch_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, getFileStatus_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, user_getClientBlockInfoBatch_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -23731,22 +27712,13 @@ public class MasterService {
           switch (schemeField.id) {
             case 0: // SUCCESS
               if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.success = new ClientFileInfo();
+                struct.success = new ClientBatchResult();
                 struct.success.read(iprot);
                 struct.setSuccessIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
-            case 1: // E_I
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.eI = new InvalidPathException();
-                struct.eI.read(iprot);
-                struct.setEIIsSet(true);
-              } else { 
-                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
-              }
-              break;
             default:
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
           }
@@ -23758,7 +27730,7 @@ public class MasterService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, getFileStatus_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, user_getClientBlockInfoBatch_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -23767,79 +27739,66 @@ public class MasterService {
           struct.success.write(oprot);
           oprot.writeFieldEnd();
         }
-        if (struct.eI != null) {
-          oprot.writeFieldBegin(E_I_FIELD_DESC);
-          struct.eI.write(oprot);
-          oprot.writeFieldEnd();
-        }
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
 
     }
 
-    private static class getFileStatus_resultTupleSchemeFactory implements SchemeFactory {
-      public getFileStatus_resultTupleScheme getScheme() {
-        return new getFileStatus_resultTupleScheme();
+    private static class user_getClientBlockInfoBatch_resultTupleSchemeFactory implements SchemeFactory {
+      public user_getClientBlockInfoBatch_resultTupleScheme getScheme() {
+        return new user_getClientBlockInfoBatch_resultTupleScheme();
       }
     }
 
-    private static class getFileStatus_resultTupleScheme extends TupleScheme<getFileStatus_result> {
+    private static class user_getClientBlockInfoBatch_resultTupleScheme extends TupleScheme<user_getClientBlockInfoBatch_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, getFileStatus_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, user_getClientBlockInfoBatch_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetSuccess()) {
           optionals.set(0);
         }
-        if (struct.isSetEI()) {
-          optionals.set(1);
-        }
-        oprot.writeBitSet(optionals, 2);
+        oprot.writeBitSet(optionals, 1);
         if (struct.isSetSuccess()) {
           struct.success.write(oprot);
         }
-        if (struct.isSetEI()) {
-          struct.eI.write(oprot);
-        }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, getFileStatus_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, user_getClientBlockInfoBatch_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
-        BitSet incoming = iprot.readBitSet(2);
+        BitSet incoming = iprot.readBitSet(1);
         if (incoming.get(0)) {
-          struct.success = new ClientFileInfo();
+          struct.success = new ClientBatchResult();
           struct.success.read(iprot);
           struct.setSuccessIsSet(true);
         }
-        if (incoming.get(1)) {
-          struct.eI = new InvalidPathException();
-          struct.eI.read(iprot);
-          struct.setEIIsSet(true);
-        }
       }
     }
 
   }
 
-  public static class user_getClientBlockInfo_args implements org.apache.thrift.TBase<user_getClientBlockInfo_args, user_getClientBlockInfo_args._Fields>, java.io.Serializable, Cloneable, Comparable<user_getClientBlockInfo_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("user_getClientBlockInfo_args");
+  public static class user_getFileBlocks_args implements org.apache.thrift.TBase<user_getFileBlocks_args, user_getFileBlocks_args._Fields>, java.io.Serializable, Cloneable, Comparable<user_getFileBlocks_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("user_getFileBlocks_args");
 
-    private static final org.apache.thrift.protocol.TField BLOCK_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("blockId", org.apache.thrift.protocol.TType.I64, (short)1);
+    private static final org.apache.thrift.protocol.TField FILE_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("fileId", org.apache.thrift.protocol.TType.I32, (short)1);
+    private static final org.apache.thrift.protocol.TField PATH_FIELD_DESC = new org.apache.thrift.protocol.TField("path", org.apache.thrift.protocol.TType.STRING, (short)2);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new user_getClientBlockInfo_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new user_getClientBlockInfo_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new user_getFileBlocks_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new user_getFileBlocks_argsTupleSchemeFactory());
     }
 
-    public long blockId; // required
+    public int fileId; // required
+    public String path; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      BLOCK_ID((short)1, "blockId");
+      FILE_ID((short)1, "fileId"),
+      PATH((short)2, "path");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -23854,8 +27813,10 @@ public class MasterService {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
-          case 1: // BLOCK_ID
-            return BLOCK_ID;
+          case 1: // FILE_ID
+            return FILE_ID;
+          case 2: // PATH
+            return PATH;
           default:
             return null;
         }
@@ -23896,76 +27857,116 @@ public class MasterService {
     }
 
     // isset id assignments
-    private static final int __BLOCKID_ISSET_ID = 0;
+    private static final int __FILEID_ISSET_ID = 0;
     private byte __isset_bitfield = 0;
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
-      tmpMap.put(_Fields.BLOCK_ID, new org.apache.thrift.meta_data.FieldMetaData("blockId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
+      tmpMap.put(_Fields.FILE_ID, new org.apache.thrift.meta_data.FieldMetaData("fileId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
+      tmpMap.put(_Fields.PATH, new org.apache.thrift.meta_data.FieldMetaData("path", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(user_getClientBlockInfo_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(user_getFileBlocks_args.class, metaDataMap);
     }
 
-    public user_getClientBlockInfo_args() {
+    public user_getFileBlocks_args() {
     }
 
-    public user_getClientBlockInfo_args(
-      long blockId)
+    public user_getFileBlocks_args(
+      int fileId,
+      String path)
     {
       this();
-      this.blockId = blockId;
-      setBlockIdIsSet(true);
+      this.fileId = fileId;
+      setFileIdIsSet(true);
+      this.path = path;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public user_getClientBlockInfo_args(user_getClientBlockInfo_args other) {
+    public user_getFileBlocks_args(user_getFileBlocks_args other) {
       __isset_bitfield = other.__isset_bitfield;
-      this.blockId = other.blockId;
+      this.fileId = other.fileId;
+      if (other.isSetPath()) {
+        this.path = other.path;
+      }
     }
 
-    public user_getClientBlockInfo_args deepCopy() {
-      return new user_getClientBlockInfo_args(this);
+    public user_getFileBlocks_args deepCopy() {
+      return new user_getFileBlocks_args(this);
     }
 
     @Override
     public void clear() {
-      setBlockIdIsSet(false);
-      this.blockId = 0;
+      setFileIdIsSet(false);
+      this.fileId = 0;
+      this.path = null;
     }
 
-    public long getBlockId() {
-      return this.blockId;
+    public int getFileId() {
+      return this.fileId;
     }
 
-    public user_getClientBlockInfo_args setBlockId(long blockId) {
-      this.blockId = blockId;
-      setBlockIdIsSet(true);
+    public user_getFileBlocks_args setFileId(int fileId) {
+      this.fileId = fileId;
+      setFileIdIsSet(true);
       return this;
     }
 
-    public void unsetBlockId() {
-      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __BLOCKID_ISSET_ID);
+    public void unsetFileId() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __FILEID_ISSET_ID);
     }
 
-    /** Returns true if field blockId is set (has been assigned a value) and false otherwise */
-    public boolean isSetBlockId() {
-      return EncodingUtils.testBit(__isset_bitfield, __BLOCKID_ISSET_ID);
+    /** Returns true if field fileId is set (has been assigned a value) and false otherwise */
+    public boolean isSetFileId() {
+      return EncodingUtils.testBit(__isset_bitfield, __FILEID_ISSET_ID);
     }
 
-    public void setBlockIdIsSet(boolean value) {
-      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __BLOCKID_ISSET_ID, value);
+    public void setFileIdIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __FILEID_ISSET_ID, value);
+    }
+
+    public String getPath() {
+      return this.path;
+    }
+
+    public user_getFileBlocks_args setPath(String path) {
+      this.path = path;
+      return this;
+    }
+
+    public void unsetPath() {
+      this.path = null;
+    }
+
+    /** Returns true if field path is set (has been assigned a value) and false otherwise */
+    public boolean isSetPath() {
+      return this.path != null;
+    }
+
+    public void setPathIsSet(boolean value) {
+      if (!value) {
+        this.path = null;
+      }
     }
 
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
-      case BLOCK_ID:
+      case FILE_ID:
         if (value == null) {
-          unsetBlockId();
+          unsetFileId();
         } else {
-          setBlockId((Long)value);
+          setFileId((Integer)value);
+        }
+        break;
+
+      case PATH:
+        if (value == null) {
+          unsetPath();
+        } else {
+          setPath((String)value);
         }
         break;
 
@@ -23974,8 +27975,11 @@ public class MasterService {
 
     public Object getFieldValue(_Fields field) {
       switch (field) {
-      case BLOCK_ID:
-        return Long.valueOf(getBlockId());
+      case FILE_ID:
+        return Integer.valueOf(getFileId());
+
+      case PATH:
+        return getPath();
 
       }
       throw new IllegalStateException();
@@ -23988,8 +27992,10 @@ public class MasterService {
       }
 
       switch (field) {
-      case BLOCK_ID:
-        return isSetBlockId();
+      case FILE_ID:
+        return isSetFileId();
+      case PATH:
+        return isSetPath();
       }
       throw new IllegalStateException();
     }
@@ -23997,22 +28003,31 @@ public class MasterService {
     @Override
     public boolean equals(Object that) {
       if (that == null)
-        return false;
-      if (that instanceof user_getClientBlockInfo_args)
-        return this.equals((user_getClientBlockInfo_args)that);
+        return false;
+      if (that instanceof user_getFileBlocks_args)
+        return this.equals((user_getFileBlocks_args)that);
       return false;
     }
 
-    public boolean equals(user_getClientBlockInfo_args that) {
+    public boolean equals(user_getFileBlocks_args that) {
       if (that == null)
         return false;
 
-      boolean this_present_blockId = true;
-      boolean that_present_blockId = true;
-      if (this_present_blockId || that_present_blockId) {
-        if (!(this_present_blockId && that_present_blockId))
+      boolean this_present_fileId = true;
+      boolean that_present_fileId = true;
+      if (this_present_fileId || that_present_fileId) {
+        if (!(this_present_fileId && that_present_fileId))
           return false;
-        if (this.blockId != that.blockId)
+        if (this.fileId != that.fileId)
+          return false;
+      }
+
+      boolean this_present_path = true && this.isSetPath();
+      boolean that_present_path = true && that.isSetPath();
+      if (this_present_path || that_present_path) {
+        if (!(this_present_path && that_present_path))
+          return false;
+        if (!this.path.equals(that.path))
           return false;
       }
 
@@ -24025,19 +28040,29 @@ public class MasterService {
     }
 
     @Override
-    public int compareTo(user_getClientBlockInfo_args other) {
+    public int compareTo(user_getFileBlocks_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
-      lastComparison = Boolean.valueOf(isSetBlockId()).compareTo(other.isSetBlockId());
+      lastComparison = Boolean.valueOf(isSetFileId()).compareTo(other.isSetFileId());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetBlockId()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.blockId, other.blockId);
+      if (isSetFileId()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.fileId, other.fileId);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetPath()).compareTo(other.isSetPath());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetPath()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.path, other.path);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -24059,11 +28084,19 @@ public class MasterService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("user_getClientBlockInfo_args(");
+      StringBuilder sb = new StringBuilder("user_getFileBlocks_args(");
       boolean first = true;
 
-      sb.append("blockId:");
-      sb.append(this.blockId);
+      sb.append("fileId:");
+      sb.append(this.fileId);
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("path:");
+      if (this.path == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.path);
+      }
       first = false;
       sb.append(")");
       return sb.toString();
@@ -24092,15 +28125,15 @@ public class MasterService {
       }
     }
 
-    private static class user_getClientBlockInfo_argsStandardSchemeFactory implements SchemeFactory {
-      public user_getClientBlockInfo_argsStandardScheme getScheme() {
-        return new user_getClientBlockInfo_argsStandardScheme();
+    private static class user_getFileBlocks_argsStandardSchemeFactory implements SchemeFactory {
+      public user_getFileBlocks_argsStandardScheme getScheme() {
+        return new user_getFileBlocks_argsStandardScheme();
       }
     }
 
-    private static class user_getClientBlockInfo_argsStandardScheme extends StandardScheme<user_getClientBlockInfo_args> {
+    private static class user_getFileBlocks_argsStandardScheme extends StandardScheme<user_getFileBlocks_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, user_getClientBlockInfo_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, user_getFileBlocks_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -24110,10 +28143,18 @@ public class MasterService {
             break;
           }
           switch (schemeField.id) {
-            case 1: // BLOCK_ID
-              if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
-                struct.blockId = iprot.readI64();
-                struct.setBlockIdIsSet(true);
+            case 1: // FILE_ID
+              if (schemeField.type == org.apache.thrift.protocol.TType.I32) {
+                struct.fileId = iprot.readI32();
+                struct.setFileIdIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // PATH
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.path = iprot.readString();
+                struct.setPathIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -24129,75 +28170,90 @@ public class MasterService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, user_getClientBlockInfo_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, user_getFileBlocks_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        oprot.writeFieldBegin(BLOCK_ID_FIELD_DESC);
-        oprot.writeI64(struct.blockId);
+        oprot.writeFieldBegin(FILE_ID_FIELD_DESC);
+        oprot.writeI32(struct.fileId);
         oprot.writeFieldEnd();
+        if (struct.path != null) {
+          oprot.writeFieldBegin(PATH_FIELD_DESC);
+          oprot.writeString(struct.path);
+          oprot.writeFieldEnd();
+        }
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
 
     }
 
-    private static class user_getClientBlockInfo_argsTupleSchemeFactory implements SchemeFactory {
-      public user_getClientBlockInfo_argsTupleScheme getScheme() {
-        return new user_getClientBlockInfo_argsTupleScheme();
+    private static class user_getFileBlocks_argsTupleSchemeFactory implements SchemeFactory {
+      public user_getFileBlocks_argsTupleScheme getScheme() {
+        return new user_getFileBlocks_argsTupleScheme();
       }
     }
 
-    private static class user_getClientBlockInfo_argsTupleScheme extends TupleScheme<user_getClientBlockInfo_args> {
+    private static class user_getFileBlocks_argsTupleScheme extends TupleScheme<user_getFileBlocks_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, user_getClientBlockInfo_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, user_getFileBlocks_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
-        if (struct.isSetBlockId()) {
+        if (struct.isSetFileId()) {
           optionals.set(0);
         }
-        oprot.writeBitSet(optionals, 1);
-        if (struct.isSetBlockId()) {
-          oprot.writeI64(struct.blockId);
+        if (struct.isSetPath()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetFileId()) {
+          oprot.writeI32(struct.fileId);
+        }
+        if (struct.isSetPath()) {
+          oprot.writeString(struct.path);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, user_getClientBlockInfo_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, user_getFileBlocks_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
-        BitSet incoming = iprot.readBitSet(1);
+        BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
-          struct.blockId = iprot.readI64();
-          struct.setBlockIdIsSet(true);
+          struct.fileId = iprot.readI32();
+          struct.setFileIdIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.path = iprot.readString();
+          struct.setPathIsSet(true);
         }
       }
     }
 
   }
 
-  public static class user_getClientBlockInfo_result implements org.apache.thrift.TBase<user_getClientBlockInfo_result, user_getClientBlockInfo_result._Fields>, java.io.Serializable, Cloneable, Comparable<user_getClientBlockInfo_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("user_getClientBlockInfo_result");
+  public static class user_getFileBlocks_result implements org.apache.thrift.TBase<user_getFileBlocks_result, user_getFileBlocks_result._Fields>, java.io.Serializable, Cloneable, Comparable<user_getFileBlocks_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("user_getFileBlocks_result");
 
-    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.LIST, (short)0);
     private static final org.apache.thrift.protocol.TField E_F_FIELD_DESC = new org.apache.thrift.protocol.TField("eF", org.apache.thrift.protocol.TType.STRUCT, (short)1);
-    private static final org.apache.thrift.protocol.TField E_B_FIELD_DESC = new org.apache.thrift.protocol.TField("eB", org.apache.thrift.protocol.TType.STRUCT, (short)2);
+    private static final org.apache.thrift.protocol.TField E_I_FIELD_DESC = new org.apache.thrift.protocol.TField("eI", org.apache.thrift.protocol.TType.STRUCT, (short)2);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new user_getClientBlockInfo_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new user_getClientBlockInfo_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new user_getFileBlocks_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new user_getFileBlocks_resultTupleSchemeFactory());
     }
 
-    public ClientBlockInfo success; // required
+    public List<ClientBlockInfo> success; // required
     public FileDoesNotExistException eF; // required
-    public BlockInfoException eB; // required
+    public InvalidPathException eI; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
       SUCCESS((short)0, "success"),
       E_F((short)1, "eF"),
-      E_B((short)2, "eB");
+      E_I((short)2, "eI");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -24216,8 +28272,8 @@ public class MasterService {
             return SUCCESS;
           case 1: // E_F
             return E_F;
-          case 2: // E_B
-            return E_B;
+          case 2: // E_I
+            return E_I;
           default:
             return null;
         }
@@ -24262,60 +28318,80 @@ public class MasterService {
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, ClientBlockInfo.class)));
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, ClientBlockInfo.class))));
       tmpMap.put(_Fields.E_F, new org.apache.thrift.meta_data.FieldMetaData("eF", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
-      tmpMap.put(_Fields.E_B, new org.apache.thrift.meta_data.FieldMetaData("eB", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+      tmpMap.put(_Fields.E_I, new org.apache.thrift.meta_data.FieldMetaData("eI", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(user_getClientBlockInfo_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(user_getFileBlocks_result.class, metaDataMap);
     }
 
-    public user_getClientBlockInfo_result() {
+    public user_getFileBlocks_result() {
     }
 
-    public user_getClientBlockInfo_result(
-      ClientBlockInfo success,
+    public user_getFileBlocks_result(
+      List<ClientBlockInfo> success,
       FileDoesNotExistException eF,
-      BlockInfoException eB)
+      InvalidPathException eI)
     {
       this();
       this.success = success;
       this.eF = eF;
-      this.eB = eB;
+      this.eI = eI;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public user_getClientBlockInfo_result(user_getClientBlockInfo_result other) {
+    public user_getFileBlocks_result(user_getFileBlocks_result other) {
       if (other.isSetSuccess()) {
-        this.success = new ClientBlockInfo(other.success);
+        List<ClientBlockInfo> __this__success = new ArrayList<ClientBlockInfo>(other.success.size());
+        for (ClientBlockInfo other_element : other.success) {
+          __this__success.add(new ClientBlockInfo(other_element));
+        }
+        this.success = __this__success;
       }
       if (other.isSetEF()) {
         this.eF = new FileDoesNotExistException(other.eF);
       }
-      if (other.isSetEB()) {
-        this.eB = new BlockInfoException(other.eB);
+      if (other.isSetEI()) {
+        this.eI = new InvalidPathException(other.eI);
       }
     }
 
-    public user_getClientBlockInfo_result deepCopy() {
-      return new user_getClientBlockInfo_result(this);
+    public user_getFileBlocks_result deepCopy() {
+      return new user_getFileBlocks_result(this);
     }
 
     @Override
     public void clear() {
       this.success = null;
       this.eF = null;
-      this.eB = null;
+      this.eI = null;
     }
 
-    public ClientBlockInfo getSuccess() {
+    public int getSuccessSize() {
+      return (this.success == null) ? 0 : this.success.size();
+    }
+
+    public java.util.Iterator<ClientBlockInfo> getSuccessIterator() {
+      return (this.success == null) ? null : this.success.iterator();
+    }
+
+    public void addToSuccess(ClientBlockInfo elem) {
+      if (this.success == null) {
+        this.success = new ArrayList<ClientBlockInfo>();
+      }
+      this.success.add(elem);
+    }
+
+    public List<ClientBlockInfo> getSuccess() {
       return this.success;
     }
 
-    public user_getClientBlockInfo_result setSuccess(ClientBlockInfo success) {
+    public user_getFileBlocks_result setSuccess(List<ClientBlockInfo> success) {
       this.success = success;
       return this;
     }
@@ -24339,7 +28415,7 @@ public class MasterService {
       return this.eF;
     }
 
-    public user_getClientBlockInfo_result setEF(FileDoesNotExistException eF) {
+    public user_getFileBlocks_result setEF(FileDoesNotExistException eF) {
       this.eF = eF;
       return this;
     }
@@ -24359,27 +28435,27 @@ public class MasterService {
       }
     }
 
-    public BlockInfoException getEB() {
-      return this.eB;
+    public InvalidPathException getEI() {
+      return this.eI;
     }
 
-    public user_getClientBlockInfo_result setEB(BlockInfoException eB) {
-      this.eB = eB;
+    public user_getFileBlocks_result setEI(InvalidPathException eI) {
+      this.eI = eI;
       return this;
     }
 
-    public void unsetEB() {
-      this.eB = null;
+    public void unsetEI() {
+      this.eI = null;
     }
 
-    /** Returns true if field eB is set (has been assigned a value) and false otherwise */
-    public boolean isSetEB() {
-      return this.eB != null;
+    /** Returns true if field eI is set (has been assigned a value) and false otherwise */
+    public boolean isSetEI() {
+      return this.eI != null;
     }
 
-    public void setEBIsSet(boolean value) {
+    public void setEIIsSet(boolean value) {
       if (!value) {
-        this.eB = null;
+        this.eI = null;
       }
     }
 
@@ -24389,7 +28465,7 @@ public class MasterService {
         if (value == null) {
           unsetSuccess();
         } else {
-          setSuccess((ClientBlockInfo)value);
+          setSuccess((List<ClientBlockInfo>)value);
         }
         break;
 
@@ -24401,11 +28477,11 @@ public class MasterService {
         }
         break;
 
-      case E_B:
+      case E_I:
         if (value == null) {
-          unsetEB();
+          unsetEI();
         } else {
-          setEB((BlockInfoException)value);
+          setEI((InvalidPathException)value);
         }
         break;
 
@@ -24420,8 +28496,8 @@ public class MasterService {
       case E_F:
         return getEF();
 
-      case E_B:
-        return getEB();
+      case E_I:
+        return getEI();
 
       }
       throw new IllegalStateException();
@@ -24438,8 +28514,8 @@ public class MasterService {
         return isSetSuccess();
       case E_F:
         return isSetEF();
-      case E_B:
-        return isSetEB();
+      case E_I:
+        return isSetEI();
       }
       throw new IllegalStateException();
     }
@@ -24448,12 +28524,12 @@ public class MasterService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof user_getClientBlockInfo_result)
-        return this.equals((user_getClientBlockInfo_result)that);
+      if (that instanceof user_getFileBlocks_result)
+        return this.equals((user_getFileBlocks_result)that);
       return false;
     }
 
-    public boolean equals(user_getClientBlockInfo_result that) {
+    public boolean equals(user_getFileBlocks_result that) {
       if (that == null)
         return false;
 
@@ -24475,12 +28551,12 @@ public class MasterService {
           return false;
       }
 
-      boolean this_present_eB = true && this.isSetEB();
-      boolean that_present_eB = true && that.isSetEB();
-      if (this_present_eB || that_present_eB) {
-        if (!(this_present_eB && that_present_eB))
+      boolean this_present_eI = true && this.isSetEI();
+      boolean that_present_eI = true && that.isSetEI();
+      if (this_present_eI || that_present_eI) {
+        if (!(this_present_eI && that_present_eI))
           return false;
-        if (!this.eB.equals(that.eB))
+        if (!this.eI.equals(that.eI))
           return false;
       }
 
@@ -24493,7 +28569,7 @@ public class MasterService {
     }
 
     @Override
-    public int compareTo(user_getClientBlockInfo_result other) {
+    public int compareTo(user_getFileBlocks_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -24520,12 +28596,12 @@ public class MasterService {
           return lastComparison;
         }
       }
-      lastComparison = Boolean.valueOf(isSetEB()).compareTo(other.isSetEB());
+      lastComparison = Boolean.valueOf(isSetEI()).compareTo(other.isSetEI());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetEB()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.eB, other.eB);
+      if (isSetEI()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.eI, other.eI);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -24547,7 +28623,7 @@ public class MasterService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("user_getClientBlockInfo_result(");
+      StringBuilder sb = new StringBuilder("user_getFileBlocks_result(");
       boolean first = true;
 
       sb.append("success:");
@@ -24566,11 +28642,11 @@ public class MasterService {
       }
       first = false;
       if (!first) sb.append(", ");
-      sb.append("eB:");
-      if (this.eB == null) {
+      sb.append("eI:");
+      if (this.eI == null) {
         sb.append("null");
       } else {
-        sb.append(this.eB);
+        sb.append(this.eI);
       }
       first = false;
       sb.append(")");
@@ -24580,9 +28656,6 @@ public class MasterService {
     public void validate() throws org.apache.thrift.TException {
       // check for required fields
       // check for sub-struct validity
-      if (success != null) {
-        success.validate();
-      }
     }
 
     private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
@@ -24601,15 +28674,15 @@ public class MasterService {
       }
     }
 
-    private static class user_getClientBlockInfo_resultStandardSchemeFactory implements SchemeFactory {
-      public user_getClientBlockInfo_resultStandardScheme getScheme() {
-        return new user_getClientBlockInfo_resultStandardScheme();
+    private static class user_getFileBlocks_resultStandardSchemeFactory implements SchemeFactory {
+      public user_getFileBlocks_resultStandardScheme getScheme() {
+        return new user_getFileBlocks_resultStandardScheme();
       }
     }
 
-    private static class user_getClientBlockInfo_resultStandardScheme extends StandardScheme<user_getClientBlockInfo_result> {
+    private static class user_getFileBlocks_resultStandardScheme extends StandardScheme<user_getFileBlocks_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, user_getClientBlockInfo_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, user_getFileBlocks_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -24620,9 +28693,19 @@ public class MasterService {
           }
           switch (schemeField.id) {
             case 0: // SUCCESS
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.success = new ClientBlockInfo();
-                struct.success.read(iprot);
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list214 = iprot.readListBegin();
+                  struct.success = new ArrayList<ClientBlockInfo>(_list214.size);
+                  for (int _i215 = 0; _i215 < _list214.size; ++_i215)
+                  {
+                    ClientBlockInfo _elem216;
+                    _elem216 = new ClientBlockInfo();
+                    _elem216.read(iprot);
+                    struct.success.add(_elem216);
+                  }
+                  iprot.readListEnd();
+                }
                 struct.setSuccessIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
@@ -24637,11 +28720,11 @@ public class MasterService {
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
-            case 2: // E_B
+            case 2: // E_I
               if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.eB = new BlockInfoException();
-                struct.eB.read(iprot);
-                struct.setEBIsSet(true);
+                struct.eI = new InvalidPathException();
+                struct.eI.read(iprot);
+                struct.setEIIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -24657,13 +28740,20 @@ public class MasterService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, user_getClientBlockInfo_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, user_getFileBlocks_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
         if (struct.success != null) {
           oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
-          struct.success.write(oprot);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, struct.success.size()));
+            for (ClientBlockInfo _iter217 : struct.success)
+            {
+              _iter217.write(oprot);
+            }
+            oprot.writeListEnd();
+          }
           oprot.writeFieldEnd();
         }
         if (struct.eF != null) {
@@ -24671,9 +28761,9 @@ public class MasterService {
           struct.eF.write(oprot);
           oprot.writeFieldEnd();
         }
-        if (struct.eB != null) {
-          oprot.writeFieldBegin(E_B_FIELD_DESC);
-          struct.eB.write(oprot);
+        if (struct.eI != null) {
+          oprot.writeFieldBegin(E_I_FIELD_DESC);
+          struct.eI.write(oprot);
           oprot.writeFieldEnd();
         }
         oprot.writeFieldStop();
@@ -24682,16 +28772,16 @@ public class MasterService {
 
     }
 
-    private static class user_getClientBlockInfo_resultTupleSchemeFactory implements SchemeFactory {
-      public user_getClientBlockInfo_resultTupleScheme getScheme() {
-        return new user_getClientBlockInfo_resultTupleScheme();
+    private static class user_getFileBlocks_resultTupleSchemeFactory implements SchemeFactory {
+      public user_getFileBlocks_resultTupleScheme getScheme() {
+        return new user_getFileBlocks_resultTupleScheme();
       }
     }
 
-    private static class user_getClientBlockInfo_resultTupleScheme extends TupleScheme<user_getClientBlockInfo_result> {
+    private static class user_getFileBlocks_resultTupleScheme extends TupleScheme<user_getFileBlocks_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, user_getClientBlockInfo_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, user_getFileBlocks_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetSuccess()) {
@@ -24700,28 +28790,43 @@ public class MasterService {
         if (struct.isSetEF()) {
           optionals.set(1);
         }
-        if (struct.isSetEB()) {
+        if (struct.isSetEI()) {
           optionals.set(2);
         }
         oprot.writeBitSet(optionals, 3);
         if (struct.isSetSuccess()) {
-          struct.success.write(oprot);
+          {
+            oprot.writeI32(struct.success.size());
+            for (ClientBlockInfo _iter218 : struct.success)
+            {
+              _iter218.write(oprot);
+            }
+          }
         }
         if (struct.isSetEF()) {
           struct.eF.write(oprot);
         }
-        if (struct.isSetEB()) {
-          struct.eB.write(oprot);
+        if (struct.isSetEI()) {
+          struct.eI.write(oprot);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, user_getClientBlockInfo_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, user_getFileBlocks_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(3);
         if (incoming.get(0)) {
-          struct.success = new ClientBlockInfo();
-          struct.success.read(iprot);
+          {
+            org.apache.thrift.protocol.TList _list219 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
+            struct.success = new ArrayList<ClientBlockInfo>(_list219.size);
+            for (int _i220 = 0; _i220 < _list219.size; ++_i220)
+            {
+              ClientBlockInfo _elem221;
+              _elem221 = new ClientBlockInfo();
+              _elem221.read(iprot);
+              struct.success.add(_elem221);
+            }
+          }
           struct.setSuccessIsSet(true);
         }
         if (incoming.get(1)) {
@@ -24730,34 +28835,37 @@ public class MasterService {
           struct.setEFIsSet(true);
         }
         if (incoming.get(2)) {
-          struct.eB = new BlockInfoException();
-          struct.eB.read(iprot);
-          struct.setEBIsSet(true);
+          struct.eI = new InvalidPathException();
+          struct.eI.read(iprot);
+          struct.setEIIsSet(true);
         }
       }
     }
 
   }
 
-  public static class user_getFileBlocks_args implements org.apache.thrift.TBase<user_getFileBlocks_args, user_getFileBlocks_args._Fields>, java.io.Serializable, Cloneable, Comparable<user_getFileBlocks_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("user_getFileBlocks_args");
+  public static class user_delete_args implements org.apache.thrift.TBase<user_delete_args, user_delete_args._Fields>, java.io.Serializable, Cloneable, Comparable<user_delete_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("user_delete_args");
 
     private static final org.apache.thrift.protocol.TField FILE_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("fileId", org.apache.thrift.protocol.TType.I32, (short)1);
     private static final org.apache.thrift.protocol.TField PATH_FIELD_DESC = new org.apache.thrift.protocol.TField("path", org.apache.thrift.protocol.TType.STRING, (short)2);
+    private static final org.apache.thrift.protocol.TField RECURSIVE_FIELD_DESC = new org.apache.thrift.protocol.TField("recursive", org.apache.thrift.protocol.TType.BOOL, (short)3);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new user_getFileBlocks_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new user_getFileBlocks_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new user_delete_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new user_delete_argsTupleSchemeFactory());
     }
 
     public int fileId; // required
     public String path; // required
+    public boolean recursive; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
       FILE_ID((short)1, "fileId"),
-      PATH((short)2, "path");
+      PATH((short)2, "path"),
+      RECURSIVE((short)3, "recursive");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -24776,6 +28884,8 @@ public class MasterService {
             return FILE_ID;
           case 2: // PATH
             return PATH;
+          case 3: // RECURSIVE
+            return RECURSIVE;
           default:
             return null;
         }
@@ -24817,6 +28927,7 @@ public class MasterService {
 
     // isset id assignments
     private static final int __FILEID_ISSET_ID = 0;
+    private static final int __RECURSIVE_ISSET_ID = 1;
     private byte __isset_bitfield = 0;
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
@@ -24825,36 +28936,42 @@ public class MasterService {
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
       tmpMap.put(_Fields.PATH, new org.apache.thrift.meta_data.FieldMetaData("path", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.RECURSIVE, new org.apache.thrift.meta_data.FieldMetaData("recursive", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.BOOL)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(user_getFileBlocks_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(user_delete_args.class, metaDataMap);
     }
 
-    public user_getFileBlocks_args() {
+    public user_delete_args() {
     }
 
-    public user_getFileBlocks_args(
+    public user_delete_args(
       int fileId,
-      String path)
+      String path,
+      boolean recursive)
     {
       this();
       this.fileId = fileId;
       setFileIdIsSet(true);
       this.path = path;
+      this.recursive = recursive;
+      setRecursiveIsSet(true);
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public user_getFileBlocks_args(user_getFileBlocks_args other) {
+    public user_delete_args(user_delete_args other) {
       __isset_bitfield = other.__isset_bitfield;
       this.fileId = other.fileId;
       if (other.isSetPath()) {
         this.path = other.path;
       }
+      this.recursive = other.recursive;
     }
 
-    public user_getFileBlocks_args deepCopy() {
-      return new user_getFileBlocks_args(this);
+    public user_delete_args deepCopy() {
+      return new user_delete_args(this);
     }
 
     @Override
@@ -24862,13 +28979,15 @@ public class MasterService {
       setFileIdIsSet(false);
       this.fileId = 0;
       this.path = null;
+      setRecursiveIsSet(false);
+      this.recursive = false;
     }
 
     public int getFileId() {
       return this.fileId;
     }
 
-    public user_getFileBlocks_args setFileId(int fileId) {
+    public user_delete_args setFileId(int fileId) {
       this.fileId = fileId;
       setFileIdIsSet(true);
       return this;
@@ -24891,7 +29010,7 @@ public class MasterService {
       return this.path;
     }
 
-    public user_getFileBlocks_args setPath(String path) {
+    public user_delete_args setPath(String path) {
       this.path = path;
       return this;
     }
@@ -24911,6 +29030,29 @@ public class MasterService {
       }
     }
 
+    public boolean isRecursive() {
+      return this.recursive;
+    }
+
+    public user_delete_args setRecursive(boolean recursive) {
+      this.recursive = recursive;
+      setRecursiveIsSet(true);
+      return this;
+    }
+
+    public void unsetRecursive() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __RECURSIVE_ISSET_ID);
+    }
+
+    /** Returns true if field recursive is set (has been assigned a value) and false otherwise */
+    public boolean isSetRecursive() {
+      return EncodingUtils.testBit(__isset_bitfield, __RECURSIVE_ISSET_ID);
+    }
+
+    public void setRecursiveIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __RECURSIVE_ISSET_ID, value);
+    }
+
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
       case FILE_ID:
@@ -24929,6 +29071,14 @@ public class MasterService {
         }
         break;
 
+      case RECURSIVE:
+        if (value == null) {
+          unsetRecursive();
+        } else {
+          setRecursive((Boolean)value);
+        }
+        break;
+
       }
     }
 
@@ -24940,6 +29090,9 @@ public class MasterService {
       case PATH:
         return getPath();
 
+      case RECURSIVE:
+        return Boolean.valueOf(isRecursive());
+
       }
       throw new IllegalStateException();
     }
@@ -24955,6 +29108,8 @@ public class MasterService {
         return isSetFileId();
       case PATH:
         return isSetPath();
+      case RECURSIVE:
+        return isSetRecursive();
       }
       throw new IllegalStateException();
     }
@@ -24963,12 +29118,12 @@ public class MasterService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof user_getFileBlocks_args)
-        return this.equals((user_getFileBlocks_args)that);
+      if (that instanceof user_delete_args)
+        return this.equals((user_delete_args)that);
       return false;
     }
 
-    public boolean equals(user_getFileBlocks_args that) {
+    public boolean equals(user_delete_args that) {
       if (that == null)
         return false;
 
@@ -24990,6 +29145,15 @@ public class MasterService {
           return false;
       }
 
+      boolean this_present_recursive = true;
+      boolean that_present_recursive = true;
+      if (this_present_recursive || that_present_recursive) {
+        if (!(this_present_recursive && that_present_recursive))
+          return false;
+        if (this.recursive != that.recursive)
+          return false;
+      }
+
       return true;
     }
 
@@ -24999,7 +29163,7 @@ public class MasterService {
     }
 
     @Override
-    public int compareTo(user_getFileBlocks_args other) {
+    public int compareTo(user_delete_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -25026,6 +29190,16 @@ public class MasterService {
           return lastComparison;
         }
       }
+      lastComparison = Boolean.valueOf(isSetRecursive()).compareTo(other.isSetRecursive());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetRecursive()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.recursive, other.recursive);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
       return 0;
     }
 
@@ -25043,7 +29217,7 @@ public class MasterService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("user_getFileBlocks_args(");
+      StringBuilder sb = new StringBuilder("user_delete_args(");
       boolean first = true;
 
       sb.append("fileId:");
@@ -25057,6 +29231,10 @@ public class MasterService {
         sb.append(this.path);
       }
       first = false;
+      if (!first) sb.append(", ");
+      sb.append("recursive:");
+      sb.append(this.recursive);
+      first = false;
       sb.append(")");
       return sb.toString();
     }
@@ -25084,15 +29262,15 @@ public class MasterService {
       }
     }
 
-    private static class user_getFileBlocks_argsStandardSchemeFactory implements SchemeFactory {
-      public user_getFileBlocks_argsStandardScheme getScheme() {
-        return new user_getFileBlocks_argsStandardScheme();
+    private static class user_delete_argsStandardSchemeFactory implements SchemeFactory {
+      public user_delete_argsStandardScheme getScheme() {
+        return new user_delete_argsStandardScheme();
       }
     }
 
-    private static class user_getFileBlocks_argsStandardScheme extends StandardScheme<user_getFileBlocks_args> {
+    private static class user_delete_argsStandardScheme extends StandardScheme<user_delete_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, user_getFileBlocks_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, user_delete_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -25118,6 +29296,14 @@ public class MasterService {
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
+            case 3: // RECURSIVE
+              if (schemeField.type == org.apache.thrift.protocol.TType.BOOL) {
+                struct.recursive = iprot.readBool();
+                struct.setRecursiveIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
             default:
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
           }
@@ -25129,7 +29315,7 @@ public class MasterService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, user_getFileBlocks_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, user_delete_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -25141,22 +29327,25 @@ public class MasterService {
           oprot.writeString(struct.path);
           oprot.writeFieldEnd();
         }
+        oprot.writeFieldBegin(RECURSIVE_FIELD_DESC);
+        oprot.writeBool(struct.recursive);
+        oprot.writeFieldEnd();
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
 
     }
 
-    private static class user_getFileBlocks_argsTupleSchemeFactory implements SchemeFactory {
-      public user_getFileBlocks_argsTupleScheme getScheme() {
-        return new user_getFileBlocks_argsTupleScheme();
+    private static class user_delete_argsTupleSchemeFactory implements SchemeFactory {
+      public user_delete_argsTupleScheme getScheme() {
+        return new user_delete_argsTupleScheme();
       }
     }
 
-    private static class user_getFileBlocks_argsTupleScheme extends TupleScheme<user_getFileBlocks_args> {
+    private static class user_delete_argsTupleScheme extends TupleScheme<user_delete_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, user_getFileBlocks_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, user_delete_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetFileId()) {
@@ -25165,19 +29354,25 @@ public class MasterService {
         if (struct.isSetPath()) {
           optionals.set(1);
         }
-        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetRecursive()) {
+          optionals.set(2);
+        }
+        oprot.writeBitSet(optionals, 3);
         if (struct.isSetFileId()) {
           oprot.writeI32(struct.fileId);
         }
         if (struct.isSetPath()) {
           oprot.writeString(struct.path);
         }
+        if (struct.isSetRecursive()) {
+          oprot.writeBool(struct.recursive);
+        }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, user_getFileBlocks_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, user_delete_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
-        BitSet incoming = iprot.readBitSet(2);
+        BitSet incoming = iprot.readBitSet(3);
         if (incoming.get(0)) {
           struct.fileId = iprot.readI32();
           struct.setFileIdIsSet(true);
@@ -25186,33 +29381,34 @@ public class MasterService {
           struct.path = iprot.readString();
           struct.setPathIsSet(true);
         }
+        if (incoming.get(2)) {
+          struct.recursive = iprot.readBool();
+          struct.setRecursiveIsSet(true);
+        }
       }
     }
 
   }
 
-  public static class user_getFileBlocks_result implements org.apache.thrift.TBase<user_getFileBlocks_result, user_getFileBlocks_result._Fields>, java.io.Serializable, Cloneable, Comparable<user_getFileBlocks_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("user_getFileBlocks_result");
+  public static class user_delete_result implements org.apache.thrift.TBase<user_delete_result, user_delete_result._Fields>, java.io.Serializable, Cloneable, Comparable<user_delete_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("user_delete_result");
 
-    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.LIST, (short)0);
-    private static final org.apache.thrift.protocol.TField E_F_FIELD_DESC = new org.apache.thrift.protocol.TField("eF", org.apache.thrift.protocol.TType.STRUCT, (short)1);
-    private static final org.apache.thrift.protocol.TField E_I_FIELD_DESC = new org.apache.thrift.protocol.TField("eI", org.apache.thrift.protocol.TType.STRUCT, (short)2);
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.BOOL, (short)0);
+    private static final org.apache.thrift.protocol.TField E_FIELD_DESC = new org.apache.thrift.protocol.TField("e", org.apache.thrift.protocol.TType.STRUCT, (short)1);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new user_getFileBlocks_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new user_getFileBlocks_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new user_delete_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new user_delete_resultTupleSchemeFactory());
     }
 
-    public List<ClientBlockInfo> success; // required
-    public FileDoesNotExistException eF; // required
-    public InvalidPathException eI; // required
+    public boolean success; // required
+    public TachyonException e; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
       SUCCESS((short)0, "success"),
-      E_F((short)1, "eF"),
-      E_I((short)2, "eI");
+      E((short)1, "e");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -25229,10 +29425,8 @@ public class MasterService {
         switch(fieldId) {
           case 0: // SUCCESS
             return SUCCESS;
-          case 1: // E_F
-            return E_F;
-          case 2: // E_I
-            return E_I;
+          case 1: // E
+            return E;
           default:
             return null;
         }
@@ -25273,148 +29467,98 @@ public class MasterService {
     }
 
     // isset id assignments
+    private static final int __SUCCESS_ISSET_ID = 0;
+    private byte __isset_bitfield = 0;
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
-              new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, ClientBlockInfo.class))));
-      tmpMap.put(_Fields.E_F, new org.apache.thrift.meta_data.FieldMetaData("eF", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
-      tmpMap.put(_Fields.E_I, new org.apache.thrift.meta_data.FieldMetaData("eI", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.BOOL)));
+      tmpMap.put(_Fields.E, new org.apache.thrift.meta_data.FieldMetaData("e", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(user_getFileBlocks_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(user_delete_result.class, metaDataMap);
     }
 
-    public user_getFileBlocks_result() {
+    public user_delete_result() {
     }
 
-    public user_getFileBlocks_result(
-      List<ClientBlockInfo> success,
-      FileDoesNotExistException eF,
-      InvalidPathException eI)
+    public user_delete_result(
+      boolean success,
+      TachyonException e)
     {
       this();
       this.success = success;
-      this.eF = eF;
-      this.eI = eI;
+      setSuccessIsSet(true);
+      this.e = e;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public user_getFileBlocks_result(user_getFileBlocks_result other) {
-      if (other.isSetSuccess()) {
-        List<ClientBlockInfo> __this__success = new ArrayList<ClientBlockInfo>(other.success.size());
-        for (ClientBlockInfo other_element : other.success) {
-          __this__success.add(new ClientBlockInfo(other_element));
-        }
-        this.success = __this__success;
-      }
-      if (other.isSetEF()) {
-        this.eF = new FileDoesNotExistException(other.eF);
-      }
-      if (other.isSetEI()) {
-        this.eI = new InvalidPathException(other.eI);
+    public user_delete_result(user_delete_result other) {
+      __isset_bitfield = other.__isset_bitfield;
+      this.success = other.success;
+      if (other.isSetE()) {
+        this.e = new TachyonException(other.e);
       }
     }
 
-    public user_getFileBlocks_result deepCopy() {
-      return new user_getFileBlocks_result(this);
+    public user_delete_result deepCopy() {
+      return new user_delete_result(this);
     }
 
     @Override
     public void clear() {
-      this.success = null;
-      this.eF = null;
-      this.eI = null;
-    }
-
-    public int getSuccessSize() {
-      return (this.success == null) ? 0 : this.success.size();
-    }
-
-    public java.util.Iterator<ClientBlockInfo> getSuccessIterator() {
-      return (this.success == null) ? null : this.success.iterator();
-    }
-
-    public void addToSuccess(ClientBlockInfo elem) {
-      if (this.success == null) {
-        this.success = new ArrayList<ClientBlockInfo>();
-      }
-      this.success.add(elem);
+      setSuccessIsSet(false);
+      this.success = false;
+      this.e = null;
     }
 
-    public List<ClientBlockInfo> getSuccess() {
+    public boolean isSuccess() {
       return this.success;
     }
 
-    public user_getFileBlocks_result setSuccess(List<ClientBlockInfo> success) {
+    public user_delete_result setSuccess(boolean success) {
       this.success = success;
+      setSuccessIsSet(true);
       return this;
     }
 
     public void unsetSuccess() {
-      this.success = null;
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __SUCCESS_ISSET_ID);
     }
 
     /** Returns true if field success is set (has been assigned a value) and false otherwise */
     public boolean isSetSuccess() {
-      return this.success != null;
+      return EncodingUtils.testBit(__isset_bitfield, __SUCCESS_ISSET_ID);
     }
 
     public void setSuccessIsSet(boolean value) {
-      if (!value) {
-        this.success = null;
-      }
-    }
-
-    public FileDoesNotExistException getEF() {
-      return this.eF;
-    }
-
-    public user_getFileBlocks_result setEF(FileDoesNotExistException eF) {
-      this.eF = eF;
-      return this;
-    }
-
-    public void unsetEF() {
-      this.eF = null;
-    }
-
-    /** Returns true if field eF is set (has been assigned a value) and false otherwise */
-    public boolean isSetEF() {
-      return this.eF != null;
-    }
-
-    public void setEFIsSet(boolean value) {
-      if (!value) {
-        this.eF = null;
-      }
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __SUCCESS_ISSET_ID, value);
     }
 
-    public InvalidPathException getEI() {
-      return this.eI;
+    public TachyonException getE() {
+      return this.e;
     }
 
-    public user_getFileBlocks_result setEI(InvalidPathException eI) {
-      this.eI = eI;
+    public user_delete_result setE(TachyonException e) {
+      this.e = e;
       return this;
     }
 
-    public void unsetEI() {
-      this.eI = null;
+    public void unsetE() {
+      this.e = null;
     }
 
-    /** Returns true if field eI is set (has been assigned a value) and false otherwise */
-    public boolean isSetEI() {
-      return this.eI != null;
+    /** Returns true if field e is set (has been assigned a value) and false otherwise */
+    public boolean isSetE() {
+      return this.e != null;
     }
 
-    public void setEIIsSet(boolean value) {
+    public void setEIsSet(boolean value) {
       if (!value) {
-        this.eI = null;
+        this.e = null;
       }
     }
 
@@ -25424,23 +29568,15 @@ public class MasterService {
         if (value == null) {
           unsetSuccess();
         } else {
-          setSuccess((List<ClientBlockInfo>)value);
-        }
-        break;
-
-      case E_F:
-        if (value == null) {
-          unsetEF();
-        } else {
-          setEF((FileDoesNotExistException)value);
+          setSuccess((Boolean)value);
         }
         break;
 
-      case E_I:
+      case E:
         if (value == null) {
-          unsetEI();
+          unsetE();
         } else {
-          setEI((InvalidPathException)value);
+          setE((TachyonException)value);
         }
         break;
 
@@ -25450,13 +29586,10 @@ public class MasterService {
     public Object getFieldValue(_Fields field) {
       switch (field) {
       case SUCCESS:
-        return getSuccess();
-
-      case E_F:
-        return getEF();
+        return Boolean.valueOf(isSuccess());
 
-      case E_I:
-        return getEI();
+      case E:
+        return getE();
 
       }
       throw new IllegalStateException();
@@ -25471,10 +29604,8 @@ public class MasterService {
       switch (field) {
       case SUCCESS:
         return isSetSuccess();
-      case E_F:
-        return isSetEF();
-      case E_I:
-        return isSetEI();
+      case E:
+        return isSetE();
       }
       throw new IllegalStateException();
     }
@@ -25483,39 +29614,30 @@ public class MasterService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof user_getFileBlocks_result)
-        return this.equals((user_getFileBlocks_result)that);
+      if (that instanceof user_delete_result)
+        return this.equals((user_delete_result)that);
       return false;
     }
 
-    public boolean equals(user_getFileBlocks_result that) {
+    public boolean equals(user_delete_result that) {
       if (that == null)
         return false;
 
-      boolean this_present_success = true && this.isSetSuccess();
-      boolean that_present_success = true && that.isSetSuccess();
+      boolean this_present_success = true;
+      boolean that_present_success = true;
       if (this_present_success || that_present_success) {
         if (!(this_present_success && that_present_success))
           return false;
-        if (!this.success.equals(that.success))
-          return false;
-      }
-
-      boolean this_present_eF = true && this.isSetEF();
-      boolean that_present_eF = true && that.isSetEF();
-      if (this_present_eF || that_present_eF) {
-        if (!(this_present_eF && that_present_eF))
-          return false;
-        if (!this.eF.equals(that.eF))
+        if (this.success != that.success)
           return false;
       }
 
-      boolean this_present_eI = true && this.isSetEI();
-      boolean that_present_eI = true && that.isSetEI();
-      if (this_present_eI || that_present_eI) {
-        if (!(this_present_eI && that_present_eI))
+      boolean this_present_e = true && this.isSetE();
+      boolean that_present_e = true && that.isSetE();
+      if (this_present_e || that_present_e) {
+        if (!(this_present_e && that_present_e))
           return false;
-        if (!this.eI.equals(that.eI))
+        if (!this.e.equals(that.e))
           return false;
       }
 
@@ -25528,7 +29650,7 @@ public class MasterService {
     }
 
     @Override
-    public int compareTo(user_getFileBlocks_result other) {
+    public int compareTo(user_delete_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -25545,22 +29667,12 @@ public class MasterService {
           return lastComparison;
         }
       }
-      lastComparison = Boolean.valueOf(isSetEF()).compareTo(other.isSetEF());
-      if (lastComparison != 0) {
-        return lastComparison;
-      }
-      if (isSetEF()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.eF, other.eF);
-        if (lastComparison != 0) {
-          return lastComparison;
-        }
-      }
-      lastComparison = Boolean.valueOf(isSetEI()).compareTo(other.isSetEI());
+      lastComparison = Boolean.valueOf(isSetE()).compareTo(other.isSetE());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetEI()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.eI, other.eI);
+      if (isSetE()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.e, other.e);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -25582,30 +29694,18 @@ public class MasterService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("user_getFileBlocks_result(");
-      boolean first = true;
-
-      sb.append("success:");
-      if (this.success == null) {
-        sb.append("null");
-      } else {
-        sb.append(this.success);
-      }
-      first = false;
-      if (!first) sb.append(", ");
-      sb.append("eF:");
-      if (this.eF == null) {
-        sb.append("null");
-      } else {
-        sb.append(this.eF);
-      }
+      StringBuilder sb = new StringBuilder("user_delete_result(");
+      boolean first = true;
+
+      sb.append("success:");
+      sb.append(this.success);
       first = false;
       if (!first) sb.append(", ");
-      sb.append("eI:");
-      if (this.eI == null) {
+      sb.append("e:");
+      if (this.e == null) {
         sb.append("null");
       } else {
-        sb.append(this.eI);
+        sb.append(this.e);
       }
       first = false;
       sb.append(")");
@@ -25627,21 +29727,23 @@ public class MasterService {
 
     private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
       try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bitfield = 0;
         read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
       } catch (org.apache.thrift.TException te) {
         throw new java.io.IOException(te);
       }
     }
 
-    private static class user_getFileBlocks_resultStandardSchemeFactory implements SchemeFactory {
-      public user_getFileBlocks_resultStandardScheme getScheme() {
-        return new user_getFileBlocks_resultStandardScheme();
+    private static class user_delete_resultStandardSchemeFactory implements SchemeFactory {
+      public user_delete_resultStandardScheme getScheme() {
+        return new user_delete_resultStandardScheme();
       }
     }
 
-    private static class user_getFileBlocks_resultStandardScheme extends StandardScheme<user_getFileBlocks_result> {
+    private static class user_delete_resultStandardScheme extends StandardScheme<user_delete_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, user_getFileBlocks_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, user_delete_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -25652,38 +29754,18 @@ public class MasterService {
           }
           switch (schemeField.id) {
             case 0: // SUCCESS
-              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
-                {
-                  org.apache.thrift.protocol.TList _list148 = iprot.readListBegin();
-                  struct.success = new ArrayList<ClientBlockInfo>(_list148.size);
-                  for (int _i149 = 0; _i149 < _list148.size; ++_i149)
-                  {
-                    ClientBlockInfo _elem150;
-                    _elem150 = new ClientBlockInfo();
-                    _elem150.read(iprot);
-                    struct.success.add(_elem150);
-                  }
-                  iprot.readListEnd();
-                }
+              if (schemeField.type == org.apache.thrift.protocol.TType.BOOL) {
+                struct.success = iprot.readBool();
                 struct.setSuccessIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
-            case 1: // E_F
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.eF = new FileDoesNotExistException();
-                struct.eF.read(iprot);
-                struct.setEFIsSet(true);
-              } else { 
-                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
-              }
-              break;
-            case 2: // E_I
+            case 1: // E
               if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.eI = new InvalidPathException();
-                struct.eI.read(iprot);
-                struct.setEIIsSet(true);
+                struct.e = new TachyonException();
+                struct.e.read(iprot);
+                struct.setEIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -25699,30 +29781,18 @@ public class MasterService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, user_getFileBlocks_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, user_delete_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        if (struct.success != null) {
+        if (struct.isSetSuccess()) {
           oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
-          {
-            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, struct.success.size()));
-            for (ClientBlockInfo _iter151 : struct.success)
-            {
-              _iter151.write(oprot);
-            }
-            oprot.writeListEnd();
-          }
-          oprot.writeFieldEnd();
-        }
-        if (struct.eF != null) {
-          oprot.writeFieldBegin(E_F_FIELD_DESC);
-          struct.eF.write(oprot);
+          oprot.writeBool(struct.success);
           oprot.writeFieldEnd();
         }
-        if (struct.eI != null) {
-          oprot.writeFieldBegin(E_I_FIELD_DESC);
-          struct.eI.write(oprot);
+        if (struct.e != null) {
+          oprot.writeFieldBegin(E_FIELD_DESC);
+          struct.e.write(oprot);
           oprot.writeFieldEnd();
         }
         oprot.writeFieldStop();
@@ -25731,100 +29801,70 @@ public class MasterService {
 
     }
 
-    private static class user_getFileBlocks_resultTupleSchemeFactory implements SchemeFactory {
-      public user_getFileBlocks_resultTupleScheme getScheme() {
-        return new user_getFileBlocks_resultTupleScheme();
+    private static class user_delete_resultTupleSchemeFactory implements SchemeFactory {
+      public user_delete_resultTupleScheme getScheme() {
+        return new user_delete_resultTupleScheme();
       }
     }
 
-    private static class user_getFileBlocks_resultTupleScheme extends TupleScheme<user_getFileBlocks_result> {
+    private static class user_delete_resultTupleScheme extends TupleScheme<user_delete_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, user_getFileBlocks_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, user_delete_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetSuccess()) {
           optionals.set(0);
         }
-        if (struct.isSetEF()) {
+        if (struct.isSetE()) {
           optionals.set(1);
         }
-        if (struct.isSetEI()) {
-          optionals.set(2);
-        }
-        oprot.writeBitSet(optionals, 3);
+        oprot.writeBitSet(optionals, 2);
         if (struct.isSetSuccess()) {
-          {
-            oprot.writeI32(struct.success.size());
-            for (ClientBlockInfo _iter152 : struct.success)
-            {
-              _iter152.write(oprot);
-            }
-          }
-        }
-        if (struct.isSetEF()) {
-          struct.eF.write(oprot);
+          oprot.writeBool(struct.success);
         }
-        if (struct.isSetEI()) {
-          struct.eI.write(oprot);
+        if (struct.isSetE()) {
+          struct.e.write(oprot);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, user_getFileBlocks_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, user_delete_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
-        BitSet incoming = iprot.readBitSet(3);
+        BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
-          {
-            org.apache.thrift.protocol.TList _list153 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
-            struct.success = new ArrayList<ClientBlockInfo>(_list153.size);
-            for (int _i154 = 0; _i154 < _list153.size; ++_i154)
-            {
-              ClientBlockInfo _elem155;
-              _elem155 = new ClientBlockInfo();
-              _elem155.read(iprot);
-              struct.success.add(_elem155);
-            }
-          }
+          struct.success = iprot.readBool();
           struct.setSuccessIsSet(true);
         }
         if (incoming.get(1)) {
-          struct.eF = new FileDoesNotExistException();
-          struct.eF.read(iprot);
-          struct.setEFIsSet(true);
-        }
-        if (incoming.get(2)) {
-          struct.eI = new InvalidPathException();
-          struct.eI.read(iprot);
-          struct.setEIIsSet(true);
+          struct.e = new TachyonException();
+          struct.e.read(iprot);
+          struct.setEIsSet(true);
         }
       }
     }
 
   }
 
-  public static class user_delete_args implements org.apache.thrift.TBase<user_delete_args, user_delete_args._Fields>, java.io.Serializable, Cloneable, Comparable<user_delete_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("user_delete_args");
+  public static class user_deleteBatch_args implements org.apache.thrift.TBase<user_deleteBatch_args, user_deleteBatch_args._Fields>, java.io.Serializable, Cloneable, Comparable<user_deleteBatch_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("user_deleteBatch_args");
 
-    private static final org.apache.thrift.protocol.TField FILE_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("fileId", org.apache.thrift.protocol.TType.I32, (short)1);
-    private static final org.apache.thrift.protocol.TField PATH_FIELD_DESC = new org.apache.thrift.protocol.TField("path", org.apache.thrift.protocol.TType.STRING, (short)2);
-    private static final org.apache.thrift.protocol.TField RECURSIVE_FIELD_DESC = new org.apache.thrift.protocol.TField("recursive", org.apache.thrift.protocol.TType.BOOL, (short)3);
+    private static final org.apache.thrift.protocol.TField PATHS_FIELD_DESC = new org.apache.thrift.protocol.TField("paths", org.apache.thrift.protocol.TType.LIST, (short)1);
+    private static final org.apache.thrift.protocol.TField RECURSIVE_FIELD_DESC = new org.apache.thrift.protocol.TField("recursive", org.apache.thrift.protocol.TType.BOOL, (short)2);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new user_delete_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new user_delete_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new user_deleteBatch_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new user_deleteBatch_argsTupleSchemeFactory());
     }
 
-    public int fileId; // required
-    public String path; // required
+    public List<String> paths; // required
     public boolean recursive; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      FILE_ID((short)1, "fileId"),
-      PATH((short)2, "path"),
-      RECURSIVE((short)3, "recursive");
+      PATHS((short)1, "paths"),
+      RECURSIVE((short)2, "recursive");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -25839,11 +29879,9 @@ public class MasterService {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
-          case 1: // FILE_ID
-            return FILE_ID;
-          case 2: // PATH
-            return PATH;
-          case 3: // RECURSIVE
+          case 1: // PATHS
+            return PATHS;
+          case 2: // RECURSIVE
             return RECURSIVE;
           default:
             return null;
@@ -25885,34 +29923,29 @@ public class MasterService {
     }
 
     // isset id assignments
-    private static final int __FILEID_ISSET_ID = 0;
-    private static final int __RECURSIVE_ISSET_ID = 1;
+    private static final int __RECURSIVE_ISSET_ID = 0;
     private byte __isset_bitfield = 0;
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
-      tmpMap.put(_Fields.FILE_ID, new org.apache.thrift.meta_data.FieldMetaData("fileId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
-      tmpMap.put(_Fields.PATH, new org.apache.thrift.meta_data.FieldMetaData("path", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.PATHS, new org.apache.thrift.meta_data.FieldMetaData("paths", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING))));
       tmpMap.put(_Fields.RECURSIVE, new org.apache.thrift.meta_data.FieldMetaData("recursive", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.BOOL)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(user_delete_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(user_deleteBatch_args.class, metaDataMap);
     }
 
-    public user_delete_args() {
+    public user_deleteBatch_args() {
     }
 
-    public user_delete_args(
-      int fileId,
-      String path,
+    public user_deleteBatch_args(
+      List<String> paths,
       boolean recursive)
     {
       this();
-      this.fileId = fileId;
-      setFileIdIsSet(true);
-      this.path = path;
+      this.paths = paths;
       this.recursive = recursive;
       setRecursiveIsSet(true);
     }
@@ -25920,72 +29953,62 @@ public class MasterService {
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public user_delete_args(user_delete_args other) {
+    public user_deleteBatch_args(user_deleteBatch_args other) {
       __isset_bitfield = other.__isset_bitfield;
-      this.fileId = other.fileId;
-      if (other.isSetPath()) {
-        this.path = other.path;
+      if (other.isSetPaths()) {
+        List<String> __this__paths = new ArrayList<String>(other.paths);
+        this.paths = __this__paths;
       }
       this.recursive = other.recursive;
     }
 
-    public user_delete_args deepCopy() {
-      return new user_delete_args(this);
+    public user_deleteBatch_args deepCopy() {
+      return new user_deleteBatch_args(this);
     }
 
     @Override
     public void clear() {
-      setFileIdIsSet(false);
-      this.fileId = 0;
-      this.path = null;
+      this.paths = null;
       setRecursiveIsSet(false);
       this.recursive = false;
     }
 
-    public int getFileId() {
-      return this.fileId;
-    }
-
-    public user_delete_args setFileId(int fileId) {
-      this.fileId = fileId;
-      setFileIdIsSet(true);
-      return this;
-    }
-
-    public void unsetFileId() {
-      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __FILEID_ISSET_ID);
+    public int getPathsSize() {
+      return (this.paths == null) ? 0 : this.paths.size();
     }
 
-    /** Returns true if field fileId is set (has been assigned a value) and false otherwise */
-    public boolean isSetFileId() {
-      return EncodingUtils.testBit(__isset_bitfield, __FILEID_ISSET_ID);
+    public java.util.Iterator<String> getPathsIterator() {
+      return (this.paths == null) ? null : this.paths.iterator();
     }
 
-    public void setFileIdIsSet(boolean value) {
-      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __FILEID_ISSET_ID, value);
+    public void addToPaths(String elem) {
+      if (this.paths == null) {
+        this.paths = new ArrayList<String>();
+      }
+      this.paths.add(elem);
     }
 
-    public String getPath() {
-      return this.path;
+    public List<String> getPaths() {
+      return this.paths;
     }
 
-    public user_delete_args setPath(String path) {
-      this.path = path;
+    public user_deleteBatch_args setPaths(List<String> paths) {
+      this.paths = paths;
       return this;
     }
 
-    public void unsetPath() {
-      this.path = null;
+    public void unsetPaths() {
+      this.paths = null;
     }
 
-    /** Returns true if field path is set (has been assigned a value) and false otherwise */
-    public boolean isSetPath() {
-      return this.path != null;
+    /** Returns true if field paths is set (has been assigned a value) and false otherwise */
+    public boolean isSetPaths() {
+      return this.paths != null;
     }
 
-    public void setPathIsSet(boolean value) {
+    public void setPathsIsSet(boolean value) {
       if (!value) {
-        this.path = null;
+        this.paths = null;
       }
     }
 
@@ -25993,7 +30016,7 @@ public class MasterService {
       return this.recursive;
     }
 
-    public user_delete_args setRecursive(boolean recursive) {
+    public user_deleteBatch_args setRecursive(boolean recursive) {
       this.recursive = recursive;
       setRecursiveIsSet(true);
       return this;
@@ -26014,19 +30037,11 @@ public class MasterService {
 
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
-      case FILE_ID:
-        if (value == null) {
-          unsetFileId();
-        } else {
-          setFileId((Integer)value);
-        }
-        break;
-
-      case PATH:
+      case PATHS:
         if (value == null) {
-          unsetPath();
+          unsetPaths();
         } else {
-          setPath((String)value);
+          setPaths((List<String>)value);
         }
         break;
 
@@ -26043,11 +30058,8 @@ public class MasterService {
 
     public Object getFieldValue(_Fields field) {
       switch (field) {
-      case FILE_ID:
-        return Integer.valueOf(getFileId());
-
-      case PATH:
-        return getPath();
+      case PATHS:
+        return getPaths();
 
       case RECURSIVE:
         return Boolean.valueOf(isRecursive());
@@ -26063,10 +30075,8 @@ public class MasterService {
       }
 
       switch (field) {
-      case FILE_ID:
-        return isSetFileId();
-      case PATH:
-        return isSetPath();
+      case PATHS:
+        return isSetPaths();
       case RECURSIVE:
         return isSetRecursive();
       }
@@ -26077,30 +30087,21 @@ public class MasterService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof user_delete_args)
-        return this.equals((user_delete_args)that);
+      if (that instanceof user_deleteBatch_args)
+        return this.equals((user_deleteBatch_args)that);
       return false;
     }
 
-    public boolean equals(user_delete_args that) {
+    public boolean equals(user_deleteBatch_args that) {
       if (that == null)
         return false;
 
-      boolean this_present_fileId = true;
-      boolean that_present_fileId = true;
-      if (this_present_fileId || that_present_fileId) {
-        if (!(this_present_fileId && that_present_fileId))
-          return false;
-        if (this.fileId != that.fileId)
-          return false;
-      }
-
-      boolean this_present_path = true && this.isSetPath();
-      boolean that_present_path = true && that.isSetPath();
-      if (this_present_path || that_present_path) {
-        if (!(this_present_path && that_present_path))
+      boolean this_present_paths = true && this.isSetPaths();
+      boolean that_present_paths = true && that.isSetPaths();
+      if (this_present_paths || that_present_paths) {
+        if (!(this_present_paths && that_present_paths))
           return false;
-        if (!this.path.equals(that.path))
+        if (!this.paths.equals(that.paths))
           return false;
       }
 
@@ -26122,29 +30123,19 @@ public class MasterService {
     }
 
     @Override
-    public int compareTo(user_delete_args other) {
+    public int compareTo(user_deleteBatch_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
-      lastComparison = Boolean.valueOf(isSetFileId()).compareTo(other.isSetFileId());
-      if (lastComparison != 0) {
-        return lastComparison;
-      }
-      if (isSetFileId()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.fileId, other.fileId);
-        if (lastComparison != 0) {
-          return lastComparison;
-        }
-      }
-      lastComparison = Boolean.valueOf(isSetPath()).compareTo(other.isSetPath());
+      lastComparison = Boolean.valueOf(isSetPaths()).compareTo(other.isSetPaths());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetPath()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.path, other.path);
+      if (isSetPaths()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.paths, other.paths);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -26176,18 +30167,14 @@ public class MasterService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("user_delete_args(");
-      boolean first = true;
-
-      sb.append("fileId:");
-      sb.append(this.fileId);
-      first = false;
-      if (!first) sb.append(", ");
-      sb.append("path:");
-      if (this.path == null) {
+      StringBuilder sb = new StringBuilder("user_deleteBatch_args(");
+      boolean first = true;
+
+      sb.append("paths:");
+      if (this.paths == null) {
         sb.append("null");
       } else {
-        sb.append(this.path);
+        sb.append(this.paths);
       }
       first = false;
       if (!first) sb.append(", ");
@@ -26221,15 +30208,15 @@ public class MasterService {
       }
     }
 
-    private static class user_delete_argsStandardSchemeFactory implements SchemeFactory {
-      public user_delete_argsStandardScheme getScheme() {
-        return new user_delete_argsStandardScheme();
+    private static class user_deleteBatch_argsStandardSchemeFactory implements SchemeFactory {
+      public user_deleteBatch_argsStandardScheme getScheme() {
+        return new user_deleteBatch_argsStandardScheme();
       }
     }
 
-    private static class user_delete_argsStandardScheme extends StandardScheme<user_delete_args> {
+    private static class user_deleteBatch_argsStandardScheme extends StandardScheme<user_deleteBatch_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, user_delete_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, user_deleteBatch_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -26239,23 +30226,25 @@ public class MasterService {
             break;
           }
           switch (schemeField.id) {
-            case 1: // FILE_ID
-              if (schemeField.type == org.apache.thrift.protocol.TType.I32) {
-                struct.fileId = iprot.readI32();
-                struct.setFileIdIsSet(true);
-              } else { 
-                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
-              }
-              break;
-            case 2: // PATH
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
-                struct.path = iprot.readString();
-                struct.setPathIsSet(true);
+            case 1: // PATHS
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list222 = iprot.readListBegin();
+                  struct.paths = new ArrayList<String>(_list222.size);
+                  for (int _i223 = 0; _i223 < _list222.size; ++_i223)
+                  {
+                    String _elem224;
+                    _elem224 = iprot.readString();
+                    struct.paths.add(_elem224);
+                  }
+                  iprot.readListEnd();
+                }
+                struct.setPathsIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
-            case 3: // RECURSIVE
+            case 2: // RECURSIVE
               if (schemeField.type == org.apache.thrift.protocol.TType.BOOL) {
                 struct.recursive = iprot.readBool();
                 struct.setRecursiveIsSet(true);
@@ -26274,16 +30263,20 @@ public class MasterService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, user_delete_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, user_deleteBatch_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        oprot.writeFieldBegin(FILE_ID_FIELD_DESC);
-        oprot.writeI32(struct.fileId);
-        oprot.writeFieldEnd();
-        if (struct.path != null) {
-          oprot.writeFieldBegin(PATH_FIELD_DESC);
-          oprot.writeString(struct.path);
+        if (struct.paths != null) {
+          oprot.writeFieldBegin(PATHS_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, struct.paths.size()));
+            for (String _iter225 : struct.paths)
+            {
+              oprot.writeString(_iter225);
+            }
+            oprot.writeListEnd();
+          }
           oprot.writeFieldEnd();
         }
         oprot.writeFieldBegin(RECURSIVE_FIELD_DESC);
@@ -26295,33 +30288,33 @@ public class MasterService {
 
     }
 
-    private static class user_delete_argsTupleSchemeFactory implements SchemeFactory {
-      public user_delete_argsTupleScheme getScheme() {
-        return new user_delete_argsTupleScheme();
+    private static class user_deleteBatch_argsTupleSchemeFactory implements SchemeFactory {
+      public user_deleteBatch_argsTupleScheme getScheme() {
+        return new user_deleteBatch_argsTupleScheme();
       }
     }
 
-    private static class user_delete_argsTupleScheme extends TupleScheme<user_delete_args> {
+    private static class user_deleteBatch_argsTupleScheme extends TupleScheme<user_deleteBatch_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, user_delete_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, user_deleteBatch_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
-        if (struct.isSetFileId()) {
+        if (struct.isSetPaths()) {
           optionals.set(0);
         }
-        if (struct.isSetPath()) {
-          optionals.set(1);
-        }
         if (struct.isSetRecursive()) {
-          optionals.set(2);
-        }
-        oprot.writeBitSet(optionals, 3);
-        if (struct.isSetFileId()) {
-          oprot.writeI32(struct.fileId);
+          optionals.set(1);
         }
-        if (struct.isSetPath()) {
-          oprot.writeString(struct.path);
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetPaths()) {
+          {
+            oprot.writeI32(struct.paths.size());
+            for (String _iter226 : struct.paths)
+            {
+              oprot.writeString(_iter226);
+            }
+          }
         }
         if (struct.isSetRecursive()) {
           oprot.writeBool(struct.recursive);
@@ -26329,18 +30322,23 @@ public class MasterService {
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, user_delete_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, user_deleteBatch_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
-        BitSet incoming = iprot.readBitSet(3);
+        BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
-          struct.fileId = iprot.readI32();
-          struct.setFileIdIsSet(true);
+          {
+            org.apache.thrift.protocol.TList _list227 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRING, iprot.readI32());
+            struct.paths = new ArrayList<String>(_list227.size);
+            for (int _i228 = 0; _i228 < _list227.size; ++_i228)
+            {
+              String _elem229;
+              _elem229 = iprot.readString();
+              struct.paths.add(_elem229);
+            }
+          }
+          struct.setPathsIsSet(true);
         }
         if (incoming.get(1)) {
-          struct.path = iprot.readString();
-          struct.setPathIsSet(true);
-        }
-        if (incoming.get(2)) {
           struct.recursive = iprot.readBool();
           struct.setRecursiveIsSet(true);
         }
@@ -26349,25 +30347,22 @@ public class MasterService {
 
   }
 
-  public static class user_delete_result implements org.apache.thrift.TBase<user_delete_result, user_delete_result._Fields>, java.io.Serializable, Cloneable, Comparable<user_delete_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("user_delete_result");
+  public static class user_deleteBatch_result implements org.apache.thrift.TBase<user_deleteBatch_result, user_deleteBatch_result._Fields>, java.io.Serializable, Cloneable, Comparable<user_deleteBatch_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("user_deleteBatch_result");
 
-    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.BOOL, (short)0);
-    private static final org.apache.thrift.protocol.TField E_FIELD_DESC = new org.apache.thrift.protocol.TField("e", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new user_delete_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new user_delete_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new user_deleteBatch_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new user_deleteBatch_resultTupleSchemeFactory());
     }
 
-    public boolean success; // required
-    public TachyonException e; // required
+    public ClientBatchResult success; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      SUCCESS((short)0, "success"),
-      E((short)1, "e");
+      SUCCESS((short)0, "success");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -26384,8 +30379,6 @@ public class MasterService {
         switch(fieldId) {
           case 0: // SUCCESS
             return SUCCESS;
-          case 1: // E
-            return E;
           default:
             return null;
         }
@@ -26426,98 +30419,64 @@ public class MasterService {
     }
 
     // isset id assignments
-    private static final int __SUCCESS_ISSET_ID = 0;
-    private byte __isset_bitfield = 0;
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.BOOL)));
-      tmpMap.put(_Fields.E, new org.apache.thrift.meta_data.FieldMetaData("e", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, ClientBatchResult.class)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(user_delete_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(user_deleteBatch_result.class, metaDataMap);
     }
 
-    public user_delete_result() {
+    public user_deleteBatch_result() {
     }
 
-    public user_delete_result(
-      boolean success,
-      TachyonException e)
+    public user_deleteBatch_result(
+      ClientBatchResult success)
     {
       this();
       this.success = success;
-      setSuccessIsSet(true);
-      this.e = e;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public user_delete_result(user_delete_result other) {
-      __isset_bitfield = other.__isset_bitfield;
-      this.success = other.success;
-      if (other.isSetE()) {
-        this.e = new TachyonException(other.e);
+    public user_deleteBatch_result(user_deleteBatch_result other) {
+      if (other.isSetSuccess()) {
+        this.success = new ClientBatchResult(other.success);
       }
     }
 
-    public user_delete_result deepCopy() {
-      return new user_delete_result(this);
+    public user_deleteBatch_result deepCopy() {
+      return new user_deleteBatch_result(this);
     }
 
     @Override
     public void clear() {
-      setSuccessIsSet(false);
-      this.success = false;
-      this.e = null;
+      this.success = null;
     }
 
-    public boolean isSuccess() {
+    public ClientBatchResult getSuccess() {
       return this.success;
     }
 
-    public user_delete_result setSuccess(boolean success) {
+    public user_deleteBatch_result setSuccess(ClientBatchResult success) {
       this.success = success;
-      setSuccessIsSet(true);
       return this;
     }
 
     public void unsetSuccess() {
-      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __SUCCESS_ISSET_ID);
+      this.success = null;
     }
 
     /** Returns true if field success is set (has been assigned a value) and false otherwise */
     public boolean isSetSuccess() {
-      return EncodingUtils.testBit(__isset_bitfield, __SUCCESS_ISSET_ID);
+      return this.success != null;
     }
 
     public void setSuccessIsSet(boolean value) {
-      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __SUCCESS_ISSET_ID, value);
-    }
-
-    public TachyonException getE() {
-      return this.e;
-    }
-
-    public user_delete_result setE(TachyonException e) {
-      this.e = e;
-      return this;
-    }
-
-    public void unsetE() {
-      this.e = null;
-    }
-
-    /** Returns true if field e is set (has been assigned a value) and false otherwise */
-    public boolean isSetE() {
-      return this.e != null;
-    }
-
-    public void setEIsSet(boolean value) {
       if (!value) {
-        this.e = null;
+        this.success = null;
       }
     }
 
@@ -26527,15 +30486,7 @@ public class MasterService {
         if (value == null) {
           unsetSuccess();
         } else {
-          setSuccess((Boolean)value);
-        }
-        break;
-
-      case E:
-        if (value == null) {
-          unsetE();
-        } else {
-          setE((TachyonException)value);
+          setSuccess((ClientBatchResult)value);
         }
         break;
 
@@ -26545,10 +30496,7 @@ public class MasterService {
     public Object getFieldValue(_Fields field) {
       switch (field) {
       case SUCCESS:
-        return Boolean.valueOf(isSuccess());
-
-      case E:
-        return getE();
+        return getSuccess();
 
       }
       throw new IllegalStateException();
@@ -26563,8 +30511,6 @@ public class MasterService {
       switch (field) {
       case SUCCESS:
         return isSetSuccess();
-      case E:
-        return isSetE();
       }
       throw new IllegalStateException();
     }
@@ -26573,30 +30519,21 @@ public class MasterService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof user_delete_result)
-        return this.equals((user_delete_result)that);
+      if (that instanceof user_deleteBatch_result)
+        return this.equals((user_deleteBatch_result)that);
       return false;
     }
 
-    public boolean equals(user_delete_result that) {
+    public boolean equals(user_deleteBatch_result that) {
       if (that == null)
         return false;
 
-      boolean this_present_success = true;
-      boolean that_present_success = true;
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
       if (this_present_success || that_present_success) {
         if (!(this_present_success && that_present_success))
           return false;
-        if (this.success != that.success)
-          return false;
-      }
-
-      boolean this_present_e = true && this.isSetE();
-      boolean that_present_e = true && that.isSetE();
-      if (this_present_e || that_present_e) {
-        if (!(this_present_e && that_present_e))
-          return false;
-        if (!this.e.equals(that.e))
+        if (!this.success.equals(that.success))
           return false;
       }
 
@@ -26609,7 +30546,7 @@ public class MasterService {
     }
 
     @Override
-    public int compareTo(user_delete_result other) {
+    public int compareTo(user_deleteBatch_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -26626,16 +30563,6 @@ public class MasterService {
           return lastComparison;
         }
       }
-      lastComparison = Boolean.valueOf(isSetE()).compareTo(other.isSetE());
-      if (lastComparison != 0) {
-        return lastComparison;
-      }
-      if (isSetE()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.e, other.e);
-        if (lastComparison != 0) {
-          return lastComparison;
-        }
-      }
       return 0;
     }
 
@@ -26653,18 +30580,14 @@ public class MasterService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("user_delete_result(");
+      StringBuilder sb = new StringBuilder("user_deleteBatch_result(");
       boolean first = true;
 
       sb.append("success:");
-      sb.append(this.success);
-      first = false;
-      if (!first) sb.append(", ");
-      sb.append("e:");
-      if (this.e == null) {
+      if (this.success == null) {
         sb.append("null");
       } else {
-        sb.append(this.e);
+        sb.append(this.success);
       }
       first = false;
       sb.append(")");
@@ -26674,6 +30597,9 @@ public class MasterService {
     public void validate() throws org.apache.thrift.TException {
       // check for required fields
       // check for sub-struct validity
+      if (success != null) {
+        success.validate();
+      }
     }
 
     private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
@@ -26686,23 +30612,21 @@ public class MasterService {
 
     private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
       try {
-        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
-        __isset_bitfield = 0;
         read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
       } catch (org.apache.thrift.TException te) {
         throw new java.io.IOException(te);
       }
     }
 
-    private static class user_delete_resultStandardSchemeFactory implements SchemeFactory {
-      public user_delete_resultStandardScheme getScheme() {
-        return new user_delete_resultStandardScheme();
+    private static class user_deleteBatch_resultStandardSchemeFactory implements SchemeFactory {
+      public user_deleteBatch_resultStandardScheme getScheme() {
+        return new user_deleteBatch_resultStandardScheme();
       }
     }
 
-    private static class user_delete_resultStandardScheme extends StandardScheme<user_delete_result> {
+    private static class user_deleteBatch_resultStandardScheme extends StandardScheme<user_deleteBatch_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, user_delete_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, user_deleteBatch_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -26713,18 +30637,10 @@ public class MasterService {
           }
           switch (schemeField.id) {
             case 0: // SUCCESS
-              if (schemeField.type == org.apache.thrift.protocol.TType.BOOL) {
-                struct.success = iprot.readBool();
-                struct.setSuccessIsSet(true);
-              } else { 
-                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
-              }
-              break;
-            case 1: // E
               if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.e = new TachyonException();
-                struct.e.read(iprot);
-                struct.setEIsSet(true);
+                struct.success = new ClientBatchResult();
+                struct.success.read(iprot);
+                struct.setSuccessIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -26740,18 +30656,13 @@ public class MasterService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, user_delete_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, user_deleteBatch_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        if (struct.isSetSuccess()) {
+        if (struct.success != null) {
           oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
-          oprot.writeBool(struct.success);
-          oprot.writeFieldEnd();
-        }
-        if (struct.e != null) {
-          oprot.writeFieldBegin(E_FIELD_DESC);
-          struct.e.write(oprot);
+          struct.success.write(oprot);
           oprot.writeFieldEnd();
         }
         oprot.writeFieldStop();
@@ -26760,46 +30671,36 @@ public class MasterService {
 
     }
 
-    private static class user_delete_resultTupleSchemeFactory implements SchemeFactory {
-      public user_delete_resultTupleScheme getScheme() {
-        return new user_delete_resultTupleScheme();
+    private static class user_deleteBatch_resultTupleSchemeFactory implements SchemeFactory {
+      public user_deleteBatch_resultTupleScheme getScheme() {
+        return new user_deleteBatch_resultTupleScheme();
       }
     }
 
-    private static class user_delete_resultTupleScheme extends TupleScheme<user_delete_result> {
+    private static class user_deleteBatch_resultTupleScheme extends TupleScheme<user_deleteBatch_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, user_delete_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, user_deleteBatch_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetSuccess()) {
           optionals.set(0);
         }
-        if (struct.isSetE()) {
-          optionals.set(1);
-        }
-        oprot.writeBitSet(optionals, 2);
+        oprot.writeBitSet(optionals, 1);
         if (struct.isSetSuccess()) {
-          oprot.writeBool(struct.success);
-        }
-        if (struct.isSetE()) {
-          struct.e.write(oprot);
+          struct.success.write(oprot);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, user_delete_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, user_deleteBatch_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
-        BitSet incoming = iprot.readBitSet(2);
+        BitSet incoming = iprot.readBitSet(1);
         if (incoming.get(0)) {
-          struct.success = iprot.readBool();
+          struct.success = new ClientBatchResult();
+          struct.success.read(iprot);
           struct.setSuccessIsSet(true);
         }
-        if (incoming.get(1)) {
-          struct.e = new TachyonException();
-          struct.e.read(iprot);
-          struct.setEIsSet(true);
-        }
       }
     }
 
@@ -38,10 +38,46 @@ public class WorkerService {
 
     public void accessBlock(long blockId) throws org.apache.thrift.TException;
 
+    /**
+     * Update the latest access time of each of the blocks, as accessBlock does for one block.
+     * 
+     * @param blockIds
+     */
+    public void accessBlocks(List<Long> blockIds) throws org.apache.thrift.TException;
+
     public void addCheckpoint(long userId, int fileId) throws FileDoesNotExistException, SuspectedFileSizeException, FailedToCheckpointException, BlockInfoException, org.apache.thrift.TException;
 
+    /**
+     * Used to cache a block the user stopped re-caching partway, e.g. after a seek. The worker reads
+     * the block from another worker or the under file system in the background; nothing is done if
+     * the worker already has the block or is caching it.
+     * 
+     * @param blockId
+     */
+    public void asyncCacheBlock(long blockId) throws org.apache.thrift.TException;
+
     public boolean asyncCheckpoint(int fileId) throws TachyonException, org.apache.thrift.TException;
 
+    /**
+     * Used to write a complete file, which is cached but not checkpointed, to the under file system
+     * in the background. The worker reads the file's blocks from its memory, caching those it does
+     * not have first, and reports the checkpoint to the master when done. Returns false, and does
+     * nothing, if the files the worker is already writing leave no room for this one; true if the
+     * file is being written or already is checkpointed.
+     * 
+     * @param fileId
+     */
+    public boolean asyncPersistFile(int fileId) throws TachyonException, org.apache.thrift.TException;
+
+    /**
+     * Used to check on a file the worker was asked to write in the background, with
+     * asyncPersistFile. Throws the error the write failed with, after all its retries; does nothing
+     * if the write succeeded, is still running, or was never asked for.
+     * 
+     * @param fileId
+     */
+    public void checkPersistFile(int fileId) throws TachyonException, org.apache.thrift.TException;
+
     /**
      * Used to cache a block into Tachyon space, worker will move the temporary block file from user
      * folder to data folder, and update the space usage information related. then update the block
@@ -79,6 +115,15 @@ public class WorkerService {
      */
     public String lockBlock(long blockId, long userId) throws FileDoesNotExistException, org.apache.thrift.TException;
 
+    /**
+     * Lock each of the blocks the worker has, as lockBlock does for one block. Return the paths of
+     * the block files locked, by block id; blocks the worker does not have are left out.
+     * 
+     * @param blockIds
+     * @param userId
+     */
+    public Map<Long,String> lockBlocks(List<Long> blockIds, long userId) throws org.apache.thrift.TException;
+
     /**
      * Used to promote block on under storage layer to top storage layer when there are more than one
      * storage layers in Tachyon's space. return true if the block is successfully promoted, false
@@ -122,6 +167,14 @@ public class WorkerService {
      */
     public boolean unlockBlock(long blockId, long userId) throws org.apache.thrift.TException;
 
+    /**
+     * Unlock each of the blocks, as unlockBlock does for one block.
+     * 
+     * @param blockIds
+     * @param userId
+     */
+    public void unlockBlocks(List<Long> blockIds, long userId) throws org.apache.thrift.TException;
+
     /**
      * Local user send heartbeat to local worker to keep its temporary folder.
      * 
@@ -135,10 +188,18 @@ public class WorkerService {
 
     public void accessBlock(long blockId, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
 
+    public void accessBlocks(List<Long> blockIds, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
+
     public void addCheckpoint(long userId, int fileId, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
 
+    public void asyncCacheBlock(long blockId, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
+
     public void asyncCheckpoint(int fileId, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
 
+    public void asyncPersistFile(int fileId, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
+
+    public void checkPersistFile(int fileId, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
+
     public void cacheBlock(long userId, long blockId, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
 
     public void cancelBlock(long userId, long blockId, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
@@ -147,6 +208,8 @@ public class WorkerService {
 
     public void lockBlock(long blockId, long userId, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
 
+    public void lockBlocks(List<Long> blockIds, long userId, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
+
     public void promoteBlock(long blockId, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
 
     public void requestBlockLocation(long userId, long blockId, long initialBytes, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
@@ -155,6 +218,8 @@ public class WorkerService {
 
     public void unlockBlock(long blockId, long userId, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
 
+    public void unlockBlocks(List<Long> blockIds, long userId, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
+
     public void userHeartbeat(long userId, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
 
   }
@@ -199,6 +264,26 @@ public class WorkerService {
       return;
     }
 
+    public void accessBlocks(List<Long> blockIds) throws org.apache.thrift.TException
+    {
+      send_accessBlocks(blockIds);
+      recv_accessBlocks();
+    }
+
+    public void send_accessBlocks(List<Long> blockIds) throws org.apache.thrift.TException
+    {
+      accessBlocks_args args = new accessBlocks_args();
+      args.setBlockIds(blockIds);
+      sendBase("accessBlocks", args);
+    }
+
+    public void recv_accessBlocks() throws org.apache.thrift.TException
+    {
+      accessBlocks_result result = new accessBlocks_result();
+      receiveBase(result, "accessBlocks");
+      return;
+    }
+
     public void addCheckpoint(long userId, int fileId) throws FileDoesNotExistException, SuspectedFileSizeException, FailedToCheckpointException, BlockInfoException, org.apache.thrift.TException
     {
       send_addCheckpoint(userId, fileId);
@@ -232,6 +317,26 @@ public class WorkerService {
       return;
     }
 
+    public void asyncCacheBlock(long blockId) throws org.apache.thrift.TException
+    {
+      send_asyncCacheBlock(blockId);
+      recv_asyncCacheBlock();
+    }
+
+    public void send_asyncCacheBlock(long blockId) throws org.apache.thrift.TException
+    {
+      asyncCacheBlock_args args = new asyncCacheBlock_args();
+      args.setBlockId(blockId);
+      sendBase("asyncCacheBlock", args);
+    }
+
+    public void recv_asyncCacheBlock() throws org.apache.thrift.TException
+    {
+      asyncCacheBlock_result result = new asyncCacheBlock_result();
+      receiveBase(result, "asyncCacheBlock");
+      return;
+    }
+
     public boolean asyncCheckpoint(int fileId) throws TachyonException, org.apache.thrift.TException
     {
       send_asyncCheckpoint(fileId);
@@ -258,6 +363,55 @@ public class WorkerService {
       throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "asyncCheckpoint failed: unknown result");
     }
 
+    public boolean asyncPersistFile(int fileId) throws TachyonException, org.apache.thrift.TException
+    {
+      send_asyncPersistFile(fileId);
+      return recv_asyncPersistFile();
+    }
+
+    public void send_asyncPersistFile(int fileId) throws org.apache.thrift.TException
+    {
+      asyncPersistFile_args args = new asyncPersistFile_args();
+      args.setFileId(fileId);
+      sendBase("asyncPersistFile", args);
+    }
+
+    public boolean recv_asyncPersistFile() throws TachyonException, org.apache.thrift.TException
+    {
+      asyncPersistFile_result result = new asyncPersistFile_result();
+      receiveBase(result, "asyncPersistFile");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      if (result.e != null) {
+        throw result.e;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "asyncPersistFile failed: unknown result");
+    }
+
+    public void checkPersistFile(int fileId) throws TachyonException, org.apache.thrift.TException
+    {
+      send_checkPersistFile(fileId);
+      recv_checkPersistFile();
+    }
+
+    public void send_checkPersistFile(int fileId) throws org.apache.thrift.TException
+    {
+      checkPersistFile_args args = new checkPersistFile_args();
+      args.setFileId(fileId);
+      sendBase("checkPersistFile", args);
+    }
+
+    public void recv_checkPersistFile() throws TachyonException, org.apache.thrift.TException
+    {
+      checkPersistFile_result result = new checkPersistFile_result();
+      receiveBase(result, "checkPersistFile");
+      if (result.e != null) {
+        throw result.e;
+      }
+      return;
+    }
+
     public void cacheBlock(long userId, long blockId) throws FileDoesNotExistException, SuspectedFileSizeException, BlockInfoException, org.apache.thrift.TException
     {
       send_cacheBlock(userId, blockId);
@@ -359,6 +513,30 @@ public class WorkerService {
       throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "lockBlock failed: unknown result");
     }
 
+    public Map<Long,String> lockBlocks(List<Long> blockIds, long userId) throws org.apache.thrift.TException
+    {
+      send_lockBlocks(blockIds, userId);
+      return recv_lockBlocks();
+    }
+
+    public void send_lockBlocks(List<Long> blockIds, long userId) throws org.apache.thrift.TException
+    {
+      lockBlocks_args args = new lockBlocks_args();
+      args.setBlockIds(blockIds);
+      args.setUserId(userId);
+      sendBase("lockBlocks", args);
+    }
+
+    public Map<Long,String> recv_lockBlocks() throws org.apache.thrift.TException
+    {
+      lockBlocks_result result = new lockBlocks_result();
+      receiveBase(result, "lockBlocks");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "lockBlocks failed: unknown result");
+    }
+
     public boolean promoteBlock(long blockId) throws org.apache.thrift.TException
     {
       send_promoteBlock(blockId);
@@ -465,6 +643,27 @@ public class WorkerService {
       throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "unlockBlock failed: unknown result");
     }
 
+    public void unlockBlocks(List<Long> blockIds, long userId) throws org.apache.thrift.TException
+    {
+      send_unlockBlocks(blockIds, userId);
+      recv_unlockBlocks();
+    }
+
+    public void send_unlockBlocks(List<Long> blockIds, long userId) throws org.apache.thrift.TException
+    {
+      unlockBlocks_args args = new unlockBlocks_args();
+      args.setBlockIds(blockIds);
+      args.setUserId(userId);
+      sendBase("unlockBlocks", args);
+    }
+
+    public void recv_unlockBlocks() throws org.apache.thrift.TException
+    {
+      unlockBlocks_result result = new unlockBlocks_result();
+      receiveBase(result, "unlockBlocks");
+      return;
+    }
+
     public void userHeartbeat(long userId) throws org.apache.thrift.TException
     {
       send_userHeartbeat(userId);
@@ -535,6 +734,38 @@ public class WorkerService {
       }
     }
 
+    public void accessBlocks(List<Long> blockIds, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      accessBlocks_call method_call = new accessBlocks_call(blockIds, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class accessBlocks_call extends org.apache.thrift.async.TAsyncMethodCall {
+      private List<Long> blockIds;
+      public accessBlocks_call(List<Long> blockIds, org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.blockIds = blockIds;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("accessBlocks", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        accessBlocks_args args = new accessBlocks_args();
+        args.setBlockIds(blockIds);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public void getResult() throws org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        (new Client(prot)).recv_accessBlocks();
+      }
+    }
+
     public void addCheckpoint(long userId, int fileId, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
       checkReady();
       addCheckpoint_call method_call = new addCheckpoint_call(userId, fileId, resultHandler, this, ___protocolFactory, ___transport);
@@ -570,6 +801,38 @@ public class WorkerService {
       }
     }
 
+    public void asyncCacheBlock(long blockId, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      asyncCacheBlock_call method_call = new asyncCacheBlock_call(blockId, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class asyncCacheBlock_call extends org.apache.thrift.async.TAsyncMethodCall {
+      private long blockId;
+      public asyncCacheBlock_call(long blockId, org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.blockId = blockId;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("asyncCacheBlock", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        asyncCacheBlock_args args = new asyncCacheBlock_args();
+        args.setBlockId(blockId);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public void getResult() throws org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        (new Client(prot)).recv_asyncCacheBlock();
+      }
+    }
+
     public void asyncCheckpoint(int fileId, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
       checkReady();
       asyncCheckpoint_call method_call = new asyncCheckpoint_call(fileId, resultHandler, this, ___protocolFactory, ___transport);
@@ -602,6 +865,70 @@ public class WorkerService {
       }
     }
 
+    public void asyncPersistFile(int fileId, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      asyncPersistFile_call method_call = new asyncPersistFile_call(fileId, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class asyncPersistFile_call extends org.apache.thrift.async.TAsyncMethodCall {
+      private int fileId;
+      public asyncPersistFile_call(int fileId, org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.fileId = fileId;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("asyncPersistFile", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        asyncPersistFile_args args = new asyncPersistFile_args();
+        args.setFileId(fileId);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public boolean getResult() throws TachyonException, org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_asyncPersistFile();
+      }
+    }
+
+    public void checkPersistFile(int fileId, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      checkPersistFile_call method_call = new checkPersistFile_call(fileId, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class checkPersistFile_call extends org.apache.thrift.async.TAsyncMethodCall {
+      private int fileId;
+      public checkPersistFile_call(int fileId, org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.fileId = fileId;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("checkPersistFile", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        checkPersistFile_args args = new checkPersistFile_args();
+        args.setFileId(fileId);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public void getResult() throws TachyonException, org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        (new Client(prot)).recv_checkPersistFile();
+      }
+    }
+
     public void cacheBlock(long userId, long blockId, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
       checkReady();
       cacheBlock_call method_call = new cacheBlock_call(userId, blockId, resultHandler, this, ___protocolFactory, ___transport);
@@ -739,6 +1066,41 @@ public class WorkerService {
       }
     }
 
+    public void lockBlocks(List<Long> blockIds, long userId, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      lockBlocks_call method_call = new lockBlocks_call(blockIds, userId, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class lockBlocks_call extends org.apache.thrift.async.TAsyncMethodCall {
+      private List<Long> blockIds;
+      private long userId;
+      public lockBlocks_call(List<Long> blockIds, long userId, org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.blockIds = blockIds;
+        this.userId = userId;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("lockBlocks", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        lockBlocks_args args = new lockBlocks_args();
+        args.setBlockIds(blockIds);
+        args.setUserId(userId);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public Map<Long,String> getResult() throws org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_lockBlocks();
+      }
+    }
+
     public void promoteBlock(long blockId, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
       checkReady();
       promoteBlock_call method_call = new promoteBlock_call(blockId, resultHandler, this, ___protocolFactory, ___transport);
@@ -882,6 +1244,41 @@ public class WorkerService {
       }
     }
 
+    public void unlockBlocks(List<Long> blockIds, long userId, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      unlockBlocks_call method_call = new unlockBlocks_call(blockIds, userId, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class unlockBlocks_call extends org.apache.thrift.async.TAsyncMethodCall {
+      private List<Long> blockIds;
+      private long userId;
+      public unlockBlocks_call(List<Long> blockIds, long userId, org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.blockIds = blockIds;
+        this.userId = userId;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("unlockBlocks", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        unlockBlocks_args args = new unlockBlocks_args();
+        args.setBlockIds(blockIds);
+        args.setUserId(userId);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public void getResult() throws org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        (new Client(prot)).recv_unlockBlocks();
+      }
+    }
+
     public void userHeartbeat(long userId, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
       checkReady();
       userHeartbeat_call method_call = new userHeartbeat_call(userId, resultHandler, this, ___protocolFactory, ___transport);
@@ -928,16 +1325,22 @@ public class WorkerService {
 
     private static <I extends Iface> Map<String,  org.apache.thrift.ProcessFunction<I, ? extends  org.apache.thrift.TBase>> getProcessMap(Map<String,  org.apache.thrift.ProcessFunction<I, ? extends  org.apache.thrift.TBase>> processMap) {
       processMap.put("accessBlock", new accessBlock());
+      processMap.put("accessBlocks", new accessBlocks());
       processMap.put("addCheckpoint", new addCheckpoint());
+      processMap.put("asyncCacheBlock", new asyncCacheBlock());
       processMap.put("asyncCheckpoint", new asyncCheckpoint());
+      processMap.put("asyncPersistFile", new asyncPersistFile());
+      processMap.put("checkPersistFile", new checkPersistFile());
       processMap.put("cacheBlock", new cacheBlock());
       processMap.put("cancelBlock", new cancelBlock());
       processMap.put("getUserUfsTempFolder", new getUserUfsTempFolder());
       processMap.put("lockBlock", new lockBlock());
+      processMap.put("lockBlocks", new lockBlocks());
       processMap.put("promoteBlock", new promoteBlock());
       processMap.put("requestBlockLocation", new requestBlockLocation());
       processMap.put("requestSpace", new requestSpace());
       processMap.put("unlockBlock", new unlockBlock());
+      processMap.put("unlockBlocks", new unlockBlocks());
       processMap.put("userHeartbeat", new userHeartbeat());
       return processMap;
     }
@@ -962,9 +1365,29 @@ public class WorkerService {
       }
     }
 
-    public static class addCheckpoint<I extends Iface> extends org.apache.thrift.ProcessFunction<I, addCheckpoint_args> {
-      public addCheckpoint() {
-        super("addCheckpoint");
+    public static class accessBlocks<I extends Iface> extends org.apache.thrift.ProcessFunction<I, accessBlocks_args> {
+      public accessBlocks() {
+        super("accessBlocks");
+      }
+
+      public accessBlocks_args getEmptyArgsInstance() {
+        return new accessBlocks_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public accessBlocks_result getResult(I iface, accessBlocks_args args) throws org.apache.thrift.TException {
+        accessBlocks_result result = new accessBlocks_result();
+        iface.accessBlocks(args.blockIds);
+        return result;
+      }
+    }
+
+    public static class addCheckpoint<I extends Iface> extends org.apache.thrift.ProcessFunction<I, addCheckpoint_args> {
+      public addCheckpoint() {
+        super("addCheckpoint");
       }
 
       public addCheckpoint_args getEmptyArgsInstance() {
@@ -992,6 +1415,26 @@ public class WorkerService {
       }
     }
 
+    public static class asyncCacheBlock<I extends Iface> extends org.apache.thrift.ProcessFunction<I, asyncCacheBlock_args> {
+      public asyncCacheBlock() {
+        super("asyncCacheBlock");
+      }
+
+      public asyncCacheBlock_args getEmptyArgsInstance() {
+        return new asyncCacheBlock_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public asyncCacheBlock_result getResult(I iface, asyncCacheBlock_args args) throws org.apache.thrift.TException {
+        asyncCacheBlock_result result = new asyncCacheBlock_result();
+        iface.asyncCacheBlock(args.blockId);
+        return result;
+      }
+    }
+
     public static class asyncCheckpoint<I extends Iface> extends org.apache.thrift.ProcessFunction<I, asyncCheckpoint_args> {
       public asyncCheckpoint() {
         super("asyncCheckpoint");
@@ -1017,6 +1460,55 @@ public class WorkerService {
       }
     }
 
+    public static class asyncPersistFile<I extends Iface> extends org.apache.thrift.ProcessFunction<I, asyncPersistFile_args> {
+      public asyncPersistFile() {
+        super("asyncPersistFile");
+      }
+
+      public asyncPersistFile_args getEmptyArgsInstance() {
+        return new asyncPersistFile_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public asyncPersistFile_result getResult(I iface, asyncPersistFile_args args) throws org.apache.thrift.TException {
+        asyncPersistFile_result result = new asyncPersistFile_result();
+        try {
+          result.success = iface.asyncPersistFile(args.fileId);
+          result.setSuccessIsSet(true);
+        } catch (TachyonException e) {
+          result.e = e;
+        }
+        return result;
+      }
+    }
+
+    public static class checkPersistFile<I extends Iface> extends org.apache.thrift.ProcessFunction<I, checkPersistFile_args> {
+      public checkPersistFile() {
+        super("checkPersistFile");
+      }
+
+      public checkPersistFile_args getEmptyArgsInstance() {
+        return new checkPersistFile_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public checkPersistFile_result getResult(I iface, checkPersistFile_args args) throws org.apache.thrift.TException {
+        checkPersistFile_result result = new checkPersistFile_result();
+        try {
+          iface.checkPersistFile(args.fileId);
+        } catch (TachyonException e) {
+          result.e = e;
+        }
+        return result;
+      }
+    }
+
     public static class cacheBlock<I extends Iface> extends org.apache.thrift.ProcessFunction<I, cacheBlock_args> {
       public cacheBlock() {
         super("cacheBlock");
@@ -1109,6 +1601,26 @@ public class WorkerService {
       }
     }
 
+    public static class lockBlocks<I extends Iface> extends org.apache.thrift.ProcessFunction<I, lockBlocks_args> {
+      public lockBlocks() {
+        super("lockBlocks");
+      }
+
+      public lockBlocks_args getEmptyArgsInstance() {
+        return new lockBlocks_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public lockBlocks_result getResult(I iface, lockBlocks_args args) throws org.apache.thrift.TException {
+        lockBlocks_result result = new lockBlocks_result();
+        result.success = iface.lockBlocks(args.blockIds, args.userId);
+        return result;
+      }
+    }
+
     public static class promoteBlock<I extends Iface> extends org.apache.thrift.ProcessFunction<I, promoteBlock_args> {
       public promoteBlock() {
         super("promoteBlock");
@@ -1202,6 +1714,26 @@ public class WorkerService {
       }
     }
 
+    public static class unlockBlocks<I extends Iface> extends org.apache.thrift.ProcessFunction<I, unlockBlocks_args> {
+      public unlockBlocks() {
+        super("unlockBlocks");
+      }
+
+      public unlockBlocks_args getEmptyArgsInstance() {
+        return new unlockBlocks_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public unlockBlocks_result getResult(I iface, unlockBlocks_args args) throws org.apache.thrift.TException {
+        unlockBlocks_result result = new unlockBlocks_result();
+        iface.unlockBlocks(args.blockIds, args.userId);
+        return result;
+      }
+    }
+
     public static class userHeartbeat<I extends Iface> extends org.apache.thrift.ProcessFunction<I, userHeartbeat_args> {
       public userHeartbeat() {
         super("userHeartbeat");
@@ -1236,16 +1768,22 @@ public class WorkerService {
 
     private static <I extends AsyncIface> Map<String,  org.apache.thrift.AsyncProcessFunction<I, ? extends  org.apache.thrift.TBase,?>> getProcessMap(Map<String,  org.apache.thrift.AsyncProcessFunction<I, ? extends  org.apache.thrift.TBase, ?>> processMap) {
       processMap.put("accessBlock", new accessBlock());
+      processMap.put("accessBlocks", new accessBlocks());
       processMap.put("addCheckpoint", new addCheckpoint());
+      processMap.put("asyncCacheBlock", new asyncCacheBlock());
       processMap.put("asyncCheckpoint", new asyncCheckpoint());
+      processMap.put("asyncPersistFile", new asyncPersistFile());
+      processMap.put("checkPersistFile", new checkPersistFile());
       processMap.put("cacheBlock", new cacheBlock());
       processMap.put("cancelBlock", new cancelBlock());
       processMap.put("getUserUfsTempFolder", new getUserUfsTempFolder());
       processMap.put("lockBlock", new lockBlock());
+      processMap.put("lockBlocks", new lockBlocks());
       processMap.put("promoteBlock", new promoteBlock());
       processMap.put("requestBlockLocation", new requestBlockLocation());
       processMap.put("requestSpace", new requestSpace());
       processMap.put("unlockBlock", new unlockBlock());
+      processMap.put("unlockBlocks", new unlockBlocks());
       processMap.put("userHeartbeat", new userHeartbeat());
       return processMap;
     }
@@ -1300,6 +1838,56 @@ public class WorkerService {
       }
     }
 
+    public static class accessBlocks<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, accessBlocks_args, Void> {
+      public accessBlocks() {
+        super("accessBlocks");
+      }
+
+      public accessBlocks_args getEmptyArgsInstance() {
+        return new accessBlocks_args();
+      }
+
+      public AsyncMethodCallback<Void> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new AsyncMethodCallback<Void>() { 
+          public void onComplete(Void o) {
+            accessBlocks_result result = new accessBlocks_result();
+            try {
+              fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+              return;
+            } catch (Exception e) {
+              LOGGER.error("Exception writing to internal frame buffer", e);
+            }
+            fb.close();
+          }
+          public void onError(Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TBase msg;
+            accessBlocks_result result = new accessBlocks_result();
+            {
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+              return;
+            } catch (Exception ex) {
+              LOGGER.error("Exception writing to internal frame buffer", ex);
+            }
+            fb.close();
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, accessBlocks_args args, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws TException {
+        iface.accessBlocks(args.blockIds,resultHandler);
+      }
+    }
+
     public static class addCheckpoint<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, addCheckpoint_args, Void> {
       public addCheckpoint() {
         super("addCheckpoint");
@@ -1371,6 +1959,56 @@ public class WorkerService {
       }
     }
 
+    public static class asyncCacheBlock<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, asyncCacheBlock_args, Void> {
+      public asyncCacheBlock() {
+        super("asyncCacheBlock");
+      }
+
+      public asyncCacheBlock_args getEmptyArgsInstance() {
+        return new asyncCacheBlock_args();
+      }
+
+      public AsyncMethodCallback<Void> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new AsyncMethodCallback<Void>() { 
+          public void onComplete(Void o) {
+            asyncCacheBlock_result result = new asyncCacheBlock_result();
+            try {
+              fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+              return;
+            } catch (Exception e) {
+              LOGGER.error("Exception writing to internal frame buffer", e);
+            }
+            fb.close();
+          }
+          public void onError(Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TBase msg;
+            asyncCacheBlock_result result = new asyncCacheBlock_result();
+            {
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+              return;
+            } catch (Exception ex) {
+              LOGGER.error("Exception writing to internal frame buffer", ex);
+            }
+            fb.close();
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, asyncCacheBlock_args args, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws TException {
+        iface.asyncCacheBlock(args.blockId,resultHandler);
+      }
+    }
+
     public static class asyncCheckpoint<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, asyncCheckpoint_args, Boolean> {
       public asyncCheckpoint() {
         super("asyncCheckpoint");
@@ -1429,20 +2067,22 @@ public class WorkerService {
       }
     }
 
-    public static class cacheBlock<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, cacheBlock_args, Void> {
-      public cacheBlock() {
-        super("cacheBlock");
+    public static class asyncPersistFile<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, asyncPersistFile_args, Boolean> {
+      public asyncPersistFile() {
+        super("asyncPersistFile");
       }
 
-      public cacheBlock_args getEmptyArgsInstance() {
-        return new cacheBlock_args();
+      public asyncPersistFile_args getEmptyArgsInstance() {
+        return new asyncPersistFile_args();
       }
 
-      public AsyncMethodCallback<Void> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+      public AsyncMethodCallback<Boolean> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
         final org.apache.thrift.AsyncProcessFunction fcall = this;
-        return new AsyncMethodCallback<Void>() { 
-          public void onComplete(Void o) {
-            cacheBlock_result result = new cacheBlock_result();
+        return new AsyncMethodCallback<Boolean>() { 
+          public void onComplete(Boolean o) {
+            asyncPersistFile_result result = new asyncPersistFile_result();
+            result.success = o;
+            result.setSuccessIsSet(true);
             try {
               fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
               return;
@@ -1454,20 +2094,10 @@ public class WorkerService {
           public void onError(Exception e) {
             byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
             org.apache.thrift.TBase msg;
-            cacheBlock_result result = new cacheBlock_result();
-            if (e instanceof FileDoesNotExistException) {
-                        result.eP = (FileDoesNotExistException) e;
-                        result.setEPIsSet(true);
-                        msg = result;
-            }
-            else             if (e instanceof SuspectedFileSizeException) {
-                        result.eS = (SuspectedFileSizeException) e;
-                        result.setESIsSet(true);
-                        msg = result;
-            }
-            else             if (e instanceof BlockInfoException) {
-                        result.eB = (BlockInfoException) e;
-                        result.setEBIsSet(true);
+            asyncPersistFile_result result = new asyncPersistFile_result();
+            if (e instanceof TachyonException) {
+                        result.e = (TachyonException) e;
+                        result.setEIsSet(true);
                         msg = result;
             }
              else 
@@ -1490,25 +2120,25 @@ public class WorkerService {
         return false;
       }
 
-      public void start(I iface, cacheBlock_args args, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws TException {
-        iface.cacheBlock(args.userId, args.blockId,resultHandler);
+      public void start(I iface, asyncPersistFile_args args, org.apache.thrift.async.AsyncMethodCallback<Boolean> resultHandler) throws TException {
+        iface.asyncPersistFile(args.fileId,resultHandler);
       }
     }
 
-    public static class cancelBlock<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, cancelBlock_args, Void> {
-      public cancelBlock() {
-        super("cancelBlock");
+    public static class checkPersistFile<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, checkPersistFile_args, Void> {
+      public checkPersistFile() {
+        super("checkPersistFile");
       }
 
-      public cancelBlock_args getEmptyArgsInstance() {
-        return new cancelBlock_args();
+      public checkPersistFile_args getEmptyArgsInstance() {
+        return new checkPersistFile_args();
       }
 
       public AsyncMethodCallback<Void> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
         final org.apache.thrift.AsyncProcessFunction fcall = this;
         return new AsyncMethodCallback<Void>() { 
           public void onComplete(Void o) {
-            cancelBlock_result result = new cancelBlock_result();
+            checkPersistFile_result result = new checkPersistFile_result();
             try {
               fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
               return;
@@ -1520,7 +2150,13 @@ public class WorkerService {
           public void onError(Exception e) {
             byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
             org.apache.thrift.TBase msg;
-            cancelBlock_result result = new cancelBlock_result();
+            checkPersistFile_result result = new checkPersistFile_result();
+            if (e instanceof TachyonException) {
+                        result.e = (TachyonException) e;
+                        result.setEIsSet(true);
+                        msg = result;
+            }
+             else 
             {
               msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
               msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
@@ -1540,26 +2176,25 @@ public class WorkerService {
         return false;
       }
 
-      public void start(I iface, cancelBlock_args args, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws TException {
-        iface.cancelBlock(args.userId, args.blockId,resultHandler);
+      public void start(I iface, checkPersistFile_args args, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws TException {
+        iface.checkPersistFile(args.fileId,resultHandler);
       }
     }
 
-    public static class getUserUfsTempFolder<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, getUserUfsTempFolder_args, String> {
-      public getUserUfsTempFolder() {
-        super("getUserUfsTempFolder");
+    public static class cacheBlock<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, cacheBlock_args, Void> {
+      public cacheBlock() {
+        super("cacheBlock");
       }
 
-      public getUserUfsTempFolder_args getEmptyArgsInstance() {
-        return new getUserUfsTempFolder_args();
+      public cacheBlock_args getEmptyArgsInstance() {
+        return new cacheBlock_args();
       }
 
-      public AsyncMethodCallback<String> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+      public AsyncMethodCallback<Void> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
         final org.apache.thrift.AsyncProcessFunction fcall = this;
-        return new AsyncMethodCallback<String>() { 
-          public void onComplete(String o) {
-            getUserUfsTempFolder_result result = new getUserUfsTempFolder_result();
-            result.success = o;
+        return new AsyncMethodCallback<Void>() { 
+          public void onComplete(Void o) {
+            cacheBlock_result result = new cacheBlock_result();
             try {
               fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
               return;
@@ -1571,7 +2206,23 @@ public class WorkerService {
           public void onError(Exception e) {
             byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
             org.apache.thrift.TBase msg;
-            getUserUfsTempFolder_result result = new getUserUfsTempFolder_result();
+            cacheBlock_result result = new cacheBlock_result();
+            if (e instanceof FileDoesNotExistException) {
+                        result.eP = (FileDoesNotExistException) e;
+                        result.setEPIsSet(true);
+                        msg = result;
+            }
+            else             if (e instanceof SuspectedFileSizeException) {
+                        result.eS = (SuspectedFileSizeException) e;
+                        result.setESIsSet(true);
+                        msg = result;
+            }
+            else             if (e instanceof BlockInfoException) {
+                        result.eB = (BlockInfoException) e;
+                        result.setEBIsSet(true);
+                        msg = result;
+            }
+             else 
             {
               msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
               msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
@@ -1591,12 +2242,113 @@ public class WorkerService {
         return false;
       }
 
-      public void start(I iface, getUserUfsTempFolder_args args, org.apache.thrift.async.AsyncMethodCallback<String> resultHandler) throws TException {
-        iface.getUserUfsTempFolder(args.userId,resultHandler);
+      public void start(I iface, cacheBlock_args args, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws TException {
+        iface.cacheBlock(args.userId, args.blockId,resultHandler);
       }
     }
 
-    public static class lockBlock<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, lockBlock_args, String> {
+    public static class cancelBlock<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, cancelBlock_args, Void> {
+      public cancelBlock() {
+        super("cancelBlock");
+      }
+
+      public cancelBlock_args getEmptyArgsInstance() {
+        return new cancelBlock_args();
+      }
+
+      public AsyncMethodCallback<Void> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new AsyncMethodCallback<Void>() { 
+          public void onComplete(Void o) {
+            cancelBlock_result result = new cancelBlock_result();
+            try {
+              fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+              return;
+            } catch (Exception e) {
+              LOGGER.error("Exception writing to internal frame buffer", e);
+            }
+            fb.close();
+          }
+          public void onError(Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TBase msg;
+            cancelBlock_result result = new cancelBlock_result();
+            {
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+              return;
+            } catch (Exception ex) {
+              LOGGER.error("Exception writing to internal frame buffer", ex);
+            }
+            fb.close();
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, cancelBlock_args args, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws TException {
+        iface.cancelBlock(args.userId, args.blockId,resultHandler);
+      }
+    }
+
+    public static class getUserUfsTempFolder<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, getUserUfsTempFolder_args, String> {
+      public getUserUfsTempFolder() {
+        super("getUserUfsTempFolder");
+      }
+
+      public getUserUfsTempFolder_args getEmptyArgsInstance() {
+        return new getUserUfsTempFolder_args();
+      }
+
+      public AsyncMethodCallback<String> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new AsyncMethodCallback<String>() { 
+          public void onComplete(String o) {
+            getUserUfsTempFolder_result result = new getUserUfsTempFolder_result();
+            result.success = o;
+            try {
+              fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+              return;
+            } catch (Exception e) {
+              LOGGER.error("Exception writing to internal frame buffer", e);
+            }
+            fb.close();
+          }
+          public void onError(Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TBase msg;
+            getUserUfsTempFolder_result result = new getUserUfsTempFolder_result();
+            {
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+              return;
+            } catch (Exception ex) {
+              LOGGER.error("Exception writing to internal frame buffer", ex);
+            }
+            fb.close();
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, getUserUfsTempFolder_args args, org.apache.thrift.async.AsyncMethodCallback<String> resultHandler) throws TException {
+        iface.getUserUfsTempFolder(args.userId,resultHandler);
+      }
+    }
+
+    public static class lockBlock<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, lockBlock_args, String> {
       public lockBlock() {
         super("lockBlock");
       }
@@ -1653,6 +2405,57 @@ public class WorkerService {
       }
     }
 
+    public static class lockBlocks<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, lockBlocks_args, Map<Long,String>> {
+      public lockBlocks() {
+        super("lockBlocks");
+      }
+
+      public lockBlocks_args getEmptyArgsInstance() {
+        return new lockBlocks_args();
+      }
+
+      public AsyncMethodCallback<Map<Long,String>> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new AsyncMethodCallback<Map<Long,String>>() { 
+          public void onComplete(Map<Long,String> o) {
+            lockBlocks_result result = new lockBlocks_result();
+            result.success = o;
+            try {
+              fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+              return;
+            } catch (Exception e) {
+              LOGGER.error("Exception writing to internal frame buffer", e);
+            }
+            fb.close();
+          }
+          public void onError(Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TBase msg;
+            lockBlocks_result result = new lockBlocks_result();
+            {
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+              return;
+            } catch (Exception ex) {
+              LOGGER.error("Exception writing to internal frame buffer", ex);
+            }
+            fb.close();
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, lockBlocks_args args, org.apache.thrift.async.AsyncMethodCallback<Map<Long,String>> resultHandler) throws TException {
+        iface.lockBlocks(args.blockIds, args.userId,resultHandler);
+      }
+    }
+
     public static class promoteBlock<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, promoteBlock_args, Boolean> {
       public promoteBlock() {
         super("promoteBlock");
@@ -1877,6 +2680,56 @@ public class WorkerService {
       }
     }
 
+    public static class unlockBlocks<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, unlockBlocks_args, Void> {
+      public unlockBlocks() {
+        super("unlockBlocks");
+      }
+
+      public unlockBlocks_args getEmptyArgsInstance() {
+        return new unlockBlocks_args();
+      }
+
+      public AsyncMethodCallback<Void> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new AsyncMethodCallback<Void>() { 
+          public void onComplete(Void o) {
+            unlockBlocks_result result = new unlockBlocks_result();
+            try {
+              fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+              return;
+            } catch (Exception e) {
+              LOGGER.error("Exception writing to internal frame buffer", e);
+            }
+            fb.close();
+          }
+          public void onError(Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TBase msg;
+            unlockBlocks_result result = new unlockBlocks_result();
+            {
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+              return;
+            } catch (Exception ex) {
+              LOGGER.error("Exception writing to internal frame buffer", ex);
+            }
+            fb.close();
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, unlockBlocks_args args, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws TException {
+        iface.unlockBlocks(args.blockIds, args.userId,resultHandler);
+      }
+    }
+
     public static class userHeartbeat<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, userHeartbeat_args, Void> {
       public userHeartbeat() {
         super("userHeartbeat");
@@ -2527,25 +3380,22 @@ public class WorkerService {
 
   }
 
-  public static class addCheckpoint_args implements org.apache.thrift.TBase<addCheckpoint_args, addCheckpoint_args._Fields>, java.io.Serializable, Cloneable, Comparable<addCheckpoint_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("addCheckpoint_args");
+  public static class accessBlocks_args implements org.apache.thrift.TBase<accessBlocks_args, accessBlocks_args._Fields>, java.io.Serializable, Cloneable, Comparable<accessBlocks_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("accessBlocks_args");
 
-    private static final org.apache.thrift.protocol.TField USER_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("userId", org.apache.thrift.protocol.TType.I64, (short)1);
-    private static final org.apache.thrift.protocol.TField FILE_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("fileId", org.apache.thrift.protocol.TType.I32, (short)2);
+    private static final org.apache.thrift.protocol.TField BLOCK_IDS_FIELD_DESC = new org.apache.thrift.protocol.TField("blockIds", org.apache.thrift.protocol.TType.LIST, (short)1);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new addCheckpoint_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new addCheckpoint_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new accessBlocks_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new accessBlocks_argsTupleSchemeFactory());
     }
 
-    public long userId; // required
-    public int fileId; // required
+    public List<Long> blockIds; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      USER_ID((short)1, "userId"),
-      FILE_ID((short)2, "fileId");
+      BLOCK_IDS((short)1, "blockIds");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -2560,10 +3410,8 @@ public class WorkerService {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
-          case 1: // USER_ID
-            return USER_ID;
-          case 2: // FILE_ID
-            return FILE_ID;
+          case 1: // BLOCK_IDS
+            return BLOCK_IDS;
           default:
             return null;
         }
@@ -2604,116 +3452,91 @@ public class WorkerService {
     }
 
     // isset id assignments
-    private static final int __USERID_ISSET_ID = 0;
-    private static final int __FILEID_ISSET_ID = 1;
-    private byte __isset_bitfield = 0;
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
-      tmpMap.put(_Fields.USER_ID, new org.apache.thrift.meta_data.FieldMetaData("userId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
-      tmpMap.put(_Fields.FILE_ID, new org.apache.thrift.meta_data.FieldMetaData("fileId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
+      tmpMap.put(_Fields.BLOCK_IDS, new org.apache.thrift.meta_data.FieldMetaData("blockIds", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64))));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(addCheckpoint_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(accessBlocks_args.class, metaDataMap);
     }
 
-    public addCheckpoint_args() {
+    public accessBlocks_args() {
     }
 
-    public addCheckpoint_args(
-      long userId,
-      int fileId)
+    public accessBlocks_args(
+      List<Long> blockIds)
     {
       this();
-      this.userId = userId;
-      setUserIdIsSet(true);
-      this.fileId = fileId;
-      setFileIdIsSet(true);
+      this.blockIds = blockIds;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public addCheckpoint_args(addCheckpoint_args other) {
-      __isset_bitfield = other.__isset_bitfield;
-      this.userId = other.userId;
-      this.fileId = other.fileId;
+    public accessBlocks_args(accessBlocks_args other) {
+      if (other.isSetBlockIds()) {
+        List<Long> __this__blockIds = new ArrayList<Long>(other.blockIds);
+        this.blockIds = __this__blockIds;
+      }
     }
 
-    public addCheckpoint_args deepCopy() {
-      return new addCheckpoint_args(this);
+    public accessBlocks_args deepCopy() {
+      return new accessBlocks_args(this);
     }
 
     @Override
     public void clear() {
-      setUserIdIsSet(false);
-      this.userId = 0;
-      setFileIdIsSet(false);
-      this.fileId = 0;
-    }
-
-    public long getUserId() {
-      return this.userId;
-    }
-
-    public addCheckpoint_args setUserId(long userId) {
-      this.userId = userId;
-      setUserIdIsSet(true);
-      return this;
+      this.blockIds = null;
     }
 
-    public void unsetUserId() {
-      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __USERID_ISSET_ID);
+    public int getBlockIdsSize() {
+      return (this.blockIds == null) ? 0 : this.blockIds.size();
     }
 
-    /** Returns true if field userId is set (has been assigned a value) and false otherwise */
-    public boolean isSetUserId() {
-      return EncodingUtils.testBit(__isset_bitfield, __USERID_ISSET_ID);
+    public java.util.Iterator<Long> getBlockIdsIterator() {
+      return (this.blockIds == null) ? null : this.blockIds.iterator();
     }
 
-    public void setUserIdIsSet(boolean value) {
-      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __USERID_ISSET_ID, value);
+    public void addToBlockIds(long elem) {
+      if (this.blockIds == null) {
+        this.blockIds = new ArrayList<Long>();
+      }
+      this.blockIds.add(elem);
     }
 
-    public int getFileId() {
-      return this.fileId;
+    public List<Long> getBlockIds() {
+      return this.blockIds;
     }
 
-    public addCheckpoint_args setFileId(int fileId) {
-      this.fileId = fileId;
-      setFileIdIsSet(true);
+    public accessBlocks_args setBlockIds(List<Long> blockIds) {
+      this.blockIds = blockIds;
       return this;
     }
 
-    public void unsetFileId() {
-      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __FILEID_ISSET_ID);
+    public void unsetBlockIds() {
+      this.blockIds = null;
     }
 
-    /** Returns true if field fileId is set (has been assigned a value) and false otherwise */
-    public boolean isSetFileId() {
-      return EncodingUtils.testBit(__isset_bitfield, __FILEID_ISSET_ID);
+    /** Returns true if field blockIds is set (has been assigned a value) and false otherwise */
+    public boolean isSetBlockIds() {
+      return this.blockIds != null;
     }
 
-    public void setFileIdIsSet(boolean value) {
-      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __FILEID_ISSET_ID, value);
+    public void setBlockIdsIsSet(boolean value) {
+      if (!value) {
+        this.blockIds = null;
+      }
     }
 
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
-      case USER_ID:
+      case BLOCK_IDS:
         if (value == null) {
-          unsetUserId();
-        } else {
-          setUserId((Long)value);
-        }
-        break;
-
-      case FILE_ID:
-        if (value == null) {
-          unsetFileId();
+          unsetBlockIds();
         } else {
-          setFileId((Integer)value);
+          setBlockIds((List<Long>)value);
         }
         break;
 
@@ -2722,11 +3545,8 @@ public class WorkerService {
 
     public Object getFieldValue(_Fields field) {
       switch (field) {
-      case USER_ID:
-        return Long.valueOf(getUserId());
-
-      case FILE_ID:
-        return Integer.valueOf(getFileId());
+      case BLOCK_IDS:
+        return getBlockIds();
 
       }
       throw new IllegalStateException();
@@ -2739,10 +3559,8 @@ public class WorkerService {
       }
 
       switch (field) {
-      case USER_ID:
-        return isSetUserId();
-      case FILE_ID:
-        return isSetFileId();
+      case BLOCK_IDS:
+        return isSetBlockIds();
       }
       throw new IllegalStateException();
     }
@@ -2751,30 +3569,21 @@ public class WorkerService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof addCheckpoint_args)
-        return this.equals((addCheckpoint_args)that);
+      if (that instanceof accessBlocks_args)
+        return this.equals((accessBlocks_args)that);
       return false;
     }
 
-    public boolean equals(addCheckpoint_args that) {
+    public boolean equals(accessBlocks_args that) {
       if (that == null)
         return false;
 
-      boolean this_present_userId = true;
-      boolean that_present_userId = true;
-      if (this_present_userId || that_present_userId) {
-        if (!(this_present_userId && that_present_userId))
-          return false;
-        if (this.userId != that.userId)
-          return false;
-      }
-
-      boolean this_present_fileId = true;
-      boolean that_present_fileId = true;
-      if (this_present_fileId || that_present_fileId) {
-        if (!(this_present_fileId && that_present_fileId))
+      boolean this_present_blockIds = true && this.isSetBlockIds();
+      boolean that_present_blockIds = true && that.isSetBlockIds();
+      if (this_present_blockIds || that_present_blockIds) {
+        if (!(this_present_blockIds && that_present_blockIds))
           return false;
-        if (this.fileId != that.fileId)
+        if (!this.blockIds.equals(that.blockIds))
           return false;
       }
 
@@ -2787,29 +3596,19 @@ public class WorkerService {
     }
 
     @Override
-    public int compareTo(addCheckpoint_args other) {
+    public int compareTo(accessBlocks_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
-      lastComparison = Boolean.valueOf(isSetUserId()).compareTo(other.isSetUserId());
-      if (lastComparison != 0) {
-        return lastComparison;
-      }
-      if (isSetUserId()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.userId, other.userId);
-        if (lastComparison != 0) {
-          return lastComparison;
-        }
-      }
-      lastComparison = Boolean.valueOf(isSetFileId()).compareTo(other.isSetFileId());
+      lastComparison = Boolean.valueOf(isSetBlockIds()).compareTo(other.isSetBlockIds());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetFileId()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.fileId, other.fileId);
+      if (isSetBlockIds()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.blockIds, other.blockIds);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -2831,15 +3630,15 @@ public class WorkerService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("addCheckpoint_args(");
+      StringBuilder sb = new StringBuilder("accessBlocks_args(");
       boolean first = true;
 
-      sb.append("userId:");
-      sb.append(this.userId);
-      first = false;
-      if (!first) sb.append(", ");
-      sb.append("fileId:");
-      sb.append(this.fileId);
+      sb.append("blockIds:");
+      if (this.blockIds == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.blockIds);
+      }
       first = false;
       sb.append(")");
       return sb.toString();
@@ -2860,23 +3659,21 @@ public class WorkerService {
 
     private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
       try {
-        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
-        __isset_bitfield = 0;
         read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
       } catch (org.apache.thrift.TException te) {
         throw new java.io.IOException(te);
       }
     }
 
-    private static class addCheckpoint_argsStandardSchemeFactory implements SchemeFactory {
-      public addCheckpoint_argsStandardScheme getScheme() {
-        return new addCheckpoint_argsStandardScheme();
+    private static class accessBlocks_argsStandardSchemeFactory implements SchemeFactory {
+      public accessBlocks_argsStandardScheme getScheme() {
+        return new accessBlocks_argsStandardScheme();
       }
     }
 
-    private static class addCheckpoint_argsStandardScheme extends StandardScheme<addCheckpoint_args> {
+    private static class accessBlocks_argsStandardScheme extends StandardScheme<accessBlocks_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, addCheckpoint_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, accessBlocks_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -2886,18 +3683,20 @@ public class WorkerService {
             break;
           }
           switch (schemeField.id) {
-            case 1: // USER_ID
-              if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
-                struct.userId = iprot.readI64();
-                struct.setUserIdIsSet(true);
-              } else { 
-                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
-              }
-              break;
-            case 2: // FILE_ID
-              if (schemeField.type == org.apache.thrift.protocol.TType.I32) {
-                struct.fileId = iprot.readI32();
-                struct.setFileIdIsSet(true);
+            case 1: // BLOCK_IDS
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list230 = iprot.readListBegin();
+                  struct.blockIds = new ArrayList<Long>(_list230.size);
+                  for (int _i231 = 0; _i231 < _list230.size; ++_i231)
+                  {
+                    long _elem232;
+                    _elem232 = iprot.readI64();
+                    struct.blockIds.add(_elem232);
+                  }
+                  iprot.readListEnd();
+                }
+                struct.setBlockIdsIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -2913,91 +3712,91 @@ public class WorkerService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, addCheckpoint_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, accessBlocks_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        oprot.writeFieldBegin(USER_ID_FIELD_DESC);
-        oprot.writeI64(struct.userId);
-        oprot.writeFieldEnd();
-        oprot.writeFieldBegin(FILE_ID_FIELD_DESC);
-        oprot.writeI32(struct.fileId);
-        oprot.writeFieldEnd();
+        if (struct.blockIds != null) {
+          oprot.writeFieldBegin(BLOCK_IDS_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.I64, struct.blockIds.size()));
+            for (long _iter233 : struct.blockIds)
+            {
+              oprot.writeI64(_iter233);
+            }
+            oprot.writeListEnd();
+          }
+          oprot.writeFieldEnd();
+        }
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
 
     }
 
-    private static class addCheckpoint_argsTupleSchemeFactory implements SchemeFactory {
-      public addCheckpoint_argsTupleScheme getScheme() {
-        return new addCheckpoint_argsTupleScheme();
+    private static class accessBlocks_argsTupleSchemeFactory implements SchemeFactory {
+      public accessBlocks_argsTupleScheme getScheme() {
+        return new accessBlocks_argsTupleScheme();
       }
     }
 
-    private static class addCheckpoint_argsTupleScheme extends TupleScheme<addCheckpoint_args> {
+    private static class accessBlocks_argsTupleScheme extends TupleScheme<accessBlocks_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, addCheckpoint_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, accessBlocks_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
-        if (struct.isSetUserId()) {
+        if (struct.isSetBlockIds()) {
           optionals.set(0);
         }
-        if (struct.isSetFileId()) {
-          optionals.set(1);
-        }
-        oprot.writeBitSet(optionals, 2);
-        if (struct.isSetUserId()) {
-          oprot.writeI64(struct.userId);
-        }
-        if (struct.isSetFileId()) {
-          oprot.writeI32(struct.fileId);
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetBlockIds()) {
+          {
+            oprot.writeI32(struct.blockIds.size());
+            for (long _iter234 : struct.blockIds)
+            {
+              oprot.writeI64(_iter234);
+            }
+          }
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, addCheckpoint_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, accessBlocks_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
-        BitSet incoming = iprot.readBitSet(2);
+        BitSet incoming = iprot.readBitSet(1);
         if (incoming.get(0)) {
-          struct.userId = iprot.readI64();
-          struct.setUserIdIsSet(true);
-        }
-        if (incoming.get(1)) {
-          struct.fileId = iprot.readI32();
-          struct.setFileIdIsSet(true);
+          {
+            org.apache.thrift.protocol.TList _list235 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.I64, iprot.readI32());
+            struct.blockIds = new ArrayList<Long>(_list235.size);
+            for (int _i236 = 0; _i236 < _list235.size; ++_i236)
+            {
+              long _elem237;
+              _elem237 = iprot.readI64();
+              struct.blockIds.add(_elem237);
+            }
+          }
+          struct.setBlockIdsIsSet(true);
         }
       }
     }
 
   }
 
-  public static class addCheckpoint_result implements org.apache.thrift.TBase<addCheckpoint_result, addCheckpoint_result._Fields>, java.io.Serializable, Cloneable, Comparable<addCheckpoint_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("addCheckpoint_result");
+  public static class accessBlocks_result implements org.apache.thrift.TBase<accessBlocks_result, accessBlocks_result._Fields>, java.io.Serializable, Cloneable, Comparable<accessBlocks_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("accessBlocks_result");
 
-    private static final org.apache.thrift.protocol.TField E_P_FIELD_DESC = new org.apache.thrift.protocol.TField("eP", org.apache.thrift.protocol.TType.STRUCT, (short)1);
-    private static final org.apache.thrift.protocol.TField E_S_FIELD_DESC = new org.apache.thrift.protocol.TField("eS", org.apache.thrift.protocol.TType.STRUCT, (short)2);
-    private static final org.apache.thrift.protocol.TField E_F_FIELD_DESC = new org.apache.thrift.protocol.TField("eF", org.apache.thrift.protocol.TType.STRUCT, (short)3);
-    private static final org.apache.thrift.protocol.TField E_B_FIELD_DESC = new org.apache.thrift.protocol.TField("eB", org.apache.thrift.protocol.TType.STRUCT, (short)4);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new addCheckpoint_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new addCheckpoint_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new accessBlocks_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new accessBlocks_resultTupleSchemeFactory());
     }
 
-    public FileDoesNotExistException eP; // required
-    public SuspectedFileSizeException eS; // required
-    public FailedToCheckpointException eF; // required
-    public BlockInfoException eB; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      E_P((short)1, "eP"),
-      E_S((short)2, "eS"),
-      E_F((short)3, "eF"),
-      E_B((short)4, "eB");
+;
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -3012,14 +3811,6 @@ public class WorkerService {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
-          case 1: // E_P
-            return E_P;
-          case 2: // E_S
-            return E_S;
-          case 3: // E_F
-            return E_F;
-          case 4: // E_B
-            return E_B;
           default:
             return null;
         }
@@ -3058,138 +3849,4842 @@ public class WorkerService {
         return _fieldName;
       }
     }
-
-    // isset id assignments
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
-      tmpMap.put(_Fields.E_P, new org.apache.thrift.meta_data.FieldMetaData("eP", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
-      tmpMap.put(_Fields.E_S, new org.apache.thrift.meta_data.FieldMetaData("eS", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
-      tmpMap.put(_Fields.E_F, new org.apache.thrift.meta_data.FieldMetaData("eF", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
-      tmpMap.put(_Fields.E_B, new org.apache.thrift.meta_data.FieldMetaData("eB", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(addCheckpoint_result.class, metaDataMap);
-    }
-
-    public addCheckpoint_result() {
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(accessBlocks_result.class, metaDataMap);
     }
 
-    public addCheckpoint_result(
-      FileDoesNotExistException eP,
-      SuspectedFileSizeException eS,
-      FailedToCheckpointException eF,
-      BlockInfoException eB)
-    {
-      this();
-      this.eP = eP;
-      this.eS = eS;
-      this.eF = eF;
-      this.eB = eB;
+    public accessBlocks_result() {
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public addCheckpoint_result(addCheckpoint_result other) {
-      if (other.isSetEP()) {
-        this.eP = new FileDoesNotExistException(other.eP);
-      }
-      if (other.isSetES()) {
-        this.eS = new SuspectedFileSizeException(other.eS);
-      }
-      if (other.isSetEF()) {
-        this.eF = new FailedToCheckpointException(other.eF);
-      }
-      if (other.isSetEB()) {
-        this.eB = new BlockInfoException(other.eB);
-      }
+    public accessBlocks_result(accessBlocks_result other) {
     }
 
-    public addCheckpoint_result deepCopy() {
-      return new addCheckpoint_result(this);
+    public accessBlocks_result deepCopy() {
+      return new accessBlocks_result(this);
     }
 
     @Override
     public void clear() {
-      this.eP = null;
-      this.eS = null;
-      this.eF = null;
-      this.eB = null;
-    }
-
-    public FileDoesNotExistException getEP() {
-      return this.eP;
     }
 
-    public addCheckpoint_result setEP(FileDoesNotExistException eP) {
-      this.eP = eP;
-      return this;
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      }
     }
 
-    public void unsetEP() {
-      this.eP = null;
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      }
+      throw new IllegalStateException();
     }
 
-    /** Returns true if field eP is set (has been assigned a value) and false otherwise */
-    public boolean isSetEP() {
-      return this.eP != null;
-    }
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
 
-    public void setEPIsSet(boolean value) {
-      if (!value) {
-        this.eP = null;
+      switch (field) {
       }
+      throw new IllegalStateException();
     }
 
-    public SuspectedFileSizeException getES() {
-      return this.eS;
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof accessBlocks_result)
+        return this.equals((accessBlocks_result)that);
+      return false;
     }
 
-    public addCheckpoint_result setES(SuspectedFileSizeException eS) {
-      this.eS = eS;
-      return this;
-    }
+    public boolean equals(accessBlocks_result that) {
+      if (that == null)
+        return false;
 
-    public void unsetES() {
-      this.eS = null;
+      return true;
     }
 
-    /** Returns true if field eS is set (has been assigned a value) and false otherwise */
-    public boolean isSetES() {
-      return this.eS != null;
+    @Override
+    public int hashCode() {
+      return 0;
     }
 
-    public void setESIsSet(boolean value) {
-      if (!value) {
-        this.eS = null;
+    @Override
+    public int compareTo(accessBlocks_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
       }
-    }
 
-    public FailedToCheckpointException getEF() {
-      return this.eF;
+      int lastComparison = 0;
+
+      return 0;
     }
 
-    public addCheckpoint_result setEF(FailedToCheckpointException eF) {
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+      }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("accessBlocks_result(");
+      boolean first = true;
+
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class accessBlocks_resultStandardSchemeFactory implements SchemeFactory {
+      public accessBlocks_resultStandardScheme getScheme() {
+        return new accessBlocks_resultStandardScheme();
+      }
+    }
+
+    private static class accessBlocks_resultStandardScheme extends StandardScheme<accessBlocks_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, accessBlocks_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, accessBlocks_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class accessBlocks_resultTupleSchemeFactory implements SchemeFactory {
+      public accessBlocks_resultTupleScheme getScheme() {
+        return new accessBlocks_resultTupleScheme();
+      }
+    }
+
+    private static class accessBlocks_resultTupleScheme extends TupleScheme<accessBlocks_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, accessBlocks_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, accessBlocks_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+      }
+    }
+
+  }
+
+  public static class addCheckpoint_args implements org.apache.thrift.TBase<addCheckpoint_args, addCheckpoint_args._Fields>, java.io.Serializable, Cloneable, Comparable<addCheckpoint_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("addCheckpoint_args");
+
+    private static final org.apache.thrift.protocol.TField USER_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("userId", org.apache.thrift.protocol.TType.I64, (short)1);
+    private static final org.apache.thrift.protocol.TField FILE_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("fileId", org.apache.thrift.protocol.TType.I32, (short)2);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new addCheckpoint_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new addCheckpoint_argsTupleSchemeFactory());
+    }
+
+    public long userId; // required
+    public int fileId; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      USER_ID((short)1, "userId"),
+      FILE_ID((short)2, "fileId");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // USER_ID
+            return USER_ID;
+          case 2: // FILE_ID
+            return FILE_ID;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    private static final int __USERID_ISSET_ID = 0;
+    private static final int __FILEID_ISSET_ID = 1;
+    private byte __isset_bitfield = 0;
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.USER_ID, new org.apache.thrift.meta_data.FieldMetaData("userId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
+      tmpMap.put(_Fields.FILE_ID, new org.apache.thrift.meta_data.FieldMetaData("fileId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(addCheckpoint_args.class, metaDataMap);
+    }
+
+    public addCheckpoint_args() {
+    }
+
+    public addCheckpoint_args(
+      long userId,
+      int fileId)
+    {
+      this();
+      this.userId = userId;
+      setUserIdIsSet(true);
+      this.fileId = fileId;
+      setFileIdIsSet(true);
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public addCheckpoint_args(addCheckpoint_args other) {
+      __isset_bitfield = other.__isset_bitfield;
+      this.userId = other.userId;
+      this.fileId = other.fileId;
+    }
+
+    public addCheckpoint_args deepCopy() {
+      return new addCheckpoint_args(this);
+    }
+
+    @Override
+    public void clear() {
+      setUserIdIsSet(false);
+      this.userId = 0;
+      setFileIdIsSet(false);
+      this.fileId = 0;
+    }
+
+    public long getUserId() {
+      return this.userId;
+    }
+
+    public addCheckpoint_args setUserId(long userId) {
+      this.userId = userId;
+      setUserIdIsSet(true);
+      return this;
+    }
+
+    public void unsetUserId() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __USERID_ISSET_ID);
+    }
+
+    /** Returns true if field userId is set (has been assigned a value) and false otherwise */
+    public boolean isSetUserId() {
+      return EncodingUtils.testBit(__isset_bitfield, __USERID_ISSET_ID);
+    }
+
+    public void setUserIdIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __USERID_ISSET_ID, value);
+    }
+
+    public int getFileId() {
+      return this.fileId;
+    }
+
+    public addCheckpoint_args setFileId(int fileId) {
+      this.fileId = fileId;
+      setFileIdIsSet(true);
+      return this;
+    }
+
+    public void unsetFileId() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __FILEID_ISSET_ID);
+    }
+
+    /** Returns true if field fileId is set (has been assigned a value) and false otherwise */
+    public boolean isSetFileId() {
+      return EncodingUtils.testBit(__isset_bitfield, __FILEID_ISSET_ID);
+    }
+
+    public void setFileIdIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __FILEID_ISSET_ID, value);
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case USER_ID:
+        if (value == null) {
+          unsetUserId();
+        } else {
+          setUserId((Long)value);
+        }
+        break;
+
+      case FILE_ID:
+        if (value == null) {
+          unsetFileId();
+        } else {
+          setFileId((Integer)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case USER_ID:
+        return Long.valueOf(getUserId());
+
+      case FILE_ID:
+        return Integer.valueOf(getFileId());
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case USER_ID:
+        return isSetUserId();
+      case FILE_ID:
+        return isSetFileId();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof addCheckpoint_args)
+        return this.equals((addCheckpoint_args)that);
+      return false;
+    }
+
+    public boolean equals(addCheckpoint_args that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_userId = true;
+      boolean that_present_userId = true;
+      if (this_present_userId || that_present_userId) {
+        if (!(this_present_userId && that_present_userId))
+          return false;
+        if (this.userId != that.userId)
+          return false;
+      }
+
+      boolean this_present_fileId = true;
+      boolean that_present_fileId = true;
+      if (this_present_fileId || that_present_fileId) {
+        if (!(this_present_fileId && that_present_fileId))
+          return false;
+        if (this.fileId != that.fileId)
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      return 0;
+    }
+
+    @Override
+    public int compareTo(addCheckpoint_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetUserId()).compareTo(other.isSetUserId());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetUserId()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.userId, other.userId);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetFileId()).compareTo(other.isSetFileId());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetFileId()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.fileId, other.fileId);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("addCheckpoint_args(");
+      boolean first = true;
+
+      sb.append("userId:");
+      sb.append(this.userId);
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("fileId:");
+      sb.append(this.fileId);
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bitfield = 0;
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class addCheckpoint_argsStandardSchemeFactory implements SchemeFactory {
+      public addCheckpoint_argsStandardScheme getScheme() {
+        return new addCheckpoint_argsStandardScheme();
+      }
+    }
+
+    private static class addCheckpoint_argsStandardScheme extends StandardScheme<addCheckpoint_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, addCheckpoint_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // USER_ID
+              if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
+                struct.userId = iprot.readI64();
+                struct.setUserIdIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // FILE_ID
+              if (schemeField.type == org.apache.thrift.protocol.TType.I32) {
+                struct.fileId = iprot.readI32();
+                struct.setFileIdIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, addCheckpoint_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        oprot.writeFieldBegin(USER_ID_FIELD_DESC);
+        oprot.writeI64(struct.userId);
+        oprot.writeFieldEnd();
+        oprot.writeFieldBegin(FILE_ID_FIELD_DESC);
+        oprot.writeI32(struct.fileId);
+        oprot.writeFieldEnd();
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class addCheckpoint_argsTupleSchemeFactory implements SchemeFactory {
+      public addCheckpoint_argsTupleScheme getScheme() {
+        return new addCheckpoint_argsTupleScheme();
+      }
+    }
+
+    private static class addCheckpoint_argsTupleScheme extends TupleScheme<addCheckpoint_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, addCheckpoint_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetUserId()) {
+          optionals.set(0);
+        }
+        if (struct.isSetFileId()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetUserId()) {
+          oprot.writeI64(struct.userId);
+        }
+        if (struct.isSetFileId()) {
+          oprot.writeI32(struct.fileId);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, addCheckpoint_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(2);
+        if (incoming.get(0)) {
+          struct.userId = iprot.readI64();
+          struct.setUserIdIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.fileId = iprot.readI32();
+          struct.setFileIdIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class addCheckpoint_result implements org.apache.thrift.TBase<addCheckpoint_result, addCheckpoint_result._Fields>, java.io.Serializable, Cloneable, Comparable<addCheckpoint_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("addCheckpoint_result");
+
+    private static final org.apache.thrift.protocol.TField E_P_FIELD_DESC = new org.apache.thrift.protocol.TField("eP", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+    private static final org.apache.thrift.protocol.TField E_S_FIELD_DESC = new org.apache.thrift.protocol.TField("eS", org.apache.thrift.protocol.TType.STRUCT, (short)2);
+    private static final org.apache.thrift.protocol.TField E_F_FIELD_DESC = new org.apache.thrift.protocol.TField("eF", org.apache.thrift.protocol.TType.STRUCT, (short)3);
+    private static final org.apache.thrift.protocol.TField E_B_FIELD_DESC = new org.apache.thrift.protocol.TField("eB", org.apache.thrift.protocol.TType.STRUCT, (short)4);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new addCheckpoint_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new addCheckpoint_resultTupleSchemeFactory());
+    }
+
+    public FileDoesNotExistException eP; // required
+    public SuspectedFileSizeException eS; // required
+    public FailedToCheckpointException eF; // required
+    public BlockInfoException eB; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      E_P((short)1, "eP"),
+      E_S((short)2, "eS"),
+      E_F((short)3, "eF"),
+      E_B((short)4, "eB");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // E_P
+            return E_P;
+          case 2: // E_S
+            return E_S;
+          case 3: // E_F
+            return E_F;
+          case 4: // E_B
+            return E_B;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.E_P, new org.apache.thrift.meta_data.FieldMetaData("eP", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
+      tmpMap.put(_Fields.E_S, new org.apache.thrift.meta_data.FieldMetaData("eS", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
+      tmpMap.put(_Fields.E_F, new org.apache.thrift.meta_data.FieldMetaData("eF", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
+      tmpMap.put(_Fields.E_B, new org.apache.thrift.meta_data.FieldMetaData("eB", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(addCheckpoint_result.class, metaDataMap);
+    }
+
+    public addCheckpoint_result() {
+    }
+
+    public addCheckpoint_result(
+      FileDoesNotExistException eP,
+      SuspectedFileSizeException eS,
+      FailedToCheckpointException eF,
+      BlockInfoException eB)
+    {
+      this();
+      this.eP = eP;
+      this.eS = eS;
+      this.eF = eF;
+      this.eB = eB;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public addCheckpoint_result(addCheckpoint_result other) {
+      if (other.isSetEP()) {
+        this.eP = new FileDoesNotExistException(other.eP);
+      }
+      if (other.isSetES()) {
+        this.eS = new SuspectedFileSizeException(other.eS);
+      }
+      if (other.isSetEF()) {
+        this.eF = new FailedToCheckpointException(other.eF);
+      }
+      if (other.isSetEB()) {
+        this.eB = new BlockInfoException(other.eB);
+      }
+    }
+
+    public addCheckpoint_result deepCopy() {
+      return new addCheckpoint_result(this);
+    }
+
+    @Override
+    public void clear() {
+      this.eP = null;
+      this.eS = null;
+      this.eF = null;
+      this.eB = null;
+    }
+
+    public FileDoesNotExistException getEP() {
+      return this.eP;
+    }
+
+    public addCheckpoint_result setEP(FileDoesNotExistException eP) {
+      this.eP = eP;
+      return this;
+    }
+
+    public void unsetEP() {
+      this.eP = null;
+    }
+
+    /** Returns true if field eP is set (has been assigned a value) and false otherwise */
+    public boolean isSetEP() {
+      return this.eP != null;
+    }
+
+    public void setEPIsSet(boolean value) {
+      if (!value) {
+        this.eP = null;
+      }
+    }
+
+    public SuspectedFileSizeException getES() {
+      return this.eS;
+    }
+
+    public addCheckpoint_result setES(SuspectedFileSizeException eS) {
+      this.eS = eS;
+      return this;
+    }
+
+    public void unsetES() {
+      this.eS = null;
+    }
+
+    /** Returns true if field eS is set (has been assigned a value) and false otherwise */
+    public boolean isSetES() {
+      return this.eS != null;
+    }
+
+    public void setESIsSet(boolean value) {
+      if (!value) {
+        this.eS = null;
+      }
+    }
+
+    public FailedToCheckpointException getEF() {
+      return this.eF;
+    }
+
+    public addCheckpoint_result setEF(FailedToCheckpointException eF) {
       this.eF = eF;
       return this;
     }
 
-    public void unsetEF() {
-      this.eF = null;
+    public void unsetEF() {
+      this.eF = null;
+    }
+
+    /** Returns true if field eF is set (has been assigned a value) and false otherwise */
+    public boolean isSetEF() {
+      return this.eF != null;
+    }
+
+    public void setEFIsSet(boolean value) {
+      if (!value) {
+        this.eF = null;
+      }
+    }
+
+    public BlockInfoException getEB() {
+      return this.eB;
+    }
+
+    public addCheckpoint_result setEB(BlockInfoException eB) {
+      this.eB = eB;
+      return this;
+    }
+
+    public void unsetEB() {
+      this.eB = null;
+    }
+
+    /** Returns true if field eB is set (has been assigned a value) and false otherwise */
+    public boolean isSetEB() {
+      return this.eB != null;
+    }
+
+    public void setEBIsSet(boolean value) {
+      if (!value) {
+        this.eB = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case E_P:
+        if (value == null) {
+          unsetEP();
+        } else {
+          setEP((FileDoesNotExistException)value);
+        }
+        break;
+
+      case E_S:
+        if (value == null) {
+          unsetES();
+        } else {
+          setES((SuspectedFileSizeException)value);
+        }
+        break;
+
+      case E_F:
+        if (value == null) {
+          unsetEF();
+        } else {
+          setEF((FailedToCheckpointException)value);
+        }
+        break;
+
+      case E_B:
+        if (value == null) {
+          unsetEB();
+        } else {
+          setEB((BlockInfoException)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case E_P:
+        return getEP();
+
+      case E_S:
+        return getES();
+
+      case E_F:
+        return getEF();
+
+      case E_B:
+        return getEB();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case E_P:
+        return isSetEP();
+      case E_S:
+        return isSetES();
+      case E_F:
+        return isSetEF();
+      case E_B:
+        return isSetEB();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof addCheckpoint_result)
+        return this.equals((addCheckpoint_result)that);
+      return false;
+    }
+
+    public boolean equals(addCheckpoint_result that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_eP = true && this.isSetEP();
+      boolean that_present_eP = true && that.isSetEP();
+      if (this_present_eP || that_present_eP) {
+        if (!(this_present_eP && that_present_eP))
+          return false;
+        if (!this.eP.equals(that.eP))
+          return false;
+      }
+
+      boolean this_present_eS = true && this.isSetES();
+      boolean that_present_eS = true && that.isSetES();
+      if (this_present_eS || that_present_eS) {
+        if (!(this_present_eS && that_present_eS))
+          return false;
+        if (!this.eS.equals(that.eS))
+          return false;
+      }
+
+      boolean this_present_eF = true && this.isSetEF();
+      boolean that_present_eF = true && that.isSetEF();
+      if (this_present_eF || that_present_eF) {
+        if (!(this_present_eF && that_present_eF))
+          return false;
+        if (!this.eF.equals(that.eF))
+          return false;
+      }
+
+      boolean this_present_eB = true && this.isSetEB();
+      boolean that_present_eB = true && that.isSetEB();
+      if (this_present_eB || that_present_eB) {
+        if (!(this_present_eB && that_present_eB))
+          return false;
+        if (!this.eB.equals(that.eB))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      return 0;
+    }
+
+    @Override
+    public int compareTo(addCheckpoint_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetEP()).compareTo(other.isSetEP());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetEP()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.eP, other.eP);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetES()).compareTo(other.isSetES());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetES()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.eS, other.eS);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetEF()).compareTo(other.isSetEF());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetEF()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.eF, other.eF);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetEB()).compareTo(other.isSetEB());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetEB()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.eB, other.eB);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+      }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("addCheckpoint_result(");
+      boolean first = true;
+
+      sb.append("eP:");
+      if (this.eP == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.eP);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("eS:");
+      if (this.eS == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.eS);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("eF:");
+      if (this.eF == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.eF);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("eB:");
+      if (this.eB == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.eB);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class addCheckpoint_resultStandardSchemeFactory implements SchemeFactory {
+      public addCheckpoint_resultStandardScheme getScheme() {
+        return new addCheckpoint_resultStandardScheme();
+      }
+    }
+
+    private static class addCheckpoint_resultStandardScheme extends StandardScheme<addCheckpoint_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, addCheckpoint_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // E_P
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.eP = new FileDoesNotExistException();
+                struct.eP.read(iprot);
+                struct.setEPIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // E_S
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.eS = new SuspectedFileSizeException();
+                struct.eS.read(iprot);
+                struct.setESIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 3: // E_F
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.eF = new FailedToCheckpointException();
+                struct.eF.read(iprot);
+                struct.setEFIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 4: // E_B
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.eB = new BlockInfoException();
+                struct.eB.read(iprot);
+                struct.setEBIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, addCheckpoint_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.eP != null) {
+          oprot.writeFieldBegin(E_P_FIELD_DESC);
+          struct.eP.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        if (struct.eS != null) {
+          oprot.writeFieldBegin(E_S_FIELD_DESC);
+          struct.eS.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        if (struct.eF != null) {
+          oprot.writeFieldBegin(E_F_FIELD_DESC);
+          struct.eF.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        if (struct.eB != null) {
+          oprot.writeFieldBegin(E_B_FIELD_DESC);
+          struct.eB.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class addCheckpoint_resultTupleSchemeFactory implements SchemeFactory {
+      public addCheckpoint_resultTupleScheme getScheme() {
+        return new addCheckpoint_resultTupleScheme();
+      }
+    }
+
+    private static class addCheckpoint_resultTupleScheme extends TupleScheme<addCheckpoint_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, addCheckpoint_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetEP()) {
+          optionals.set(0);
+        }
+        if (struct.isSetES()) {
+          optionals.set(1);
+        }
+        if (struct.isSetEF()) {
+          optionals.set(2);
+        }
+        if (struct.isSetEB()) {
+          optionals.set(3);
+        }
+        oprot.writeBitSet(optionals, 4);
+        if (struct.isSetEP()) {
+          struct.eP.write(oprot);
+        }
+        if (struct.isSetES()) {
+          struct.eS.write(oprot);
+        }
+        if (struct.isSetEF()) {
+          struct.eF.write(oprot);
+        }
+        if (struct.isSetEB()) {
+          struct.eB.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, addCheckpoint_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(4);
+        if (incoming.get(0)) {
+          struct.eP = new FileDoesNotExistException();
+          struct.eP.read(iprot);
+          struct.setEPIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.eS = new SuspectedFileSizeException();
+          struct.eS.read(iprot);
+          struct.setESIsSet(true);
+        }
+        if (incoming.get(2)) {
+          struct.eF = new FailedToCheckpointException();
+          struct.eF.read(iprot);
+          struct.setEFIsSet(true);
+        }
+        if (incoming.get(3)) {
+          struct.eB = new BlockInfoException();
+          struct.eB.read(iprot);
+          struct.setEBIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class asyncCacheBlock_args implements org.apache.thrift.TBase<asyncCacheBlock_args, asyncCacheBlock_args._Fields>, java.io.Serializable, Cloneable, Comparable<asyncCacheBlock_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("asyncCacheBlock_args");
+
+    private static final org.apache.thrift.protocol.TField BLOCK_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("blockId", org.apache.thrift.protocol.TType.I64, (short)1);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new asyncCacheBlock_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new asyncCacheBlock_argsTupleSchemeFactory());
+    }
+
+    public long blockId; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      BLOCK_ID((short)1, "blockId");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // BLOCK_ID
+            return BLOCK_ID;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    private static final int __BLOCKID_ISSET_ID = 0;
+    private byte __isset_bitfield = 0;
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.BLOCK_ID, new org.apache.thrift.meta_data.FieldMetaData("blockId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(asyncCacheBlock_args.class, metaDataMap);
+    }
+
+    public asyncCacheBlock_args() {
+    }
+
+    public asyncCacheBlock_args(
+      long blockId)
+    {
+      this();
+      this.blockId = blockId;
+      setBlockIdIsSet(true);
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public asyncCacheBlock_args(asyncCacheBlock_args other) {
+      __isset_bitfield = other.__isset_bitfield;
+      this.blockId = other.blockId;
+    }
+
+    public asyncCacheBlock_args deepCopy() {
+      return new asyncCacheBlock_args(this);
+    }
+
+    @Override
+    public void clear() {
+      setBlockIdIsSet(false);
+      this.blockId = 0;
+    }
+
+    public long getBlockId() {
+      return this.blockId;
+    }
+
+    public asyncCacheBlock_args setBlockId(long blockId) {
+      this.blockId = blockId;
+      setBlockIdIsSet(true);
+      return this;
+    }
+
+    public void unsetBlockId() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __BLOCKID_ISSET_ID);
+    }
+
+    /** Returns true if field blockId is set (has been assigned a value) and false otherwise */
+    public boolean isSetBlockId() {
+      return EncodingUtils.testBit(__isset_bitfield, __BLOCKID_ISSET_ID);
+    }
+
+    public void setBlockIdIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __BLOCKID_ISSET_ID, value);
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case BLOCK_ID:
+        if (value == null) {
+          unsetBlockId();
+        } else {
+          setBlockId((Long)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case BLOCK_ID:
+        return Long.valueOf(getBlockId());
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case BLOCK_ID:
+        return isSetBlockId();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof asyncCacheBlock_args)
+        return this.equals((asyncCacheBlock_args)that);
+      return false;
+    }
+
+    public boolean equals(asyncCacheBlock_args that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_blockId = true;
+      boolean that_present_blockId = true;
+      if (this_present_blockId || that_present_blockId) {
+        if (!(this_present_blockId && that_present_blockId))
+          return false;
+        if (this.blockId != that.blockId)
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      return 0;
+    }
+
+    @Override
+    public int compareTo(asyncCacheBlock_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetBlockId()).compareTo(other.isSetBlockId());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetBlockId()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.blockId, other.blockId);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("asyncCacheBlock_args(");
+      boolean first = true;
+
+      sb.append("blockId:");
+      sb.append(this.blockId);
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bitfield = 0;
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class asyncCacheBlock_argsStandardSchemeFactory implements SchemeFactory {
+      public asyncCacheBlock_argsStandardScheme getScheme() {
+        return new asyncCacheBlock_argsStandardScheme();
+      }
+    }
+
+    private static class asyncCacheBlock_argsStandardScheme extends StandardScheme<asyncCacheBlock_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, asyncCacheBlock_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // BLOCK_ID
+              if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
+                struct.blockId = iprot.readI64();
+                struct.setBlockIdIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, asyncCacheBlock_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        oprot.writeFieldBegin(BLOCK_ID_FIELD_DESC);
+        oprot.writeI64(struct.blockId);
+        oprot.writeFieldEnd();
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class asyncCacheBlock_argsTupleSchemeFactory implements SchemeFactory {
+      public asyncCacheBlock_argsTupleScheme getScheme() {
+        return new asyncCacheBlock_argsTupleScheme();
+      }
+    }
+
+    private static class asyncCacheBlock_argsTupleScheme extends TupleScheme<asyncCacheBlock_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, asyncCacheBlock_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetBlockId()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetBlockId()) {
+          oprot.writeI64(struct.blockId);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, asyncCacheBlock_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          struct.blockId = iprot.readI64();
+          struct.setBlockIdIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class asyncCacheBlock_result implements org.apache.thrift.TBase<asyncCacheBlock_result, asyncCacheBlock_result._Fields>, java.io.Serializable, Cloneable, Comparable<asyncCacheBlock_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("asyncCacheBlock_result");
+
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new asyncCacheBlock_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new asyncCacheBlock_resultTupleSchemeFactory());
+    }
+
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+;
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(asyncCacheBlock_result.class, metaDataMap);
+    }
+
+    public asyncCacheBlock_result() {
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public asyncCacheBlock_result(asyncCacheBlock_result other) {
+    }
+
+    public asyncCacheBlock_result deepCopy() {
+      return new asyncCacheBlock_result(this);
+    }
+
+    @Override
+    public void clear() {
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof asyncCacheBlock_result)
+        return this.equals((asyncCacheBlock_result)that);
+      return false;
+    }
+
+    public boolean equals(asyncCacheBlock_result that) {
+      if (that == null)
+        return false;
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      return 0;
+    }
+
+    @Override
+    public int compareTo(asyncCacheBlock_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+      }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("asyncCacheBlock_result(");
+      boolean first = true;
+
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class asyncCacheBlock_resultStandardSchemeFactory implements SchemeFactory {
+      public asyncCacheBlock_resultStandardScheme getScheme() {
+        return new asyncCacheBlock_resultStandardScheme();
+      }
+    }
+
+    private static class asyncCacheBlock_resultStandardScheme extends StandardScheme<asyncCacheBlock_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, asyncCacheBlock_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, asyncCacheBlock_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class asyncCacheBlock_resultTupleSchemeFactory implements SchemeFactory {
+      public asyncCacheBlock_resultTupleScheme getScheme() {
+        return new asyncCacheBlock_resultTupleScheme();
+      }
+    }
+
+    private static class asyncCacheBlock_resultTupleScheme extends TupleScheme<asyncCacheBlock_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, asyncCacheBlock_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, asyncCacheBlock_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+      }
+    }
+
+  }
+
+  public static class asyncCheckpoint_args implements org.apache.thrift.TBase<asyncCheckpoint_args, asyncCheckpoint_args._Fields>, java.io.Serializable, Cloneable, Comparable<asyncCheckpoint_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("asyncCheckpoint_args");
+
+    private static final org.apache.thrift.protocol.TField FILE_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("fileId", org.apache.thrift.protocol.TType.I32, (short)1);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new asyncCheckpoint_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new asyncCheckpoint_argsTupleSchemeFactory());
+    }
+
+    public int fileId; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      FILE_ID((short)1, "fileId");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // FILE_ID
+            return FILE_ID;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    private static final int __FILEID_ISSET_ID = 0;
+    private byte __isset_bitfield = 0;
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.FILE_ID, new org.apache.thrift.meta_data.FieldMetaData("fileId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(asyncCheckpoint_args.class, metaDataMap);
+    }
+
+    public asyncCheckpoint_args() {
+    }
+
+    public asyncCheckpoint_args(
+      int fileId)
+    {
+      this();
+      this.fileId = fileId;
+      setFileIdIsSet(true);
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public asyncCheckpoint_args(asyncCheckpoint_args other) {
+      __isset_bitfield = other.__isset_bitfield;
+      this.fileId = other.fileId;
+    }
+
+    public asyncCheckpoint_args deepCopy() {
+      return new asyncCheckpoint_args(this);
+    }
+
+    @Override
+    public void clear() {
+      setFileIdIsSet(false);
+      this.fileId = 0;
+    }
+
+    public int getFileId() {
+      return this.fileId;
+    }
+
+    public asyncCheckpoint_args setFileId(int fileId) {
+      this.fileId = fileId;
+      setFileIdIsSet(true);
+      return this;
+    }
+
+    public void unsetFileId() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __FILEID_ISSET_ID);
+    }
+
+    /** Returns true if field fileId is set (has been assigned a value) and false otherwise */
+    public boolean isSetFileId() {
+      return EncodingUtils.testBit(__isset_bitfield, __FILEID_ISSET_ID);
+    }
+
+    public void setFileIdIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __FILEID_ISSET_ID, value);
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case FILE_ID:
+        if (value == null) {
+          unsetFileId();
+        } else {
+          setFileId((Integer)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case FILE_ID:
+        return Integer.valueOf(getFileId());
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case FILE_ID:
+        return isSetFileId();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof asyncCheckpoint_args)
+        return this.equals((asyncCheckpoint_args)that);
+      return false;
+    }
+
+    public boolean equals(asyncCheckpoint_args that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_fileId = true;
+      boolean that_present_fileId = true;
+      if (this_present_fileId || that_present_fileId) {
+        if (!(this_present_fileId && that_present_fileId))
+          return false;
+        if (this.fileId != that.fileId)
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      return 0;
+    }
+
+    @Override
+    public int compareTo(asyncCheckpoint_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetFileId()).compareTo(other.isSetFileId());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetFileId()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.fileId, other.fileId);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("asyncCheckpoint_args(");
+      boolean first = true;
+
+      sb.append("fileId:");
+      sb.append(this.fileId);
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bitfield = 0;
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class asyncCheckpoint_argsStandardSchemeFactory implements SchemeFactory {
+      public asyncCheckpoint_argsStandardScheme getScheme() {
+        return new asyncCheckpoint_argsStandardScheme();
+      }
+    }
+
+    private static class asyncCheckpoint_argsStandardScheme extends StandardScheme<asyncCheckpoint_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, asyncCheckpoint_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // FILE_ID
+              if (schemeField.type == org.apache.thrift.protocol.TType.I32) {
+                struct.fileId = iprot.readI32();
+                struct.setFileIdIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, asyncCheckpoint_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        oprot.writeFieldBegin(FILE_ID_FIELD_DESC);
+        oprot.writeI32(struct.fileId);
+        oprot.writeFieldEnd();
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class asyncCheckpoint_argsTupleSchemeFactory implements SchemeFactory {
+      public asyncCheckpoint_argsTupleScheme getScheme() {
+        return new asyncCheckpoint_argsTupleScheme();
+      }
+    }
+
+    private static class asyncCheckpoint_argsTupleScheme extends TupleScheme<asyncCheckpoint_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, asyncCheckpoint_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetFileId()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetFileId()) {
+          oprot.writeI32(struct.fileId);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, asyncCheckpoint_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          struct.fileId = iprot.readI32();
+          struct.setFileIdIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class asyncCheckpoint_result implements org.apache.thrift.TBase<asyncCheckpoint_result, asyncCheckpoint_result._Fields>, java.io.Serializable, Cloneable, Comparable<asyncCheckpoint_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("asyncCheckpoint_result");
+
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.BOOL, (short)0);
+    private static final org.apache.thrift.protocol.TField E_FIELD_DESC = new org.apache.thrift.protocol.TField("e", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new asyncCheckpoint_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new asyncCheckpoint_resultTupleSchemeFactory());
+    }
+
+    public boolean success; // required
+    public TachyonException e; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SUCCESS((short)0, "success"),
+      E((short)1, "e");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          case 1: // E
+            return E;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    private static final int __SUCCESS_ISSET_ID = 0;
+    private byte __isset_bitfield = 0;
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.BOOL)));
+      tmpMap.put(_Fields.E, new org.apache.thrift.meta_data.FieldMetaData("e", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(asyncCheckpoint_result.class, metaDataMap);
+    }
+
+    public asyncCheckpoint_result() {
+    }
+
+    public asyncCheckpoint_result(
+      boolean success,
+      TachyonException e)
+    {
+      this();
+      this.success = success;
+      setSuccessIsSet(true);
+      this.e = e;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public asyncCheckpoint_result(asyncCheckpoint_result other) {
+      __isset_bitfield = other.__isset_bitfield;
+      this.success = other.success;
+      if (other.isSetE()) {
+        this.e = new TachyonException(other.e);
+      }
+    }
+
+    public asyncCheckpoint_result deepCopy() {
+      return new asyncCheckpoint_result(this);
+    }
+
+    @Override
+    public void clear() {
+      setSuccessIsSet(false);
+      this.success = false;
+      this.e = null;
+    }
+
+    public boolean isSuccess() {
+      return this.success;
+    }
+
+    public asyncCheckpoint_result setSuccess(boolean success) {
+      this.success = success;
+      setSuccessIsSet(true);
+      return this;
+    }
+
+    public void unsetSuccess() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __SUCCESS_ISSET_ID);
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return EncodingUtils.testBit(__isset_bitfield, __SUCCESS_ISSET_ID);
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __SUCCESS_ISSET_ID, value);
+    }
+
+    public TachyonException getE() {
+      return this.e;
+    }
+
+    public asyncCheckpoint_result setE(TachyonException e) {
+      this.e = e;
+      return this;
+    }
+
+    public void unsetE() {
+      this.e = null;
+    }
+
+    /** Returns true if field e is set (has been assigned a value) and false otherwise */
+    public boolean isSetE() {
+      return this.e != null;
+    }
+
+    public void setEIsSet(boolean value) {
+      if (!value) {
+        this.e = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((Boolean)value);
+        }
+        break;
+
+      case E:
+        if (value == null) {
+          unsetE();
+        } else {
+          setE((TachyonException)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SUCCESS:
+        return Boolean.valueOf(isSuccess());
+
+      case E:
+        return getE();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
+      case E:
+        return isSetE();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof asyncCheckpoint_result)
+        return this.equals((asyncCheckpoint_result)that);
+      return false;
+    }
+
+    public boolean equals(asyncCheckpoint_result that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_success = true;
+      boolean that_present_success = true;
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (this.success != that.success)
+          return false;
+      }
+
+      boolean this_present_e = true && this.isSetE();
+      boolean that_present_e = true && that.isSetE();
+      if (this_present_e || that_present_e) {
+        if (!(this_present_e && that_present_e))
+          return false;
+        if (!this.e.equals(that.e))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      return 0;
+    }
+
+    @Override
+    public int compareTo(asyncCheckpoint_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetE()).compareTo(other.isSetE());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetE()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.e, other.e);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+      }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("asyncCheckpoint_result(");
+      boolean first = true;
+
+      sb.append("success:");
+      sb.append(this.success);
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("e:");
+      if (this.e == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.e);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bitfield = 0;
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class asyncCheckpoint_resultStandardSchemeFactory implements SchemeFactory {
+      public asyncCheckpoint_resultStandardScheme getScheme() {
+        return new asyncCheckpoint_resultStandardScheme();
+      }
+    }
+
+    private static class asyncCheckpoint_resultStandardScheme extends StandardScheme<asyncCheckpoint_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, asyncCheckpoint_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.BOOL) {
+                struct.success = iprot.readBool();
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 1: // E
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.e = new TachyonException();
+                struct.e.read(iprot);
+                struct.setEIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, asyncCheckpoint_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.isSetSuccess()) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          oprot.writeBool(struct.success);
+          oprot.writeFieldEnd();
+        }
+        if (struct.e != null) {
+          oprot.writeFieldBegin(E_FIELD_DESC);
+          struct.e.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class asyncCheckpoint_resultTupleSchemeFactory implements SchemeFactory {
+      public asyncCheckpoint_resultTupleScheme getScheme() {
+        return new asyncCheckpoint_resultTupleScheme();
+      }
+    }
+
+    private static class asyncCheckpoint_resultTupleScheme extends TupleScheme<asyncCheckpoint_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, asyncCheckpoint_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        if (struct.isSetE()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetSuccess()) {
+          oprot.writeBool(struct.success);
+        }
+        if (struct.isSetE()) {
+          struct.e.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, asyncCheckpoint_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(2);
+        if (incoming.get(0)) {
+          struct.success = iprot.readBool();
+          struct.setSuccessIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.e = new TachyonException();
+          struct.e.read(iprot);
+          struct.setEIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class asyncPersistFile_args implements org.apache.thrift.TBase<asyncPersistFile_args, asyncPersistFile_args._Fields>, java.io.Serializable, Cloneable, Comparable<asyncPersistFile_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("asyncPersistFile_args");
+
+    private static final org.apache.thrift.protocol.TField FILE_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("fileId", org.apache.thrift.protocol.TType.I32, (short)1);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new asyncPersistFile_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new asyncPersistFile_argsTupleSchemeFactory());
+    }
+
+    public int fileId; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      FILE_ID((short)1, "fileId");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // FILE_ID
+            return FILE_ID;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    private static final int __FILEID_ISSET_ID = 0;
+    private byte __isset_bitfield = 0;
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.FILE_ID, new org.apache.thrift.meta_data.FieldMetaData("fileId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(asyncPersistFile_args.class, metaDataMap);
+    }
+
+    public asyncPersistFile_args() {
+    }
+
+    public asyncPersistFile_args(
+      int fileId)
+    {
+      this();
+      this.fileId = fileId;
+      setFileIdIsSet(true);
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public asyncPersistFile_args(asyncPersistFile_args other) {
+      __isset_bitfield = other.__isset_bitfield;
+      this.fileId = other.fileId;
+    }
+
+    public asyncPersistFile_args deepCopy() {
+      return new asyncPersistFile_args(this);
+    }
+
+    @Override
+    public void clear() {
+      setFileIdIsSet(false);
+      this.fileId = 0;
+    }
+
+    public int getFileId() {
+      return this.fileId;
+    }
+
+    public asyncPersistFile_args setFileId(int fileId) {
+      this.fileId = fileId;
+      setFileIdIsSet(true);
+      return this;
+    }
+
+    public void unsetFileId() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __FILEID_ISSET_ID);
+    }
+
+    /** Returns true if field fileId is set (has been assigned a value) and false otherwise */
+    public boolean isSetFileId() {
+      return EncodingUtils.testBit(__isset_bitfield, __FILEID_ISSET_ID);
+    }
+
+    public void setFileIdIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __FILEID_ISSET_ID, value);
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case FILE_ID:
+        if (value == null) {
+          unsetFileId();
+        } else {
+          setFileId((Integer)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case FILE_ID:
+        return Integer.valueOf(getFileId());
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case FILE_ID:
+        return isSetFileId();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof asyncPersistFile_args)
+        return this.equals((asyncPersistFile_args)that);
+      return false;
+    }
+
+    public boolean equals(asyncPersistFile_args that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_fileId = true;
+      boolean that_present_fileId = true;
+      if (this_present_fileId || that_present_fileId) {
+        if (!(this_present_fileId && that_present_fileId))
+          return false;
+        if (this.fileId != that.fileId)
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      return 0;
+    }
+
+    @Override
+    public int compareTo(asyncPersistFile_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetFileId()).compareTo(other.isSetFileId());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetFileId()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.fileId, other.fileId);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("asyncPersistFile_args(");
+      boolean first = true;
+
+      sb.append("fileId:");
+      sb.append(this.fileId);
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bitfield = 0;
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class asyncPersistFile_argsStandardSchemeFactory implements SchemeFactory {
+      public asyncPersistFile_argsStandardScheme getScheme() {
+        return new asyncPersistFile_argsStandardScheme();
+      }
+    }
+
+    private static class asyncPersistFile_argsStandardScheme extends StandardScheme<asyncPersistFile_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, asyncPersistFile_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // FILE_ID
+              if (schemeField.type == org.apache.thrift.protocol.TType.I32) {
+                struct.fileId = iprot.readI32();
+                struct.setFileIdIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, asyncPersistFile_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        oprot.writeFieldBegin(FILE_ID_FIELD_DESC);
+        oprot.writeI32(struct.fileId);
+        oprot.writeFieldEnd();
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class asyncPersistFile_argsTupleSchemeFactory implements SchemeFactory {
+      public asyncPersistFile_argsTupleScheme getScheme() {
+        return new asyncPersistFile_argsTupleScheme();
+      }
+    }
+
+    private static class asyncPersistFile_argsTupleScheme extends TupleScheme<asyncPersistFile_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, asyncPersistFile_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetFileId()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetFileId()) {
+          oprot.writeI32(struct.fileId);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, asyncPersistFile_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          struct.fileId = iprot.readI32();
+          struct.setFileIdIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class asyncPersistFile_result implements org.apache.thrift.TBase<asyncPersistFile_result, asyncPersistFile_result._Fields>, java.io.Serializable, Cloneable, Comparable<asyncPersistFile_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("asyncPersistFile_result");
+
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.BOOL, (short)0);
+    private static final org.apache.thrift.protocol.TField E_FIELD_DESC = new org.apache.thrift.protocol.TField("e", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new asyncPersistFile_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new asyncPersistFile_resultTupleSchemeFactory());
+    }
+
+    public boolean success; // required
+    public TachyonException e; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SUCCESS((short)0, "success"),
+      E((short)1, "e");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          case 1: // E
+            return E;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    private static final int __SUCCESS_ISSET_ID = 0;
+    private byte __isset_bitfield = 0;
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.BOOL)));
+      tmpMap.put(_Fields.E, new org.apache.thrift.meta_data.FieldMetaData("e", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(asyncPersistFile_result.class, metaDataMap);
+    }
+
+    public asyncPersistFile_result() {
+    }
+
+    public asyncPersistFile_result(
+      boolean success,
+      TachyonException e)
+    {
+      this();
+      this.success = success;
+      setSuccessIsSet(true);
+      this.e = e;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public asyncPersistFile_result(asyncPersistFile_result other) {
+      __isset_bitfield = other.__isset_bitfield;
+      this.success = other.success;
+      if (other.isSetE()) {
+        this.e = new TachyonException(other.e);
+      }
+    }
+
+    public asyncPersistFile_result deepCopy() {
+      return new asyncPersistFile_result(this);
+    }
+
+    @Override
+    public void clear() {
+      setSuccessIsSet(false);
+      this.success = false;
+      this.e = null;
+    }
+
+    public boolean isSuccess() {
+      return this.success;
+    }
+
+    public asyncPersistFile_result setSuccess(boolean success) {
+      this.success = success;
+      setSuccessIsSet(true);
+      return this;
+    }
+
+    public void unsetSuccess() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __SUCCESS_ISSET_ID);
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return EncodingUtils.testBit(__isset_bitfield, __SUCCESS_ISSET_ID);
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __SUCCESS_ISSET_ID, value);
+    }
+
+    public TachyonException getE() {
+      return this.e;
+    }
+
+    public asyncPersistFile_result setE(TachyonException e) {
+      this.e = e;
+      return this;
+    }
+
+    public void unsetE() {
+      this.e = null;
+    }
+
+    /** Returns true if field e is set (has been assigned a value) and false otherwise */
+    public boolean isSetE() {
+      return this.e != null;
+    }
+
+    public void setEIsSet(boolean value) {
+      if (!value) {
+        this.e = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((Boolean)value);
+        }
+        break;
+
+      case E:
+        if (value == null) {
+          unsetE();
+        } else {
+          setE((TachyonException)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SUCCESS:
+        return Boolean.valueOf(isSuccess());
+
+      case E:
+        return getE();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
+      case E:
+        return isSetE();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof asyncPersistFile_result)
+        return this.equals((asyncPersistFile_result)that);
+      return false;
+    }
+
+    public boolean equals(asyncPersistFile_result that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_success = true;
+      boolean that_present_success = true;
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (this.success != that.success)
+          return false;
+      }
+
+      boolean this_present_e = true && this.isSetE();
+      boolean that_present_e = true && that.isSetE();
+      if (this_present_e || that_present_e) {
+        if (!(this_present_e && that_present_e))
+          return false;
+        if (!this.e.equals(that.e))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      return 0;
+    }
+
+    @Override
+    public int compareTo(asyncPersistFile_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetE()).compareTo(other.isSetE());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetE()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.e, other.e);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+      }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("asyncPersistFile_result(");
+      boolean first = true;
+
+      sb.append("success:");
+      sb.append(this.success);
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("e:");
+      if (this.e == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.e);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bitfield = 0;
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class asyncPersistFile_resultStandardSchemeFactory implements SchemeFactory {
+      public asyncPersistFile_resultStandardScheme getScheme() {
+        return new asyncPersistFile_resultStandardScheme();
+      }
+    }
+
+    private static class asyncPersistFile_resultStandardScheme extends StandardScheme<asyncPersistFile_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, asyncPersistFile_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.BOOL) {
+                struct.success = iprot.readBool();
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 1: // E
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.e = new TachyonException();
+                struct.e.read(iprot);
+                struct.setEIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, asyncPersistFile_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.isSetSuccess()) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          oprot.writeBool(struct.success);
+          oprot.writeFieldEnd();
+        }
+        if (struct.e != null) {
+          oprot.writeFieldBegin(E_FIELD_DESC);
+          struct.e.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class asyncPersistFile_resultTupleSchemeFactory implements SchemeFactory {
+      public asyncPersistFile_resultTupleScheme getScheme() {
+        return new asyncPersistFile_resultTupleScheme();
+      }
+    }
+
+    private static class asyncPersistFile_resultTupleScheme extends TupleScheme<asyncPersistFile_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, asyncPersistFile_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        if (struct.isSetE()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetSuccess()) {
+          oprot.writeBool(struct.success);
+        }
+        if (struct.isSetE()) {
+          struct.e.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, asyncPersistFile_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(2);
+        if (incoming.get(0)) {
+          struct.success = iprot.readBool();
+          struct.setSuccessIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.e = new TachyonException();
+          struct.e.read(iprot);
+          struct.setEIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class checkPersistFile_args implements org.apache.thrift.TBase<checkPersistFile_args, checkPersistFile_args._Fields>, java.io.Serializable, Cloneable, Comparable<checkPersistFile_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("checkPersistFile_args");
+
+    private static final org.apache.thrift.protocol.TField FILE_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("fileId", org.apache.thrift.protocol.TType.I32, (short)1);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new checkPersistFile_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new checkPersistFile_argsTupleSchemeFactory());
+    }
+
+    public int fileId; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      FILE_ID((short)1, "fileId");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // FILE_ID
+            return FILE_ID;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    private static final int __FILEID_ISSET_ID = 0;
+    private byte __isset_bitfield = 0;
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.FILE_ID, new org.apache.thrift.meta_data.FieldMetaData("fileId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(checkPersistFile_args.class, metaDataMap);
+    }
+
+    public checkPersistFile_args() {
+    }
+
+    public checkPersistFile_args(
+      int fileId)
+    {
+      this();
+      this.fileId = fileId;
+      setFileIdIsSet(true);
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public checkPersistFile_args(checkPersistFile_args other) {
+      __isset_bitfield = other.__isset_bitfield;
+      this.fileId = other.fileId;
+    }
+
+    public checkPersistFile_args deepCopy() {
+      return new checkPersistFile_args(this);
+    }
+
+    @Override
+    public void clear() {
+      setFileIdIsSet(false);
+      this.fileId = 0;
+    }
+
+    public int getFileId() {
+      return this.fileId;
+    }
+
+    public checkPersistFile_args setFileId(int fileId) {
+      this.fileId = fileId;
+      setFileIdIsSet(true);
+      return this;
+    }
+
+    public void unsetFileId() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __FILEID_ISSET_ID);
+    }
+
+    /** Returns true if field fileId is set (has been assigned a value) and false otherwise */
+    public boolean isSetFileId() {
+      return EncodingUtils.testBit(__isset_bitfield, __FILEID_ISSET_ID);
+    }
+
+    public void setFileIdIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __FILEID_ISSET_ID, value);
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case FILE_ID:
+        if (value == null) {
+          unsetFileId();
+        } else {
+          setFileId((Integer)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case FILE_ID:
+        return Integer.valueOf(getFileId());
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case FILE_ID:
+        return isSetFileId();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof checkPersistFile_args)
+        return this.equals((checkPersistFile_args)that);
+      return false;
+    }
+
+    public boolean equals(checkPersistFile_args that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_fileId = true;
+      boolean that_present_fileId = true;
+      if (this_present_fileId || that_present_fileId) {
+        if (!(this_present_fileId && that_present_fileId))
+          return false;
+        if (this.fileId != that.fileId)
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      return 0;
+    }
+
+    @Override
+    public int compareTo(checkPersistFile_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetFileId()).compareTo(other.isSetFileId());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetFileId()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.fileId, other.fileId);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("checkPersistFile_args(");
+      boolean first = true;
+
+      sb.append("fileId:");
+      sb.append(this.fileId);
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bitfield = 0;
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class checkPersistFile_argsStandardSchemeFactory implements SchemeFactory {
+      public checkPersistFile_argsStandardScheme getScheme() {
+        return new checkPersistFile_argsStandardScheme();
+      }
+    }
+
+    private static class checkPersistFile_argsStandardScheme extends StandardScheme<checkPersistFile_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, checkPersistFile_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // FILE_ID
+              if (schemeField.type == org.apache.thrift.protocol.TType.I32) {
+                struct.fileId = iprot.readI32();
+                struct.setFileIdIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, checkPersistFile_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        oprot.writeFieldBegin(FILE_ID_FIELD_DESC);
+        oprot.writeI32(struct.fileId);
+        oprot.writeFieldEnd();
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class checkPersistFile_argsTupleSchemeFactory implements SchemeFactory {
+      public checkPersistFile_argsTupleScheme getScheme() {
+        return new checkPersistFile_argsTupleScheme();
+      }
+    }
+
+    private static class checkPersistFile_argsTupleScheme extends TupleScheme<checkPersistFile_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, checkPersistFile_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetFileId()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetFileId()) {
+          oprot.writeI32(struct.fileId);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, checkPersistFile_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          struct.fileId = iprot.readI32();
+          struct.setFileIdIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class checkPersistFile_result implements org.apache.thrift.TBase<checkPersistFile_result, checkPersistFile_result._Fields>, java.io.Serializable, Cloneable, Comparable<checkPersistFile_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("checkPersistFile_result");
+
+    private static final org.apache.thrift.protocol.TField E_FIELD_DESC = new org.apache.thrift.protocol.TField("e", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new checkPersistFile_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new checkPersistFile_resultTupleSchemeFactory());
+    }
+
+    public TachyonException e; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      E((short)1, "e");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // E
+            return E;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.E, new org.apache.thrift.meta_data.FieldMetaData("e", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(checkPersistFile_result.class, metaDataMap);
+    }
+
+    public checkPersistFile_result() {
+    }
+
+    public checkPersistFile_result(
+      TachyonException e)
+    {
+      this();
+      this.e = e;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public checkPersistFile_result(checkPersistFile_result other) {
+      if (other.isSetE()) {
+        this.e = new TachyonException(other.e);
+      }
+    }
+
+    public checkPersistFile_result deepCopy() {
+      return new checkPersistFile_result(this);
+    }
+
+    @Override
+    public void clear() {
+      this.e = null;
+    }
+
+    public TachyonException getE() {
+      return this.e;
+    }
+
+    public checkPersistFile_result setE(TachyonException e) {
+      this.e = e;
+      return this;
+    }
+
+    public void unsetE() {
+      this.e = null;
+    }
+
+    /** Returns true if field e is set (has been assigned a value) and false otherwise */
+    public boolean isSetE() {
+      return this.e != null;
+    }
+
+    public void setEIsSet(boolean value) {
+      if (!value) {
+        this.e = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case E:
+        if (value == null) {
+          unsetE();
+        } else {
+          setE((TachyonException)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case E:
+        return getE();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case E:
+        return isSetE();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof checkPersistFile_result)
+        return this.equals((checkPersistFile_result)that);
+      return false;
+    }
+
+    public boolean equals(checkPersistFile_result that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_e = true && this.isSetE();
+      boolean that_present_e = true && that.isSetE();
+      if (this_present_e || that_present_e) {
+        if (!(this_present_e && that_present_e))
+          return false;
+        if (!this.e.equals(that.e))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      return 0;
+    }
+
+    @Override
+    public int compareTo(checkPersistFile_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetE()).compareTo(other.isSetE());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetE()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.e, other.e);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+      }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("checkPersistFile_result(");
+      boolean first = true;
+
+      sb.append("e:");
+      if (this.e == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.e);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class checkPersistFile_resultStandardSchemeFactory implements SchemeFactory {
+      public checkPersistFile_resultStandardScheme getScheme() {
+        return new checkPersistFile_resultStandardScheme();
+      }
+    }
+
+    private static class checkPersistFile_resultStandardScheme extends StandardScheme<checkPersistFile_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, checkPersistFile_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // E
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.e = new TachyonException();
+                struct.e.read(iprot);
+                struct.setEIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, checkPersistFile_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.e != null) {
+          oprot.writeFieldBegin(E_FIELD_DESC);
+          struct.e.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class checkPersistFile_resultTupleSchemeFactory implements SchemeFactory {
+      public checkPersistFile_resultTupleScheme getScheme() {
+        return new checkPersistFile_resultTupleScheme();
+      }
+    }
+
+    private static class checkPersistFile_resultTupleScheme extends TupleScheme<checkPersistFile_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, checkPersistFile_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetE()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetE()) {
+          struct.e.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, checkPersistFile_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          struct.e = new TachyonException();
+          struct.e.read(iprot);
+          struct.setEIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class cacheBlock_args implements org.apache.thrift.TBase<cacheBlock_args, cacheBlock_args._Fields>, java.io.Serializable, Cloneable, Comparable<cacheBlock_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("cacheBlock_args");
+
+    private static final org.apache.thrift.protocol.TField USER_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("userId", org.apache.thrift.protocol.TType.I64, (short)1);
+    private static final org.apache.thrift.protocol.TField BLOCK_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("blockId", org.apache.thrift.protocol.TType.I64, (short)2);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new cacheBlock_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new cacheBlock_argsTupleSchemeFactory());
+    }
+
+    public long userId; // required
+    public long blockId; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      USER_ID((short)1, "userId"),
+      BLOCK_ID((short)2, "blockId");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // USER_ID
+            return USER_ID;
+          case 2: // BLOCK_ID
+            return BLOCK_ID;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    private static final int __USERID_ISSET_ID = 0;
+    private static final int __BLOCKID_ISSET_ID = 1;
+    private byte __isset_bitfield = 0;
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.USER_ID, new org.apache.thrift.meta_data.FieldMetaData("userId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
+      tmpMap.put(_Fields.BLOCK_ID, new org.apache.thrift.meta_data.FieldMetaData("blockId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(cacheBlock_args.class, metaDataMap);
+    }
+
+    public cacheBlock_args() {
+    }
+
+    public cacheBlock_args(
+      long userId,
+      long blockId)
+    {
+      this();
+      this.userId = userId;
+      setUserIdIsSet(true);
+      this.blockId = blockId;
+      setBlockIdIsSet(true);
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public cacheBlock_args(cacheBlock_args other) {
+      __isset_bitfield = other.__isset_bitfield;
+      this.userId = other.userId;
+      this.blockId = other.blockId;
+    }
+
+    public cacheBlock_args deepCopy() {
+      return new cacheBlock_args(this);
+    }
+
+    @Override
+    public void clear() {
+      setUserIdIsSet(false);
+      this.userId = 0;
+      setBlockIdIsSet(false);
+      this.blockId = 0;
+    }
+
+    public long getUserId() {
+      return this.userId;
+    }
+
+    public cacheBlock_args setUserId(long userId) {
+      this.userId = userId;
+      setUserIdIsSet(true);
+      return this;
+    }
+
+    public void unsetUserId() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __USERID_ISSET_ID);
+    }
+
+    /** Returns true if field userId is set (has been assigned a value) and false otherwise */
+    public boolean isSetUserId() {
+      return EncodingUtils.testBit(__isset_bitfield, __USERID_ISSET_ID);
+    }
+
+    public void setUserIdIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __USERID_ISSET_ID, value);
+    }
+
+    public long getBlockId() {
+      return this.blockId;
+    }
+
+    public cacheBlock_args setBlockId(long blockId) {
+      this.blockId = blockId;
+      setBlockIdIsSet(true);
+      return this;
+    }
+
+    public void unsetBlockId() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __BLOCKID_ISSET_ID);
+    }
+
+    /** Returns true if field blockId is set (has been assigned a value) and false otherwise */
+    public boolean isSetBlockId() {
+      return EncodingUtils.testBit(__isset_bitfield, __BLOCKID_ISSET_ID);
+    }
+
+    public void setBlockIdIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __BLOCKID_ISSET_ID, value);
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case USER_ID:
+        if (value == null) {
+          unsetUserId();
+        } else {
+          setUserId((Long)value);
+        }
+        break;
+
+      case BLOCK_ID:
+        if (value == null) {
+          unsetBlockId();
+        } else {
+          setBlockId((Long)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case USER_ID:
+        return Long.valueOf(getUserId());
+
+      case BLOCK_ID:
+        return Long.valueOf(getBlockId());
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case USER_ID:
+        return isSetUserId();
+      case BLOCK_ID:
+        return isSetBlockId();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof cacheBlock_args)
+        return this.equals((cacheBlock_args)that);
+      return false;
+    }
+
+    public boolean equals(cacheBlock_args that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_userId = true;
+      boolean that_present_userId = true;
+      if (this_present_userId || that_present_userId) {
+        if (!(this_present_userId && that_present_userId))
+          return false;
+        if (this.userId != that.userId)
+          return false;
+      }
+
+      boolean this_present_blockId = true;
+      boolean that_present_blockId = true;
+      if (this_present_blockId || that_present_blockId) {
+        if (!(this_present_blockId && that_present_blockId))
+          return false;
+        if (this.blockId != that.blockId)
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      return 0;
+    }
+
+    @Override
+    public int compareTo(cacheBlock_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetUserId()).compareTo(other.isSetUserId());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetUserId()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.userId, other.userId);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetBlockId()).compareTo(other.isSetBlockId());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetBlockId()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.blockId, other.blockId);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("cacheBlock_args(");
+      boolean first = true;
+
+      sb.append("userId:");
+      sb.append(this.userId);
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("blockId:");
+      sb.append(this.blockId);
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bitfield = 0;
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class cacheBlock_argsStandardSchemeFactory implements SchemeFactory {
+      public cacheBlock_argsStandardScheme getScheme() {
+        return new cacheBlock_argsStandardScheme();
+      }
+    }
+
+    private static class cacheBlock_argsStandardScheme extends StandardScheme<cacheBlock_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, cacheBlock_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // USER_ID
+              if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
+                struct.userId = iprot.readI64();
+                struct.setUserIdIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // BLOCK_ID
+              if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
+                struct.blockId = iprot.readI64();
+                struct.setBlockIdIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, cacheBlock_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        oprot.writeFieldBegin(USER_ID_FIELD_DESC);
+        oprot.writeI64(struct.userId);
+        oprot.writeFieldEnd();
+        oprot.writeFieldBegin(BLOCK_ID_FIELD_DESC);
+        oprot.writeI64(struct.blockId);
+        oprot.writeFieldEnd();
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class cacheBlock_argsTupleSchemeFactory implements SchemeFactory {
+      public cacheBlock_argsTupleScheme getScheme() {
+        return new cacheBlock_argsTupleScheme();
+      }
+    }
+
+    private static class cacheBlock_argsTupleScheme extends TupleScheme<cacheBlock_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, cacheBlock_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetUserId()) {
+          optionals.set(0);
+        }
+        if (struct.isSetBlockId()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetUserId()) {
+          oprot.writeI64(struct.userId);
+        }
+        if (struct.isSetBlockId()) {
+          oprot.writeI64(struct.blockId);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, cacheBlock_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(2);
+        if (incoming.get(0)) {
+          struct.userId = iprot.readI64();
+          struct.setUserIdIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.blockId = iprot.readI64();
+          struct.setBlockIdIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class cacheBlock_result implements org.apache.thrift.TBase<cacheBlock_result, cacheBlock_result._Fields>, java.io.Serializable, Cloneable, Comparable<cacheBlock_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("cacheBlock_result");
+
+    private static final org.apache.thrift.protocol.TField E_P_FIELD_DESC = new org.apache.thrift.protocol.TField("eP", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+    private static final org.apache.thrift.protocol.TField E_S_FIELD_DESC = new org.apache.thrift.protocol.TField("eS", org.apache.thrift.protocol.TType.STRUCT, (short)2);
+    private static final org.apache.thrift.protocol.TField E_B_FIELD_DESC = new org.apache.thrift.protocol.TField("eB", org.apache.thrift.protocol.TType.STRUCT, (short)3);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new cacheBlock_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new cacheBlock_resultTupleSchemeFactory());
+    }
+
+    public FileDoesNotExistException eP; // required
+    public SuspectedFileSizeException eS; // required
+    public BlockInfoException eB; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      E_P((short)1, "eP"),
+      E_S((short)2, "eS"),
+      E_B((short)3, "eB");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // E_P
+            return E_P;
+          case 2: // E_S
+            return E_S;
+          case 3: // E_B
+            return E_B;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.E_P, new org.apache.thrift.meta_data.FieldMetaData("eP", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
+      tmpMap.put(_Fields.E_S, new org.apache.thrift.meta_data.FieldMetaData("eS", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
+      tmpMap.put(_Fields.E_B, new org.apache.thrift.meta_data.FieldMetaData("eB", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(cacheBlock_result.class, metaDataMap);
+    }
+
+    public cacheBlock_result() {
+    }
+
+    public cacheBlock_result(
+      FileDoesNotExistException eP,
+      SuspectedFileSizeException eS,
+      BlockInfoException eB)
+    {
+      this();
+      this.eP = eP;
+      this.eS = eS;
+      this.eB = eB;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public cacheBlock_result(cacheBlock_result other) {
+      if (other.isSetEP()) {
+        this.eP = new FileDoesNotExistException(other.eP);
+      }
+      if (other.isSetES()) {
+        this.eS = new SuspectedFileSizeException(other.eS);
+      }
+      if (other.isSetEB()) {
+        this.eB = new BlockInfoException(other.eB);
+      }
+    }
+
+    public cacheBlock_result deepCopy() {
+      return new cacheBlock_result(this);
+    }
+
+    @Override
+    public void clear() {
+      this.eP = null;
+      this.eS = null;
+      this.eB = null;
+    }
+
+    public FileDoesNotExistException getEP() {
+      return this.eP;
+    }
+
+    public cacheBlock_result setEP(FileDoesNotExistException eP) {
+      this.eP = eP;
+      return this;
+    }
+
+    public void unsetEP() {
+      this.eP = null;
     }
 
-    /** Returns true if field eF is set (has been assigned a value) and false otherwise */
-    public boolean isSetEF() {
-      return this.eF != null;
+    /** Returns true if field eP is set (has been assigned a value) and false otherwise */
+    public boolean isSetEP() {
+      return this.eP != null;
     }
 
-    public void setEFIsSet(boolean value) {
+    public void setEPIsSet(boolean value) {
       if (!value) {
-        this.eF = null;
+        this.eP = null;
+      }
+    }
+
+    public SuspectedFileSizeException getES() {
+      return this.eS;
+    }
+
+    public cacheBlock_result setES(SuspectedFileSizeException eS) {
+      this.eS = eS;
+      return this;
+    }
+
+    public void unsetES() {
+      this.eS = null;
+    }
+
+    /** Returns true if field eS is set (has been assigned a value) and false otherwise */
+    public boolean isSetES() {
+      return this.eS != null;
+    }
+
+    public void setESIsSet(boolean value) {
+      if (!value) {
+        this.eS = null;
       }
     }
 
@@ -3197,7 +8692,7 @@ public class WorkerService {
       return this.eB;
     }
 
-    public addCheckpoint_result setEB(BlockInfoException eB) {
+    public cacheBlock_result setEB(BlockInfoException eB) {
       this.eB = eB;
       return this;
     }
@@ -3235,14 +8730,6 @@ public class WorkerService {
         }
         break;
 
-      case E_F:
-        if (value == null) {
-          unsetEF();
-        } else {
-          setEF((FailedToCheckpointException)value);
-        }
-        break;
-
       case E_B:
         if (value == null) {
           unsetEB();
@@ -3262,9 +8749,6 @@ public class WorkerService {
       case E_S:
         return getES();
 
-      case E_F:
-        return getEF();
-
       case E_B:
         return getEB();
 
@@ -3283,8 +8767,6 @@ public class WorkerService {
         return isSetEP();
       case E_S:
         return isSetES();
-      case E_F:
-        return isSetEF();
       case E_B:
         return isSetEB();
       }
@@ -3295,12 +8777,12 @@ public class WorkerService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof addCheckpoint_result)
-        return this.equals((addCheckpoint_result)that);
+      if (that instanceof cacheBlock_result)
+        return this.equals((cacheBlock_result)that);
       return false;
     }
 
-    public boolean equals(addCheckpoint_result that) {
+    public boolean equals(cacheBlock_result that) {
       if (that == null)
         return false;
 
@@ -3322,15 +8804,6 @@ public class WorkerService {
           return false;
       }
 
-      boolean this_present_eF = true && this.isSetEF();
-      boolean that_present_eF = true && that.isSetEF();
-      if (this_present_eF || that_present_eF) {
-        if (!(this_present_eF && that_present_eF))
-          return false;
-        if (!this.eF.equals(that.eF))
-          return false;
-      }
-
       boolean this_present_eB = true && this.isSetEB();
       boolean that_present_eB = true && that.isSetEB();
       if (this_present_eB || that_present_eB) {
@@ -3349,7 +8822,7 @@ public class WorkerService {
     }
 
     @Override
-    public int compareTo(addCheckpoint_result other) {
+    public int compareTo(cacheBlock_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -3376,16 +8849,6 @@ public class WorkerService {
           return lastComparison;
         }
       }
-      lastComparison = Boolean.valueOf(isSetEF()).compareTo(other.isSetEF());
-      if (lastComparison != 0) {
-        return lastComparison;
-      }
-      if (isSetEF()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.eF, other.eF);
-        if (lastComparison != 0) {
-          return lastComparison;
-        }
-      }
       lastComparison = Boolean.valueOf(isSetEB()).compareTo(other.isSetEB());
       if (lastComparison != 0) {
         return lastComparison;
@@ -3413,7 +8876,7 @@ public class WorkerService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("addCheckpoint_result(");
+      StringBuilder sb = new StringBuilder("cacheBlock_result(");
       boolean first = true;
 
       sb.append("eP:");
@@ -3432,14 +8895,6 @@ public class WorkerService {
       }
       first = false;
       if (!first) sb.append(", ");
-      sb.append("eF:");
-      if (this.eF == null) {
-        sb.append("null");
-      } else {
-        sb.append(this.eF);
-      }
-      first = false;
-      if (!first) sb.append(", ");
       sb.append("eB:");
       if (this.eB == null) {
         sb.append("null");
@@ -3472,15 +8927,15 @@ public class WorkerService {
       }
     }
 
-    private static class addCheckpoint_resultStandardSchemeFactory implements SchemeFactory {
-      public addCheckpoint_resultStandardScheme getScheme() {
-        return new addCheckpoint_resultStandardScheme();
+    private static class cacheBlock_resultStandardSchemeFactory implements SchemeFactory {
+      public cacheBlock_resultStandardScheme getScheme() {
+        return new cacheBlock_resultStandardScheme();
       }
     }
 
-    private static class addCheckpoint_resultStandardScheme extends StandardScheme<addCheckpoint_result> {
+    private static class cacheBlock_resultStandardScheme extends StandardScheme<cacheBlock_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, addCheckpoint_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, cacheBlock_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -3508,16 +8963,7 @@ public class WorkerService {
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
-            case 3: // E_F
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.eF = new FailedToCheckpointException();
-                struct.eF.read(iprot);
-                struct.setEFIsSet(true);
-              } else { 
-                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
-              }
-              break;
-            case 4: // E_B
+            case 3: // E_B
               if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
                 struct.eB = new BlockInfoException();
                 struct.eB.read(iprot);
@@ -3537,7 +8983,7 @@ public class WorkerService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, addCheckpoint_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, cacheBlock_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -3551,11 +8997,6 @@ public class WorkerService {
           struct.eS.write(oprot);
           oprot.writeFieldEnd();
         }
-        if (struct.eF != null) {
-          oprot.writeFieldBegin(E_F_FIELD_DESC);
-          struct.eF.write(oprot);
-          oprot.writeFieldEnd();
-        }
         if (struct.eB != null) {
           oprot.writeFieldBegin(E_B_FIELD_DESC);
           struct.eB.write(oprot);
@@ -3567,16 +9008,16 @@ public class WorkerService {
 
     }
 
-    private static class addCheckpoint_resultTupleSchemeFactory implements SchemeFactory {
-      public addCheckpoint_resultTupleScheme getScheme() {
-        return new addCheckpoint_resultTupleScheme();
+    private static class cacheBlock_resultTupleSchemeFactory implements SchemeFactory {
+      public cacheBlock_resultTupleScheme getScheme() {
+        return new cacheBlock_resultTupleScheme();
       }
     }
 
-    private static class addCheckpoint_resultTupleScheme extends TupleScheme<addCheckpoint_result> {
+    private static class cacheBlock_resultTupleScheme extends TupleScheme<cacheBlock_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, addCheckpoint_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, cacheBlock_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetEP()) {
@@ -3585,31 +9026,25 @@ public class WorkerService {
         if (struct.isSetES()) {
           optionals.set(1);
         }
-        if (struct.isSetEF()) {
-          optionals.set(2);
-        }
         if (struct.isSetEB()) {
-          optionals.set(3);
+          optionals.set(2);
         }
-        oprot.writeBitSet(optionals, 4);
+        oprot.writeBitSet(optionals, 3);
         if (struct.isSetEP()) {
           struct.eP.write(oprot);
         }
         if (struct.isSetES()) {
           struct.eS.write(oprot);
         }
-        if (struct.isSetEF()) {
-          struct.eF.write(oprot);
-        }
         if (struct.isSetEB()) {
           struct.eB.write(oprot);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, addCheckpoint_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, cacheBlock_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
-        BitSet incoming = iprot.readBitSet(4);
+        BitSet incoming = iprot.readBitSet(3);
         if (incoming.get(0)) {
           struct.eP = new FileDoesNotExistException();
           struct.eP.read(iprot);
@@ -3621,11 +9056,6 @@ public class WorkerService {
           struct.setESIsSet(true);
         }
         if (incoming.get(2)) {
-          struct.eF = new FailedToCheckpointException();
-          struct.eF.read(iprot);
-          struct.setEFIsSet(true);
-        }
-        if (incoming.get(3)) {
           struct.eB = new BlockInfoException();
           struct.eB.read(iprot);
           struct.setEBIsSet(true);
@@ -3635,22 +9065,25 @@ public class WorkerService {
 
   }
 
-  public static class asyncCheckpoint_args implements org.apache.thrift.TBase<asyncCheckpoint_args, asyncCheckpoint_args._Fields>, java.io.Serializable, Cloneable, Comparable<asyncCheckpoint_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("asyncCheckpoint_args");
+  public static class cancelBlock_args implements org.apache.thrift.TBase<cancelBlock_args, cancelBlock_args._Fields>, java.io.Serializable, Cloneable, Comparable<cancelBlock_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("cancelBlock_args");
 
-    private static final org.apache.thrift.protocol.TField FILE_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("fileId", org.apache.thrift.protocol.TType.I32, (short)1);
+    private static final org.apache.thrift.protocol.TField USER_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("userId", org.apache.thrift.protocol.TType.I64, (short)1);
+    private static final org.apache.thrift.protocol.TField BLOCK_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("blockId", org.apache.thrift.protocol.TType.I64, (short)2);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new asyncCheckpoint_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new asyncCheckpoint_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new cancelBlock_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new cancelBlock_argsTupleSchemeFactory());
     }
 
-    public int fileId; // required
+    public long userId; // required
+    public long blockId; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      FILE_ID((short)1, "fileId");
+      USER_ID((short)1, "userId"),
+      BLOCK_ID((short)2, "blockId");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -3665,8 +9098,10 @@ public class WorkerService {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
-          case 1: // FILE_ID
-            return FILE_ID;
+          case 1: // USER_ID
+            return USER_ID;
+          case 2: // BLOCK_ID
+            return BLOCK_ID;
           default:
             return null;
         }
@@ -3707,76 +9142,116 @@ public class WorkerService {
     }
 
     // isset id assignments
-    private static final int __FILEID_ISSET_ID = 0;
+    private static final int __USERID_ISSET_ID = 0;
+    private static final int __BLOCKID_ISSET_ID = 1;
     private byte __isset_bitfield = 0;
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
-      tmpMap.put(_Fields.FILE_ID, new org.apache.thrift.meta_data.FieldMetaData("fileId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
+      tmpMap.put(_Fields.USER_ID, new org.apache.thrift.meta_data.FieldMetaData("userId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
+      tmpMap.put(_Fields.BLOCK_ID, new org.apache.thrift.meta_data.FieldMetaData("blockId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(asyncCheckpoint_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(cancelBlock_args.class, metaDataMap);
     }
 
-    public asyncCheckpoint_args() {
+    public cancelBlock_args() {
     }
 
-    public asyncCheckpoint_args(
-      int fileId)
+    public cancelBlock_args(
+      long userId,
+      long blockId)
     {
       this();
-      this.fileId = fileId;
-      setFileIdIsSet(true);
+      this.userId = userId;
+      setUserIdIsSet(true);
+      this.blockId = blockId;
+      setBlockIdIsSet(true);
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public asyncCheckpoint_args(asyncCheckpoint_args other) {
+    public cancelBlock_args(cancelBlock_args other) {
       __isset_bitfield = other.__isset_bitfield;
-      this.fileId = other.fileId;
+      this.userId = other.userId;
+      this.blockId = other.blockId;
     }
 
-    public asyncCheckpoint_args deepCopy() {
-      return new asyncCheckpoint_args(this);
+    public cancelBlock_args deepCopy() {
+      return new cancelBlock_args(this);
     }
 
     @Override
     public void clear() {
-      setFileIdIsSet(false);
-      this.fileId = 0;
+      setUserIdIsSet(false);
+      this.userId = 0;
+      setBlockIdIsSet(false);
+      this.blockId = 0;
     }
 
-    public int getFileId() {
-      return this.fileId;
+    public long getUserId() {
+      return this.userId;
     }
 
-    public asyncCheckpoint_args setFileId(int fileId) {
-      this.fileId = fileId;
-      setFileIdIsSet(true);
+    public cancelBlock_args setUserId(long userId) {
+      this.userId = userId;
+      setUserIdIsSet(true);
       return this;
     }
 
-    public void unsetFileId() {
-      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __FILEID_ISSET_ID);
+    public void unsetUserId() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __USERID_ISSET_ID);
     }
 
-    /** Returns true if field fileId is set (has been assigned a value) and false otherwise */
-    public boolean isSetFileId() {
-      return EncodingUtils.testBit(__isset_bitfield, __FILEID_ISSET_ID);
+    /** Returns true if field userId is set (has been assigned a value) and false otherwise */
+    public boolean isSetUserId() {
+      return EncodingUtils.testBit(__isset_bitfield, __USERID_ISSET_ID);
     }
 
-    public void setFileIdIsSet(boolean value) {
-      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __FILEID_ISSET_ID, value);
+    public void setUserIdIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __USERID_ISSET_ID, value);
+    }
+
+    public long getBlockId() {
+      return this.blockId;
+    }
+
+    public cancelBlock_args setBlockId(long blockId) {
+      this.blockId = blockId;
+      setBlockIdIsSet(true);
+      return this;
+    }
+
+    public void unsetBlockId() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __BLOCKID_ISSET_ID);
+    }
+
+    /** Returns true if field blockId is set (has been assigned a value) and false otherwise */
+    public boolean isSetBlockId() {
+      return EncodingUtils.testBit(__isset_bitfield, __BLOCKID_ISSET_ID);
+    }
+
+    public void setBlockIdIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __BLOCKID_ISSET_ID, value);
     }
 
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
-      case FILE_ID:
+      case USER_ID:
         if (value == null) {
-          unsetFileId();
+          unsetUserId();
         } else {
-          setFileId((Integer)value);
+          setUserId((Long)value);
+        }
+        break;
+
+      case BLOCK_ID:
+        if (value == null) {
+          unsetBlockId();
+        } else {
+          setBlockId((Long)value);
         }
         break;
 
@@ -3785,8 +9260,11 @@ public class WorkerService {
 
     public Object getFieldValue(_Fields field) {
       switch (field) {
-      case FILE_ID:
-        return Integer.valueOf(getFileId());
+      case USER_ID:
+        return Long.valueOf(getUserId());
+
+      case BLOCK_ID:
+        return Long.valueOf(getBlockId());
 
       }
       throw new IllegalStateException();
@@ -3799,8 +9277,10 @@ public class WorkerService {
       }
 
       switch (field) {
-      case FILE_ID:
-        return isSetFileId();
+      case USER_ID:
+        return isSetUserId();
+      case BLOCK_ID:
+        return isSetBlockId();
       }
       throw new IllegalStateException();
     }
@@ -3809,21 +9289,30 @@ public class WorkerService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof asyncCheckpoint_args)
-        return this.equals((asyncCheckpoint_args)that);
+      if (that instanceof cancelBlock_args)
+        return this.equals((cancelBlock_args)that);
       return false;
     }
 
-    public boolean equals(asyncCheckpoint_args that) {
+    public boolean equals(cancelBlock_args that) {
       if (that == null)
         return false;
 
-      boolean this_present_fileId = true;
-      boolean that_present_fileId = true;
-      if (this_present_fileId || that_present_fileId) {
-        if (!(this_present_fileId && that_present_fileId))
+      boolean this_present_userId = true;
+      boolean that_present_userId = true;
+      if (this_present_userId || that_present_userId) {
+        if (!(this_present_userId && that_present_userId))
           return false;
-        if (this.fileId != that.fileId)
+        if (this.userId != that.userId)
+          return false;
+      }
+
+      boolean this_present_blockId = true;
+      boolean that_present_blockId = true;
+      if (this_present_blockId || that_present_blockId) {
+        if (!(this_present_blockId && that_present_blockId))
+          return false;
+        if (this.blockId != that.blockId)
           return false;
       }
 
@@ -3836,19 +9325,29 @@ public class WorkerService {
     }
 
     @Override
-    public int compareTo(asyncCheckpoint_args other) {
+    public int compareTo(cancelBlock_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
-      lastComparison = Boolean.valueOf(isSetFileId()).compareTo(other.isSetFileId());
+      lastComparison = Boolean.valueOf(isSetUserId()).compareTo(other.isSetUserId());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetFileId()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.fileId, other.fileId);
+      if (isSetUserId()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.userId, other.userId);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetBlockId()).compareTo(other.isSetBlockId());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetBlockId()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.blockId, other.blockId);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -3870,11 +9369,15 @@ public class WorkerService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("asyncCheckpoint_args(");
+      StringBuilder sb = new StringBuilder("cancelBlock_args(");
       boolean first = true;
 
-      sb.append("fileId:");
-      sb.append(this.fileId);
+      sb.append("userId:");
+      sb.append(this.userId);
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("blockId:");
+      sb.append(this.blockId);
       first = false;
       sb.append(")");
       return sb.toString();
@@ -3903,15 +9406,15 @@ public class WorkerService {
       }
     }
 
-    private static class asyncCheckpoint_argsStandardSchemeFactory implements SchemeFactory {
-      public asyncCheckpoint_argsStandardScheme getScheme() {
-        return new asyncCheckpoint_argsStandardScheme();
+    private static class cancelBlock_argsStandardSchemeFactory implements SchemeFactory {
+      public cancelBlock_argsStandardScheme getScheme() {
+        return new cancelBlock_argsStandardScheme();
       }
     }
 
-    private static class asyncCheckpoint_argsStandardScheme extends StandardScheme<asyncCheckpoint_args> {
+    private static class cancelBlock_argsStandardScheme extends StandardScheme<cancelBlock_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, asyncCheckpoint_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, cancelBlock_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -3921,10 +9424,18 @@ public class WorkerService {
             break;
           }
           switch (schemeField.id) {
-            case 1: // FILE_ID
-              if (schemeField.type == org.apache.thrift.protocol.TType.I32) {
-                struct.fileId = iprot.readI32();
-                struct.setFileIdIsSet(true);
+            case 1: // USER_ID
+              if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
+                struct.userId = iprot.readI64();
+                struct.setUserIdIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // BLOCK_ID
+              if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
+                struct.blockId = iprot.readI64();
+                struct.setBlockIdIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -3940,12 +9451,15 @@ public class WorkerService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, asyncCheckpoint_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, cancelBlock_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        oprot.writeFieldBegin(FILE_ID_FIELD_DESC);
-        oprot.writeI32(struct.fileId);
+        oprot.writeFieldBegin(USER_ID_FIELD_DESC);
+        oprot.writeI64(struct.userId);
+        oprot.writeFieldEnd();
+        oprot.writeFieldBegin(BLOCK_ID_FIELD_DESC);
+        oprot.writeI64(struct.blockId);
         oprot.writeFieldEnd();
         oprot.writeFieldStop();
         oprot.writeStructEnd();
@@ -3953,59 +9467,64 @@ public class WorkerService {
 
     }
 
-    private static class asyncCheckpoint_argsTupleSchemeFactory implements SchemeFactory {
-      public asyncCheckpoint_argsTupleScheme getScheme() {
-        return new asyncCheckpoint_argsTupleScheme();
+    private static class cancelBlock_argsTupleSchemeFactory implements SchemeFactory {
+      public cancelBlock_argsTupleScheme getScheme() {
+        return new cancelBlock_argsTupleScheme();
       }
     }
 
-    private static class asyncCheckpoint_argsTupleScheme extends TupleScheme<asyncCheckpoint_args> {
+    private static class cancelBlock_argsTupleScheme extends TupleScheme<cancelBlock_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, asyncCheckpoint_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, cancelBlock_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
-        if (struct.isSetFileId()) {
+        if (struct.isSetUserId()) {
           optionals.set(0);
         }
-        oprot.writeBitSet(optionals, 1);
-        if (struct.isSetFileId()) {
-          oprot.writeI32(struct.fileId);
+        if (struct.isSetBlockId()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetUserId()) {
+          oprot.writeI64(struct.userId);
+        }
+        if (struct.isSetBlockId()) {
+          oprot.writeI64(struct.blockId);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, asyncCheckpoint_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, cancelBlock_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
-        BitSet incoming = iprot.readBitSet(1);
+        BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
-          struct.fileId = iprot.readI32();
-          struct.setFileIdIsSet(true);
+          struct.userId = iprot.readI64();
+          struct.setUserIdIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.blockId = iprot.readI64();
+          struct.setBlockIdIsSet(true);
         }
       }
     }
 
   }
 
-  public static class asyncCheckpoint_result implements org.apache.thrift.TBase<asyncCheckpoint_result, asyncCheckpoint_result._Fields>, java.io.Serializable, Cloneable, Comparable<asyncCheckpoint_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("asyncCheckpoint_result");
+  public static class cancelBlock_result implements org.apache.thrift.TBase<cancelBlock_result, cancelBlock_result._Fields>, java.io.Serializable, Cloneable, Comparable<cancelBlock_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("cancelBlock_result");
 
-    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.BOOL, (short)0);
-    private static final org.apache.thrift.protocol.TField E_FIELD_DESC = new org.apache.thrift.protocol.TField("e", org.apache.thrift.protocol.TType.STRUCT, (short)1);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new asyncCheckpoint_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new asyncCheckpoint_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new cancelBlock_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new cancelBlock_resultTupleSchemeFactory());
     }
 
-    public boolean success; // required
-    public TachyonException e; // required
-
+
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      SUCCESS((short)0, "success"),
-      E((short)1, "e");
+;
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -4020,10 +9539,6 @@ public class WorkerService {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
-          case 0: // SUCCESS
-            return SUCCESS;
-          case 1: // E
-            return E;
           default:
             return null;
         }
@@ -4062,132 +9577,37 @@ public class WorkerService {
         return _fieldName;
       }
     }
-
-    // isset id assignments
-    private static final int __SUCCESS_ISSET_ID = 0;
-    private byte __isset_bitfield = 0;
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
-      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.BOOL)));
-      tmpMap.put(_Fields.E, new org.apache.thrift.meta_data.FieldMetaData("e", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(asyncCheckpoint_result.class, metaDataMap);
-    }
-
-    public asyncCheckpoint_result() {
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(cancelBlock_result.class, metaDataMap);
     }
 
-    public asyncCheckpoint_result(
-      boolean success,
-      TachyonException e)
-    {
-      this();
-      this.success = success;
-      setSuccessIsSet(true);
-      this.e = e;
+    public cancelBlock_result() {
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public asyncCheckpoint_result(asyncCheckpoint_result other) {
-      __isset_bitfield = other.__isset_bitfield;
-      this.success = other.success;
-      if (other.isSetE()) {
-        this.e = new TachyonException(other.e);
-      }
+    public cancelBlock_result(cancelBlock_result other) {
     }
 
-    public asyncCheckpoint_result deepCopy() {
-      return new asyncCheckpoint_result(this);
+    public cancelBlock_result deepCopy() {
+      return new cancelBlock_result(this);
     }
 
     @Override
     public void clear() {
-      setSuccessIsSet(false);
-      this.success = false;
-      this.e = null;
-    }
-
-    public boolean isSuccess() {
-      return this.success;
-    }
-
-    public asyncCheckpoint_result setSuccess(boolean success) {
-      this.success = success;
-      setSuccessIsSet(true);
-      return this;
-    }
-
-    public void unsetSuccess() {
-      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __SUCCESS_ISSET_ID);
-    }
-
-    /** Returns true if field success is set (has been assigned a value) and false otherwise */
-    public boolean isSetSuccess() {
-      return EncodingUtils.testBit(__isset_bitfield, __SUCCESS_ISSET_ID);
-    }
-
-    public void setSuccessIsSet(boolean value) {
-      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __SUCCESS_ISSET_ID, value);
-    }
-
-    public TachyonException getE() {
-      return this.e;
-    }
-
-    public asyncCheckpoint_result setE(TachyonException e) {
-      this.e = e;
-      return this;
-    }
-
-    public void unsetE() {
-      this.e = null;
-    }
-
-    /** Returns true if field e is set (has been assigned a value) and false otherwise */
-    public boolean isSetE() {
-      return this.e != null;
-    }
-
-    public void setEIsSet(boolean value) {
-      if (!value) {
-        this.e = null;
-      }
     }
 
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
-      case SUCCESS:
-        if (value == null) {
-          unsetSuccess();
-        } else {
-          setSuccess((Boolean)value);
-        }
-        break;
-
-      case E:
-        if (value == null) {
-          unsetE();
-        } else {
-          setE((TachyonException)value);
-        }
-        break;
-
       }
     }
 
     public Object getFieldValue(_Fields field) {
       switch (field) {
-      case SUCCESS:
-        return Boolean.valueOf(isSuccess());
-
-      case E:
-        return getE();
-
       }
       throw new IllegalStateException();
     }
@@ -4199,10 +9619,6 @@ public class WorkerService {
       }
 
       switch (field) {
-      case SUCCESS:
-        return isSetSuccess();
-      case E:
-        return isSetE();
       }
       throw new IllegalStateException();
     }
@@ -4211,33 +9627,15 @@ public class WorkerService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof asyncCheckpoint_result)
-        return this.equals((asyncCheckpoint_result)that);
+      if (that instanceof cancelBlock_result)
+        return this.equals((cancelBlock_result)that);
       return false;
     }
 
-    public boolean equals(asyncCheckpoint_result that) {
+    public boolean equals(cancelBlock_result that) {
       if (that == null)
         return false;
 
-      boolean this_present_success = true;
-      boolean that_present_success = true;
-      if (this_present_success || that_present_success) {
-        if (!(this_present_success && that_present_success))
-          return false;
-        if (this.success != that.success)
-          return false;
-      }
-
-      boolean this_present_e = true && this.isSetE();
-      boolean that_present_e = true && that.isSetE();
-      if (this_present_e || that_present_e) {
-        if (!(this_present_e && that_present_e))
-          return false;
-        if (!this.e.equals(that.e))
-          return false;
-      }
-
       return true;
     }
 
@@ -4247,33 +9645,13 @@ public class WorkerService {
     }
 
     @Override
-    public int compareTo(asyncCheckpoint_result other) {
+    public int compareTo(cancelBlock_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
-      lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
-      if (lastComparison != 0) {
-        return lastComparison;
-      }
-      if (isSetSuccess()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
-        if (lastComparison != 0) {
-          return lastComparison;
-        }
-      }
-      lastComparison = Boolean.valueOf(isSetE()).compareTo(other.isSetE());
-      if (lastComparison != 0) {
-        return lastComparison;
-      }
-      if (isSetE()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.e, other.e);
-        if (lastComparison != 0) {
-          return lastComparison;
-        }
-      }
       return 0;
     }
 
@@ -4291,20 +9669,9 @@ public class WorkerService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("asyncCheckpoint_result(");
+      StringBuilder sb = new StringBuilder("cancelBlock_result(");
       boolean first = true;
 
-      sb.append("success:");
-      sb.append(this.success);
-      first = false;
-      if (!first) sb.append(", ");
-      sb.append("e:");
-      if (this.e == null) {
-        sb.append("null");
-      } else {
-        sb.append(this.e);
-      }
-      first = false;
       sb.append(")");
       return sb.toString();
     }
@@ -4324,23 +9691,21 @@ public class WorkerService {
 
     private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
       try {
-        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
-        __isset_bitfield = 0;
         read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
       } catch (org.apache.thrift.TException te) {
         throw new java.io.IOException(te);
       }
     }
 
-    private static class asyncCheckpoint_resultStandardSchemeFactory implements SchemeFactory {
-      public asyncCheckpoint_resultStandardScheme getScheme() {
-        return new asyncCheckpoint_resultStandardScheme();
+    private static class cancelBlock_resultStandardSchemeFactory implements SchemeFactory {
+      public cancelBlock_resultStandardScheme getScheme() {
+        return new cancelBlock_resultStandardScheme();
       }
     }
 
-    private static class asyncCheckpoint_resultStandardScheme extends StandardScheme<asyncCheckpoint_result> {
+    private static class cancelBlock_resultStandardScheme extends StandardScheme<cancelBlock_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, asyncCheckpoint_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, cancelBlock_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -4350,23 +9715,6 @@ public class WorkerService {
             break;
           }
           switch (schemeField.id) {
-            case 0: // SUCCESS
-              if (schemeField.type == org.apache.thrift.protocol.TType.BOOL) {
-                struct.success = iprot.readBool();
-                struct.setSuccessIsSet(true);
-              } else { 
-                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
-              }
-              break;
-            case 1: // E
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.e = new TachyonException();
-                struct.e.read(iprot);
-                struct.setEIsSet(true);
-              } else { 
-                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
-              }
-              break;
             default:
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
           }
@@ -4378,90 +9726,53 @@ public class WorkerService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, asyncCheckpoint_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, cancelBlock_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        if (struct.isSetSuccess()) {
-          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
-          oprot.writeBool(struct.success);
-          oprot.writeFieldEnd();
-        }
-        if (struct.e != null) {
-          oprot.writeFieldBegin(E_FIELD_DESC);
-          struct.e.write(oprot);
-          oprot.writeFieldEnd();
-        }
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
 
     }
 
-    private static class asyncCheckpoint_resultTupleSchemeFactory implements SchemeFactory {
-      public asyncCheckpoint_resultTupleScheme getScheme() {
-        return new asyncCheckpoint_resultTupleScheme();
+    private static class cancelBlock_resultTupleSchemeFactory implements SchemeFactory {
+      public cancelBlock_resultTupleScheme getScheme() {
+        return new cancelBlock_resultTupleScheme();
       }
     }
 
-    private static class asyncCheckpoint_resultTupleScheme extends TupleScheme<asyncCheckpoint_result> {
+    private static class cancelBlock_resultTupleScheme extends TupleScheme<cancelBlock_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, asyncCheckpoint_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, cancelBlock_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
-        BitSet optionals = new BitSet();
-        if (struct.isSetSuccess()) {
-          optionals.set(0);
-        }
-        if (struct.isSetE()) {
-          optionals.set(1);
-        }
-        oprot.writeBitSet(optionals, 2);
-        if (struct.isSetSuccess()) {
-          oprot.writeBool(struct.success);
-        }
-        if (struct.isSetE()) {
-          struct.e.write(oprot);
-        }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, asyncCheckpoint_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, cancelBlock_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
-        BitSet incoming = iprot.readBitSet(2);
-        if (incoming.get(0)) {
-          struct.success = iprot.readBool();
-          struct.setSuccessIsSet(true);
-        }
-        if (incoming.get(1)) {
-          struct.e = new TachyonException();
-          struct.e.read(iprot);
-          struct.setEIsSet(true);
-        }
       }
     }
 
   }
 
-  public static class cacheBlock_args implements org.apache.thrift.TBase<cacheBlock_args, cacheBlock_args._Fields>, java.io.Serializable, Cloneable, Comparable<cacheBlock_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("cacheBlock_args");
-
+  public static class getUserUfsTempFolder_args implements org.apache.thrift.TBase<getUserUfsTempFolder_args, getUserUfsTempFolder_args._Fields>, java.io.Serializable, Cloneable, Comparable<getUserUfsTempFolder_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getUserUfsTempFolder_args");
+
     private static final org.apache.thrift.protocol.TField USER_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("userId", org.apache.thrift.protocol.TType.I64, (short)1);
-    private static final org.apache.thrift.protocol.TField BLOCK_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("blockId", org.apache.thrift.protocol.TType.I64, (short)2);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new cacheBlock_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new cacheBlock_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new getUserUfsTempFolder_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new getUserUfsTempFolder_argsTupleSchemeFactory());
     }
 
     public long userId; // required
-    public long blockId; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      USER_ID((short)1, "userId"),
-      BLOCK_ID((short)2, "blockId");
+      USER_ID((short)1, "userId");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -4478,8 +9789,6 @@ public class WorkerService {
         switch(fieldId) {
           case 1: // USER_ID
             return USER_ID;
-          case 2: // BLOCK_ID
-            return BLOCK_ID;
           default:
             return null;
         }
@@ -4521,59 +9830,50 @@ public class WorkerService {
 
     // isset id assignments
     private static final int __USERID_ISSET_ID = 0;
-    private static final int __BLOCKID_ISSET_ID = 1;
     private byte __isset_bitfield = 0;
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.USER_ID, new org.apache.thrift.meta_data.FieldMetaData("userId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
-      tmpMap.put(_Fields.BLOCK_ID, new org.apache.thrift.meta_data.FieldMetaData("blockId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(cacheBlock_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getUserUfsTempFolder_args.class, metaDataMap);
     }
 
-    public cacheBlock_args() {
+    public getUserUfsTempFolder_args() {
     }
 
-    public cacheBlock_args(
-      long userId,
-      long blockId)
+    public getUserUfsTempFolder_args(
+      long userId)
     {
       this();
       this.userId = userId;
       setUserIdIsSet(true);
-      this.blockId = blockId;
-      setBlockIdIsSet(true);
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public cacheBlock_args(cacheBlock_args other) {
+    public getUserUfsTempFolder_args(getUserUfsTempFolder_args other) {
       __isset_bitfield = other.__isset_bitfield;
       this.userId = other.userId;
-      this.blockId = other.blockId;
     }
 
-    public cacheBlock_args deepCopy() {
-      return new cacheBlock_args(this);
+    public getUserUfsTempFolder_args deepCopy() {
+      return new getUserUfsTempFolder_args(this);
     }
 
     @Override
     public void clear() {
       setUserIdIsSet(false);
       this.userId = 0;
-      setBlockIdIsSet(false);
-      this.blockId = 0;
     }
 
     public long getUserId() {
       return this.userId;
     }
 
-    public cacheBlock_args setUserId(long userId) {
+    public getUserUfsTempFolder_args setUserId(long userId) {
       this.userId = userId;
       setUserIdIsSet(true);
       return this;
@@ -4592,29 +9892,6 @@ public class WorkerService {
       __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __USERID_ISSET_ID, value);
     }
 
-    public long getBlockId() {
-      return this.blockId;
-    }
-
-    public cacheBlock_args setBlockId(long blockId) {
-      this.blockId = blockId;
-      setBlockIdIsSet(true);
-      return this;
-    }
-
-    public void unsetBlockId() {
-      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __BLOCKID_ISSET_ID);
-    }
-
-    /** Returns true if field blockId is set (has been assigned a value) and false otherwise */
-    public boolean isSetBlockId() {
-      return EncodingUtils.testBit(__isset_bitfield, __BLOCKID_ISSET_ID);
-    }
-
-    public void setBlockIdIsSet(boolean value) {
-      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __BLOCKID_ISSET_ID, value);
-    }
-
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
       case USER_ID:
@@ -4625,14 +9902,6 @@ public class WorkerService {
         }
         break;
 
-      case BLOCK_ID:
-        if (value == null) {
-          unsetBlockId();
-        } else {
-          setBlockId((Long)value);
-        }
-        break;
-
       }
     }
 
@@ -4641,9 +9910,6 @@ public class WorkerService {
       case USER_ID:
         return Long.valueOf(getUserId());
 
-      case BLOCK_ID:
-        return Long.valueOf(getBlockId());
-
       }
       throw new IllegalStateException();
     }
@@ -4657,8 +9923,6 @@ public class WorkerService {
       switch (field) {
       case USER_ID:
         return isSetUserId();
-      case BLOCK_ID:
-        return isSetBlockId();
       }
       throw new IllegalStateException();
     }
@@ -4667,12 +9931,12 @@ public class WorkerService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof cacheBlock_args)
-        return this.equals((cacheBlock_args)that);
+      if (that instanceof getUserUfsTempFolder_args)
+        return this.equals((getUserUfsTempFolder_args)that);
       return false;
     }
 
-    public boolean equals(cacheBlock_args that) {
+    public boolean equals(getUserUfsTempFolder_args that) {
       if (that == null)
         return false;
 
@@ -4685,15 +9949,6 @@ public class WorkerService {
           return false;
       }
 
-      boolean this_present_blockId = true;
-      boolean that_present_blockId = true;
-      if (this_present_blockId || that_present_blockId) {
-        if (!(this_present_blockId && that_present_blockId))
-          return false;
-        if (this.blockId != that.blockId)
-          return false;
-      }
-
       return true;
     }
 
@@ -4703,7 +9958,7 @@ public class WorkerService {
     }
 
     @Override
-    public int compareTo(cacheBlock_args other) {
+    public int compareTo(getUserUfsTempFolder_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -4720,16 +9975,6 @@ public class WorkerService {
           return lastComparison;
         }
       }
-      lastComparison = Boolean.valueOf(isSetBlockId()).compareTo(other.isSetBlockId());
-      if (lastComparison != 0) {
-        return lastComparison;
-      }
-      if (isSetBlockId()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.blockId, other.blockId);
-        if (lastComparison != 0) {
-          return lastComparison;
-        }
-      }
       return 0;
     }
 
@@ -4747,16 +9992,12 @@ public class WorkerService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("cacheBlock_args(");
+      StringBuilder sb = new StringBuilder("getUserUfsTempFolder_args(");
       boolean first = true;
 
       sb.append("userId:");
       sb.append(this.userId);
       first = false;
-      if (!first) sb.append(", ");
-      sb.append("blockId:");
-      sb.append(this.blockId);
-      first = false;
       sb.append(")");
       return sb.toString();
     }
@@ -4784,15 +10025,15 @@ public class WorkerService {
       }
     }
 
-    private static class cacheBlock_argsStandardSchemeFactory implements SchemeFactory {
-      public cacheBlock_argsStandardScheme getScheme() {
-        return new cacheBlock_argsStandardScheme();
+    private static class getUserUfsTempFolder_argsStandardSchemeFactory implements SchemeFactory {
+      public getUserUfsTempFolder_argsStandardScheme getScheme() {
+        return new getUserUfsTempFolder_argsStandardScheme();
       }
     }
 
-    private static class cacheBlock_argsStandardScheme extends StandardScheme<cacheBlock_args> {
+    private static class getUserUfsTempFolder_argsStandardScheme extends StandardScheme<getUserUfsTempFolder_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, cacheBlock_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getUserUfsTempFolder_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -4810,14 +10051,6 @@ public class WorkerService {
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
-            case 2: // BLOCK_ID
-              if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
-                struct.blockId = iprot.readI64();
-                struct.setBlockIdIsSet(true);
-              } else { 
-                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
-              }
-              break;
             default:
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
           }
@@ -4829,88 +10062,69 @@ public class WorkerService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, cacheBlock_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getUserUfsTempFolder_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
         oprot.writeFieldBegin(USER_ID_FIELD_DESC);
         oprot.writeI64(struct.userId);
         oprot.writeFieldEnd();
-        oprot.writeFieldBegin(BLOCK_ID_FIELD_DESC);
-        oprot.writeI64(struct.blockId);
-        oprot.writeFieldEnd();
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
 
     }
 
-    private static class cacheBlock_argsTupleSchemeFactory implements SchemeFactory {
-      public cacheBlock_argsTupleScheme getScheme() {
-        return new cacheBlock_argsTupleScheme();
+    private static class getUserUfsTempFolder_argsTupleSchemeFactory implements SchemeFactory {
+      public getUserUfsTempFolder_argsTupleScheme getScheme() {
+        return new getUserUfsTempFolder_argsTupleScheme();
       }
     }
 
-    private static class cacheBlock_argsTupleScheme extends TupleScheme<cacheBlock_args> {
+    private static class getUserUfsTempFolder_argsTupleScheme extends TupleScheme<getUserUfsTempFolder_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, cacheBlock_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, getUserUfsTempFolder_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetUserId()) {
           optionals.set(0);
         }
-        if (struct.isSetBlockId()) {
-          optionals.set(1);
-        }
-        oprot.writeBitSet(optionals, 2);
+        oprot.writeBitSet(optionals, 1);
         if (struct.isSetUserId()) {
           oprot.writeI64(struct.userId);
         }
-        if (struct.isSetBlockId()) {
-          oprot.writeI64(struct.blockId);
-        }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, cacheBlock_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, getUserUfsTempFolder_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
-        BitSet incoming = iprot.readBitSet(2);
+        BitSet incoming = iprot.readBitSet(1);
         if (incoming.get(0)) {
           struct.userId = iprot.readI64();
           struct.setUserIdIsSet(true);
         }
-        if (incoming.get(1)) {
-          struct.blockId = iprot.readI64();
-          struct.setBlockIdIsSet(true);
-        }
       }
     }
 
   }
 
-  public static class cacheBlock_result implements org.apache.thrift.TBase<cacheBlock_result, cacheBlock_result._Fields>, java.io.Serializable, Cloneable, Comparable<cacheBlock_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("cacheBlock_result");
+  public static class getUserUfsTempFolder_result implements org.apache.thrift.TBase<getUserUfsTempFolder_result, getUserUfsTempFolder_result._Fields>, java.io.Serializable, Cloneable, Comparable<getUserUfsTempFolder_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getUserUfsTempFolder_result");
 
-    private static final org.apache.thrift.protocol.TField E_P_FIELD_DESC = new org.apache.thrift.protocol.TField("eP", org.apache.thrift.protocol.TType.STRUCT, (short)1);
-    private static final org.apache.thrift.protocol.TField E_S_FIELD_DESC = new org.apache.thrift.protocol.TField("eS", org.apache.thrift.protocol.TType.STRUCT, (short)2);
-    private static final org.apache.thrift.protocol.TField E_B_FIELD_DESC = new org.apache.thrift.protocol.TField("eB", org.apache.thrift.protocol.TType.STRUCT, (short)3);
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRING, (short)0);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new cacheBlock_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new cacheBlock_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new getUserUfsTempFolder_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new getUserUfsTempFolder_resultTupleSchemeFactory());
     }
 
-    public FileDoesNotExistException eP; // required
-    public SuspectedFileSizeException eS; // required
-    public BlockInfoException eB; // required
+    public String success; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      E_P((short)1, "eP"),
-      E_S((short)2, "eS"),
-      E_B((short)3, "eB");
+      SUCCESS((short)0, "success");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -4925,12 +10139,8 @@ public class WorkerService {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
-          case 1: // E_P
-            return E_P;
-          case 2: // E_S
-            return E_S;
-          case 3: // E_B
-            return E_B;
+          case 0: // SUCCESS
+            return SUCCESS;
           default:
             return null;
         }
@@ -4953,172 +10163,92 @@ public class WorkerService {
         return byName.get(name);
       }
 
-      private final short _thriftId;
-      private final String _fieldName;
-
-      _Fields(short thriftId, String fieldName) {
-        _thriftId = thriftId;
-        _fieldName = fieldName;
-      }
-
-      public short getThriftFieldId() {
-        return _thriftId;
-      }
-
-      public String getFieldName() {
-        return _fieldName;
-      }
-    }
-
-    // isset id assignments
-    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
-    static {
-      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
-      tmpMap.put(_Fields.E_P, new org.apache.thrift.meta_data.FieldMetaData("eP", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
-      tmpMap.put(_Fields.E_S, new org.apache.thrift.meta_data.FieldMetaData("eS", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
-      tmpMap.put(_Fields.E_B, new org.apache.thrift.meta_data.FieldMetaData("eB", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
-      metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(cacheBlock_result.class, metaDataMap);
-    }
-
-    public cacheBlock_result() {
-    }
-
-    public cacheBlock_result(
-      FileDoesNotExistException eP,
-      SuspectedFileSizeException eS,
-      BlockInfoException eB)
-    {
-      this();
-      this.eP = eP;
-      this.eS = eS;
-      this.eB = eB;
-    }
-
-    /**
-     * Performs a deep copy on <i>other</i>.
-     */
-    public cacheBlock_result(cacheBlock_result other) {
-      if (other.isSetEP()) {
-        this.eP = new FileDoesNotExistException(other.eP);
-      }
-      if (other.isSetES()) {
-        this.eS = new SuspectedFileSizeException(other.eS);
-      }
-      if (other.isSetEB()) {
-        this.eB = new BlockInfoException(other.eB);
-      }
-    }
-
-    public cacheBlock_result deepCopy() {
-      return new cacheBlock_result(this);
-    }
-
-    @Override
-    public void clear() {
-      this.eP = null;
-      this.eS = null;
-      this.eB = null;
-    }
-
-    public FileDoesNotExistException getEP() {
-      return this.eP;
-    }
+      private final short _thriftId;
+      private final String _fieldName;
 
-    public cacheBlock_result setEP(FileDoesNotExistException eP) {
-      this.eP = eP;
-      return this;
-    }
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
 
-    public void unsetEP() {
-      this.eP = null;
-    }
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
 
-    /** Returns true if field eP is set (has been assigned a value) and false otherwise */
-    public boolean isSetEP() {
-      return this.eP != null;
+      public String getFieldName() {
+        return _fieldName;
+      }
     }
 
-    public void setEPIsSet(boolean value) {
-      if (!value) {
-        this.eP = null;
-      }
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getUserUfsTempFolder_result.class, metaDataMap);
     }
 
-    public SuspectedFileSizeException getES() {
-      return this.eS;
+    public getUserUfsTempFolder_result() {
     }
 
-    public cacheBlock_result setES(SuspectedFileSizeException eS) {
-      this.eS = eS;
-      return this;
+    public getUserUfsTempFolder_result(
+      String success)
+    {
+      this();
+      this.success = success;
     }
 
-    public void unsetES() {
-      this.eS = null;
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public getUserUfsTempFolder_result(getUserUfsTempFolder_result other) {
+      if (other.isSetSuccess()) {
+        this.success = other.success;
+      }
     }
 
-    /** Returns true if field eS is set (has been assigned a value) and false otherwise */
-    public boolean isSetES() {
-      return this.eS != null;
+    public getUserUfsTempFolder_result deepCopy() {
+      return new getUserUfsTempFolder_result(this);
     }
 
-    public void setESIsSet(boolean value) {
-      if (!value) {
-        this.eS = null;
-      }
+    @Override
+    public void clear() {
+      this.success = null;
     }
 
-    public BlockInfoException getEB() {
-      return this.eB;
+    public String getSuccess() {
+      return this.success;
     }
 
-    public cacheBlock_result setEB(BlockInfoException eB) {
-      this.eB = eB;
+    public getUserUfsTempFolder_result setSuccess(String success) {
+      this.success = success;
       return this;
     }
 
-    public void unsetEB() {
-      this.eB = null;
+    public void unsetSuccess() {
+      this.success = null;
     }
 
-    /** Returns true if field eB is set (has been assigned a value) and false otherwise */
-    public boolean isSetEB() {
-      return this.eB != null;
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
     }
 
-    public void setEBIsSet(boolean value) {
+    public void setSuccessIsSet(boolean value) {
       if (!value) {
-        this.eB = null;
+        this.success = null;
       }
     }
 
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
-      case E_P:
-        if (value == null) {
-          unsetEP();
-        } else {
-          setEP((FileDoesNotExistException)value);
-        }
-        break;
-
-      case E_S:
-        if (value == null) {
-          unsetES();
-        } else {
-          setES((SuspectedFileSizeException)value);
-        }
-        break;
-
-      case E_B:
+      case SUCCESS:
         if (value == null) {
-          unsetEB();
+          unsetSuccess();
         } else {
-          setEB((BlockInfoException)value);
+          setSuccess((String)value);
         }
         break;
 
@@ -5127,14 +10257,8 @@ public class WorkerService {
 
     public Object getFieldValue(_Fields field) {
       switch (field) {
-      case E_P:
-        return getEP();
-
-      case E_S:
-        return getES();
-
-      case E_B:
-        return getEB();
+      case SUCCESS:
+        return getSuccess();
 
       }
       throw new IllegalStateException();
@@ -5147,12 +10271,8 @@ public class WorkerService {
       }
 
       switch (field) {
-      case E_P:
-        return isSetEP();
-      case E_S:
-        return isSetES();
-      case E_B:
-        return isSetEB();
+      case SUCCESS:
+        return isSetSuccess();
       }
       throw new IllegalStateException();
     }
@@ -5161,39 +10281,21 @@ public class WorkerService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof cacheBlock_result)
-        return this.equals((cacheBlock_result)that);
+      if (that instanceof getUserUfsTempFolder_result)
+        return this.equals((getUserUfsTempFolder_result)that);
       return false;
     }
 
-    public boolean equals(cacheBlock_result that) {
+    public boolean equals(getUserUfsTempFolder_result that) {
       if (that == null)
         return false;
 
-      boolean this_present_eP = true && this.isSetEP();
-      boolean that_present_eP = true && that.isSetEP();
-      if (this_present_eP || that_present_eP) {
-        if (!(this_present_eP && that_present_eP))
-          return false;
-        if (!this.eP.equals(that.eP))
-          return false;
-      }
-
-      boolean this_present_eS = true && this.isSetES();
-      boolean that_present_eS = true && that.isSetES();
-      if (this_present_eS || that_present_eS) {
-        if (!(this_present_eS && that_present_eS))
-          return false;
-        if (!this.eS.equals(that.eS))
-          return false;
-      }
-
-      boolean this_present_eB = true && this.isSetEB();
-      boolean that_present_eB = true && that.isSetEB();
-      if (this_present_eB || that_present_eB) {
-        if (!(this_present_eB && that_present_eB))
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
           return false;
-        if (!this.eB.equals(that.eB))
+        if (!this.success.equals(that.success))
           return false;
       }
 
@@ -5206,39 +10308,19 @@ public class WorkerService {
     }
 
     @Override
-    public int compareTo(cacheBlock_result other) {
+    public int compareTo(getUserUfsTempFolder_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
-      lastComparison = Boolean.valueOf(isSetEP()).compareTo(other.isSetEP());
-      if (lastComparison != 0) {
-        return lastComparison;
-      }
-      if (isSetEP()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.eP, other.eP);
-        if (lastComparison != 0) {
-          return lastComparison;
-        }
-      }
-      lastComparison = Boolean.valueOf(isSetES()).compareTo(other.isSetES());
-      if (lastComparison != 0) {
-        return lastComparison;
-      }
-      if (isSetES()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.eS, other.eS);
-        if (lastComparison != 0) {
-          return lastComparison;
-        }
-      }
-      lastComparison = Boolean.valueOf(isSetEB()).compareTo(other.isSetEB());
+      lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetEB()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.eB, other.eB);
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -5260,30 +10342,14 @@ public class WorkerService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("cacheBlock_result(");
+      StringBuilder sb = new StringBuilder("getUserUfsTempFolder_result(");
       boolean first = true;
 
-      sb.append("eP:");
-      if (this.eP == null) {
-        sb.append("null");
-      } else {
-        sb.append(this.eP);
-      }
-      first = false;
-      if (!first) sb.append(", ");
-      sb.append("eS:");
-      if (this.eS == null) {
-        sb.append("null");
-      } else {
-        sb.append(this.eS);
-      }
-      first = false;
-      if (!first) sb.append(", ");
-      sb.append("eB:");
-      if (this.eB == null) {
+      sb.append("success:");
+      if (this.success == null) {
         sb.append("null");
       } else {
-        sb.append(this.eB);
+        sb.append(this.success);
       }
       first = false;
       sb.append(")");
@@ -5311,47 +10377,28 @@ public class WorkerService {
       }
     }
 
-    private static class cacheBlock_resultStandardSchemeFactory implements SchemeFactory {
-      public cacheBlock_resultStandardScheme getScheme() {
-        return new cacheBlock_resultStandardScheme();
+    private static class getUserUfsTempFolder_resultStandardSchemeFactory implements SchemeFactory {
+      public getUserUfsTempFolder_resultStandardScheme getScheme() {
+        return new getUserUfsTempFolder_resultStandardScheme();
       }
     }
 
-    private static class cacheBlock_resultStandardScheme extends StandardScheme<cacheBlock_result> {
+    private static class getUserUfsTempFolder_resultStandardScheme extends StandardScheme<getUserUfsTempFolder_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, cacheBlock_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getUserUfsTempFolder_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
-        {
-          schemeField = iprot.readFieldBegin();
-          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
-            break;
-          }
-          switch (schemeField.id) {
-            case 1: // E_P
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.eP = new FileDoesNotExistException();
-                struct.eP.read(iprot);
-                struct.setEPIsSet(true);
-              } else { 
-                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
-              }
-              break;
-            case 2: // E_S
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.eS = new SuspectedFileSizeException();
-                struct.eS.read(iprot);
-                struct.setESIsSet(true);
-              } else { 
-                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
-              }
-              break;
-            case 3: // E_B
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.eB = new BlockInfoException();
-                struct.eB.read(iprot);
-                struct.setEBIsSet(true);
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.success = iprot.readString();
+                struct.setSuccessIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -5367,23 +10414,13 @@ public class WorkerService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, cacheBlock_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getUserUfsTempFolder_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        if (struct.eP != null) {
-          oprot.writeFieldBegin(E_P_FIELD_DESC);
-          struct.eP.write(oprot);
-          oprot.writeFieldEnd();
-        }
-        if (struct.eS != null) {
-          oprot.writeFieldBegin(E_S_FIELD_DESC);
-          struct.eS.write(oprot);
-          oprot.writeFieldEnd();
-        }
-        if (struct.eB != null) {
-          oprot.writeFieldBegin(E_B_FIELD_DESC);
-          struct.eB.write(oprot);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          oprot.writeString(struct.success);
           oprot.writeFieldEnd();
         }
         oprot.writeFieldStop();
@@ -5392,82 +10429,59 @@ public class WorkerService {
 
     }
 
-    private static class cacheBlock_resultTupleSchemeFactory implements SchemeFactory {
-      public cacheBlock_resultTupleScheme getScheme() {
-        return new cacheBlock_resultTupleScheme();
+    private static class getUserUfsTempFolder_resultTupleSchemeFactory implements SchemeFactory {
+      public getUserUfsTempFolder_resultTupleScheme getScheme() {
+        return new getUserUfsTempFolder_resultTupleScheme();
       }
     }
 
-    private static class cacheBlock_resultTupleScheme extends TupleScheme<cacheBlock_result> {
+    private static class getUserUfsTempFolder_resultTupleScheme extends TupleScheme<getUserUfsTempFolder_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, cacheBlock_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, getUserUfsTempFolder_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
-        if (struct.isSetEP()) {
+        if (struct.isSetSuccess()) {
           optionals.set(0);
         }
-        if (struct.isSetES()) {
-          optionals.set(1);
-        }
-        if (struct.isSetEB()) {
-          optionals.set(2);
-        }
-        oprot.writeBitSet(optionals, 3);
-        if (struct.isSetEP()) {
-          struct.eP.write(oprot);
-        }
-        if (struct.isSetES()) {
-          struct.eS.write(oprot);
-        }
-        if (struct.isSetEB()) {
-          struct.eB.write(oprot);
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetSuccess()) {
+          oprot.writeString(struct.success);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, cacheBlock_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, getUserUfsTempFolder_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
-        BitSet incoming = iprot.readBitSet(3);
+        BitSet incoming = iprot.readBitSet(1);
         if (incoming.get(0)) {
-          struct.eP = new FileDoesNotExistException();
-          struct.eP.read(iprot);
-          struct.setEPIsSet(true);
-        }
-        if (incoming.get(1)) {
-          struct.eS = new SuspectedFileSizeException();
-          struct.eS.read(iprot);
-          struct.setESIsSet(true);
-        }
-        if (incoming.get(2)) {
-          struct.eB = new BlockInfoException();
-          struct.eB.read(iprot);
-          struct.setEBIsSet(true);
+          struct.success = iprot.readString();
+          struct.setSuccessIsSet(true);
         }
       }
     }
 
   }
 
-  public static class cancelBlock_args implements org.apache.thrift.TBase<cancelBlock_args, cancelBlock_args._Fields>, java.io.Serializable, Cloneable, Comparable<cancelBlock_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("cancelBlock_args");
+  public static class lockBlock_args implements org.apache.thrift.TBase<lockBlock_args, lockBlock_args._Fields>, java.io.Serializable, Cloneable, Comparable<lockBlock_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("lockBlock_args");
 
-    private static final org.apache.thrift.protocol.TField USER_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("userId", org.apache.thrift.protocol.TType.I64, (short)1);
-    private static final org.apache.thrift.protocol.TField BLOCK_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("blockId", org.apache.thrift.protocol.TType.I64, (short)2);
+    private static final org.apache.thrift.protocol.TField BLOCK_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("blockId", org.apache.thrift.protocol.TType.I64, (short)1);
+    private static final org.apache.thrift.protocol.TField USER_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("userId", org.apache.thrift.protocol.TType.I64, (short)2);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new cancelBlock_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new cancelBlock_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new lockBlock_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new lockBlock_argsTupleSchemeFactory());
     }
 
-    public long userId; // required
     public long blockId; // required
+    public long userId; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      USER_ID((short)1, "userId"),
-      BLOCK_ID((short)2, "blockId");
+      BLOCK_ID((short)1, "blockId"),
+      USER_ID((short)2, "userId");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -5482,10 +10496,10 @@ public class WorkerService {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
-          case 1: // USER_ID
-            return USER_ID;
-          case 2: // BLOCK_ID
+          case 1: // BLOCK_ID
             return BLOCK_ID;
+          case 2: // USER_ID
+            return USER_ID;
           default:
             return null;
         }
@@ -5526,83 +10540,60 @@ public class WorkerService {
     }
 
     // isset id assignments
-    private static final int __USERID_ISSET_ID = 0;
-    private static final int __BLOCKID_ISSET_ID = 1;
+    private static final int __BLOCKID_ISSET_ID = 0;
+    private static final int __USERID_ISSET_ID = 1;
     private byte __isset_bitfield = 0;
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
-      tmpMap.put(_Fields.USER_ID, new org.apache.thrift.meta_data.FieldMetaData("userId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
       tmpMap.put(_Fields.BLOCK_ID, new org.apache.thrift.meta_data.FieldMetaData("blockId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
+      tmpMap.put(_Fields.USER_ID, new org.apache.thrift.meta_data.FieldMetaData("userId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(cancelBlock_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(lockBlock_args.class, metaDataMap);
     }
 
-    public cancelBlock_args() {
+    public lockBlock_args() {
     }
 
-    public cancelBlock_args(
-      long userId,
-      long blockId)
+    public lockBlock_args(
+      long blockId,
+      long userId)
     {
       this();
-      this.userId = userId;
-      setUserIdIsSet(true);
       this.blockId = blockId;
       setBlockIdIsSet(true);
+      this.userId = userId;
+      setUserIdIsSet(true);
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public cancelBlock_args(cancelBlock_args other) {
+    public lockBlock_args(lockBlock_args other) {
       __isset_bitfield = other.__isset_bitfield;
-      this.userId = other.userId;
       this.blockId = other.blockId;
+      this.userId = other.userId;
     }
 
-    public cancelBlock_args deepCopy() {
-      return new cancelBlock_args(this);
+    public lockBlock_args deepCopy() {
+      return new lockBlock_args(this);
     }
 
     @Override
     public void clear() {
-      setUserIdIsSet(false);
-      this.userId = 0;
       setBlockIdIsSet(false);
       this.blockId = 0;
-    }
-
-    public long getUserId() {
-      return this.userId;
-    }
-
-    public cancelBlock_args setUserId(long userId) {
-      this.userId = userId;
-      setUserIdIsSet(true);
-      return this;
-    }
-
-    public void unsetUserId() {
-      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __USERID_ISSET_ID);
-    }
-
-    /** Returns true if field userId is set (has been assigned a value) and false otherwise */
-    public boolean isSetUserId() {
-      return EncodingUtils.testBit(__isset_bitfield, __USERID_ISSET_ID);
-    }
-
-    public void setUserIdIsSet(boolean value) {
-      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __USERID_ISSET_ID, value);
+      setUserIdIsSet(false);
+      this.userId = 0;
     }
 
     public long getBlockId() {
       return this.blockId;
     }
 
-    public cancelBlock_args setBlockId(long blockId) {
+    public lockBlock_args setBlockId(long blockId) {
       this.blockId = blockId;
       setBlockIdIsSet(true);
       return this;
@@ -5621,21 +10612,44 @@ public class WorkerService {
       __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __BLOCKID_ISSET_ID, value);
     }
 
+    public long getUserId() {
+      return this.userId;
+    }
+
+    public lockBlock_args setUserId(long userId) {
+      this.userId = userId;
+      setUserIdIsSet(true);
+      return this;
+    }
+
+    public void unsetUserId() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __USERID_ISSET_ID);
+    }
+
+    /** Returns true if field userId is set (has been assigned a value) and false otherwise */
+    public boolean isSetUserId() {
+      return EncodingUtils.testBit(__isset_bitfield, __USERID_ISSET_ID);
+    }
+
+    public void setUserIdIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __USERID_ISSET_ID, value);
+    }
+
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
-      case USER_ID:
+      case BLOCK_ID:
         if (value == null) {
-          unsetUserId();
+          unsetBlockId();
         } else {
-          setUserId((Long)value);
+          setBlockId((Long)value);
         }
         break;
 
-      case BLOCK_ID:
+      case USER_ID:
         if (value == null) {
-          unsetBlockId();
+          unsetUserId();
         } else {
-          setBlockId((Long)value);
+          setUserId((Long)value);
         }
         break;
 
@@ -5644,12 +10658,12 @@ public class WorkerService {
 
     public Object getFieldValue(_Fields field) {
       switch (field) {
-      case USER_ID:
-        return Long.valueOf(getUserId());
-
       case BLOCK_ID:
         return Long.valueOf(getBlockId());
 
+      case USER_ID:
+        return Long.valueOf(getUserId());
+
       }
       throw new IllegalStateException();
     }
@@ -5661,10 +10675,10 @@ public class WorkerService {
       }
 
       switch (field) {
-      case USER_ID:
-        return isSetUserId();
       case BLOCK_ID:
         return isSetBlockId();
+      case USER_ID:
+        return isSetUserId();
       }
       throw new IllegalStateException();
     }
@@ -5673,24 +10687,15 @@ public class WorkerService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof cancelBlock_args)
-        return this.equals((cancelBlock_args)that);
+      if (that instanceof lockBlock_args)
+        return this.equals((lockBlock_args)that);
       return false;
     }
 
-    public boolean equals(cancelBlock_args that) {
+    public boolean equals(lockBlock_args that) {
       if (that == null)
         return false;
 
-      boolean this_present_userId = true;
-      boolean that_present_userId = true;
-      if (this_present_userId || that_present_userId) {
-        if (!(this_present_userId && that_present_userId))
-          return false;
-        if (this.userId != that.userId)
-          return false;
-      }
-
       boolean this_present_blockId = true;
       boolean that_present_blockId = true;
       if (this_present_blockId || that_present_blockId) {
@@ -5700,6 +10705,15 @@ public class WorkerService {
           return false;
       }
 
+      boolean this_present_userId = true;
+      boolean that_present_userId = true;
+      if (this_present_userId || that_present_userId) {
+        if (!(this_present_userId && that_present_userId))
+          return false;
+        if (this.userId != that.userId)
+          return false;
+      }
+
       return true;
     }
 
@@ -5709,29 +10723,29 @@ public class WorkerService {
     }
 
     @Override
-    public int compareTo(cancelBlock_args other) {
+    public int compareTo(lockBlock_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
-      lastComparison = Boolean.valueOf(isSetUserId()).compareTo(other.isSetUserId());
+      lastComparison = Boolean.valueOf(isSetBlockId()).compareTo(other.isSetBlockId());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetUserId()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.userId, other.userId);
+      if (isSetBlockId()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.blockId, other.blockId);
         if (lastComparison != 0) {
           return lastComparison;
         }
       }
-      lastComparison = Boolean.valueOf(isSetBlockId()).compareTo(other.isSetBlockId());
+      lastComparison = Boolean.valueOf(isSetUserId()).compareTo(other.isSetUserId());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetBlockId()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.blockId, other.blockId);
+      if (isSetUserId()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.userId, other.userId);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -5753,16 +10767,16 @@ public class WorkerService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("cancelBlock_args(");
+      StringBuilder sb = new StringBuilder("lockBlock_args(");
       boolean first = true;
 
-      sb.append("userId:");
-      sb.append(this.userId);
-      first = false;
-      if (!first) sb.append(", ");
       sb.append("blockId:");
       sb.append(this.blockId);
       first = false;
+      if (!first) sb.append(", ");
+      sb.append("userId:");
+      sb.append(this.userId);
+      first = false;
       sb.append(")");
       return sb.toString();
     }
@@ -5790,15 +10804,15 @@ public class WorkerService {
       }
     }
 
-    private static class cancelBlock_argsStandardSchemeFactory implements SchemeFactory {
-      public cancelBlock_argsStandardScheme getScheme() {
-        return new cancelBlock_argsStandardScheme();
+    private static class lockBlock_argsStandardSchemeFactory implements SchemeFactory {
+      public lockBlock_argsStandardScheme getScheme() {
+        return new lockBlock_argsStandardScheme();
       }
     }
 
-    private static class cancelBlock_argsStandardScheme extends StandardScheme<cancelBlock_args> {
+    private static class lockBlock_argsStandardScheme extends StandardScheme<lockBlock_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, cancelBlock_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, lockBlock_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -5808,18 +10822,18 @@ public class WorkerService {
             break;
           }
           switch (schemeField.id) {
-            case 1: // USER_ID
+            case 1: // BLOCK_ID
               if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
-                struct.userId = iprot.readI64();
-                struct.setUserIdIsSet(true);
+                struct.blockId = iprot.readI64();
+                struct.setBlockIdIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
-            case 2: // BLOCK_ID
+            case 2: // USER_ID
               if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
-                struct.blockId = iprot.readI64();
-                struct.setBlockIdIsSet(true);
+                struct.userId = iprot.readI64();
+                struct.setUserIdIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -5835,80 +10849,85 @@ public class WorkerService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, cancelBlock_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, lockBlock_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        oprot.writeFieldBegin(USER_ID_FIELD_DESC);
-        oprot.writeI64(struct.userId);
-        oprot.writeFieldEnd();
         oprot.writeFieldBegin(BLOCK_ID_FIELD_DESC);
         oprot.writeI64(struct.blockId);
         oprot.writeFieldEnd();
+        oprot.writeFieldBegin(USER_ID_FIELD_DESC);
+        oprot.writeI64(struct.userId);
+        oprot.writeFieldEnd();
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
 
     }
 
-    private static class cancelBlock_argsTupleSchemeFactory implements SchemeFactory {
-      public cancelBlock_argsTupleScheme getScheme() {
-        return new cancelBlock_argsTupleScheme();
+    private static class lockBlock_argsTupleSchemeFactory implements SchemeFactory {
+      public lockBlock_argsTupleScheme getScheme() {
+        return new lockBlock_argsTupleScheme();
       }
     }
 
-    private static class cancelBlock_argsTupleScheme extends TupleScheme<cancelBlock_args> {
+    private static class lockBlock_argsTupleScheme extends TupleScheme<lockBlock_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, cancelBlock_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, lockBlock_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
-        if (struct.isSetUserId()) {
+        if (struct.isSetBlockId()) {
           optionals.set(0);
         }
-        if (struct.isSetBlockId()) {
+        if (struct.isSetUserId()) {
           optionals.set(1);
         }
         oprot.writeBitSet(optionals, 2);
-        if (struct.isSetUserId()) {
-          oprot.writeI64(struct.userId);
-        }
         if (struct.isSetBlockId()) {
           oprot.writeI64(struct.blockId);
         }
+        if (struct.isSetUserId()) {
+          oprot.writeI64(struct.userId);
+        }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, cancelBlock_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, lockBlock_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
-          struct.userId = iprot.readI64();
-          struct.setUserIdIsSet(true);
-        }
-        if (incoming.get(1)) {
           struct.blockId = iprot.readI64();
           struct.setBlockIdIsSet(true);
         }
+        if (incoming.get(1)) {
+          struct.userId = iprot.readI64();
+          struct.setUserIdIsSet(true);
+        }
       }
     }
 
   }
 
-  public static class cancelBlock_result implements org.apache.thrift.TBase<cancelBlock_result, cancelBlock_result._Fields>, java.io.Serializable, Cloneable, Comparable<cancelBlock_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("cancelBlock_result");
+  public static class lockBlock_result implements org.apache.thrift.TBase<lockBlock_result, lockBlock_result._Fields>, java.io.Serializable, Cloneable, Comparable<lockBlock_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("lockBlock_result");
 
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRING, (short)0);
+    private static final org.apache.thrift.protocol.TField E_P_FIELD_DESC = new org.apache.thrift.protocol.TField("eP", org.apache.thrift.protocol.TType.STRUCT, (short)1);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new cancelBlock_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new cancelBlock_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new lockBlock_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new lockBlock_resultTupleSchemeFactory());
     }
 
+    public String success; // required
+    public FileDoesNotExistException eP; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-;
+      SUCCESS((short)0, "success"),
+      E_P((short)1, "eP");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -5923,6 +10942,10 @@ public class WorkerService {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          case 1: // E_P
+            return E_P;
           default:
             return null;
         }
@@ -5961,37 +10984,130 @@ public class WorkerService {
         return _fieldName;
       }
     }
+
+    // isset id assignments
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.E_P, new org.apache.thrift.meta_data.FieldMetaData("eP", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(cancelBlock_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(lockBlock_result.class, metaDataMap);
     }
 
-    public cancelBlock_result() {
+    public lockBlock_result() {
+    }
+
+    public lockBlock_result(
+      String success,
+      FileDoesNotExistException eP)
+    {
+      this();
+      this.success = success;
+      this.eP = eP;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public cancelBlock_result(cancelBlock_result other) {
+    public lockBlock_result(lockBlock_result other) {
+      if (other.isSetSuccess()) {
+        this.success = other.success;
+      }
+      if (other.isSetEP()) {
+        this.eP = new FileDoesNotExistException(other.eP);
+      }
     }
 
-    public cancelBlock_result deepCopy() {
-      return new cancelBlock_result(this);
+    public lockBlock_result deepCopy() {
+      return new lockBlock_result(this);
     }
 
     @Override
     public void clear() {
+      this.success = null;
+      this.eP = null;
+    }
+
+    public String getSuccess() {
+      return this.success;
+    }
+
+    public lockBlock_result setSuccess(String success) {
+      this.success = success;
+      return this;
+    }
+
+    public void unsetSuccess() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
+    }
+
+    public FileDoesNotExistException getEP() {
+      return this.eP;
+    }
+
+    public lockBlock_result setEP(FileDoesNotExistException eP) {
+      this.eP = eP;
+      return this;
+    }
+
+    public void unsetEP() {
+      this.eP = null;
+    }
+
+    /** Returns true if field eP is set (has been assigned a value) and false otherwise */
+    public boolean isSetEP() {
+      return this.eP != null;
+    }
+
+    public void setEPIsSet(boolean value) {
+      if (!value) {
+        this.eP = null;
+      }
     }
 
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((String)value);
+        }
+        break;
+
+      case E_P:
+        if (value == null) {
+          unsetEP();
+        } else {
+          setEP((FileDoesNotExistException)value);
+        }
+        break;
+
       }
     }
 
     public Object getFieldValue(_Fields field) {
       switch (field) {
+      case SUCCESS:
+        return getSuccess();
+
+      case E_P:
+        return getEP();
+
       }
       throw new IllegalStateException();
     }
@@ -6003,6 +11119,10 @@ public class WorkerService {
       }
 
       switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
+      case E_P:
+        return isSetEP();
       }
       throw new IllegalStateException();
     }
@@ -6011,15 +11131,33 @@ public class WorkerService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof cancelBlock_result)
-        return this.equals((cancelBlock_result)that);
+      if (that instanceof lockBlock_result)
+        return this.equals((lockBlock_result)that);
       return false;
     }
 
-    public boolean equals(cancelBlock_result that) {
+    public boolean equals(lockBlock_result that) {
       if (that == null)
         return false;
 
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
+      boolean this_present_eP = true && this.isSetEP();
+      boolean that_present_eP = true && that.isSetEP();
+      if (this_present_eP || that_present_eP) {
+        if (!(this_present_eP && that_present_eP))
+          return false;
+        if (!this.eP.equals(that.eP))
+          return false;
+      }
+
       return true;
     }
 
@@ -6029,13 +11167,33 @@ public class WorkerService {
     }
 
     @Override
-    public int compareTo(cancelBlock_result other) {
+    public int compareTo(lockBlock_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
+      lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetEP()).compareTo(other.isSetEP());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetEP()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.eP, other.eP);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
       return 0;
     }
 
@@ -6053,9 +11211,24 @@ public class WorkerService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("cancelBlock_result(");
+      StringBuilder sb = new StringBuilder("lockBlock_result(");
       boolean first = true;
 
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("eP:");
+      if (this.eP == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.eP);
+      }
+      first = false;
       sb.append(")");
       return sb.toString();
     }
@@ -6081,15 +11254,15 @@ public class WorkerService {
       }
     }
 
-    private static class cancelBlock_resultStandardSchemeFactory implements SchemeFactory {
-      public cancelBlock_resultStandardScheme getScheme() {
-        return new cancelBlock_resultStandardScheme();
+    private static class lockBlock_resultStandardSchemeFactory implements SchemeFactory {
+      public lockBlock_resultStandardScheme getScheme() {
+        return new lockBlock_resultStandardScheme();
       }
     }
 
-    private static class cancelBlock_resultStandardScheme extends StandardScheme<cancelBlock_result> {
+    private static class lockBlock_resultStandardScheme extends StandardScheme<lockBlock_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, cancelBlock_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, lockBlock_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -6099,6 +11272,23 @@ public class WorkerService {
             break;
           }
           switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.success = iprot.readString();
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 1: // E_P
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.eP = new FileDoesNotExistException();
+                struct.eP.read(iprot);
+                struct.setEPIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
             default:
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
           }
@@ -6110,53 +11300,90 @@ public class WorkerService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, cancelBlock_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, lockBlock_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          oprot.writeString(struct.success);
+          oprot.writeFieldEnd();
+        }
+        if (struct.eP != null) {
+          oprot.writeFieldBegin(E_P_FIELD_DESC);
+          struct.eP.write(oprot);
+          oprot.writeFieldEnd();
+        }
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
 
     }
 
-    private static class cancelBlock_resultTupleSchemeFactory implements SchemeFactory {
-      public cancelBlock_resultTupleScheme getScheme() {
-        return new cancelBlock_resultTupleScheme();
+    private static class lockBlock_resultTupleSchemeFactory implements SchemeFactory {
+      public lockBlock_resultTupleScheme getScheme() {
+        return new lockBlock_resultTupleScheme();
       }
     }
 
-    private static class cancelBlock_resultTupleScheme extends TupleScheme<cancelBlock_result> {
+    private static class lockBlock_resultTupleScheme extends TupleScheme<lockBlock_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, cancelBlock_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, lockBlock_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        if (struct.isSetEP()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetSuccess()) {
+          oprot.writeString(struct.success);
+        }
+        if (struct.isSetEP()) {
+          struct.eP.write(oprot);
+        }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, cancelBlock_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, lockBlock_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(2);
+        if (incoming.get(0)) {
+          struct.success = iprot.readString();
+          struct.setSuccessIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.eP = new FileDoesNotExistException();
+          struct.eP.read(iprot);
+          struct.setEPIsSet(true);
+        }
       }
     }
 
   }
 
-  public static class getUserUfsTempFolder_args implements org.apache.thrift.TBase<getUserUfsTempFolder_args, getUserUfsTempFolder_args._Fields>, java.io.Serializable, Cloneable, Comparable<getUserUfsTempFolder_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getUserUfsTempFolder_args");
+  public static class lockBlocks_args implements org.apache.thrift.TBase<lockBlocks_args, lockBlocks_args._Fields>, java.io.Serializable, Cloneable, Comparable<lockBlocks_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("lockBlocks_args");
 
-    private static final org.apache.thrift.protocol.TField USER_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("userId", org.apache.thrift.protocol.TType.I64, (short)1);
+    private static final org.apache.thrift.protocol.TField BLOCK_IDS_FIELD_DESC = new org.apache.thrift.protocol.TField("blockIds", org.apache.thrift.protocol.TType.LIST, (short)1);
+    private static final org.apache.thrift.protocol.TField USER_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("userId", org.apache.thrift.protocol.TType.I64, (short)2);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new getUserUfsTempFolder_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new getUserUfsTempFolder_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new lockBlocks_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new lockBlocks_argsTupleSchemeFactory());
     }
 
+    public List<Long> blockIds; // required
     public long userId; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      USER_ID((short)1, "userId");
+      BLOCK_IDS((short)1, "blockIds"),
+      USER_ID((short)2, "userId");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -6171,7 +11398,9 @@ public class WorkerService {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
-          case 1: // USER_ID
+          case 1: // BLOCK_IDS
+            return BLOCK_IDS;
+          case 2: // USER_ID
             return USER_ID;
           default:
             return null;
@@ -6218,19 +11447,24 @@ public class WorkerService {
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.BLOCK_IDS, new org.apache.thrift.meta_data.FieldMetaData("blockIds", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64))));
       tmpMap.put(_Fields.USER_ID, new org.apache.thrift.meta_data.FieldMetaData("userId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getUserUfsTempFolder_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(lockBlocks_args.class, metaDataMap);
     }
 
-    public getUserUfsTempFolder_args() {
+    public lockBlocks_args() {
     }
 
-    public getUserUfsTempFolder_args(
+    public lockBlocks_args(
+      List<Long> blockIds,
       long userId)
     {
       this();
+      this.blockIds = blockIds;
       this.userId = userId;
       setUserIdIsSet(true);
     }
@@ -6238,26 +11472,70 @@ public class WorkerService {
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public getUserUfsTempFolder_args(getUserUfsTempFolder_args other) {
+    public lockBlocks_args(lockBlocks_args other) {
       __isset_bitfield = other.__isset_bitfield;
+      if (other.isSetBlockIds()) {
+        List<Long> __this__blockIds = new ArrayList<Long>(other.blockIds);
+        this.blockIds = __this__blockIds;
+      }
       this.userId = other.userId;
     }
 
-    public getUserUfsTempFolder_args deepCopy() {
-      return new getUserUfsTempFolder_args(this);
+    public lockBlocks_args deepCopy() {
+      return new lockBlocks_args(this);
     }
 
     @Override
     public void clear() {
+      this.blockIds = null;
       setUserIdIsSet(false);
       this.userId = 0;
     }
 
+    public int getBlockIdsSize() {
+      return (this.blockIds == null) ? 0 : this.blockIds.size();
+    }
+
+    public java.util.Iterator<Long> getBlockIdsIterator() {
+      return (this.blockIds == null) ? null : this.blockIds.iterator();
+    }
+
+    public void addToBlockIds(long elem) {
+      if (this.blockIds == null) {
+        this.blockIds = new ArrayList<Long>();
+      }
+      this.blockIds.add(elem);
+    }
+
+    public List<Long> getBlockIds() {
+      return this.blockIds;
+    }
+
+    public lockBlocks_args setBlockIds(List<Long> blockIds) {
+      this.blockIds = blockIds;
+      return this;
+    }
+
+    public void unsetBlockIds() {
+      this.blockIds = null;
+    }
+
+    /** Returns true if field blockIds is set (has been assigned a value) and false otherwise */
+    public boolean isSetBlockIds() {
+      return this.blockIds != null;
+    }
+
+    public void setBlockIdsIsSet(boolean value) {
+      if (!value) {
+        this.blockIds = null;
+      }
+    }
+
     public long getUserId() {
       return this.userId;
     }
 
-    public getUserUfsTempFolder_args setUserId(long userId) {
+    public lockBlocks_args setUserId(long userId) {
       this.userId = userId;
       setUserIdIsSet(true);
       return this;
@@ -6278,6 +11556,14 @@ public class WorkerService {
 
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
+      case BLOCK_IDS:
+        if (value == null) {
+          unsetBlockIds();
+        } else {
+          setBlockIds((List<Long>)value);
+        }
+        break;
+
       case USER_ID:
         if (value == null) {
           unsetUserId();
@@ -6291,6 +11577,9 @@ public class WorkerService {
 
     public Object getFieldValue(_Fields field) {
       switch (field) {
+      case BLOCK_IDS:
+        return getBlockIds();
+
       case USER_ID:
         return Long.valueOf(getUserId());
 
@@ -6305,6 +11594,8 @@ public class WorkerService {
       }
 
       switch (field) {
+      case BLOCK_IDS:
+        return isSetBlockIds();
       case USER_ID:
         return isSetUserId();
       }
@@ -6315,15 +11606,24 @@ public class WorkerService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof getUserUfsTempFolder_args)
-        return this.equals((getUserUfsTempFolder_args)that);
+      if (that instanceof lockBlocks_args)
+        return this.equals((lockBlocks_args)that);
       return false;
     }
 
-    public boolean equals(getUserUfsTempFolder_args that) {
+    public boolean equals(lockBlocks_args that) {
       if (that == null)
         return false;
 
+      boolean this_present_blockIds = true && this.isSetBlockIds();
+      boolean that_present_blockIds = true && that.isSetBlockIds();
+      if (this_present_blockIds || that_present_blockIds) {
+        if (!(this_present_blockIds && that_present_blockIds))
+          return false;
+        if (!this.blockIds.equals(that.blockIds))
+          return false;
+      }
+
       boolean this_present_userId = true;
       boolean that_present_userId = true;
       if (this_present_userId || that_present_userId) {
@@ -6342,13 +11642,23 @@ public class WorkerService {
     }
 
     @Override
-    public int compareTo(getUserUfsTempFolder_args other) {
+    public int compareTo(lockBlocks_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
+      lastComparison = Boolean.valueOf(isSetBlockIds()).compareTo(other.isSetBlockIds());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetBlockIds()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.blockIds, other.blockIds);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
       lastComparison = Boolean.valueOf(isSetUserId()).compareTo(other.isSetUserId());
       if (lastComparison != 0) {
         return lastComparison;
@@ -6376,9 +11686,17 @@ public class WorkerService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("getUserUfsTempFolder_args(");
+      StringBuilder sb = new StringBuilder("lockBlocks_args(");
       boolean first = true;
 
+      sb.append("blockIds:");
+      if (this.blockIds == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.blockIds);
+      }
+      first = false;
+      if (!first) sb.append(", ");
       sb.append("userId:");
       sb.append(this.userId);
       first = false;
@@ -6409,15 +11727,15 @@ public class WorkerService {
       }
     }
 
-    private static class getUserUfsTempFolder_argsStandardSchemeFactory implements SchemeFactory {
-      public getUserUfsTempFolder_argsStandardScheme getScheme() {
-        return new getUserUfsTempFolder_argsStandardScheme();
+    private static class lockBlocks_argsStandardSchemeFactory implements SchemeFactory {
+      public lockBlocks_argsStandardScheme getScheme() {
+        return new lockBlocks_argsStandardScheme();
       }
     }
 
-    private static class getUserUfsTempFolder_argsStandardScheme extends StandardScheme<getUserUfsTempFolder_args> {
+    private static class lockBlocks_argsStandardScheme extends StandardScheme<lockBlocks_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, getUserUfsTempFolder_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, lockBlocks_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -6427,7 +11745,25 @@ public class WorkerService {
             break;
           }
           switch (schemeField.id) {
-            case 1: // USER_ID
+            case 1: // BLOCK_IDS
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list238 = iprot.readListBegin();
+                  struct.blockIds = new ArrayList<Long>(_list238.size);
+                  for (int _i239 = 0; _i239 < _list238.size; ++_i239)
+                  {
+                    long _elem240;
+                    _elem240 = iprot.readI64();
+                    struct.blockIds.add(_elem240);
+                  }
+                  iprot.readListEnd();
+                }
+                struct.setBlockIdsIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // USER_ID
               if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
                 struct.userId = iprot.readI64();
                 struct.setUserIdIsSet(true);
@@ -6446,10 +11782,22 @@ public class WorkerService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, getUserUfsTempFolder_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, lockBlocks_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.blockIds != null) {
+          oprot.writeFieldBegin(BLOCK_IDS_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.I64, struct.blockIds.size()));
+            for (long _iter241 : struct.blockIds)
+            {
+              oprot.writeI64(_iter241);
+            }
+            oprot.writeListEnd();
+          }
+          oprot.writeFieldEnd();
+        }
         oprot.writeFieldBegin(USER_ID_FIELD_DESC);
         oprot.writeI64(struct.userId);
         oprot.writeFieldEnd();
@@ -6459,32 +11807,57 @@ public class WorkerService {
 
     }
 
-    private static class getUserUfsTempFolder_argsTupleSchemeFactory implements SchemeFactory {
-      public getUserUfsTempFolder_argsTupleScheme getScheme() {
-        return new getUserUfsTempFolder_argsTupleScheme();
+    private static class lockBlocks_argsTupleSchemeFactory implements SchemeFactory {
+      public lockBlocks_argsTupleScheme getScheme() {
+        return new lockBlocks_argsTupleScheme();
       }
     }
 
-    private static class getUserUfsTempFolder_argsTupleScheme extends TupleScheme<getUserUfsTempFolder_args> {
+    private static class lockBlocks_argsTupleScheme extends TupleScheme<lockBlocks_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, getUserUfsTempFolder_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, lockBlocks_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
-        if (struct.isSetUserId()) {
+        if (struct.isSetBlockIds()) {
           optionals.set(0);
         }
-        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetUserId()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetBlockIds()) {
+          {
+            oprot.writeI32(struct.blockIds.size());
+            for (long _iter242 : struct.blockIds)
+            {
+              oprot.writeI64(_iter242);
+            }
+          }
+        }
         if (struct.isSetUserId()) {
           oprot.writeI64(struct.userId);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, getUserUfsTempFolder_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, lockBlocks_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
-        BitSet incoming = iprot.readBitSet(1);
+        BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
+          {
+            org.apache.thrift.protocol.TList _list243 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.I64, iprot.readI32());
+            struct.blockIds = new ArrayList<Long>(_list243.size);
+            for (int _i244 = 0; _i244 < _list243.size; ++_i244)
+            {
+              long _elem245;
+              _elem245 = iprot.readI64();
+              struct.blockIds.add(_elem245);
+            }
+          }
+          struct.setBlockIdsIsSet(true);
+        }
+        if (incoming.get(1)) {
           struct.userId = iprot.readI64();
           struct.setUserIdIsSet(true);
         }
@@ -6493,18 +11866,18 @@ public class WorkerService {
 
   }
 
-  public static class getUserUfsTempFolder_result implements org.apache.thrift.TBase<getUserUfsTempFolder_result, getUserUfsTempFolder_result._Fields>, java.io.Serializable, Cloneable, Comparable<getUserUfsTempFolder_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getUserUfsTempFolder_result");
+  public static class lockBlocks_result implements org.apache.thrift.TBase<lockBlocks_result, lockBlocks_result._Fields>, java.io.Serializable, Cloneable, Comparable<lockBlocks_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("lockBlocks_result");
 
-    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRING, (short)0);
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.MAP, (short)0);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new getUserUfsTempFolder_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new getUserUfsTempFolder_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new lockBlocks_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new lockBlocks_resultTupleSchemeFactory());
     }
 
-    public String success; // required
+    public Map<Long,String> success; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
@@ -6569,16 +11942,18 @@ public class WorkerService {
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+          new org.apache.thrift.meta_data.MapMetaData(org.apache.thrift.protocol.TType.MAP, 
+              new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64), 
+              new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING))));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getUserUfsTempFolder_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(lockBlocks_result.class, metaDataMap);
     }
 
-    public getUserUfsTempFolder_result() {
+    public lockBlocks_result() {
     }
 
-    public getUserUfsTempFolder_result(
-      String success)
+    public lockBlocks_result(
+      Map<Long,String> success)
     {
       this();
       this.success = success;
@@ -6587,14 +11962,15 @@ public class WorkerService {
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public getUserUfsTempFolder_result(getUserUfsTempFolder_result other) {
+    public lockBlocks_result(lockBlocks_result other) {
       if (other.isSetSuccess()) {
-        this.success = other.success;
+        Map<Long,String> __this__success = new HashMap<Long,String>(other.success);
+        this.success = __this__success;
       }
     }
 
-    public getUserUfsTempFolder_result deepCopy() {
-      return new getUserUfsTempFolder_result(this);
+    public lockBlocks_result deepCopy() {
+      return new lockBlocks_result(this);
     }
 
     @Override
@@ -6602,11 +11978,22 @@ public class WorkerService {
       this.success = null;
     }
 
-    public String getSuccess() {
+    public int getSuccessSize() {
+      return (this.success == null) ? 0 : this.success.size();
+    }
+
+    public void putToSuccess(long key, String val) {
+      if (this.success == null) {
+        this.success = new HashMap<Long,String>();
+      }
+      this.success.put(key, val);
+    }
+
+    public Map<Long,String> getSuccess() {
       return this.success;
     }
 
-    public getUserUfsTempFolder_result setSuccess(String success) {
+    public lockBlocks_result setSuccess(Map<Long,String> success) {
       this.success = success;
       return this;
     }
@@ -6632,7 +12019,7 @@ public class WorkerService {
         if (value == null) {
           unsetSuccess();
         } else {
-          setSuccess((String)value);
+          setSuccess((Map<Long,String>)value);
         }
         break;
 
@@ -6665,12 +12052,12 @@ public class WorkerService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof getUserUfsTempFolder_result)
-        return this.equals((getUserUfsTempFolder_result)that);
+      if (that instanceof lockBlocks_result)
+        return this.equals((lockBlocks_result)that);
       return false;
     }
 
-    public boolean equals(getUserUfsTempFolder_result that) {
+    public boolean equals(lockBlocks_result that) {
       if (that == null)
         return false;
 
@@ -6692,7 +12079,7 @@ public class WorkerService {
     }
 
     @Override
-    public int compareTo(getUserUfsTempFolder_result other) {
+    public int compareTo(lockBlocks_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -6726,7 +12113,7 @@ public class WorkerService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("getUserUfsTempFolder_result(");
+      StringBuilder sb = new StringBuilder("lockBlocks_result(");
       boolean first = true;
 
       sb.append("success:");
@@ -6761,15 +12148,15 @@ public class WorkerService {
       }
     }
 
-    private static class getUserUfsTempFolder_resultStandardSchemeFactory implements SchemeFactory {
-      public getUserUfsTempFolder_resultStandardScheme getScheme() {
-        return new getUserUfsTempFolder_resultStandardScheme();
+    private static class lockBlocks_resultStandardSchemeFactory implements SchemeFactory {
+      public lockBlocks_resultStandardScheme getScheme() {
+        return new lockBlocks_resultStandardScheme();
       }
     }
 
-    private static class getUserUfsTempFolder_resultStandardScheme extends StandardScheme<getUserUfsTempFolder_result> {
+    private static class lockBlocks_resultStandardScheme extends StandardScheme<lockBlocks_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, getUserUfsTempFolder_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, lockBlocks_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -6780,8 +12167,20 @@ public class WorkerService {
           }
           switch (schemeField.id) {
             case 0: // SUCCESS
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
-                struct.success = iprot.readString();
+              if (schemeField.type == org.apache.thrift.protocol.TType.MAP) {
+                {
+                  org.apache.thrift.protocol.TMap _map246 = iprot.readMapBegin();
+                  struct.success = new HashMap<Long,String>(2*_map246.size);
+                  for (int _i247 = 0; _i247 < _map246.size; ++_i247)
+                  {
+                    long _key248;
+                    String _val249;
+                    _key248 = iprot.readI64();
+                    _val249 = iprot.readString();
+                    struct.success.put(_key248, _val249);
+                  }
+                  iprot.readMapEnd();
+                }
                 struct.setSuccessIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
@@ -6798,13 +12197,21 @@ public class WorkerService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, getUserUfsTempFolder_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, lockBlocks_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
         if (struct.success != null) {
           oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
-          oprot.writeString(struct.success);
+          {
+            oprot.writeMapBegin(new org.apache.thrift.protocol.TMap(org.apache.thrift.protocol.TType.I64, org.apache.thrift.protocol.TType.STRING, struct.success.size()));
+            for (Map.Entry<Long, String> _iter250 : struct.success.entrySet())
+            {
+              oprot.writeI64(_iter250.getKey());
+              oprot.writeString(_iter250.getValue());
+            }
+            oprot.writeMapEnd();
+          }
           oprot.writeFieldEnd();
         }
         oprot.writeFieldStop();
@@ -6813,16 +12220,16 @@ public class WorkerService {
 
     }
 
-    private static class getUserUfsTempFolder_resultTupleSchemeFactory implements SchemeFactory {
-      public getUserUfsTempFolder_resultTupleScheme getScheme() {
-        return new getUserUfsTempFolder_resultTupleScheme();
+    private static class lockBlocks_resultTupleSchemeFactory implements SchemeFactory {
+      public lockBlocks_resultTupleScheme getScheme() {
+        return new lockBlocks_resultTupleScheme();
       }
     }
 
-    private static class getUserUfsTempFolder_resultTupleScheme extends TupleScheme<getUserUfsTempFolder_result> {
+    private static class lockBlocks_resultTupleScheme extends TupleScheme<lockBlocks_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, getUserUfsTempFolder_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, lockBlocks_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetSuccess()) {
@@ -6830,16 +12237,34 @@ public class WorkerService {
         }
         oprot.writeBitSet(optionals, 1);
         if (struct.isSetSuccess()) {
-          oprot.writeString(struct.success);
+          {
+            oprot.writeI32(struct.success.size());
+            for (Map.Entry<Long, String> _iter251 : struct.success.entrySet())
+            {
+              oprot.writeI64(_iter251.getKey());
+              oprot.writeString(_iter251.getValue());
+            }
+          }
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, getUserUfsTempFolder_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, lockBlocks_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(1);
         if (incoming.get(0)) {
-          struct.success = iprot.readString();
+          {
+            org.apache.thrift.protocol.TMap _map252 = new org.apache.thrift.protocol.TMap(org.apache.thrift.protocol.TType.I64, org.apache.thrift.protocol.TType.STRING, iprot.readI32());
+            struct.success = new HashMap<Long,String>(2*_map252.size);
+            for (int _i253 = 0; _i253 < _map252.size; ++_i253)
+            {
+              long _key254;
+              String _val255;
+              _key254 = iprot.readI64();
+              _val255 = iprot.readString();
+              struct.success.put(_key254, _val255);
+            }
+          }
           struct.setSuccessIsSet(true);
         }
       }
@@ -6847,25 +12272,22 @@ public class WorkerService {
 
   }
 
-  public static class lockBlock_args implements org.apache.thrift.TBase<lockBlock_args, lockBlock_args._Fields>, java.io.Serializable, Cloneable, Comparable<lockBlock_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("lockBlock_args");
+  public static class promoteBlock_args implements org.apache.thrift.TBase<promoteBlock_args, promoteBlock_args._Fields>, java.io.Serializable, Cloneable, Comparable<promoteBlock_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("promoteBlock_args");
 
     private static final org.apache.thrift.protocol.TField BLOCK_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("blockId", org.apache.thrift.protocol.TType.I64, (short)1);
-    private static final org.apache.thrift.protocol.TField USER_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("userId", org.apache.thrift.protocol.TType.I64, (short)2);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new lockBlock_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new lockBlock_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new promoteBlock_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new promoteBlock_argsTupleSchemeFactory());
     }
 
     public long blockId; // required
-    public long userId; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      BLOCK_ID((short)1, "blockId"),
-      USER_ID((short)2, "userId");
+      BLOCK_ID((short)1, "blockId");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -6882,8 +12304,6 @@ public class WorkerService {
         switch(fieldId) {
           case 1: // BLOCK_ID
             return BLOCK_ID;
-          case 2: // USER_ID
-            return USER_ID;
           default:
             return null;
         }
@@ -6925,59 +12345,50 @@ public class WorkerService {
 
     // isset id assignments
     private static final int __BLOCKID_ISSET_ID = 0;
-    private static final int __USERID_ISSET_ID = 1;
     private byte __isset_bitfield = 0;
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.BLOCK_ID, new org.apache.thrift.meta_data.FieldMetaData("blockId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
-      tmpMap.put(_Fields.USER_ID, new org.apache.thrift.meta_data.FieldMetaData("userId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(lockBlock_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(promoteBlock_args.class, metaDataMap);
     }
 
-    public lockBlock_args() {
+    public promoteBlock_args() {
     }
 
-    public lockBlock_args(
-      long blockId,
-      long userId)
+    public promoteBlock_args(
+      long blockId)
     {
       this();
       this.blockId = blockId;
       setBlockIdIsSet(true);
-      this.userId = userId;
-      setUserIdIsSet(true);
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public lockBlock_args(lockBlock_args other) {
+    public promoteBlock_args(promoteBlock_args other) {
       __isset_bitfield = other.__isset_bitfield;
       this.blockId = other.blockId;
-      this.userId = other.userId;
     }
 
-    public lockBlock_args deepCopy() {
-      return new lockBlock_args(this);
+    public promoteBlock_args deepCopy() {
+      return new promoteBlock_args(this);
     }
 
     @Override
     public void clear() {
       setBlockIdIsSet(false);
       this.blockId = 0;
-      setUserIdIsSet(false);
-      this.userId = 0;
     }
 
     public long getBlockId() {
       return this.blockId;
     }
 
-    public lockBlock_args setBlockId(long blockId) {
+    public promoteBlock_args setBlockId(long blockId) {
       this.blockId = blockId;
       setBlockIdIsSet(true);
       return this;
@@ -6996,29 +12407,6 @@ public class WorkerService {
       __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __BLOCKID_ISSET_ID, value);
     }
 
-    public long getUserId() {
-      return this.userId;
-    }
-
-    public lockBlock_args setUserId(long userId) {
-      this.userId = userId;
-      setUserIdIsSet(true);
-      return this;
-    }
-
-    public void unsetUserId() {
-      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __USERID_ISSET_ID);
-    }
-
-    /** Returns true if field userId is set (has been assigned a value) and false otherwise */
-    public boolean isSetUserId() {
-      return EncodingUtils.testBit(__isset_bitfield, __USERID_ISSET_ID);
-    }
-
-    public void setUserIdIsSet(boolean value) {
-      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __USERID_ISSET_ID, value);
-    }
-
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
       case BLOCK_ID:
@@ -7029,14 +12417,6 @@ public class WorkerService {
         }
         break;
 
-      case USER_ID:
-        if (value == null) {
-          unsetUserId();
-        } else {
-          setUserId((Long)value);
-        }
-        break;
-
       }
     }
 
@@ -7045,9 +12425,6 @@ public class WorkerService {
       case BLOCK_ID:
         return Long.valueOf(getBlockId());
 
-      case USER_ID:
-        return Long.valueOf(getUserId());
-
       }
       throw new IllegalStateException();
     }
@@ -7061,8 +12438,6 @@ public class WorkerService {
       switch (field) {
       case BLOCK_ID:
         return isSetBlockId();
-      case USER_ID:
-        return isSetUserId();
       }
       throw new IllegalStateException();
     }
@@ -7071,12 +12446,12 @@ public class WorkerService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof lockBlock_args)
-        return this.equals((lockBlock_args)that);
+      if (that instanceof promoteBlock_args)
+        return this.equals((promoteBlock_args)that);
       return false;
     }
 
-    public boolean equals(lockBlock_args that) {
+    public boolean equals(promoteBlock_args that) {
       if (that == null)
         return false;
 
@@ -7089,15 +12464,6 @@ public class WorkerService {
           return false;
       }
 
-      boolean this_present_userId = true;
-      boolean that_present_userId = true;
-      if (this_present_userId || that_present_userId) {
-        if (!(this_present_userId && that_present_userId))
-          return false;
-        if (this.userId != that.userId)
-          return false;
-      }
-
       return true;
     }
 
@@ -7107,7 +12473,7 @@ public class WorkerService {
     }
 
     @Override
-    public int compareTo(lockBlock_args other) {
+    public int compareTo(promoteBlock_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -7124,16 +12490,6 @@ public class WorkerService {
           return lastComparison;
         }
       }
-      lastComparison = Boolean.valueOf(isSetUserId()).compareTo(other.isSetUserId());
-      if (lastComparison != 0) {
-        return lastComparison;
-      }
-      if (isSetUserId()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.userId, other.userId);
-        if (lastComparison != 0) {
-          return lastComparison;
-        }
-      }
       return 0;
     }
 
@@ -7151,16 +12507,12 @@ public class WorkerService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("lockBlock_args(");
+      StringBuilder sb = new StringBuilder("promoteBlock_args(");
       boolean first = true;
 
       sb.append("blockId:");
       sb.append(this.blockId);
       first = false;
-      if (!first) sb.append(", ");
-      sb.append("userId:");
-      sb.append(this.userId);
-      first = false;
       sb.append(")");
       return sb.toString();
     }
@@ -7188,15 +12540,15 @@ public class WorkerService {
       }
     }
 
-    private static class lockBlock_argsStandardSchemeFactory implements SchemeFactory {
-      public lockBlock_argsStandardScheme getScheme() {
-        return new lockBlock_argsStandardScheme();
+    private static class promoteBlock_argsStandardSchemeFactory implements SchemeFactory {
+      public promoteBlock_argsStandardScheme getScheme() {
+        return new promoteBlock_argsStandardScheme();
       }
     }
 
-    private static class lockBlock_argsStandardScheme extends StandardScheme<lockBlock_args> {
+    private static class promoteBlock_argsStandardScheme extends StandardScheme<promoteBlock_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, lockBlock_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, promoteBlock_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -7214,14 +12566,6 @@ public class WorkerService {
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
-            case 2: // USER_ID
-              if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
-                struct.userId = iprot.readI64();
-                struct.setUserIdIsSet(true);
-              } else { 
-                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
-              }
-              break;
             default:
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
           }
@@ -7233,85 +12577,69 @@ public class WorkerService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, lockBlock_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, promoteBlock_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
         oprot.writeFieldBegin(BLOCK_ID_FIELD_DESC);
         oprot.writeI64(struct.blockId);
         oprot.writeFieldEnd();
-        oprot.writeFieldBegin(USER_ID_FIELD_DESC);
-        oprot.writeI64(struct.userId);
-        oprot.writeFieldEnd();
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
 
     }
 
-    private static class lockBlock_argsTupleSchemeFactory implements SchemeFactory {
-      public lockBlock_argsTupleScheme getScheme() {
-        return new lockBlock_argsTupleScheme();
+    private static class promoteBlock_argsTupleSchemeFactory implements SchemeFactory {
+      public promoteBlock_argsTupleScheme getScheme() {
+        return new promoteBlock_argsTupleScheme();
       }
     }
 
-    private static class lockBlock_argsTupleScheme extends TupleScheme<lockBlock_args> {
+    private static class promoteBlock_argsTupleScheme extends TupleScheme<promoteBlock_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, lockBlock_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, promoteBlock_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetBlockId()) {
           optionals.set(0);
         }
-        if (struct.isSetUserId()) {
-          optionals.set(1);
-        }
-        oprot.writeBitSet(optionals, 2);
+        oprot.writeBitSet(optionals, 1);
         if (struct.isSetBlockId()) {
           oprot.writeI64(struct.blockId);
         }
-        if (struct.isSetUserId()) {
-          oprot.writeI64(struct.userId);
-        }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, lockBlock_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, promoteBlock_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
-        BitSet incoming = iprot.readBitSet(2);
+        BitSet incoming = iprot.readBitSet(1);
         if (incoming.get(0)) {
           struct.blockId = iprot.readI64();
           struct.setBlockIdIsSet(true);
         }
-        if (incoming.get(1)) {
-          struct.userId = iprot.readI64();
-          struct.setUserIdIsSet(true);
-        }
       }
     }
 
   }
 
-  public static class lockBlock_result implements org.apache.thrift.TBase<lockBlock_result, lockBlock_result._Fields>, java.io.Serializable, Cloneable, Comparable<lockBlock_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("lockBlock_result");
+  public static class promoteBlock_result implements org.apache.thrift.TBase<promoteBlock_result, promoteBlock_result._Fields>, java.io.Serializable, Cloneable, Comparable<promoteBlock_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("promoteBlock_result");
 
-    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRING, (short)0);
-    private static final org.apache.thrift.protocol.TField E_P_FIELD_DESC = new org.apache.thrift.protocol.TField("eP", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.BOOL, (short)0);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new lockBlock_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new lockBlock_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new promoteBlock_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new promoteBlock_resultTupleSchemeFactory());
     }
 
-    public String success; // required
-    public FileDoesNotExistException eP; // required
+    public boolean success; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      SUCCESS((short)0, "success"),
-      E_P((short)1, "eP");
+      SUCCESS((short)0, "success");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -7328,8 +12656,6 @@ public class WorkerService {
         switch(fieldId) {
           case 0: // SUCCESS
             return SUCCESS;
-          case 1: // E_P
-            return E_P;
           default:
             return null;
         }
@@ -7370,97 +12696,67 @@ public class WorkerService {
     }
 
     // isset id assignments
+    private static final int __SUCCESS_ISSET_ID = 0;
+    private byte __isset_bitfield = 0;
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
-      tmpMap.put(_Fields.E_P, new org.apache.thrift.meta_data.FieldMetaData("eP", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.BOOL)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(lockBlock_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(promoteBlock_result.class, metaDataMap);
     }
 
-    public lockBlock_result() {
+    public promoteBlock_result() {
     }
 
-    public lockBlock_result(
-      String success,
-      FileDoesNotExistException eP)
+    public promoteBlock_result(
+      boolean success)
     {
       this();
       this.success = success;
-      this.eP = eP;
+      setSuccessIsSet(true);
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public lockBlock_result(lockBlock_result other) {
-      if (other.isSetSuccess()) {
-        this.success = other.success;
-      }
-      if (other.isSetEP()) {
-        this.eP = new FileDoesNotExistException(other.eP);
-      }
+    public promoteBlock_result(promoteBlock_result other) {
+      __isset_bitfield = other.__isset_bitfield;
+      this.success = other.success;
     }
 
-    public lockBlock_result deepCopy() {
-      return new lockBlock_result(this);
+    public promoteBlock_result deepCopy() {
+      return new promoteBlock_result(this);
     }
 
     @Override
     public void clear() {
-      this.success = null;
-      this.eP = null;
+      setSuccessIsSet(false);
+      this.success = false;
     }
 
-    public String getSuccess() {
+    public boolean isSuccess() {
       return this.success;
     }
 
-    public lockBlock_result setSuccess(String success) {
+    public promoteBlock_result setSuccess(boolean success) {
       this.success = success;
+      setSuccessIsSet(true);
       return this;
     }
 
     public void unsetSuccess() {
-      this.success = null;
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __SUCCESS_ISSET_ID);
     }
 
     /** Returns true if field success is set (has been assigned a value) and false otherwise */
     public boolean isSetSuccess() {
-      return this.success != null;
+      return EncodingUtils.testBit(__isset_bitfield, __SUCCESS_ISSET_ID);
     }
 
     public void setSuccessIsSet(boolean value) {
-      if (!value) {
-        this.success = null;
-      }
-    }
-
-    public FileDoesNotExistException getEP() {
-      return this.eP;
-    }
-
-    public lockBlock_result setEP(FileDoesNotExistException eP) {
-      this.eP = eP;
-      return this;
-    }
-
-    public void unsetEP() {
-      this.eP = null;
-    }
-
-    /** Returns true if field eP is set (has been assigned a value) and false otherwise */
-    public boolean isSetEP() {
-      return this.eP != null;
-    }
-
-    public void setEPIsSet(boolean value) {
-      if (!value) {
-        this.eP = null;
-      }
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __SUCCESS_ISSET_ID, value);
     }
 
     public void setFieldValue(_Fields field, Object value) {
@@ -7469,15 +12765,7 @@ public class WorkerService {
         if (value == null) {
           unsetSuccess();
         } else {
-          setSuccess((String)value);
-        }
-        break;
-
-      case E_P:
-        if (value == null) {
-          unsetEP();
-        } else {
-          setEP((FileDoesNotExistException)value);
+          setSuccess((Boolean)value);
         }
         break;
 
@@ -7487,10 +12775,7 @@ public class WorkerService {
     public Object getFieldValue(_Fields field) {
       switch (field) {
       case SUCCESS:
-        return getSuccess();
-
-      case E_P:
-        return getEP();
+        return Boolean.valueOf(isSuccess());
 
       }
       throw new IllegalStateException();
@@ -7505,8 +12790,6 @@ public class WorkerService {
       switch (field) {
       case SUCCESS:
         return isSetSuccess();
-      case E_P:
-        return isSetEP();
       }
       throw new IllegalStateException();
     }
@@ -7515,30 +12798,21 @@ public class WorkerService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof lockBlock_result)
-        return this.equals((lockBlock_result)that);
+      if (that instanceof promoteBlock_result)
+        return this.equals((promoteBlock_result)that);
       return false;
     }
 
-    public boolean equals(lockBlock_result that) {
+    public boolean equals(promoteBlock_result that) {
       if (that == null)
-        return false;
-
-      boolean this_present_success = true && this.isSetSuccess();
-      boolean that_present_success = true && that.isSetSuccess();
-      if (this_present_success || that_present_success) {
-        if (!(this_present_success && that_present_success))
-          return false;
-        if (!this.success.equals(that.success))
-          return false;
-      }
-
-      boolean this_present_eP = true && this.isSetEP();
-      boolean that_present_eP = true && that.isSetEP();
-      if (this_present_eP || that_present_eP) {
-        if (!(this_present_eP && that_present_eP))
+        return false;
+
+      boolean this_present_success = true;
+      boolean that_present_success = true;
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
           return false;
-        if (!this.eP.equals(that.eP))
+        if (this.success != that.success)
           return false;
       }
 
@@ -7551,7 +12825,7 @@ public class WorkerService {
     }
 
     @Override
-    public int compareTo(lockBlock_result other) {
+    public int compareTo(promoteBlock_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -7568,16 +12842,6 @@ public class WorkerService {
           return lastComparison;
         }
       }
-      lastComparison = Boolean.valueOf(isSetEP()).compareTo(other.isSetEP());
-      if (lastComparison != 0) {
-        return lastComparison;
-      }
-      if (isSetEP()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.eP, other.eP);
-        if (lastComparison != 0) {
-          return lastComparison;
-        }
-      }
       return 0;
     }
 
@@ -7595,23 +12859,11 @@ public class WorkerService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("lockBlock_result(");
+      StringBuilder sb = new StringBuilder("promoteBlock_result(");
       boolean first = true;
 
       sb.append("success:");
-      if (this.success == null) {
-        sb.append("null");
-      } else {
-        sb.append(this.success);
-      }
-      first = false;
-      if (!first) sb.append(", ");
-      sb.append("eP:");
-      if (this.eP == null) {
-        sb.append("null");
-      } else {
-        sb.append(this.eP);
-      }
+      sb.append(this.success);
       first = false;
       sb.append(")");
       return sb.toString();
@@ -7632,21 +12884,23 @@ public class WorkerService {
 
     private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
       try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bitfield = 0;
         read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
       } catch (org.apache.thrift.TException te) {
         throw new java.io.IOException(te);
       }
     }
 
-    private static class lockBlock_resultStandardSchemeFactory implements SchemeFactory {
-      public lockBlock_resultStandardScheme getScheme() {
-        return new lockBlock_resultStandardScheme();
+    private static class promoteBlock_resultStandardSchemeFactory implements SchemeFactory {
+      public promoteBlock_resultStandardScheme getScheme() {
+        return new promoteBlock_resultStandardScheme();
       }
     }
 
-    private static class lockBlock_resultStandardScheme extends StandardScheme<lockBlock_result> {
+    private static class promoteBlock_resultStandardScheme extends StandardScheme<promoteBlock_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, lockBlock_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, promoteBlock_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -7657,22 +12911,13 @@ public class WorkerService {
           }
           switch (schemeField.id) {
             case 0: // SUCCESS
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
-                struct.success = iprot.readString();
+              if (schemeField.type == org.apache.thrift.protocol.TType.BOOL) {
+                struct.success = iprot.readBool();
                 struct.setSuccessIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
-            case 1: // E_P
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.eP = new FileDoesNotExistException();
-                struct.eP.read(iprot);
-                struct.setEPIsSet(true);
-              } else { 
-                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
-              }
-              break;
             default:
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
           }
@@ -7684,18 +12929,13 @@ public class WorkerService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, lockBlock_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, promoteBlock_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        if (struct.success != null) {
+        if (struct.isSetSuccess()) {
           oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
-          oprot.writeString(struct.success);
-          oprot.writeFieldEnd();
-        }
-        if (struct.eP != null) {
-          oprot.writeFieldBegin(E_P_FIELD_DESC);
-          struct.eP.write(oprot);
+          oprot.writeBool(struct.success);
           oprot.writeFieldEnd();
         }
         oprot.writeFieldStop();
@@ -7704,67 +12944,62 @@ public class WorkerService {
 
     }
 
-    private static class lockBlock_resultTupleSchemeFactory implements SchemeFactory {
-      public lockBlock_resultTupleScheme getScheme() {
-        return new lockBlock_resultTupleScheme();
+    private static class promoteBlock_resultTupleSchemeFactory implements SchemeFactory {
+      public promoteBlock_resultTupleScheme getScheme() {
+        return new promoteBlock_resultTupleScheme();
       }
     }
 
-    private static class lockBlock_resultTupleScheme extends TupleScheme<lockBlock_result> {
+    private static class promoteBlock_resultTupleScheme extends TupleScheme<promoteBlock_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, lockBlock_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, promoteBlock_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetSuccess()) {
           optionals.set(0);
         }
-        if (struct.isSetEP()) {
-          optionals.set(1);
-        }
-        oprot.writeBitSet(optionals, 2);
+        oprot.writeBitSet(optionals, 1);
         if (struct.isSetSuccess()) {
-          oprot.writeString(struct.success);
-        }
-        if (struct.isSetEP()) {
-          struct.eP.write(oprot);
+          oprot.writeBool(struct.success);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, lockBlock_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, promoteBlock_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
-        BitSet incoming = iprot.readBitSet(2);
+        BitSet incoming = iprot.readBitSet(1);
         if (incoming.get(0)) {
-          struct.success = iprot.readString();
+          struct.success = iprot.readBool();
           struct.setSuccessIsSet(true);
         }
-        if (incoming.get(1)) {
-          struct.eP = new FileDoesNotExistException();
-          struct.eP.read(iprot);
-          struct.setEPIsSet(true);
-        }
       }
     }
 
   }
 
-  public static class promoteBlock_args implements org.apache.thrift.TBase<promoteBlock_args, promoteBlock_args._Fields>, java.io.Serializable, Cloneable, Comparable<promoteBlock_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("promoteBlock_args");
+  public static class requestBlockLocation_args implements org.apache.thrift.TBase<requestBlockLocation_args, requestBlockLocation_args._Fields>, java.io.Serializable, Cloneable, Comparable<requestBlockLocation_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("requestBlockLocation_args");
 
-    private static final org.apache.thrift.protocol.TField BLOCK_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("blockId", org.apache.thrift.protocol.TType.I64, (short)1);
+    private static final org.apache.thrift.protocol.TField USER_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("userId", org.apache.thrift.protocol.TType.I64, (short)1);
+    private static final org.apache.thrift.protocol.TField BLOCK_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("blockId", org.apache.thrift.protocol.TType.I64, (short)2);
+    private static final org.apache.thrift.protocol.TField INITIAL_BYTES_FIELD_DESC = new org.apache.thrift.protocol.TField("initialBytes", org.apache.thrift.protocol.TType.I64, (short)3);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new promoteBlock_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new promoteBlock_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new requestBlockLocation_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new requestBlockLocation_argsTupleSchemeFactory());
     }
 
+    public long userId; // required
     public long blockId; // required
+    public long initialBytes; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      BLOCK_ID((short)1, "blockId");
+      USER_ID((short)1, "userId"),
+      BLOCK_ID((short)2, "blockId"),
+      INITIAL_BYTES((short)3, "initialBytes");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -7779,8 +13014,12 @@ public class WorkerService {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
-          case 1: // BLOCK_ID
+          case 1: // USER_ID
+            return USER_ID;
+          case 2: // BLOCK_ID
             return BLOCK_ID;
+          case 3: // INITIAL_BYTES
+            return INITIAL_BYTES;
           default:
             return null;
         }
@@ -7821,51 +13060,92 @@ public class WorkerService {
     }
 
     // isset id assignments
-    private static final int __BLOCKID_ISSET_ID = 0;
+    private static final int __USERID_ISSET_ID = 0;
+    private static final int __BLOCKID_ISSET_ID = 1;
+    private static final int __INITIALBYTES_ISSET_ID = 2;
     private byte __isset_bitfield = 0;
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.USER_ID, new org.apache.thrift.meta_data.FieldMetaData("userId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
       tmpMap.put(_Fields.BLOCK_ID, new org.apache.thrift.meta_data.FieldMetaData("blockId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
+      tmpMap.put(_Fields.INITIAL_BYTES, new org.apache.thrift.meta_data.FieldMetaData("initialBytes", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(promoteBlock_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(requestBlockLocation_args.class, metaDataMap);
     }
 
-    public promoteBlock_args() {
+    public requestBlockLocation_args() {
     }
 
-    public promoteBlock_args(
-      long blockId)
+    public requestBlockLocation_args(
+      long userId,
+      long blockId,
+      long initialBytes)
     {
       this();
+      this.userId = userId;
+      setUserIdIsSet(true);
       this.blockId = blockId;
       setBlockIdIsSet(true);
+      this.initialBytes = initialBytes;
+      setInitialBytesIsSet(true);
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public promoteBlock_args(promoteBlock_args other) {
+    public requestBlockLocation_args(requestBlockLocation_args other) {
       __isset_bitfield = other.__isset_bitfield;
+      this.userId = other.userId;
       this.blockId = other.blockId;
+      this.initialBytes = other.initialBytes;
     }
 
-    public promoteBlock_args deepCopy() {
-      return new promoteBlock_args(this);
+    public requestBlockLocation_args deepCopy() {
+      return new requestBlockLocation_args(this);
     }
 
     @Override
     public void clear() {
+      setUserIdIsSet(false);
+      this.userId = 0;
       setBlockIdIsSet(false);
       this.blockId = 0;
+      setInitialBytesIsSet(false);
+      this.initialBytes = 0;
+    }
+
+    public long getUserId() {
+      return this.userId;
+    }
+
+    public requestBlockLocation_args setUserId(long userId) {
+      this.userId = userId;
+      setUserIdIsSet(true);
+      return this;
+    }
+
+    public void unsetUserId() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __USERID_ISSET_ID);
+    }
+
+    /** Returns true if field userId is set (has been assigned a value) and false otherwise */
+    public boolean isSetUserId() {
+      return EncodingUtils.testBit(__isset_bitfield, __USERID_ISSET_ID);
+    }
+
+    public void setUserIdIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __USERID_ISSET_ID, value);
     }
 
     public long getBlockId() {
       return this.blockId;
     }
 
-    public promoteBlock_args setBlockId(long blockId) {
+    public requestBlockLocation_args setBlockId(long blockId) {
       this.blockId = blockId;
       setBlockIdIsSet(true);
       return this;
@@ -7884,8 +13164,39 @@ public class WorkerService {
       __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __BLOCKID_ISSET_ID, value);
     }
 
+    public long getInitialBytes() {
+      return this.initialBytes;
+    }
+
+    public requestBlockLocation_args setInitialBytes(long initialBytes) {
+      this.initialBytes = initialBytes;
+      setInitialBytesIsSet(true);
+      return this;
+    }
+
+    public void unsetInitialBytes() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __INITIALBYTES_ISSET_ID);
+    }
+
+    /** Returns true if field initialBytes is set (has been assigned a value) and false otherwise */
+    public boolean isSetInitialBytes() {
+      return EncodingUtils.testBit(__isset_bitfield, __INITIALBYTES_ISSET_ID);
+    }
+
+    public void setInitialBytesIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __INITIALBYTES_ISSET_ID, value);
+    }
+
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
+      case USER_ID:
+        if (value == null) {
+          unsetUserId();
+        } else {
+          setUserId((Long)value);
+        }
+        break;
+
       case BLOCK_ID:
         if (value == null) {
           unsetBlockId();
@@ -7894,14 +13205,28 @@ public class WorkerService {
         }
         break;
 
+      case INITIAL_BYTES:
+        if (value == null) {
+          unsetInitialBytes();
+        } else {
+          setInitialBytes((Long)value);
+        }
+        break;
+
       }
     }
 
     public Object getFieldValue(_Fields field) {
       switch (field) {
+      case USER_ID:
+        return Long.valueOf(getUserId());
+
       case BLOCK_ID:
         return Long.valueOf(getBlockId());
 
+      case INITIAL_BYTES:
+        return Long.valueOf(getInitialBytes());
+
       }
       throw new IllegalStateException();
     }
@@ -7913,8 +13238,12 @@ public class WorkerService {
       }
 
       switch (field) {
+      case USER_ID:
+        return isSetUserId();
       case BLOCK_ID:
         return isSetBlockId();
+      case INITIAL_BYTES:
+        return isSetInitialBytes();
       }
       throw new IllegalStateException();
     }
@@ -7923,21 +13252,39 @@ public class WorkerService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof promoteBlock_args)
-        return this.equals((promoteBlock_args)that);
+      if (that instanceof requestBlockLocation_args)
+        return this.equals((requestBlockLocation_args)that);
       return false;
     }
 
-    public boolean equals(promoteBlock_args that) {
+    public boolean equals(requestBlockLocation_args that) {
       if (that == null)
         return false;
 
+      boolean this_present_userId = true;
+      boolean that_present_userId = true;
+      if (this_present_userId || that_present_userId) {
+        if (!(this_present_userId && that_present_userId))
+          return false;
+        if (this.userId != that.userId)
+          return false;
+      }
+
       boolean this_present_blockId = true;
       boolean that_present_blockId = true;
       if (this_present_blockId || that_present_blockId) {
         if (!(this_present_blockId && that_present_blockId))
           return false;
-        if (this.blockId != that.blockId)
+        if (this.blockId != that.blockId)
+          return false;
+      }
+
+      boolean this_present_initialBytes = true;
+      boolean that_present_initialBytes = true;
+      if (this_present_initialBytes || that_present_initialBytes) {
+        if (!(this_present_initialBytes && that_present_initialBytes))
+          return false;
+        if (this.initialBytes != that.initialBytes)
           return false;
       }
 
@@ -7950,13 +13297,23 @@ public class WorkerService {
     }
 
     @Override
-    public int compareTo(promoteBlock_args other) {
+    public int compareTo(requestBlockLocation_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
+      lastComparison = Boolean.valueOf(isSetUserId()).compareTo(other.isSetUserId());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetUserId()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.userId, other.userId);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
       lastComparison = Boolean.valueOf(isSetBlockId()).compareTo(other.isSetBlockId());
       if (lastComparison != 0) {
         return lastComparison;
@@ -7967,6 +13324,16 @@ public class WorkerService {
           return lastComparison;
         }
       }
+      lastComparison = Boolean.valueOf(isSetInitialBytes()).compareTo(other.isSetInitialBytes());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetInitialBytes()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.initialBytes, other.initialBytes);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
       return 0;
     }
 
@@ -7984,12 +13351,20 @@ public class WorkerService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("promoteBlock_args(");
+      StringBuilder sb = new StringBuilder("requestBlockLocation_args(");
       boolean first = true;
 
+      sb.append("userId:");
+      sb.append(this.userId);
+      first = false;
+      if (!first) sb.append(", ");
       sb.append("blockId:");
       sb.append(this.blockId);
       first = false;
+      if (!first) sb.append(", ");
+      sb.append("initialBytes:");
+      sb.append(this.initialBytes);
+      first = false;
       sb.append(")");
       return sb.toString();
     }
@@ -8017,15 +13392,15 @@ public class WorkerService {
       }
     }
 
-    private static class promoteBlock_argsStandardSchemeFactory implements SchemeFactory {
-      public promoteBlock_argsStandardScheme getScheme() {
-        return new promoteBlock_argsStandardScheme();
+    private static class requestBlockLocation_argsStandardSchemeFactory implements SchemeFactory {
+      public requestBlockLocation_argsStandardScheme getScheme() {
+        return new requestBlockLocation_argsStandardScheme();
       }
     }
 
-    private static class promoteBlock_argsStandardScheme extends StandardScheme<promoteBlock_args> {
+    private static class requestBlockLocation_argsStandardScheme extends StandardScheme<requestBlockLocation_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, promoteBlock_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, requestBlockLocation_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -8035,7 +13410,15 @@ public class WorkerService {
             break;
           }
           switch (schemeField.id) {
-            case 1: // BLOCK_ID
+            case 1: // USER_ID
+              if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
+                struct.userId = iprot.readI64();
+                struct.setUserIdIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // BLOCK_ID
               if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
                 struct.blockId = iprot.readI64();
                 struct.setBlockIdIsSet(true);
@@ -8043,6 +13426,14 @@ public class WorkerService {
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
+            case 3: // INITIAL_BYTES
+              if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
+                struct.initialBytes = iprot.readI64();
+                struct.setInitialBytesIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
             default:
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
           }
@@ -8054,69 +13445,101 @@ public class WorkerService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, promoteBlock_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, requestBlockLocation_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
+        oprot.writeFieldBegin(USER_ID_FIELD_DESC);
+        oprot.writeI64(struct.userId);
+        oprot.writeFieldEnd();
         oprot.writeFieldBegin(BLOCK_ID_FIELD_DESC);
         oprot.writeI64(struct.blockId);
         oprot.writeFieldEnd();
+        oprot.writeFieldBegin(INITIAL_BYTES_FIELD_DESC);
+        oprot.writeI64(struct.initialBytes);
+        oprot.writeFieldEnd();
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
 
     }
 
-    private static class promoteBlock_argsTupleSchemeFactory implements SchemeFactory {
-      public promoteBlock_argsTupleScheme getScheme() {
-        return new promoteBlock_argsTupleScheme();
+    private static class requestBlockLocation_argsTupleSchemeFactory implements SchemeFactory {
+      public requestBlockLocation_argsTupleScheme getScheme() {
+        return new requestBlockLocation_argsTupleScheme();
       }
     }
 
-    private static class promoteBlock_argsTupleScheme extends TupleScheme<promoteBlock_args> {
+    private static class requestBlockLocation_argsTupleScheme extends TupleScheme<requestBlockLocation_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, promoteBlock_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, requestBlockLocation_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
-        if (struct.isSetBlockId()) {
+        if (struct.isSetUserId()) {
           optionals.set(0);
         }
-        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetBlockId()) {
+          optionals.set(1);
+        }
+        if (struct.isSetInitialBytes()) {
+          optionals.set(2);
+        }
+        oprot.writeBitSet(optionals, 3);
+        if (struct.isSetUserId()) {
+          oprot.writeI64(struct.userId);
+        }
         if (struct.isSetBlockId()) {
           oprot.writeI64(struct.blockId);
         }
+        if (struct.isSetInitialBytes()) {
+          oprot.writeI64(struct.initialBytes);
+        }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, promoteBlock_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, requestBlockLocation_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
-        BitSet incoming = iprot.readBitSet(1);
+        BitSet incoming = iprot.readBitSet(3);
         if (incoming.get(0)) {
+          struct.userId = iprot.readI64();
+          struct.setUserIdIsSet(true);
+        }
+        if (incoming.get(1)) {
           struct.blockId = iprot.readI64();
           struct.setBlockIdIsSet(true);
         }
+        if (incoming.get(2)) {
+          struct.initialBytes = iprot.readI64();
+          struct.setInitialBytesIsSet(true);
+        }
       }
     }
 
   }
 
-  public static class promoteBlock_result implements org.apache.thrift.TBase<promoteBlock_result, promoteBlock_result._Fields>, java.io.Serializable, Cloneable, Comparable<promoteBlock_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("promoteBlock_result");
+  public static class requestBlockLocation_result implements org.apache.thrift.TBase<requestBlockLocation_result, requestBlockLocation_result._Fields>, java.io.Serializable, Cloneable, Comparable<requestBlockLocation_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("requestBlockLocation_result");
 
-    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.BOOL, (short)0);
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRING, (short)0);
+    private static final org.apache.thrift.protocol.TField E_P_FIELD_DESC = new org.apache.thrift.protocol.TField("eP", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+    private static final org.apache.thrift.protocol.TField E_S_FIELD_DESC = new org.apache.thrift.protocol.TField("eS", org.apache.thrift.protocol.TType.STRUCT, (short)2);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new promoteBlock_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new promoteBlock_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new requestBlockLocation_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new requestBlockLocation_resultTupleSchemeFactory());
     }
 
-    public boolean success; // required
+    public String success; // required
+    public OutOfSpaceException eP; // required
+    public FileAlreadyExistException eS; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      SUCCESS((short)0, "success");
+      SUCCESS((short)0, "success"),
+      E_P((short)1, "eP"),
+      E_S((short)2, "eS");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -8133,6 +13556,10 @@ public class WorkerService {
         switch(fieldId) {
           case 0: // SUCCESS
             return SUCCESS;
+          case 1: // E_P
+            return E_P;
+          case 2: // E_S
+            return E_S;
           default:
             return null;
         }
@@ -8173,67 +13600,129 @@ public class WorkerService {
     }
 
     // isset id assignments
-    private static final int __SUCCESS_ISSET_ID = 0;
-    private byte __isset_bitfield = 0;
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.BOOL)));
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.E_P, new org.apache.thrift.meta_data.FieldMetaData("eP", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
+      tmpMap.put(_Fields.E_S, new org.apache.thrift.meta_data.FieldMetaData("eS", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(promoteBlock_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(requestBlockLocation_result.class, metaDataMap);
     }
 
-    public promoteBlock_result() {
+    public requestBlockLocation_result() {
     }
 
-    public promoteBlock_result(
-      boolean success)
+    public requestBlockLocation_result(
+      String success,
+      OutOfSpaceException eP,
+      FileAlreadyExistException eS)
     {
       this();
       this.success = success;
-      setSuccessIsSet(true);
+      this.eP = eP;
+      this.eS = eS;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public promoteBlock_result(promoteBlock_result other) {
-      __isset_bitfield = other.__isset_bitfield;
-      this.success = other.success;
+    public requestBlockLocation_result(requestBlockLocation_result other) {
+      if (other.isSetSuccess()) {
+        this.success = other.success;
+      }
+      if (other.isSetEP()) {
+        this.eP = new OutOfSpaceException(other.eP);
+      }
+      if (other.isSetES()) {
+        this.eS = new FileAlreadyExistException(other.eS);
+      }
     }
 
-    public promoteBlock_result deepCopy() {
-      return new promoteBlock_result(this);
+    public requestBlockLocation_result deepCopy() {
+      return new requestBlockLocation_result(this);
     }
 
     @Override
     public void clear() {
-      setSuccessIsSet(false);
-      this.success = false;
+      this.success = null;
+      this.eP = null;
+      this.eS = null;
     }
 
-    public boolean isSuccess() {
+    public String getSuccess() {
       return this.success;
     }
 
-    public promoteBlock_result setSuccess(boolean success) {
+    public requestBlockLocation_result setSuccess(String success) {
       this.success = success;
-      setSuccessIsSet(true);
       return this;
     }
 
     public void unsetSuccess() {
-      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __SUCCESS_ISSET_ID);
+      this.success = null;
     }
 
     /** Returns true if field success is set (has been assigned a value) and false otherwise */
     public boolean isSetSuccess() {
-      return EncodingUtils.testBit(__isset_bitfield, __SUCCESS_ISSET_ID);
+      return this.success != null;
     }
 
     public void setSuccessIsSet(boolean value) {
-      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __SUCCESS_ISSET_ID, value);
+      if (!value) {
+        this.success = null;
+      }
+    }
+
+    public OutOfSpaceException getEP() {
+      return this.eP;
+    }
+
+    public requestBlockLocation_result setEP(OutOfSpaceException eP) {
+      this.eP = eP;
+      return this;
+    }
+
+    public void unsetEP() {
+      this.eP = null;
+    }
+
+    /** Returns true if field eP is set (has been assigned a value) and false otherwise */
+    public boolean isSetEP() {
+      return this.eP != null;
+    }
+
+    public void setEPIsSet(boolean value) {
+      if (!value) {
+        this.eP = null;
+      }
+    }
+
+    public FileAlreadyExistException getES() {
+      return this.eS;
+    }
+
+    public requestBlockLocation_result setES(FileAlreadyExistException eS) {
+      this.eS = eS;
+      return this;
+    }
+
+    public void unsetES() {
+      this.eS = null;
+    }
+
+    /** Returns true if field eS is set (has been assigned a value) and false otherwise */
+    public boolean isSetES() {
+      return this.eS != null;
+    }
+
+    public void setESIsSet(boolean value) {
+      if (!value) {
+        this.eS = null;
+      }
     }
 
     public void setFieldValue(_Fields field, Object value) {
@@ -8242,7 +13731,23 @@ public class WorkerService {
         if (value == null) {
           unsetSuccess();
         } else {
-          setSuccess((Boolean)value);
+          setSuccess((String)value);
+        }
+        break;
+
+      case E_P:
+        if (value == null) {
+          unsetEP();
+        } else {
+          setEP((OutOfSpaceException)value);
+        }
+        break;
+
+      case E_S:
+        if (value == null) {
+          unsetES();
+        } else {
+          setES((FileAlreadyExistException)value);
         }
         break;
 
@@ -8252,7 +13757,13 @@ public class WorkerService {
     public Object getFieldValue(_Fields field) {
       switch (field) {
       case SUCCESS:
-        return Boolean.valueOf(isSuccess());
+        return getSuccess();
+
+      case E_P:
+        return getEP();
+
+      case E_S:
+        return getES();
 
       }
       throw new IllegalStateException();
@@ -8267,6 +13778,10 @@ public class WorkerService {
       switch (field) {
       case SUCCESS:
         return isSetSuccess();
+      case E_P:
+        return isSetEP();
+      case E_S:
+        return isSetES();
       }
       throw new IllegalStateException();
     }
@@ -8275,21 +13790,39 @@ public class WorkerService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof promoteBlock_result)
-        return this.equals((promoteBlock_result)that);
+      if (that instanceof requestBlockLocation_result)
+        return this.equals((requestBlockLocation_result)that);
       return false;
     }
 
-    public boolean equals(promoteBlock_result that) {
+    public boolean equals(requestBlockLocation_result that) {
       if (that == null)
         return false;
 
-      boolean this_present_success = true;
-      boolean that_present_success = true;
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
       if (this_present_success || that_present_success) {
         if (!(this_present_success && that_present_success))
           return false;
-        if (this.success != that.success)
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
+      boolean this_present_eP = true && this.isSetEP();
+      boolean that_present_eP = true && that.isSetEP();
+      if (this_present_eP || that_present_eP) {
+        if (!(this_present_eP && that_present_eP))
+          return false;
+        if (!this.eP.equals(that.eP))
+          return false;
+      }
+
+      boolean this_present_eS = true && this.isSetES();
+      boolean that_present_eS = true && that.isSetES();
+      if (this_present_eS || that_present_eS) {
+        if (!(this_present_eS && that_present_eS))
+          return false;
+        if (!this.eS.equals(that.eS))
           return false;
       }
 
@@ -8302,7 +13835,7 @@ public class WorkerService {
     }
 
     @Override
-    public int compareTo(promoteBlock_result other) {
+    public int compareTo(requestBlockLocation_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -8319,6 +13852,26 @@ public class WorkerService {
           return lastComparison;
         }
       }
+      lastComparison = Boolean.valueOf(isSetEP()).compareTo(other.isSetEP());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetEP()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.eP, other.eP);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetES()).compareTo(other.isSetES());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetES()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.eS, other.eS);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
       return 0;
     }
 
@@ -8336,11 +13889,31 @@ public class WorkerService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("promoteBlock_result(");
+      StringBuilder sb = new StringBuilder("requestBlockLocation_result(");
       boolean first = true;
 
       sb.append("success:");
-      sb.append(this.success);
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("eP:");
+      if (this.eP == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.eP);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("eS:");
+      if (this.eS == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.eS);
+      }
       first = false;
       sb.append(")");
       return sb.toString();
@@ -8361,23 +13934,21 @@ public class WorkerService {
 
     private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
       try {
-        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
-        __isset_bitfield = 0;
         read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
       } catch (org.apache.thrift.TException te) {
         throw new java.io.IOException(te);
       }
     }
 
-    private static class promoteBlock_resultStandardSchemeFactory implements SchemeFactory {
-      public promoteBlock_resultStandardScheme getScheme() {
-        return new promoteBlock_resultStandardScheme();
+    private static class requestBlockLocation_resultStandardSchemeFactory implements SchemeFactory {
+      public requestBlockLocation_resultStandardScheme getScheme() {
+        return new requestBlockLocation_resultStandardScheme();
       }
     }
 
-    private static class promoteBlock_resultStandardScheme extends StandardScheme<promoteBlock_result> {
+    private static class requestBlockLocation_resultStandardScheme extends StandardScheme<requestBlockLocation_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, promoteBlock_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, requestBlockLocation_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -8388,13 +13959,31 @@ public class WorkerService {
           }
           switch (schemeField.id) {
             case 0: // SUCCESS
-              if (schemeField.type == org.apache.thrift.protocol.TType.BOOL) {
-                struct.success = iprot.readBool();
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.success = iprot.readString();
                 struct.setSuccessIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
+            case 1: // E_P
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.eP = new OutOfSpaceException();
+                struct.eP.read(iprot);
+                struct.setEPIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // E_S
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.eS = new FileAlreadyExistException();
+                struct.eS.read(iprot);
+                struct.setESIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
             default:
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
           }
@@ -8406,13 +13995,23 @@ public class WorkerService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, promoteBlock_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, requestBlockLocation_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        if (struct.isSetSuccess()) {
+        if (struct.success != null) {
           oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
-          oprot.writeBool(struct.success);
+          oprot.writeString(struct.success);
+          oprot.writeFieldEnd();
+        }
+        if (struct.eP != null) {
+          oprot.writeFieldBegin(E_P_FIELD_DESC);
+          struct.eP.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        if (struct.eS != null) {
+          oprot.writeFieldBegin(E_S_FIELD_DESC);
+          struct.eS.write(oprot);
           oprot.writeFieldEnd();
         }
         oprot.writeFieldStop();
@@ -8421,62 +14020,84 @@ public class WorkerService {
 
     }
 
-    private static class promoteBlock_resultTupleSchemeFactory implements SchemeFactory {
-      public promoteBlock_resultTupleScheme getScheme() {
-        return new promoteBlock_resultTupleScheme();
+    private static class requestBlockLocation_resultTupleSchemeFactory implements SchemeFactory {
+      public requestBlockLocation_resultTupleScheme getScheme() {
+        return new requestBlockLocation_resultTupleScheme();
       }
     }
 
-    private static class promoteBlock_resultTupleScheme extends TupleScheme<promoteBlock_result> {
+    private static class requestBlockLocation_resultTupleScheme extends TupleScheme<requestBlockLocation_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, promoteBlock_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, requestBlockLocation_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetSuccess()) {
           optionals.set(0);
         }
-        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetEP()) {
+          optionals.set(1);
+        }
+        if (struct.isSetES()) {
+          optionals.set(2);
+        }
+        oprot.writeBitSet(optionals, 3);
         if (struct.isSetSuccess()) {
-          oprot.writeBool(struct.success);
+          oprot.writeString(struct.success);
+        }
+        if (struct.isSetEP()) {
+          struct.eP.write(oprot);
+        }
+        if (struct.isSetES()) {
+          struct.eS.write(oprot);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, promoteBlock_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, requestBlockLocation_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
-        BitSet incoming = iprot.readBitSet(1);
+        BitSet incoming = iprot.readBitSet(3);
         if (incoming.get(0)) {
-          struct.success = iprot.readBool();
+          struct.success = iprot.readString();
           struct.setSuccessIsSet(true);
         }
+        if (incoming.get(1)) {
+          struct.eP = new OutOfSpaceException();
+          struct.eP.read(iprot);
+          struct.setEPIsSet(true);
+        }
+        if (incoming.get(2)) {
+          struct.eS = new FileAlreadyExistException();
+          struct.eS.read(iprot);
+          struct.setESIsSet(true);
+        }
       }
     }
 
   }
 
-  public static class requestBlockLocation_args implements org.apache.thrift.TBase<requestBlockLocation_args, requestBlockLocation_args._Fields>, java.io.Serializable, Cloneable, Comparable<requestBlockLocation_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("requestBlockLocation_args");
+  public static class requestSpace_args implements org.apache.thrift.TBase<requestSpace_args, requestSpace_args._Fields>, java.io.Serializable, Cloneable, Comparable<requestSpace_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("requestSpace_args");
 
     private static final org.apache.thrift.protocol.TField USER_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("userId", org.apache.thrift.protocol.TType.I64, (short)1);
     private static final org.apache.thrift.protocol.TField BLOCK_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("blockId", org.apache.thrift.protocol.TType.I64, (short)2);
-    private static final org.apache.thrift.protocol.TField INITIAL_BYTES_FIELD_DESC = new org.apache.thrift.protocol.TField("initialBytes", org.apache.thrift.protocol.TType.I64, (short)3);
+    private static final org.apache.thrift.protocol.TField REQUEST_BYTES_FIELD_DESC = new org.apache.thrift.protocol.TField("requestBytes", org.apache.thrift.protocol.TType.I64, (short)3);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new requestBlockLocation_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new requestBlockLocation_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new requestSpace_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new requestSpace_argsTupleSchemeFactory());
     }
 
     public long userId; // required
     public long blockId; // required
-    public long initialBytes; // required
+    public long requestBytes; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
       USER_ID((short)1, "userId"),
       BLOCK_ID((short)2, "blockId"),
-      INITIAL_BYTES((short)3, "initialBytes");
+      REQUEST_BYTES((short)3, "requestBytes");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -8495,8 +14116,8 @@ public class WorkerService {
             return USER_ID;
           case 2: // BLOCK_ID
             return BLOCK_ID;
-          case 3: // INITIAL_BYTES
-            return INITIAL_BYTES;
+          case 3: // REQUEST_BYTES
+            return REQUEST_BYTES;
           default:
             return null;
         }
@@ -8539,7 +14160,7 @@ public class WorkerService {
     // isset id assignments
     private static final int __USERID_ISSET_ID = 0;
     private static final int __BLOCKID_ISSET_ID = 1;
-    private static final int __INITIALBYTES_ISSET_ID = 2;
+    private static final int __REQUESTBYTES_ISSET_ID = 2;
     private byte __isset_bitfield = 0;
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
@@ -8548,41 +14169,41 @@ public class WorkerService {
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
       tmpMap.put(_Fields.BLOCK_ID, new org.apache.thrift.meta_data.FieldMetaData("blockId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
-      tmpMap.put(_Fields.INITIAL_BYTES, new org.apache.thrift.meta_data.FieldMetaData("initialBytes", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+      tmpMap.put(_Fields.REQUEST_BYTES, new org.apache.thrift.meta_data.FieldMetaData("requestBytes", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(requestBlockLocation_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(requestSpace_args.class, metaDataMap);
     }
 
-    public requestBlockLocation_args() {
+    public requestSpace_args() {
     }
 
-    public requestBlockLocation_args(
+    public requestSpace_args(
       long userId,
       long blockId,
-      long initialBytes)
+      long requestBytes)
     {
       this();
       this.userId = userId;
       setUserIdIsSet(true);
       this.blockId = blockId;
       setBlockIdIsSet(true);
-      this.initialBytes = initialBytes;
-      setInitialBytesIsSet(true);
+      this.requestBytes = requestBytes;
+      setRequestBytesIsSet(true);
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public requestBlockLocation_args(requestBlockLocation_args other) {
+    public requestSpace_args(requestSpace_args other) {
       __isset_bitfield = other.__isset_bitfield;
       this.userId = other.userId;
       this.blockId = other.blockId;
-      this.initialBytes = other.initialBytes;
+      this.requestBytes = other.requestBytes;
     }
 
-    public requestBlockLocation_args deepCopy() {
-      return new requestBlockLocation_args(this);
+    public requestSpace_args deepCopy() {
+      return new requestSpace_args(this);
     }
 
     @Override
@@ -8591,15 +14212,15 @@ public class WorkerService {
       this.userId = 0;
       setBlockIdIsSet(false);
       this.blockId = 0;
-      setInitialBytesIsSet(false);
-      this.initialBytes = 0;
+      setRequestBytesIsSet(false);
+      this.requestBytes = 0;
     }
 
     public long getUserId() {
       return this.userId;
     }
 
-    public requestBlockLocation_args setUserId(long userId) {
+    public requestSpace_args setUserId(long userId) {
       this.userId = userId;
       setUserIdIsSet(true);
       return this;
@@ -8622,7 +14243,7 @@ public class WorkerService {
       return this.blockId;
     }
 
-    public requestBlockLocation_args setBlockId(long blockId) {
+    public requestSpace_args setBlockId(long blockId) {
       this.blockId = blockId;
       setBlockIdIsSet(true);
       return this;
@@ -8641,27 +14262,27 @@ public class WorkerService {
       __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __BLOCKID_ISSET_ID, value);
     }
 
-    public long getInitialBytes() {
-      return this.initialBytes;
+    public long getRequestBytes() {
+      return this.requestBytes;
     }
 
-    public requestBlockLocation_args setInitialBytes(long initialBytes) {
-      this.initialBytes = initialBytes;
-      setInitialBytesIsSet(true);
+    public requestSpace_args setRequestBytes(long requestBytes) {
+      this.requestBytes = requestBytes;
+      setRequestBytesIsSet(true);
       return this;
     }
 
-    public void unsetInitialBytes() {
-      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __INITIALBYTES_ISSET_ID);
+    public void unsetRequestBytes() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __REQUESTBYTES_ISSET_ID);
     }
 
-    /** Returns true if field initialBytes is set (has been assigned a value) and false otherwise */
-    public boolean isSetInitialBytes() {
-      return EncodingUtils.testBit(__isset_bitfield, __INITIALBYTES_ISSET_ID);
+    /** Returns true if field requestBytes is set (has been assigned a value) and false otherwise */
+    public boolean isSetRequestBytes() {
+      return EncodingUtils.testBit(__isset_bitfield, __REQUESTBYTES_ISSET_ID);
     }
 
-    public void setInitialBytesIsSet(boolean value) {
-      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __INITIALBYTES_ISSET_ID, value);
+    public void setRequestBytesIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __REQUESTBYTES_ISSET_ID, value);
     }
 
     public void setFieldValue(_Fields field, Object value) {
@@ -8682,11 +14303,11 @@ public class WorkerService {
         }
         break;
 
-      case INITIAL_BYTES:
+      case REQUEST_BYTES:
         if (value == null) {
-          unsetInitialBytes();
+          unsetRequestBytes();
         } else {
-          setInitialBytes((Long)value);
+          setRequestBytes((Long)value);
         }
         break;
 
@@ -8701,8 +14322,8 @@ public class WorkerService {
       case BLOCK_ID:
         return Long.valueOf(getBlockId());
 
-      case INITIAL_BYTES:
-        return Long.valueOf(getInitialBytes());
+      case REQUEST_BYTES:
+        return Long.valueOf(getRequestBytes());
 
       }
       throw new IllegalStateException();
@@ -8719,8 +14340,8 @@ public class WorkerService {
         return isSetUserId();
       case BLOCK_ID:
         return isSetBlockId();
-      case INITIAL_BYTES:
-        return isSetInitialBytes();
+      case REQUEST_BYTES:
+        return isSetRequestBytes();
       }
       throw new IllegalStateException();
     }
@@ -8729,12 +14350,12 @@ public class WorkerService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof requestBlockLocation_args)
-        return this.equals((requestBlockLocation_args)that);
+      if (that instanceof requestSpace_args)
+        return this.equals((requestSpace_args)that);
       return false;
     }
 
-    public boolean equals(requestBlockLocation_args that) {
+    public boolean equals(requestSpace_args that) {
       if (that == null)
         return false;
 
@@ -8756,12 +14377,12 @@ public class WorkerService {
           return false;
       }
 
-      boolean this_present_initialBytes = true;
-      boolean that_present_initialBytes = true;
-      if (this_present_initialBytes || that_present_initialBytes) {
-        if (!(this_present_initialBytes && that_present_initialBytes))
+      boolean this_present_requestBytes = true;
+      boolean that_present_requestBytes = true;
+      if (this_present_requestBytes || that_present_requestBytes) {
+        if (!(this_present_requestBytes && that_present_requestBytes))
           return false;
-        if (this.initialBytes != that.initialBytes)
+        if (this.requestBytes != that.requestBytes)
           return false;
       }
 
@@ -8774,7 +14395,7 @@ public class WorkerService {
     }
 
     @Override
-    public int compareTo(requestBlockLocation_args other) {
+    public int compareTo(requestSpace_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -8801,12 +14422,12 @@ public class WorkerService {
           return lastComparison;
         }
       }
-      lastComparison = Boolean.valueOf(isSetInitialBytes()).compareTo(other.isSetInitialBytes());
+      lastComparison = Boolean.valueOf(isSetRequestBytes()).compareTo(other.isSetRequestBytes());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetInitialBytes()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.initialBytes, other.initialBytes);
+      if (isSetRequestBytes()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.requestBytes, other.requestBytes);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -8828,7 +14449,7 @@ public class WorkerService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("requestBlockLocation_args(");
+      StringBuilder sb = new StringBuilder("requestSpace_args(");
       boolean first = true;
 
       sb.append("userId:");
@@ -8839,8 +14460,8 @@ public class WorkerService {
       sb.append(this.blockId);
       first = false;
       if (!first) sb.append(", ");
-      sb.append("initialBytes:");
-      sb.append(this.initialBytes);
+      sb.append("requestBytes:");
+      sb.append(this.requestBytes);
       first = false;
       sb.append(")");
       return sb.toString();
@@ -8869,15 +14490,15 @@ public class WorkerService {
       }
     }
 
-    private static class requestBlockLocation_argsStandardSchemeFactory implements SchemeFactory {
-      public requestBlockLocation_argsStandardScheme getScheme() {
-        return new requestBlockLocation_argsStandardScheme();
+    private static class requestSpace_argsStandardSchemeFactory implements SchemeFactory {
+      public requestSpace_argsStandardScheme getScheme() {
+        return new requestSpace_argsStandardScheme();
       }
     }
 
-    private static class requestBlockLocation_argsStandardScheme extends StandardScheme<requestBlockLocation_args> {
+    private static class requestSpace_argsStandardScheme extends StandardScheme<requestSpace_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, requestBlockLocation_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, requestSpace_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -8903,10 +14524,10 @@ public class WorkerService {
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
-            case 3: // INITIAL_BYTES
+            case 3: // REQUEST_BYTES
               if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
-                struct.initialBytes = iprot.readI64();
-                struct.setInitialBytesIsSet(true);
+                struct.requestBytes = iprot.readI64();
+                struct.setRequestBytesIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -8922,7 +14543,7 @@ public class WorkerService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, requestBlockLocation_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, requestSpace_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -8932,8 +14553,8 @@ public class WorkerService {
         oprot.writeFieldBegin(BLOCK_ID_FIELD_DESC);
         oprot.writeI64(struct.blockId);
         oprot.writeFieldEnd();
-        oprot.writeFieldBegin(INITIAL_BYTES_FIELD_DESC);
-        oprot.writeI64(struct.initialBytes);
+        oprot.writeFieldBegin(REQUEST_BYTES_FIELD_DESC);
+        oprot.writeI64(struct.requestBytes);
         oprot.writeFieldEnd();
         oprot.writeFieldStop();
         oprot.writeStructEnd();
@@ -8941,16 +14562,16 @@ public class WorkerService {
 
     }
 
-    private static class requestBlockLocation_argsTupleSchemeFactory implements SchemeFactory {
-      public requestBlockLocation_argsTupleScheme getScheme() {
-        return new requestBlockLocation_argsTupleScheme();
+    private static class requestSpace_argsTupleSchemeFactory implements SchemeFactory {
+      public requestSpace_argsTupleScheme getScheme() {
+        return new requestSpace_argsTupleScheme();
       }
     }
 
-    private static class requestBlockLocation_argsTupleScheme extends TupleScheme<requestBlockLocation_args> {
+    private static class requestSpace_argsTupleScheme extends TupleScheme<requestSpace_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, requestBlockLocation_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, requestSpace_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetUserId()) {
@@ -8959,7 +14580,7 @@ public class WorkerService {
         if (struct.isSetBlockId()) {
           optionals.set(1);
         }
-        if (struct.isSetInitialBytes()) {
+        if (struct.isSetRequestBytes()) {
           optionals.set(2);
         }
         oprot.writeBitSet(optionals, 3);
@@ -8969,13 +14590,13 @@ public class WorkerService {
         if (struct.isSetBlockId()) {
           oprot.writeI64(struct.blockId);
         }
-        if (struct.isSetInitialBytes()) {
-          oprot.writeI64(struct.initialBytes);
+        if (struct.isSetRequestBytes()) {
+          oprot.writeI64(struct.requestBytes);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, requestBlockLocation_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, requestSpace_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(3);
         if (incoming.get(0)) {
@@ -8987,36 +14608,33 @@ public class WorkerService {
           struct.setBlockIdIsSet(true);
         }
         if (incoming.get(2)) {
-          struct.initialBytes = iprot.readI64();
-          struct.setInitialBytesIsSet(true);
+          struct.requestBytes = iprot.readI64();
+          struct.setRequestBytesIsSet(true);
         }
       }
     }
 
   }
 
-  public static class requestBlockLocation_result implements org.apache.thrift.TBase<requestBlockLocation_result, requestBlockLocation_result._Fields>, java.io.Serializable, Cloneable, Comparable<requestBlockLocation_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("requestBlockLocation_result");
+  public static class requestSpace_result implements org.apache.thrift.TBase<requestSpace_result, requestSpace_result._Fields>, java.io.Serializable, Cloneable, Comparable<requestSpace_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("requestSpace_result");
 
-    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRING, (short)0);
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.BOOL, (short)0);
     private static final org.apache.thrift.protocol.TField E_P_FIELD_DESC = new org.apache.thrift.protocol.TField("eP", org.apache.thrift.protocol.TType.STRUCT, (short)1);
-    private static final org.apache.thrift.protocol.TField E_S_FIELD_DESC = new org.apache.thrift.protocol.TField("eS", org.apache.thrift.protocol.TType.STRUCT, (short)2);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new requestBlockLocation_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new requestBlockLocation_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new requestSpace_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new requestSpace_resultTupleSchemeFactory());
     }
 
-    public String success; // required
-    public OutOfSpaceException eP; // required
-    public FileAlreadyExistException eS; // required
+    public boolean success; // required
+    public FileDoesNotExistException eP; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
       SUCCESS((short)0, "success"),
-      E_P((short)1, "eP"),
-      E_S((short)2, "eS");
+      E_P((short)1, "eP");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -9035,8 +14653,6 @@ public class WorkerService {
             return SUCCESS;
           case 1: // E_P
             return E_P;
-          case 2: // E_S
-            return E_S;
           default:
             return null;
         }
@@ -9077,88 +14693,82 @@ public class WorkerService {
     }
 
     // isset id assignments
+    private static final int __SUCCESS_ISSET_ID = 0;
+    private byte __isset_bitfield = 0;
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.BOOL)));
       tmpMap.put(_Fields.E_P, new org.apache.thrift.meta_data.FieldMetaData("eP", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
-      tmpMap.put(_Fields.E_S, new org.apache.thrift.meta_data.FieldMetaData("eS", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(requestBlockLocation_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(requestSpace_result.class, metaDataMap);
     }
 
-    public requestBlockLocation_result() {
+    public requestSpace_result() {
     }
 
-    public requestBlockLocation_result(
-      String success,
-      OutOfSpaceException eP,
-      FileAlreadyExistException eS)
+    public requestSpace_result(
+      boolean success,
+      FileDoesNotExistException eP)
     {
       this();
       this.success = success;
+      setSuccessIsSet(true);
       this.eP = eP;
-      this.eS = eS;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public requestBlockLocation_result(requestBlockLocation_result other) {
-      if (other.isSetSuccess()) {
-        this.success = other.success;
-      }
+    public requestSpace_result(requestSpace_result other) {
+      __isset_bitfield = other.__isset_bitfield;
+      this.success = other.success;
       if (other.isSetEP()) {
-        this.eP = new OutOfSpaceException(other.eP);
-      }
-      if (other.isSetES()) {
-        this.eS = new FileAlreadyExistException(other.eS);
+        this.eP = new FileDoesNotExistException(other.eP);
       }
     }
 
-    public requestBlockLocation_result deepCopy() {
-      return new requestBlockLocation_result(this);
+    public requestSpace_result deepCopy() {
+      return new requestSpace_result(this);
     }
 
     @Override
     public void clear() {
-      this.success = null;
+      setSuccessIsSet(false);
+      this.success = false;
       this.eP = null;
-      this.eS = null;
     }
 
-    public String getSuccess() {
+    public boolean isSuccess() {
       return this.success;
     }
 
-    public requestBlockLocation_result setSuccess(String success) {
+    public requestSpace_result setSuccess(boolean success) {
       this.success = success;
+      setSuccessIsSet(true);
       return this;
     }
 
     public void unsetSuccess() {
-      this.success = null;
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __SUCCESS_ISSET_ID);
     }
 
     /** Returns true if field success is set (has been assigned a value) and false otherwise */
     public boolean isSetSuccess() {
-      return this.success != null;
+      return EncodingUtils.testBit(__isset_bitfield, __SUCCESS_ISSET_ID);
     }
 
     public void setSuccessIsSet(boolean value) {
-      if (!value) {
-        this.success = null;
-      }
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __SUCCESS_ISSET_ID, value);
     }
 
-    public OutOfSpaceException getEP() {
+    public FileDoesNotExistException getEP() {
       return this.eP;
     }
 
-    public requestBlockLocation_result setEP(OutOfSpaceException eP) {
+    public requestSpace_result setEP(FileDoesNotExistException eP) {
       this.eP = eP;
       return this;
     }
@@ -9178,37 +14788,13 @@ public class WorkerService {
       }
     }
 
-    public FileAlreadyExistException getES() {
-      return this.eS;
-    }
-
-    public requestBlockLocation_result setES(FileAlreadyExistException eS) {
-      this.eS = eS;
-      return this;
-    }
-
-    public void unsetES() {
-      this.eS = null;
-    }
-
-    /** Returns true if field eS is set (has been assigned a value) and false otherwise */
-    public boolean isSetES() {
-      return this.eS != null;
-    }
-
-    public void setESIsSet(boolean value) {
-      if (!value) {
-        this.eS = null;
-      }
-    }
-
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
       case SUCCESS:
         if (value == null) {
           unsetSuccess();
         } else {
-          setSuccess((String)value);
+          setSuccess((Boolean)value);
         }
         break;
 
@@ -9216,15 +14802,7 @@ public class WorkerService {
         if (value == null) {
           unsetEP();
         } else {
-          setEP((OutOfSpaceException)value);
-        }
-        break;
-
-      case E_S:
-        if (value == null) {
-          unsetES();
-        } else {
-          setES((FileAlreadyExistException)value);
+          setEP((FileDoesNotExistException)value);
         }
         break;
 
@@ -9234,14 +14812,11 @@ public class WorkerService {
     public Object getFieldValue(_Fields field) {
       switch (field) {
       case SUCCESS:
-        return getSuccess();
+        return Boolean.valueOf(isSuccess());
 
       case E_P:
         return getEP();
 
-      case E_S:
-        return getES();
-
       }
       throw new IllegalStateException();
     }
@@ -9257,8 +14832,6 @@ public class WorkerService {
         return isSetSuccess();
       case E_P:
         return isSetEP();
-      case E_S:
-        return isSetES();
       }
       throw new IllegalStateException();
     }
@@ -9267,21 +14840,21 @@ public class WorkerService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof requestBlockLocation_result)
-        return this.equals((requestBlockLocation_result)that);
+      if (that instanceof requestSpace_result)
+        return this.equals((requestSpace_result)that);
       return false;
     }
 
-    public boolean equals(requestBlockLocation_result that) {
+    public boolean equals(requestSpace_result that) {
       if (that == null)
         return false;
 
-      boolean this_present_success = true && this.isSetSuccess();
-      boolean that_present_success = true && that.isSetSuccess();
+      boolean this_present_success = true;
+      boolean that_present_success = true;
       if (this_present_success || that_present_success) {
         if (!(this_present_success && that_present_success))
           return false;
-        if (!this.success.equals(that.success))
+        if (this.success != that.success)
           return false;
       }
 
@@ -9294,15 +14867,6 @@ public class WorkerService {
           return false;
       }
 
-      boolean this_present_eS = true && this.isSetES();
-      boolean that_present_eS = true && that.isSetES();
-      if (this_present_eS || that_present_eS) {
-        if (!(this_present_eS && that_present_eS))
-          return false;
-        if (!this.eS.equals(that.eS))
-          return false;
-      }
-
       return true;
     }
 
@@ -9312,7 +14876,7 @@ public class WorkerService {
     }
 
     @Override
-    public int compareTo(requestBlockLocation_result other) {
+    public int compareTo(requestSpace_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -9339,16 +14903,6 @@ public class WorkerService {
           return lastComparison;
         }
       }
-      lastComparison = Boolean.valueOf(isSetES()).compareTo(other.isSetES());
-      if (lastComparison != 0) {
-        return lastComparison;
-      }
-      if (isSetES()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.eS, other.eS);
-        if (lastComparison != 0) {
-          return lastComparison;
-        }
-      }
       return 0;
     }
 
@@ -9366,15 +14920,11 @@ public class WorkerService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("requestBlockLocation_result(");
+      StringBuilder sb = new StringBuilder("requestSpace_result(");
       boolean first = true;
 
       sb.append("success:");
-      if (this.success == null) {
-        sb.append("null");
-      } else {
-        sb.append(this.success);
-      }
+      sb.append(this.success);
       first = false;
       if (!first) sb.append(", ");
       sb.append("eP:");
@@ -9384,14 +14934,6 @@ public class WorkerService {
         sb.append(this.eP);
       }
       first = false;
-      if (!first) sb.append(", ");
-      sb.append("eS:");
-      if (this.eS == null) {
-        sb.append("null");
-      } else {
-        sb.append(this.eS);
-      }
-      first = false;
       sb.append(")");
       return sb.toString();
     }
@@ -9411,21 +14953,23 @@ public class WorkerService {
 
     private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
       try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bitfield = 0;
         read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
       } catch (org.apache.thrift.TException te) {
         throw new java.io.IOException(te);
       }
     }
 
-    private static class requestBlockLocation_resultStandardSchemeFactory implements SchemeFactory {
-      public requestBlockLocation_resultStandardScheme getScheme() {
-        return new requestBlockLocation_resultStandardScheme();
+    private static class requestSpace_resultStandardSchemeFactory implements SchemeFactory {
+      public requestSpace_resultStandardScheme getScheme() {
+        return new requestSpace_resultStandardScheme();
       }
     }
 
-    private static class requestBlockLocation_resultStandardScheme extends StandardScheme<requestBlockLocation_result> {
+    private static class requestSpace_resultStandardScheme extends StandardScheme<requestSpace_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, requestBlockLocation_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, requestSpace_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -9436,8 +14980,8 @@ public class WorkerService {
           }
           switch (schemeField.id) {
             case 0: // SUCCESS
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
-                struct.success = iprot.readString();
+              if (schemeField.type == org.apache.thrift.protocol.TType.BOOL) {
+                struct.success = iprot.readBool();
                 struct.setSuccessIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
@@ -9445,22 +14989,13 @@ public class WorkerService {
               break;
             case 1: // E_P
               if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.eP = new OutOfSpaceException();
+                struct.eP = new FileDoesNotExistException();
                 struct.eP.read(iprot);
                 struct.setEPIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
-            case 2: // E_S
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.eS = new FileAlreadyExistException();
-                struct.eS.read(iprot);
-                struct.setESIsSet(true);
-              } else { 
-                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
-              }
-              break;
             default:
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
           }
@@ -9472,13 +15007,13 @@ public class WorkerService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, requestBlockLocation_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, requestSpace_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        if (struct.success != null) {
+        if (struct.isSetSuccess()) {
           oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
-          oprot.writeString(struct.success);
+          oprot.writeBool(struct.success);
           oprot.writeFieldEnd();
         }
         if (struct.eP != null) {
@@ -9486,27 +15021,22 @@ public class WorkerService {
           struct.eP.write(oprot);
           oprot.writeFieldEnd();
         }
-        if (struct.eS != null) {
-          oprot.writeFieldBegin(E_S_FIELD_DESC);
-          struct.eS.write(oprot);
-          oprot.writeFieldEnd();
-        }
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
 
     }
 
-    private static class requestBlockLocation_resultTupleSchemeFactory implements SchemeFactory {
-      public requestBlockLocation_resultTupleScheme getScheme() {
-        return new requestBlockLocation_resultTupleScheme();
+    private static class requestSpace_resultTupleSchemeFactory implements SchemeFactory {
+      public requestSpace_resultTupleScheme getScheme() {
+        return new requestSpace_resultTupleScheme();
       }
     }
 
-    private static class requestBlockLocation_resultTupleScheme extends TupleScheme<requestBlockLocation_result> {
+    private static class requestSpace_resultTupleScheme extends TupleScheme<requestSpace_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, requestBlockLocation_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, requestSpace_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetSuccess()) {
@@ -9515,66 +15045,52 @@ public class WorkerService {
         if (struct.isSetEP()) {
           optionals.set(1);
         }
-        if (struct.isSetES()) {
-          optionals.set(2);
-        }
-        oprot.writeBitSet(optionals, 3);
+        oprot.writeBitSet(optionals, 2);
         if (struct.isSetSuccess()) {
-          oprot.writeString(struct.success);
+          oprot.writeBool(struct.success);
         }
         if (struct.isSetEP()) {
           struct.eP.write(oprot);
         }
-        if (struct.isSetES()) {
-          struct.eS.write(oprot);
-        }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, requestBlockLocation_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, requestSpace_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
-        BitSet incoming = iprot.readBitSet(3);
+        BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
-          struct.success = iprot.readString();
+          struct.success = iprot.readBool();
           struct.setSuccessIsSet(true);
         }
         if (incoming.get(1)) {
-          struct.eP = new OutOfSpaceException();
+          struct.eP = new FileDoesNotExistException();
           struct.eP.read(iprot);
           struct.setEPIsSet(true);
         }
-        if (incoming.get(2)) {
-          struct.eS = new FileAlreadyExistException();
-          struct.eS.read(iprot);
-          struct.setESIsSet(true);
-        }
       }
     }
 
   }
 
-  public static class requestSpace_args implements org.apache.thrift.TBase<requestSpace_args, requestSpace_args._Fields>, java.io.Serializable, Cloneable, Comparable<requestSpace_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("requestSpace_args");
+  public static class unlockBlock_args implements org.apache.thrift.TBase<unlockBlock_args, unlockBlock_args._Fields>, java.io.Serializable, Cloneable, Comparable<unlockBlock_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("unlockBlock_args");
 
-    private static final org.apache.thrift.protocol.TField USER_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("userId", org.apache.thrift.protocol.TType.I64, (short)1);
-    private static final org.apache.thrift.protocol.TField BLOCK_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("blockId", org.apache.thrift.protocol.TType.I64, (short)2);
-    private static final org.apache.thrift.protocol.TField REQUEST_BYTES_FIELD_DESC = new org.apache.thrift.protocol.TField("requestBytes", org.apache.thrift.protocol.TType.I64, (short)3);
+    private static final org.apache.thrift.protocol.TField BLOCK_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("blockId", org.apache.thrift.protocol.TType.I64, (short)1);
+    private static final org.apache.thrift.protocol.TField USER_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("userId", org.apache.thrift.protocol.TType.I64, (short)2);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new requestSpace_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new requestSpace_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new unlockBlock_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new unlockBlock_argsTupleSchemeFactory());
     }
 
-    public long userId; // required
     public long blockId; // required
-    public long requestBytes; // required
+    public long userId; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      USER_ID((short)1, "userId"),
-      BLOCK_ID((short)2, "blockId"),
-      REQUEST_BYTES((short)3, "requestBytes");
+      BLOCK_ID((short)1, "blockId"),
+      USER_ID((short)2, "userId");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -9589,12 +15105,10 @@ public class WorkerService {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
-          case 1: // USER_ID
-            return USER_ID;
-          case 2: // BLOCK_ID
+          case 1: // BLOCK_ID
             return BLOCK_ID;
-          case 3: // REQUEST_BYTES
-            return REQUEST_BYTES;
+          case 2: // USER_ID
+            return USER_ID;
           default:
             return null;
         }
@@ -9635,92 +15149,60 @@ public class WorkerService {
     }
 
     // isset id assignments
-    private static final int __USERID_ISSET_ID = 0;
-    private static final int __BLOCKID_ISSET_ID = 1;
-    private static final int __REQUESTBYTES_ISSET_ID = 2;
+    private static final int __BLOCKID_ISSET_ID = 0;
+    private static final int __USERID_ISSET_ID = 1;
     private byte __isset_bitfield = 0;
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
-      tmpMap.put(_Fields.USER_ID, new org.apache.thrift.meta_data.FieldMetaData("userId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
       tmpMap.put(_Fields.BLOCK_ID, new org.apache.thrift.meta_data.FieldMetaData("blockId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
-      tmpMap.put(_Fields.REQUEST_BYTES, new org.apache.thrift.meta_data.FieldMetaData("requestBytes", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+      tmpMap.put(_Fields.USER_ID, new org.apache.thrift.meta_data.FieldMetaData("userId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(requestSpace_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(unlockBlock_args.class, metaDataMap);
     }
 
-    public requestSpace_args() {
+    public unlockBlock_args() {
     }
 
-    public requestSpace_args(
-      long userId,
+    public unlockBlock_args(
       long blockId,
-      long requestBytes)
+      long userId)
     {
       this();
-      this.userId = userId;
-      setUserIdIsSet(true);
       this.blockId = blockId;
       setBlockIdIsSet(true);
-      this.requestBytes = requestBytes;
-      setRequestBytesIsSet(true);
+      this.userId = userId;
+      setUserIdIsSet(true);
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public requestSpace_args(requestSpace_args other) {
+    public unlockBlock_args(unlockBlock_args other) {
       __isset_bitfield = other.__isset_bitfield;
-      this.userId = other.userId;
       this.blockId = other.blockId;
-      this.requestBytes = other.requestBytes;
+      this.userId = other.userId;
     }
 
-    public requestSpace_args deepCopy() {
-      return new requestSpace_args(this);
+    public unlockBlock_args deepCopy() {
+      return new unlockBlock_args(this);
     }
 
     @Override
     public void clear() {
-      setUserIdIsSet(false);
-      this.userId = 0;
       setBlockIdIsSet(false);
       this.blockId = 0;
-      setRequestBytesIsSet(false);
-      this.requestBytes = 0;
-    }
-
-    public long getUserId() {
-      return this.userId;
-    }
-
-    public requestSpace_args setUserId(long userId) {
-      this.userId = userId;
-      setUserIdIsSet(true);
-      return this;
-    }
-
-    public void unsetUserId() {
-      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __USERID_ISSET_ID);
-    }
-
-    /** Returns true if field userId is set (has been assigned a value) and false otherwise */
-    public boolean isSetUserId() {
-      return EncodingUtils.testBit(__isset_bitfield, __USERID_ISSET_ID);
-    }
-
-    public void setUserIdIsSet(boolean value) {
-      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __USERID_ISSET_ID, value);
+      setUserIdIsSet(false);
+      this.userId = 0;
     }
 
     public long getBlockId() {
       return this.blockId;
     }
 
-    public requestSpace_args setBlockId(long blockId) {
+    public unlockBlock_args setBlockId(long blockId) {
       this.blockId = blockId;
       setBlockIdIsSet(true);
       return this;
@@ -9739,39 +15221,31 @@ public class WorkerService {
       __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __BLOCKID_ISSET_ID, value);
     }
 
-    public long getRequestBytes() {
-      return this.requestBytes;
+    public long getUserId() {
+      return this.userId;
     }
 
-    public requestSpace_args setRequestBytes(long requestBytes) {
-      this.requestBytes = requestBytes;
-      setRequestBytesIsSet(true);
+    public unlockBlock_args setUserId(long userId) {
+      this.userId = userId;
+      setUserIdIsSet(true);
       return this;
     }
 
-    public void unsetRequestBytes() {
-      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __REQUESTBYTES_ISSET_ID);
+    public void unsetUserId() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __USERID_ISSET_ID);
     }
 
-    /** Returns true if field requestBytes is set (has been assigned a value) and false otherwise */
-    public boolean isSetRequestBytes() {
-      return EncodingUtils.testBit(__isset_bitfield, __REQUESTBYTES_ISSET_ID);
+    /** Returns true if field userId is set (has been assigned a value) and false otherwise */
+    public boolean isSetUserId() {
+      return EncodingUtils.testBit(__isset_bitfield, __USERID_ISSET_ID);
     }
 
-    public void setRequestBytesIsSet(boolean value) {
-      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __REQUESTBYTES_ISSET_ID, value);
+    public void setUserIdIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __USERID_ISSET_ID, value);
     }
 
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
-      case USER_ID:
-        if (value == null) {
-          unsetUserId();
-        } else {
-          setUserId((Long)value);
-        }
-        break;
-
       case BLOCK_ID:
         if (value == null) {
           unsetBlockId();
@@ -9780,11 +15254,11 @@ public class WorkerService {
         }
         break;
 
-      case REQUEST_BYTES:
+      case USER_ID:
         if (value == null) {
-          unsetRequestBytes();
+          unsetUserId();
         } else {
-          setRequestBytes((Long)value);
+          setUserId((Long)value);
         }
         break;
 
@@ -9793,14 +15267,11 @@ public class WorkerService {
 
     public Object getFieldValue(_Fields field) {
       switch (field) {
-      case USER_ID:
-        return Long.valueOf(getUserId());
-
       case BLOCK_ID:
         return Long.valueOf(getBlockId());
 
-      case REQUEST_BYTES:
-        return Long.valueOf(getRequestBytes());
+      case USER_ID:
+        return Long.valueOf(getUserId());
 
       }
       throw new IllegalStateException();
@@ -9813,12 +15284,10 @@ public class WorkerService {
       }
 
       switch (field) {
-      case USER_ID:
-        return isSetUserId();
       case BLOCK_ID:
         return isSetBlockId();
-      case REQUEST_BYTES:
-        return isSetRequestBytes();
+      case USER_ID:
+        return isSetUserId();
       }
       throw new IllegalStateException();
     }
@@ -9827,24 +15296,15 @@ public class WorkerService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof requestSpace_args)
-        return this.equals((requestSpace_args)that);
+      if (that instanceof unlockBlock_args)
+        return this.equals((unlockBlock_args)that);
       return false;
     }
 
-    public boolean equals(requestSpace_args that) {
+    public boolean equals(unlockBlock_args that) {
       if (that == null)
         return false;
 
-      boolean this_present_userId = true;
-      boolean that_present_userId = true;
-      if (this_present_userId || that_present_userId) {
-        if (!(this_present_userId && that_present_userId))
-          return false;
-        if (this.userId != that.userId)
-          return false;
-      }
-
       boolean this_present_blockId = true;
       boolean that_present_blockId = true;
       if (this_present_blockId || that_present_blockId) {
@@ -9854,12 +15314,12 @@ public class WorkerService {
           return false;
       }
 
-      boolean this_present_requestBytes = true;
-      boolean that_present_requestBytes = true;
-      if (this_present_requestBytes || that_present_requestBytes) {
-        if (!(this_present_requestBytes && that_present_requestBytes))
+      boolean this_present_userId = true;
+      boolean that_present_userId = true;
+      if (this_present_userId || that_present_userId) {
+        if (!(this_present_userId && that_present_userId))
           return false;
-        if (this.requestBytes != that.requestBytes)
+        if (this.userId != that.userId)
           return false;
       }
 
@@ -9872,23 +15332,13 @@ public class WorkerService {
     }
 
     @Override
-    public int compareTo(requestSpace_args other) {
-      if (!getClass().equals(other.getClass())) {
-        return getClass().getName().compareTo(other.getClass().getName());
-      }
-
-      int lastComparison = 0;
-
-      lastComparison = Boolean.valueOf(isSetUserId()).compareTo(other.isSetUserId());
-      if (lastComparison != 0) {
-        return lastComparison;
-      }
-      if (isSetUserId()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.userId, other.userId);
-        if (lastComparison != 0) {
-          return lastComparison;
-        }
+    public int compareTo(unlockBlock_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
       }
+
+      int lastComparison = 0;
+
       lastComparison = Boolean.valueOf(isSetBlockId()).compareTo(other.isSetBlockId());
       if (lastComparison != 0) {
         return lastComparison;
@@ -9899,12 +15349,12 @@ public class WorkerService {
           return lastComparison;
         }
       }
-      lastComparison = Boolean.valueOf(isSetRequestBytes()).compareTo(other.isSetRequestBytes());
+      lastComparison = Boolean.valueOf(isSetUserId()).compareTo(other.isSetUserId());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetRequestBytes()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.requestBytes, other.requestBytes);
+      if (isSetUserId()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.userId, other.userId);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -9926,19 +15376,15 @@ public class WorkerService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("requestSpace_args(");
+      StringBuilder sb = new StringBuilder("unlockBlock_args(");
       boolean first = true;
 
-      sb.append("userId:");
-      sb.append(this.userId);
-      first = false;
-      if (!first) sb.append(", ");
       sb.append("blockId:");
       sb.append(this.blockId);
       first = false;
       if (!first) sb.append(", ");
-      sb.append("requestBytes:");
-      sb.append(this.requestBytes);
+      sb.append("userId:");
+      sb.append(this.userId);
       first = false;
       sb.append(")");
       return sb.toString();
@@ -9967,15 +15413,15 @@ public class WorkerService {
       }
     }
 
-    private static class requestSpace_argsStandardSchemeFactory implements SchemeFactory {
-      public requestSpace_argsStandardScheme getScheme() {
-        return new requestSpace_argsStandardScheme();
+    private static class unlockBlock_argsStandardSchemeFactory implements SchemeFactory {
+      public unlockBlock_argsStandardScheme getScheme() {
+        return new unlockBlock_argsStandardScheme();
       }
     }
 
-    private static class requestSpace_argsStandardScheme extends StandardScheme<requestSpace_args> {
+    private static class unlockBlock_argsStandardScheme extends StandardScheme<unlockBlock_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, requestSpace_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, unlockBlock_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -9985,15 +15431,7 @@ public class WorkerService {
             break;
           }
           switch (schemeField.id) {
-            case 1: // USER_ID
-              if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
-                struct.userId = iprot.readI64();
-                struct.setUserIdIsSet(true);
-              } else { 
-                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
-              }
-              break;
-            case 2: // BLOCK_ID
+            case 1: // BLOCK_ID
               if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
                 struct.blockId = iprot.readI64();
                 struct.setBlockIdIsSet(true);
@@ -10001,10 +15439,10 @@ public class WorkerService {
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
-            case 3: // REQUEST_BYTES
+            case 2: // USER_ID
               if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
-                struct.requestBytes = iprot.readI64();
-                struct.setRequestBytesIsSet(true);
+                struct.userId = iprot.readI64();
+                struct.setUserIdIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -10020,18 +15458,15 @@ public class WorkerService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, requestSpace_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, unlockBlock_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        oprot.writeFieldBegin(USER_ID_FIELD_DESC);
-        oprot.writeI64(struct.userId);
-        oprot.writeFieldEnd();
         oprot.writeFieldBegin(BLOCK_ID_FIELD_DESC);
         oprot.writeI64(struct.blockId);
         oprot.writeFieldEnd();
-        oprot.writeFieldBegin(REQUEST_BYTES_FIELD_DESC);
-        oprot.writeI64(struct.requestBytes);
+        oprot.writeFieldBegin(USER_ID_FIELD_DESC);
+        oprot.writeI64(struct.userId);
         oprot.writeFieldEnd();
         oprot.writeFieldStop();
         oprot.writeStructEnd();
@@ -10039,79 +15474,66 @@ public class WorkerService {
 
     }
 
-    private static class requestSpace_argsTupleSchemeFactory implements SchemeFactory {
-      public requestSpace_argsTupleScheme getScheme() {
-        return new requestSpace_argsTupleScheme();
+    private static class unlockBlock_argsTupleSchemeFactory implements SchemeFactory {
+      public unlockBlock_argsTupleScheme getScheme() {
+        return new unlockBlock_argsTupleScheme();
       }
     }
 
-    private static class requestSpace_argsTupleScheme extends TupleScheme<requestSpace_args> {
+    private static class unlockBlock_argsTupleScheme extends TupleScheme<unlockBlock_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, requestSpace_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, unlockBlock_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
-        if (struct.isSetUserId()) {
-          optionals.set(0);
-        }
         if (struct.isSetBlockId()) {
-          optionals.set(1);
-        }
-        if (struct.isSetRequestBytes()) {
-          optionals.set(2);
+          optionals.set(0);
         }
-        oprot.writeBitSet(optionals, 3);
         if (struct.isSetUserId()) {
-          oprot.writeI64(struct.userId);
+          optionals.set(1);
         }
+        oprot.writeBitSet(optionals, 2);
         if (struct.isSetBlockId()) {
           oprot.writeI64(struct.blockId);
         }
-        if (struct.isSetRequestBytes()) {
-          oprot.writeI64(struct.requestBytes);
+        if (struct.isSetUserId()) {
+          oprot.writeI64(struct.userId);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, requestSpace_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, unlockBlock_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
-        BitSet incoming = iprot.readBitSet(3);
+        BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
-          struct.userId = iprot.readI64();
-          struct.setUserIdIsSet(true);
-        }
-        if (incoming.get(1)) {
           struct.blockId = iprot.readI64();
           struct.setBlockIdIsSet(true);
         }
-        if (incoming.get(2)) {
-          struct.requestBytes = iprot.readI64();
-          struct.setRequestBytesIsSet(true);
+        if (incoming.get(1)) {
+          struct.userId = iprot.readI64();
+          struct.setUserIdIsSet(true);
         }
       }
     }
 
   }
 
-  public static class requestSpace_result implements org.apache.thrift.TBase<requestSpace_result, requestSpace_result._Fields>, java.io.Serializable, Cloneable, Comparable<requestSpace_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("requestSpace_result");
+  public static class unlockBlock_result implements org.apache.thrift.TBase<unlockBlock_result, unlockBlock_result._Fields>, java.io.Serializable, Cloneable, Comparable<unlockBlock_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("unlockBlock_result");
 
     private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.BOOL, (short)0);
-    private static final org.apache.thrift.protocol.TField E_P_FIELD_DESC = new org.apache.thrift.protocol.TField("eP", org.apache.thrift.protocol.TType.STRUCT, (short)1);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new requestSpace_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new requestSpace_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new unlockBlock_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new unlockBlock_resultTupleSchemeFactory());
     }
 
     public boolean success; // required
-    public FileDoesNotExistException eP; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      SUCCESS((short)0, "success"),
-      E_P((short)1, "eP");
+      SUCCESS((short)0, "success");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -10128,8 +15550,6 @@ public class WorkerService {
         switch(fieldId) {
           case 0: // SUCCESS
             return SUCCESS;
-          case 1: // E_P
-            return E_P;
           default:
             return null;
         }
@@ -10177,52 +15597,44 @@ public class WorkerService {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.BOOL)));
-      tmpMap.put(_Fields.E_P, new org.apache.thrift.meta_data.FieldMetaData("eP", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(requestSpace_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(unlockBlock_result.class, metaDataMap);
     }
 
-    public requestSpace_result() {
+    public unlockBlock_result() {
     }
 
-    public requestSpace_result(
-      boolean success,
-      FileDoesNotExistException eP)
+    public unlockBlock_result(
+      boolean success)
     {
       this();
       this.success = success;
       setSuccessIsSet(true);
-      this.eP = eP;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public requestSpace_result(requestSpace_result other) {
+    public unlockBlock_result(unlockBlock_result other) {
       __isset_bitfield = other.__isset_bitfield;
       this.success = other.success;
-      if (other.isSetEP()) {
-        this.eP = new FileDoesNotExistException(other.eP);
-      }
     }
 
-    public requestSpace_result deepCopy() {
-      return new requestSpace_result(this);
+    public unlockBlock_result deepCopy() {
+      return new unlockBlock_result(this);
     }
 
     @Override
     public void clear() {
       setSuccessIsSet(false);
       this.success = false;
-      this.eP = null;
     }
 
     public boolean isSuccess() {
       return this.success;
     }
 
-    public requestSpace_result setSuccess(boolean success) {
+    public unlockBlock_result setSuccess(boolean success) {
       this.success = success;
       setSuccessIsSet(true);
       return this;
@@ -10241,30 +15653,6 @@ public class WorkerService {
       __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __SUCCESS_ISSET_ID, value);
     }
 
-    public FileDoesNotExistException getEP() {
-      return this.eP;
-    }
-
-    public requestSpace_result setEP(FileDoesNotExistException eP) {
-      this.eP = eP;
-      return this;
-    }
-
-    public void unsetEP() {
-      this.eP = null;
-    }
-
-    /** Returns true if field eP is set (has been assigned a value) and false otherwise */
-    public boolean isSetEP() {
-      return this.eP != null;
-    }
-
-    public void setEPIsSet(boolean value) {
-      if (!value) {
-        this.eP = null;
-      }
-    }
-
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
       case SUCCESS:
@@ -10275,14 +15663,6 @@ public class WorkerService {
         }
         break;
 
-      case E_P:
-        if (value == null) {
-          unsetEP();
-        } else {
-          setEP((FileDoesNotExistException)value);
-        }
-        break;
-
       }
     }
 
@@ -10291,9 +15671,6 @@ public class WorkerService {
       case SUCCESS:
         return Boolean.valueOf(isSuccess());
 
-      case E_P:
-        return getEP();
-
       }
       throw new IllegalStateException();
     }
@@ -10307,8 +15684,6 @@ public class WorkerService {
       switch (field) {
       case SUCCESS:
         return isSetSuccess();
-      case E_P:
-        return isSetEP();
       }
       throw new IllegalStateException();
     }
@@ -10317,12 +15692,12 @@ public class WorkerService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof requestSpace_result)
-        return this.equals((requestSpace_result)that);
+      if (that instanceof unlockBlock_result)
+        return this.equals((unlockBlock_result)that);
       return false;
     }
 
-    public boolean equals(requestSpace_result that) {
+    public boolean equals(unlockBlock_result that) {
       if (that == null)
         return false;
 
@@ -10335,15 +15710,6 @@ public class WorkerService {
           return false;
       }
 
-      boolean this_present_eP = true && this.isSetEP();
-      boolean that_present_eP = true && that.isSetEP();
-      if (this_present_eP || that_present_eP) {
-        if (!(this_present_eP && that_present_eP))
-          return false;
-        if (!this.eP.equals(that.eP))
-          return false;
-      }
-
       return true;
     }
 
@@ -10353,7 +15719,7 @@ public class WorkerService {
     }
 
     @Override
-    public int compareTo(requestSpace_result other) {
+    public int compareTo(unlockBlock_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -10370,16 +15736,6 @@ public class WorkerService {
           return lastComparison;
         }
       }
-      lastComparison = Boolean.valueOf(isSetEP()).compareTo(other.isSetEP());
-      if (lastComparison != 0) {
-        return lastComparison;
-      }
-      if (isSetEP()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.eP, other.eP);
-        if (lastComparison != 0) {
-          return lastComparison;
-        }
-      }
       return 0;
     }
 
@@ -10397,20 +15753,12 @@ public class WorkerService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("requestSpace_result(");
+      StringBuilder sb = new StringBuilder("unlockBlock_result(");
       boolean first = true;
 
       sb.append("success:");
       sb.append(this.success);
       first = false;
-      if (!first) sb.append(", ");
-      sb.append("eP:");
-      if (this.eP == null) {
-        sb.append("null");
-      } else {
-        sb.append(this.eP);
-      }
-      first = false;
       sb.append(")");
       return sb.toString();
     }
@@ -10438,15 +15786,15 @@ public class WorkerService {
       }
     }
 
-    private static class requestSpace_resultStandardSchemeFactory implements SchemeFactory {
-      public requestSpace_resultStandardScheme getScheme() {
-        return new requestSpace_resultStandardScheme();
+    private static class unlockBlock_resultStandardSchemeFactory implements SchemeFactory {
+      public unlockBlock_resultStandardScheme getScheme() {
+        return new unlockBlock_resultStandardScheme();
       }
     }
 
-    private static class requestSpace_resultStandardScheme extends StandardScheme<requestSpace_result> {
+    private static class unlockBlock_resultStandardScheme extends StandardScheme<unlockBlock_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, requestSpace_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, unlockBlock_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -10464,15 +15812,6 @@ public class WorkerService {
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
-            case 1: // E_P
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.eP = new FileDoesNotExistException();
-                struct.eP.read(iprot);
-                struct.setEPIsSet(true);
-              } else { 
-                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
-              }
-              break;
             default:
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
           }
@@ -10484,7 +15823,7 @@ public class WorkerService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, requestSpace_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, unlockBlock_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -10493,80 +15832,64 @@ public class WorkerService {
           oprot.writeBool(struct.success);
           oprot.writeFieldEnd();
         }
-        if (struct.eP != null) {
-          oprot.writeFieldBegin(E_P_FIELD_DESC);
-          struct.eP.write(oprot);
-          oprot.writeFieldEnd();
-        }
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
 
     }
 
-    private static class requestSpace_resultTupleSchemeFactory implements SchemeFactory {
-      public requestSpace_resultTupleScheme getScheme() {
-        return new requestSpace_resultTupleScheme();
+    private static class unlockBlock_resultTupleSchemeFactory implements SchemeFactory {
+      public unlockBlock_resultTupleScheme getScheme() {
+        return new unlockBlock_resultTupleScheme();
       }
     }
 
-    private static class requestSpace_resultTupleScheme extends TupleScheme<requestSpace_result> {
+    private static class unlockBlock_resultTupleScheme extends TupleScheme<unlockBlock_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, requestSpace_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, unlockBlock_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetSuccess()) {
           optionals.set(0);
         }
-        if (struct.isSetEP()) {
-          optionals.set(1);
-        }
-        oprot.writeBitSet(optionals, 2);
-        if (struct.isSetSuccess()) {
-          oprot.writeBool(struct.success);
-        }
-        if (struct.isSetEP()) {
-          struct.eP.write(oprot);
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetSuccess()) {
+          oprot.writeBool(struct.success);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, requestSpace_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, unlockBlock_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
-        BitSet incoming = iprot.readBitSet(2);
+        BitSet incoming = iprot.readBitSet(1);
         if (incoming.get(0)) {
           struct.success = iprot.readBool();
           struct.setSuccessIsSet(true);
         }
-        if (incoming.get(1)) {
-          struct.eP = new FileDoesNotExistException();
-          struct.eP.read(iprot);
-          struct.setEPIsSet(true);
-        }
       }
     }
 
   }
 
-  public static class unlockBlock_args implements org.apache.thrift.TBase<unlockBlock_args, unlockBlock_args._Fields>, java.io.Serializable, Cloneable, Comparable<unlockBlock_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("unlockBlock_args");
+  public static class unlockBlocks_args implements org.apache.thrift.TBase<unlockBlocks_args, unlockBlocks_args._Fields>, java.io.Serializable, Cloneable, Comparable<unlockBlocks_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("unlockBlocks_args");
 
-    private static final org.apache.thrift.protocol.TField BLOCK_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("blockId", org.apache.thrift.protocol.TType.I64, (short)1);
+    private static final org.apache.thrift.protocol.TField BLOCK_IDS_FIELD_DESC = new org.apache.thrift.protocol.TField("blockIds", org.apache.thrift.protocol.TType.LIST, (short)1);
     private static final org.apache.thrift.protocol.TField USER_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("userId", org.apache.thrift.protocol.TType.I64, (short)2);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new unlockBlock_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new unlockBlock_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new unlockBlocks_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new unlockBlocks_argsTupleSchemeFactory());
     }
 
-    public long blockId; // required
+    public List<Long> blockIds; // required
     public long userId; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      BLOCK_ID((short)1, "blockId"),
+      BLOCK_IDS((short)1, "blockIds"),
       USER_ID((short)2, "userId");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
@@ -10582,8 +15905,8 @@ public class WorkerService {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
-          case 1: // BLOCK_ID
-            return BLOCK_ID;
+          case 1: // BLOCK_IDS
+            return BLOCK_IDS;
           case 2: // USER_ID
             return USER_ID;
           default:
@@ -10626,30 +15949,29 @@ public class WorkerService {
     }
 
     // isset id assignments
-    private static final int __BLOCKID_ISSET_ID = 0;
-    private static final int __USERID_ISSET_ID = 1;
+    private static final int __USERID_ISSET_ID = 0;
     private byte __isset_bitfield = 0;
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
-      tmpMap.put(_Fields.BLOCK_ID, new org.apache.thrift.meta_data.FieldMetaData("blockId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
+      tmpMap.put(_Fields.BLOCK_IDS, new org.apache.thrift.meta_data.FieldMetaData("blockIds", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64))));
       tmpMap.put(_Fields.USER_ID, new org.apache.thrift.meta_data.FieldMetaData("userId", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(unlockBlock_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(unlockBlocks_args.class, metaDataMap);
     }
 
-    public unlockBlock_args() {
+    public unlockBlocks_args() {
     }
 
-    public unlockBlock_args(
-      long blockId,
+    public unlockBlocks_args(
+      List<Long> blockIds,
       long userId)
     {
       this();
-      this.blockId = blockId;
-      setBlockIdIsSet(true);
+      this.blockIds = blockIds;
       this.userId = userId;
       setUserIdIsSet(true);
     }
@@ -10657,52 +15979,70 @@ public class WorkerService {
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public unlockBlock_args(unlockBlock_args other) {
+    public unlockBlocks_args(unlockBlocks_args other) {
       __isset_bitfield = other.__isset_bitfield;
-      this.blockId = other.blockId;
+      if (other.isSetBlockIds()) {
+        List<Long> __this__blockIds = new ArrayList<Long>(other.blockIds);
+        this.blockIds = __this__blockIds;
+      }
       this.userId = other.userId;
     }
 
-    public unlockBlock_args deepCopy() {
-      return new unlockBlock_args(this);
+    public unlockBlocks_args deepCopy() {
+      return new unlockBlocks_args(this);
     }
 
     @Override
     public void clear() {
-      setBlockIdIsSet(false);
-      this.blockId = 0;
+      this.blockIds = null;
       setUserIdIsSet(false);
       this.userId = 0;
     }
 
-    public long getBlockId() {
-      return this.blockId;
+    public int getBlockIdsSize() {
+      return (this.blockIds == null) ? 0 : this.blockIds.size();
     }
 
-    public unlockBlock_args setBlockId(long blockId) {
-      this.blockId = blockId;
-      setBlockIdIsSet(true);
+    public java.util.Iterator<Long> getBlockIdsIterator() {
+      return (this.blockIds == null) ? null : this.blockIds.iterator();
+    }
+
+    public void addToBlockIds(long elem) {
+      if (this.blockIds == null) {
+        this.blockIds = new ArrayList<Long>();
+      }
+      this.blockIds.add(elem);
+    }
+
+    public List<Long> getBlockIds() {
+      return this.blockIds;
+    }
+
+    public unlockBlocks_args setBlockIds(List<Long> blockIds) {
+      this.blockIds = blockIds;
       return this;
     }
 
-    public void unsetBlockId() {
-      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __BLOCKID_ISSET_ID);
+    public void unsetBlockIds() {
+      this.blockIds = null;
     }
 
-    /** Returns true if field blockId is set (has been assigned a value) and false otherwise */
-    public boolean isSetBlockId() {
-      return EncodingUtils.testBit(__isset_bitfield, __BLOCKID_ISSET_ID);
+    /** Returns true if field blockIds is set (has been assigned a value) and false otherwise */
+    public boolean isSetBlockIds() {
+      return this.blockIds != null;
     }
 
-    public void setBlockIdIsSet(boolean value) {
-      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __BLOCKID_ISSET_ID, value);
+    public void setBlockIdsIsSet(boolean value) {
+      if (!value) {
+        this.blockIds = null;
+      }
     }
 
     public long getUserId() {
       return this.userId;
     }
 
-    public unlockBlock_args setUserId(long userId) {
+    public unlockBlocks_args setUserId(long userId) {
       this.userId = userId;
       setUserIdIsSet(true);
       return this;
@@ -10723,11 +16063,11 @@ public class WorkerService {
 
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
-      case BLOCK_ID:
+      case BLOCK_IDS:
         if (value == null) {
-          unsetBlockId();
+          unsetBlockIds();
         } else {
-          setBlockId((Long)value);
+          setBlockIds((List<Long>)value);
         }
         break;
 
@@ -10744,8 +16084,8 @@ public class WorkerService {
 
     public Object getFieldValue(_Fields field) {
       switch (field) {
-      case BLOCK_ID:
-        return Long.valueOf(getBlockId());
+      case BLOCK_IDS:
+        return getBlockIds();
 
       case USER_ID:
         return Long.valueOf(getUserId());
@@ -10761,8 +16101,8 @@ public class WorkerService {
       }
 
       switch (field) {
-      case BLOCK_ID:
-        return isSetBlockId();
+      case BLOCK_IDS:
+        return isSetBlockIds();
       case USER_ID:
         return isSetUserId();
       }
@@ -10773,21 +16113,21 @@ public class WorkerService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof unlockBlock_args)
-        return this.equals((unlockBlock_args)that);
+      if (that instanceof unlockBlocks_args)
+        return this.equals((unlockBlocks_args)that);
       return false;
     }
 
-    public boolean equals(unlockBlock_args that) {
+    public boolean equals(unlockBlocks_args that) {
       if (that == null)
         return false;
 
-      boolean this_present_blockId = true;
-      boolean that_present_blockId = true;
-      if (this_present_blockId || that_present_blockId) {
-        if (!(this_present_blockId && that_present_blockId))
+      boolean this_present_blockIds = true && this.isSetBlockIds();
+      boolean that_present_blockIds = true && that.isSetBlockIds();
+      if (this_present_blockIds || that_present_blockIds) {
+        if (!(this_present_blockIds && that_present_blockIds))
           return false;
-        if (this.blockId != that.blockId)
+        if (!this.blockIds.equals(that.blockIds))
           return false;
       }
 
@@ -10809,19 +16149,19 @@ public class WorkerService {
     }
 
     @Override
-    public int compareTo(unlockBlock_args other) {
+    public int compareTo(unlockBlocks_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
-      lastComparison = Boolean.valueOf(isSetBlockId()).compareTo(other.isSetBlockId());
+      lastComparison = Boolean.valueOf(isSetBlockIds()).compareTo(other.isSetBlockIds());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetBlockId()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.blockId, other.blockId);
+      if (isSetBlockIds()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.blockIds, other.blockIds);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -10853,11 +16193,15 @@ public class WorkerService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("unlockBlock_args(");
+      StringBuilder sb = new StringBuilder("unlockBlocks_args(");
       boolean first = true;
 
-      sb.append("blockId:");
-      sb.append(this.blockId);
+      sb.append("blockIds:");
+      if (this.blockIds == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.blockIds);
+      }
       first = false;
       if (!first) sb.append(", ");
       sb.append("userId:");
@@ -10890,15 +16234,15 @@ public class WorkerService {
       }
     }
 
-    private static class unlockBlock_argsStandardSchemeFactory implements SchemeFactory {
-      public unlockBlock_argsStandardScheme getScheme() {
-        return new unlockBlock_argsStandardScheme();
+    private static class unlockBlocks_argsStandardSchemeFactory implements SchemeFactory {
+      public unlockBlocks_argsStandardScheme getScheme() {
+        return new unlockBlocks_argsStandardScheme();
       }
     }
 
-    private static class unlockBlock_argsStandardScheme extends StandardScheme<unlockBlock_args> {
+    private static class unlockBlocks_argsStandardScheme extends StandardScheme<unlockBlocks_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, unlockBlock_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, unlockBlocks_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -10908,10 +16252,20 @@ public class WorkerService {
             break;
           }
           switch (schemeField.id) {
-            case 1: // BLOCK_ID
-              if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
-                struct.blockId = iprot.readI64();
-                struct.setBlockIdIsSet(true);
+            case 1: // BLOCK_IDS
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list256 = iprot.readListBegin();
+                  struct.blockIds = new ArrayList<Long>(_list256.size);
+                  for (int _i257 = 0; _i257 < _list256.size; ++_i257)
+                  {
+                    long _elem258;
+                    _elem258 = iprot.readI64();
+                    struct.blockIds.add(_elem258);
+                  }
+                  iprot.readListEnd();
+                }
+                struct.setBlockIdsIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -10935,13 +16289,22 @@ public class WorkerService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, unlockBlock_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, unlockBlocks_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        oprot.writeFieldBegin(BLOCK_ID_FIELD_DESC);
-        oprot.writeI64(struct.blockId);
-        oprot.writeFieldEnd();
+        if (struct.blockIds != null) {
+          oprot.writeFieldBegin(BLOCK_IDS_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.I64, struct.blockIds.size()));
+            for (long _iter259 : struct.blockIds)
+            {
+              oprot.writeI64(_iter259);
+            }
+            oprot.writeListEnd();
+          }
+          oprot.writeFieldEnd();
+        }
         oprot.writeFieldBegin(USER_ID_FIELD_DESC);
         oprot.writeI64(struct.userId);
         oprot.writeFieldEnd();
@@ -10951,27 +16314,33 @@ public class WorkerService {
 
     }
 
-    private static class unlockBlock_argsTupleSchemeFactory implements SchemeFactory {
-      public unlockBlock_argsTupleScheme getScheme() {
-        return new unlockBlock_argsTupleScheme();
+    private static class unlockBlocks_argsTupleSchemeFactory implements SchemeFactory {
+      public unlockBlocks_argsTupleScheme getScheme() {
+        return new unlockBlocks_argsTupleScheme();
       }
     }
 
-    private static class unlockBlock_argsTupleScheme extends TupleScheme<unlockBlock_args> {
+    private static class unlockBlocks_argsTupleScheme extends TupleScheme<unlockBlocks_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, unlockBlock_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, unlockBlocks_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
-        if (struct.isSetBlockId()) {
+        if (struct.isSetBlockIds()) {
           optionals.set(0);
         }
         if (struct.isSetUserId()) {
           optionals.set(1);
         }
         oprot.writeBitSet(optionals, 2);
-        if (struct.isSetBlockId()) {
-          oprot.writeI64(struct.blockId);
+        if (struct.isSetBlockIds()) {
+          {
+            oprot.writeI32(struct.blockIds.size());
+            for (long _iter260 : struct.blockIds)
+            {
+              oprot.writeI64(_iter260);
+            }
+          }
         }
         if (struct.isSetUserId()) {
           oprot.writeI64(struct.userId);
@@ -10979,12 +16348,21 @@ public class WorkerService {
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, unlockBlock_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, unlockBlocks_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
-          struct.blockId = iprot.readI64();
-          struct.setBlockIdIsSet(true);
+          {
+            org.apache.thrift.protocol.TList _list261 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.I64, iprot.readI32());
+            struct.blockIds = new ArrayList<Long>(_list261.size);
+            for (int _i262 = 0; _i262 < _list261.size; ++_i262)
+            {
+              long _elem263;
+              _elem263 = iprot.readI64();
+              struct.blockIds.add(_elem263);
+            }
+          }
+          struct.setBlockIdsIsSet(true);
         }
         if (incoming.get(1)) {
           struct.userId = iprot.readI64();
@@ -10995,22 +16373,20 @@ public class WorkerService {
 
   }
 
-  public static class unlockBlock_result implements org.apache.thrift.TBase<unlockBlock_result, unlockBlock_result._Fields>, java.io.Serializable, Cloneable, Comparable<unlockBlock_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("unlockBlock_result");
+  public static class unlockBlocks_result implements org.apache.thrift.TBase<unlockBlocks_result, unlockBlocks_result._Fields>, java.io.Serializable, Cloneable, Comparable<unlockBlocks_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("unlockBlocks_result");
 
-    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.BOOL, (short)0);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new unlockBlock_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new unlockBlock_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new unlockBlocks_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new unlockBlocks_resultTupleSchemeFactory());
     }
 
-    public boolean success; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      SUCCESS((short)0, "success");
+;
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -11025,8 +16401,6 @@ public class WorkerService {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
-          case 0: // SUCCESS
-            return SUCCESS;
           default:
             return null;
         }
@@ -11065,89 +16439,37 @@ public class WorkerService {
         return _fieldName;
       }
     }
-
-    // isset id assignments
-    private static final int __SUCCESS_ISSET_ID = 0;
-    private byte __isset_bitfield = 0;
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
-      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.BOOL)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(unlockBlock_result.class, metaDataMap);
-    }
-
-    public unlockBlock_result() {
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(unlockBlocks_result.class, metaDataMap);
     }
 
-    public unlockBlock_result(
-      boolean success)
-    {
-      this();
-      this.success = success;
-      setSuccessIsSet(true);
+    public unlockBlocks_result() {
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public unlockBlock_result(unlockBlock_result other) {
-      __isset_bitfield = other.__isset_bitfield;
-      this.success = other.success;
+    public unlockBlocks_result(unlockBlocks_result other) {
     }
 
-    public unlockBlock_result deepCopy() {
-      return new unlockBlock_result(this);
+    public unlockBlocks_result deepCopy() {
+      return new unlockBlocks_result(this);
     }
 
     @Override
     public void clear() {
-      setSuccessIsSet(false);
-      this.success = false;
-    }
-
-    public boolean isSuccess() {
-      return this.success;
-    }
-
-    public unlockBlock_result setSuccess(boolean success) {
-      this.success = success;
-      setSuccessIsSet(true);
-      return this;
-    }
-
-    public void unsetSuccess() {
-      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __SUCCESS_ISSET_ID);
-    }
-
-    /** Returns true if field success is set (has been assigned a value) and false otherwise */
-    public boolean isSetSuccess() {
-      return EncodingUtils.testBit(__isset_bitfield, __SUCCESS_ISSET_ID);
-    }
-
-    public void setSuccessIsSet(boolean value) {
-      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __SUCCESS_ISSET_ID, value);
     }
 
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
-      case SUCCESS:
-        if (value == null) {
-          unsetSuccess();
-        } else {
-          setSuccess((Boolean)value);
-        }
-        break;
-
       }
     }
 
     public Object getFieldValue(_Fields field) {
       switch (field) {
-      case SUCCESS:
-        return Boolean.valueOf(isSuccess());
-
       }
       throw new IllegalStateException();
     }
@@ -11159,8 +16481,6 @@ public class WorkerService {
       }
 
       switch (field) {
-      case SUCCESS:
-        return isSetSuccess();
       }
       throw new IllegalStateException();
     }
@@ -11169,24 +16489,15 @@ public class WorkerService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof unlockBlock_result)
-        return this.equals((unlockBlock_result)that);
+      if (that instanceof unlockBlocks_result)
+        return this.equals((unlockBlocks_result)that);
       return false;
     }
 
-    public boolean equals(unlockBlock_result that) {
+    public boolean equals(unlockBlocks_result that) {
       if (that == null)
         return false;
 
-      boolean this_present_success = true;
-      boolean that_present_success = true;
-      if (this_present_success || that_present_success) {
-        if (!(this_present_success && that_present_success))
-          return false;
-        if (this.success != that.success)
-          return false;
-      }
-
       return true;
     }
 
@@ -11196,23 +16507,13 @@ public class WorkerService {
     }
 
     @Override
-    public int compareTo(unlockBlock_result other) {
+    public int compareTo(unlockBlocks_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
-      lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
-      if (lastComparison != 0) {
-        return lastComparison;
-      }
-      if (isSetSuccess()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
-        if (lastComparison != 0) {
-          return lastComparison;
-        }
-      }
       return 0;
     }
 
@@ -11230,12 +16531,9 @@ public class WorkerService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("unlockBlock_result(");
+      StringBuilder sb = new StringBuilder("unlockBlocks_result(");
       boolean first = true;
 
-      sb.append("success:");
-      sb.append(this.success);
-      first = false;
       sb.append(")");
       return sb.toString();
     }
@@ -11255,23 +16553,21 @@ public class WorkerService {
 
     private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
       try {
-        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
-        __isset_bitfield = 0;
         read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
       } catch (org.apache.thrift.TException te) {
         throw new java.io.IOException(te);
       }
     }
 
-    private static class unlockBlock_resultStandardSchemeFactory implements SchemeFactory {
-      public unlockBlock_resultStandardScheme getScheme() {
-        return new unlockBlock_resultStandardScheme();
+    private static class unlockBlocks_resultStandardSchemeFactory implements SchemeFactory {
+      public unlockBlocks_resultStandardScheme getScheme() {
+        return new unlockBlocks_resultStandardScheme();
       }
     }
 
-    private static class unlockBlock_resultStandardScheme extends StandardScheme<unlockBlock_result> {
+    private static class unlockBlocks_resultStandardScheme extends StandardScheme<unlockBlocks_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, unlockBlock_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, unlockBlocks_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -11281,14 +16577,6 @@ public class WorkerService {
             break;
           }
           switch (schemeField.id) {
-            case 0: // SUCCESS
-              if (schemeField.type == org.apache.thrift.protocol.TType.BOOL) {
-                struct.success = iprot.readBool();
-                struct.setSuccessIsSet(true);
-              } else { 
-                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
-              }
-              break;
             default:
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
           }
@@ -11300,50 +16588,32 @@ public class WorkerService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, unlockBlock_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, unlockBlocks_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        if (struct.isSetSuccess()) {
-          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
-          oprot.writeBool(struct.success);
-          oprot.writeFieldEnd();
-        }
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
 
     }
 
-    private static class unlockBlock_resultTupleSchemeFactory implements SchemeFactory {
-      public unlockBlock_resultTupleScheme getScheme() {
-        return new unlockBlock_resultTupleScheme();
+    private static class unlockBlocks_resultTupleSchemeFactory implements SchemeFactory {
+      public unlockBlocks_resultTupleScheme getScheme() {
+        return new unlockBlocks_resultTupleScheme();
       }
     }
 
-    private static class unlockBlock_resultTupleScheme extends TupleScheme<unlockBlock_result> {
+    private static class unlockBlocks_resultTupleScheme extends TupleScheme<unlockBlocks_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, unlockBlock_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, unlockBlocks_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
-        BitSet optionals = new BitSet();
-        if (struct.isSetSuccess()) {
-          optionals.set(0);
-        }
-        oprot.writeBitSet(optionals, 1);
-        if (struct.isSetSuccess()) {
-          oprot.writeBool(struct.success);
-        }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, unlockBlock_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, unlockBlocks_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
-        BitSet incoming = iprot.readBitSet(1);
-        if (incoming.get(0)) {
-          struct.success = iprot.readBool();
-          struct.setSuccessIsSet(true);
-        }
       }
     }
 
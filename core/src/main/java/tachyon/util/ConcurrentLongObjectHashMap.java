@@ -0,0 +1,104 @@
+/*
+ * Licensed to the University of California, Berkeley under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package tachyon.util;
+
+/**
+ * A thread safe hash map from primitive long keys to non-null objects. The keys are spread over a
+ * fixed number of {@link LongObjectHashMap} segments, each guarded by its own read/write lock, so
+ * concurrent lookups never block each other and updates only block the lookups of one segment.
+ * 
+ * @param <V> the type of the values
+ */
+public class ConcurrentLongObjectHashMap<V> extends
+    ConcurrentPrimitiveObjectHashMapBase<V, LongObjectHashMap<V>> {
+  public ConcurrentLongObjectHashMap() {
+    this(DEFAULT_SEGMENTS);
+  }
+
+  /**
+   * @param segments the number of independently locked segments, rounded up to a power of two
+   */
+  public ConcurrentLongObjectHashMap(int segments) {
+    super(segments);
+  }
+
+  @Override
+  LongObjectHashMap<V> newSegment() {
+    return new LongObjectHashMap<V>();
+  }
+
+  private int segmentFor(long key) {
+    if (mSegmentBits == 0) {
+      return 0;
+    }
+    return (int) ((key * 0x9E3779B97F4A7C15L) >>> (64 - mSegmentBits));
+  }
+
+  /**
+   * @param key the key to look for
+   * @return true if the map contains a mapping for the key
+   */
+  public boolean containsKey(long key) {
+    return get(key) != null;
+  }
+
+  /**
+   * @param key the key to look up
+   * @return the value mapped to the key, or null if there is none
+   */
+  public V get(long key) {
+    int s = segmentFor(key);
+    mLocks[s].readLock().lock();
+    try {
+      return segment(s).get(key);
+    } finally {
+      mLocks[s].readLock().unlock();
+    }
+  }
+
+  /**
+   * Maps the key to the value, replacing any previous mapping of the key.
+   * 
+   * @param key the key
+   * @param value the value, which must not be null
+   * @return the previous value of the key, or null if there was none
+   */
+  public V put(long key, V value) {
+    int s = segmentFor(key);
+    mLocks[s].writeLock().lock();
+    try {
+      return segment(s).put(key, value);
+    } finally {
+      mLocks[s].writeLock().unlock();
+    }
+  }
+
+  /**
+   * Removes the mapping of the key.
+   * 
+   * @param key the key
+   * @return the removed value, or null if the key was not mapped
+   */
+  public V remove(long key) {
+    int s = segmentFor(key);
+    mLocks[s].writeLock().lock();
+    try {
+      return segment(s).remove(key);
+    } finally {
+      mLocks[s].writeLock().unlock();
+    }
+  }
+}
@@ -0,0 +1,102 @@
+/*
+ * Licensed to the University of California, Berkeley under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package tachyon.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * The segments and locks shared by the thread safe hash maps from primitive keys to non-null
+ * objects. The keys are spread over a fixed number of segments, each guarded by its own read/write
+ * lock; the subclass picks the segment of a key from the top bits of its hash, since the segments
+ * use the low bits.
+ * 
+ * @param <V> the type of the values
+ * @param <M> the type of the segments
+ */
+abstract class ConcurrentPrimitiveObjectHashMapBase<V, M extends PrimitiveObjectHashMapBase<V>> {
+  static final int DEFAULT_SEGMENTS = 32;
+
+  // The segments are of type M, which can not be the array's type since M is erased
+  private final Object[] mSegments;
+  final ReentrantReadWriteLock[] mLocks;
+  // The number of hash bits that pick the segment
+  final int mSegmentBits;
+
+  /**
+   * @param segments the number of independently locked segments, rounded up to a power of two
+   */
+  ConcurrentPrimitiveObjectHashMapBase(int segments) {
+    int bits = 0;
+    while ((1 << bits) < segments) {
+      bits ++;
+    }
+    mSegmentBits = bits;
+    mSegments = new Object[1 << bits];
+    mLocks = new ReentrantReadWriteLock[1 << bits];
+    for (int k = 0; k < mSegments.length; k ++) {
+      mSegments[k] = newSegment();
+      mLocks[k] = new ReentrantReadWriteLock();
+    }
+  }
+
+  /**
+   * @return a new empty segment
+   */
+  abstract M newSegment();
+
+  /**
+   * @param s the index of a segment
+   * @return the segment, which must only be used under its lock in <code>mLocks</code>
+   */
+  @SuppressWarnings("unchecked")
+  final M segment(int s) {
+    return (M) mSegments[s];
+  }
+
+  /**
+   * @return the number of mappings. It is not an atomic snapshot if the map is being updated.
+   */
+  public int size() {
+    int ret = 0;
+    for (int s = 0; s < mSegments.length; s ++) {
+      mLocks[s].readLock().lock();
+      try {
+        ret += segment(s).size();
+      } finally {
+        mLocks[s].readLock().unlock();
+      }
+    }
+    return ret;
+  }
+
+  /**
+   * @return a copy of all the values. It is not an atomic snapshot if the map is being updated.
+   */
+  public List<V> values() {
+    List<V> ret = new ArrayList<V>();
+    for (int s = 0; s < mSegments.length; s ++) {
+      mLocks[s].readLock().lock();
+      try {
+        ret.addAll(segment(s).values());
+      } finally {
+        mLocks[s].readLock().unlock();
+      }
+    }
+    return ret;
+  }
+}
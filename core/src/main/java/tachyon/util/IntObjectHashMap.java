@@ -0,0 +1,135 @@
+/*
+ * Licensed to the University of California, Berkeley under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package tachyon.util;
+
+/**
+ * An open-addressing hash map from primitive int keys to non-null objects. Keys and values are
+ * stored in two parallel arrays, so there is no boxing and no entry object per mapping, which
+ * makes it much smaller than a <code>HashMap&lt;Integer, V&gt;</code>. Collisions are resolved by
+ * linear probing, and removals shift the following entries back instead of leaving tombstones.
+ * 
+ * This class is not thread safe.
+ * 
+ * @param <V> the type of the values
+ */
+public class IntObjectHashMap<V> extends PrimitiveObjectHashMapBase<V> {
+  private int[] mKeys;
+
+  public IntObjectHashMap() {
+    this(DEFAULT_CAPACITY);
+  }
+
+  /**
+   * @param expectedSize the number of mappings the map should hold without resizing
+   */
+  public IntObjectHashMap(int expectedSize) {
+    super(expectedSize);
+  }
+
+  private static int hash(int key) {
+    // Spread the bits, sequential ids would otherwise fill consecutive slots.
+    int h = key * 0x9E3779B9;
+    return h ^ (h >>> 16);
+  }
+
+  @Override
+  void allocateKeys(int capacity) {
+    mKeys = new int[capacity];
+  }
+
+  /**
+   * @param key the key to look for
+   * @return true if the map contains a mapping for the key
+   */
+  public boolean containsKey(int key) {
+    return get(key) != null;
+  }
+
+  @Override
+  void copyKey(Object keys, int from, int to) {
+    mKeys[to] = ((int[]) keys)[from];
+  }
+
+  /**
+   * @return the slot of the key, or the empty slot its probe sequence ends at if it is not mapped
+   */
+  private int find(int key) {
+    int mask = mKeys.length - 1;
+    int k = hash(key) & mask;
+    while (mValues[k] != null && mKeys[k] != key) {
+      k = (k + 1) & mask;
+    }
+    return k;
+  }
+
+  /**
+   * @param key the key to look up
+   * @return the value mapped to the key, or null if there is none
+   */
+  public V get(int key) {
+    return valueAt(find(key));
+  }
+
+  @Override
+  int hashAt(Object keys, int slot) {
+    return hash(((int[]) keys)[slot]);
+  }
+
+  @Override
+  Object keyTable() {
+    return mKeys;
+  }
+
+  /**
+   * @return a copy of all the keys, in no particular order
+   */
+  public int[] keys() {
+    int[] ret = new int[size()];
+    int n = 0;
+    for (int k = 0; k < mValues.length; k ++) {
+      if (mValues[k] != null) {
+        ret[n ++] = mKeys[k];
+      }
+    }
+    return ret;
+  }
+
+  /**
+   * Maps the key to the value, replacing any previous mapping of the key.
+   * 
+   * @param key the key
+   * @param value the value, which must not be null
+   * @return the previous value of the key, or null if there was none
+   */
+  public V put(int key, V value) {
+    if (value == null) {
+      throw new NullPointerException("Null values are not supported");
+    }
+    int k = find(key);
+    mKeys[k] = key;
+    return putAt(k, value);
+  }
+
+  /**
+   * Removes the mapping of the key.
+   * 
+   * @param key the key
+   * @return the removed value, or null if the key was not mapped
+   */
+  public V remove(int key) {
+    return removeAt(find(key));
+  }
+}
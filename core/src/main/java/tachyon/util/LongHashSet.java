@@ -0,0 +1,229 @@
+/*
+ * Licensed to the University of California, Berkeley under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package tachyon.util;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * An open-addressing hash set of primitive longs. The values are stored in a single long array,
+ * so it avoids the boxing and the entry objects of a <code>HashSet&lt;Long&gt;</code>. Collisions
+ * are resolved by linear probing, and removals shift the following values back instead of leaving
+ * tombstones.
+ * 
+ * This class is not thread safe.
+ */
+public class LongHashSet {
+  private static final int DEFAULT_CAPACITY = 16;
+  private static final float LOAD_FACTOR = 0.75f;
+  // Marks an empty slot. The value itself can still be stored, it is tracked by mContainsFree.
+  private static final long FREE = 0;
+
+  private long[] mValues;
+  private boolean mContainsFree = false;
+  private int mSize = 0;
+  private int mResizeThreshold;
+
+  public LongHashSet() {
+    this(DEFAULT_CAPACITY);
+  }
+
+  /**
+   * @param expectedSize the number of values the set should hold without resizing
+   */
+  public LongHashSet(int expectedSize) {
+    int capacity = DEFAULT_CAPACITY;
+    while (capacity * LOAD_FACTOR < expectedSize) {
+      capacity <<= 1;
+    }
+    allocate(capacity);
+  }
+
+  private static int hash(long value) {
+    long h = value * 0x9E3779B97F4A7C15L;
+    return (int) (h ^ (h >>> 32));
+  }
+
+  /**
+   * Adds the value to the set.
+   * 
+   * @param value the value to add
+   * @return true if the set did not contain the value yet
+   */
+  public boolean add(long value) {
+    if (value == FREE) {
+      if (mContainsFree) {
+        return false;
+      }
+      mContainsFree = true;
+      mSize ++;
+      return true;
+    }
+    int mask = mValues.length - 1;
+    int k = hash(value) & mask;
+    for (; mValues[k] != FREE; k = (k + 1) & mask) {
+      if (mValues[k] == value) {
+        return false;
+      }
+    }
+    mValues[k] = value;
+    if (++ mSize > mResizeThreshold) {
+      resize(mValues.length << 1);
+    }
+    return true;
+  }
+
+  /**
+   * Adds all the values to the set.
+   * 
+   * @param values the values to add
+   */
+  public void addAll(Collection<Long> values) {
+    for (long value : values) {
+      add(value);
+    }
+  }
+
+  private void allocate(int capacity) {
+    mValues = new long[capacity];
+    mResizeThreshold = (int) (capacity * LOAD_FACTOR);
+  }
+
+  /**
+   * Removes all values.
+   */
+  public void clear() {
+    Arrays.fill(mValues, FREE);
+    mContainsFree = false;
+    mSize = 0;
+  }
+
+  /**
+   * @param value the value to look for
+   * @return true if the set contains the value
+   */
+  public boolean contains(long value) {
+    if (value == FREE) {
+      return mContainsFree;
+    }
+    int mask = mValues.length - 1;
+    for (int k = hash(value) & mask; mValues[k] != FREE; k = (k + 1) & mask) {
+      if (mValues[k] == value) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * @return true if the set has no values
+   */
+  public boolean isEmpty() {
+    return mSize == 0;
+  }
+
+  /**
+   * Removes the value from the set.
+   * 
+   * @param value the value to remove
+   * @return true if the set contained the value
+   */
+  public boolean remove(long value) {
+    if (value == FREE) {
+      if (!mContainsFree) {
+        return false;
+      }
+      mContainsFree = false;
+      mSize --;
+      return true;
+    }
+    int mask = mValues.length - 1;
+    int k = hash(value) & mask;
+    for (; mValues[k] != FREE; k = (k + 1) & mask) {
+      if (mValues[k] == value) {
+        break;
+      }
+    }
+    if (mValues[k] == FREE) {
+      return false;
+    }
+    mSize --;
+
+    // Shift back the values of the probe sequence following the removed slot, so that lookups
+    // never stop early at the hole.
+    int hole = k;
+    for (k = (k + 1) & mask; mValues[k] != FREE; k = (k + 1) & mask) {
+      int home = hash(mValues[k]) & mask;
+      // Move the value only if its home slot is not within (hole, k], cyclically.
+      if (hole <= k ? (home <= hole || home > k) : (home <= hole && home > k)) {
+        mValues[hole] = mValues[k];
+        hole = k;
+      }
+    }
+    mValues[hole] = FREE;
+    return true;
+  }
+
+  /**
+   * Removes all the values from the set.
+   * 
+   * @param values the values to remove
+   */
+  public void removeAll(Collection<Long> values) {
+    for (long value : values) {
+      remove(value);
+    }
+  }
+
+  private void resize(int capacity) {
+    long[] oldValues = mValues;
+    allocate(capacity);
+    int mask = capacity - 1;
+    for (int i = 0; i < oldValues.length; i ++) {
+      if (oldValues[i] != FREE) {
+        int k = hash(oldValues[i]) & mask;
+        while (mValues[k] != FREE) {
+          k = (k + 1) & mask;
+        }
+        mValues[k] = oldValues[i];
+      }
+    }
+  }
+
+  /**
+   * @return the number of values in the set
+   */
+  public int size() {
+    return mSize;
+  }
+
+  /**
+   * @return a copy of all the values, in no particular order
+   */
+  public long[] toArray() {
+    long[] ret = new long[mSize];
+    int n = 0;
+    if (mContainsFree) {
+      ret[n ++] = FREE;
+    }
+    for (int k = 0; k < mValues.length; k ++) {
+      if (mValues[k] != FREE) {
+        ret[n ++] = mValues[k];
+      }
+    }
+    return ret;
+  }
+}
@@ -0,0 +1,199 @@
+/*
+ * Licensed to the University of California, Berkeley under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package tachyon.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The open-addressing table shared by the hash maps from primitive keys to non-null objects. The
+ * values are kept here and the keys in a primitive array of the subclass, in parallel; a null
+ * value marks an empty slot. The subclass looks up the slot of a key by linear probing from the
+ * key's hash, and this class inserts into, removes from and resizes the table by slot, so the keys
+ * are never boxed.
+ * 
+ * This class is not thread safe.
+ * 
+ * @param <V> the type of the values
+ */
+abstract class PrimitiveObjectHashMapBase<V> {
+  static final int DEFAULT_CAPACITY = 16;
+  private static final float LOAD_FACTOR = 0.75f;
+
+  // A null value marks an empty slot, which is why null values are not allowed.
+  Object[] mValues;
+  private int mSize = 0;
+  private int mResizeThreshold;
+
+  /**
+   * @param expectedSize the number of mappings the map should hold without resizing
+   */
+  PrimitiveObjectHashMapBase(int expectedSize) {
+    int capacity = DEFAULT_CAPACITY;
+    while (capacity * LOAD_FACTOR < expectedSize) {
+      capacity <<= 1;
+    }
+    allocate(capacity);
+  }
+
+  private void allocate(int capacity) {
+    allocateKeys(capacity);
+    mValues = new Object[capacity];
+    mResizeThreshold = (int) (capacity * LOAD_FACTOR);
+  }
+
+  /**
+   * Replaces the key array of the subclass with an empty one. It is called from the constructor,
+   * so the key array field must not have an initializer.
+   * 
+   * @param capacity the length of the new key array
+   */
+  abstract void allocateKeys(int capacity);
+
+  /**
+   * @return the key array of the subclass, to be passed back to the methods below
+   */
+  abstract Object keyTable();
+
+  /**
+   * @param keys a key array returned by {@link #keyTable()}
+   * @param slot the slot of a key in it
+   * @return the hash of the key
+   */
+  abstract int hashAt(Object keys, int slot);
+
+  /**
+   * Copies a key into the current key array.
+   * 
+   * @param keys a key array returned by {@link #keyTable()}, maybe the current one
+   * @param from the slot of the key in <code>keys</code>
+   * @param to the slot of the key in the current key array
+   */
+  abstract void copyKey(Object keys, int from, int to);
+
+  /**
+   * Removes all mappings.
+   */
+  public void clear() {
+    Arrays.fill(mValues, null);
+    mSize = 0;
+  }
+
+  /**
+   * @return true if the map has no mappings
+   */
+  public boolean isEmpty() {
+    return mSize == 0;
+  }
+
+  /**
+   * Sets the value of the slot a key probed to. If the slot was empty, the subclass has just put
+   * the key there, and the table may grow.
+   * 
+   * @param slot the slot of the key
+   * @param value the value, which must not be null
+   * @return the previous value of the slot, or null if it was empty
+   */
+  @SuppressWarnings("unchecked")
+  final V putAt(int slot, V value) {
+    V ret = (V) mValues[slot];
+    mValues[slot] = value;
+    if (ret == null && ++ mSize > mResizeThreshold) {
+      resize(mValues.length << 1);
+    }
+    return ret;
+  }
+
+  /**
+   * Empties the slot a key probed to.
+   * 
+   * @param slot the slot of the key
+   * @return the value of the slot, or null if it was empty
+   */
+  @SuppressWarnings("unchecked")
+  final V removeAt(int slot) {
+    V ret = (V) mValues[slot];
+    if (ret == null) {
+      return null;
+    }
+    mSize --;
+
+    // Shift back the entries of the probe sequence following the removed slot, so that lookups
+    // never stop early at the hole.
+    Object keys = keyTable();
+    int mask = mValues.length - 1;
+    int hole = slot;
+    for (int k = (slot + 1) & mask; mValues[k] != null; k = (k + 1) & mask) {
+      int home = hashAt(keys, k) & mask;
+      // Move the entry only if its home slot is not within (hole, k], cyclically.
+      if (hole <= k ? (home <= hole || home > k) : (home <= hole && home > k)) {
+        copyKey(keys, k, hole);
+        mValues[hole] = mValues[k];
+        hole = k;
+      }
+    }
+    mValues[hole] = null;
+    return ret;
+  }
+
+  private void resize(int capacity) {
+    Object oldKeys = keyTable();
+    Object[] oldValues = mValues;
+    allocate(capacity);
+    int mask = capacity - 1;
+    for (int i = 0; i < oldValues.length; i ++) {
+      if (oldValues[i] != null) {
+        int k = hashAt(oldKeys, i) & mask;
+        while (mValues[k] != null) {
+          k = (k + 1) & mask;
+        }
+        copyKey(oldKeys, i, k);
+        mValues[k] = oldValues[i];
+      }
+    }
+  }
+
+  /**
+   * @return the number of mappings
+   */
+  public int size() {
+    return mSize;
+  }
+
+  /**
+   * @param slot a slot of the table
+   * @return the value of the slot, or null if it is empty
+   */
+  @SuppressWarnings("unchecked")
+  final V valueAt(int slot) {
+    return (V) mValues[slot];
+  }
+
+  /**
+   * @return a copy of all the values, in no particular order
+   */
+  @SuppressWarnings("unchecked")
+  public List<V> values() {
+    List<V> ret = new ArrayList<V>(mSize);
+    for (int k = 0; k < mValues.length; k ++) {
+      if (mValues[k] != null) {
+        ret.add((V) mValues[k]);
+      }
+    }
+    return ret;
+  }
+}
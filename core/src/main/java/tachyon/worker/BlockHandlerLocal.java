@@ -21,7 +21,6 @@ import java.io.RandomAccessFile;
 import java.nio.ByteBuffer;
 import java.nio.channels.ByteChannel;
 import java.nio.channels.FileChannel;
-import java.nio.channels.FileChannel.MapMode;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -55,9 +54,13 @@ public final class BlockHandlerLocal extends BlockHandler {
   public int append(long offset, ByteBuffer buf) throws IOException {
     checkPermission();
     int bufLen = buf.limit();
-    ByteBuffer out = mLocalFileChannel.map(MapMode.READ_WRITE, offset, bufLen);
-    out.put(buf);
-    CommonUtils.cleanDirectBuffer(out);
+    // The buffer is written from its start up to its limit, whatever its position. A positional
+    // write needs no mapping of the file to create and unmap per append.
+    ByteBuffer src = buf.duplicate();
+    src.rewind();
+    while (src.hasRemaining()) {
+      offset += mLocalFileChannel.write(src, offset);
+    }
 
     return bufLen;
   }
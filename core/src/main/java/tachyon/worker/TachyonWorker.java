@@ -212,7 +212,7 @@ public class TachyonWorker implements Runnable {
       case NIO:
         return new NIODataServer(dataAddress, blockLocker);
       case NETTY:
-        return new NettyDataServer(dataAddress, blockLocker);
+        return new NettyDataServer(dataAddress, blockLocker, mWorkerStorage);
       default:
         throw new AssertionError("Unknown network type: " + WorkerConf.get().NETWORK_TYPE);
     }
@@ -19,6 +19,8 @@ import java.io.Closeable;
 import java.io.IOException;
 import java.net.InetSocketAddress;
 import java.net.UnknownHostException;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
 
@@ -64,6 +66,9 @@ public class WorkerClient implements Closeable {
   private boolean mConnected = false;
   private boolean mIsLocal = false;
   private final ExecutorService mExecutorService;
+  // The worker to connect to, or null to connect to the local worker, or a random one if there is
+  // no local worker.
+  private final NetAddress mTargetWorker;
   private Future<?> mHeartbeat;
 
   /**
@@ -75,7 +80,22 @@ public class WorkerClient implements Closeable {
    */
   public WorkerClient(MasterClient masterClient, ExecutorService executorService)
       throws IOException {
+    this(masterClient, null, executorService);
+  }
+
+  /**
+   * Create a WorkerClient that talks to the given worker, with a given MasterClient.
+   * 
+   * @param masterClient
+   * @param targetWorker The address of the worker, or null to connect to the local worker, or a
+   *        random one if there is no local worker
+   * @param executorService
+   * @throws IOException
+   */
+  public WorkerClient(MasterClient masterClient, NetAddress targetWorker,
+      ExecutorService executorService) throws IOException {
     mMasterClient = masterClient;
+    mTargetWorker = targetWorker;
     mExecutorService = executorService;
   }
 
@@ -107,7 +127,7 @@ public class WorkerClient implements Closeable {
     mustConnect();
 
     try {
-      mClient.addCheckpoint(mMasterClient.getUserId(), fileId);
+      mClient.addCheckpoint(mMasterClient.getCurrentUserId(), fileId);
     } catch (FileDoesNotExistException e) {
       throw new IOException(e);
     } catch (SuspectedFileSizeException e) {
@@ -122,6 +142,23 @@ public class WorkerClient implements Closeable {
     }
   }
 
+  /**
+   * Notify the worker to cache the block in the background.
+   * 
+   * @param blockId The id of the block
+   * @throws IOException
+   */
+  public synchronized void asyncCacheBlock(long blockId) throws IOException {
+    mustConnect();
+
+    try {
+      mClient.asyncCacheBlock(blockId);
+    } catch (TException e) {
+      mConnected = false;
+      throw new IOException(e);
+    }
+  }
+
   /**
    * Notify the worker to checkpoint the file asynchronously.
    * 
@@ -142,6 +179,27 @@ public class WorkerClient implements Closeable {
     }
   }
 
+  /**
+   * Notify the worker to write the file to the under file system in the background.
+   * 
+   * @param fid The id of the file
+   * @return true if the worker is writing the file or it is checkpointed, false if the worker has
+   *         no room for it yet
+   * @throws IOException
+   */
+  public synchronized boolean asyncPersistFile(int fid) throws IOException {
+    mustConnect();
+
+    try {
+      return mClient.asyncPersistFile(fid);
+    } catch (TachyonException e) {
+      throw new IOException(e);
+    } catch (TException e) {
+      mConnected = false;
+      throw new IOException(e);
+    }
+  }
+
   /**
    * Notify the worker the block is cached.
    * 
@@ -152,7 +210,7 @@ public class WorkerClient implements Closeable {
     mustConnect();
 
     try {
-      mClient.cacheBlock(mMasterClient.getUserId(), blockId);
+      mClient.cacheBlock(mMasterClient.getCurrentUserId(), blockId);
     } catch (FileDoesNotExistException e) {
       throw new IOException(e);
     } catch (BlockInfoException e) {
@@ -175,7 +233,26 @@ public class WorkerClient implements Closeable {
     mustConnect();
 
     try {
-      mClient.cancelBlock(mMasterClient.getUserId(), blockId);
+      mClient.cancelBlock(mMasterClient.getCurrentUserId(), blockId);
+    } catch (TException e) {
+      mConnected = false;
+      throw new IOException(e);
+    }
+  }
+
+  /**
+   * Check on a file the worker was notified to write to the under file system in the background.
+   * 
+   * @param fid The id of the file
+   * @throws IOException if the worker gave up writing the file, with the error it failed with
+   */
+  public synchronized void checkPersistFile(int fid) throws IOException {
+    mustConnect();
+
+    try {
+      mClient.checkPersistFile(fid);
+    } catch (TachyonException e) {
+      throw new IOException(e.getMessage());
     } catch (TException e) {
       mConnected = false;
       throw new IOException(e);
@@ -207,18 +284,20 @@ public class WorkerClient implements Closeable {
    */
   private synchronized boolean connect() throws IOException {
     if (!mConnected) {
-      NetAddress workerNetAddress = null;
-      try {
-        String localHostName = NetworkUtils.getLocalHostName();
-        LOG.info("Trying to get local worker host : " + localHostName);
-        workerNetAddress = mMasterClient.user_getWorker(false, localHostName);
-        mIsLocal = true;
-      } catch (NoWorkerException e) {
-        LOG.info(e.getMessage());
-        workerNetAddress = null;
-      } catch (UnknownHostException e) {
-        LOG.info(e.getMessage());
-        workerNetAddress = null;
+      NetAddress workerNetAddress = mTargetWorker;
+      if (workerNetAddress == null) {
+        try {
+          String localHostName = NetworkUtils.getLocalHostName();
+          LOG.info("Trying to get local worker host : " + localHostName);
+          workerNetAddress = mMasterClient.user_getWorker(false, localHostName);
+          mIsLocal = true;
+        } catch (NoWorkerException e) {
+          LOG.info(e.getMessage());
+          workerNetAddress = null;
+        } catch (UnknownHostException e) {
+          LOG.info(e.getMessage());
+          workerNetAddress = null;
+        }
       }
 
       if (workerNetAddress == null) {
@@ -240,7 +319,7 @@ public class WorkerClient implements Closeable {
       mClient = new WorkerService.Client(mProtocol);
 
       HeartbeatExecutor heartBeater =
-          new WorkerClientHeartbeatExecutor(this, mMasterClient.getUserId());
+          new WorkerClientHeartbeatExecutor(this, mMasterClient.getCurrentUserId());
       String threadName = "worker-heartbeat-" + mWorkerAddress;
       mHeartbeat =
           mExecutorService.submit(new HeartbeatThread(threadName, heartBeater,
@@ -275,7 +354,7 @@ public class WorkerClient implements Closeable {
     mustConnect();
 
     try {
-      return mClient.getUserUfsTempFolder(mMasterClient.getUserId());
+      return mClient.getUserUfsTempFolder(mMasterClient.getCurrentUserId());
     } catch (TException e) {
       mConnected = false;
       throw new IOException(e);
@@ -304,6 +383,24 @@ public class WorkerClient implements Closeable {
     return mIsLocal;
   }
 
+  /**
+   * Update the latest access time of the blocks on the worker.
+   * 
+   * @param blockIds The ids of the blocks
+   * @throws IOException
+   */
+  public synchronized void accessBlocks(List<Long> blockIds) throws IOException {
+    mustConnect();
+
+    try {
+      mClient.accessBlocks(blockIds);
+    } catch (TException e) {
+      LOG.error("TachyonClient accessBlocks(" + blockIds + ") failed");
+      mConnected = false;
+      throw new IOException(e);
+    }
+  }
+
   /**
    * Lock the block, therefore, the worker will not evict the block from the memory until it is
    * unlocked.
@@ -316,7 +413,7 @@ public class WorkerClient implements Closeable {
     mustConnect();
 
     try {
-      return mClient.lockBlock(blockId, mMasterClient.getUserId());
+      return mClient.lockBlock(blockId, mMasterClient.getCurrentUserId());
     } catch (FileDoesNotExistException e) {
       return null;
     } catch (TException e) {
@@ -325,6 +422,26 @@ public class WorkerClient implements Closeable {
     }
   }
 
+  /**
+   * Lock the blocks the worker has in one call, therefore, the worker will not evict them from the
+   * memory until they are unlocked.
+   * 
+   * @param blockIds The ids of the blocks
+   * @return the paths of the block files locked, by block id. Blocks the worker does not have are
+   *         left out
+   * @throws IOException
+   */
+  public synchronized Map<Long, String> lockBlocks(List<Long> blockIds) throws IOException {
+    mustConnect();
+
+    try {
+      return mClient.lockBlocks(blockIds, mMasterClient.getCurrentUserId());
+    } catch (TException e) {
+      mConnected = false;
+      throw new IOException(e);
+    }
+  }
+
   /**
    * Connect to the worker.
    * 
@@ -371,7 +488,7 @@ public class WorkerClient implements Closeable {
     mustConnect();
 
     try {
-      return mClient.requestBlockLocation(mMasterClient.getUserId(), blockId, initialBytes);
+      return mClient.requestBlockLocation(mMasterClient.getCurrentUserId(), blockId, initialBytes);
     } catch (OutOfSpaceException e) {
       throw new IOException(e);
     } catch (FileAlreadyExistException e) {
@@ -394,7 +511,7 @@ public class WorkerClient implements Closeable {
     mustConnect();
 
     try {
-      return mClient.requestSpace(mMasterClient.getUserId(), blockId, requestBytes);
+      return mClient.requestSpace(mMasterClient.getCurrentUserId(), blockId, requestBytes);
     } catch (OutOfSpaceException e) {
       return false;
     } catch (FileDoesNotExistException e) {
@@ -416,7 +533,24 @@ public class WorkerClient implements Closeable {
     mustConnect();
 
     try {
-      return mClient.unlockBlock(blockId, mMasterClient.getUserId());
+      return mClient.unlockBlock(blockId, mMasterClient.getCurrentUserId());
+    } catch (TException e) {
+      mConnected = false;
+      throw new IOException(e);
+    }
+  }
+
+  /**
+   * Unlock the blocks in one call
+   * 
+   * @param blockIds The ids of the blocks
+   * @throws IOException
+   */
+  public synchronized void unlockBlocks(List<Long> blockIds) throws IOException {
+    mustConnect();
+
+    try {
+      mClient.unlockBlocks(blockIds, mMasterClient.getCurrentUserId());
     } catch (TException e) {
       mConnected = false;
       throw new IOException(e);
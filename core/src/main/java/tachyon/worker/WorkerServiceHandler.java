@@ -16,6 +16,9 @@
 package tachyon.worker;
 
 import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 import org.apache.thrift.TException;
 
@@ -44,6 +47,13 @@ public class WorkerServiceHandler implements WorkerService.Iface {
     mWorkerStorage.accessBlock(blockId);
   }
 
+  @Override
+  public void accessBlocks(List<Long> blockIds) throws TException {
+    for (long blockId : blockIds) {
+      mWorkerStorage.accessBlock(blockId);
+    }
+  }
+
   @Override
   public void addCheckpoint(long userId, int fileId) throws FileDoesNotExistException,
       SuspectedFileSizeException, FailedToCheckpointException, BlockInfoException, TException {
@@ -54,6 +64,11 @@ public class WorkerServiceHandler implements WorkerService.Iface {
     }
   }
 
+  @Override
+  public void asyncCacheBlock(long blockId) throws TException {
+    mWorkerStorage.asyncCacheBlock(blockId);
+  }
+
   @Override
   public boolean asyncCheckpoint(int fileId) throws TachyonException, TException {
     try {
@@ -63,6 +78,15 @@ public class WorkerServiceHandler implements WorkerService.Iface {
     }
   }
 
+  @Override
+  public boolean asyncPersistFile(int fileId) throws TachyonException, TException {
+    try {
+      return mWorkerStorage.asyncPersistFile(fileId);
+    } catch (IOException e) {
+      throw new TachyonException(e.getMessage());
+    }
+  }
+
   @Override
   public void cacheBlock(long userId, long blockId) throws FileDoesNotExistException,
       SuspectedFileSizeException, BlockInfoException, TException {
@@ -78,6 +102,15 @@ public class WorkerServiceHandler implements WorkerService.Iface {
     mWorkerStorage.cancelBlock(userId, blockId);
   }
 
+  @Override
+  public void checkPersistFile(int fileId) throws TachyonException, TException {
+    try {
+      mWorkerStorage.checkPersistFile(fileId);
+    } catch (IOException e) {
+      throw new TachyonException(e.getMessage());
+    }
+  }
+
   @Override
   public String getUserUfsTempFolder(long userId) throws TException {
     return mWorkerStorage.getUserUfsTempFolder(userId);
@@ -93,6 +126,18 @@ public class WorkerServiceHandler implements WorkerService.Iface {
     }
   }
 
+  @Override
+  public Map<Long, String> lockBlocks(List<Long> blockIds, long userId) throws TException {
+    Map<Long, String> paths = new HashMap<Long, String>(blockIds.size());
+    for (long blockId : blockIds) {
+      StorageDir storageDir = mWorkerStorage.lockBlock(blockId, userId);
+      if (storageDir != null) {
+        paths.put(blockId, storageDir.getBlockFilePath(blockId));
+      }
+    }
+    return paths;
+  }
+
   @Override
   public boolean promoteBlock(long blockId) throws TException {
     return mWorkerStorage.promoteBlock(blockId);
@@ -115,6 +160,13 @@ public class WorkerServiceHandler implements WorkerService.Iface {
     return mWorkerStorage.unlockBlock(blockId, userId);
   }
 
+  @Override
+  public void unlockBlocks(List<Long> blockIds, long userId) throws TException {
+    for (long blockId : blockIds) {
+      mWorkerStorage.unlockBlock(blockId, userId);
+    }
+  }
+
   @Override
   public void userHeartbeat(long userId) throws TException {
     mWorkerStorage.userHeartbeat(userId);
@@ -16,9 +16,11 @@
 package tachyon.worker;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.OutputStream;
 import java.net.InetSocketAddress;
 import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -32,7 +34,9 @@ import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -50,8 +54,10 @@ import tachyon.UnderFileSystem;
 import tachyon.Users;
 import tachyon.conf.CommonConf;
 import tachyon.conf.WorkerConf;
+import tachyon.master.BlockInfo;
 import tachyon.master.MasterClient;
 import tachyon.thrift.BlockInfoException;
+import tachyon.thrift.ClientBlockInfo;
 import tachyon.thrift.ClientFileInfo;
 import tachyon.thrift.Command;
 import tachyon.thrift.FailedToCheckpointException;
@@ -64,6 +70,7 @@ import tachyon.util.CommonUtils;
 import tachyon.util.ThreadFactoryUtils;
 import tachyon.worker.hierarchy.StorageDir;
 import tachyon.worker.hierarchy.StorageTier;
+import tachyon.worker.nio.DataServerMessage;
 
 /**
  * The structure to store a worker's information in worker node.
@@ -262,8 +269,105 @@ public class WorkerStorage {
     }
   }
 
+  /**
+   * Caches a block in the background, see {@link WorkerStorage#asyncCacheBlock(long)}.
+   */
+  private class RecacheTask implements Runnable {
+    private final long mBlockId;
+
+    RecacheTask(long blockId) {
+      mBlockId = blockId;
+    }
+
+    @Override
+    public void run() {
+      try {
+        if (getStorageDirByBlockId(mBlockId) == null) {
+          recacheBlock(mBlockId);
+        }
+      } catch (IOException e) {
+        LOG.warn("Failed to cache block " + mBlockId + " in the background", e);
+      } finally {
+        mRecachingBlockIds.remove(mBlockId);
+      }
+    }
+  }
+
+  /**
+   * Writes a file to the under file system in the background, see
+   * {@link WorkerStorage#asyncPersistFile(int)}.
+   */
+  private class PersistTask implements Runnable {
+    private final int mFileId;
+    private final long mLength;
+
+    PersistTask(int fileId, long length) {
+      mFileId = fileId;
+      mLength = length;
+    }
+
+    @Override
+    public void run() {
+      String failure = "The worker stopped writing the file";
+      try {
+        long backoffMs = PERSIST_RETRY_BACKOFF_MS;
+        for (int attempt = 1; !mPersistExecutor.isShutdown(); attempt ++) {
+          try {
+            persistFile(mFileId);
+            failure = null;
+            return;
+          } catch (IOException e) {
+            failure = e.getMessage();
+            if (attempt >= PERSIST_ATTEMPTS) {
+              LOG.error("Failed to write file " + mFileId + " to the under file system", e);
+              return;
+            }
+            LOG.warn("Failed to write file " + mFileId + " to the under file system, retrying in "
+                + backoffMs + " ms", e);
+          }
+          CommonUtils.sleepMs(LOG, backoffMs);
+          backoffMs *= 2;
+        }
+      } finally {
+        finishPersist(mFileId, mLength, failure);
+      }
+    }
+  }
+
+  /**
+   * Evicts blocks in the background to keep free space in the top StorageTier, see
+   * {@link WorkerStorage#evictAhead()}.
+   */
+  private class EvictAheadTask implements Runnable {
+    @Override
+    public void run() {
+      List<Long> removedBlockIds = new ArrayList<Long>();
+      try {
+        mStorageTiers.get(0).freeSpace(WorkerConf.get().EVICT_HEADROOM_BYTES, getPinList(),
+            removedBlockIds);
+      } catch (IOException e) {
+        LOG.warn("Failed to evict blocks ahead of space requests", e);
+      } finally {
+        if (removedBlockIds.size() > 0) {
+          mRemovedBlockIdList.addAll(removedBlockIds);
+        }
+        mEvictingAhead.set(false);
+      }
+    }
+  }
+
   private static final Logger LOG = LoggerFactory.getLogger(Constants.LOGGER_TYPE);
 
+  /** The number of times the worker tries to write a file behind before it gives up */
+  private static final int PERSIST_ATTEMPTS = 3;
+  /** How long the worker waits before it writes a file behind again, doubled every retry */
+  private static final long PERSIST_RETRY_BACKOFF_MS = Constants.SECOND_MS;
+  /** How often the worker checks whether a block cached in the background has arrived */
+  private static final long RECACHE_POLL_MS = 10;
+
+  /** The number of bytes of a block the worker fetches at a time when it caches the block */
+  private static final int RECACHE_CHUNK_BYTES = 4 * Constants.MB;
+
   private final CommonConf mCommonConf;
   private volatile MasterClient mMasterClient;
   private final InetSocketAddress mMasterAddress;
@@ -292,6 +396,25 @@ public class WorkerStorage {
       WorkerConf.get().WORKER_CHECKPOINT_THREADS,
       ThreadFactoryUtils.build("checkpoint-%d"));
 
+  private final ExecutorService mRecacheExecutor = Executors.newFixedThreadPool(
+      WorkerConf.get().WORKER_RECACHE_THREADS, ThreadFactoryUtils.build("recache-%d"));
+  /** Ids of the blocks being cached in the background, so that each is fetched only once */
+  private final Set<Long> mRecachingBlockIds = Collections.synchronizedSet(new HashSet<Long>());
+
+  private final ExecutorService mPersistExecutor = Executors.newFixedThreadPool(
+      WorkerConf.get().WORKER_WRITE_BEHIND_THREADS, ThreadFactoryUtils.build("persist-%d"));
+  /** Ids of the files being written to the under file system in the background */
+  private final Set<Integer> mPersistingFileIds = new HashSet<Integer>();
+  /** The total length of those files, guarded by mPersistingFileIds */
+  private long mPersistingBytes = 0;
+  /** The errors the files failed to be written with, guarded by mPersistingFileIds */
+  private final Map<Integer, String> mPersistFailures = new HashMap<Integer, String>();
+
+  private final ExecutorService mEvictExecutor =
+      Executors.newSingleThreadExecutor(ThreadFactoryUtils.build("evict-%d"));
+  /** Whether an EvictAheadTask is submitted and not finished, so that one runs at a time */
+  private final AtomicBoolean mEvictingAhead = new AtomicBoolean(false);
+
   private final ExecutorService mExecutorService;
   private long mCapacityBytes;
   private ArrayList<StorageTier> mStorageTiers;
@@ -300,6 +423,9 @@ public class WorkerStorage {
   /** Mapping from temporary block Information to StorageDir in which the block is */
   private final Map<Pair<Long, Long>, StorageDir> mTempBlockLocation = Collections
       .synchronizedMap(new HashMap<Pair<Long, Long>, StorageDir>());
+  /** The open files of the temporary blocks written through the data server, guarded by itself */
+  private final Map<Pair<Long, Long>, BlockHandler> mTempBlockHandlers =
+      new HashMap<Pair<Long, Long>, BlockHandler>();
   /** Mapping from user id to ids of temporary blocks which are being written by the user */
   private final Multimap<Long, Long> mUserIdToTempBlockIds = Multimaps
       .synchronizedMultimap(HashMultimap.<Long, Long>create());
@@ -435,6 +561,25 @@ public class WorkerStorage {
     }
   }
 
+  /**
+   * Cache the block in the background, because a user stopped re-caching it partway. The worker
+   * reads the block from another worker that has it, and what is left of it from the under file
+   * system. Nothing is done if the worker already has the block or is caching it.
+   * 
+   * @param blockId The id of the block
+   */
+  public void asyncCacheBlock(long blockId) {
+    if (getStorageDirByBlockId(blockId) != null || !mRecachingBlockIds.add(blockId)) {
+      return;
+    }
+    try {
+      mRecacheExecutor.submit(new RecacheTask(blockId));
+    } catch (RejectedExecutionException e) {
+      // The worker is stopping
+      mRecachingBlockIds.remove(blockId);
+    }
+  }
+
   /**
    * Notify the worker to checkpoint the file asynchronously.
    * 
@@ -459,6 +604,46 @@ public class WorkerStorage {
     return false;
   }
 
+  /**
+   * Write a complete file that is cached but not checkpointed to the under file system in the
+   * background, and report the checkpoint to the master when done. The files being written take at
+   * most <code>tachyon.worker.write.behind.max.bytes</code>, unless a single file is larger.
+   * 
+   * @param fileId The id of the file
+   * @return false if the files being written leave no room for this one, true if the file is being
+   *         written or already is checkpointed
+   * @throws IOException
+   */
+  public boolean asyncPersistFile(int fileId) throws IOException {
+    ClientFileInfo fileInfo = mMasterClient.getFileStatus(fileId, "");
+    if (fileInfo.getUfsPath() != null && !fileInfo.getUfsPath().isEmpty()) {
+      return true;
+    }
+    if (!fileInfo.isComplete) {
+      throw new IOException("File " + fileId + " is not complete");
+    }
+
+    synchronized (mPersistingFileIds) {
+      if (mPersistingFileIds.contains(fileId)) {
+        return true;
+      }
+      if (mPersistingBytes > 0
+          && mPersistingBytes + fileInfo.length > WorkerConf.get().WORKER_WRITE_BEHIND_MAX_BYTES) {
+        return false;
+      }
+      mPersistingFileIds.add(fileId);
+      mPersistingBytes += fileInfo.length;
+      mPersistFailures.remove(fileId);
+    }
+    try {
+      mPersistExecutor.submit(new PersistTask(fileId, fileInfo.length));
+    } catch (RejectedExecutionException e) {
+      finishPersist(fileId, fileInfo.length, null);
+      throw new IOException("The worker is stopping", e);
+    }
+    return true;
+  }
+
   /**
    * Notify the worker the block is cached.
    * 
@@ -482,6 +667,7 @@ public class WorkerStorage {
   public void cacheBlock(long userId, long blockId)
       throws FileDoesNotExistException, SuspectedFileSizeException, BlockInfoException,
       IOException {
+    closeTempBlockHandler(userId, blockId);
     StorageDir storageDir = mTempBlockLocation.remove(new Pair<Long, Long>(userId, blockId));
     if (storageDir == null) {
       throw new FileDoesNotExistException("Block doesn't exist! blockId:" + blockId);
@@ -507,6 +693,7 @@ public class WorkerStorage {
    * @param blockId The id of the block that is cancelled
    */
   public void cancelBlock(long userId, long blockId) {
+    closeTempBlockHandler(userId, blockId);
     StorageDir storageDir = mTempBlockLocation.remove(new Pair<Long, Long>(userId, blockId));
     
     if (storageDir != null) {
@@ -519,6 +706,22 @@ public class WorkerStorage {
     }
   }
 
+  /**
+   * Check on a file written behind with {@link #asyncPersistFile(int)}.
+   * 
+   * @param fileId The id of the file
+   * @throws IOException if the worker gave up writing the file, with the error it failed with
+   */
+  public void checkPersistFile(int fileId) throws IOException {
+    synchronized (mPersistingFileIds) {
+      String failure = mPersistFailures.get(fileId);
+      if (failure != null) {
+        throw new IOException("Failed to write file " + fileId + " to the under file system: "
+            + failure);
+      }
+    }
+  }
+
   /**
    * Check worker's status. This should be executed periodically.
    * <p>
@@ -530,6 +733,7 @@ public class WorkerStorage {
     for (long userId : removedUsers) {
       Collection<Long> tempBlockIdList = mUserIdToTempBlockIds.removeAll(userId);
       for (Long blockId : tempBlockIdList) {
+        closeTempBlockHandler(userId, blockId);
         mTempBlockLocation.remove(new Pair<Long, Long>(userId, blockId));
       }
       for (StorageTier storageTier : mStorageTiers) {
@@ -541,6 +745,67 @@ public class WorkerStorage {
     }
   }
 
+  /**
+   * Close the file of a temporary block written through the data server, if it is open.
+   * 
+   * @param userId The id of the user who writes the block
+   * @param blockId The id of the block
+   */
+  private void closeTempBlockHandler(long userId, long blockId) {
+    BlockHandler blockHandler;
+    synchronized (mTempBlockHandlers) {
+      blockHandler = mTempBlockHandlers.remove(new Pair<Long, Long>(userId, blockId));
+    }
+    if (blockHandler != null) {
+      try {
+        blockHandler.close();
+      } catch (IOException e) {
+        LOG.warn("Failed to close the file of block " + blockId + " of user " + userId, e);
+      }
+    }
+  }
+
+  /**
+   * Evict blocks in the background when some StorageDir of the top StorageTier has less than
+   * <code>tachyon.worker.evict.headroom.bytes</code> free, so that later space requests find free
+   * space rather than evict blocks while the writers wait.
+   */
+  private void evictAhead() {
+    long headroomBytes = WorkerConf.get().EVICT_HEADROOM_BYTES;
+    if (headroomBytes <= 0) {
+      return;
+    }
+    for (StorageDir dir : mStorageTiers.get(0).getStorageDirs()) {
+      if (dir.getAvailableBytes() < Math.min(headroomBytes, dir.getCapacityBytes())) {
+        if (mEvictingAhead.compareAndSet(false, true)) {
+          try {
+            mEvictExecutor.submit(new EvictAheadTask());
+          } catch (RejectedExecutionException e) {
+            mEvictingAhead.set(false);
+          }
+        }
+        return;
+      }
+    }
+  }
+
+  /**
+   * Record that the worker is done writing a file behind.
+   * 
+   * @param fileId The id of the file
+   * @param length The length of the file
+   * @param failure The error the file failed to be written with, or null if it was written
+   */
+  private void finishPersist(int fileId, long length, String failure) {
+    synchronized (mPersistingFileIds) {
+      mPersistingFileIds.remove(fileId);
+      mPersistingBytes -= length;
+      if (failure != null) {
+        mPersistFailures.put(fileId, failure);
+      }
+    }
+  }
+
   /**
    * Remove a block from Tachyon cache space.
    * 
@@ -575,6 +840,18 @@ public class WorkerStorage {
     }
   }
 
+  /**
+   * @return the ids of the pinned files, or an empty set if the master can not be reached
+   */
+  private Set<Integer> getPinList() {
+    try {
+      return mMasterClient.worker_getPinIdList();
+    } catch (IOException e) {
+      LOG.error(e.getMessage());
+      return new HashSet<Integer>();
+    }
+  }
+
   /**
    * Get StorageDir which contains specified block
    * 
@@ -696,6 +973,37 @@ public class WorkerStorage {
     }
   }
 
+  /**
+   * Lock a block of this worker, caching it first if the worker does not have it. When the block
+   * is being cached in the background already, this waits for that instead.
+   * 
+   * @param blockId The id of the block
+   * @param userId The id of the user who locks the block
+   * @return the StorageDir in which the block is locked
+   * @throws IOException if the block can not be cached
+   */
+  private StorageDir lockLocalBlock(long blockId, long userId) throws IOException {
+    for (int attempt = 0; attempt < PERSIST_ATTEMPTS; attempt ++) {
+      while (getStorageDirByBlockId(blockId) == null) {
+        if (mRecachingBlockIds.add(blockId)) {
+          try {
+            recacheBlock(blockId);
+          } finally {
+            mRecachingBlockIds.remove(blockId);
+          }
+        } else {
+          CommonUtils.sleepMs(LOG, RECACHE_POLL_MS);
+        }
+      }
+      StorageDir storageDir = lockBlock(blockId, userId);
+      if (storageDir != null) {
+        return storageDir;
+      }
+      // The block was evicted before it could be locked
+    }
+    throw new IOException("Block doesn't exist! blockId:" + blockId);
+  }
+
   /**
    * Lock the block by some user
    * 
@@ -762,6 +1070,208 @@ public class WorkerStorage {
     }
   }
 
+  /**
+   * Write the file to the under file system from the memory of this worker, and report the
+   * checkpoint to the master. Blocks of the file this worker does not have are cached first, from
+   * the workers that have them.
+   * 
+   * @param fileId The id of the file
+   * @throws IOException
+   */
+  private void persistFile(int fileId) throws IOException {
+    ClientFileInfo fileInfo = mMasterClient.getFileStatus(fileId, "");
+    String midPath = CommonUtils.concat(mUfsWorkerDataFolder, fileId);
+    String dstPath = CommonUtils.concat(mCommonConf.UNDERFS_DATA_FOLDER, fileId);
+    UnderFileSystem ufs = UnderFileSystem.get(midPath);
+    boolean renamed = false;
+    try {
+      OutputStream os = ufs.create(midPath, (int) fileInfo.getBlockSizeByte());
+      try {
+        byte[] buf = new byte[Constants.KB * 64];
+        for (long blockId : fileInfo.getBlockIds()) {
+          StorageDir storageDir = lockLocalBlock(blockId, Users.CHECKPOINT_USER_ID);
+          try {
+            ByteBuffer data = storageDir.getBlockData(blockId, 0, -1);
+            while (data.remaining() > 0) {
+              int writeLen = Math.min(buf.length, data.remaining());
+              data.get(buf, 0, writeLen);
+              os.write(buf, 0, writeLen);
+            }
+            CommonUtils.cleanDirectBuffer(data);
+          } finally {
+            storageDir.unlockBlock(blockId, Users.CHECKPOINT_USER_ID);
+          }
+        }
+      } finally {
+        os.close();
+      }
+      if (ufs.exists(dstPath)) {
+        // Left by an earlier attempt that failed to report the checkpoint
+        ufs.delete(dstPath, false);
+      }
+      if (!ufs.rename(midPath, dstPath)) {
+        throw new IOException("Failed to rename " + midPath + " to " + dstPath);
+      }
+      renamed = true;
+      mMasterClient.addCheckpoint(mWorkerId, fileId, fileInfo.length, dstPath);
+    } catch (IOException e) {
+      String partialPath = renamed ? dstPath : midPath;
+      try {
+        if (ufs.exists(partialPath)) {
+          ufs.delete(partialPath, false);
+        }
+      } catch (IOException de) {
+        LOG.warn("Failed to delete " + partialPath, de);
+      }
+      throw e;
+    }
+    LOG.info("Wrote file {} to {} in the background", fileId, dstPath);
+  }
+
+  /**
+   * Read the block from <code>offset</code> to its end from the under file system into the block
+   * file.
+   * 
+   * @param blockInfo The info of the block
+   * @param offset The offset in the block to start from
+   * @param blockHandler The handler of the block file
+   * @throws IOException
+   */
+  private void readBlockFromUnderFs(ClientBlockInfo blockInfo, long offset,
+      BlockHandler blockHandler) throws IOException {
+    ClientFileInfo fileInfo =
+        mMasterClient.getFileStatus(BlockInfo.computeInodeId(blockInfo.blockId), "");
+    String ufsPath = fileInfo.getUfsPath();
+    if (ufsPath == null || ufsPath.isEmpty()) {
+      throw new IOException("No copy of block " + blockInfo.blockId + " to cache from");
+    }
+    InputStream is = UnderFileSystem.get(ufsPath).open(ufsPath);
+    try {
+      long toSkip = blockInfo.offset + offset;
+      while (toSkip > 0) {
+        long skipped = is.skip(toSkip);
+        if (skipped <= 0) {
+          throw new IOException("Failed to skip to block " + blockInfo.blockId + " in " + ufsPath);
+        }
+        toSkip -= skipped;
+      }
+      byte[] buf = new byte[Constants.KB * 64];
+      while (offset < blockInfo.length) {
+        int read = is.read(buf, 0, (int) Math.min(buf.length, blockInfo.length - offset));
+        if (read <= 0) {
+          throw new IOException("Unexpected end of " + ufsPath + " in block " + blockInfo.blockId);
+        }
+        offset += blockHandler.append(offset, buf, 0, read);
+      }
+    } finally {
+      is.close();
+    }
+  }
+
+  /**
+   * Read the block from <code>offset</code> on from the data server of another worker into the
+   * block file, a chunk at a time.
+   * 
+   * @param address The address of the data server
+   * @param blockInfo The info of the block
+   * @param offset The offset in the block to start from
+   * @param blockHandler The handler of the block file
+   * @return The offset in the block the worker read up to, which is the length of the block unless
+   *         the other worker no longer has the block
+   * @throws IOException
+   */
+  private long readBlockFromWorker(InetSocketAddress address, ClientBlockInfo blockInfo,
+      long offset, BlockHandler blockHandler) throws IOException {
+    SocketChannel socketChannel = SocketChannel.open(address);
+    try {
+      while (offset < blockInfo.length) {
+        long length = Math.min(RECACHE_CHUNK_BYTES, blockInfo.length - offset);
+        DataServerMessage sendMsg =
+            DataServerMessage.createBlockRequestMessage(blockInfo.blockId, offset, length);
+        while (!sendMsg.finishSending()) {
+          sendMsg.send(socketChannel);
+        }
+        DataServerMessage recvMsg =
+            DataServerMessage.createBlockResponseMessage(false, blockInfo.blockId, null);
+        while (!recvMsg.isMessageReady()) {
+          if (recvMsg.recv(socketChannel) == -1) {
+            throw new IOException("Connection to " + address + " closed");
+          }
+        }
+        if (recvMsg.getBlockId() < 0) {
+          break;
+        }
+        offset += blockHandler.append(offset, recvMsg.getReadOnlyData());
+      }
+    } finally {
+      socketChannel.close();
+    }
+    return offset;
+  }
+
+  /**
+   * Cache the block on this worker. The block is written as a temporary block of
+   * {@link Users#RECACHE_USER_ID}, filled from the other workers that have it and the under file
+   * system, then cached as a user's block would be.
+   * 
+   * @param blockId The id of the block
+   * @throws IOException
+   */
+  private void recacheBlock(long blockId) throws IOException {
+    final long userId = Users.RECACHE_USER_ID;
+    ClientBlockInfo blockInfo = mMasterClient.user_getClientBlockInfo(blockId);
+    String blockPath;
+    try {
+      blockPath = requestBlockLocation(userId, blockId, blockInfo.length);
+    } catch (OutOfSpaceException e) {
+      throw new IOException(e);
+    } catch (FileAlreadyExistException e) {
+      throw new IOException(e);
+    }
+
+    boolean cached = false;
+    try {
+      StorageDir storageDir = mTempBlockLocation.get(new Pair<Long, Long>(userId, blockId));
+      storageDir.getUfs().mkdirs(storageDir.getUserTempPath(userId), true);
+      BlockHandler blockHandler = BlockHandler.get(blockPath);
+      try {
+        long offset = 0;
+        for (NetAddress location : blockInfo.getLocations()) {
+          if (offset == blockInfo.length) {
+            break;
+          } else if (location.mSecondaryPort == -1 || location.equals(mWorkerAddress)) {
+            continue;
+          }
+          InetSocketAddress address =
+              new InetSocketAddress(location.mHost, location.mSecondaryPort);
+          try {
+            offset = readBlockFromWorker(address, blockInfo, offset, blockHandler);
+          } catch (IOException e) {
+            LOG.warn("Failed to read block " + blockId + " from " + address, e);
+          }
+        }
+        if (offset < blockInfo.length) {
+          readBlockFromUnderFs(blockInfo, offset, blockHandler);
+        }
+      } finally {
+        blockHandler.close();
+      }
+      cacheBlock(userId, blockId);
+      cached = true;
+      LOG.info("Cached block {} in the background", blockId);
+    } catch (FileDoesNotExistException e) {
+      throw new IOException(e);
+    } catch (SuspectedFileSizeException e) {
+      throw new IOException(e);
+    } catch (BlockInfoException e) {
+      throw new IOException(e);
+    } finally {
+      if (!cached) {
+        cancelBlock(userId, blockId);
+      }
+    }
+  }
+
   /**
    * Register this TachyonWorker to the TachyonMaster
    */
@@ -833,15 +1343,7 @@ public class WorkerStorage {
    * @return StorageDir assigned, null if failed
    */
   private StorageDir requestSpace(StorageDir dirCandidate, long userId, long requestBytes) {
-    Set<Integer> pinList;
-
-    try {
-      pinList = mMasterClient.worker_getPinIdList();
-    } catch (IOException e) {
-      LOG.error(e.getMessage());
-      pinList = new HashSet<Integer>();
-    }
-
+    Set<Integer> pinList = getPinList();
     StorageDir dir = null;
     List<Long> removedBlockIds = new ArrayList<Long>();
     try {
@@ -861,6 +1363,7 @@ public class WorkerStorage {
         mRemovedBlockIdList.addAll(removedBlockIds);
       }
     }
+    evictAhead();
 
     return dir;
   }
@@ -906,8 +1409,14 @@ public class WorkerStorage {
     // this will make sure that we don't move on till checkpoint threads are cleaned up
     // needed or tests can get resource issues
     mCheckpointExecutor.shutdownNow();
+    mRecacheExecutor.shutdownNow();
+    mPersistExecutor.shutdownNow();
+    mEvictExecutor.shutdownNow();
     try {
       mCheckpointExecutor.awaitTermination(5, TimeUnit.SECONDS);
+      mRecacheExecutor.awaitTermination(5, TimeUnit.SECONDS);
+      mPersistExecutor.awaitTermination(5, TimeUnit.SECONDS);
+      mEvictExecutor.awaitTermination(5, TimeUnit.SECONDS);
     } catch (InterruptedException e) {
       // didn't stop in time, this is a bug!
       throw Throwables.propagate(e);
@@ -969,4 +1478,37 @@ public class WorkerStorage {
   public void userHeartbeat(long userId) {
     mUsers.userHeartbeat(userId);
   }
+
+  /**
+   * Write data into a block that the user is writing through the data server. The block must have
+   * been given a location by {@link #requestBlockLocation(long, long, long)}, and the user must
+   * have requested the space for the data. The file of the block stays open until the block is
+   * cached or canceled.
+   * 
+   * @param userId The id of the user who writes the block
+   * @param blockId The id of the block
+   * @param offset The offset in the block to write the data at
+   * @param data The data to write
+   * @throws FileDoesNotExistException if the user is not writing the block
+   * @throws IOException
+   */
+  public void writeTempBlock(long userId, long blockId, long offset, ByteBuffer data)
+      throws FileDoesNotExistException, IOException {
+    Pair<Long, Long> tempBlock = new Pair<Long, Long>(userId, blockId);
+    StorageDir storageDir = mTempBlockLocation.get(tempBlock);
+    if (storageDir == null) {
+      throw new FileDoesNotExistException("Temporary block file doesn't exist! blockId:" + blockId);
+    }
+    BlockHandler blockHandler;
+    synchronized (mTempBlockHandlers) {
+      blockHandler = mTempBlockHandlers.get(tempBlock);
+      if (blockHandler == null) {
+        // The first write of the block need not be at offset 0
+        storageDir.getUfs().mkdirs(storageDir.getUserTempPath(userId), true);
+        blockHandler = BlockHandler.get(storageDir.getUserTempFilePath(userId, blockId));
+        mTempBlockHandlers.put(tempBlock, blockHandler);
+      }
+    }
+    blockHandler.append(offset, data);
+  }
 }
@@ -202,6 +202,61 @@ public class StorageTier {
     }
   }
 
+  /**
+   * Evict blocks from StorageDirs, deleting them if current StorageTier is the last tier, and
+   * moving them to the successor StorageTier otherwise. Blocks locked since they were chosen are
+   * skipped.
+   * 
+   * @param blocksInfoList information of the blocks to evict
+   * @param pinList list of pinned files
+   * @param removedBlockIds list of blocks which are removed from Tachyon
+   * @throws IOException
+   */
+  private void evictBlocks(List<BlockInfo> blocksInfoList, Set<Integer> pinList,
+      List<Long> removedBlockIds) throws IOException {
+    for (BlockInfo blockInfo : blocksInfoList) {
+      StorageDir dir = blockInfo.getStorageDir();
+      if (!dir.isBlockLocked(blockInfo.getBlockId())) { // pinList is not updated
+        long blockId = blockInfo.getBlockId();
+        if (isLastTier()) {
+          dir.deleteBlock(blockId);
+          removedBlockIds.add(blockId);
+        } else {
+          StorageDir dstDir =
+              mNextTier.requestSpace(Users.MIGRATE_DATA_USER_ID, blockInfo.getSize(), pinList,
+                  removedBlockIds);
+          dir.moveBlock(blockId, dstDir);
+        }
+        LOG.debug("Evicted block Id:{}" + blockId);
+      }
+    }
+  }
+
+  /**
+   * Evict blocks from the StorageDirs that have less than <code>freeBytes</code> of free space, so
+   * that each has that much free if enough of its blocks can be evicted. Keeping free space ahead
+   * of the requests means they seldom have to wait for an eviction.
+   * 
+   * @param freeBytes the free space to keep in each StorageDir, in bytes; a StorageDir smaller
+   *        than that is kept empty
+   * @param pinList list of pinned files
+   * @param removedBlockIds list of blocks which are removed from Tachyon
+   * @throws IOException
+   */
+  public synchronized void freeSpace(long freeBytes, Set<Integer> pinList,
+      List<Long> removedBlockIds) throws IOException {
+    for (StorageDir dir : mDirs) {
+      long targetBytes = Math.min(freeBytes, dir.getCapacityBytes());
+      if (dir.getAvailableBytes() < targetBytes) {
+        Pair<StorageDir, List<BlockInfo>> evictInfo =
+            mBlockEvictor.getDirCandidate(new StorageDir[] {dir}, pinList, targetBytes);
+        if (evictInfo != null) {
+          evictBlocks(evictInfo.getSecond(), pinList, removedBlockIds);
+        }
+      }
+    }
+  }
+
   /**
    * Check whether the StorageTier is the last tier
    * 
@@ -274,23 +329,7 @@ public class StorageTier {
           return null;
         }
         dirSelected = evictInfo.getFirst();
-        List<BlockInfo> blocksInfoList = evictInfo.getSecond();
-        for (BlockInfo blockInfo : blocksInfoList) {
-          StorageDir dir = blockInfo.getStorageDir();
-          if (!dir.isBlockLocked(blockInfo.getBlockId())) { // pinList is not updated
-            long blockId = blockInfo.getBlockId();
-            if (isLastTier()) {
-              dir.deleteBlock(blockId);
-              removedBlockIds.add(blockId);
-            } else {
-              StorageDir dstDir =
-                  mNextTier.requestSpace(Users.MIGRATE_DATA_USER_ID, blockInfo.getSize(), pinList,
-                      removedBlockIds);
-              dir.moveBlock(blockId, dstDir);
-            }
-            LOG.debug("Evicted block Id:{}" + blockId);
-          }
-        }
+        evictBlocks(evictInfo.getSecond(), pinList, removedBlockIds);
         if (dirSelected.requestSpace(userId, requestSizeBytes)) {
           return dirSelected;
         } else {
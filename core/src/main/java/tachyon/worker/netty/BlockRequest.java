@@ -24,43 +24,110 @@ import io.netty.handler.codec.ByteToMessageDecoder;
 import com.google.common.primitives.Longs;
 import com.google.common.primitives.Shorts;
 
+import tachyon.worker.nio.DataServerMessage;
+
 /**
  * Request from the client for a given block. To go from netty to this object,
  * {@link tachyon.worker.netty.BlockRequest.Decoder} is used.
  */
 public final class BlockRequest {
   /**
-   * Creates a new {@link tachyon.worker.netty.BlockRequest} from the user's request.
+   * Creates a new {@link tachyon.worker.netty.BlockRequest} from the user's request. A multi-range
+   * request becomes one {@link tachyon.worker.netty.BlockRequest} per range, all with the request
+   * id of the multi-range request, so its ranges are answered in order like single requests. A
+   * write request becomes a {@link tachyon.worker.netty.BlockWriteRequest}.
    */
   public static final class Decoder extends ByteToMessageDecoder {
-    private static final int MESSAGE_LENGTH = Shorts.BYTES + Longs.BYTES * 3;
+    private static final int MESSAGE_LENGTH = Shorts.BYTES + Longs.BYTES * 4;
 
     @Override
     protected void decode(final ChannelHandlerContext ctx, final ByteBuf in, final List<Object> out)
         throws Exception {
+      if (in.readableBytes() < Shorts.BYTES) {
+        return;
+      }
+      short type = in.getShort(in.readerIndex());
+      if (type == DataServerMessage.DATA_SERVER_MULTI_REQUEST_MESSAGE) {
+        decodeMultiRequest(in, out);
+        return;
+      } else if (type == DataServerMessage.DATA_SERVER_WRITE_REQUEST_MESSAGE) {
+        decodeWriteRequest(in, out);
+        return;
+      }
+
       if (in.readableBytes() < MESSAGE_LENGTH) {
         return;
       }
 
-      // read the type and ignore it. Currently only one type exists
-      in.readShort(); // == DataServerMessage.DATA_SERVER_REQUEST_MESSAGE;
+      // read the type and ignore it. == DataServerMessage.DATA_SERVER_REQUEST_MESSAGE
+      in.readShort();
+      long requestId = in.readLong();
       long blockId = in.readLong();
       long offset = in.readLong();
       long length = in.readLong();
 
-      out.add(new BlockRequest(blockId, offset, length));
+      // The connection stays open, so the next request is decoded by the following call.
+      out.add(new BlockRequest(requestId, blockId, offset, length));
+    }
+
+    private void decodeMultiRequest(final ByteBuf in, final List<Object> out) {
+      if (in.readableBytes() < DataServerMessage.MULTI_REQUEST_HEADER_LENGTH) {
+        return;
+      }
+      int ranges = in.getInt(in.readerIndex() + Shorts.BYTES + Longs.BYTES);
+      if (ranges < 0 || ranges > DataServerMessage.MAX_MULTI_REQUEST_RANGES) {
+        throw new IllegalArgumentException("Invalid number of ranges in a request: " + ranges);
+      }
+      if (in.readableBytes() < DataServerMessage.MULTI_REQUEST_HEADER_LENGTH
+          + DataServerMessage.MULTI_REQUEST_RANGE_LENGTH * ranges) {
+        return;
+      }
 
-      // remove this from the pipeline so it won't be called again for this connection
-      ctx.channel().pipeline().remove(this);
+      in.readShort();
+      long requestId = in.readLong();
+      in.readInt();
+      for (int k = 0; k < ranges; k ++) {
+        long blockId = in.readLong();
+        long offset = in.readLong();
+        long length = in.readLong();
+        out.add(new BlockRequest(requestId, blockId, offset, length));
+      }
+    }
+
+    private void decodeWriteRequest(final ByteBuf in, final List<Object> out) {
+      if (in.readableBytes() < DataServerMessage.WRITE_REQUEST_HEADER_LENGTH) {
+        return;
+      }
+      long length =
+          in.getLong(in.readerIndex() + DataServerMessage.WRITE_REQUEST_HEADER_LENGTH
+              - Longs.BYTES);
+      if (length < 0 || length > DataServerMessage.MAX_WRITE_REQUEST_LENGTH) {
+        throw new IllegalArgumentException("Invalid length of a write request: " + length);
+      }
+      if (in.readableBytes() < DataServerMessage.WRITE_REQUEST_HEADER_LENGTH + length) {
+        return;
+      }
+
+      in.readShort();
+      long requestId = in.readLong();
+      long userId = in.readLong();
+      long blockId = in.readLong();
+      long offset = in.readLong();
+      in.readLong();
+      // The data is released by the handler once it is written
+      ByteBuf data = in.readSlice((int) length).retain();
+      out.add(new BlockWriteRequest(requestId, userId, blockId, offset, data));
     }
   }
 
+  private final long mRequestId;
   private final long mBlockId;
   private final long mOffset;
 
   private final long mLength;
 
-  public BlockRequest(long blockId, long offset, long length) {
+  public BlockRequest(long requestId, long blockId, long offset, long length) {
+    mRequestId = requestId;
     mBlockId = blockId;
     mOffset = offset;
     mLength = length;
@@ -77,4 +144,8 @@ public final class BlockRequest {
   public long getOffset() {
     return mOffset;
   }
+
+  public long getRequestId() {
+    return mRequestId;
+  }
 }
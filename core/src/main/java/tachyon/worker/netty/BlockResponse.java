@@ -33,7 +33,8 @@ import tachyon.worker.BlockHandler;
 import tachyon.worker.nio.DataServerMessage;
 
 /**
- * When a user sends a {@link tachyon.worker.netty.BlockRequest}, the response back is of this type.
+ * When a user sends a {@link tachyon.worker.netty.BlockRequest} or a
+ * {@link tachyon.worker.netty.BlockWriteRequest}, the response back is of this type.
  * <p />
  * To serialize the response to network, {@link tachyon.worker.netty.BlockResponse.Encoder} is used.
  */
@@ -42,11 +43,12 @@ public final class BlockResponse {
    * Encodes a {@link tachyon.worker.netty.BlockResponse} to network.
    */
   public static final class Encoder extends MessageToMessageEncoder<BlockResponse> {
-    private static final int MESSAGE_LENGTH = Shorts.BYTES + Longs.BYTES * 3;
+    private static final int MESSAGE_LENGTH = Shorts.BYTES + Longs.BYTES * 4;
 
     private ByteBuf createHeader(final ChannelHandlerContext ctx, final BlockResponse msg) {
       ByteBuf header = ctx.alloc().buffer(MESSAGE_LENGTH);
       header.writeShort(DataServerMessage.DATA_SERVER_RESPONSE_MESSAGE);
+      header.writeLong(msg.getRequestId());
       header.writeLong(msg.getBlockId());
       header.writeLong(msg.getOffset());
       header.writeLong(msg.getLength());
@@ -84,12 +86,29 @@ public final class BlockResponse {
 
   /**
    * Creates a {@link tachyon.worker.netty.BlockResponse} that represents a error case for the given
-   * block.
+   * request.
    */
-  public static BlockResponse createErrorResponse(final long blockId) {
-    return new BlockResponse(-blockId, 0, 0, null);
+  public static BlockResponse createErrorResponse(final BlockRequest req) {
+    return new BlockResponse(req.getRequestId(), -req.getBlockId(), 0, 0, null);
   }
 
+  /**
+   * Creates a {@link tachyon.worker.netty.BlockResponse} that represents a error case for the given
+   * write request.
+   */
+  public static BlockResponse createErrorResponse(final BlockWriteRequest req) {
+    return new BlockResponse(req.getRequestId(), -req.getBlockId(), req.getOffset(), 0, null);
+  }
+
+  /**
+   * Creates a {@link tachyon.worker.netty.BlockResponse} that acknowledges the given write request.
+   * It carries no data.
+   */
+  public static BlockResponse createWriteResponse(final BlockWriteRequest req) {
+    return new BlockResponse(req.getRequestId(), req.getBlockId(), req.getOffset(), 0, null);
+  }
+
+  private final long mRequestId;
   private final long mBlockId;
   private final long mOffset;
 
@@ -97,7 +116,9 @@ public final class BlockResponse {
 
   private final BlockHandler mHandler;
 
-  public BlockResponse(long blockId, long offset, long length, BlockHandler handler) {
+  public BlockResponse(long requestId, long blockId, long offset, long length,
+      BlockHandler handler) {
+    mRequestId = requestId;
     mBlockId = blockId;
     mOffset = offset;
     mLength = length;
@@ -119,4 +140,8 @@ public final class BlockResponse {
   public long getOffset() {
     return mOffset;
   }
+
+  public long getRequestId() {
+    return mRequestId;
+  }
 }
@@ -0,0 +1,60 @@
+/*
+ * Licensed to the University of California, Berkeley under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package tachyon.worker.netty;
+
+import io.netty.buffer.ByteBuf;
+
+/**
+ * Request from the client to write data into a block it is writing on the worker. It is decoded
+ * by {@link tachyon.worker.netty.BlockRequest.Decoder}, and holds a reference to the data, which
+ * the handler must release.
+ */
+public final class BlockWriteRequest {
+  private final long mRequestId;
+  private final long mUserId;
+  private final long mBlockId;
+  private final long mOffset;
+
+  private final ByteBuf mData;
+
+  public BlockWriteRequest(long requestId, long userId, long blockId, long offset, ByteBuf data) {
+    mRequestId = requestId;
+    mUserId = userId;
+    mBlockId = blockId;
+    mOffset = offset;
+    mData = data;
+  }
+
+  public long getBlockId() {
+    return mBlockId;
+  }
+
+  public ByteBuf getData() {
+    return mData;
+  }
+
+  public long getOffset() {
+    return mOffset;
+  }
+
+  public long getRequestId() {
+    return mRequestId;
+  }
+
+  public long getUserId() {
+    return mUserId;
+  }
+}
@@ -28,24 +28,33 @@ import org.slf4j.LoggerFactory;
 import tachyon.Constants;
 import tachyon.worker.BlockHandler;
 import tachyon.worker.BlocksLocker;
+import tachyon.worker.WorkerStorage;
 import tachyon.worker.hierarchy.StorageDir;
 
 /**
- * Main logic for the read path. This class consumes {@link tachyon.worker.netty.BlockRequest}
- * messages and returns {@link tachyon.worker.netty.BlockResponse} messages.
+ * Main logic for the read and remote write paths. This class consumes
+ * {@link tachyon.worker.netty.BlockRequest} and {@link tachyon.worker.netty.BlockWriteRequest}
+ * messages and returns {@link tachyon.worker.netty.BlockResponse} messages. Connections stay open
+ * after a response, and the responses on a connection are written in the order of its requests.
  */
 @ChannelHandler.Sharable
 public final class DataServerHandler extends ChannelInboundHandlerAdapter {
   private static final Logger LOG = LoggerFactory.getLogger(Constants.LOGGER_TYPE);
 
   private final BlocksLocker mLocker;
+  private final WorkerStorage mWorkerStorage;
 
-  public DataServerHandler(BlocksLocker locker) {
+  public DataServerHandler(BlocksLocker locker, WorkerStorage workerStorage) {
     mLocker = locker;
+    mWorkerStorage = workerStorage;
   }
 
   @Override
   public void channelRead(final ChannelHandlerContext ctx, final Object msg) throws Exception {
+    if (msg instanceof BlockWriteRequest) {
+      handleWriteRequest(ctx, (BlockWriteRequest) msg);
+      return;
+    }
     // pipeline will make sure this is true
     final BlockRequest req = (BlockRequest) msg;
 
@@ -64,8 +73,10 @@ public final class DataServerHandler extends ChannelInboundHandlerAdapter {
       validateBounds(req, fileLength);
       final long readLength = returnLength(offset, len, fileLength);
       ChannelFuture future =
-          ctx.writeAndFlush(new BlockResponse(blockId, offset, readLength, handler));
-      future.addListener(ChannelFutureListener.CLOSE);
+          ctx.writeAndFlush(new BlockResponse(req.getRequestId(), blockId, offset, readLength,
+              handler));
+      // A response cut short leaves the stream unframed, so the connection can not be reused.
+      future.addListener(ChannelFutureListener.CLOSE_ON_FAILURE);
       future.addListener(new ClosableResourceChannelListener(handler));
       storageDir.accessBlock(blockId);
       LOG.info("Response remote request by reading from {}, preparation done.",
@@ -73,9 +84,8 @@ public final class DataServerHandler extends ChannelInboundHandlerAdapter {
     } catch (Exception e) {
       // TODO This is a trick for now. The data may have been removed before remote retrieving.
       LOG.error("The file is not here : " + e.getMessage(), e);
-      BlockResponse resp = BlockResponse.createErrorResponse(blockId);
-      ChannelFuture future = ctx.writeAndFlush(resp);
-      future.addListener(ChannelFutureListener.CLOSE);
+      BlockResponse resp = BlockResponse.createErrorResponse(req);
+      ctx.writeAndFlush(resp).addListener(ChannelFutureListener.CLOSE_ON_FAILURE);
       if (handler != null) {
         handler.close();
       }
@@ -90,6 +100,27 @@ public final class DataServerHandler extends ChannelInboundHandlerAdapter {
     ctx.close();
   }
 
+  /**
+   * Writes the data of the request into the block the user is writing, and acknowledges it.
+   */
+  private void handleWriteRequest(final ChannelHandlerContext ctx, final BlockWriteRequest req) {
+    BlockResponse resp;
+    try {
+      if (req.getOffset() < 0) {
+        throw new IllegalArgumentException("Offset can not be negative: " + req.getOffset());
+      }
+      mWorkerStorage.writeTempBlock(req.getUserId(), req.getBlockId(), req.getOffset(),
+          req.getData().nioBuffer());
+      resp = BlockResponse.createWriteResponse(req);
+    } catch (Exception e) {
+      LOG.error("Failed to write block " + req.getBlockId() + " : " + e.getMessage(), e);
+      resp = BlockResponse.createErrorResponse(req);
+    } finally {
+      req.getData().release();
+    }
+    ctx.writeAndFlush(resp).addListener(ChannelFutureListener.CLOSE_ON_FAILURE);
+  }
+
   /**
    * Returns how much of a file to read. When {@code len} is {@code -1}, then
    * {@code fileLength - offset} is used.
@@ -29,6 +29,8 @@ import io.netty.channel.epoll.EpollEventLoopGroup;
 import io.netty.channel.epoll.EpollServerSocketChannel;
 import io.netty.channel.nio.NioEventLoopGroup;
 import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.util.concurrent.DefaultEventExecutorGroup;
+import io.netty.util.concurrent.EventExecutorGroup;
 
 import com.google.common.base.Throwables;
 
@@ -36,17 +38,24 @@ import tachyon.conf.WorkerConf;
 import tachyon.util.ThreadFactoryUtils;
 import tachyon.worker.BlocksLocker;
 import tachyon.worker.DataServer;
+import tachyon.worker.WorkerStorage;
 
 /**
- * Runs a netty server that will response to block requests.
+ * Runs a netty server that will response to block requests and remote block writes.
  */
 public final class NettyDataServer implements DataServer {
   private final ServerBootstrap mBootstrap;
+  // Runs the handlers that read and write block files, off the event loops
+  private final EventExecutorGroup mHandlerGroup;
 
   private final ChannelFuture mChannelFuture;
 
-  public NettyDataServer(final SocketAddress address, final BlocksLocker locker) {
-    mBootstrap = createBootstrap().childHandler(new PipelineHandler(locker));
+  public NettyDataServer(final SocketAddress address, final BlocksLocker locker,
+      final WorkerStorage workerStorage) {
+    mHandlerGroup = createHandlerGroup();
+    mBootstrap =
+        createBootstrap().childHandler(
+            new PipelineHandler(mHandlerGroup, locker, workerStorage));
 
     try {
       mChannelFuture = mBootstrap.bind(address).sync();
@@ -60,6 +69,7 @@ public final class NettyDataServer implements DataServer {
     mChannelFuture.channel().close().awaitUninterruptibly();
     mBootstrap.group().shutdownGracefully();
     mBootstrap.childGroup().shutdownGracefully();
+    mHandlerGroup.shutdownGracefully();
   }
 
   private ServerBootstrap createBootstrap() {
@@ -89,6 +99,19 @@ public final class NettyDataServer implements DataServer {
     return boot;
   }
 
+  /**
+   * Creates the group that runs the blocking part of the request processing. Netty keeps running
+   * the handler of a channel on the same thread, so the responses stay in the request order.
+   */
+  private EventExecutorGroup createHandlerGroup() {
+    int threadCount = WorkerConf.get().NETTY_HANDLER_THREADS;
+    if (threadCount <= 0) {
+      threadCount = Runtime.getRuntime().availableProcessors() * 2;
+    }
+    return new DefaultEventExecutorGroup(threadCount,
+        ThreadFactoryUtils.build("data-server-handler-%d"));
+  }
+
   /**
    * Gets the port listening on.
    */
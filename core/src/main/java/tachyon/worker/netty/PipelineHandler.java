@@ -19,17 +19,29 @@ import io.netty.channel.ChannelInitializer;
 import io.netty.channel.ChannelPipeline;
 import io.netty.channel.socket.SocketChannel;
 import io.netty.handler.stream.ChunkedWriteHandler;
+import io.netty.util.concurrent.EventExecutorGroup;
 
 import tachyon.worker.BlocksLocker;
+import tachyon.worker.WorkerStorage;
 
 /**
  * Adds the block server's pipeline into the channel.
  */
 public final class PipelineHandler extends ChannelInitializer<SocketChannel> {
+  private final EventExecutorGroup mHandlerGroup;
   private final BlocksLocker mLocker;
+  private final WorkerStorage mWorkerStorage;
 
-  public PipelineHandler(BlocksLocker locker) {
+  /**
+   * @param handlerGroup The group that runs the data server handler, since it blocks on disk I/O
+   * @param locker The block locker of the worker
+   * @param workerStorage The storage of the worker
+   */
+  public PipelineHandler(EventExecutorGroup handlerGroup, BlocksLocker locker,
+      WorkerStorage workerStorage) {
+    mHandlerGroup = handlerGroup;
     mLocker = locker;
+    mWorkerStorage = workerStorage;
   }
 
   @Override
@@ -38,6 +50,7 @@ public final class PipelineHandler extends ChannelInitializer<SocketChannel> {
     pipeline.addLast("nioChunkedWriter", new ChunkedWriteHandler());
     pipeline.addLast("blockRequestDecoder", new BlockRequest.Decoder());
     pipeline.addLast("blockResponseEncoder", new BlockResponse.Encoder());
-    pipeline.addLast("dataServerHandler", new DataServerHandler(mLocker));
+    pipeline.addLast(mHandlerGroup, "dataServerHandler",
+        new DataServerHandler(mLocker, mWorkerStorage));
   }
 }
@@ -28,15 +28,29 @@ import tachyon.Constants;
 import tachyon.client.TachyonByteBuffer;
 
 /**
- * The message type used to send data request and response for remote data.
+ * The message type used to send data request and response for remote data. A connection to the
+ * data server carries any number of requests; the server answers them in order, and each response
+ * carries the request id of the request it answers.
  */
 public class DataServerMessage {
   public static final short DATA_SERVER_REQUEST_MESSAGE = 1;
   public static final short DATA_SERVER_RESPONSE_MESSAGE = 2;
+  public static final short DATA_SERVER_MULTI_REQUEST_MESSAGE = 3;
+  public static final short DATA_SERVER_WRITE_REQUEST_MESSAGE = 4;
+
+  // type, request id and the number of ranges of a multi-range request
+  public static final int MULTI_REQUEST_HEADER_LENGTH = 14;
+  // block id, offset and length of each range of a multi-range request
+  public static final int MULTI_REQUEST_RANGE_LENGTH = 24;
+  public static final int MAX_MULTI_REQUEST_RANGES = 4096;
+  // type, request id, user id, block id, offset and length of a write request
+  public static final int WRITE_REQUEST_HEADER_LENGTH = 42;
+  public static final int MAX_WRITE_REQUEST_LENGTH = 64 * Constants.MB;
 
   private static final Logger LOG = LoggerFactory.getLogger(Constants.LOGGER_TYPE);
 
-  private static final int HEADER_LENGTH = 26;
+  // type, request id, block id, offset and length
+  private static final int HEADER_LENGTH = 34;
 
   /**
    * Create a default block request message, just allocate the message header, and no attribute is
@@ -73,9 +87,26 @@ public class DataServerMessage {
    * @return The created block request message
    */
   public static DataServerMessage createBlockRequestMessage(long blockId, long offset, long len) {
+    return createBlockRequestMessage(0, blockId, offset, len);
+  }
+
+  /**
+   * Create a block request message specified by the request id, the block's id, the offset and the
+   * length. The message is ready to be sent. The response to it carries the same request id.
+   * 
+   * @param requestId The id the client gives to this request
+   * @param blockId The id of the block
+   * @param offset The requested data's offset in the block
+   * @param len The length of the requested data. If it's -1, it means request the data from offset
+   *        to the block's end.
+   * @return The created block request message
+   */
+  public static DataServerMessage createBlockRequestMessage(long requestId, long blockId,
+      long offset, long len) {
     DataServerMessage ret = new DataServerMessage(true, DATA_SERVER_REQUEST_MESSAGE);
 
     ret.mHeader = ByteBuffer.allocate(HEADER_LENGTH);
+    ret.mRequestId = requestId;
     ret.mBlockId = blockId;
     ret.mOffset = offset;
     ret.mLength = len;
@@ -86,6 +117,83 @@ public class DataServerMessage {
     return ret;
   }
 
+  /**
+   * Create a request for several ranges of blocks, and the message is ready to be sent. The data
+   * server answers it with one block response per range, in the order of the ranges, and each
+   * response carries the request id. Only the netty data server understands this message; the nio
+   * data server closes the connection on it.
+   * 
+   * @param requestId The id the client gives to this request
+   * @param blockIds The ids of the blocks of the ranges
+   * @param offsets The offsets of the ranges in their blocks
+   * @param lengths The lengths of the ranges
+   * @return The created multi-range request message
+   */
+  public static DataServerMessage createMultiBlockRequestMessage(long requestId, long[] blockIds,
+      long[] offsets, long[] lengths) {
+    Preconditions.checkArgument(blockIds.length == offsets.length
+        && blockIds.length == lengths.length, "The ranges must have a block, offset and length");
+    Preconditions.checkArgument(blockIds.length <= MAX_MULTI_REQUEST_RANGES,
+        "A request can have at most %s ranges", MAX_MULTI_REQUEST_RANGES);
+    DataServerMessage ret = new DataServerMessage(true, DATA_SERVER_MULTI_REQUEST_MESSAGE);
+
+    ret.mHeader =
+        ByteBuffer.allocate(MULTI_REQUEST_HEADER_LENGTH + MULTI_REQUEST_RANGE_LENGTH
+            * blockIds.length);
+    ret.mRequestId = requestId;
+    ret.mHeader.putShort(DATA_SERVER_MULTI_REQUEST_MESSAGE);
+    ret.mHeader.putLong(requestId);
+    ret.mHeader.putInt(blockIds.length);
+    for (int k = 0; k < blockIds.length; k ++) {
+      ret.mHeader.putLong(blockIds[k]);
+      ret.mHeader.putLong(offsets[k]);
+      ret.mHeader.putLong(lengths[k]);
+    }
+    ret.mHeader.flip();
+    ret.mData = ByteBuffer.allocate(0);
+    ret.mIsMessageReady = true;
+
+    return ret;
+  }
+
+  /**
+   * Create a request to write data into a block the user is writing on the worker, and the message
+   * is ready to be sent. The data server writes the data at the offset in the block's temporary
+   * file, and answers with a block response of the request id and no data, whose block id is
+   * negative if the write failed. Only the netty data server understands this message; the nio data
+   * server closes the connection on it.
+   * 
+   * @param requestId The id the client gives to this request
+   * @param userId The id of the user who writes the block
+   * @param blockId The id of the block
+   * @param offset The offset in the block to write the data at
+   * @param data The data to write, from its position to its limit
+   * @return The created write request message
+   */
+  public static DataServerMessage createBlockWriteRequestMessage(long requestId, long userId,
+      long blockId, long offset, ByteBuffer data) {
+    Preconditions.checkArgument(data.remaining() <= MAX_WRITE_REQUEST_LENGTH,
+        "A write request can carry at most %s bytes", MAX_WRITE_REQUEST_LENGTH);
+    DataServerMessage ret = new DataServerMessage(true, DATA_SERVER_WRITE_REQUEST_MESSAGE);
+
+    ret.mHeader = ByteBuffer.allocate(WRITE_REQUEST_HEADER_LENGTH);
+    ret.mRequestId = requestId;
+    ret.mBlockId = blockId;
+    ret.mOffset = offset;
+    ret.mLength = data.remaining();
+    ret.mHeader.putShort(DATA_SERVER_WRITE_REQUEST_MESSAGE);
+    ret.mHeader.putLong(requestId);
+    ret.mHeader.putLong(userId);
+    ret.mHeader.putLong(blockId);
+    ret.mHeader.putLong(offset);
+    ret.mHeader.putLong(ret.mLength);
+    ret.mHeader.flip();
+    ret.mData = data;
+    ret.mIsMessageReady = true;
+
+    return ret;
+  }
+
   /**
    * Create a block response message specified by the block's id. If <code>toSend</code> is true, it
    * will prepare the data to be sent, otherwise the message is used to receive data.
@@ -116,9 +224,29 @@ public class DataServerMessage {
    */
   public static DataServerMessage createBlockResponseMessage(boolean toSend, long blockId,
       long offset, long len, ByteBuffer data) {
+    return createBlockResponseMessage(toSend, 0, blockId, offset, len, data);
+  }
+
+  /**
+   * Create a block response message answering the request with id <code>requestId</code>. See
+   * {@link #createBlockResponseMessage(boolean, long, long, long, ByteBuffer)}.
+   * 
+   * @param toSend If true the message is to send the data, otherwise it's used to receive data
+   * @param requestId The id of the request this message answers
+   * @param blockId The id of the block
+   * @param offset The responded data's offset in the block
+   * @param len The length of the responded data. If it's -1, it means respond the data from offset
+   *        to the block's end.
+   * @param data The data of the message. For a message to receive, a buffer to receive the data
+   *        into if it is large enough, or null to allocate one.
+   * @return The created block response message
+   */
+  public static DataServerMessage createBlockResponseMessage(boolean toSend, long requestId,
+      long blockId, long offset, long len, ByteBuffer data) {
     DataServerMessage ret = new DataServerMessage(toSend, DATA_SERVER_RESPONSE_MESSAGE);
 
     if (toSend) {
+      ret.mRequestId = requestId;
       if (data != null) {
         ret.mHeader = ByteBuffer.allocate(HEADER_LENGTH);
         ret.mBlockId = blockId;
@@ -140,7 +268,7 @@ public class DataServerMessage {
       }
     } else {
       ret.mHeader = ByteBuffer.allocate(HEADER_LENGTH);
-      ret.mData = null;
+      ret.mData = data;
     }
 
     return ret;
@@ -152,6 +280,8 @@ public class DataServerMessage {
 
   private ByteBuffer mHeader;
 
+  private long mRequestId;
+
   private long mBlockId;
 
   private long mOffset;
@@ -213,6 +343,7 @@ public class DataServerMessage {
   private void generateHeader() {
     mHeader.clear();
     mHeader.putShort(mMessageType);
+    mHeader.putLong(mRequestId);
     mHeader.putLong(mBlockId);
     mHeader.putLong(mOffset);
     mHeader.putLong(mLength);
@@ -260,6 +391,17 @@ public class DataServerMessage {
     return mOffset;
   }
 
+  /**
+   * Get the id of the request the message is or answers. Make sure the message is ready before
+   * calling this method.
+   * 
+   * @return The id of the request
+   */
+  public long getRequestId() {
+    checkReady();
+    return mRequestId;
+  }
+
   /**
    * Get the read only buffer of the message's data. Make sure the message is ready before calling
    * this method.
@@ -307,7 +449,11 @@ public class DataServerMessage {
       if (mHeader.remaining() == 0) {
         mHeader.flip();
         short msgType = mHeader.getShort();
-        assert (mMessageType == msgType);
+        if (mMessageType != msgType) {
+          throw new IOException("Received a message of type " + msgType + " instead of "
+              + mMessageType);
+        }
+        mRequestId = mHeader.getLong();
         mBlockId = mHeader.getLong();
         mOffset = mHeader.getLong();
         mLength = mHeader.getLong();
@@ -316,6 +462,9 @@ public class DataServerMessage {
         if (mMessageType == DATA_SERVER_RESPONSE_MESSAGE) {
           if (mLength == -1) {
             mData = ByteBuffer.allocate(0);
+          } else if (mData != null && mData.capacity() >= mLength) {
+            mData.clear();
+            mData.limit((int) mLength);
           } else {
             mData = ByteBuffer.allocate((int) mLength);
           }
@@ -41,7 +41,8 @@ import tachyon.worker.hierarchy.StorageDir;
 
 /**
  * The Server to serve data file read request from remote machines. The current implementation is
- * based on non-blocking NIO.
+ * based on non-blocking NIO. A connection is kept open after each response, and its next request is
+ * read only once the previous response is sent, so responses come back in request order.
  */
 public class NIODataServer implements Runnable, DataServer {
   private static final Logger LOG = LoggerFactory.getLogger(Constants.LOGGER_TYPE);
@@ -205,6 +206,9 @@ public class NIODataServer implements Runnable, DataServer {
     if (tMessage.isMessageReady()) {
       if (tMessage.getBlockId() <= 0) {
         LOG.error("Invalid block id " + tMessage.getBlockId());
+        key.channel().close();
+        key.cancel();
+        mReceivingData.remove(socketChannel);
         return;
       }
 
@@ -225,8 +229,8 @@ public class NIODataServer implements Runnable, DataServer {
         data = null;
       }
       DataServerMessage tResponseMessage =
-          DataServerMessage.createBlockResponseMessage(true, blockId, tMessage.getOffset(),
-              dataLen, data);
+          DataServerMessage.createBlockResponseMessage(true, tMessage.getRequestId(), blockId,
+              tMessage.getOffset(), dataLen, data);
       tResponseMessage.setLockId(lockId);
       mSendingData.put(socketChannel, tResponseMessage);
     }
@@ -287,12 +291,17 @@ public class NIODataServer implements Runnable, DataServer {
     }
 
     if (sendMessage.finishSending() || closeChannel) {
-      try {
-        key.channel().close();
-      } catch (IOException e) {
-        LOG.error(e.getMessage());
+      if (closeChannel) {
+        try {
+          key.channel().close();
+        } catch (IOException e) {
+          LOG.error(e.getMessage());
+        }
+        key.cancel();
+      } else {
+        // Wait for the next request on this connection.
+        key.interestOps(SelectionKey.OP_READ);
       }
-      key.cancel();
       mReceivingData.remove(socketChannel);
       mSendingData.remove(socketChannel);
       sendMessage.close();
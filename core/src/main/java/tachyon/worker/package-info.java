@@ -54,5 +54,8 @@
  * Side note, the netty implementation does not use this class, but has defined two classes for
  * the read and write case: {@link tachyon.worker.netty.BlockRequest},
  * {@link tachyon.worker.netty.BlockResponse}; theses classes are network compatible.
+ * 
+ * Connections are persistent: a client may send several requests on one connection without
+ * waiting, and the responses come back in request order, each carrying its request's id.
  */
 package tachyon.worker;
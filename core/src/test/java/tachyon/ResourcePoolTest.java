@@ -0,0 +1,148 @@
+/*
+ * Licensed to the University of California, Berkeley under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package tachyon;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Unit tests for tachyon.ResourcePool
+ */
+public class ResourcePoolTest {
+  private static final class Resource implements Closeable {
+    private boolean mClosed = false;
+
+    @Override
+    public void close() {
+      mClosed = true;
+    }
+  }
+
+  private static final class TestPool extends ResourcePool<Resource> {
+    private int mCreated = 0;
+
+    TestPool(int maxCapacity) {
+      super(maxCapacity);
+    }
+
+    @Override
+    protected synchronized Resource createNewResource() {
+      mCreated ++;
+      return new Resource();
+    }
+  }
+
+  @Test
+  public void reuseTest() throws IOException {
+    TestPool pool = new TestPool(2);
+    Resource first = pool.acquire();
+    pool.release(first);
+    Assert.assertSame(first, pool.acquire());
+    Assert.assertEquals(1, pool.mCreated);
+
+    Resource second = pool.acquire();
+    Assert.assertNotSame(first, second);
+    Assert.assertEquals(2, pool.mCreated);
+  }
+
+  @Test
+  public void blockWhenFullTest() throws Exception {
+    final TestPool pool = new TestPool(1);
+    final Resource first = pool.acquire();
+    final CountDownLatch acquired = new CountDownLatch(1);
+    Thread waiter = new Thread() {
+      @Override
+      public void run() {
+        try {
+          if (pool.acquire() == first) {
+            acquired.countDown();
+          }
+        } catch (IOException e) {
+          // The latch is not counted down and the test fails.
+        }
+      }
+    };
+    waiter.start();
+
+    Assert.assertFalse(acquired.await(100, TimeUnit.MILLISECONDS));
+    pool.release(first);
+    Assert.assertTrue(acquired.await(10, TimeUnit.SECONDS));
+    Assert.assertEquals(1, pool.mCreated);
+  }
+
+  @Test
+  public void closeTest() throws IOException {
+    TestPool pool = new TestPool(2);
+    Resource idle = pool.acquire();
+    Resource busy = pool.acquire();
+    pool.release(idle);
+    pool.close();
+    Assert.assertTrue(idle.mClosed);
+    Assert.assertTrue(busy.mClosed);
+    // Releasing a resource the pool closed is harmless
+    pool.release(busy);
+  }
+
+  @Test(expected = IOException.class)
+  public void acquireAfterCloseTest() throws IOException {
+    TestPool pool = new TestPool(1);
+    pool.release(pool.acquire());
+    pool.close();
+    pool.acquire();
+  }
+
+  @Test
+  public void closeWakesWaitersTest() throws Exception {
+    final TestPool pool = new TestPool(1);
+    pool.acquire();
+    final CountDownLatch failed = new CountDownLatch(1);
+    Thread waiter = new Thread() {
+      @Override
+      public void run() {
+        try {
+          pool.acquire();
+        } catch (IOException e) {
+          failed.countDown();
+        }
+      }
+    };
+    waiter.start();
+
+    Assert.assertFalse(failed.await(100, TimeUnit.MILLISECONDS));
+    pool.close();
+    Assert.assertTrue(failed.await(10, TimeUnit.SECONDS));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void doubleReleaseTest() throws IOException {
+    TestPool pool = new TestPool(2);
+    Resource resource = pool.acquire();
+    pool.release(resource);
+    pool.release(resource);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void foreignReleaseTest() throws IOException {
+    TestPool pool = new TestPool(2);
+    pool.acquire();
+    pool.release(new Resource());
+  }
+}
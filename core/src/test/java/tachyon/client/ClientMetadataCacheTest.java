@@ -0,0 +1,120 @@
+/*
+ * Licensed to the University of California, Berkeley under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package tachyon.client;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import tachyon.Constants;
+import tachyon.master.BlockInfo;
+import tachyon.thrift.ClientBlockInfo;
+import tachyon.thrift.ClientFileInfo;
+
+/**
+ * Unit tests for tachyon.client.ClientMetadataCache
+ */
+public class ClientMetadataCacheTest {
+  private static ClientFileInfo fileInfo(int id, String path) {
+    return new ClientFileInfo().setId(id).setPath(path);
+  }
+
+  @Test
+  public void evictLeastRecentlyUsedTest() {
+    ClientMetadataCache cache = new ClientMetadataCache(2, Constants.HOUR_MS);
+    cache.putFileInfo(fileInfo(1, "/a"));
+    cache.putFileInfo(fileInfo(2, "/b"));
+    Assert.assertNotNull(cache.getFileInfo(1));
+    cache.putFileInfo(fileInfo(3, "/c"));
+    Assert.assertNotNull(cache.getFileInfo(1));
+    Assert.assertNull(cache.getFileInfo(2));
+    Assert.assertNotNull(cache.getFileInfo(3));
+  }
+
+  @Test
+  public void expireTest() throws InterruptedException {
+    ClientMetadataCache cache = new ClientMetadataCache(10, 1);
+    cache.putFileInfo(fileInfo(1, "/a"));
+    Thread.sleep(10);
+    Assert.assertNull(cache.getFileInfo(1));
+    Assert.assertNull(cache.getFileInfo("/a"));
+  }
+
+  @Test
+  public void hitMissCountTest() {
+    ClientMetadataCache cache = new ClientMetadataCache(10, Constants.HOUR_MS);
+    cache.putFileInfo(fileInfo(1, "/a"));
+    cache.getFileInfo(1);
+    cache.getFileInfo("/a");
+    cache.getFileInfo("/b");
+    cache.getBlockInfo(7);
+    Assert.assertEquals(2, cache.getHitCount());
+    Assert.assertEquals(2, cache.getMissCount());
+  }
+
+  @Test
+  public void invalidateFileTest() {
+    ClientMetadataCache cache = new ClientMetadataCache(10, Constants.HOUR_MS);
+    long blockId = BlockInfo.computeBlockId(1, 0);
+    long otherBlockId = BlockInfo.computeBlockId(2, 0);
+    cache.putFileInfo(fileInfo(1, "/a"));
+    cache.putBlockInfo(new ClientBlockInfo().setBlockId(blockId));
+    cache.putBlockInfo(new ClientBlockInfo().setBlockId(otherBlockId));
+    cache.invalidateFile(1);
+    Assert.assertNull(cache.getFileInfo(1));
+    Assert.assertNull(cache.getFileInfo("/a"));
+    Assert.assertNull(cache.getBlockInfo(blockId));
+    Assert.assertNotNull(cache.getBlockInfo(otherBlockId));
+  }
+
+  @Test
+  public void invalidateNewPathTest() {
+    ClientMetadataCache cache = new ClientMetadataCache(10, Constants.HOUR_MS);
+    cache.putFileInfo(fileInfo(1, "/"));
+    cache.putFileInfo(fileInfo(2, "/a"));
+    cache.putFileInfo(fileInfo(3, "/a/b"));
+    cache.putFileInfo(fileInfo(4, "/a/c"));
+    cache.invalidateNewPath("/a/b");
+    Assert.assertNull(cache.getFileInfo(3));
+    Assert.assertNull(cache.getFileInfo("/a"));
+    Assert.assertNotNull(cache.getFileInfo("/a/c"));
+    Assert.assertNotNull(cache.getFileInfo("/"));
+
+    cache.invalidateNewPath("/d");
+    Assert.assertNull(cache.getFileInfo("/"));
+    Assert.assertNotNull(cache.getFileInfo("/a/c"));
+  }
+
+  @Test
+  public void invalidatePathTest() {
+    ClientMetadataCache cache = new ClientMetadataCache(10, Constants.HOUR_MS);
+    cache.putFileInfo(fileInfo(1, "/a"));
+    cache.putFileInfo(fileInfo(2, "/a/b"));
+    cache.putFileInfo(fileInfo(3, "/ab"));
+    long blockId = BlockInfo.computeBlockId(2, 0);
+    long otherBlockId = BlockInfo.computeBlockId(3, 0);
+    cache.putBlockInfo(new ClientBlockInfo().setBlockId(blockId));
+    cache.putBlockInfo(new ClientBlockInfo().setBlockId(otherBlockId));
+    cache.invalidatePath("/a");
+    Assert.assertNull(cache.getFileInfo(1));
+    Assert.assertNull(cache.getFileInfo("/a/b"));
+    Assert.assertNull(cache.getBlockInfo(blockId));
+    Assert.assertNotNull(cache.getFileInfo(3));
+    Assert.assertNotNull(cache.getBlockInfo(otherBlockId));
+
+    cache.invalidatePath("/");
+    Assert.assertNull(cache.getFileInfo("/ab"));
+  }
+}
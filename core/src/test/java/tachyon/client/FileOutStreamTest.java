@@ -22,12 +22,14 @@ import org.junit.Assert;
 import org.junit.BeforeClass;
 import org.junit.Test;
 
+import tachyon.Constants;
 import tachyon.TachyonURI;
 import tachyon.TestUtils;
 import tachyon.UnderFileSystem;
 import tachyon.UnderFileSystemCluster;
 import tachyon.conf.UserConf;
 import tachyon.master.LocalTachyonCluster;
+import tachyon.thrift.ClientBlockInfo;
 
 /**
  * Unit tests for <code>tachyon.client.FileOutStream</code>.
@@ -164,6 +166,77 @@ public class FileOutStreamTest {
     checkWrite(filePath, op, len, len / 2 * 2);
   }
 
+  /**
+   * Test writing a file from a client without a local worker, whose blocks are streamed to the data
+   * server of a worker.
+   */
+  @Test
+  public void remoteWriteTest() throws IOException {
+    TachyonFS tfs = sLocalTachyonCluster.getClient();
+    tfs.disableLocalWorker();
+    Assert.assertFalse(tfs.hasLocalWorker());
+    TachyonURI filePath = new TachyonURI(TestUtils.uniqPath());
+    int fileId = tfs.createFile(filePath);
+    OutStream os = tfs.getFile(fileId).getOutStream(WriteType.MUST_CACHE);
+    Assert.assertTrue(os instanceof FileOutStream);
+    os.write(TestUtils.getIncreasingByteArray(300));
+    os.close();
+
+    Assert.assertTrue(sTfs.getFile(filePath).isInMemory());
+    checkWrite(filePath, WriteType.MUST_CACHE, 300, 300);
+  }
+
+  /**
+   * Test writing a CACHE_THROUGH file behind, which the worker writes to the under file system
+   * after the stream is closed.
+   */
+  @Test
+  public void writeBehindTest() throws IOException {
+    System.setProperty("tachyon.user.file.write.behind", "true");
+    UserConf.clear();
+    try {
+      TachyonURI filePath = new TachyonURI(TestUtils.uniqPath());
+      int fileId = sTfs.createFile(filePath);
+      OutStream os = sTfs.getFile(fileId).getOutStream(WriteType.CACHE_THROUGH);
+      os.write(TestUtils.getIncreasingByteArray(300));
+      os.close();
+
+      Assert.assertTrue(sTfs.awaitCheckpoint(fileId, 10 * Constants.SECOND_MS));
+      Assert.assertTrue(sTfs.getFile(filePath).isInMemory());
+      checkWrite(filePath, WriteType.CACHE_THROUGH, 300, 300);
+    } finally {
+      System.clearProperty("tachyon.user.file.write.behind");
+      UserConf.clear();
+    }
+  }
+
+  /**
+   * Test writing a CACHE_REPLICATED file, from clients with and without a local worker. The
+   * copies go to workers on other hosts, so with the one worker of the cluster every block ends
+   * up cached once, on it.
+   */
+  @Test
+  public void cacheReplicatedTest() throws IOException {
+    TachyonFS remoteTfs = sLocalTachyonCluster.getClient();
+    remoteTfs.disableLocalWorker();
+    for (TachyonFS tfs : new TachyonFS[] {sTfs, remoteTfs}) {
+      TachyonURI filePath = new TachyonURI(TestUtils.uniqPath());
+      int fileId = tfs.createFile(filePath);
+      OutStream os = tfs.getFile(fileId).getOutStream(WriteType.CACHE_REPLICATED);
+      Assert.assertTrue(os instanceof FileOutStream);
+      os.write(TestUtils.getIncreasingByteArray(300));
+      os.close();
+
+      Assert.assertTrue(sTfs.getFile(filePath).isInMemory());
+      checkWrite(filePath, WriteType.CACHE_REPLICATED, 300, 300);
+      Assert.assertEquals(3, sTfs.getFileBlocks(fileId).size());
+      for (ClientBlockInfo block : sTfs.getFileBlocks(fileId)) {
+        Assert.assertEquals(1, block.getLocations().size());
+        Assert.assertEquals(sLocalTachyonCluster.getWorkerAddress(), block.getLocations().get(0));
+      }
+    }
+  }
+
   /**
    * Test writing to a file for longer than HEARTBEAT_INTERVAL_MS to make sure the userId doesn't
    * change. Tracks [TACHYON-171].
@@ -0,0 +1,117 @@
+/*
+ * Licensed to the University of California, Berkeley under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package tachyon.client;
+
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import tachyon.TachyonURI;
+import tachyon.TestUtils;
+import tachyon.master.LocalTachyonCluster;
+import tachyon.thrift.ClientBlockInfo;
+import tachyon.thrift.NetAddress;
+import tachyon.worker.TachyonWorker;
+
+/**
+ * Unit tests of the block copies of <code>tachyon.client.FileOutStream</code>, on a cluster with a
+ * second worker (Do not reuse the LocalTachyonCluster).
+ */
+public class FileOutStreamTestIso {
+  private static final int WORKER_CAPACITY_BYTES = 10000;
+  // The second worker has room for a 64 bytes block but not for a 256 bytes one
+  private static final int SECOND_WORKER_CAPACITY_BYTES = 100;
+  // The copies go to workers of other hosts, so the second worker binds to another loopback address
+  private static final String SECOND_WORKER_HOST = "127.0.0.2";
+  private LocalTachyonCluster mLocalTachyonCluster = null;
+  private TachyonWorker mSecondWorker = null;
+  private TachyonFS mTfs = null;
+
+  @After
+  public final void after() throws Exception {
+    mLocalTachyonCluster.stop();
+    System.clearProperty("tachyon.user.quota.unit.bytes");
+    System.clearProperty("tachyon.user.file.cache.replication");
+  }
+
+  @Before
+  public final void before() throws IOException {
+    System.setProperty("tachyon.user.quota.unit.bytes", "32");
+    System.setProperty("tachyon.user.file.cache.replication", "2");
+    mLocalTachyonCluster = new LocalTachyonCluster(WORKER_CAPACITY_BYTES);
+    mLocalTachyonCluster.start();
+    mSecondWorker =
+        mLocalTachyonCluster.startExtraWorker(SECOND_WORKER_HOST, SECOND_WORKER_CAPACITY_BYTES);
+    mTfs = mLocalTachyonCluster.getClient();
+  }
+
+  /**
+   * Writes a CACHE_REPLICATED file of one block of the given size, and returns the metadata ports
+   * of the workers the block ended up on.
+   */
+  private Set<Integer> writeReplicated(int blockSizeBytes) throws IOException {
+    TachyonURI filePath = new TachyonURI(TestUtils.uniqPath());
+    int fileId = mTfs.createFile(filePath, blockSizeBytes);
+    OutStream os = mTfs.getFile(fileId).getOutStream(WriteType.CACHE_REPLICATED);
+    os.write(TestUtils.getIncreasingByteArray(blockSizeBytes));
+    os.close();
+
+    TachyonFile file = mTfs.getFile(filePath);
+    Assert.assertTrue(file.isInMemory());
+    InStream is = file.getInStream(ReadType.NO_CACHE);
+    byte[] res = new byte[blockSizeBytes];
+    Assert.assertEquals(blockSizeBytes, is.read(res));
+    Assert.assertTrue(TestUtils.equalIncreasingByteArray(blockSizeBytes, res));
+    is.close();
+
+    List<ClientBlockInfo> blocks = mTfs.getFileBlocks(fileId);
+    Assert.assertEquals(1, blocks.size());
+    Set<Integer> ports = new HashSet<Integer>();
+    for (NetAddress location : blocks.get(0).getLocations()) {
+      ports.add(location.mPort);
+    }
+    return ports;
+  }
+
+  /**
+   * The copy of the block is written to the worker of the other host and committed with the
+   * primary block.
+   */
+  @Test
+  public void cacheReplicatedTest() throws IOException {
+    Set<Integer> expected = new HashSet<Integer>();
+    expected.add(mLocalTachyonCluster.getWorkerPort());
+    expected.add(mSecondWorker.getMetaPort());
+    Assert.assertEquals(expected, writeReplicated(64));
+  }
+
+  /**
+   * A copy that runs out of space is canceled, and the block is written and committed without it.
+   */
+  @Test
+  public void cacheReplicatedCancelTest() throws IOException {
+    Set<Integer> expected = new HashSet<Integer>();
+    expected.add(mLocalTachyonCluster.getWorkerPort());
+    Assert.assertEquals(expected, writeReplicated(256));
+    // The canceled copy gave back its space, so the second worker takes the next copy
+    Assert.assertEquals(2, writeReplicated(64).size());
+  }
+}
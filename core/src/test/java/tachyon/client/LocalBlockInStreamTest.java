@@ -15,6 +15,7 @@
 package tachyon.client;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.HashSet;
 import java.util.Set;
 
@@ -61,6 +62,39 @@ public class LocalBlockInStreamTest {
     sWriteCacheType.add(WriteType.CACHE_THROUGH);
   }
 
+  /**
+   * Test <code>TachyonByteBuffer borrowSlice(int maxLen)</code>.
+   */
+  @Test
+  public void borrowSliceTest() throws IOException {
+    String uniqPath = TestUtils.uniqPath();
+    for (int k = MIN_LEN + DELTA; k <= MAX_LEN; k += DELTA) {
+      for (WriteType op : sWriteCacheType) {
+        int fileId = TestUtils.createByteFile(sTfs, uniqPath + "/file_" + k + "_" + op, op, k);
+
+        TachyonFile file = sTfs.getFile(fileId);
+        InStream is = file.getInStream(ReadType.NO_CACHE);
+        Assert.assertTrue(is instanceof LocalBlockInStream);
+        TachyonByteBuffer first = is.borrowSlice(k / 2);
+        TachyonByteBuffer second = is.borrowSlice(k);
+        Assert.assertNull(is.borrowSlice(k));
+        is.close();
+
+        // The slices stay valid after the stream is closed
+        Assert.assertTrue(first.mData.isReadOnly());
+        Assert.assertTrue(first.mData.isDirect());
+        Assert.assertEquals(k / 2, first.mData.remaining());
+        Assert.assertEquals(k - k / 2, second.mData.remaining());
+        byte[] ret = new byte[k];
+        first.mData.get(ret, 0, k / 2);
+        second.mData.get(ret, k / 2, k - k / 2);
+        Assert.assertTrue(TestUtils.equalIncreasingByteArray(k, ret));
+        first.close();
+        second.close();
+      }
+    }
+  }
+
   /**
    * Test <code>void read()</code>.
    */
@@ -191,6 +225,31 @@ public class LocalBlockInStreamTest {
     }
   }
 
+  /**
+   * Test <code>int read(ByteBuffer dst)</code>.
+   */
+  @Test
+  public void readByteBufferTest() throws IOException {
+    String uniqPath = TestUtils.uniqPath();
+    for (int k = MIN_LEN + DELTA; k <= MAX_LEN; k += DELTA) {
+      for (WriteType op : sWriteCacheType) {
+        int fileId = TestUtils.createByteFile(sTfs, uniqPath + "/file_" + k + "_" + op, op, k);
+
+        TachyonFile file = sTfs.getFile(fileId);
+        InStream is = file.getInStream(ReadType.NO_CACHE);
+        Assert.assertTrue(is instanceof LocalBlockInStream);
+        ByteBuffer buf = ByteBuffer.allocateDirect(k + 1);
+        Assert.assertEquals(k, is.read(buf));
+        Assert.assertEquals(-1, is.read(buf));
+        buf.flip();
+        byte[] ret = new byte[k];
+        buf.get(ret);
+        Assert.assertTrue(TestUtils.equalIncreasingByteArray(k, ret));
+        is.close();
+      }
+    }
+  }
+
   /**
    * Test <code>void seek(long pos)</code>. Validate the expected exception for seeking a negative
    * position.
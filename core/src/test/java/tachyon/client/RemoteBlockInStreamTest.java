@@ -15,6 +15,7 @@
 package tachyon.client;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
 
 import org.junit.AfterClass;
 import org.junit.Assert;
@@ -23,9 +24,12 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import tachyon.Constants;
 import tachyon.TachyonURI;
 import tachyon.TestUtils;
+import tachyon.conf.UserConf;
 import tachyon.master.LocalTachyonCluster;
+import tachyon.util.CommonUtils;
 
 /**
  * Unit tests for <code>tachyon.client.RemoteBlockInStream</code>.
@@ -506,6 +510,40 @@ public class RemoteBlockInStreamTest {
     is.close();
   }
 
+  /**
+   * Tests that with background re-caching, seeking in a CACHE read has the local worker cache the
+   * block
+   */
+  @Test
+  public void seekTriggersBackgroundRecache() throws IOException {
+    System.setProperty("tachyon.user.background.recache", "true");
+    UserConf.clear();
+    try {
+      String uniqPath = TestUtils.uniqPath();
+      int len = 200;
+      int fileId = TestUtils.createByteFile(mTfs, uniqPath, WriteType.THROUGH, len);
+      TachyonFile file = mTfs.getFile(fileId);
+      InStream is = file.getInStream(ReadType.CACHE);
+      Assert.assertTrue(is instanceof RemoteBlockInStream);
+      is.seek(len / 2);
+      Assert.assertEquals(len / 2, is.read());
+      is.close();
+      for (int k = 0; k < 100 && !file.isInMemory(); k ++) {
+        CommonUtils.sleepMs(null, 100);
+      }
+      Assert.assertTrue(file.isInMemory());
+      is = file.getInStream(ReadType.NO_CACHE);
+      Assert.assertTrue(is instanceof LocalBlockInStream);
+      byte[] ret = new byte[len];
+      Assert.assertEquals(len, is.read(ret));
+      Assert.assertTrue(TestUtils.equalIncreasingByteArray(len, ret));
+      is.close();
+    } finally {
+      System.clearProperty("tachyon.user.background.recache");
+      UserConf.clear();
+    }
+  }
+
   /**
    * Tests that reading a file consisting of more than one block from the underfs works
    */
@@ -534,6 +572,116 @@ public class RemoteBlockInStreamTest {
     Assert.assertTrue(file.isInMemory());
   }
 
+  /**
+   * Tests that borrowed slices of remote chunks keep their pooled buffer until they are closed.
+   */
+  @Test
+  public void borrowSliceTest() throws IOException {
+    String uniqPath = TestUtils.uniqPath();
+    // The number of bytes per remote block read should be set to 100 in the before function
+    int fileId = TestUtils.createByteFile(mTfs, uniqPath, WriteType.MUST_CACHE, 250);
+    TachyonFile file = mTfs.getFile(fileId);
+    DirectBufferPool pool = mTfs.getDirectBufferPool();
+    InStream is = new RemoteBlockInStream(file, ReadType.NO_CACHE, 0);
+    is.seek(1);
+    TachyonByteBuffer slice = is.borrowSlice(250);
+    Assert.assertEquals(99, slice.mData.remaining());
+    Assert.assertTrue(slice.mData.isReadOnly());
+    byte[] ret = new byte[99];
+    slice.mData.get(ret);
+    Assert.assertTrue(TestUtils.equalIncreasingByteArray(1, 99, ret));
+
+    is.seek(200);
+    ByteBuffer buf = ByteBuffer.allocate(100);
+    Assert.assertEquals(50, is.read(buf));
+    buf.flip();
+    ret = new byte[50];
+    buf.get(ret);
+    Assert.assertTrue(TestUtils.equalIncreasingByteArray(200, 50, ret));
+
+    // Closing the stream gives back the buffer of the last chunk, but not the borrowed one
+    int idle = pool.getIdleCount();
+    is.close();
+    Assert.assertEquals(idle + 1, pool.getIdleCount());
+    slice.close();
+    Assert.assertEquals(idle + 2, pool.getIdleCount());
+  }
+
+  /**
+   * Tests that a sequential read reads chunks ahead, and that a seek gives them back.
+   */
+  @Test
+  public void readAheadTest() throws IOException {
+    String uniqPath = TestUtils.uniqPath();
+    // The number of bytes per remote block read should be set to 100 in the before function
+    int fileId = TestUtils.createByteFile(mTfs, uniqPath, WriteType.MUST_CACHE, 1000);
+    TachyonFile file = mTfs.getFile(fileId);
+    ReadAheadEngine engine = mTfs.getReadAheadEngine();
+    int availableBuffers = engine.getAvailableBuffers();
+    InStream is = new RemoteBlockInStream(file, ReadType.NO_CACHE, 0);
+    byte[] ret = new byte[100];
+    for (int k = 0; k < 3; k ++) {
+      Assert.assertEquals(100, is.read(ret));
+      Assert.assertTrue(TestUtils.equalIncreasingByteArray(k * 100, 100, ret));
+    }
+    Assert.assertTrue(engine.getAvailableBuffers() < availableBuffers);
+    is.seek(0);
+    awaitBuffers(engine, availableBuffers);
+    ret = new byte[1000];
+    int read = 0;
+    while (read < 1000) {
+      int n = is.read(ret, read, 1000 - read);
+      Assert.assertTrue(n > 0);
+      read += n;
+    }
+    Assert.assertTrue(TestUtils.equalIncreasingByteArray(1000, ret));
+    Assert.assertEquals(-1, is.read());
+    is.close();
+    Assert.assertEquals(availableBuffers, engine.getAvailableBuffers());
+  }
+
+  /**
+   * Waits for the reads ahead that were canceled while running to give their buffers back.
+   */
+  private void awaitBuffers(ReadAheadEngine engine, int availableBuffers) {
+    long deadlineMs = System.currentTimeMillis() + 10 * Constants.SECOND_MS;
+    while (engine.getAvailableBuffers() != availableBuffers
+        && System.currentTimeMillis() < deadlineMs) {
+      CommonUtils.sleepMs(null, 10);
+    }
+    Assert.assertEquals(availableBuffers, engine.getAvailableBuffers());
+  }
+
+  /**
+   * Tests that seeking while chunks are being read ahead gives back both the read-ahead buffers
+   * and the pooled buffers the reads received their data in.
+   */
+  @Test
+  public void seekDuringReadAheadTest() throws IOException {
+    String uniqPath = TestUtils.uniqPath();
+    // The number of bytes per remote block read should be set to 100 in the before function
+    int fileId = TestUtils.createByteFile(mTfs, uniqPath, WriteType.MUST_CACHE, 1000);
+    TachyonFile file = mTfs.getFile(fileId);
+    ReadAheadEngine engine = mTfs.getReadAheadEngine();
+    DirectBufferPool pool = mTfs.getDirectBufferPool();
+    int availableBuffers = engine.getAvailableBuffers();
+    int acquiredBuffers = pool.getAcquiredCount();
+    InStream is = new RemoteBlockInStream(file, ReadType.NO_CACHE, 0);
+    byte[] ret = new byte[100];
+    for (int k = 0; k < 20; k ++) {
+      // Reading sequentially starts reads ahead, and seeking back cancels them
+      for (int i = 0; i < 3; i ++) {
+        Assert.assertEquals(100, is.read(ret));
+        Assert.assertTrue(TestUtils.equalIncreasingByteArray(i * 100, 100, ret));
+      }
+      is.seek(0);
+      Assert.assertTrue(engine.getAvailableBuffers() <= availableBuffers);
+    }
+    is.close();
+    awaitBuffers(engine, availableBuffers);
+    Assert.assertEquals(acquiredBuffers, pool.getAcquiredCount());
+  }
+
   /**
    * Tests that seeking around a file cached locally works.
    */
@@ -0,0 +1,61 @@
+/*
+ * Licensed to the University of California, Berkeley under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package tachyon.client;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import tachyon.TestUtils;
+
+/**
+ * Unit tests for tachyon.client.RemoteChunkCache
+ */
+public class RemoteChunkCacheTest {
+  @Test
+  public void getTest() throws IOException {
+    RemoteChunkCache cache = new RemoteChunkCache(1000);
+    ByteBuffer data = TestUtils.getIncreasingByteBuffer(100);
+    cache.put(1, 0, data);
+    Assert.assertEquals(0, data.position());
+    Assert.assertNull(cache.get(1, 100, 100));
+    Assert.assertNull(cache.get(2, 0, 100));
+    Assert.assertNull(cache.get(1, 0, 101));
+    TachyonByteBuffer chunk = cache.get(1, 0, 100);
+    Assert.assertEquals(TestUtils.getIncreasingByteBuffer(100), chunk.mData);
+    Assert.assertTrue(chunk.mData.isReadOnly());
+    chunk.close();
+    Assert.assertEquals(1, cache.getHitCount());
+    Assert.assertEquals(3, cache.getMissCount());
+  }
+
+  @Test
+  public void evictLeastRecentlyUsedTest() throws IOException {
+    RemoteChunkCache cache = new RemoteChunkCache(250);
+    cache.put(1, 0, TestUtils.getIncreasingByteBuffer(100));
+    cache.put(1, 100, TestUtils.getIncreasingByteBuffer(100, 100));
+    cache.get(1, 0, 100).close();
+    cache.put(1, 200, TestUtils.getIncreasingByteBuffer(200, 100));
+    Assert.assertEquals(1, cache.getEvictionCount());
+    Assert.assertNull(cache.get(1, 100, 100));
+    TachyonByteBuffer chunk = cache.get(1, 200, 100);
+    Assert.assertEquals(TestUtils.getIncreasingByteBuffer(200, 100), chunk.mData);
+    chunk.close();
+    Assert.assertNotNull(cache.get(1, 0, 100));
+  }
+}
@@ -0,0 +1,132 @@
+/*
+ * Licensed to the University of California, Berkeley under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package tachyon.client;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import tachyon.Constants;
+import tachyon.thrift.ClientWorkerInfo;
+import tachyon.thrift.NetAddress;
+import tachyon.util.NetworkUtils;
+
+/**
+ * Unit tests for tachyon.client.ReplicaSelector
+ */
+public class ReplicaSelectorTest {
+  private static final InetSocketAddress WORKER1 = new InetSocketAddress("testhost1", 1001);
+  private static final InetSocketAddress WORKER2 = new InetSocketAddress("testhost2", 2001);
+
+  private static List<NetAddress> locations() {
+    List<NetAddress> locations = new ArrayList<NetAddress>();
+    locations.add(new NetAddress("testhost1", 1000, 1001));
+    locations.add(new NetAddress("testhost2", 2000, 2001));
+    return locations;
+  }
+
+  private static ReplicaSelector newSelector(long blacklistMs) {
+    return new ReplicaSelector(new RackResolver(null, null), blacklistMs);
+  }
+
+  @Test
+  public void blacklistTest() throws InterruptedException {
+    ReplicaSelector selector = newSelector(Constants.HOUR_MS);
+    selector.reportFailure(WORKER1);
+    Assert.assertTrue(selector.isBlacklisted(WORKER1));
+    List<InetSocketAddress> workers = selector.select(locations());
+    Assert.assertEquals(WORKER2, workers.get(0));
+    Assert.assertEquals(WORKER1, workers.get(1));
+    selector.reportSuccess(WORKER1, 0);
+    Assert.assertFalse(selector.isBlacklisted(WORKER1));
+
+    selector = newSelector(1);
+    selector.reportFailure(WORKER1);
+    Thread.sleep(10);
+    Assert.assertFalse(selector.isBlacklisted(WORKER1));
+    Assert.assertEquals(WORKER1, selector.select(locations()).get(0));
+  }
+
+  @Test
+  public void latencyTest() {
+    ReplicaSelector selector = newSelector(Constants.HOUR_MS);
+    Assert.assertEquals(WORKER1, selector.select(locations()).get(0));
+    selector.reportSuccess(WORKER1, 1000);
+    selector.reportSuccess(WORKER2, 100);
+    Assert.assertEquals(WORKER2, selector.select(locations()).get(0));
+    Assert.assertEquals(100, selector.getLatencyNs(WORKER2), 0);
+    selector.reportSuccess(WORKER2, 500);
+    Assert.assertEquals(200, selector.getLatencyNs(WORKER2), 0);
+  }
+
+  @Test
+  public void localHostFirstTest() {
+    List<NetAddress> locations = locations();
+    locations.add(new NetAddress("testhost3", 3000, -1));
+    locations.add(new NetAddress(NetworkUtils.getLocalHostName(), 4000, 4001));
+    List<InetSocketAddress> workers = newSelector(Constants.HOUR_MS).select(locations);
+    Assert.assertEquals(3, workers.size());
+    Assert.assertEquals(new InetSocketAddress(NetworkUtils.getLocalHostName(), 4001),
+        workers.get(0));
+    Assert.assertEquals(WORKER1, workers.get(1));
+    Assert.assertEquals(WORKER2, workers.get(2));
+  }
+
+  @Test
+  public void sameRackFirstTest() throws IOException {
+    File topology = File.createTempFile("topology", "");
+    topology.deleteOnExit();
+    FileWriter writer = new FileWriter(topology);
+    writer.write("# host rack\n");
+    writer.write("testhost1 /rack1\n");
+    writer.write("testhost2 /rack2\n");
+    writer.write(NetworkUtils.getLocalHostName() + " /rack2\n");
+    writer.close();
+
+    RackResolver resolver = new RackResolver(topology.getAbsolutePath(), null);
+    Assert.assertEquals("/rack1", resolver.resolve("testhost1"));
+    Assert.assertEquals(RackResolver.DEFAULT_RACK, resolver.resolve("testhost3"));
+    ReplicaSelector selector = new ReplicaSelector(resolver, Constants.HOUR_MS);
+    Assert.assertEquals(WORKER2, selector.select(locations()).get(0));
+  }
+
+  @Test
+  public void writeTargetsTest() {
+    List<ClientWorkerInfo> workers = new ArrayList<ClientWorkerInfo>();
+    for (NetAddress location : locations()) {
+      workers.add(new ClientWorkerInfo(workers.size(), location, 0, "In Service", 1000, 500, 0));
+    }
+    workers.get(1).setUsedBytes(100);
+    ReplicaSelector selector = newSelector(Constants.HOUR_MS);
+    List<NetAddress> targets = selector.selectWriteTargets(workers);
+    Assert.assertEquals("testhost2", targets.get(0).mHost);
+    Assert.assertEquals("testhost1", targets.get(1).mHost);
+
+    selector.reportFailure(WORKER2);
+    Assert.assertEquals("testhost1", selector.selectWriteTargets(workers).get(0).mHost);
+
+    workers.add(new ClientWorkerInfo(2, new NetAddress(NetworkUtils.getLocalHostName(), 4000,
+        4001), 0, "In Service", 1000, 900, 0));
+    Assert.assertEquals(NetworkUtils.getLocalHostName(),
+        newSelector(Constants.HOUR_MS).selectWriteTargets(workers).get(0).mHost);
+  }
+}
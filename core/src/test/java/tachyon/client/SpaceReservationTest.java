@@ -0,0 +1,123 @@
+/*
+ * Licensed to the University of California, Berkeley under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package tachyon.client;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import tachyon.Constants;
+import tachyon.worker.SpaceCounter;
+
+/**
+ * Unit tests for tachyon.client.SpaceReservation
+ */
+public class SpaceReservationTest {
+  private static final long MIN_BYTES = 100;
+  private static final long MAX_BYTES = 1000;
+
+  /**
+   * Reserves the space of <code>length</code> more bytes on the worker the way block writers do,
+   * in an extent, or in just the space needed if the worker has no room for the extent.
+   * 
+   * @return the space reserved, or 0 if the worker has no room for the space needed
+   */
+  private static long reserve(SpaceReservation reservation, SpaceCounter worker,
+      long neededBytes, long leftBytes) {
+    long extentBytes = reservation.next(neededBytes, leftBytes);
+    if (worker.requestSpaceBytes(extentBytes)) {
+      return extentBytes;
+    }
+    if (extentBytes > neededBytes && worker.requestSpaceBytes(neededBytes)) {
+      return neededBytes;
+    }
+    return 0;
+  }
+
+  @Test
+  public void extendTest() {
+    SpaceReservation reservation = new SpaceReservation(MIN_BYTES, MAX_BYTES, Constants.HOUR_MS);
+    Assert.assertEquals(200, reservation.next(1, Long.MAX_VALUE));
+    Assert.assertEquals(400, reservation.next(1, Long.MAX_VALUE));
+    Assert.assertEquals(800, reservation.next(1, Long.MAX_VALUE));
+    Assert.assertEquals(MAX_BYTES, reservation.next(1, Long.MAX_VALUE));
+    Assert.assertEquals(MAX_BYTES, reservation.next(1, Long.MAX_VALUE));
+  }
+
+  @Test
+  public void shrinkTest() throws InterruptedException {
+    SpaceReservation reservation = new SpaceReservation(MIN_BYTES, MAX_BYTES, Constants.HOUR_MS);
+    reservation.next(1, Long.MAX_VALUE);
+    reservation.next(1, Long.MAX_VALUE);
+    reservation = new SpaceReservation(MIN_BYTES, MAX_BYTES, 1);
+    for (int k = 0; k < 2; k ++) {
+      Thread.sleep(10);
+      Assert.assertEquals(MIN_BYTES, reservation.next(1, Long.MAX_VALUE));
+    }
+  }
+
+  @Test
+  public void reserveTest() {
+    SpaceReservation reservation = new SpaceReservation(MIN_BYTES, MAX_BYTES, Constants.HOUR_MS);
+    // Never more than is left of the block
+    Assert.assertEquals(50, reservation.next(10, 50));
+    // Never less than is needed
+    Assert.assertEquals(900, reservation.next(900, 2000));
+    Assert.assertEquals(900, reservation.next(900, 50));
+  }
+
+  @Test
+  public void releaseTest() {
+    SpaceCounter worker = new SpaceCounter(10 * MAX_BYTES);
+    SpaceReservation reservation = new SpaceReservation(MIN_BYTES, MAX_BYTES, Constants.HOUR_MS);
+    // The block could hold 2500 bytes, but the writer closes it after 1800
+    long blockBytes = 2500;
+    long fileBytes = 1800;
+    long reservedBytes = MIN_BYTES;
+    Assert.assertTrue(worker.requestSpaceBytes(reservedBytes));
+    long writtenBytes = 0;
+    while (writtenBytes < fileBytes) {
+      long length = Math.min(50, fileBytes - writtenBytes);
+      if (writtenBytes + length > reservedBytes) {
+        long neededBytes = writtenBytes + length - reservedBytes;
+        long bytes = reserve(reservation, worker, neededBytes, blockBytes - reservedBytes);
+        Assert.assertTrue(bytes >= neededBytes);
+        reservedBytes += bytes;
+      }
+      writtenBytes += length;
+    }
+    // Extents of 100, 200, 400, 800 and then the 1000 left of the block
+    Assert.assertEquals(blockBytes, reservedBytes);
+    Assert.assertEquals(reservedBytes, worker.getUsedBytes());
+
+    // The worker takes back the space the block did not use when it is cached
+    worker.returnUsedBytes(reservedBytes - writtenBytes);
+    Assert.assertEquals(fileBytes, worker.getUsedBytes());
+  }
+
+  @Test
+  public void overReservationTest() {
+    SpaceCounter worker = new SpaceCounter(500);
+    SpaceReservation reservation = new SpaceReservation(MIN_BYTES, MAX_BYTES, Constants.HOUR_MS);
+    Assert.assertTrue(worker.requestSpaceBytes(MIN_BYTES));
+    // The extent of 200 fits, the one of 400 does not and falls back to the space needed
+    Assert.assertEquals(200, reserve(reservation, worker, 10, Long.MAX_VALUE));
+    Assert.assertEquals(10, reserve(reservation, worker, 10, Long.MAX_VALUE));
+    Assert.assertEquals(310, worker.getUsedBytes());
+    // Nothing is reserved when even the space needed does not fit
+    Assert.assertEquals(0, reserve(reservation, worker, 500, Long.MAX_VALUE));
+    Assert.assertEquals(310, worker.getUsedBytes());
+  }
+}
@@ -18,18 +18,25 @@ import java.io.IOException;
 import java.io.OutputStream;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.After;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
 
+import tachyon.Constants;
 import tachyon.TachyonURI;
 import tachyon.TestUtils;
 import tachyon.UnderFileSystem;
+import tachyon.conf.UserConf;
 import tachyon.conf.WorkerConf;
 import tachyon.master.LocalTachyonCluster;
+import tachyon.master.MasterClient;
 import tachyon.util.CommonUtils;
+import tachyon.worker.WorkerClient;
 
 /**
  * Unit tests on TachyonClient (Do not reuse the LocalTachyonCluster).
@@ -69,6 +76,111 @@ public class TachyonFSTestIso {
     Assert.assertEquals(tempFolder + "/temp", mTfs.getFile(uri).getUfsPath());
   }
 
+  @Test
+  public void batchedUnlockTest() throws IOException {
+    // Unlocks are only sent when the client needs them to be
+    System.setProperty("tachyon.user.worker.control.flush.ms", Constants.HOUR_MS + "");
+    System.setProperty("tachyon.user.worker.control.batch.size", "1000");
+    UserConf.clear();
+    TachyonFS tfs = mLocalTachyonCluster.getClient();
+    try {
+      String uniqPath = TestUtils.uniqPath();
+      int numOfFiles = 5;
+      int fileSize = WORKER_CAPACITY_BYTES / numOfFiles;
+      List<Integer> fileIds = new ArrayList<Integer>();
+      for (int k = 0; k < numOfFiles; k ++) {
+        fileIds.add(TestUtils.createByteFile(tfs, uniqPath + k, WriteType.CACHE_THROUGH,
+            fileSize));
+      }
+      for (int k = 0; k < numOfFiles; k ++) {
+        TachyonByteBuffer tBuf = tfs.getFile(fileIds.get(k)).readByteBuffer(0);
+        Assert.assertNotNull(tBuf);
+        tBuf.close();
+      }
+      // Locking a block again waits for its pending unlock
+      TachyonByteBuffer tBuf = tfs.getFile(fileIds.get(1)).readByteBuffer(0);
+      Assert.assertEquals(TestUtils.getIncreasingByteBuffer(fileSize), tBuf.mData);
+      tBuf.close();
+      // Requesting space sends the pending unlocks, so a block can be evicted to make room
+      fileIds.add(TestUtils.createByteFile(tfs, uniqPath + numOfFiles, WriteType.CACHE_THROUGH,
+          fileSize));
+
+      CommonUtils.sleepMs(null, SLEEP_MS);
+      Assert.assertTrue(tfs.getFile(fileIds.get(numOfFiles)).isInMemory());
+    } finally {
+      tfs.close();
+      System.clearProperty("tachyon.user.worker.control.flush.ms");
+      System.clearProperty("tachyon.user.worker.control.batch.size");
+      UserConf.clear();
+    }
+  }
+
+  @Test
+  public void leaseBlocksTest() throws IOException {
+    System.setProperty("tachyon.user.block.lease.ms", Constants.HOUR_MS + "");
+    UserConf.clear();
+    TachyonFS tfs = mLocalTachyonCluster.getClient();
+    // Counts the lock and unlock calls to the local worker
+    final AtomicInteger lockCalls = new AtomicInteger(0);
+    final AtomicInteger unlockCalls = new AtomicInteger(0);
+    tfs.setLocalWorkerClientFactory(new TachyonFS.LocalWorkerClientFactory() {
+      @Override
+      public WorkerClient create(MasterClient masterClient, ExecutorService executorService)
+          throws IOException {
+        return new WorkerClient(masterClient, executorService) {
+          @Override
+          public synchronized String lockBlock(long blockId) throws IOException {
+            lockCalls.incrementAndGet();
+            return super.lockBlock(blockId);
+          }
+
+          @Override
+          public synchronized Map<Long, String> lockBlocks(List<Long> blockIds)
+              throws IOException {
+            lockCalls.incrementAndGet();
+            return super.lockBlocks(blockIds);
+          }
+
+          @Override
+          public synchronized boolean unlockBlock(long blockId) throws IOException {
+            unlockCalls.incrementAndGet();
+            return super.unlockBlock(blockId);
+          }
+
+          @Override
+          public synchronized void unlockBlocks(List<Long> blockIds) throws IOException {
+            unlockCalls.incrementAndGet();
+            super.unlockBlocks(blockIds);
+          }
+        };
+      }
+    });
+    try {
+      int fileId =
+          TestUtils.createByteFile(tfs, TestUtils.uniqPath(), WriteType.MUST_CACHE, 300, 100);
+      TachyonFile tFile = tfs.getFile(fileId);
+      // The first read leases all three blocks in one call, the others find their block leased
+      for (int k = 0; k < 3; k ++) {
+        TachyonByteBuffer tBuf = tFile.readByteBuffer(k);
+        Assert.assertEquals(TestUtils.getIncreasingByteBuffer(k * 100, 100), tBuf.mData);
+        tBuf.close();
+      }
+      Assert.assertEquals(1, lockCalls.get());
+      TachyonByteBuffer tBuf1 = tFile.readByteBuffer(1);
+      TachyonByteBuffer tBuf2 = tFile.readByteBuffer(1);
+      tBuf1.close();
+      Assert.assertEquals(TestUtils.getIncreasingByteBuffer(100, 100), tBuf2.mData);
+      tBuf2.close();
+      // Repeated reads under the lease neither lock nor unlock the blocks on the worker
+      Assert.assertEquals(1, lockCalls.get());
+      Assert.assertEquals(0, unlockCalls.get());
+    } finally {
+      tfs.close();
+      System.clearProperty("tachyon.user.block.lease.ms");
+      UserConf.clear();
+    }
+  }
+
   @Test
   public void lockBlockTest1() throws IOException {
     String uniqPath = TestUtils.uniqPath();
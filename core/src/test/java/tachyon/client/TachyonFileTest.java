@@ -16,6 +16,7 @@ package tachyon.client;
 
 import java.io.IOException;
 import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
 
 import junit.framework.Assert;
 
@@ -172,6 +173,39 @@ public class TachyonFileTest {
     }
   }
 
+  /**
+   * Test <code>int positionedRead(long pos, ByteBuffer dst)</code> across block boundaries, on
+   * files in memory and files only in the under file system.
+   */
+  @Test
+  public void positionedReadTest() throws IOException {
+    WriteType[] ops = new WriteType[] {WriteType.MUST_CACHE, WriteType.THROUGH};
+    for (WriteType op : ops) {
+      int fileId = TestUtils.createByteFile(mTfs, "/root/testFile_" + op, op, 250, 100);
+      TachyonFile file = mTfs.getFile(fileId);
+      InStream is = file.getInStream(ReadType.NO_CACHE);
+
+      for (int pos = 0; pos < 250; pos += 30) {
+        ByteBuffer buf = ByteBuffer.allocate(120);
+        int len = Math.min(120, 250 - pos);
+        Assert.assertEquals(len, file.positionedRead(pos, buf));
+        Assert.assertEquals(len, buf.position());
+        byte[] ret = new byte[len];
+        buf.flip();
+        buf.get(ret);
+        Assert.assertTrue(TestUtils.equalIncreasingByteArray(pos, len, ret));
+
+        // The stream's position is left alone
+        buf.clear();
+        Assert.assertEquals(len, is.positionedRead(pos, buf));
+        Assert.assertEquals(pos / 30, is.read());
+        is.seek(pos / 30 + 1);
+      }
+      Assert.assertEquals(-1, file.positionedRead(250, ByteBuffer.allocate(1)));
+      is.close();
+    }
+  }
+
   /**
    * Test <code>String getLocalFilename(long blockId) </code>.
    */
@@ -209,6 +243,78 @@ public class TachyonFileTest {
     buf.close();
   }
 
+  /**
+   * Test <code>void vectoredRead(long[] offsets, ByteBuffer[] dsts)</code> with ranges that
+   * overlap, span blocks and are close enough to be coalesced.
+   */
+  @Test
+  public void vectoredReadTest() throws IOException {
+    WriteType[] ops = new WriteType[] {WriteType.MUST_CACHE, WriteType.THROUGH};
+    for (WriteType op : ops) {
+      int fileId = TestUtils.createByteFile(mTfs, "/root/testFile_" + op, op, 250, 100);
+      TachyonFile file = mTfs.getFile(fileId);
+
+      long[] offsets = new long[] {0, 10, 5, 90, 240, 120};
+      int[] lengths = new int[] {3, 20, 10, 50, 10, 0};
+      ByteBuffer[] dsts = new ByteBuffer[offsets.length];
+      for (int k = 0; k < offsets.length; k ++) {
+        dsts[k] = ByteBuffer.allocate(lengths[k] + 2);
+        dsts[k].position(1);
+        dsts[k].limit(1 + lengths[k]);
+      }
+      file.vectoredRead(offsets, dsts);
+      for (int k = 0; k < offsets.length; k ++) {
+        Assert.assertEquals(1 + lengths[k], dsts[k].position());
+        byte[] ret = new byte[lengths[k]];
+        dsts[k].position(1);
+        dsts[k].get(ret);
+        Assert.assertTrue(TestUtils.equalIncreasingByteArray((int) offsets[k], lengths[k], ret));
+      }
+    }
+  }
+
+  @Test
+  public void vectoredReadPastEndTest() throws IOException {
+    int fileId = TestUtils.createByteFile(mTfs, "/root/testFile", WriteType.MUST_CACHE, 100);
+    TachyonFile file = mTfs.getFile(fileId);
+    try {
+      file.vectoredRead(new long[] {90}, new ByteBuffer[] {ByteBuffer.allocate(20)});
+      Assert.fail("Reading past the end of the file should fail");
+    } catch (IOException e) {
+      // expected
+    }
+  }
+
+  @Test
+  public void parallelInStreamTest() throws IOException {
+    WriteType[] ops = new WriteType[] {WriteType.MUST_CACHE, WriteType.THROUGH};
+    for (WriteType op : ops) {
+      int fileId = TestUtils.createByteFile(mTfs, "/root/testFile_" + op, op, 250, 100);
+      TachyonFile file = mTfs.getFile(fileId);
+
+      InStream is = file.getParallelInStream(2);
+      byte[] ret = new byte[250];
+      int read = 0;
+      while (read < ret.length) {
+        int bytes = is.read(ret, read, ret.length - read);
+        Assert.assertTrue(bytes > 0);
+        read += bytes;
+      }
+      Assert.assertTrue(TestUtils.equalIncreasingByteArray(250, ret));
+      Assert.assertEquals(-1, is.read());
+
+      is.seek(120);
+      Assert.assertEquals(120, is.read());
+      is.seek(30);
+      Assert.assertEquals(30, is.read());
+      Assert.assertEquals(169, is.skip(169));
+      Assert.assertEquals(200, is.read());
+      is.seek(199);
+      Assert.assertEquals(199, is.read());
+      is.close();
+    }
+  }
+
   @Test
   public void writeEmptyFileTest() throws IOException {
     TachyonURI uri = new TachyonURI("/emptyFile");
@@ -197,6 +197,33 @@ public class TFsShellTest {
     Assert.assertTrue(TestUtils.equalIncreasingByteArray(SIZE_BYTES, read));
   }
 
+  @Test
+  public void copyToLocalParallelTest() throws IOException {
+    TestUtils.createByteFile(mTfs, "/testFile", WriteType.MUST_CACHE, SIZE_BYTES / 2,
+        Constants.MB);
+    Assert.assertEquals(0, mFsShell.copyToLocal(new String[] {"copyToLocal", "-p", "3",
+        "/testFile", mLocalTachyonCluster.getTachyonHome() + "/testFile"}));
+    Assert.assertEquals(getCommandOutput(new String[] {"copyToLocal", "/testFile",
+        mLocalTachyonCluster.getTachyonHome() + "/testFile"}), mOutput.toString());
+    File testFile = new File(mLocalTachyonCluster.getTachyonHome() + "/testFile");
+    FileInputStream fis = new FileInputStream(testFile);
+    byte read[] = new byte[SIZE_BYTES / 2];
+    int bytes = 0;
+    while (bytes < read.length) {
+      bytes += fis.read(read, bytes, read.length - bytes);
+    }
+    fis.close();
+    Assert.assertTrue(TestUtils.equalIncreasingByteArray(SIZE_BYTES / 2, read));
+  }
+
+  @Test
+  public void copyToLocalParallelUsageTest() throws IOException {
+    Assert.assertEquals(-1, mFsShell.copyToLocal(new String[] {"copyToLocal", "-p", "x",
+        "/testFile", mLocalTachyonCluster.getTachyonHome() + "/testFile"}));
+    Assert.assertEquals(-1, mFsShell.copyToLocal(new String[] {"copyToLocal", "-p", "0",
+        "/testFile", mLocalTachyonCluster.getTachyonHome() + "/testFile"}));
+  }
+
   @Test
   public void copyToLocalTest() throws IOException {
     TestUtils.createByteFile(mTfs, "/testFile", WriteType.MUST_CACHE, 10);
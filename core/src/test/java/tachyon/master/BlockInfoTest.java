@@ -89,6 +89,23 @@ public class BlockInfoTest {
     Assert.assertEquals(3, clientBlockInfo.locations.size());
   }
 
+  @Test
+  public void inMemoryTest() {
+    BlockInfo tInfo =
+        new BlockInfo(new InodeFile("t", 100, 0, Constants.DEFAULT_BLOCK_SIZE_BYTE,
+            System.currentTimeMillis()), 300, 800);
+    long memDirId = StorageDirId.getStorageDirId(0, StorageLevelAlias.MEM.getValue(), 0);
+    long ssdDirId = StorageDirId.getStorageDirId(1, StorageLevelAlias.SSD.getValue(), 0);
+    Assert.assertFalse(tInfo.isInMemory());
+    tInfo.addLocation(15, new NetAddress("abc", 1, 11), ssdDirId);
+    Assert.assertFalse(tInfo.isInMemory());
+    tInfo.addLocation(22, new NetAddress("def", 2, 21), memDirId);
+    Assert.assertTrue(tInfo.isInMemory());
+    tInfo.removeLocation(22);
+    Assert.assertFalse(tInfo.isInMemory());
+    Assert.assertEquals(1, tInfo.getLocations().size());
+  }
+
   @Test
   public void localtionTest() {
     BlockInfo tInfo =
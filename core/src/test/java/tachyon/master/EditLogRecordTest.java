@@ -0,0 +1,127 @@
+/*
+ * Licensed to the University of California, Berkeley under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package tachyon.master;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+
+/**
+ * Unit tests for tachyon.master.EditLogRecord
+ */
+public class EditLogRecordTest {
+  private static final long BLOCK_SIZE_BYTE = 512;
+
+  private byte[] createLog() throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    DataOutputStream os = new DataOutputStream(bytes);
+    EditLogRecord.writeHeader(os);
+    new EditLogRecord(EditLogOperationType.CREATE_FILE).withBoolean(true).withString("/a/b")
+        .withBoolean(false).withLong(BLOCK_SIZE_BYTE).withLong(100L).withInt(3)
+        .writeTo(1, os);
+    new EditLogRecord(EditLogOperationType.CREATE_DEPENDENCY)
+        .withIntList(Arrays.asList(1, 2, 3)).withIntList(Arrays.asList(4, 5))
+        .withString("fake command")
+        .withByteBufferList(Arrays.asList(ByteBuffer.wrap(new byte[] {1, 2, 3})))
+        .withString(null).withString("Tachyon Examples").withString("0.3")
+        .withDependencyType(DependencyType.Narrow).withInt(7).withLong(200L).writeTo(2, os);
+    new EditLogRecord(EditLogOperationType.UPDATE_RAW_TABLE_METADATA).withInt(9)
+        .withByteBuffer(ByteBuffer.wrap(new byte[] {4, 5})).writeTo(3, os);
+    return bytes.toByteArray();
+  }
+
+  private DataInputStream openLog(byte[] log) throws IOException {
+    DataInputStream is = new DataInputStream(new ByteArrayInputStream(log));
+    Assert.assertEquals(EditLogRecord.MAGIC, is.readInt());
+    Assert.assertEquals(EditLogRecord.VERSION, is.readInt());
+    return is;
+  }
+
+  @Test
+  public void corruptedRecordTest() throws IOException {
+    byte[] log = createLog();
+    log[log.length - 1] ^= 1;
+    DataInputStream is = openLog(log);
+    Assert.assertNotNull(EditLogRecord.read(is));
+    Assert.assertNotNull(EditLogRecord.read(is));
+    try {
+      EditLogRecord.read(is);
+      Assert.fail("A corrupted record should not be decoded");
+    } catch (IOException e) {
+      Assert.assertFalse(e instanceof EOFException);
+    }
+  }
+
+  @Test(expected = EOFException.class)
+  public void partialRecordTest() throws IOException {
+    byte[] log = createLog();
+    DataInputStream is = openLog(Arrays.copyOf(log, log.length - 1));
+    while (EditLogRecord.read(is) != null) {
+    }
+  }
+
+  @Test
+  public void readWriteTest() throws IOException {
+    DataInputStream is = openLog(createLog());
+
+    EditLogOperation op = EditLogRecord.read(is);
+    Assert.assertEquals(EditLogOperationType.CREATE_FILE, op.mType);
+    Assert.assertEquals(1, op.mTransId);
+    Assert.assertTrue(op.getBoolean("recursive"));
+    Assert.assertEquals("/a/b", op.getString("path"));
+    Assert.assertFalse(op.getBoolean("directory"));
+    Assert.assertEquals(512L, op.getLong("blockSizeByte").longValue());
+    Assert.assertEquals(100L, op.getLong("creationTimeMs").longValue());
+    Assert.assertEquals(3, op.getInt("inodeId").intValue());
+    // The fields are kept as they were decoded, without going through JSON
+    Assert.assertTrue(op.mParameters.isEmpty());
+
+    op = EditLogRecord.read(is);
+    Assert.assertEquals(EditLogOperationType.CREATE_DEPENDENCY, op.mType);
+    Assert.assertEquals(2, op.mTransId);
+    Assert.assertEquals(Arrays.asList(1, 2, 3),
+        op.get("parents", new TypeReference<List<Integer>>() {}));
+    Assert.assertEquals(Arrays.asList(4, 5),
+        op.get("children", new TypeReference<List<Integer>>() {}));
+    Assert.assertEquals("fake command", op.getString("commandPrefix"));
+    Assert.assertEquals(ByteBuffer.wrap(new byte[] {1, 2, 3}), op.getByteBufferList("data")
+        .get(0));
+    Assert.assertNull(op.getString("comment"));
+    Assert.assertEquals("Tachyon Examples", op.getString("framework"));
+    Assert.assertEquals("0.3", op.getString("frameworkVersion"));
+    Assert.assertEquals(DependencyType.Narrow, op.get("dependencyType", DependencyType.class));
+    Assert.assertEquals(7, op.getInt("dependencyId").intValue());
+    Assert.assertEquals(200L, op.getLong("creationTimeMs").longValue());
+
+    op = EditLogRecord.read(is);
+    Assert.assertEquals(EditLogOperationType.UPDATE_RAW_TABLE_METADATA, op.mType);
+    Assert.assertEquals(9, op.getInt("tableId").intValue());
+    Assert.assertEquals(ByteBuffer.wrap(new byte[] {4, 5}), op.getByteBuffer("metadata"));
+
+    Assert.assertNull(EditLogRecord.read(is));
+  }
+}
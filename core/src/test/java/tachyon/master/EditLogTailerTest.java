@@ -0,0 +1,108 @@
+/*
+ * Licensed to the University of California, Berkeley under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package tachyon.master;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import tachyon.TachyonURI;
+import tachyon.UnderFileSystem;
+import tachyon.thrift.InvalidPathException;
+
+/**
+ * Unit tests for tachyon.master.EditLogTailer
+ */
+public class EditLogTailerTest {
+  private static final long BLOCK_SIZE_BYTE = 512;
+
+  private String mFolder = null;
+  private String mLogPath = null;
+  private ExecutorService mExecutorService = null;
+  private Journal mJournal = null;
+  private MasterInfo mStandby = null;
+
+  @After
+  public final void after() throws Exception {
+    mExecutorService.shutdown();
+    UnderFileSystem ufs = UnderFileSystem.get(mFolder);
+    ufs.delete(mFolder, true);
+    ufs.close();
+  }
+
+  @Before
+  public final void before() throws IOException {
+    mFolder = "/tmp/EditLogTailerTest" + System.currentTimeMillis() + "/";
+    mLogPath = mFolder + "log.data";
+    UnderFileSystem ufs = UnderFileSystem.get(mFolder);
+    ufs.mkdirs(mFolder, true);
+    ufs.close();
+    mExecutorService = Executors.newFixedThreadPool(2);
+    mJournal = new Journal(mFolder, "image.data", "log.data");
+    mStandby = new MasterInfo(new InetSocketAddress(9999), mJournal, mExecutorService);
+  }
+
+  private void createFile(EditLog log, String path, int inodeId) {
+    log.createFile(false, new TachyonURI(path), false, BLOCK_SIZE_BYTE,
+        System.currentTimeMillis(), inodeId);
+    log.flush();
+  }
+
+  @Test
+  public void gapTest() throws IOException {
+    EditLog log = new EditLog(mLogPath, false, 5);
+    createFile(log, "/a", 2);
+    Assert.assertEquals(0, mJournal.tailEditLog(mStandby));
+    Assert.assertEquals(0, mStandby.getEditTransactionCounter());
+    log.close();
+  }
+
+  @Test
+  public void replayAfterTailTest() throws IOException, InvalidPathException {
+    EditLog log = new EditLog(mLogPath, false, 0);
+    createFile(log, "/a", 2);
+    Assert.assertEquals(1, mJournal.tailEditLog(mStandby));
+    createFile(log, "/b", 3);
+    log.close();
+
+    // A failover replays the whole log, only the operation that was not tailed is applied.
+    EditLog.loadSingleLog(mStandby, mLogPath);
+    Assert.assertEquals(2, mStandby.getFileId(new TachyonURI("/a")));
+    Assert.assertEquals(3, mStandby.getFileId(new TachyonURI("/b")));
+    Assert.assertEquals(2, mStandby.getEditTransactionCounter());
+  }
+
+  @Test
+  public void tailTest() throws IOException, InvalidPathException {
+    EditLog log = new EditLog(mLogPath, false, 0);
+    Assert.assertEquals(0, mJournal.tailEditLog(mStandby));
+    createFile(log, "/a", 2);
+    Assert.assertEquals(1, mJournal.tailEditLog(mStandby));
+    Assert.assertEquals(0, mJournal.tailEditLog(mStandby));
+    createFile(log, "/b", 3);
+    createFile(log, "/c", 4);
+    Assert.assertEquals(2, mJournal.tailEditLog(mStandby));
+    Assert.assertEquals(4, mStandby.getFileId(new TachyonURI("/c")));
+    Assert.assertEquals(3, mStandby.getEditTransactionCounter());
+    log.close();
+  }
+}
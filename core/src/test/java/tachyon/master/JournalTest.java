@@ -37,6 +37,7 @@ import tachyon.conf.MasterConf;
 import tachyon.thrift.ClientFileInfo;
 import tachyon.thrift.FileDoesNotExistException;
 import tachyon.thrift.InvalidPathException;
+import tachyon.util.CommonUtils;
 
 /**
  * Test master journal, including image and edit log. Most tests will test edit log first, followed
@@ -349,6 +350,32 @@ public class JournalTest {
     info.stop();
   }
 
+  /**
+   * Test loading an image in the JSON format of older versions.
+   * 
+   * @throws Exception
+   */
+  @Test
+  public void JsonImageTest() throws Exception {
+    for (int i = 0; i < 10; i ++) {
+      mTfs.mkdir(new TachyonURI("/i" + i));
+      for (int j = 0; j < 10; j ++) {
+        mTfs.createFile(new TachyonURI("/i" + i + "/j" + j), (i + j + 1) * 64);
+      }
+    }
+    MasterInfo masterInfo = mLocalTachyonCluster.getMasterInfo();
+    Image.create(masterInfo, CommonUtils.concat(MasterConf.get().JOURNAL_FOLDER, "image.json"),
+        false);
+    ClientFileInfo fInfo = masterInfo.getClientFileInfo(new TachyonURI("/i3/j4"));
+    mLocalTachyonCluster.stopTFS();
+
+    Journal journal = new Journal(MasterConf.get().JOURNAL_FOLDER, "image.json", "none.data");
+    MasterInfo info = new MasterInfo(new InetSocketAddress(9999), journal, mExecutorService);
+    Assert.assertEquals(111, info.ls(mRootUri, true).size());
+    Assert.assertEquals(fInfo, info.getClientFileInfo(info.getFileId(new TachyonURI("/i3/j4"))));
+    info.stop();
+  }
+
   /**
    * Test files creation.
    * 
@@ -437,7 +464,7 @@ public class JournalTest {
     log.setMaxLogSize(100);
     for (int i = 0; i < 124; i ++) {
       log.createFile(false, new TachyonURI("/sth" + i), false, Constants.DEFAULT_BLOCK_SIZE_BYTE,
-          System.currentTimeMillis());
+          System.currentTimeMillis(), i + 2);
       log.flush();
     }
     log.close();
@@ -17,6 +17,8 @@ package tachyon.master;
 import java.io.File;
 import java.io.IOException;
 import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.List;
 
 import tachyon.Constants;
 import tachyon.UnderFileSystem;
@@ -49,6 +51,8 @@ public final class LocalTachyonCluster {
   }
 
   private TachyonWorker mWorker = null;
+  // The workers started by startExtraWorker
+  private final List<TachyonWorker> mExtraWorkers = new ArrayList<TachyonWorker>();
 
   private final long mWorkerMemCapacityBytes;
   private String mTachyonHome;
@@ -233,6 +237,66 @@ public final class LocalTachyonCluster {
     System.setProperty("tachyon.worker.data.port", getWorkerDataPort() + "");
   }
 
+  /**
+   * Starts one more worker, on the given host and with its own storage folder, and waits until it
+   * registers with the master. The host can be another loopback address, such as 127.0.0.2, so
+   * that the worker counts as one of another host. The worker is stopped with the cluster.
+   * 
+   * @param hostname The host the worker binds to
+   * @param memCapacityBytes The capacity of the worker in bytes
+   * @return the new worker
+   * @throws IOException
+   */
+  public TachyonWorker startExtraWorker(String hostname, long memCapacityBytes)
+      throws IOException {
+    // The workers read their storage folder from the configuration when they start, so it is
+    // changed only while no other worker is starting.
+    waitForWorkers(1 + mExtraWorkers.size());
+    String pathProperty = "tachyon.worker.hierarchystore.level0.dirs.path";
+    String quotaProperty = "tachyon.worker.hierarchystore.level0.dirs.quota";
+    String path = System.getProperty(pathProperty);
+    String quota = System.getProperty(quotaProperty);
+    System.setProperty(pathProperty, mTachyonHome + "/ramdisk" + (mExtraWorkers.size() + 1));
+    System.setProperty(quotaProperty, memCapacityBytes + "");
+    WorkerConf.clear();
+    try {
+      final TachyonWorker worker =
+          TachyonWorker.createWorker(new InetSocketAddress(mLocalhostName, getMasterPort()),
+              new InetSocketAddress(hostname, 0), 0, 1, 1, 1);
+      mExtraWorkers.add(worker);
+      new Thread(new Runnable() {
+        @Override
+        public void run() {
+          try {
+            worker.start();
+          } catch (Exception e) {
+            throw new RuntimeException(e + " \n Start Worker Error \n" + e.getMessage(), e);
+          }
+        }
+      }).start();
+      waitForWorkers(1 + mExtraWorkers.size());
+      return worker;
+    } finally {
+      System.setProperty(pathProperty, path);
+      System.setProperty(quotaProperty, quota);
+      WorkerConf.clear();
+    }
+  }
+
+  /**
+   * Waits until the given number of workers registered with the master.
+   */
+  private void waitForWorkers(int workers) throws IOException {
+    long startMs = System.currentTimeMillis();
+    while (mMaster.getMasterInfo().getWorkerCount() < workers) {
+      if (System.currentTimeMillis() - startMs > 10 * Constants.SECOND_MS) {
+        throw new IOException("Only " + mMaster.getMasterInfo().getWorkerCount() + " of "
+            + workers + " workers registered with the master");
+      }
+      CommonUtils.sleepMs(null, 10);
+    }
+  }
+
   /**
    * Stop both of the tachyon and underfs service threads.
    *
@@ -251,6 +315,10 @@ public final class LocalTachyonCluster {
   public void stopTFS() throws Exception {
     mMaster.stop();
     mWorker.stop();
+    for (TachyonWorker worker : mExtraWorkers) {
+      worker.stop();
+    }
+    mExtraWorkers.clear();
 
     System.clearProperty("tachyon.home");
     System.clearProperty("tachyon.master.hostname");
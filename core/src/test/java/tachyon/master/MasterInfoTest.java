@@ -22,6 +22,7 @@ import java.net.InetSocketAddress;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -30,6 +31,7 @@ import java.util.concurrent.Future;
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.ObjectWriter;
+import com.google.common.collect.Lists;
 import org.junit.After;
 import org.junit.Assert;
 import org.junit.Before;
@@ -40,6 +42,7 @@ import tachyon.TachyonURI;
 import tachyon.conf.CommonConf;
 import tachyon.conf.MasterConf;
 import tachyon.thrift.BlockInfoException;
+import tachyon.thrift.ClientBatchResult;
 import tachyon.thrift.ClientFileInfo;
 import tachyon.thrift.FileAlreadyExistException;
 import tachyon.thrift.FileDoesNotExistException;
@@ -265,6 +268,42 @@ public class MasterInfoTest {
     mMasterInfo = mLocalTachyonCluster.getMasterInfo();
   }
 
+  @Test
+  public void batchTest() throws InvalidPathException, FileAlreadyExistException,
+      BlockInfoException, TachyonException, FileNotFoundException, SuspectedFileSizeException {
+    List<TachyonURI> paths =
+        Lists.newArrayList(new TachyonURI("/a/b"), new TachyonURI("/a/c"), new TachyonURI("/a/b"));
+    ClientBatchResult created =
+        mMasterInfo.createFileBatch(paths, Constants.DEFAULT_BLOCK_SIZE_BYTE, true);
+    Assert.assertEquals(3, created.getFileIdsSize());
+    Assert.assertEquals(mMasterInfo.getFileId(paths.get(0)), (int) created.fileIds.get(0));
+    Assert.assertEquals(mMasterInfo.getFileId(paths.get(1)), (int) created.fileIds.get(1));
+    Assert.assertEquals(-1, (int) created.fileIds.get(2));
+    Assert.assertEquals(1, created.getErrorsSize());
+    Assert.assertTrue(created.errors.get(2).startsWith("FileAlreadyExistException"));
+
+    List<TachyonURI> lookups = Lists.newArrayList(paths.get(1), new TachyonURI("/a/d"));
+    ClientBatchResult infos = mMasterInfo.getClientFileInfoBatch(lookups);
+    Assert.assertEquals((int) created.fileIds.get(1), infos.fileInfos.get(0).id);
+    Assert.assertEquals(-1, infos.fileInfos.get(1).id);
+    Assert.assertEquals(0, infos.getErrorsSize());
+
+    int fileId = created.fileIds.get(0);
+    mMasterInfo._addCheckpoint(-1, fileId, 1, new TachyonURI("/testPath"),
+        System.currentTimeMillis());
+    long blockId = BlockInfo.computeBlockId(fileId, 0);
+    ClientBatchResult blocks =
+        mMasterInfo.getClientBlockInfoBatch(Lists.newArrayList(blockId, blockId + 1));
+    Assert.assertEquals(blockId, blocks.blockInfos.get(0).blockId);
+    Assert.assertEquals(1, blocks.getErrorsSize());
+    Assert.assertEquals(-1, blocks.blockInfos.get(1).blockId);
+
+    ClientBatchResult deleted = mMasterInfo.deleteBatch(paths, true);
+    Assert.assertEquals(Lists.newArrayList(true, true, true), deleted.deleted);
+    Assert.assertEquals(-1, mMasterInfo.getFileId(paths.get(0)));
+    Assert.assertEquals(-1, mMasterInfo.getFileId(paths.get(1)));
+  }
+
   @Test
   public void clientFileInfoDirectoryTest() throws InvalidPathException, FileDoesNotExistException,
       FileAlreadyExistException, TachyonException {
@@ -321,6 +360,36 @@ public class MasterInfoTest {
     concurrentCreator.call();
   }
 
+  @Test
+  public void concurrentRecursiveCreateJournalTest() throws Exception {
+    // Threads race to create the same missing parent folders. The replayed journal must still end
+    // up with the same file id's.
+    ExecutorService executor = Executors.newFixedThreadPool(FILES_PER_NODE);
+    ArrayList<Future<Integer>> futures = new ArrayList<Future<Integer>>();
+    for (int i = 0; i < FILES_PER_NODE * FILES_PER_NODE; i ++) {
+      final TachyonURI path = ROOT_PATH.join("a/b/" + (i % FILES_PER_NODE) + "/file" + i);
+      futures.add(executor.submit(new Callable<Integer>() {
+        @Override
+        public Integer call() throws Exception {
+          return mMasterInfo.createFile(true, path, false, Constants.DEFAULT_BLOCK_SIZE_BYTE);
+        }
+      }));
+    }
+    for (Future<Integer> f : futures) {
+      Assert.assertTrue(f.get() > 0);
+    }
+    executor.shutdown();
+
+    Journal journal = new Journal(MasterConf.get().JOURNAL_FOLDER, "image.data", "log.data");
+    MasterInfo info = new MasterInfo(new InetSocketAddress(9999), journal, mExecutorService);
+    info.init();
+    List<TachyonURI> paths = mMasterInfo.ls(new TachyonURI("/"), true);
+    Assert.assertEquals(paths.size(), info.ls(new TachyonURI("/"), true).size());
+    for (TachyonURI path : paths) {
+      Assert.assertEquals(mMasterInfo.getFileId(path), info.getFileId(path));
+    }
+  }
+
   @Test
   public void concurrentDeleteTest() throws Exception {
     ConcurrentCreator concurrentCreator =
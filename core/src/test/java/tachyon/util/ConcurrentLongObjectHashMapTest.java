@@ -0,0 +1,89 @@
+/*
+ * Licensed to the University of California, Berkeley under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package tachyon.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Unit tests for tachyon.util.ConcurrentLongObjectHashMap
+ */
+public class ConcurrentLongObjectHashMapTest {
+  private static final int THREADS = 8;
+  private static final int KEYS_PER_THREAD = 10000;
+
+  @Test
+  public void putGetRemoveTest() {
+    for (int segments : new int[] {1, 3, 32}) {
+      ConcurrentLongObjectHashMap<String> map = new ConcurrentLongObjectHashMap<String>(segments);
+      Assert.assertNull(map.put(1, "a"));
+      Assert.assertNull(map.put(-7, "b"));
+      Assert.assertNull(map.put(Long.MIN_VALUE, "c"));
+      Assert.assertEquals("a", map.put(1, "d"));
+      Assert.assertEquals(3, map.size());
+      Assert.assertEquals("d", map.get(1));
+      Assert.assertEquals("c", map.get(Long.MIN_VALUE));
+      Assert.assertEquals("b", map.remove(-7));
+      Assert.assertFalse(map.containsKey(-7));
+      Assert.assertEquals(2, map.size());
+      Assert.assertEquals(2, map.values().size());
+    }
+  }
+
+  @Test
+  public void concurrentAccessTest() throws Exception {
+    final ConcurrentLongObjectHashMap<Long> map = new ConcurrentLongObjectHashMap<Long>();
+    ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+    try {
+      List<Future<Void>> futures = new ArrayList<Future<Void>>();
+      for (int t = 0; t < THREADS; t ++) {
+        final long base = (long) t * KEYS_PER_THREAD;
+        futures.add(executor.submit(new Callable<Void>() {
+          @Override
+          public Void call() {
+            // Each thread owns its keys, and reads them back while the others resize the
+            // segments they share
+            for (long key = base; key < base + KEYS_PER_THREAD; key ++) {
+              Assert.assertNull(map.put(key, key));
+              Assert.assertEquals(Long.valueOf(key), map.get(key));
+            }
+            for (long key = base; key < base + KEYS_PER_THREAD; key += 2) {
+              Assert.assertEquals(Long.valueOf(key), map.remove(key));
+            }
+            return null;
+          }
+        }));
+      }
+      for (Future<Void> future : futures) {
+        future.get();
+      }
+    } finally {
+      executor.shutdown();
+    }
+
+    Assert.assertEquals(THREADS * KEYS_PER_THREAD / 2, map.size());
+    for (long key = 0; key < THREADS * KEYS_PER_THREAD; key ++) {
+      Assert.assertEquals(key % 2 == 0 ? null : Long.valueOf(key), map.get(key));
+    }
+  }
+}
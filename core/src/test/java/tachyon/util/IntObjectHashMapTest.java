@@ -0,0 +1,95 @@
+/*
+ * Licensed to the University of California, Berkeley under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package tachyon.util;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Unit tests for tachyon.util.IntObjectHashMap
+ */
+public class IntObjectHashMapTest {
+  @Test
+  public void putGetRemoveTest() {
+    IntObjectHashMap<String> map = new IntObjectHashMap<String>();
+    Assert.assertTrue(map.isEmpty());
+    Assert.assertNull(map.put(1, "a"));
+    Assert.assertNull(map.put(-7, "b"));
+    Assert.assertNull(map.put(0, "c"));
+    Assert.assertEquals("a", map.put(1, "d"));
+    Assert.assertEquals(3, map.size());
+    Assert.assertEquals("d", map.get(1));
+    Assert.assertEquals("b", map.get(-7));
+    Assert.assertEquals("c", map.get(0));
+    Assert.assertNull(map.get(2));
+    Assert.assertEquals("b", map.remove(-7));
+    Assert.assertNull(map.remove(-7));
+    Assert.assertFalse(map.containsKey(-7));
+    Assert.assertEquals(2, map.size());
+  }
+
+  @Test
+  public void randomOperationsTest() {
+    // Compares against a HashMap with keys from a small range, so that collisions, removals in
+    // the middle of probe sequences and resizes all happen.
+    IntObjectHashMap<Integer> map = new IntObjectHashMap<Integer>();
+    Map<Integer, Integer> expected = new HashMap<Integer, Integer>();
+    Random random = new Random(1234);
+    for (int k = 0; k < 100000; k ++) {
+      int key = random.nextInt(2000) - 1000;
+      if (random.nextInt(3) == 0) {
+        Assert.assertEquals(expected.remove(key), map.remove(key));
+      } else {
+        Assert.assertEquals(expected.put(key, k), map.put(key, k));
+      }
+      Assert.assertEquals(expected.size(), map.size());
+    }
+    for (int key = -1000; key < 1000; key ++) {
+      Assert.assertEquals(expected.get(key), map.get(key));
+    }
+    Assert.assertEquals(expected.size(), map.keys().length);
+    Assert.assertEquals(expected.size(), map.values().size());
+  }
+
+  @Test
+  public void resizeTest() {
+    IntObjectHashMap<Integer> map = new IntObjectHashMap<Integer>(1);
+    for (int k = 0; k < 10000; k ++) {
+      Assert.assertNull(map.put(k, k));
+    }
+    Assert.assertEquals(10000, map.size());
+    for (int k = 0; k < 10000; k ++) {
+      Assert.assertEquals(Integer.valueOf(k), map.get(k));
+    }
+    for (int k = 0; k < 10000; k += 2) {
+      Assert.assertEquals(Integer.valueOf(k), map.remove(k));
+    }
+    for (int k = 0; k < 10000; k ++) {
+      Assert.assertEquals(k % 2 == 0 ? null : Integer.valueOf(k), map.get(k));
+    }
+    map.clear();
+    Assert.assertTrue(map.isEmpty());
+    Assert.assertNull(map.get(1));
+  }
+
+  @Test(expected = NullPointerException.class)
+  public void nullValueTest() {
+    new IntObjectHashMap<String>().put(1, null);
+  }
+}
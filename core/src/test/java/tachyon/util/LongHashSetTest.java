@@ -0,0 +1,74 @@
+/*
+ * Licensed to the University of California, Berkeley under one or more contributor license
+ * agreements. See the NOTICE file distributed with this work for additional information regarding
+ * copyright ownership. The ASF licenses this file to You under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance with the License. You may obtain a
+ * copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package tachyon.util;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Unit tests for tachyon.util.LongHashSet
+ */
+public class LongHashSetTest {
+  @Test
+  public void addRemoveTest() {
+    LongHashSet set = new LongHashSet();
+    Assert.assertTrue(set.isEmpty());
+    Assert.assertTrue(set.add(5L));
+    Assert.assertFalse(set.add(5L));
+    // Zero is the marker of empty slots internally, it has to work like any other value.
+    Assert.assertTrue(set.add(0L));
+    Assert.assertFalse(set.add(0L));
+    Assert.assertTrue(set.add(Long.MIN_VALUE));
+    Assert.assertEquals(3, set.size());
+    Assert.assertTrue(set.contains(0L));
+    long[] values = set.toArray();
+    Arrays.sort(values);
+    Assert.assertArrayEquals(new long[] {Long.MIN_VALUE, 0L, 5L}, values);
+    Assert.assertTrue(set.remove(0L));
+    Assert.assertFalse(set.remove(0L));
+    Assert.assertFalse(set.contains(0L));
+    Assert.assertTrue(set.remove(5L));
+    Assert.assertEquals(1, set.size());
+    set.clear();
+    Assert.assertTrue(set.isEmpty());
+    Assert.assertFalse(set.contains(Long.MIN_VALUE));
+  }
+
+  @Test
+  public void randomOperationsTest() {
+    LongHashSet set = new LongHashSet();
+    Set<Long> expected = new HashSet<Long>();
+    Random random = new Random(4321);
+    for (int k = 0; k < 100000; k ++) {
+      // Block ids of a few files, like the ones a worker reports.
+      long value = ((long) random.nextInt(50) << 30) + random.nextInt(40);
+      if (random.nextInt(3) == 0) {
+        Assert.assertEquals(expected.remove(value), set.remove(value));
+      } else {
+        Assert.assertEquals(expected.add(value), set.add(value));
+      }
+      Assert.assertEquals(expected.size(), set.size());
+    }
+    for (long value : expected) {
+      Assert.assertTrue(set.contains(value));
+    }
+    Assert.assertEquals(expected.size(), set.toArray().length);
+  }
+}
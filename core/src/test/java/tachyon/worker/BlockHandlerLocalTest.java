@@ -50,6 +50,23 @@ public class BlockHandlerLocalTest {
     mTfs = mLocalTachyonCluster.getClient();
   }
 
+  @Test
+  public void appendAtOffsetTest() throws IOException {
+    int fileId = mTfs.createFile(new TachyonURI(TestUtils.uniqPath()));
+    long blockId = mTfs.getBlockId(fileId, 0);
+    String filename = mTfs.getLocalBlockTemporaryPath(blockId, 100);
+    BlockHandler handler = BlockHandler.get(filename);
+    try {
+      Assert.assertEquals(50, handler.append(50, TestUtils.getIncreasingByteBuffer(50, 50)));
+      Assert.assertEquals(50, handler.append(0, TestUtils.getIncreasingByteArray(50), 0, 50));
+      Assert.assertEquals(100, handler.getLength());
+      Assert.assertEquals(TestUtils.getIncreasingByteBuffer(100), handler.read(0, 100));
+      mTfs.cacheBlock(blockId);
+    } finally {
+      handler.close();
+    }
+  }
+
   @Test
   public void directByteBufferWriteTest() throws IOException {
     ByteBuffer buf = ByteBuffer.allocateDirect(100);
@@ -131,6 +131,92 @@ public class DataServerTest {
     }
   }
 
+  @Test
+  public void pipelinedReadTest() throws IOException {
+    final int length = 20;
+    int fileId = TestUtils.createByteFile(mTFS, "/pipelinedReadTest", WriteType.MUST_CACHE, length);
+    ClientBlockInfo block = mTFS.getFileBlocks(fileId).get(0);
+    SocketChannel socketChannel =
+        SocketChannel.open(new InetSocketAddress(block.getLocations().get(0).mHost, block
+            .getLocations().get(0).mSecondaryPort));
+    try {
+      // All requests go out before any response is read; a bad request must not end the stream.
+      for (int k = 0; k < 10; k ++) {
+        long offset = (k == 5 ? length * 2 : k);
+        DataServerMessage sendMsg =
+            DataServerMessage.createBlockRequestMessage(k, block.blockId, offset, length - k);
+        while (!sendMsg.finishSending()) {
+          sendMsg.send(socketChannel);
+        }
+      }
+      for (int k = 0; k < 10; k ++) {
+        DataServerMessage recvMsg =
+            DataServerMessage.createBlockResponseMessage(false, block.blockId, null);
+        while (!recvMsg.isMessageReady()) {
+          Assert.assertTrue(recvMsg.recv(socketChannel) != -1);
+        }
+        Assert.assertEquals(k, recvMsg.getRequestId());
+        if (k == 5) {
+          assertError(recvMsg, block.blockId);
+        } else {
+          assertValid(recvMsg, TestUtils.getIncreasingByteBuffer(k, length - k),
+              block.getBlockId(), k, length - k);
+        }
+      }
+    } finally {
+      socketChannel.close();
+    }
+  }
+
+  @Test
+  public void multiRangeReadTest() throws IOException {
+    final int length = 20;
+    int fileId =
+        TestUtils.createByteFile(mTFS, "/multiRangeReadTest", WriteType.MUST_CACHE, length);
+    ClientBlockInfo block = mTFS.getFileBlocks(fileId).get(0);
+    SocketChannel socketChannel =
+        SocketChannel.open(new InetSocketAddress(block.getLocations().get(0).mHost, block
+            .getLocations().get(0).mSecondaryPort));
+    try {
+      long[] blockIds = new long[] {block.blockId, block.blockId, block.blockId};
+      long[] offsets = new long[] {0, length * 2, 5};
+      long[] lengths = new long[] {4, 1, 10};
+      DataServerMessage sendMsg =
+          DataServerMessage.createMultiBlockRequestMessage(7, blockIds, offsets, lengths);
+      while (!sendMsg.finishSending()) {
+        sendMsg.send(socketChannel);
+      }
+
+      if (mType == NetworkType.NIO) {
+        // The nio data server does not understand the request, and drops the connection
+        try {
+          Assert.assertEquals(-1, socketChannel.read(ByteBuffer.allocate(1)));
+        } catch (IOException e) {
+          // The connection was reset
+        }
+        return;
+      }
+
+      // Each range is answered in order, with the request id of the multi-range request
+      for (int k = 0; k < blockIds.length; k ++) {
+        DataServerMessage recvMsg =
+            DataServerMessage.createBlockResponseMessage(false, block.blockId, null);
+        while (!recvMsg.isMessageReady()) {
+          Assert.assertTrue(recvMsg.recv(socketChannel) != -1);
+        }
+        Assert.assertEquals(7, recvMsg.getRequestId());
+        if (k == 1) {
+          assertError(recvMsg, block.blockId);
+        } else {
+          assertValid(recvMsg, TestUtils.getIncreasingByteBuffer((int) offsets[k],
+              (int) lengths[k]), block.getBlockId(), offsets[k], lengths[k]);
+        }
+      }
+    } finally {
+      socketChannel.close();
+    }
+  }
+
   @Test
   public void negativeOffset() throws IOException {
     final int length = 10;
@@ -16,6 +16,7 @@ package tachyon.worker;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.Map;
 
 import org.apache.thrift.TException;
 import org.junit.After;
@@ -23,6 +24,8 @@ import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
 
+import com.google.common.collect.Lists;
+
 import tachyon.TachyonURI;
 import tachyon.TestUtils;
 import tachyon.UnderFileSystem;
@@ -105,6 +108,23 @@ public class WorkerServiceHandlerTest {
         new FileDoesNotExistException("Block doesn't exist! blockId:" + blockId1), exception);
   }
 
+  @Test
+  public void lockBlocksTest() throws TException, IOException {
+    final long userId = 1L;
+    int fileId = TestUtils.createByteFile(mTfs, "/testFile1", WriteType.MUST_CACHE, 200, 100);
+    long blockId0 = mTfs.getBlockId(fileId, 0);
+    long blockId1 = mTfs.getBlockId(fileId, 1);
+    Map<Long, String> paths =
+        mWorkerServiceHandler.lockBlocks(Lists.newArrayList(blockId0, 12345L, blockId1), userId);
+    Assert.assertEquals(2, paths.size());
+    Assert.assertTrue(new File(paths.get(blockId0)).exists());
+    Assert.assertTrue(new File(paths.get(blockId1)).exists());
+    Assert.assertFalse(paths.containsKey(12345L));
+    mWorkerServiceHandler.accessBlocks(Lists.newArrayList(blockId0, blockId1));
+    mWorkerServiceHandler.unlockBlocks(Lists.newArrayList(blockId0, blockId1), userId);
+    Assert.assertFalse(mWorkerServiceHandler.unlockBlock(blockId0, userId));
+  }
+
   private void createBlockFile(String filename, int fileLen)
       throws IOException, InvalidPathException {
     UnderFileSystem.get(filename).mkdirs(CommonUtils.getParent(filename), true);
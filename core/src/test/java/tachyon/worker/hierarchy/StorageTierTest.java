@@ -112,6 +112,24 @@ public class StorageTierTest {
     dir.cacheBlock(USER_ID, blockId);
   }
 
+  @Test
+  public void freeSpaceTest() throws IOException {
+    List<Long> removedBlockIds = new ArrayList<Long>();
+    StorageDir dir = mStorageTiers[0].getStorageDirs()[0];
+    createBlockFile(dir, 1, 300);
+    createBlockFile(dir, 2, 300);
+    Assert.assertEquals(400, dir.getAvailableBytes());
+    mStorageTiers[0].freeSpace(300, new HashSet<Integer>(), removedBlockIds);
+    Assert.assertEquals(400, dir.getAvailableBytes());
+    mStorageTiers[0].freeSpace(500, new HashSet<Integer>(), removedBlockIds);
+    Assert.assertEquals(700, dir.getAvailableBytes());
+    Assert.assertEquals(300, mStorageTiers[1].getUsedBytes());
+    Assert.assertEquals(0, removedBlockIds.size());
+    mStorageTiers[0].freeSpace(2000, new HashSet<Integer>(), removedBlockIds);
+    Assert.assertEquals(1000, dir.getAvailableBytes());
+    Assert.assertEquals(600, mStorageTiers[1].getUsedBytes());
+  }
+
   @Test
   public void getStorageDirTest() throws IOException {
     long blockId = 1;
@@ -60,6 +60,19 @@ struct ClientRawTableInfo {
   5: binary metadata
 }
 
+/**
+ * Per-item results of a batched master call. Entry k of the populated list answers item k of the
+ * request. A failed item keeps a placeholder entry (id -1, or false) and its exception message is
+ * stored in errors under key k.
+ */
+struct ClientBatchResult {
+  1: list<ClientFileInfo> fileInfos
+  2: list<ClientBlockInfo> blockInfos
+  3: list<i32> fileIds
+  4: list<bool> deleted
+  5: map<i32, string> errors
+}
+
 enum CommandType {
   Unknown = 0,
   Nothing = 1,
@@ -185,6 +198,12 @@ service MasterService {
     throws (1: FileAlreadyExistException eR, 2: InvalidPathException eI, 3: BlockInfoException eB,
       4: SuspectedFileSizeException eS, 5: TachyonException eT)
 
+  /**
+   * Create a batch of files with the same block size, returning the new file ids in fileIds.
+   */
+  ClientBatchResult user_createFileBatch(1: list<string> paths, 2: i64 blockSizeByte,
+      3: bool recursive)
+
   i64 user_createNewBlock(1: i32 fileId)
     throws (1: FileDoesNotExistException e)
 
@@ -205,12 +224,22 @@ service MasterService {
   ClientFileInfo getFileStatus(1: i32 fileId, 2: string path)
     throws (1: InvalidPathException eI)
 
+  /**
+   * Get the ClientFileInfo of a batch of paths, returned in fileInfos.
+   */
+  ClientBatchResult getFileStatusBatch(1: list<string> paths)
+
   /**
    * Get block's ClientBlockInfo.
    */
   ClientBlockInfo user_getClientBlockInfo(1: i64 blockId)
     throws (1: FileDoesNotExistException eF, 2: BlockInfoException eB)
 
+  /**
+   * Get the ClientBlockInfo of a batch of blocks, returned in blockInfos.
+   */
+  ClientBatchResult user_getClientBlockInfoBatch(1: list<i64> blockIds)
+
   /**
    * Get file blocks info.
    */
@@ -223,6 +252,11 @@ service MasterService {
   bool user_delete(1: i32 fileId, 2: string path, 3: bool recursive)
     throws (1: TachyonException e)
 
+  /**
+   * Delete a batch of paths, returning whether each delete succeeded in deleted.
+   */
+  ClientBatchResult user_deleteBatch(1: list<string> paths, 2: bool recursive)
+
   bool user_rename(1: i32 fileId, 2: string srcPath, 3: string dstPath)
     throws (1:FileAlreadyExistException eA, 2: FileDoesNotExistException eF,
       3: InvalidPathException eI)
@@ -268,13 +302,43 @@ service MasterService {
 service WorkerService {
   void accessBlock(1: i64 blockId)
 
+  /**
+   * Update the latest access time of each of the blocks, as accessBlock does for one block.
+   */
+  void accessBlocks(1: list<i64> blockIds)
+
   void addCheckpoint(1: i64 userId, 2: i32 fileId)
     throws (1: FileDoesNotExistException eP, 2: SuspectedFileSizeException eS,
       3: FailedToCheckpointException eF, 4: BlockInfoException eB)
 
+  /**
+   * Used to cache a block the user stopped re-caching partway, e.g. after a seek. The worker reads
+   * the block from another worker or the under file system in the background; nothing is done if
+   * the worker already has the block or is caching it.
+   */
+  void asyncCacheBlock(1: i64 blockId)
+
   bool asyncCheckpoint(1: i32 fileId)
     throws (1: TachyonException e)
 
+  /**
+   * Used to write a complete file, which is cached but not checkpointed, to the under file system
+   * in the background. The worker reads the file's blocks from its memory, caching those it does
+   * not have first, and reports the checkpoint to the master when done. Returns false, and does
+   * nothing, if the files the worker is already writing leave no room for this one; true if the
+   * file is being written or already is checkpointed.
+   */
+  bool asyncPersistFile(1: i32 fileId)
+    throws (1: TachyonException e)
+
+  /**
+   * Used to check on a file the worker was asked to write in the background, with
+   * asyncPersistFile. Throws the error the write failed with, after all its retries; does nothing
+   * if the write succeeded, is still running, or was never asked for.
+   */
+  void checkPersistFile(1: i32 fileId)
+    throws (1: TachyonException e)
+
   /**
    * Used to cache a block into Tachyon space, worker will move the temporary block file from user
    * folder to data folder, and update the space usage information related. then update the block
@@ -304,6 +368,12 @@ service WorkerService {
   string lockBlock(1: i64 blockId, 2: i64 userId)
     throws (1: FileDoesNotExistException eP)
 
+  /**
+   * Lock each of the blocks the worker has, as lockBlock does for one block. Return the paths of
+   * the block files locked, by block id; blocks the worker does not have are left out.
+   */
+  map<i64, string> lockBlocks(1: list<i64> blockIds, 2: i64 userId)
+
   /**
    * Used to promote block on under storage layer to top storage layer when there are more than one
    * storage layers in Tachyon's space. return true if the block is successfully promoted, false
@@ -336,6 +406,11 @@ service WorkerService {
    */
   bool unlockBlock(1: i64 blockId, 2: i64 userId)
 
+  /**
+   * Unlock each of the blocks, as unlockBlock does for one block.
+   */
+  void unlockBlocks(1: list<i64> blockIds, 2: i64 userId)
+
   /**
    * Local user send heartbeat to local worker to keep its temporary folder.
    */